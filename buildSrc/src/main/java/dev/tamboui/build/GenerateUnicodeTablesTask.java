@@ -0,0 +1,66 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.build;
+
+import java.io.IOException;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Compiles the character width ranges and emoji shortcodes of tamboui-core
+ * into binary resources.
+ *
+ * @see UnicodeTables
+ */
+@CacheableTask
+public abstract class GenerateUnicodeTablesTask extends DefaultTask {
+
+    /**
+     * The width ranges file.
+     *
+     * @return the file property
+     */
+    @InputFile
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract RegularFileProperty getWidthData();
+
+    /**
+     * The emoji shortcodes file.
+     *
+     * @return the file property
+     */
+    @InputFile
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract RegularFileProperty getEmojiData();
+
+    /**
+     * The resources directory the tables are written to.
+     *
+     * @return the directory property
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * Writes the tables.
+     *
+     * @throws IOException if a file cannot be read or written
+     */
+    @TaskAction
+    public void generate() throws IOException {
+        UnicodeTables.write(
+                getWidthData().get().getAsFile().toPath(),
+                getEmojiData().get().getAsFile().toPath(),
+                getOutputDirectory().get().getAsFile().toPath());
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.build;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the Unicode data files of tamboui-core into the binary tables read
+ * by {@code dev.tamboui.text.WidthTable} and {@code dev.tamboui.text.EmojiTable}.
+ * <p>
+ * The formats and the emoji hash function must be kept in sync with those classes.
+ */
+public final class UnicodeTables {
+
+    /** Resource path of the width table. */
+    public static final String WIDTHS_RESOURCE = "dev/tamboui/text/char-widths.bin";
+    /** Resource path of the emoji table. */
+    public static final String EMOJI_RESOURCE = "dev/tamboui/text/emoji.bin";
+
+    static final int WIDTHS_MAGIC = 0x54574944; // "TWID"
+    static final int EMOJI_MAGIC = 0x54454D4A; // "TEMJ"
+    static final int VERSION = 1;
+
+    private static final int MAX_CODE_POINT = 0x10FFFF;
+    private static final int BLOCK_SHIFT = 8;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private UnicodeTables() {
+    }
+
+    /**
+     * Regenerates the tables outside of Gradle.
+     *
+     * @param args the width data file, the emoji data file and the output directory
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: UnicodeTables <char-widths.txt> <emoji-shortcodes.txt> <output dir>");
+        }
+        write(Paths.get(args[0]), Paths.get(args[1]), Paths.get(args[2]));
+    }
+
+    /**
+     * Reads both data files and writes the binary tables under the output directory.
+     *
+     * @param widthData the width ranges file
+     * @param emojiData the emoji shortcodes file
+     * @param outputDirectory the resources root to write to
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void write(Path widthData, Path emojiData, Path outputDirectory) throws IOException {
+        Path widths = outputDirectory.resolve(WIDTHS_RESOURCE);
+        Path emoji = outputDirectory.resolve(EMOJI_RESOURCE);
+        Files.createDirectories(widths.getParent());
+        Files.write(widths, compileWidths(Files.readAllLines(widthData, StandardCharsets.UTF_8)));
+        Files.write(emoji, compileEmoji(Files.readAllLines(emojiData, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Compiles width ranges into a two-stage table: a block index per 256 code
+     * points, and the distinct 256-entry blocks of widths.
+     *
+     * @param lines the lines of the width data file
+     * @return the binary table
+     */
+    static byte[] compileWidths(List<String> lines) throws IOException {
+        byte[] widths = new byte[MAX_CODE_POINT + 1];
+        Arrays.fill(widths, (byte) 1);
+        int lineNumber = 0;
+        for (String line : lines) {
+            lineNumber++;
+            String data = stripComment(line);
+            if (data.isEmpty()) {
+                continue;
+            }
+            int separator = data.indexOf(';');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected <range>;<width>: " + line);
+            }
+            String range = data.substring(0, separator).trim();
+            int width = Integer.parseInt(data.substring(separator + 1).trim());
+            if (width < 0 || width > 2) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": width must be 0, 1 or 2: " + line);
+            }
+            int dots = range.indexOf("..");
+            int first = Integer.parseInt(dots < 0 ? range : range.substring(0, dots), 16);
+            int last = dots < 0 ? first : Integer.parseInt(range.substring(dots + 2), 16);
+            Arrays.fill(widths, first, last + 1, (byte) width);
+        }
+
+        int blockCount = (MAX_CODE_POINT + 1) >> BLOCK_SHIFT;
+        char[] index = new char[blockCount];
+        Map<String, Integer> distinct = new HashMap<>();
+        List<byte[]> blocks = new ArrayList<>();
+        for (int block = 0; block < blockCount; block++) {
+            byte[] content = Arrays.copyOfRange(widths, block << BLOCK_SHIFT, (block + 1) << BLOCK_SHIFT);
+            String key = new String(content, StandardCharsets.ISO_8859_1);
+            Integer id = distinct.get(key);
+            if (id == null) {
+                id = blocks.size();
+                distinct.put(key, id);
+                blocks.add(content);
+            }
+            index[block] = (char) id.intValue();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(WIDTHS_MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(BLOCK_SHIFT);
+        out.writeInt(index.length);
+        out.writeInt(blocks.size());
+        for (char id : index) {
+            out.writeChar(id);
+        }
+        for (byte[] content : blocks) {
+            out.write(content);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Compiles emoji shortcodes into a minimal perfect hash table (hash and
+     * displace): keys are hashed into buckets, and each bucket stores either
+     * the seed that sends all of its keys to free slots, or directly the slot
+     * of its single key.
+     *
+     * @param lines the lines of the emoji data file
+     * @return the binary table
+     */
+    static byte[] compileEmoji(List<String> lines) throws IOException {
+        Map<String, String> emoji = new LinkedHashMap<>();
+        int lineNumber = 0;
+        for (String line : lines) {
+            lineNumber++;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            int separator = line.lastIndexOf(';');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected <shortcode>;<code points>: " + line);
+            }
+            StringBuilder value = new StringBuilder();
+            for (String codePoint : line.substring(separator + 1).trim().split(" +")) {
+                value.appendCodePoint(Integer.parseInt(codePoint, 16));
+            }
+            // Later definitions replace earlier ones
+            emoji.put(line.substring(0, separator), value.toString());
+        }
+
+        String[] keys = emoji.keySet().toArray(new String[0]);
+        int n = keys.length;
+        List<List<String>> buckets = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (String key : keys) {
+            buckets.get(hash(0, key) % n).add(key);
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        int[] displacements = new int[n];
+        String[] slots = new String[n];
+        int position = 0;
+        // Buckets with several keys: search a seed placing them all in free slots
+        for (; position < n && buckets.get(order[position]).size() > 1; position++) {
+            List<String> bucket = buckets.get(order[position]);
+            int[] placed = new int[bucket.size()];
+            for (int seed = 1; ; seed++) {
+                int count = 0;
+                for (String key : bucket) {
+                    int slot = hash(seed, key) % n;
+                    if (slots[slot] != null || contains(placed, count, slot)) {
+                        break;
+                    }
+                    placed[count++] = slot;
+                }
+                if (count == bucket.size()) {
+                    for (int i = 0; i < count; i++) {
+                        slots[placed[i]] = bucket.get(i);
+                    }
+                    displacements[order[position]] = seed;
+                    break;
+                }
+            }
+        }
+        // Single-key buckets: store the slot directly, as -slot - 1
+        int free = 0;
+        for (; position < n && buckets.get(order[position]).size() == 1; position++) {
+            while (slots[free] != null) {
+                free++;
+            }
+            slots[free] = buckets.get(order[position]).get(0);
+            displacements[order[position]] = -free - 1;
+        }
+
+        // Keys and values are stored as two UTF-8 pools, with the end offset
+        // (in chars) of each slot's string
+        StringBuilder keyPool = new StringBuilder();
+        StringBuilder valuePool = new StringBuilder();
+        int[] keyEnds = new int[n];
+        int[] valueEnds = new int[n];
+        for (int slot = 0; slot < n; slot++) {
+            keyPool.append(slots[slot]);
+            valuePool.append(emoji.get(slots[slot]));
+            keyEnds[slot] = keyPool.length();
+            valueEnds[slot] = valuePool.length();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(EMOJI_MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(n);
+        writeInts(out, displacements);
+        writeInts(out, keyEnds);
+        writeInts(out, valueEnds);
+        writeUtf8(out, keyPool.toString());
+        writeUtf8(out, valuePool.toString());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeUtf8(DataOutputStream out, String value) throws IOException {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    /**
+     * Hashes a shortcode; must match {@code EmojiTable.hash}.
+     */
+    static int hash(int seed, String key) {
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x01000193;
+        }
+        h ^= h >>> 15;
+        h *= 0x2C1B3C6D;
+        h ^= h >>> 12;
+        return h & 0x7FFFFFFF;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripComment(String line) {
+        int comment = line.indexOf('#');
+        return (comment < 0 ? line : line.substring(0, comment)).trim();
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Adds a `jmh` source set for JMH micro-benchmarks, and a `jmh` task to run them.
+ *
+ * Benchmarks live in src/jmh/java and can use the main classes of the project.
+ * Arguments are passed to the JMH runner with -PjmhArgs, for example:
+ * ./gradlew :tamboui-image:jmh -PjmhArgs="SixelEncoderBenchmark -f 1"
+ */
+plugins {
+    java
+}
+
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations.named("jmhImplementation") {
+    extendsFrom(configurations.getByName("implementation"))
+}
+
+dependencies {
+    val libs = versionCatalogs.named("libs")
+    "jmhImplementation"(libs.findLibrary("jmh.core").orElseThrow())
+    "jmhAnnotationProcessor"(libs.findLibrary("jmh.generator.annprocess").orElseThrow())
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    // Generated benchmark classes are not warning-free
+    options.compilerArgs.remove("-Werror")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args(providers.gradleProperty("jmhArgs").map { it.split(" ").filter(String::isNotBlank) }.getOrElse(emptyList()))
+}
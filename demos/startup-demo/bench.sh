@@ -0,0 +1,59 @@
+#!/bin/bash
+# Measures time-to-first-frame of the startup demo on the JVM, on the JVM with
+# an AppCDS archive, and as a native executable.
+#
+# Usage: demos/startup-demo/bench.sh [runs]
+#
+# Build first:
+#   ./gradlew :demos:startup-demo:installDist :demos:startup-demo:nativeCompile
+# The native run is skipped if the executable has not been built.
+# Must be run from an interactive terminal, since the demo opens a backend.
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+RUNS="${1:-10}"
+LIB="$SCRIPT_DIR/build/install/startup-demo/lib"
+NATIVE="$SCRIPT_DIR/build/native/nativeCompile/startup-demo"
+CDS_ARCHIVE="$SCRIPT_DIR/build/startup-demo.jsa"
+MAIN=dev.tamboui.demo.StartupDemo
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JVM_ARGS=(--enable-native-access=ALL-UNNAMED -cp "$LIB/*")
+
+if [ ! -d "$LIB" ]; then
+    echo "Missing $LIB; run ./gradlew :demos:startup-demo:installDist" >&2
+    exit 1
+fi
+
+# Runs a command RUNS times and prints the median time-to-first-frame
+measure() {
+    local label="$1"
+    shift
+    local times=()
+    for _ in $(seq "$RUNS"); do
+        local t
+        t=$("$@" 2>&1 >/dev/tty | sed -n 's/^time-to-first-frame-ms=//p')
+        times+=("$t")
+    done
+    local median
+    median=$(printf '%s\n' "${times[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }')
+    printf '%-10s median %5s ms over %d runs\n' "$label" "$median" "$RUNS" >> "$RESULTS"
+}
+
+RESULTS="$(mktemp)"
+trap 'rm -f "$RESULTS"' EXIT
+
+measure "jvm" "$JAVA" "${JVM_ARGS[@]}" "$MAIN"
+
+# Training run to dump the archive, then measured runs using it
+"$JAVA" -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" "${JVM_ARGS[@]}" "$MAIN" > /dev/tty 2> /dev/null
+measure "jvm+cds" "$JAVA" -XX:SharedArchiveFile="$CDS_ARCHIVE" "${JVM_ARGS[@]}" "$MAIN"
+
+if [ -x "$NATIVE" ]; then
+    measure "native" "$NATIVE"
+else
+    echo "native     skipped (run ./gradlew :demos:startup-demo:nativeCompile)" >> "$RESULTS"
+fi
+
+clear
+cat "$RESULTS"
@@ -0,0 +1,18 @@
+plugins {
+    id("dev.tamboui.demo-project")
+}
+
+description = "Measures time-to-first-frame of a toolkit application (JVM, CDS and native)"
+
+demo {
+    displayName = "Startup benchmark"
+    internal = true
+}
+
+dependencies {
+    implementation(projects.tambouiToolkit)
+}
+
+application {
+    mainClass.set("dev.tamboui.demo.StartupDemo")
+}
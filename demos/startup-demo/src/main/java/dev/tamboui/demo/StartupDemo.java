@@ -0,0 +1,61 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.demo;
+
+import java.time.Instant;
+import java.util.Map;
+
+import dev.tamboui.text.CharWidth;
+import dev.tamboui.text.Emoji;
+import dev.tamboui.toolkit.app.ToolkitRunner;
+
+import static dev.tamboui.toolkit.Toolkit.*;
+
+/**
+ * Renders a single toolkit frame and exits, reporting the time from process
+ * start to the end of that frame on standard error.
+ * <p>
+ * The frame touches the width tables and the emoji map, like a typical CLI
+ * screen would. Run it through {@code bench.sh} to compare the JVM, the JVM
+ * with a CDS archive, and the native executable.
+ */
+public class StartupDemo {
+
+    private StartupDemo() {
+    }
+
+    /**
+     * Demo entry point.
+     * @param args the CLI arguments
+     * @throws Exception on unexpected error
+     */
+    public static void main(String[] args) throws Exception {
+        Instant start = ProcessHandle.current().info().startInstant().orElse(null);
+        Map<String, String> emojis = Emoji.emojis();
+        long[] firstFrame = new long[1];
+
+        try (var runner = ToolkitRunner.create()) {
+            runner.run(() -> {
+                if (firstFrame[0] == 0) {
+                    firstFrame[0] = -1;
+                    // Queued behind the current frame, so it runs once it has been drawn
+                    runner.tuiRunner().runLater(() -> {
+                        firstFrame[0] = System.currentTimeMillis();
+                        runner.quit();
+                    });
+                }
+                String rocket = emojis.getOrDefault("rocket", "*");
+                return panel("Startup",
+                        text(rocket + " TamboUI is up").bold().cyan(),
+                        text("Width of " + rocket + ": " + CharWidth.of(rocket))
+                ).rounded();
+            });
+        }
+
+        if (start != null && firstFrame[0] > 0) {
+            System.err.println("time-to-first-frame-ms=" + (firstFrame[0] - start.toEpochMilli()));
+        }
+    }
+}
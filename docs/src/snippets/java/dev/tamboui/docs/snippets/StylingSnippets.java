@@ -3,6 +3,8 @@ package dev.tamboui.docs.snippets;
 import dev.tamboui.css.Styleable;
 import dev.tamboui.css.cascade.CssStyleResolver;
 import dev.tamboui.css.engine.StyleEngine;
+import dev.tamboui.css.engine.StylesheetWatcher;
+import dev.tamboui.css.parser.StylesheetCache;
 import dev.tamboui.layout.Flex;
 import dev.tamboui.style.Color;
 import dev.tamboui.style.ColorConverter;
@@ -15,6 +17,7 @@ import dev.tamboui.toolkit.element.Element;
 import dev.tamboui.widgets.input.TextInputState;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -412,4 +415,27 @@ public class StylingSnippets {
         });
         // end::style-change-listener[]
     }
+
+    void hotReload() throws IOException {
+        StyleEngine engine = StyleEngine.create();
+        // tag::hot-reload[]
+        engine.loadStylesheet("dark", Paths.get("themes/dark.tcss"));
+        engine.addChangeListener(() -> {
+            // Called on the watcher thread after a file changed
+            requestRedraw();
+        });
+
+        try (StylesheetWatcher watcher = engine.watchStylesheets()) {
+            // run the application
+        }
+        // end::hot-reload[]
+    }
+
+    void stylesheetCache() throws IOException {
+        // tag::stylesheet-cache[]
+        StylesheetCache cache = StylesheetCache.inDirectory(Paths.get(".cache", "tcss"));
+        StyleEngine engine = StyleEngine.create(cache);
+        engine.loadStylesheet("dark", Paths.get("themes/dark.tcss"));
+        // end::stylesheet-cache[]
+    }
 }
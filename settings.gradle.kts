@@ -9,6 +9,7 @@ val modules = listOf(
     "tamboui-jline3-backend",
     "tamboui-panama-backend",
     "tamboui-aesh-backend",
+    "tamboui-stream-backend",
     "tamboui-tui",
     "tamboui-picocli",
     "tamboui-toolkit",
@@ -5,16 +5,13 @@
 package dev.tamboui.backend.aesh;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 
 import org.aesh.terminal.Connection;
 import org.aesh.terminal.tty.Point;
 import org.aesh.terminal.tty.TerminalConnection;
 
+import dev.tamboui.internal.util.IntRingBuffer;
 import dev.tamboui.layout.Position;
 import dev.tamboui.layout.Size;
 import dev.tamboui.terminal.AbstractBackend;
@@ -26,15 +23,21 @@ import dev.tamboui.terminal.Mode2027Support;
  * <p>
  * This backend uses the aesh-readline library's TerminalConnection abstraction
  * for terminal I/O operations.
+ * <p>
+ * Input code points are handed from the connection's input thread to the reading
+ * thread through a ring buffer of {@code int}s, and output is collected as code
+ * points, the form in which the connection encodes it.
  */
 public class AeshBackend extends AbstractBackend {
 
     private static final String ESC = "\033";
     private static final String CSI = ESC + "[";
+    private static final int INPUT_CAPACITY = 64 * 1024;
+    private static final int OUTPUT_CAPACITY = 16 * 1024;
 
     private final Connection connection;
-    private final StringBuilder outputBuffer;
-    private final BlockingQueue<Integer> inputQueue;
+    private final CodePointBuffer outputBuffer;
+    private final IntRingBuffer inputBuffer;
     private boolean inAlternateScreen;
     private boolean mouseEnabled;
     private boolean mode2027Enabled;
@@ -60,18 +63,14 @@ public class AeshBackend extends AbstractBackend {
     public AeshBackend(Connection connection) throws IOException {
         this.connection = Objects.requireNonNull(connection, "connection cannot be null");
         this.connection.openNonBlocking();
-        this.outputBuffer = new StringBuilder();
-        this.inputQueue = new LinkedBlockingQueue<>();
+        this.outputBuffer = new CodePointBuffer(OUTPUT_CAPACITY);
+        this.inputBuffer = new IntRingBuffer(INPUT_CAPACITY);
         this.inAlternateScreen = false;
         this.mouseEnabled = false;
         this.mode2027Enabled = false;
 
         // Set up input handler to queue characters
-        connection.setStdinHandler(ints -> {
-            for (int codePoint : ints) {
-                inputQueue.offer(codePoint);
-            }
-        });
+        connection.setStdinHandler(inputBuffer::offer);
 
         // Set up resize handler
         connection.setSizeHandler(size -> {
@@ -84,8 +83,7 @@ public class AeshBackend extends AbstractBackend {
     @Override
     public void flush() throws IOException {
         if (outputBuffer.length() > 0) {
-            connection.write(outputBuffer.toString());
-            outputBuffer.setLength(0);
+            connection.stdoutHandler().accept(outputBuffer.drain());
         }
     }
 
@@ -191,13 +189,13 @@ public class AeshBackend extends AbstractBackend {
 
     @Override
     public void scrollUp(int lines) throws IOException {
-        outputBuffer.append(CSI).append(lines).append("S");
+        outputBuffer.append(CSI).appendDecimal(lines).append("S");
         flush();
     }
 
     @Override
     public void scrollDown(int lines) throws IOException {
-        outputBuffer.append(CSI).append(lines).append("T");
+        outputBuffer.append(CSI).appendDecimal(lines).append("T");
         flush();
     }
 
@@ -206,7 +204,7 @@ public class AeshBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        outputBuffer.append(CSI).append(n).append("L");
+        outputBuffer.append(CSI).appendDecimal(n).append("L");
     }
 
     @Override
@@ -214,7 +212,7 @@ public class AeshBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        outputBuffer.append(CSI).append(n).append("M");
+        outputBuffer.append(CSI).appendDecimal(n).append("M");
     }
 
     @Override
@@ -222,7 +220,7 @@ public class AeshBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        outputBuffer.append(CSI).append(n).append("A");
+        outputBuffer.append(CSI).appendDecimal(n).append("A");
     }
 
     @Override
@@ -230,7 +228,7 @@ public class AeshBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        outputBuffer.append(CSI).append(n).append("B");
+        outputBuffer.append(CSI).appendDecimal(n).append("B");
     }
 
     @Override
@@ -238,7 +236,7 @@ public class AeshBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        outputBuffer.append(CSI).append(n).append("C");
+        outputBuffer.append(CSI).appendDecimal(n).append("C");
     }
 
     @Override
@@ -246,7 +244,7 @@ public class AeshBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        outputBuffer.append(CSI).append(n).append("D");
+        outputBuffer.append(CSI).appendDecimal(n).append("D");
     }
 
     @Override
@@ -256,12 +254,12 @@ public class AeshBackend extends AbstractBackend {
 
     @Override
     public void carriageReturn() throws IOException {
-        outputBuffer.append("\r");
+        outputBuffer.append('\r');
     }
 
     @Override
     public void writeRaw(byte[] data) throws IOException {
-        outputBuffer.append(new String(data, StandardCharsets.UTF_8));
+        outputBuffer.appendUtf8(data);
     }
 
     @Override
@@ -276,33 +274,12 @@ public class AeshBackend extends AbstractBackend {
 
     @Override
     public int read(int timeoutMs) throws IOException {
-        try {
-            Integer ch = null;
-            if (timeoutMs < 0) {
-                // Blocking read
-                ch = inputQueue.take();
-            } else if (timeoutMs == 0) {
-                // Non-blocking read
-                ch = inputQueue.poll();
-            } else {
-                // Timeout read
-                ch = inputQueue.poll(timeoutMs, TimeUnit.MILLISECONDS);
-            }
-
-            if (ch == null) {
-                return -2;  // Timeout
-            }
-            return ch;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return -2;
-        }
+        return inputBuffer.poll(timeoutMs);
     }
 
     @Override
     public int peek(int timeoutMs) throws IOException {
-        Integer val = inputQueue.peek(); // TODO: we just return if nothing in the queue - do we need to wait?
-        return val == null ? -2 : val;
+        return inputBuffer.peek(timeoutMs);
     }
 
     @Override
@@ -324,6 +301,7 @@ public class AeshBackend extends AbstractBackend {
 
             flush();
         } finally {
+            inputBuffer.close();
             connection.close();
         }
     }
@@ -0,0 +1,181 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.aesh;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of code points for terminal output.
+ * <p>
+ * An aesh {@link org.aesh.terminal.Connection} encodes its output from code point
+ * arrays, so output is collected in that form: strings are appended without
+ * building a {@code StringBuilder} and then a {@code String} on flush, and UTF-8
+ * bytes are decoded in place rather than through a temporary {@code String}.
+ */
+final class CodePointBuffer {
+
+    private static final int REPLACEMENT = 0xFFFD;
+    private static final int RETAINED_CAPACITY = 64 * 1024;
+
+    private int[] codePoints;
+    private int length;
+
+    /**
+     * Creates a buffer.
+     *
+     * @param initialCapacity the initial capacity in code points
+     */
+    CodePointBuffer(int initialCapacity) {
+        this.codePoints = new int[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Returns the number of buffered code points.
+     *
+     * @return the buffered length
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Appends a single BMP character.
+     *
+     * @param c the character, not a surrogate
+     * @return this buffer
+     */
+    CodePointBuffer append(char c) {
+        ensureCapacity(1);
+        codePoints[length++] = c;
+        return this;
+    }
+
+    /**
+     * Appends the code points of a character sequence.
+     *
+     * @param text the text to append
+     * @return this buffer
+     */
+    CodePointBuffer append(CharSequence text) {
+        int n = text.length();
+        ensureCapacity(n);
+        int[] cps = codePoints;
+        int len = length;
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(text.charAt(i + 1))) {
+                cps[len++] = Character.toCodePoint(c, text.charAt(++i));
+            } else {
+                cps[len++] = c;
+            }
+        }
+        length = len;
+        return this;
+    }
+
+    /**
+     * Appends the decimal representation of a non-negative number.
+     *
+     * @param value the number to append
+     * @return this buffer
+     */
+    CodePointBuffer appendDecimal(int value) {
+        if (value < 0) {
+            return append(Integer.toString(value));
+        }
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        int end = length + digits;
+        for (int i = end - 1; i >= length; i--) {
+            codePoints[i] = '0' + value % 10;
+            value /= 10;
+        }
+        length = end;
+        return this;
+    }
+
+    /**
+     * Decodes and appends UTF-8 bytes. Malformed sequences are replaced
+     * with U+FFFD.
+     *
+     * @param data the UTF-8 bytes
+     * @return this buffer
+     */
+    CodePointBuffer appendUtf8(byte[] data) {
+        int n = data.length;
+        ensureCapacity(n);  // Never more code points than bytes
+        int[] cps = codePoints;
+        int len = length;
+        int i = 0;
+        while (i < n) {
+            int b = data[i];
+            if (b >= 0) {
+                cps[len++] = b;
+                i++;
+                continue;
+            }
+            int extra;
+            int cp;
+            int min;
+            if ((b & 0xE0) == 0xC0) {
+                extra = 1;
+                cp = b & 0x1F;
+                min = 0x80;
+            } else if ((b & 0xF0) == 0xE0) {
+                extra = 2;
+                cp = b & 0x0F;
+                min = 0x800;
+            } else if ((b & 0xF8) == 0xF0) {
+                extra = 3;
+                cp = b & 0x07;
+                min = 0x10000;
+            } else {
+                cps[len++] = REPLACEMENT;
+                i++;
+                continue;
+            }
+            int j = i + 1;
+            while (j <= i + extra && j < n && (data[j] & 0xC0) == 0x80) {
+                cp = (cp << 6) | (data[j] & 0x3F);
+                j++;
+            }
+            if (j != i + 1 + extra || cp < min || cp > Character.MAX_CODE_POINT
+                    || (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE)) {
+                // Truncated, overlong or invalid: replace what was consumed
+                cps[len++] = REPLACEMENT;
+            } else {
+                cps[len++] = cp;
+            }
+            i = j;
+        }
+        length = len;
+        return this;
+    }
+
+    /**
+     * Returns the buffered code points and empties the buffer.
+     *
+     * @return a new array holding the buffered code points
+     */
+    int[] drain() {
+        int[] result = Arrays.copyOf(codePoints, length);
+        length = 0;
+        if (codePoints.length > RETAINED_CAPACITY) {
+            // Do not keep a huge buffer around after a large frame
+            codePoints = new int[RETAINED_CAPACITY];
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = length + extra;
+        if (required > codePoints.length) {
+            codePoints = Arrays.copyOf(codePoints, Math.max(required, codePoints.length * 2));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.aesh;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodePointBufferTest {
+
+    private static String text(int[] codePoints) {
+        return new String(codePoints, 0, codePoints.length);
+    }
+
+    @Test
+    @DisplayName("Strings, characters and numbers are appended as code points")
+    void appendsEscapeSequences() {
+        CodePointBuffer buffer = new CodePointBuffer(4);
+        buffer.append("\033[").appendDecimal(0).append(';').appendDecimal(1234).append('H');
+        buffer.append("a😀b");
+
+        int[] codePoints = buffer.drain();
+
+        assertThat(text(codePoints)).isEqualTo("\033[0;1234Ha😀b");
+        assertThat(codePoints[codePoints.length - 2]).isEqualTo(0x1F600);
+        assertThat(buffer.length()).isZero();
+    }
+
+    @Test
+    @DisplayName("UTF-8 bytes are decoded like new String(bytes, UTF_8)")
+    void decodesUtf8() {
+        String expected = "héllo 世界 😀 \u001b[31m";
+        CodePointBuffer buffer = new CodePointBuffer(4);
+
+        buffer.appendUtf8(expected.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(text(buffer.drain())).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Malformed UTF-8 is replaced with U+FFFD")
+    void replacesMalformedUtf8() {
+        CodePointBuffer buffer = new CodePointBuffer(4);
+
+        buffer.appendUtf8(new byte[] {'a', (byte) 0xC3, 'b', (byte) 0xFF, (byte) 0xC0, (byte) 0x80, 'c', (byte) 0xE4, (byte) 0xB8});
+
+        assertThat(text(buffer.drain())).isEqualTo("a�b��c�");
+    }
+}
@@ -1,3 +1,5 @@
+import dev.tamboui.build.GenerateUnicodeTablesTask
+
 plugins {
     id("dev.tamboui.java-library")
     `java-test-fixtures`
@@ -11,6 +13,17 @@ tasks.named<org.gradle.jvm.tasks.Jar>("jar") {
     }
 }
 
+// Character widths and emoji shortcodes are compiled into binary resources
+val generateUnicodeTables = tasks.register<GenerateUnicodeTablesTask>("generateUnicodeTables") {
+    widthData = layout.projectDirectory.file("src/main/unicode/char-widths.txt")
+    emojiData = layout.projectDirectory.file("src/main/unicode/emoji-shortcodes.txt")
+    outputDirectory = layout.buildDirectory.dir("generated/resources/unicode")
+}
+
+sourceSets.main {
+    resources.srcDir(generateUnicodeTables)
+}
+
 dependencies {
     testFixturesApi(libs.assertj.core)
 }
@@ -24,6 +24,12 @@ import dev.tamboui.text.Span;
  */
 public final class Buffer {
 
+    /**
+     * Interned single-character symbols for Latin-1 characters of width 1,
+     * indexed by character; {@code null} for characters that need the general path.
+     */
+    private static final String[] LATIN1_SYMBOLS = latin1Symbols();
+
     private final Rect area;
     private final Cell[] content;
     private BiConsumer<Style, Rect> styledContentListener;
@@ -204,18 +210,68 @@ public final class Buffer {
      * @return the x position after the last character written
      */
     public int setString(int x, int y, String string, Style style) {
+        return setString(x, y, string, 0, string.length(), style);
+    }
+
+    /**
+     * Sets a slice of a character sequence at the given position with the given style.
+     * Returns the x position after the last character written.
+     * <p>
+     * Behaves like {@link #setString(int, int, String, Style)} applied to
+     * {@code text.subSequence(start, end)}, without creating the substring.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param text the text containing the slice
+     * @param start the index of the first character to write
+     * @param end the index after the last character to write
+     * @param style the style to apply (will be patched onto existing cell style)
+     * @return the x position after the last character written
+     * @throws IndexOutOfBoundsException if the slice is not within {@code text}
+     */
+    public int setString(int x, int y, CharSequence text, int start, int end, Style style) {
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                "start " + start + ", end " + end + ", length " + text.length());
+        }
         if (y < area.top() || y >= area.bottom()) {
             return x;
         }
 
+        int rowOffset = index(0, y);
+        int left = area.left();
+        int right = area.right();
+        // The style patched onto the last plain cell, cached by the cell's previous style
+        Style patchedFrom = null;
+        Style patched = null;
+
         int col = x;
         boolean appendToLast = false; // true after ZWJ - next char should join
-        for (int i = 0; i < string.length(); ) {
-            if (col >= area.right()) {
+        for (int i = start; i < end; ) {
+            if (col >= right) {
                 break;
             }
 
-            int codePoint = string.codePointAt(i);
+            // Fast path: plain Latin-1 characters take one cell each
+            char c = text.charAt(i);
+            if (c < LATIN1_SYMBOLS.length && LATIN1_SYMBOLS[c] != null && !appendToLast) {
+                if (col >= left) {
+                    Cell current = content[rowOffset + col];
+                    if (current.isContinuation() && col > left) {
+                        set(col - 1, y, get(col - 1, y).symbol(" "));
+                    }
+                    if (current.style() != patchedFrom) {
+                        patchedFrom = current.style();
+                        patched = patchedFrom.patch(style);
+                    }
+                    content[rowOffset + col] = Cell.of(LATIN1_SYMBOLS[c], patched);
+                }
+                col++;
+                i++;
+                continue;
+            }
+
+            int codePoint = codePointAt(text, i, end);
             int charWidth = CharWidth.of(codePoint);
 
             if (charWidth == 0) {
@@ -237,8 +293,8 @@ public final class Buffer {
             // Check for Regional Indicator pair (flag emoji)
             if (isRegionalIndicator(codePoint)) {
                 int nextIdx = i + Character.charCount(codePoint);
-                if (nextIdx < string.length()) {
-                    int next = string.codePointAt(nextIdx);
+                if (nextIdx < end) {
+                    int next = codePointAt(text, nextIdx, end);
                     if (isRegionalIndicator(next)) {
                         // Combine both RIs into a single 2-wide cell
                         String flag = new String(Character.toChars(codePoint)) +
@@ -282,7 +338,9 @@ public final class Buffer {
             }
             appendToLast = false;
 
-            String symbol = new String(Character.toChars(codePoint));
+            String symbol = codePoint < LATIN1_SYMBOLS.length && LATIN1_SYMBOLS[codePoint] != null
+                ? LATIN1_SYMBOLS[codePoint]
+                : new String(Character.toChars(codePoint));
 
             if (charWidth == 2 && col + 1 >= area.right()) {
                 // Wide char at rightmost column: no room for continuation, replace with space
@@ -345,6 +403,30 @@ public final class Buffer {
         return -1;
     }
 
+    /**
+     * Returns the code point at the index, without reading a low surrogate at or past {@code end}.
+     */
+    private static int codePointAt(CharSequence text, int index, int end) {
+        char high = text.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < end) {
+            char low = text.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(high, low);
+            }
+        }
+        return high;
+    }
+
+    private static String[] latin1Symbols() {
+        String[] symbols = new String[256];
+        for (char c = 0; c < symbols.length; c++) {
+            if (CharWidth.of(c) == 1) {
+                symbols[c] = String.valueOf(c).intern();
+            }
+        }
+        return symbols;
+    }
+
     /**
      * Returns true if the code point is a Regional Indicator symbol (U+1F1E6-U+1F1FF).
      */
@@ -410,10 +492,26 @@ public final class Buffer {
             return;
         }
 
+        // Runs of identical cells (typical for backgrounds) share one patched cell,
+        // and cells sharing a style share one patched style
+        Cell source = null;
+        Cell patched = null;
+        Style patchedFrom = null;
+        Style patchedStyle = null;
         for (int y = intersection.top(); y < intersection.bottom(); y++) {
-            for (int x = intersection.left(); x < intersection.right(); x++) {
-                Cell cell = get(x, y);
-                set(x, y, cell.patchStyle(style));
+            int start = index(intersection.left(), y);
+            int end = start + intersection.width();
+            for (int i = start; i < end; i++) {
+                Cell cell = content[i];
+                if (cell != source) {
+                    if (cell.style() != patchedFrom) {
+                        patchedFrom = cell.style();
+                        patchedStyle = patchedFrom.patch(style);
+                    }
+                    source = cell;
+                    patched = Cell.of(cell.symbol(), patchedStyle);
+                }
+                content[i] = patched;
             }
         }
     }
@@ -430,10 +528,15 @@ public final class Buffer {
             return;
         }
 
+        if (intersection.width() == this.area.width()) {
+            // Full-width rows are contiguous
+            int start = index(intersection.left(), intersection.top());
+            Arrays.fill(content, start, start + intersection.area(), cell);
+            return;
+        }
         for (int y = intersection.top(); y < intersection.bottom(); y++) {
-            for (int x = intersection.left(); x < intersection.right(); x++) {
-                set(x, y, cell);
-            }
+            int start = index(intersection.left(), y);
+            Arrays.fill(content, start, start + intersection.width(), cell);
         }
     }
 
@@ -461,14 +564,16 @@ public final class Buffer {
      * @param offsetY the y offset for merging
      */
     public void merge(Buffer other, int offsetX, int offsetY) {
-        for (int y = 0; y < other.height(); y++) {
-            for (int x = 0; x < other.width(); x++) {
-                int destX = offsetX + x;
-                int destY = offsetY + y;
-                if (area.contains(destX, destY)) {
-                    set(destX, destY, other.get(x + other.area.x(), y + other.area.y()));
-                }
-            }
+        Rect target = area.intersection(new Rect(offsetX, offsetY, other.width(), other.height()));
+        if (target.isEmpty()) {
+            return;
+        }
+
+        int sourceX = other.area.x() + target.left() - offsetX;
+        int sourceY = other.area.y() + target.top() - offsetY;
+        for (int row = 0; row < target.height(); row++) {
+            System.arraycopy(other.content, other.index(sourceX, sourceY + row),
+                content, index(target.left(), target.top() + row), target.width());
         }
     }
 
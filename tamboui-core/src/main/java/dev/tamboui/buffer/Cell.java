@@ -22,6 +22,9 @@ public final class Cell {
      */
     public static final Cell CONTINUATION = new Cell("", Style.EMPTY);
 
+    private static final int CACHE_MASK = 1023;
+    private static final Cell[] CACHE = new Cell[CACHE_MASK + 1];
+
     private final String symbol;
     private final Style style;
     private final int cachedHashCode;
@@ -38,6 +41,31 @@ public final class Cell {
         this.cachedHashCode = computeHashCode();
     }
 
+    /**
+     * Returns a cell with the given symbol and style, reusing a shared instance when possible.
+     * <p>
+     * Cells are immutable, so one instance can be used any number of times. Recently
+     * requested cells are kept in a small direct-mapped cache, which lets repaints of
+     * the same content reuse them instead of allocating new cells.
+     *
+     * @param symbol the character or grapheme cluster displayed in the cell
+     * @param style  the visual style
+     * @return a cell equal to {@code new Cell(symbol, style)}
+     */
+    public static Cell of(String symbol, Style style) {
+        int hash = 31 * symbol.hashCode() + style.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & CACHE_MASK;
+        // Races only cause extra misses: slots hold complete, immutable cells
+        Cell cached = CACHE[slot];
+        if (cached != null && cached.cachedHashCode == hash
+                && cached.symbol.equals(symbol) && cached.style.equals(style)) {
+            return cached;
+        }
+        Cell cell = new Cell(symbol, style);
+        CACHE[slot] = cell;
+        return cell;
+    }
+
     private int computeHashCode() {
         int result = symbol.hashCode();
         result = 31 * result + style.hashCode();
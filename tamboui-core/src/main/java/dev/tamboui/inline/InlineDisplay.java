@@ -7,6 +7,9 @@ package dev.tamboui.inline;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiConsumer;
 
 import dev.tamboui.buffer.Buffer;
@@ -19,6 +22,8 @@ import dev.tamboui.terminal.AnsiStringBuilder;
 import dev.tamboui.terminal.Backend;
 import dev.tamboui.terminal.BackendFactory;
 import dev.tamboui.text.CharWidth;
+import dev.tamboui.text.Line;
+import dev.tamboui.text.Span;
 import dev.tamboui.text.Text;
 
 /**
@@ -28,6 +33,12 @@ import dev.tamboui.text.Text;
  * allows rendering widgets to that area. Content can be printed above the display
  * area using {@link #println(String)}, which scrolls output while the display area
  * stays in place.
+ * <p>
+ * Other threads can use {@link #printlnLater(String)} instead: lines are queued
+ * and printed together, with a single scroll, on the next {@link #render} or
+ * {@link #flushPendingLines()}. The number of queued lines is capped (see
+ * {@link #maxPendingLines(int)}); lines beyond the cap are dropped and replaced
+ * by a "+N lines dropped" line.
  *
  * <p>Unlike full TUI runners, InlineDisplay does NOT:
  * <ul>
@@ -53,16 +64,24 @@ import dev.tamboui.text.Text;
  */
 public final class InlineDisplay implements AutoCloseable {
 
+    /**
+     * Default maximum number of lines queued by {@link #printlnLater(String)}.
+     */
+    public static final int DEFAULT_MAX_PENDING_LINES = 1000;
+
     private final int height;  // Maximum height
     private final int width;
     private Buffer buffer;  // Resizable buffer
+    private Buffer drawn;  // What the terminal shows, or null if unknown
     private final PrintWriter out;
     private final Backend backend;
     private boolean initialized;
     private boolean released;
     private boolean shouldClearOnClose;
+    private int lastCursorX;
     private int lastCursorY;  // Track where cursor was left for next render
     private int currentHeight;  // Current terminal lines allocated
+    private final LineQueue pending = new LineQueue(DEFAULT_MAX_PENDING_LINES);
 
     InlineDisplay(int height, int width, Backend backend, PrintWriter out) {
         this.height = height;
@@ -156,6 +175,20 @@ public final class InlineDisplay implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Sets the maximum number of lines queued by {@link #printlnLater(String)}
+     * between two renders. Lines queued beyond this limit are dropped, and
+     * reported by a "+N lines dropped" line.
+     *
+     * @param maxPendingLines the maximum number of pending lines, at least 1
+     * @return this display for chaining
+     * @throws IllegalArgumentException if {@code maxPendingLines} is less than 1
+     */
+    public InlineDisplay maxPendingLines(int maxPendingLines) {
+        pending.setCapacity(maxPendingLines);
+        return this;
+    }
+
     /**
      * Renders widgets to the display area.
      * The provided consumer receives the area and buffer to render into.
@@ -178,6 +211,11 @@ public final class InlineDisplay implements AutoCloseable {
     public void render(BiConsumer<Rect, Buffer> renderer, int contentHeight, int cursorX, int cursorY) {
         ensureInitialized();
 
+        // Print pending lines first, the display is fully drawn below anyway
+        if (!pending.isEmpty()) {
+            printAbove(drainPending(null));
+        }
+
         // Resize display if content height changed
         resizeDisplay(contentHeight);
 
@@ -255,38 +293,7 @@ public final class InlineDisplay implements AutoCloseable {
      */
     public void println(String message) {
         ensureInitialized();
-
-        if (currentHeight == 0) {
-            // No display allocated yet, just print normally
-            out.println(message);
-            return;
-        }
-
-        try {
-            // Move cursor to display line 0
-            backend.carriageReturn();
-            if (lastCursorY > 0) {
-                backend.moveCursorUp(lastCursorY);
-            }
-
-            // Insert a blank line at display line 0 (pushes display content down by 1)
-            backend.insertLines(1);
-
-            // Print the message on the inserted line
-            out.print(message);
-            backend.eraseToEndOfLine();
-
-            // Move to the next line (new display line 0 after the shift)
-            out.print("\n");
-            backend.carriageReturn();
-
-            lastCursorY = 0;
-            out.flush();
-        } catch (IOException e) {
-            // PrintWriter swallows exceptions, match that behavior
-        }
-
-        // Redraw the display area from its new position
+        printAbove(drainPending(message));
         redrawDisplayArea(-1, -1);
     }
 
@@ -296,15 +303,50 @@ public final class InlineDisplay implements AutoCloseable {
      * @param text the styled text to print
      */
     public void println(Text text) {
-        // Render text to a temporary buffer for ANSI conversion
-        if (text.lines().isEmpty()) {
-            println("");
+        println(toAnsi(text));
+    }
+
+    /**
+     * Queues a line of text to be printed above the display area.
+     * <p>
+     * Unlike {@link #println(String)}, this method can be called from any thread.
+     * Queued lines are printed, in order and with a single scroll, by the next
+     * {@link #render}, {@link #println(String)}, {@link #flushPendingLines()} or
+     * {@link #release()} call.
+     *
+     * @param message the message to print
+     * @return true if the line was queued, false if it was dropped because too
+     *         many lines are pending
+     * @see #maxPendingLines(int)
+     */
+    public boolean printlnLater(String message) {
+        return pending.add(message);
+    }
+
+    /**
+     * Queues styled text to be printed above the display area.
+     * This method can be called from any thread.
+     *
+     * @param text the styled text to print
+     * @return true if the line was queued, false if it was dropped because too
+     *         many lines are pending
+     * @see #printlnLater(String)
+     */
+    public boolean printlnLater(Text text) {
+        return pending.add(toAnsi(text));
+    }
+
+    /**
+     * Prints the lines queued by {@link #printlnLater(String)}, if any, and redraws
+     * the display area below them.
+     */
+    public void flushPendingLines() {
+        if (pending.isEmpty()) {
             return;
         }
-
-        Buffer tempBuffer = Buffer.empty(Rect.of(width, 1));
-        tempBuffer.setLine(0, 0, text.lines().get(0));
-        println(tempBuffer.toAnsiStringTrimmed());
+        ensureInitialized();
+        printAbove(drainPending(null));
+        redrawDisplayArea(-1, -1);
     }
 
     /**
@@ -316,6 +358,8 @@ public final class InlineDisplay implements AutoCloseable {
             return;
         }
 
+        flushPendingLines();
+
         if (shouldClearOnClose) {
             clearDisplayArea();
         }
@@ -365,6 +409,117 @@ public final class InlineDisplay implements AutoCloseable {
         backend.close();
     }
 
+    private String toAnsi(Text text) {
+        if (text.lines().isEmpty()) {
+            return "";
+        }
+        // Render text to a temporary buffer for ANSI conversion
+        Buffer tempBuffer = Buffer.empty(Rect.of(width, 1));
+        tempBuffer.setLine(0, 0, text.lines().get(0));
+        return tempBuffer.toAnsiStringTrimmed();
+    }
+
+    /**
+     * Takes the pending lines, followed by the dropped lines indicator if lines
+     * were dropped, then by the given message if not null.
+     */
+    private List<String> drainPending(String message) {
+        List<String> lines = pending.drain();
+        long dropped = pending.takeDropped();
+        if (dropped == 0) {
+            if (message == null) {
+                return lines;
+            }
+            if (lines.isEmpty()) {
+                return Collections.singletonList(message);
+            }
+        }
+        List<String> result = new ArrayList<>(lines.size() + 2);
+        result.addAll(lines);
+        if (dropped > 0) {
+            result.add(toAnsi(Text.from(Line.from(
+                    Span.styled("+" + dropped + (dropped == 1 ? " line" : " lines") + " dropped",
+                            Style.EMPTY.dim())))));
+        }
+        if (message != null) {
+            result.add(message);
+        }
+        return result;
+    }
+
+    /**
+     * Prints lines above the display area, scrolling the terminal once for all
+     * of them. The display area must be redrawn afterwards.
+     */
+    private void printAbove(List<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        if (currentHeight == 0) {
+            // No display allocated yet, just print normally
+            for (String line : lines) {
+                out.println(line);
+            }
+            out.flush();
+            return;
+        }
+
+        try {
+            // Move cursor to display line 0
+            backend.carriageReturn();
+            if (lastCursorY > 0) {
+                backend.moveCursorUp(lastCursorY);
+            }
+
+            // Insert blank lines at display line 0 (pushes display content down)
+            int rows = 0;
+            for (String line : lines) {
+                rows += countRows(line);
+            }
+            backend.insertLines(rows);
+
+            // Print the messages on the inserted lines. Moving past the bottom of
+            // the screen scrolls the terminal, so every line ends up above the
+            // new display line 0.
+            for (String line : lines) {
+                int start = 0;
+                int end;
+                while ((end = line.indexOf('\n', start)) >= 0) {
+                    printRow(line, start, end);
+                    start = end + 1;
+                }
+                printRow(line, start, line.length());
+            }
+
+            lastCursorX = 0;
+            lastCursorY = 0;
+        } catch (IOException e) {
+            // PrintWriter swallows exceptions, match that behavior
+        }
+
+        // Inserting lines may have pushed display lines off the screen, so the
+        // whole area has to be drawn again from its new position.
+        drawn = null;
+    }
+
+    private void printRow(String line, int start, int end) throws IOException {
+        if (end > start && line.charAt(end - 1) == '\r') {
+            end--;  // Multi-line ANSI strings use CRLF, the line is erased before moving on
+        }
+        out.write(line, start, end - start);
+        backend.eraseToEndOfLine();
+        out.print("\n");
+        backend.carriageReturn();
+    }
+
+    private static int countRows(String line) {
+        int rows = 1;
+        for (int i = line.indexOf('\n'); i >= 0; i = line.indexOf('\n', i + 1)) {
+            rows++;
+        }
+        return rows;
+    }
+
     private void ensureInitialized() {
         if (initialized) {
             return;
@@ -384,6 +539,14 @@ public final class InlineDisplay implements AutoCloseable {
         // Note: Initial height allocation happens in first render() call via resizeDisplay()
     }
 
+    /**
+     * Brings the display area up to date with the buffer.
+     * <p>
+     * The buffer is compared with the content drawn last time: unchanged lines
+     * are skipped, and a changed line is only redrawn from its first changed
+     * cell, reaching it with relative cursor moves. The whole area is drawn when
+     * its content on the terminal is unknown.
+     */
     private void redrawDisplayArea(int cursorX, int cursorY) {
         // Cursor is hidden since initialization - no need to hide/show here.
         // TextInput renders cursor as a styled cell (reversed) in the buffer.
@@ -392,65 +555,106 @@ public final class InlineDisplay implements AutoCloseable {
             return;  // Nothing to draw
         }
 
-        try {
-            // Move to start of display area (line 0)
-            // First, go to start of current line
-            backend.carriageReturn();
-            // Then move up to line 0 if cursor was left on a different line
-            if (lastCursorY > 0) {
-                backend.moveCursorUp(lastCursorY);
-            }
+        // Default: cursor at end of first line content (for prompt-style UX)
+        int targetX = cursorX >= 0 && cursorY >= 0 ? cursorX : findLastContentPosition(buffer, 0);
+        int targetY = cursorX >= 0 && cursorY >= 0 ? cursorY : 0;
 
-            // Render each line
-            try (AnsiCellWriter cellWriter = new AnsiCellWriter(out::print)) {
-                for (int y = 0; y < currentHeight; y++) {
-                    if (y > 0) {
-                        out.print("\n");
+        try {
+            int row = lastCursorY;
+            boolean written = false;
+            AnsiCellWriter cellWriter = null;
+            for (int y = 0; y < currentHeight; y++) {
+                int lineEnd = findLastContentPosition(buffer, y);
+                int drawnEnd = drawn != null ? findLastContentPosition(drawn, y) : width;
+                int start = drawn != null ? firstChange(y, Math.max(lineEnd, drawnEnd)) : 0;
+                if (start < 0) {
+                    continue;  // Line unchanged
+                }
+                moveCursor(row, y, start);
+                row = y;
+                if (drawn == null) {
+                    // Erasing uses the current background, so reset the style first
+                    if (cellWriter != null) {
+                        cellWriter.close();
+                        cellWriter = null;
                     }
                     // Clear the line first (from col 0) to remove stale content.
                     // This avoids calling eraseToEndOfLine after rendering, which
                     // would interact badly with "pending wrap" state on some terminals.
-                    backend.carriageReturn();
                     backend.eraseToEndOfLine();
-
-                    int lineEnd = findLastContentPosition(y);
-
-                    for (int x = 0; x < lineEnd; x++) {
-                        cellWriter.writeCell(buffer.get(x, y));
+                }
+                if (start < lineEnd && cellWriter == null) {
+                    cellWriter = new AnsiCellWriter(out::print);
+                }
+                for (int x = start; x < lineEnd; x++) {
+                    cellWriter.writeCell(buffer.get(x, y));
+                }
+                if (drawn != null && drawnEnd > lineEnd) {
+                    // The line got shorter: it now ends before the last column, so
+                    // the cursor is not in "pending wrap" state
+                    if (cellWriter != null) {
+                        cellWriter.close();
+                        cellWriter = null;
                     }
+                    backend.eraseToEndOfLine();
                 }
+                written = true;
+            }
+            if (cellWriter != null) {
+                cellWriter.close();
             }
-            backend.carriageReturn();
 
-            // Position cursor - go back to start of display area
-            if (currentHeight > 1) {
-                backend.moveCursorUp(currentHeight - 1);
+            if (written || targetX != lastCursorX || targetY != lastCursorY) {
+                moveCursor(row, targetY, targetX);
+                lastCursorX = targetX;
+                lastCursorY = targetY;
+                // Keep terminal cursor hidden - TextInput renders cursor as a styled cell
+                // in the buffer (reversed style), so we don't need the terminal cursor.
+                // This eliminates flicker from hide/show cycling.
+                out.flush();
             }
+        } catch (IOException e) {
+            // PrintWriter swallows exceptions, match that behavior
+        }
 
-            if (cursorX >= 0 && cursorY >= 0) {
-                // Use explicit cursor position
-                if (cursorY > 0) {
-                    backend.moveCursorDown(cursorY);
-                }
-                if (cursorX > 0) {
-                    backend.moveCursorRight(cursorX);
-                }
-                lastCursorY = cursorY;
-            } else {
-                // Default: move cursor to end of first line content (for prompt-style UX)
-                int endX = findLastContentPosition(0);
-                if (endX > 0) {
-                    backend.moveCursorRight(endX);
+        if (drawn == null || !drawn.area().equals(buffer.area())) {
+            drawn = Buffer.empty(buffer.area());
+        }
+        drawn.merge(buffer, 0, 0);
+    }
+
+    /**
+     * Returns the first column of a line that differs from the drawn content, moved
+     * back to the start of a wide character, or -1 if the line is unchanged.
+     */
+    private int firstChange(int y, int end) {
+        for (int x = 0; x < end; x++) {
+            if (!buffer.get(x, y).equals(drawn.get(x, y))) {
+                while (x > 0 && (buffer.get(x, y).isContinuation() || drawn.get(x, y).isContinuation())) {
+                    x--;
                 }
-                lastCursorY = 0;
+                return x;
             }
+        }
+        return -1;
+    }
 
-            // Keep terminal cursor hidden - TextInput renders cursor as a styled cell
-            // in the buffer (reversed style), so we don't need the terminal cursor.
-            // This eliminates flicker from hide/show cycling.
-            out.flush();
-        } catch (IOException e) {
-            // PrintWriter swallows exceptions, match that behavior
+    /**
+     * Moves the cursor from any column of display line {@code fromY} to the
+     * given column of display line {@code toY}.
+     */
+    private void moveCursor(int fromY, int toY, int toX) throws IOException {
+        if (toY < fromY) {
+            backend.moveCursorUp(fromY - toY);
+        } else if (toY == fromY + 1) {
+            // The next line of the display area exists, so this cannot scroll
+            out.print("\n");
+        } else if (toY > fromY) {
+            backend.moveCursorDown(toY - fromY);
+        }
+        backend.carriageReturn();
+        if (toX > 0) {
+            backend.moveCursorRight(toX);
         }
     }
 
@@ -458,9 +662,9 @@ public final class InlineDisplay implements AutoCloseable {
      * Finds the position after the last non-empty cell on a line,
      * accounting for wide character display widths.
      */
-    private int findLastContentPosition(int line) {
+    private int findLastContentPosition(Buffer content, int line) {
         for (int x = width - 1; x >= 0; x--) {
-            Cell cell = buffer.get(x, line);
+            Cell cell = content.get(x, line);
             if (cell.isContinuation()) {
                 continue;
             }
@@ -563,6 +767,7 @@ public final class InlineDisplay implements AutoCloseable {
                 backend.carriageReturn();
             }
 
+            lastCursorX = 0;
             lastCursorY = 0;
             out.flush();
         } catch (IOException e) {
@@ -571,5 +776,6 @@ public final class InlineDisplay implements AutoCloseable {
 
         currentHeight = newHeight;
         buffer = Buffer.empty(Rect.of(width, newHeight));
+        drawn = null;
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.inline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lines waiting to be printed above an inline display.
+ * <p>
+ * Lines may be added from any thread without locking, and are drained by the
+ * thread that owns the display. The number of waiting lines is capped: lines
+ * added while the queue is full are dropped and counted, so that a burst of
+ * output cannot grow the queue without bounds when the display is not drained
+ * fast enough.
+ */
+final class LineQueue {
+
+    private final Queue<String> lines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile int capacity;
+
+    LineQueue(int capacity) {
+        setCapacity(capacity);
+    }
+
+    void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds a line, or drops it if the queue is full.
+     *
+     * @param line the line to add
+     * @return true if the line was queued, false if it was dropped
+     */
+    boolean add(String line) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        lines.add(line);
+        return true;
+    }
+
+    boolean isEmpty() {
+        return size.get() == 0 && dropped.get() == 0;
+    }
+
+    /**
+     * Removes the queued lines.
+     *
+     * @return the queued lines, in the order they were added
+     */
+    List<String> drain() {
+        if (size.get() == 0) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(size.get());
+        String line;
+        while ((line = lines.poll()) != null) {
+            size.decrementAndGet();
+            result.add(line);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of lines dropped since the last call, and resets it.
+     *
+     * @return the number of dropped lines
+     */
+    long takeDropped() {
+        return dropped.get() == 0 ? 0 : dropped.getAndSet(0);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.internal.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring buffer of code points, handed from a single producer thread to a
+ * single consumer thread, such as the input thread of a terminal connection and
+ * the thread reading the backend.
+ * <p>
+ * Values are stored in a plain {@code int} array, so queuing input does not box
+ * every code point. The producer only writes the tail index and the consumer only
+ * writes the head index, so no lock is needed. A consumer waiting for input is
+ * parked and woken by the producer; a producer facing a full buffer waits for the
+ * consumer to catch up.
+ * <p>
+ * This is an internal API and not part of the public contract.
+ */
+public final class IntRingBuffer {
+
+    private static final long PRODUCER_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int[] values;
+    private final int mask;
+    private volatile long head;  // Next index to read, written by the consumer only
+    private volatile long tail;  // Next index to write, written by the producer only
+    private volatile Thread waitingConsumer;
+    private volatile boolean closed;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    public IntRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.values = new int[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the number of values the buffer can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Returns the number of values waiting to be read.
+     *
+     * @return the number of available values
+     */
+    public int available() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Adds a value to the buffer. Called by the producer thread only.
+     * <p>
+     * When the buffer is full, waits until the consumer has made room. The
+     * value is discarded once the buffer is closed.
+     *
+     * @param value the value to add
+     */
+    public void offer(int value) {
+        long t = tail;
+        while (values.length - (int) (t - head) == 0) {
+            if (closed) {
+                return;
+            }
+            LockSupport.parkNanos(this, PRODUCER_WAIT_NANOS);
+        }
+        values[(int) t & mask] = value;
+        tail = t + 1;
+        wakeConsumer();
+    }
+
+    /**
+     * Adds values to the buffer. Called by the producer thread only.
+     * <p>
+     * When the buffer is full, waits until the consumer has made room for the
+     * remaining values. Values are discarded once the buffer is closed.
+     *
+     * @param input the values to add
+     */
+    public void offer(int[] input) {
+        int offset = 0;
+        while (offset < input.length && !closed) {
+            long t = tail;
+            int free = values.length - (int) (t - head);
+            if (free == 0) {
+                LockSupport.parkNanos(this, PRODUCER_WAIT_NANOS);
+                continue;
+            }
+            int count = Math.min(free, input.length - offset);
+            for (int i = 0; i < count; i++) {
+                values[(int) (t + i) & mask] = input[offset + i];
+            }
+            tail = t + count;
+            offset += count;
+            wakeConsumer();
+        }
+    }
+
+    /**
+     * Removes and returns the next value. Called by the consumer thread only.
+     *
+     * @param timeoutMs the maximum time to wait in milliseconds, 0 to return
+     *                  immediately, or a negative value to wait until a value arrives
+     * @return the next value, or -2 if none arrived in time or the buffer is
+     *         closed and empty
+     */
+    public int poll(int timeoutMs) {
+        if (!await(timeoutMs)) {
+            return -2;
+        }
+        long h = head;
+        int value = values[(int) h & mask];
+        head = h + 1;
+        return value;
+    }
+
+    /**
+     * Returns the next value without removing it. Called by the consumer thread only.
+     *
+     * @param timeoutMs the maximum time to wait in milliseconds, 0 to return
+     *                  immediately, or a negative value to wait until a value arrives
+     * @return the next value, or -2 if none arrived in time or the buffer is
+     *         closed and empty
+     */
+    public int peek(int timeoutMs) {
+        if (!await(timeoutMs)) {
+            return -2;
+        }
+        return values[(int) head & mask];
+    }
+
+    /**
+     * Closes the buffer: values already queued can still be read, a waiting
+     * consumer returns, and values offered from now on are discarded.
+     */
+    public void close() {
+        closed = true;
+        wakeConsumer();
+    }
+
+    private void wakeConsumer() {
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private boolean await(int timeoutMs) {
+        if (head != tail) {
+            return true;
+        }
+        if (timeoutMs == 0) {
+            return false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Thread current = Thread.currentThread();
+        waitingConsumer = current;
+        try {
+            // The producer updates the tail before reading waitingConsumer, so
+            // either it sees this thread and unparks it, or this loop sees the value
+            while (head == tail) {
+                if (closed || current.isInterrupted()) {
+                    return false;
+                }
+                if (timeoutMs < 0) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+            return true;
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable index of items by their area, answering "which items contain
+ * this cell" without scanning every item.
+ * <p>
+ * The bounding box of all areas is divided into a uniform grid of buckets of
+ * {@value #BUCKET_WIDTH}x{@value #BUCKET_HEIGHT} cells, and each item is listed
+ * in every bucket its area overlaps. A lookup only tests the items of one bucket.
+ * <p>
+ * Items keep the order they were given in, so callers that register items in
+ * paint order can treat later items as being on top.
+ *
+ * <pre>{@code
+ * SpatialIndex<Element> index = SpatialIndex.of(elements, areas::get);
+ * List<Element> hits = index.itemsAt(mouseX, mouseY);
+ * Element topmost = hits.isEmpty() ? null : hits.get(hits.size() - 1);
+ * }</pre>
+ *
+ * @param <T> the item type
+ */
+public final class SpatialIndex<T> {
+
+    /** The width of a bucket, in cells. */
+    public static final int BUCKET_WIDTH = 8;
+    /** The height of a bucket, in cells. */
+    public static final int BUCKET_HEIGHT = 4;
+
+    private static final int[] NO_ITEMS = new int[0];
+
+    private final List<T> items;
+    private final Rect[] areas;
+    private final int originX;
+    private final int originY;
+    private final int columns;
+    private final int rows;
+    private final int[][] buckets;
+
+    private SpatialIndex(List<T> items, Rect[] areas) {
+        this.items = items;
+        this.areas = areas;
+
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (Rect area : areas) {
+            if (area != null && !area.isEmpty()) {
+                minX = Math.min(minX, area.left());
+                minY = Math.min(minY, area.top());
+                maxX = Math.max(maxX, area.right());
+                maxY = Math.max(maxY, area.bottom());
+            }
+        }
+        if (minX > maxX) {
+            this.originX = 0;
+            this.originY = 0;
+            this.columns = 0;
+            this.rows = 0;
+            this.buckets = new int[0][];
+            return;
+        }
+        this.originX = minX;
+        this.originY = minY;
+        this.columns = (maxX - minX + BUCKET_WIDTH - 1) / BUCKET_WIDTH;
+        this.rows = (maxY - minY + BUCKET_HEIGHT - 1) / BUCKET_HEIGHT;
+
+        // Two passes: count the items per bucket, then fill exactly sized arrays
+        int[] counts = new int[columns * rows];
+        for (Rect area : areas) {
+            forEachBucket(area, bucket -> counts[bucket]++);
+        }
+        this.buckets = new int[counts.length][];
+        for (int i = 0; i < counts.length; i++) {
+            buckets[i] = counts[i] == 0 ? NO_ITEMS : new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int item = 0; item < areas.length; item++) {
+            int index = item;
+            forEachBucket(areas[item], bucket -> buckets[bucket][counts[bucket]++] = index);
+        }
+    }
+
+    /**
+     * Builds an index of the given items.
+     * <p>
+     * Items whose area is null or empty are never returned.
+     *
+     * @param items  the items, in z-order from bottom to top
+     * @param areaOf returns the area of an item
+     * @param <T>    the item type
+     * @return the index
+     */
+    public static <T> SpatialIndex<T> of(List<T> items, Function<? super T, Rect> areaOf) {
+        List<T> copy = new ArrayList<>(items);
+        Rect[] areas = new Rect[copy.size()];
+        for (int i = 0; i < areas.length; i++) {
+            areas[i] = areaOf.apply(copy.get(i));
+        }
+        return new SpatialIndex<>(copy, areas);
+    }
+
+    /**
+     * Returns the items whose area contains the given cell, in the order the
+     * items were given in (bottom to top).
+     *
+     * @param x the column
+     * @param y the row
+     * @return the items at the position, possibly empty
+     */
+    public List<T> itemsAt(int x, int y) {
+        int column = Math.floorDiv(x - originX, BUCKET_WIDTH);
+        int row = Math.floorDiv(y - originY, BUCKET_HEIGHT);
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            return Collections.emptyList();
+        }
+        int[] candidates = buckets[row * columns + column];
+        List<T> result = null;
+        for (int item : candidates) {
+            if (areas[item].contains(x, y)) {
+                if (result == null) {
+                    result = new ArrayList<>(4);
+                }
+                result.add(items.get(item));
+            }
+        }
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * Returns the number of indexed items.
+     *
+     * @return the item count
+     */
+    public int size() {
+        return items.size();
+    }
+
+    private void forEachBucket(Rect area, IntConsumer action) {
+        if (area == null || area.isEmpty()) {
+            return;
+        }
+        int firstColumn = (area.left() - originX) / BUCKET_WIDTH;
+        int lastColumn = (area.right() - 1 - originX) / BUCKET_WIDTH;
+        int firstRow = (area.top() - originY) / BUCKET_HEIGHT;
+        int lastRow = (area.bottom() - 1 - originY) / BUCKET_HEIGHT;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                action.accept(row * columns + column);
+            }
+        }
+    }
+}
@@ -21,11 +21,18 @@ import dev.tamboui.layout.Flex;
  *
  * <p>The cache is thread-local to avoid synchronization overhead, as TUI
  * rendering is typically single-threaded.
+ *
+ * <p>Applications that render many sessions in one JVM, each on its own
+ * thread, can call {@link #setShared(boolean)} so that all threads use a single,
+ * larger cache instead. Solver results only depend on the cache key, so
+ * sessions showing the same layouts benefit from each other's entries.
  */
 public final class LayoutCache {
     private static final int MAX_SIZE = 256;
+    private static final int SHARED_MAX_SIZE = 4096;
     private static final ThreadLocal<LayoutCache> INSTANCE =
         ThreadLocal.withInitial(() -> new LayoutCache(MAX_SIZE));
+    private static volatile LayoutCache shared;
 
     private final LinkedHashMap<LayoutCacheKey, int[]> cache;
 
@@ -39,12 +46,43 @@ public final class LayoutCache {
     }
 
     /**
-     * Returns the thread-local layout cache instance.
+     * Returns the layout cache instance for the current thread.
+     * <p>
+     * This is the thread-local cache, or the shared cache if sharing was
+     * enabled with {@link #setShared(boolean)}.
      *
      * @return the layout cache for the current thread
      */
     public static LayoutCache instance() {
-        return INSTANCE.get();
+        LayoutCache sharedCache = shared;
+        return sharedCache != null ? sharedCache : INSTANCE.get();
+    }
+
+    /**
+     * Enables or disables a single cache shared by all threads.
+     * <p>
+     * Disabling sharing discards the shared cache; threads go back to their
+     * thread-local caches.
+     *
+     * @param enabled true to share one cache across all threads
+     */
+    public static synchronized void setShared(boolean enabled) {
+        if (enabled) {
+            if (shared == null) {
+                shared = new LayoutCache(SHARED_MAX_SIZE);
+            }
+        } else {
+            shared = null;
+        }
+    }
+
+    /**
+     * Returns whether a single cache is shared by all threads.
+     *
+     * @return true if the cache is shared
+     */
+    public static boolean isShared() {
+        return shared != null;
     }
 
     /**
@@ -61,20 +99,33 @@ public final class LayoutCache {
                                  Supplier<int[]> computer) {
         LayoutCacheKey key = new LayoutCacheKey(constraints, distributable, spacing, flex);
         // Avoid Map.computeIfAbsent - it has issues with access-order LinkedHashMap in Java 8
-        // that can cause infinite loops or corruption during structural modification
-        int[] cached = cache.get(key);
+        // that can cause infinite loops or corruption during structural modification.
+        // The lock is uncontended for thread-local caches; for the shared cache the
+        // solver runs outside of it so threads only serialize on the map access.
+        int[] cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
         if (cached == null) {
             cached = computer.get().clone();
-            cache.put(key, cached);
+            synchronized (cache) {
+                cache.put(key, cached);
+            }
         }
         return cached.clone();
     }
 
     /**
-     * Clears the cache for the current thread.
+     * Clears the cache for the current thread, and the shared cache if sharing is enabled.
      * This can be called at the end of a frame if desired.
      */
     public static void clearAll() {
         INSTANCE.remove();
+        LayoutCache sharedCache = shared;
+        if (sharedCache != null) {
+            synchronized (sharedCache.cache) {
+                sharedCache.cache.clear();
+            }
+        }
     }
 }
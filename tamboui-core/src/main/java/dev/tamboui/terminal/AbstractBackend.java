@@ -6,7 +6,6 @@ package dev.tamboui.terminal;
 
 import java.io.IOException;
 
-import dev.tamboui.buffer.Cell;
 import dev.tamboui.buffer.CellUpdate;
 import dev.tamboui.error.RuntimeIOException;
 import dev.tamboui.layout.Position;
@@ -36,7 +35,7 @@ public abstract class AbstractBackend implements Backend {
      * Draws the given cell updates to the terminal.
      * <p>
      * Iterates over the updates, positions the cursor for each cell,
-     * and writes styled content using {@link AnsiCellWriter}.
+     * and writes styled content using {@link AnsiCellWriter#writeUpdates}.
      * Output is sent via {@link #writeRaw(String)}.
      *
      * @param updates the cell updates to draw
@@ -44,23 +43,13 @@ public abstract class AbstractBackend implements Backend {
      */
     @Override
     public final void draw(Iterable<CellUpdate> updates) throws IOException {
-        try (AnsiCellWriter cellWriter = new AnsiCellWriter(s -> {
+        AnsiCellWriter.writeUpdates(updates, s -> {
             try {
                 writeRaw(s);
             } catch (IOException e) {
                 throw new RuntimeIOException("Failed to write cell data", e);
             }
-        })) {
-            for (CellUpdate update : updates) {
-                Cell cell = update.cell();
-                if (cell.isContinuation()) {
-                    continue;
-                }
-                // ANSI uses 1-based coordinates
-                writeRaw("\u001b[" + (update.y() + 1) + ";" + (update.x() + 1) + "H");
-                cellWriter.writeCell(cell);
-            }
-        }
+        });
     }
 
     /**
@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.function.Consumer;
 
 import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
 import dev.tamboui.style.Hyperlink;
 import dev.tamboui.style.Style;
 
@@ -51,6 +52,31 @@ public final class AnsiCellWriter implements AutoCloseable {
         this.sink = Objects.requireNonNull(sink, "sink");
     }
 
+    /**
+     * Writes a batch of cell updates to the given sink, positioning the cursor
+     * before each cell.
+     * <p>
+     * This is the frame encoding shared by all backends (see
+     * {@link AbstractBackend#draw(Iterable)}); it is exposed so that backends
+     * which send one encoded frame to several outputs can produce it once.
+     *
+     * @param updates the cell updates to write
+     * @param sink    the output consumer
+     */
+    public static void writeUpdates(Iterable<CellUpdate> updates, Consumer<String> sink) {
+        try (AnsiCellWriter cellWriter = new AnsiCellWriter(sink)) {
+            for (CellUpdate update : updates) {
+                Cell cell = update.cell();
+                if (cell.isContinuation()) {
+                    continue;
+                }
+                // ANSI uses 1-based coordinates
+                sink.accept("\u001b[" + (update.y() + 1) + ";" + (update.x() + 1) + "H");
+                cellWriter.writeCell(cell);
+            }
+        }
+    }
+
     /**
      * Writes a single cell to the output sink.
      *
@@ -298,6 +298,36 @@ public interface Backend extends AutoCloseable {
         writeRaw("\r");
     }
 
+    /**
+     * Returns whether the backend can accept another frame right now.
+     * <p>
+     * Backends writing to a slow consumer (for example a remote viewer on a
+     * congested socket) return false while their output backlog is too large.
+     * The {@link Terminal} then skips drawing the frame and keeps its previous
+     * buffer, so the changes are carried by the next frame that is drawn.
+     *
+     * @return true if a frame should be drawn, false to skip it
+     */
+    default boolean isReadyForFrame() {
+        return true;
+    }
+
+    /**
+     * Registers a listener called when the backend becomes ready for frames
+     * again after {@link #isReadyForFrame()} returned false.
+     * <p>
+     * The listener may run on any thread and should only schedule
+     * {@link Terminal#drawPendingFrame()} on the thread that draws, so that a
+     * skipped frame reaches the screen even if nothing else is drawn. The
+     * default implementation ignores the listener, since a backend that is
+     * always ready never needs it.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    default void onReadyForFrame(Runnable listener) {
+        // Always ready: nothing to report
+    }
+
     /**
      * Closes this backend and releases any resources.
      *
@@ -12,6 +12,7 @@ import java.util.function.Consumer;
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.buffer.CellUpdate;
 import dev.tamboui.error.RuntimeIOException;
+import dev.tamboui.layout.Position;
 import dev.tamboui.layout.Rect;
 import dev.tamboui.layout.Size;
 
@@ -28,6 +29,10 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
     private Buffer currentBuffer;
     private Buffer previousBuffer;
     private boolean hiddenCursor;
+    // The last frame was skipped by a congested backend and has not been sent yet
+    private boolean framePending;
+    private boolean pendingCursorVisible;
+    private Position pendingCursorPosition;
 
     /**
      * Creates a new terminal instance with the given backend.
@@ -123,47 +128,100 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
             Frame frame = new Frame(currentBuffer, rawOutput);
             renderer.accept(frame);
 
-            // Calculate diff and draw
-            List<CellUpdate> updates = previousBuffer.diff(currentBuffer);
-            if (!updates.isEmpty()) {
-                backend.draw(updates);
+            // Skip the frame if the backend is congested; keeping previousBuffer
+            // means the next drawn frame's diff includes the skipped changes
+            if (!backend.isReadyForFrame()) {
+                framePending = true;
+                pendingCursorVisible = frame.isCursorVisible();
+                pendingCursorPosition = frame.cursorPosition().orElse(null);
+                return new CompletedFrame(currentBuffer, area);
             }
 
-            // Handle cursor
-            if (frame.isCursorVisible()) {
-                frame.cursorPosition().ifPresent(pos -> {
-                    try {
-                        backend.setCursorPosition(pos);
-                        if (hiddenCursor) {
-                            backend.showCursor();
-                            hiddenCursor = false;
-                        }
-                    } catch (IOException e) {
-                        throw new RuntimeIOException(
-                                String.format("Failed to set cursor position to %s: %s", pos, e.getMessage()), e);
-                    }
-                });
-            } else if (!hiddenCursor) {
+            present(frame.isCursorVisible(), frame.cursorPosition().orElse(null));
+            return new CompletedFrame(previousBuffer, area);
+        } catch (IOException e) {
+            throw new RuntimeIOException("Failed to draw frame: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns whether the last drawn frame was skipped because the backend was
+     * not ready for it, and has not been sent since.
+     *
+     * @return true if a skipped frame is waiting to be sent
+     * @see Backend#isReadyForFrame()
+     */
+    public boolean hasPendingFrame() {
+        return framePending;
+    }
+
+    /**
+     * Sends the last skipped frame if the backend is ready for it now.
+     * <p>
+     * A skipped frame is otherwise only sent as part of the next drawn frame,
+     * which may never come when the application is idle. Call this when the
+     * backend reports that it is ready again (see
+     * {@link Backend#onReadyForFrame(Runnable)}), from the thread that draws.
+     *
+     * @return true if a pending frame was sent
+     * @throws RuntimeIOException if drawing fails
+     */
+    public boolean drawPendingFrame() {
+        if (!framePending || !backend.isReadyForFrame()) {
+            return false;
+        }
+        try {
+            present(pendingCursorVisible, pendingCursorPosition);
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeIOException("Failed to draw frame: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sends the difference between the previous and the current buffer, updates
+     * the cursor and swaps the buffers.
+     */
+    private void present(boolean cursorVisible, Position cursorPosition) throws IOException {
+        framePending = false;
+        pendingCursorPosition = null;
+
+        // Calculate diff and draw
+        List<CellUpdate> updates = previousBuffer.diff(currentBuffer);
+        if (!updates.isEmpty()) {
+            backend.draw(updates);
+        }
+
+        // Handle cursor
+        if (cursorVisible) {
+            if (cursorPosition != null) {
                 try {
-                    backend.hideCursor();
-                    hiddenCursor = true;
+                    backend.setCursorPosition(cursorPosition);
+                    if (hiddenCursor) {
+                        backend.showCursor();
+                        hiddenCursor = false;
+                    }
                 } catch (IOException e) {
-                    throw new RuntimeIOException("Failed to hide cursor: " + e.getMessage(), e);
+                    throw new RuntimeIOException(
+                            String.format("Failed to set cursor position to %s: %s", cursorPosition, e.getMessage()), e);
                 }
             }
+        } else if (!hiddenCursor) {
+            try {
+                backend.hideCursor();
+                hiddenCursor = true;
+            } catch (IOException e) {
+                throw new RuntimeIOException("Failed to hide cursor: " + e.getMessage(), e);
+            }
+        }
 
-            // Flush output
-            backend.flush();
-
-            // Swap buffers
-            Buffer temp = previousBuffer;
-            previousBuffer = currentBuffer;
-            currentBuffer = temp;
+        // Flush output
+        backend.flush();
 
-            return new CompletedFrame(previousBuffer, area);
-        } catch (IOException e) {
-            throw new RuntimeIOException("Failed to draw frame: " + e.getMessage(), e);
-        }
+        // Swap buffers
+        Buffer temp = previousBuffer;
+        previousBuffer = currentBuffer;
+        currentBuffer = temp;
     }
 
     /**
@@ -173,6 +231,7 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
      * @throws RuntimeIOException if resizing fails
      */
     private void resize(Rect area) {
+        framePending = false;
         currentBuffer = Buffer.empty(area);
         previousBuffer = Buffer.empty(area);
         try {
@@ -190,6 +249,7 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
     public void clear() {
         try {
             backend.clear();
+            framePending = false;
             Rect area = currentBuffer.area();
             currentBuffer = Buffer.empty(area);
             previousBuffer = Buffer.empty(area);
@@ -4,8 +4,6 @@
  */
 package dev.tamboui.text;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -41,3621 +39,8 @@ public final class Emoji {
 
     private static final class Holder {
 
-        static final Map<String, String> EMOJIS = load();
-
-        private static Map<String, String> load() {
-            Map<String, String> emoji = new HashMap<>();
-            emoji.put("1st_place_medal", "🥇");
-            emoji.put("2nd_place_medal", "🥈");
-            emoji.put("3rd_place_medal", "🥉");
-            emoji.put("ab_button_(blood_type)", "🆎");
-            emoji.put("atm_sign", "🏧");
-            emoji.put("a_button_(blood_type)", "🅰");
-            emoji.put("afghanistan", "🇦🇫");
-            emoji.put("albania", "🇦🇱");
-            emoji.put("algeria", "🇩🇿");
-            emoji.put("american_samoa", "🇦🇸");
-            emoji.put("andorra", "🇦🇩");
-            emoji.put("angola", "🇦🇴");
-            emoji.put("anguilla", "🇦🇮");
-            emoji.put("antarctica", "🇦🇶");
-            emoji.put("antigua_&_barbuda", "🇦🇬");
-            emoji.put("aquarius", "♒");
-            emoji.put("argentina", "🇦🇷");
-            emoji.put("aries", "♈");
-            emoji.put("armenia", "🇦🇲");
-            emoji.put("aruba", "🇦🇼");
-            emoji.put("ascension_island", "🇦🇨");
-            emoji.put("australia", "🇦🇺");
-            emoji.put("austria", "🇦🇹");
-            emoji.put("azerbaijan", "🇦🇿");
-            emoji.put("back_arrow", "🔙");
-            emoji.put("b_button_(blood_type)", "🅱");
-            emoji.put("bahamas", "🇧🇸");
-            emoji.put("bahrain", "🇧🇭");
-            emoji.put("bangladesh", "🇧🇩");
-            emoji.put("barbados", "🇧🇧");
-            emoji.put("belarus", "🇧🇾");
-            emoji.put("belgium", "🇧🇪");
-            emoji.put("belize", "🇧🇿");
-            emoji.put("benin", "🇧🇯");
-            emoji.put("bermuda", "🇧🇲");
-            emoji.put("bhutan", "🇧🇹");
-            emoji.put("bolivia", "🇧🇴");
-            emoji.put("bosnia_&_herzegovina", "🇧🇦");
-            emoji.put("botswana", "🇧🇼");
-            emoji.put("bouvet_island", "🇧🇻");
-            emoji.put("brazil", "🇧🇷");
-            emoji.put("british_indian_ocean_territory", "🇮🇴");
-            emoji.put("british_virgin_islands", "🇻🇬");
-            emoji.put("brunei", "🇧🇳");
-            emoji.put("bulgaria", "🇧🇬");
-            emoji.put("burkina_faso", "🇧🇫");
-            emoji.put("burundi", "🇧🇮");
-            emoji.put("cl_button", "🆑");
-            emoji.put("cool_button", "🆒");
-            emoji.put("cambodia", "🇰🇭");
-            emoji.put("cameroon", "🇨🇲");
-            emoji.put("canada", "🇨🇦");
-            emoji.put("canary_islands", "🇮🇨");
-            emoji.put("cancer", "♋");
-            emoji.put("cape_verde", "🇨🇻");
-            emoji.put("capricorn", "♑");
-            emoji.put("caribbean_netherlands", "🇧🇶");
-            emoji.put("cayman_islands", "🇰🇾");
-            emoji.put("central_african_republic", "🇨🇫");
-            emoji.put("ceuta_&_melilla", "🇪🇦");
-            emoji.put("chad", "🇹🇩");
-            emoji.put("chile", "🇨🇱");
-            emoji.put("china", "🇨🇳");
-            emoji.put("christmas_island", "🇨🇽");
-            emoji.put("christmas_tree", "🎄");
-            emoji.put("clipperton_island", "🇨🇵");
-            emoji.put("cocos_(keeling)_islands", "🇨🇨");
-            emoji.put("colombia", "🇨🇴");
-            emoji.put("comoros", "🇰🇲");
-            emoji.put("congo_-_brazzaville", "🇨🇬");
-            emoji.put("congo_-_kinshasa", "🇨🇩");
-            emoji.put("cook_islands", "🇨🇰");
-            emoji.put("costa_rica", "🇨🇷");
-            emoji.put("croatia", "🇭🇷");
-            emoji.put("cuba", "🇨🇺");
-            emoji.put("curaçao", "🇨🇼");
-            emoji.put("cyprus", "🇨🇾");
-            emoji.put("czechia", "🇨🇿");
-            emoji.put("côte_d’ivoire", "🇨🇮");
-            emoji.put("denmark", "🇩🇰");
-            emoji.put("diego_garcia", "🇩🇬");
-            emoji.put("djibouti", "🇩🇯");
-            emoji.put("dominica", "🇩🇲");
-            emoji.put("dominican_republic", "🇩🇴");
-            emoji.put("end_arrow", "🔚");
-            emoji.put("ecuador", "🇪🇨");
-            emoji.put("egypt", "🇪🇬");
-            emoji.put("el_salvador", "🇸🇻");
-            emoji.put("england", "🏴\uE0067\uE0062\uE0065\uE006e\uE0067\uE007f");
-            emoji.put("equatorial_guinea", "🇬🇶");
-            emoji.put("eritrea", "🇪🇷");
-            emoji.put("estonia", "🇪🇪");
-            emoji.put("ethiopia", "🇪🇹");
-            emoji.put("european_union", "🇪🇺");
-            emoji.put("free_button", "🆓");
-            emoji.put("falkland_islands", "🇫🇰");
-            emoji.put("faroe_islands", "🇫🇴");
-            emoji.put("fiji", "🇫🇯");
-            emoji.put("finland", "🇫🇮");
-            emoji.put("france", "🇫🇷");
-            emoji.put("french_guiana", "🇬🇫");
-            emoji.put("french_polynesia", "🇵🇫");
-            emoji.put("french_southern_territories", "🇹🇫");
-            emoji.put("gabon", "🇬🇦");
-            emoji.put("gambia", "🇬🇲");
-            emoji.put("gemini", "♊");
-            emoji.put("georgia", "🇬🇪");
-            emoji.put("germany", "🇩🇪");
-            emoji.put("ghana", "🇬🇭");
-            emoji.put("gibraltar", "🇬🇮");
-            emoji.put("greece", "🇬🇷");
-            emoji.put("greenland", "🇬🇱");
-            emoji.put("grenada", "🇬🇩");
-            emoji.put("guadeloupe", "🇬🇵");
-            emoji.put("guam", "🇬🇺");
-            emoji.put("guatemala", "🇬🇹");
-            emoji.put("guernsey", "🇬🇬");
-            emoji.put("guinea", "🇬🇳");
-            emoji.put("guinea-bissau", "🇬🇼");
-            emoji.put("guyana", "🇬🇾");
-            emoji.put("haiti", "🇭🇹");
-            emoji.put("heard_&_mcdonald_islands", "🇭🇲");
-            emoji.put("honduras", "🇭🇳");
-            emoji.put("hong_kong_sar_china", "🇭🇰");
-            emoji.put("hungary", "🇭🇺");
-            emoji.put("id_button", "🆔");
-            emoji.put("iceland", "🇮🇸");
-            emoji.put("india", "🇮🇳");
-            emoji.put("indonesia", "🇮🇩");
-            emoji.put("iran", "🇮🇷");
-            emoji.put("iraq", "🇮🇶");
-            emoji.put("ireland", "🇮🇪");
-            emoji.put("isle_of_man", "🇮🇲");
-            emoji.put("israel", "🇮🇱");
-            emoji.put("italy", "🇮🇹");
-            emoji.put("jamaica", "🇯🇲");
-            emoji.put("japan", "🗾");
-            emoji.put("japanese_acceptable_button", "🉑");
-            emoji.put("japanese_application_button", "🈸");
-            emoji.put("japanese_bargain_button", "🉐");
-            emoji.put("japanese_castle", "🏯");
-            emoji.put("japanese_congratulations_button", "㊗");
-            emoji.put("japanese_discount_button", "🈹");
-            emoji.put("japanese_dolls", "🎎");
-            emoji.put("japanese_free_of_charge_button", "🈚");
-            emoji.put("japanese_here_button", "🈁");
-            emoji.put("japanese_monthly_amount_button", "🈷");
-            emoji.put("japanese_no_vacancy_button", "🈵");
-            emoji.put("japanese_not_free_of_charge_button", "🈶");
-            emoji.put("japanese_open_for_business_button", "🈺");
-            emoji.put("japanese_passing_grade_button", "🈴");
-            emoji.put("japanese_post_office", "🏣");
-            emoji.put("japanese_prohibited_button", "🈲");
-            emoji.put("japanese_reserved_button", "🈯");
-            emoji.put("japanese_secret_button", "㊙");
-            emoji.put("japanese_service_charge_button", "🈂");
-            emoji.put("japanese_symbol_for_beginner", "🔰");
-            emoji.put("japanese_vacancy_button", "🈳");
-            emoji.put("jersey", "🇯🇪");
-            emoji.put("jordan", "🇯🇴");
-            emoji.put("kazakhstan", "🇰🇿");
-            emoji.put("kenya", "🇰🇪");
-            emoji.put("kiribati", "🇰🇮");
-            emoji.put("kosovo", "🇽🇰");
-            emoji.put("kuwait", "🇰🇼");
-            emoji.put("kyrgyzstan", "🇰🇬");
-            emoji.put("laos", "🇱🇦");
-            emoji.put("latvia", "🇱🇻");
-            emoji.put("lebanon", "🇱🇧");
-            emoji.put("leo", "♌");
-            emoji.put("lesotho", "🇱🇸");
-            emoji.put("liberia", "🇱🇷");
-            emoji.put("libra", "♎");
-            emoji.put("libya", "🇱🇾");
-            emoji.put("liechtenstein", "🇱🇮");
-            emoji.put("lithuania", "🇱🇹");
-            emoji.put("luxembourg", "🇱🇺");
-            emoji.put("macau_sar_china", "🇲🇴");
-            emoji.put("macedonia", "🇲🇰");
-            emoji.put("madagascar", "🇲🇬");
-            emoji.put("malawi", "🇲🇼");
-            emoji.put("malaysia", "🇲🇾");
-            emoji.put("maldives", "🇲🇻");
-            emoji.put("mali", "🇲🇱");
-            emoji.put("malta", "🇲🇹");
-            emoji.put("marshall_islands", "🇲🇭");
-            emoji.put("martinique", "🇲🇶");
-            emoji.put("mauritania", "🇲🇷");
-            emoji.put("mauritius", "🇲🇺");
-            emoji.put("mayotte", "🇾🇹");
-            emoji.put("mexico", "🇲🇽");
-            emoji.put("micronesia", "🇫🇲");
-            emoji.put("moldova", "🇲🇩");
-            emoji.put("monaco", "🇲🇨");
-            emoji.put("mongolia", "🇲🇳");
-            emoji.put("montenegro", "🇲🇪");
-            emoji.put("montserrat", "🇲🇸");
-            emoji.put("morocco", "🇲🇦");
-            emoji.put("mozambique", "🇲🇿");
-            emoji.put("mrs._claus", "🤶");
-            emoji.put("mrs._claus_dark_skin_tone", "🤶🏿");
-            emoji.put("mrs._claus_light_skin_tone", "🤶🏻");
-            emoji.put("mrs._claus_medium-dark_skin_tone", "🤶🏾");
-            emoji.put("mrs._claus_medium-light_skin_tone", "🤶🏼");
-            emoji.put("mrs._claus_medium_skin_tone", "🤶🏽");
-            emoji.put("myanmar_(burma)", "🇲🇲");
-            emoji.put("new_button", "🆕");
-            emoji.put("ng_button", "🆖");
-            emoji.put("namibia", "🇳🇦");
-            emoji.put("nauru", "🇳🇷");
-            emoji.put("nepal", "🇳🇵");
-            emoji.put("netherlands", "🇳🇱");
-            emoji.put("new_caledonia", "🇳🇨");
-            emoji.put("new_zealand", "🇳🇿");
-            emoji.put("nicaragua", "🇳🇮");
-            emoji.put("niger", "🇳🇪");
-            emoji.put("nigeria", "🇳🇬");
-            emoji.put("niue", "🇳🇺");
-            emoji.put("norfolk_island", "🇳🇫");
-            emoji.put("north_korea", "🇰🇵");
-            emoji.put("northern_mariana_islands", "🇲🇵");
-            emoji.put("norway", "🇳🇴");
-            emoji.put("ok_button", "🆗");
-            emoji.put("ok_hand", "👌");
-            emoji.put("ok_hand_dark_skin_tone", "👌🏿");
-            emoji.put("ok_hand_light_skin_tone", "👌🏻");
-            emoji.put("ok_hand_medium-dark_skin_tone", "👌🏾");
-            emoji.put("ok_hand_medium-light_skin_tone", "👌🏼");
-            emoji.put("ok_hand_medium_skin_tone", "👌🏽");
-            emoji.put("on!_arrow", "🔛");
-            emoji.put("o_button_(blood_type)", "🅾");
-            emoji.put("oman", "🇴🇲");
-            emoji.put("ophiuchus", "⛎");
-            emoji.put("p_button", "🅿");
-            emoji.put("pakistan", "🇵🇰");
-            emoji.put("palau", "🇵🇼");
-            emoji.put("palestinian_territories", "🇵🇸");
-            emoji.put("panama", "🇵🇦");
-            emoji.put("papua_new_guinea", "🇵🇬");
-            emoji.put("paraguay", "🇵🇾");
-            emoji.put("peru", "🇵🇪");
-            emoji.put("philippines", "🇵🇭");
-            emoji.put("pisces", "♓");
-            emoji.put("pitcairn_islands", "🇵🇳");
-            emoji.put("poland", "🇵🇱");
-            emoji.put("portugal", "🇵🇹");
-            emoji.put("puerto_rico", "🇵🇷");
-            emoji.put("qatar", "🇶🇦");
-            emoji.put("romania", "🇷🇴");
-            emoji.put("russia", "🇷🇺");
-            emoji.put("rwanda", "🇷🇼");
-            emoji.put("réunion", "🇷🇪");
-            emoji.put("soon_arrow", "🔜");
-            emoji.put("sos_button", "🆘");
-            emoji.put("sagittarius", "♐");
-            emoji.put("samoa", "🇼🇸");
-            emoji.put("san_marino", "🇸🇲");
-            emoji.put("santa_claus", "🎅");
-            emoji.put("santa_claus_dark_skin_tone", "🎅🏿");
-            emoji.put("santa_claus_light_skin_tone", "🎅🏻");
-            emoji.put("santa_claus_medium-dark_skin_tone", "🎅🏾");
-            emoji.put("santa_claus_medium-light_skin_tone", "🎅🏼");
-            emoji.put("santa_claus_medium_skin_tone", "🎅🏽");
-            emoji.put("saudi_arabia", "🇸🇦");
-            emoji.put("scorpio", "♏");
-            emoji.put("scotland", "🏴\uE0067\uE0062\uE0073\uE0063\uE0074\uE007f");
-            emoji.put("senegal", "🇸🇳");
-            emoji.put("serbia", "🇷🇸");
-            emoji.put("seychelles", "🇸🇨");
-            emoji.put("sierra_leone", "🇸🇱");
-            emoji.put("singapore", "🇸🇬");
-            emoji.put("sint_maarten", "🇸🇽");
-            emoji.put("slovakia", "🇸🇰");
-            emoji.put("slovenia", "🇸🇮");
-            emoji.put("solomon_islands", "🇸🇧");
-            emoji.put("somalia", "🇸🇴");
-            emoji.put("south_africa", "🇿🇦");
-            emoji.put("south_georgia_&_south_sandwich_islands", "🇬🇸");
-            emoji.put("south_korea", "🇰🇷");
-            emoji.put("south_sudan", "🇸🇸");
-            emoji.put("spain", "🇪🇸");
-            emoji.put("sri_lanka", "🇱🇰");
-            emoji.put("st._barthélemy", "🇧🇱");
-            emoji.put("st._helena", "🇸🇭");
-            emoji.put("st._kitts_&_nevis", "🇰🇳");
-            emoji.put("st._lucia", "🇱🇨");
-            emoji.put("st._martin", "🇲🇫");
-            emoji.put("st._pierre_&_miquelon", "🇵🇲");
-            emoji.put("st._vincent_&_grenadines", "🇻🇨");
-            emoji.put("statue_of_liberty", "🗽");
-            emoji.put("sudan", "🇸🇩");
-            emoji.put("suriname", "🇸🇷");
-            emoji.put("svalbard_&_jan_mayen", "🇸🇯");
-            emoji.put("swaziland", "🇸🇿");
-            emoji.put("sweden", "🇸🇪");
-            emoji.put("switzerland", "🇨🇭");
-            emoji.put("syria", "🇸🇾");
-            emoji.put("são_tomé_&_príncipe", "🇸🇹");
-            emoji.put("t-rex", "🦖");
-            emoji.put("top_arrow", "🔝");
-            emoji.put("taiwan", "🇹🇼");
-            emoji.put("tajikistan", "🇹🇯");
-            emoji.put("tanzania", "🇹🇿");
-            emoji.put("taurus", "♉");
-            emoji.put("thailand", "🇹🇭");
-            emoji.put("timor-leste", "🇹🇱");
-            emoji.put("togo", "🇹🇬");
-            emoji.put("tokelau", "🇹🇰");
-            emoji.put("tokyo_tower", "🗼");
-            emoji.put("tonga", "🇹🇴");
-            emoji.put("trinidad_&_tobago", "🇹🇹");
-            emoji.put("tristan_da_cunha", "🇹🇦");
-            emoji.put("tunisia", "🇹🇳");
-            emoji.put("turkey", "🦃");
-            emoji.put("turkmenistan", "🇹🇲");
-            emoji.put("turks_&_caicos_islands", "🇹🇨");
-            emoji.put("tuvalu", "🇹🇻");
-            emoji.put("u.s._outlying_islands", "🇺🇲");
-            emoji.put("u.s._virgin_islands", "🇻🇮");
-            emoji.put("up!_button", "🆙");
-            emoji.put("uganda", "🇺🇬");
-            emoji.put("ukraine", "🇺🇦");
-            emoji.put("united_arab_emirates", "🇦🇪");
-            emoji.put("united_kingdom", "🇬🇧");
-            emoji.put("united_nations", "🇺🇳");
-            emoji.put("united_states", "🇺🇸");
-            emoji.put("uruguay", "🇺🇾");
-            emoji.put("uzbekistan", "🇺🇿");
-            emoji.put("vs_button", "🆚");
-            emoji.put("vanuatu", "🇻🇺");
-            emoji.put("vatican_city", "🇻🇦");
-            emoji.put("venezuela", "🇻🇪");
-            emoji.put("vietnam", "🇻🇳");
-            emoji.put("virgo", "♍");
-            emoji.put("wales", "🏴\uE0067\uE0062\uE0077\uE006c\uE0073\uE007f");
-            emoji.put("wallis_&_futuna", "🇼🇫");
-            emoji.put("western_sahara", "🇪🇭");
-            emoji.put("yemen", "🇾🇪");
-            emoji.put("zambia", "🇿🇲");
-            emoji.put("zimbabwe", "🇿🇼");
-            emoji.put("abacus", "🧮");
-            emoji.put("adhesive_bandage", "🩹");
-            emoji.put("admission_tickets", "🎟");
-            emoji.put("adult", "🧑");
-            emoji.put("adult_dark_skin_tone", "🧑🏿");
-            emoji.put("adult_light_skin_tone", "🧑🏻");
-            emoji.put("adult_medium-dark_skin_tone", "🧑🏾");
-            emoji.put("adult_medium-light_skin_tone", "🧑🏼");
-            emoji.put("adult_medium_skin_tone", "🧑🏽");
-            emoji.put("aerial_tramway", "🚡");
-            emoji.put("airplane", "✈");
-            emoji.put("airplane_arrival", "🛬");
-            emoji.put("airplane_departure", "🛫");
-            emoji.put("alarm_clock", "⏰");
-            emoji.put("alembic", "⚗");
-            emoji.put("alien", "👽");
-            emoji.put("alien_monster", "👾");
-            emoji.put("ambulance", "🚑");
-            emoji.put("american_football", "🏈");
-            emoji.put("amphora", "🏺");
-            emoji.put("anchor", "⚓");
-            emoji.put("anger_symbol", "💢");
-            emoji.put("angry_face", "😠");
-            emoji.put("angry_face_with_horns", "👿");
-            emoji.put("anguished_face", "😧");
-            emoji.put("ant", "🐜");
-            emoji.put("antenna_bars", "📶");
-            emoji.put("anxious_face_with_sweat", "😰");
-            emoji.put("articulated_lorry", "🚛");
-            emoji.put("artist_palette", "🎨");
-            emoji.put("astonished_face", "😲");
-            emoji.put("atom_symbol", "⚛");
-            emoji.put("auto_rickshaw", "🛺");
-            emoji.put("automobile", "🚗");
-            emoji.put("avocado", "🥑");
-            emoji.put("axe", "🪓");
-            emoji.put("baby", "👶");
-            emoji.put("baby_angel", "👼");
-            emoji.put("baby_angel_dark_skin_tone", "👼🏿");
-            emoji.put("baby_angel_light_skin_tone", "👼🏻");
-            emoji.put("baby_angel_medium-dark_skin_tone", "👼🏾");
-            emoji.put("baby_angel_medium-light_skin_tone", "👼🏼");
-            emoji.put("baby_angel_medium_skin_tone", "👼🏽");
-            emoji.put("baby_bottle", "🍼");
-            emoji.put("baby_chick", "🐤");
-            emoji.put("baby_dark_skin_tone", "👶🏿");
-            emoji.put("baby_light_skin_tone", "👶🏻");
-            emoji.put("baby_medium-dark_skin_tone", "👶🏾");
-            emoji.put("baby_medium-light_skin_tone", "👶🏼");
-            emoji.put("baby_medium_skin_tone", "👶🏽");
-            emoji.put("baby_symbol", "🚼");
-            emoji.put("backhand_index_pointing_down", "👇");
-            emoji.put("backhand_index_pointing_down_dark_skin_tone", "👇🏿");
-            emoji.put("backhand_index_pointing_down_light_skin_tone", "👇🏻");
-            emoji.put("backhand_index_pointing_down_medium-dark_skin_tone", "👇🏾");
-            emoji.put("backhand_index_pointing_down_medium-light_skin_tone", "👇🏼");
-            emoji.put("backhand_index_pointing_down_medium_skin_tone", "👇🏽");
-            emoji.put("backhand_index_pointing_left", "👈");
-            emoji.put("backhand_index_pointing_left_dark_skin_tone", "👈🏿");
-            emoji.put("backhand_index_pointing_left_light_skin_tone", "👈🏻");
-            emoji.put("backhand_index_pointing_left_medium-dark_skin_tone", "👈🏾");
-            emoji.put("backhand_index_pointing_left_medium-light_skin_tone", "👈🏼");
-            emoji.put("backhand_index_pointing_left_medium_skin_tone", "👈🏽");
-            emoji.put("backhand_index_pointing_right", "👉");
-            emoji.put("backhand_index_pointing_right_dark_skin_tone", "👉🏿");
-            emoji.put("backhand_index_pointing_right_light_skin_tone", "👉🏻");
-            emoji.put("backhand_index_pointing_right_medium-dark_skin_tone", "👉🏾");
-            emoji.put("backhand_index_pointing_right_medium-light_skin_tone", "👉🏼");
-            emoji.put("backhand_index_pointing_right_medium_skin_tone", "👉🏽");
-            emoji.put("backhand_index_pointing_up", "👆");
-            emoji.put("backhand_index_pointing_up_dark_skin_tone", "👆🏿");
-            emoji.put("backhand_index_pointing_up_light_skin_tone", "👆🏻");
-            emoji.put("backhand_index_pointing_up_medium-dark_skin_tone", "👆🏾");
-            emoji.put("backhand_index_pointing_up_medium-light_skin_tone", "👆🏼");
-            emoji.put("backhand_index_pointing_up_medium_skin_tone", "👆🏽");
-            emoji.put("bacon", "🥓");
-            emoji.put("badger", "🦡");
-            emoji.put("badminton", "🏸");
-            emoji.put("bagel", "🥯");
-            emoji.put("baggage_claim", "🛄");
-            emoji.put("baguette_bread", "🥖");
-            emoji.put("balance_scale", "⚖");
-            emoji.put("bald", "🦲");
-            emoji.put("bald_man", "👨\u200d🦲");
-            emoji.put("bald_woman", "👩\u200d🦲");
-            emoji.put("ballet_shoes", "🩰");
-            emoji.put("balloon", "🎈");
-            emoji.put("ballot_box_with_ballot", "🗳");
-            emoji.put("ballot_box_with_check", "☑");
-            emoji.put("banana", "🍌");
-            emoji.put("banjo", "🪕");
-            emoji.put("bank", "🏦");
-            emoji.put("bar_chart", "📊");
-            emoji.put("barber_pole", "💈");
-            emoji.put("baseball", "⚾");
-            emoji.put("basket", "🧺");
-            emoji.put("basketball", "🏀");
-            emoji.put("bat", "🦇");
-            emoji.put("bathtub", "🛁");
-            emoji.put("battery", "🔋");
-            emoji.put("beach_with_umbrella", "🏖");
-            emoji.put("beaming_face_with_smiling_eyes", "😁");
-            emoji.put("bear_face", "🐻");
-            emoji.put("bearded_person", "🧔");
-            emoji.put("bearded_person_dark_skin_tone", "🧔🏿");
-            emoji.put("bearded_person_light_skin_tone", "🧔🏻");
-            emoji.put("bearded_person_medium-dark_skin_tone", "🧔🏾");
-            emoji.put("bearded_person_medium-light_skin_tone", "🧔🏼");
-            emoji.put("bearded_person_medium_skin_tone", "🧔🏽");
-            emoji.put("beating_heart", "💓");
-            emoji.put("bed", "🛏");
-            emoji.put("beer_mug", "🍺");
-            emoji.put("bell", "🔔");
-            emoji.put("bell_with_slash", "🔕");
-            emoji.put("bellhop_bell", "🛎");
-            emoji.put("bento_box", "🍱");
-            emoji.put("beverage_box", "🧃");
-            emoji.put("bicycle", "🚲");
-            emoji.put("bikini", "👙");
-            emoji.put("billed_cap", "🧢");
-            emoji.put("biohazard", "☣");
-            emoji.put("bird", "🐦");
-            emoji.put("birthday_cake", "🎂");
-            emoji.put("black_circle", "⚫");
-            emoji.put("black_flag", "🏴");
-            emoji.put("black_heart", "🖤");
-            emoji.put("black_large_square", "⬛");
-            emoji.put("black_medium-small_square", "◾");
-            emoji.put("black_medium_square", "◼");
-            emoji.put("black_nib", "✒");
-            emoji.put("black_small_square", "▪");
-            emoji.put("black_square_button", "🔲");
-            emoji.put("blond-haired_man", "👱\u200d♂️");
-            emoji.put("blond-haired_man_dark_skin_tone", "👱🏿\u200d♂️");
-            emoji.put("blond-haired_man_light_skin_tone", "👱🏻\u200d♂️");
-            emoji.put("blond-haired_man_medium-dark_skin_tone", "👱🏾\u200d♂️");
-            emoji.put("blond-haired_man_medium-light_skin_tone", "👱🏼\u200d♂️");
-            emoji.put("blond-haired_man_medium_skin_tone", "👱🏽\u200d♂️");
-            emoji.put("blond-haired_person", "👱");
-            emoji.put("blond-haired_person_dark_skin_tone", "👱🏿");
-            emoji.put("blond-haired_person_light_skin_tone", "👱🏻");
-            emoji.put("blond-haired_person_medium-dark_skin_tone", "👱🏾");
-            emoji.put("blond-haired_person_medium-light_skin_tone", "👱🏼");
-            emoji.put("blond-haired_person_medium_skin_tone", "👱🏽");
-            emoji.put("blond-haired_woman", "👱\u200d♀️");
-            emoji.put("blond-haired_woman_dark_skin_tone", "👱🏿\u200d♀️");
-            emoji.put("blond-haired_woman_light_skin_tone", "👱🏻\u200d♀️");
-            emoji.put("blond-haired_woman_medium-dark_skin_tone", "👱🏾\u200d♀️");
-            emoji.put("blond-haired_woman_medium-light_skin_tone", "👱🏼\u200d♀️");
-            emoji.put("blond-haired_woman_medium_skin_tone", "👱🏽\u200d♀️");
-            emoji.put("blossom", "🌼");
-            emoji.put("blowfish", "🐡");
-            emoji.put("blue_book", "📘");
-            emoji.put("blue_circle", "🔵");
-            emoji.put("blue_heart", "💙");
-            emoji.put("blue_square", "🟦");
-            emoji.put("boar", "🐗");
-            emoji.put("bomb", "💣");
-            emoji.put("bone", "🦴");
-            emoji.put("bookmark", "🔖");
-            emoji.put("bookmark_tabs", "📑");
-            emoji.put("books", "📚");
-            emoji.put("bottle_with_popping_cork", "🍾");
-            emoji.put("bouquet", "💐");
-            emoji.put("bow_and_arrow", "🏹");
-            emoji.put("bowl_with_spoon", "🥣");
-            emoji.put("bowling", "🎳");
-            emoji.put("boxing_glove", "🥊");
-            emoji.put("boy", "👦");
-            emoji.put("boy_dark_skin_tone", "👦🏿");
-            emoji.put("boy_light_skin_tone", "👦🏻");
-            emoji.put("boy_medium-dark_skin_tone", "👦🏾");
-            emoji.put("boy_medium-light_skin_tone", "👦🏼");
-            emoji.put("boy_medium_skin_tone", "👦🏽");
-            emoji.put("brain", "🧠");
-            emoji.put("bread", "🍞");
-            emoji.put("breast-feeding", "🤱");
-            emoji.put("breast-feeding_dark_skin_tone", "🤱🏿");
-            emoji.put("breast-feeding_light_skin_tone", "🤱🏻");
-            emoji.put("breast-feeding_medium-dark_skin_tone", "🤱🏾");
-            emoji.put("breast-feeding_medium-light_skin_tone", "🤱🏼");
-            emoji.put("breast-feeding_medium_skin_tone", "🤱🏽");
-            emoji.put("brick", "🧱");
-            emoji.put("bride_with_veil", "👰");
-            emoji.put("bride_with_veil_dark_skin_tone", "👰🏿");
-            emoji.put("bride_with_veil_light_skin_tone", "👰🏻");
-            emoji.put("bride_with_veil_medium-dark_skin_tone", "👰🏾");
-            emoji.put("bride_with_veil_medium-light_skin_tone", "👰🏼");
-            emoji.put("bride_with_veil_medium_skin_tone", "👰🏽");
-            emoji.put("bridge_at_night", "🌉");
-            emoji.put("briefcase", "💼");
-            emoji.put("briefs", "🩲");
-            emoji.put("bright_button", "🔆");
-            emoji.put("broccoli", "🥦");
-            emoji.put("broken_heart", "💔");
-            emoji.put("broom", "🧹");
-            emoji.put("brown_circle", "🟤");
-            emoji.put("brown_heart", "🤎");
-            emoji.put("brown_square", "🟫");
-            emoji.put("bug", "🐛");
-            emoji.put("building_construction", "🏗");
-            emoji.put("bullet_train", "🚅");
-            emoji.put("burrito", "🌯");
-            emoji.put("bus", "🚌");
-            emoji.put("bus_stop", "🚏");
-            emoji.put("bust_in_silhouette", "👤");
-            emoji.put("busts_in_silhouette", "👥");
-            emoji.put("butter", "🧈");
-            emoji.put("butterfly", "🦋");
-            emoji.put("cactus", "🌵");
-            emoji.put("calendar", "📆");
-            emoji.put("call_me_hand", "🤙");
-            emoji.put("call_me_hand_dark_skin_tone", "🤙🏿");
-            emoji.put("call_me_hand_light_skin_tone", "🤙🏻");
-            emoji.put("call_me_hand_medium-dark_skin_tone", "🤙🏾");
-            emoji.put("call_me_hand_medium-light_skin_tone", "🤙🏼");
-            emoji.put("call_me_hand_medium_skin_tone", "🤙🏽");
-            emoji.put("camel", "🐫");
-            emoji.put("camera", "📷");
-            emoji.put("camera_with_flash", "📸");
-            emoji.put("camping", "🏕");
-            emoji.put("candle", "🕯");
-            emoji.put("candy", "🍬");
-            emoji.put("canned_food", "🥫");
-            emoji.put("canoe", "🛶");
-            emoji.put("card_file_box", "🗃");
-            emoji.put("card_index", "📇");
-            emoji.put("card_index_dividers", "🗂");
-            emoji.put("carousel_horse", "🎠");
-            emoji.put("carp_streamer", "🎏");
-            emoji.put("carrot", "🥕");
-            emoji.put("castle", "🏰");
-            emoji.put("cat", "🐱");
-            emoji.put("cat_face", "🐱");
-            emoji.put("cat_face_with_tears_of_joy", "😹");
-            emoji.put("cat_face_with_wry_smile", "😼");
-            emoji.put("chains", "⛓");
-            emoji.put("chair", "🪑");
-            emoji.put("chart_decreasing", "📉");
-            emoji.put("chart_increasing", "📈");
-            emoji.put("chart_increasing_with_yen", "💹");
-            emoji.put("cheese_wedge", "🧀");
-            emoji.put("chequered_flag", "🏁");
-            emoji.put("cherries", "🍒");
-            emoji.put("cherry_blossom", "🌸");
-            emoji.put("chess_pawn", "♟");
-            emoji.put("chestnut", "🌰");
-            emoji.put("chicken", "🐔");
-            emoji.put("child", "🧒");
-            emoji.put("child_dark_skin_tone", "🧒🏿");
-            emoji.put("child_light_skin_tone", "🧒🏻");
-            emoji.put("child_medium-dark_skin_tone", "🧒🏾");
-            emoji.put("child_medium-light_skin_tone", "🧒🏼");
-            emoji.put("child_medium_skin_tone", "🧒🏽");
-            emoji.put("children_crossing", "🚸");
-            emoji.put("chipmunk", "🐿");
-            emoji.put("chocolate_bar", "🍫");
-            emoji.put("chopsticks", "🥢");
-            emoji.put("church", "⛪");
-            emoji.put("cigarette", "🚬");
-            emoji.put("cinema", "🎦");
-            emoji.put("circled_m", "Ⓜ");
-            emoji.put("circus_tent", "🎪");
-            emoji.put("cityscape", "🏙");
-            emoji.put("cityscape_at_dusk", "🌆");
-            emoji.put("clamp", "🗜");
-            emoji.put("clapper_board", "🎬");
-            emoji.put("clapping_hands", "👏");
-            emoji.put("clapping_hands_dark_skin_tone", "👏🏿");
-            emoji.put("clapping_hands_light_skin_tone", "👏🏻");
-            emoji.put("clapping_hands_medium-dark_skin_tone", "👏🏾");
-            emoji.put("clapping_hands_medium-light_skin_tone", "👏🏼");
-            emoji.put("clapping_hands_medium_skin_tone", "👏🏽");
-            emoji.put("classical_building", "🏛");
-            emoji.put("clinking_beer_mugs", "🍻");
-            emoji.put("clinking_glasses", "🥂");
-            emoji.put("clipboard", "📋");
-            emoji.put("clockwise_vertical_arrows", "🔃");
-            emoji.put("closed_book", "📕");
-            emoji.put("closed_mailbox_with_lowered_flag", "📪");
-            emoji.put("closed_mailbox_with_raised_flag", "📫");
-            emoji.put("closed_umbrella", "🌂");
-            emoji.put("cloud", "☁");
-            emoji.put("cloud_with_lightning", "🌩");
-            emoji.put("cloud_with_lightning_and_rain", "⛈");
-            emoji.put("cloud_with_rain", "🌧");
-            emoji.put("cloud_with_snow", "🌨");
-            emoji.put("clown_face", "🤡");
-            emoji.put("club_suit", "♣");
-            emoji.put("clutch_bag", "👝");
-            emoji.put("coat", "🧥");
-            emoji.put("cocktail_glass", "🍸");
-            emoji.put("coconut", "🥥");
-            emoji.put("coffin", "⚰");
-            emoji.put("cold_face", "🥶");
-            emoji.put("collision", "💥");
-            emoji.put("comet", "☄");
-            emoji.put("compass", "🧭");
-            emoji.put("computer_disk", "💽");
-            emoji.put("computer_mouse", "🖱");
-            emoji.put("confetti_ball", "🎊");
-            emoji.put("confounded_face", "😖");
-            emoji.put("confused_face", "😕");
-            emoji.put("construction", "🚧");
-            emoji.put("construction_worker", "👷");
-            emoji.put("construction_worker_dark_skin_tone", "👷🏿");
-            emoji.put("construction_worker_light_skin_tone", "👷🏻");
-            emoji.put("construction_worker_medium-dark_skin_tone", "👷🏾");
-            emoji.put("construction_worker_medium-light_skin_tone", "👷🏼");
-            emoji.put("construction_worker_medium_skin_tone", "👷🏽");
-            emoji.put("control_knobs", "🎛");
-            emoji.put("convenience_store", "🏪");
-            emoji.put("cooked_rice", "🍚");
-            emoji.put("cookie", "🍪");
-            emoji.put("cooking", "🍳");
-            emoji.put("copyright", "©");
-            emoji.put("couch_and_lamp", "🛋");
-            emoji.put("counterclockwise_arrows_button", "🔄");
-            emoji.put("couple_with_heart", "💑");
-            emoji.put("couple_with_heart_man_man", "👨\u200d❤️\u200d👨");
-            emoji.put("couple_with_heart_woman_man", "👩\u200d❤️\u200d👨");
-            emoji.put("couple_with_heart_woman_woman", "👩\u200d❤️\u200d👩");
-            emoji.put("cow", "🐮");
-            emoji.put("cow_face", "🐮");
-            emoji.put("cowboy_hat_face", "🤠");
-            emoji.put("crab", "🦀");
-            emoji.put("crayon", "🖍");
-            emoji.put("credit_card", "💳");
-            emoji.put("crescent_moon", "🌙");
-            emoji.put("cricket", "🦗");
-            emoji.put("cricket_game", "🏏");
-            emoji.put("crocodile", "🐊");
-            emoji.put("croissant", "🥐");
-            emoji.put("cross_mark", "❌");
-            emoji.put("cross_mark_button", "❎");
-            emoji.put("crossed_fingers", "🤞");
-            emoji.put("crossed_fingers_dark_skin_tone", "🤞🏿");
-            emoji.put("crossed_fingers_light_skin_tone", "🤞🏻");
-            emoji.put("crossed_fingers_medium-dark_skin_tone", "🤞🏾");
-            emoji.put("crossed_fingers_medium-light_skin_tone", "🤞🏼");
-            emoji.put("crossed_fingers_medium_skin_tone", "🤞🏽");
-            emoji.put("crossed_flags", "🎌");
-            emoji.put("crossed_swords", "⚔");
-            emoji.put("crown", "👑");
-            emoji.put("crying_cat_face", "😿");
-            emoji.put("crying_face", "😢");
-            emoji.put("crystal_ball", "🔮");
-            emoji.put("cucumber", "🥒");
-            emoji.put("cupcake", "🧁");
-            emoji.put("cup_with_straw", "🥤");
-            emoji.put("curling_stone", "🥌");
-            emoji.put("curly_hair", "🦱");
-            emoji.put("curly-haired_man", "👨\u200d🦱");
-            emoji.put("curly-haired_woman", "👩\u200d🦱");
-            emoji.put("curly_loop", "➰");
-            emoji.put("currency_exchange", "💱");
-            emoji.put("curry_rice", "🍛");
-            emoji.put("custard", "🍮");
-            emoji.put("customs", "🛃");
-            emoji.put("cut_of_meat", "🥩");
-            emoji.put("cyclone", "🌀");
-            emoji.put("dagger", "🗡");
-            emoji.put("dango", "🍡");
-            emoji.put("dashing_away", "💨");
-            emoji.put("deaf_person", "🧏");
-            emoji.put("deciduous_tree", "🌳");
-            emoji.put("deer", "🦌");
-            emoji.put("delivery_truck", "🚚");
-            emoji.put("department_store", "🏬");
-            emoji.put("derelict_house", "🏚");
-            emoji.put("desert", "🏜");
-            emoji.put("desert_island", "🏝");
-            emoji.put("desktop_computer", "🖥");
-            emoji.put("detective", "🕵");
-            emoji.put("detective_dark_skin_tone", "🕵🏿");
-            emoji.put("detective_light_skin_tone", "🕵🏻");
-            emoji.put("detective_medium-dark_skin_tone", "🕵🏾");
-            emoji.put("detective_medium-light_skin_tone", "🕵🏼");
-            emoji.put("detective_medium_skin_tone", "🕵🏽");
-            emoji.put("diamond_suit", "♦");
-            emoji.put("diamond_with_a_dot", "💠");
-            emoji.put("dim_button", "🔅");
-            emoji.put("direct_hit", "🎯");
-            emoji.put("disappointed_face", "😞");
-            emoji.put("diving_mask", "🤿");
-            emoji.put("diya_lamp", "🪔");
-            emoji.put("dizzy", "💫");
-            emoji.put("dizzy_face", "😵");
-            emoji.put("dna", "🧬");
-            emoji.put("dog", "🐶");
-            emoji.put("dog_face", "🐶");
-            emoji.put("dollar_banknote", "💵");
-            emoji.put("dolphin", "🐬");
-            emoji.put("door", "🚪");
-            emoji.put("dotted_six-pointed_star", "🔯");
-            emoji.put("double_curly_loop", "➿");
-            emoji.put("double_exclamation_mark", "‼");
-            emoji.put("doughnut", "🍩");
-            emoji.put("dove", "🕊");
-            emoji.put("down-left_arrow", "↙");
-            emoji.put("down-right_arrow", "↘");
-            emoji.put("down_arrow", "⬇");
-            emoji.put("downcast_face_with_sweat", "😓");
-            emoji.put("downwards_button", "🔽");
-            emoji.put("dragon", "🐉");
-            emoji.put("dragon_face", "🐲");
-            emoji.put("dress", "👗");
-            emoji.put("drooling_face", "🤤");
-            emoji.put("drop_of_blood", "🩸");
-            emoji.put("droplet", "💧");
-            emoji.put("drum", "🥁");
-            emoji.put("duck", "🦆");
-            emoji.put("dumpling", "🥟");
-            emoji.put("dvd", "📀");
-            emoji.put("e-mail", "📧");
-            emoji.put("eagle", "🦅");
-            emoji.put("ear", "👂");
-            emoji.put("ear_dark_skin_tone", "👂🏿");
-            emoji.put("ear_light_skin_tone", "👂🏻");
-            emoji.put("ear_medium-dark_skin_tone", "👂🏾");
-            emoji.put("ear_medium-light_skin_tone", "👂🏼");
-            emoji.put("ear_medium_skin_tone", "👂🏽");
-            emoji.put("ear_of_corn", "🌽");
-            emoji.put("ear_with_hearing_aid", "🦻");
-            emoji.put("egg", "🍳");
-            emoji.put("eggplant", "🍆");
-            emoji.put("eight-pointed_star", "✴");
-            emoji.put("eight-spoked_asterisk", "✳");
-            emoji.put("eight-thirty", "🕣");
-            emoji.put("eight_o’clock", "🕗");
-            emoji.put("eject_button", "⏏");
-            emoji.put("electric_plug", "🔌");
-            emoji.put("elephant", "🐘");
-            emoji.put("eleven-thirty", "🕦");
-            emoji.put("eleven_o’clock", "🕚");
-            emoji.put("elf", "🧝");
-            emoji.put("elf_dark_skin_tone", "🧝🏿");
-            emoji.put("elf_light_skin_tone", "🧝🏻");
-            emoji.put("elf_medium-dark_skin_tone", "🧝🏾");
-            emoji.put("elf_medium-light_skin_tone", "🧝🏼");
-            emoji.put("elf_medium_skin_tone", "🧝🏽");
-            emoji.put("envelope", "✉");
-            emoji.put("envelope_with_arrow", "📩");
-            emoji.put("euro_banknote", "💶");
-            emoji.put("evergreen_tree", "🌲");
-            emoji.put("ewe", "🐑");
-            emoji.put("exclamation_mark", "❗");
-            emoji.put("exclamation_question_mark", "⁉");
-            emoji.put("exploding_head", "🤯");
-            emoji.put("expressionless_face", "😑");
-            emoji.put("eye", "👁");
-            emoji.put("eye_in_speech_bubble", "👁️\u200d🗨️");
-            emoji.put("eyes", "👀");
-            emoji.put("face_blowing_a_kiss", "😘");
-            emoji.put("face_savoring_food", "😋");
-            emoji.put("face_screaming_in_fear", "😱");
-            emoji.put("face_vomiting", "🤮");
-            emoji.put("face_with_hand_over_mouth", "🤭");
-            emoji.put("face_with_head-bandage", "🤕");
-            emoji.put("face_with_medical_mask", "😷");
-            emoji.put("face_with_monocle", "🧐");
-            emoji.put("face_with_open_mouth", "😮");
-            emoji.put("face_with_raised_eyebrow", "🤨");
-            emoji.put("face_with_rolling_eyes", "🙄");
-            emoji.put("face_with_steam_from_nose", "😤");
-            emoji.put("face_with_symbols_on_mouth", "🤬");
-            emoji.put("face_with_tears_of_joy", "😂");
-            emoji.put("face_with_thermometer", "🤒");
-            emoji.put("face_with_tongue", "😛");
-            emoji.put("face_without_mouth", "😶");
-            emoji.put("factory", "🏭");
-            emoji.put("fairy", "🧚");
-            emoji.put("fairy_dark_skin_tone", "🧚🏿");
-            emoji.put("fairy_light_skin_tone", "🧚🏻");
-            emoji.put("fairy_medium-dark_skin_tone", "🧚🏾");
-            emoji.put("fairy_medium-light_skin_tone", "🧚🏼");
-            emoji.put("fairy_medium_skin_tone", "🧚🏽");
-            emoji.put("falafel", "🧆");
-            emoji.put("fallen_leaf", "🍂");
-            emoji.put("family", "👪");
-            emoji.put("family_man_boy", "👨\u200d👦");
-            emoji.put("family_man_boy_boy", "👨\u200d👦\u200d👦");
-            emoji.put("family_man_girl", "👨\u200d👧");
-            emoji.put("family_man_girl_boy", "👨\u200d👧\u200d👦");
-            emoji.put("family_man_girl_girl", "👨\u200d👧\u200d👧");
-            emoji.put("family_man_man_boy", "👨\u200d👨\u200d👦");
-            emoji.put("family_man_man_boy_boy", "👨\u200d👨\u200d👦\u200d👦");
-            emoji.put("family_man_man_girl", "👨\u200d👨\u200d👧");
-            emoji.put("family_man_man_girl_boy", "👨\u200d👨\u200d👧\u200d👦");
-            emoji.put("family_man_man_girl_girl", "👨\u200d👨\u200d👧\u200d👧");
-            emoji.put("family_man_woman_boy", "👨\u200d👩\u200d👦");
-            emoji.put("family_man_woman_boy_boy", "👨\u200d👩\u200d👦\u200d👦");
-            emoji.put("family_man_woman_girl", "👨\u200d👩\u200d👧");
-            emoji.put("family_man_woman_girl_boy", "👨\u200d👩\u200d👧\u200d👦");
-            emoji.put("family_man_woman_girl_girl", "👨\u200d👩\u200d👧\u200d👧");
-            emoji.put("family_woman_boy", "👩\u200d👦");
-            emoji.put("family_woman_boy_boy", "👩\u200d👦\u200d👦");
-            emoji.put("family_woman_girl", "👩\u200d👧");
-            emoji.put("family_woman_girl_boy", "👩\u200d👧\u200d👦");
-            emoji.put("family_woman_girl_girl", "👩\u200d👧\u200d👧");
-            emoji.put("family_woman_woman_boy", "👩\u200d👩\u200d👦");
-            emoji.put("family_woman_woman_boy_boy", "👩\u200d👩\u200d👦\u200d👦");
-            emoji.put("family_woman_woman_girl", "👩\u200d👩\u200d👧");
-            emoji.put("family_woman_woman_girl_boy", "👩\u200d👩\u200d👧\u200d👦");
-            emoji.put("family_woman_woman_girl_girl", "👩\u200d👩\u200d👧\u200d👧");
-            emoji.put("fast-forward_button", "⏩");
-            emoji.put("fast_down_button", "⏬");
-            emoji.put("fast_reverse_button", "⏪");
-            emoji.put("fast_up_button", "⏫");
-            emoji.put("fax_machine", "📠");
-            emoji.put("fearful_face", "😨");
-            emoji.put("female_sign", "♀");
-            emoji.put("ferris_wheel", "🎡");
-            emoji.put("ferry", "⛴");
-            emoji.put("field_hockey", "🏑");
-            emoji.put("file_cabinet", "🗄");
-            emoji.put("file_folder", "📁");
-            emoji.put("film_frames", "🎞");
-            emoji.put("film_projector", "📽");
-            emoji.put("fire", "🔥");
-            emoji.put("fire_extinguisher", "🧯");
-            emoji.put("firecracker", "🧨");
-            emoji.put("fire_engine", "🚒");
-            emoji.put("fireworks", "🎆");
-            emoji.put("first_quarter_moon", "🌓");
-            emoji.put("first_quarter_moon_face", "🌛");
-            emoji.put("fish", "🐟");
-            emoji.put("fish_cake_with_swirl", "🍥");
-            emoji.put("fishing_pole", "🎣");
-            emoji.put("five-thirty", "🕠");
-            emoji.put("five_o’clock", "🕔");
-            emoji.put("flag_in_hole", "⛳");
-            emoji.put("flamingo", "🦩");
-            emoji.put("flashlight", "🔦");
-            emoji.put("flat_shoe", "🥿");
-            emoji.put("fleur-de-lis", "⚜");
-            emoji.put("flexed_biceps", "💪");
-            emoji.put("flexed_biceps_dark_skin_tone", "💪🏿");
-            emoji.put("flexed_biceps_light_skin_tone", "💪🏻");
-            emoji.put("flexed_biceps_medium-dark_skin_tone", "💪🏾");
-            emoji.put("flexed_biceps_medium-light_skin_tone", "💪🏼");
-            emoji.put("flexed_biceps_medium_skin_tone", "💪🏽");
-            emoji.put("floppy_disk", "💾");
-            emoji.put("flower_playing_cards", "🎴");
-            emoji.put("flushed_face", "😳");
-            emoji.put("flying_disc", "🥏");
-            emoji.put("flying_saucer", "🛸");
-            emoji.put("fog", "🌫");
-            emoji.put("foggy", "🌁");
-            emoji.put("folded_hands", "🙏");
-            emoji.put("folded_hands_dark_skin_tone", "🙏🏿");
-            emoji.put("folded_hands_light_skin_tone", "🙏🏻");
-            emoji.put("folded_hands_medium-dark_skin_tone", "🙏🏾");
-            emoji.put("folded_hands_medium-light_skin_tone", "🙏🏼");
-            emoji.put("folded_hands_medium_skin_tone", "🙏🏽");
-            emoji.put("foot", "🦶");
-            emoji.put("footprints", "👣");
-            emoji.put("fork_and_knife", "🍴");
-            emoji.put("fork_and_knife_with_plate", "🍽");
-            emoji.put("fortune_cookie", "🥠");
-            emoji.put("fountain", "⛲");
-            emoji.put("fountain_pen", "🖋");
-            emoji.put("four-thirty", "🕟");
-            emoji.put("four_leaf_clover", "🍀");
-            emoji.put("four_o’clock", "🕓");
-            emoji.put("fox_face", "🦊");
-            emoji.put("framed_picture", "🖼");
-            emoji.put("french_fries", "🍟");
-            emoji.put("fried_shrimp", "🍤");
-            emoji.put("frog_face", "🐸");
-            emoji.put("front-facing_baby_chick", "🐥");
-            emoji.put("frowning_face", "☹");
-            emoji.put("frowning_face_with_open_mouth", "😦");
-            emoji.put("fuel_pump", "⛽");
-            emoji.put("full_moon", "🌕");
-            emoji.put("full_moon_face", "🌝");
-            emoji.put("funeral_urn", "⚱");
-            emoji.put("game_die", "🎲");
-            emoji.put("garlic", "🧄");
-            emoji.put("gear", "⚙");
-            emoji.put("gem_stone", "💎");
-            emoji.put("genie", "🧞");
-            emoji.put("ghost", "👻");
-            emoji.put("giraffe", "🦒");
-            emoji.put("girl", "👧");
-            emoji.put("girl_dark_skin_tone", "👧🏿");
-            emoji.put("girl_light_skin_tone", "👧🏻");
-            emoji.put("girl_medium-dark_skin_tone", "👧🏾");
-            emoji.put("girl_medium-light_skin_tone", "👧🏼");
-            emoji.put("girl_medium_skin_tone", "👧🏽");
-            emoji.put("glass_of_milk", "🥛");
-            emoji.put("glasses", "👓");
-            emoji.put("globe_showing_americas", "🌎");
-            emoji.put("globe_showing_asia-australia", "🌏");
-            emoji.put("globe_showing_europe-africa", "🌍");
-            emoji.put("globe_with_meridians", "🌐");
-            emoji.put("gloves", "🧤");
-            emoji.put("glowing_star", "🌟");
-            emoji.put("goal_net", "🥅");
-            emoji.put("goat", "🐐");
-            emoji.put("goblin", "👺");
-            emoji.put("goggles", "🥽");
-            emoji.put("gorilla", "🦍");
-            emoji.put("graduation_cap", "🎓");
-            emoji.put("grapes", "🍇");
-            emoji.put("green_apple", "🍏");
-            emoji.put("green_book", "📗");
-            emoji.put("green_circle", "🟢");
-            emoji.put("green_heart", "💚");
-            emoji.put("green_salad", "🥗");
-            emoji.put("green_square", "🟩");
-            emoji.put("grimacing_face", "😬");
-            emoji.put("grinning_cat_face", "😺");
-            emoji.put("grinning_cat_face_with_smiling_eyes", "😸");
-            emoji.put("grinning_face", "😀");
-            emoji.put("grinning_face_with_big_eyes", "😃");
-            emoji.put("grinning_face_with_smiling_eyes", "😄");
-            emoji.put("grinning_face_with_sweat", "😅");
-            emoji.put("grinning_squinting_face", "😆");
-            emoji.put("growing_heart", "💗");
-            emoji.put("guard", "💂");
-            emoji.put("guard_dark_skin_tone", "💂🏿");
-            emoji.put("guard_light_skin_tone", "💂🏻");
-            emoji.put("guard_medium-dark_skin_tone", "💂🏾");
-            emoji.put("guard_medium-light_skin_tone", "💂🏼");
-            emoji.put("guard_medium_skin_tone", "💂🏽");
-            emoji.put("guide_dog", "🦮");
-            emoji.put("guitar", "🎸");
-            emoji.put("hamburger", "🍔");
-            emoji.put("hammer", "🔨");
-            emoji.put("hammer_and_pick", "⚒");
-            emoji.put("hammer_and_wrench", "🛠");
-            emoji.put("hamster_face", "🐹");
-            emoji.put("hand_with_fingers_splayed", "🖐");
-            emoji.put("hand_with_fingers_splayed_dark_skin_tone", "🖐🏿");
-            emoji.put("hand_with_fingers_splayed_light_skin_tone", "🖐🏻");
-            emoji.put("hand_with_fingers_splayed_medium-dark_skin_tone", "🖐🏾");
-            emoji.put("hand_with_fingers_splayed_medium-light_skin_tone", "🖐🏼");
-            emoji.put("hand_with_fingers_splayed_medium_skin_tone", "🖐🏽");
-            emoji.put("handbag", "👜");
-            emoji.put("handshake", "🤝");
-            emoji.put("hatching_chick", "🐣");
-            emoji.put("headphone", "🎧");
-            emoji.put("hear-no-evil_monkey", "🙉");
-            emoji.put("heart_decoration", "💟");
-            emoji.put("heart_suit", "♥");
-            emoji.put("heart_with_arrow", "💘");
-            emoji.put("heart_with_ribbon", "💝");
-            emoji.put("heavy_check_mark", "✔");
-            emoji.put("heavy_division_sign", "➗");
-            emoji.put("heavy_dollar_sign", "💲");
-            emoji.put("heavy_heart_exclamation", "❣");
-            emoji.put("heavy_large_circle", "⭕");
-            emoji.put("heavy_minus_sign", "➖");
-            emoji.put("heavy_multiplication_x", "✖");
-            emoji.put("heavy_plus_sign", "➕");
-            emoji.put("hedgehog", "🦔");
-            emoji.put("helicopter", "🚁");
-            emoji.put("herb", "🌿");
-            emoji.put("hibiscus", "🌺");
-            emoji.put("high-heeled_shoe", "👠");
-            emoji.put("high-speed_train", "🚄");
-            emoji.put("high_voltage", "⚡");
-            emoji.put("hiking_boot", "🥾");
-            emoji.put("hindu_temple", "🛕");
-            emoji.put("hippopotamus", "🦛");
-            emoji.put("hole", "🕳");
-            emoji.put("honey_pot", "🍯");
-            emoji.put("honeybee", "🐝");
-            emoji.put("horizontal_traffic_light", "🚥");
-            emoji.put("horse", "🐴");
-            emoji.put("horse_face", "🐴");
-            emoji.put("horse_racing", "🏇");
-            emoji.put("horse_racing_dark_skin_tone", "🏇🏿");
-            emoji.put("horse_racing_light_skin_tone", "🏇🏻");
-            emoji.put("horse_racing_medium-dark_skin_tone", "🏇🏾");
-            emoji.put("horse_racing_medium-light_skin_tone", "🏇🏼");
-            emoji.put("horse_racing_medium_skin_tone", "🏇🏽");
-            emoji.put("hospital", "🏥");
-            emoji.put("hot_beverage", "☕");
-            emoji.put("hot_dog", "🌭");
-            emoji.put("hot_face", "🥵");
-            emoji.put("hot_pepper", "🌶");
-            emoji.put("hot_springs", "♨");
-            emoji.put("hotel", "🏨");
-            emoji.put("hourglass_done", "⌛");
-            emoji.put("hourglass_not_done", "⏳");
-            emoji.put("house", "🏠");
-            emoji.put("house_with_garden", "🏡");
-            emoji.put("houses", "🏘");
-            emoji.put("hugging_face", "🤗");
-            emoji.put("hundred_points", "💯");
-            emoji.put("hushed_face", "😯");
-            emoji.put("ice", "🧊");
-            emoji.put("ice_cream", "🍨");
-            emoji.put("ice_hockey", "🏒");
-            emoji.put("ice_skate", "⛸");
-            emoji.put("inbox_tray", "📥");
-            emoji.put("incoming_envelope", "📨");
-            emoji.put("index_pointing_up", "☝");
-            emoji.put("index_pointing_up_dark_skin_tone", "☝🏿");
-            emoji.put("index_pointing_up_light_skin_tone", "☝🏻");
-            emoji.put("index_pointing_up_medium-dark_skin_tone", "☝🏾");
-            emoji.put("index_pointing_up_medium-light_skin_tone", "☝🏼");
-            emoji.put("index_pointing_up_medium_skin_tone", "☝🏽");
-            emoji.put("infinity", "♾");
-            emoji.put("information", "ℹ");
-            emoji.put("input_latin_letters", "🔤");
-            emoji.put("input_latin_lowercase", "🔡");
-            emoji.put("input_latin_uppercase", "🔠");
-            emoji.put("input_numbers", "🔢");
-            emoji.put("input_symbols", "🔣");
-            emoji.put("jack-o-lantern", "🎃");
-            emoji.put("jeans", "👖");
-            emoji.put("jigsaw", "🧩");
-            emoji.put("joker", "🃏");
-            emoji.put("joystick", "🕹");
-            emoji.put("kaaba", "🕋");
-            emoji.put("kangaroo", "🦘");
-            emoji.put("key", "🔑");
-            emoji.put("keyboard", "⌨");
-            emoji.put("keycap_#", "#️⃣");
-            emoji.put("keycap_*", "*️⃣");
-            emoji.put("keycap_0", "0️⃣");
-            emoji.put("keycap_1", "1️⃣");
-            emoji.put("keycap_10", "🔟");
-            emoji.put("keycap_2", "2️⃣");
-            emoji.put("keycap_3", "3️⃣");
-            emoji.put("keycap_4", "4️⃣");
-            emoji.put("keycap_5", "5️⃣");
-            emoji.put("keycap_6", "6️⃣");
-            emoji.put("keycap_7", "7️⃣");
-            emoji.put("keycap_8", "8️⃣");
-            emoji.put("keycap_9", "9️⃣");
-            emoji.put("kick_scooter", "🛴");
-            emoji.put("kimono", "👘");
-            emoji.put("kiss", "💋");
-            emoji.put("kiss_man_man", "👨\u200d❤️\u200d💋\u200d👨");
-            emoji.put("kiss_mark", "💋");
-            emoji.put("kiss_woman_man", "👩\u200d❤️\u200d💋\u200d👨");
-            emoji.put("kiss_woman_woman", "👩\u200d❤️\u200d💋\u200d👩");
-            emoji.put("kissing_cat_face", "😽");
-            emoji.put("kissing_face", "😗");
-            emoji.put("kissing_face_with_closed_eyes", "😚");
-            emoji.put("kissing_face_with_smiling_eyes", "😙");
-            emoji.put("kitchen_knife", "🔪");
-            emoji.put("kite", "🪁");
-            emoji.put("kiwi_fruit", "🥝");
-            emoji.put("koala", "🐨");
-            emoji.put("lab_coat", "🥼");
-            emoji.put("label", "🏷");
-            emoji.put("lacrosse", "🥍");
-            emoji.put("lady_beetle", "🐞");
-            emoji.put("laptop_computer", "💻");
-            emoji.put("large_blue_diamond", "🔷");
-            emoji.put("large_orange_diamond", "🔶");
-            emoji.put("last_quarter_moon", "🌗");
-            emoji.put("last_quarter_moon_face", "🌜");
-            emoji.put("last_track_button", "⏮");
-            emoji.put("latin_cross", "✝");
-            emoji.put("leaf_fluttering_in_wind", "🍃");
-            emoji.put("leafy_green", "🥬");
-            emoji.put("ledger", "📒");
-            emoji.put("left-facing_fist", "🤛");
-            emoji.put("left-facing_fist_dark_skin_tone", "🤛🏿");
-            emoji.put("left-facing_fist_light_skin_tone", "🤛🏻");
-            emoji.put("left-facing_fist_medium-dark_skin_tone", "🤛🏾");
-            emoji.put("left-facing_fist_medium-light_skin_tone", "🤛🏼");
-            emoji.put("left-facing_fist_medium_skin_tone", "🤛🏽");
-            emoji.put("left-right_arrow", "↔");
-            emoji.put("left_arrow", "⬅");
-            emoji.put("left_arrow_curving_right", "↪");
-            emoji.put("left_luggage", "🛅");
-            emoji.put("left_speech_bubble", "🗨");
-            emoji.put("leg", "🦵");
-            emoji.put("lemon", "🍋");
-            emoji.put("leopard", "🐆");
-            emoji.put("level_slider", "🎚");
-            emoji.put("light_bulb", "💡");
-            emoji.put("light_rail", "🚈");
-            emoji.put("link", "🔗");
-            emoji.put("linked_paperclips", "🖇");
-            emoji.put("lion_face", "🦁");
-            emoji.put("lipstick", "💄");
-            emoji.put("litter_in_bin_sign", "🚮");
-            emoji.put("lizard", "🦎");
-            emoji.put("llama", "🦙");
-            emoji.put("lobster", "🦞");
-            emoji.put("locked", "🔒");
-            emoji.put("locked_with_key", "🔐");
-            emoji.put("locked_with_pen", "🔏");
-            emoji.put("locomotive", "🚂");
-            emoji.put("lollipop", "🍭");
-            emoji.put("lotion_bottle", "🧴");
-            emoji.put("loudly_crying_face", "😭");
-            emoji.put("loudspeaker", "📢");
-            emoji.put("love-you_gesture", "🤟");
-            emoji.put("love-you_gesture_dark_skin_tone", "🤟🏿");
-            emoji.put("love-you_gesture_light_skin_tone", "🤟🏻");
-            emoji.put("love-you_gesture_medium-dark_skin_tone", "🤟🏾");
-            emoji.put("love-you_gesture_medium-light_skin_tone", "🤟🏼");
-            emoji.put("love-you_gesture_medium_skin_tone", "🤟🏽");
-            emoji.put("love_hotel", "🏩");
-            emoji.put("love_letter", "💌");
-            emoji.put("luggage", "🧳");
-            emoji.put("lying_face", "🤥");
-            emoji.put("mage", "🧙");
-            emoji.put("mage_dark_skin_tone", "🧙🏿");
-            emoji.put("mage_light_skin_tone", "🧙🏻");
-            emoji.put("mage_medium-dark_skin_tone", "🧙🏾");
-            emoji.put("mage_medium-light_skin_tone", "🧙🏼");
-            emoji.put("mage_medium_skin_tone", "🧙🏽");
-            emoji.put("magnet", "🧲");
-            emoji.put("magnifying_glass_tilted_left", "🔍");
-            emoji.put("magnifying_glass_tilted_right", "🔎");
-            emoji.put("mahjong_red_dragon", "🀄");
-            emoji.put("male_sign", "♂");
-            emoji.put("man", "👨");
-            emoji.put("man_and_woman_holding_hands", "👫");
-            emoji.put("man_artist", "👨\u200d🎨");
-            emoji.put("man_artist_dark_skin_tone", "👨🏿\u200d🎨");
-            emoji.put("man_artist_light_skin_tone", "👨🏻\u200d🎨");
-            emoji.put("man_artist_medium-dark_skin_tone", "👨🏾\u200d🎨");
-            emoji.put("man_artist_medium-light_skin_tone", "👨🏼\u200d🎨");
-            emoji.put("man_artist_medium_skin_tone", "👨🏽\u200d🎨");
-            emoji.put("man_astronaut", "👨\u200d🚀");
-            emoji.put("man_astronaut_dark_skin_tone", "👨🏿\u200d🚀");
-            emoji.put("man_astronaut_light_skin_tone", "👨🏻\u200d🚀");
-            emoji.put("man_astronaut_medium-dark_skin_tone", "👨🏾\u200d🚀");
-            emoji.put("man_astronaut_medium-light_skin_tone", "👨🏼\u200d🚀");
-            emoji.put("man_astronaut_medium_skin_tone", "👨🏽\u200d🚀");
-            emoji.put("man_biking", "🚴\u200d♂️");
-            emoji.put("man_biking_dark_skin_tone", "🚴🏿\u200d♂️");
-            emoji.put("man_biking_light_skin_tone", "🚴🏻\u200d♂️");
-            emoji.put("man_biking_medium-dark_skin_tone", "🚴🏾\u200d♂️");
-            emoji.put("man_biking_medium-light_skin_tone", "🚴🏼\u200d♂️");
-            emoji.put("man_biking_medium_skin_tone", "🚴🏽\u200d♂️");
-            emoji.put("man_bouncing_ball", "⛹️\u200d♂️");
-            emoji.put("man_bouncing_ball_dark_skin_tone", "⛹🏿\u200d♂️");
-            emoji.put("man_bouncing_ball_light_skin_tone", "⛹🏻\u200d♂️");
-            emoji.put("man_bouncing_ball_medium-dark_skin_tone", "⛹🏾\u200d♂️");
-            emoji.put("man_bouncing_ball_medium-light_skin_tone", "⛹🏼\u200d♂️");
-            emoji.put("man_bouncing_ball_medium_skin_tone", "⛹🏽\u200d♂️");
-            emoji.put("man_bowing", "🙇\u200d♂️");
-            emoji.put("man_bowing_dark_skin_tone", "🙇🏿\u200d♂️");
-            emoji.put("man_bowing_light_skin_tone", "🙇🏻\u200d♂️");
-            emoji.put("man_bowing_medium-dark_skin_tone", "🙇🏾\u200d♂️");
-            emoji.put("man_bowing_medium-light_skin_tone", "🙇🏼\u200d♂️");
-            emoji.put("man_bowing_medium_skin_tone", "🙇🏽\u200d♂️");
-            emoji.put("man_cartwheeling", "🤸\u200d♂️");
-            emoji.put("man_cartwheeling_dark_skin_tone", "🤸🏿\u200d♂️");
-            emoji.put("man_cartwheeling_light_skin_tone", "🤸🏻\u200d♂️");
-            emoji.put("man_cartwheeling_medium-dark_skin_tone", "🤸🏾\u200d♂️");
-            emoji.put("man_cartwheeling_medium-light_skin_tone", "🤸🏼\u200d♂️");
-            emoji.put("man_cartwheeling_medium_skin_tone", "🤸🏽\u200d♂️");
-            emoji.put("man_climbing", "🧗\u200d♂️");
-            emoji.put("man_climbing_dark_skin_tone", "🧗🏿\u200d♂️");
-            emoji.put("man_climbing_light_skin_tone", "🧗🏻\u200d♂️");
-            emoji.put("man_climbing_medium-dark_skin_tone", "🧗🏾\u200d♂️");
-            emoji.put("man_climbing_medium-light_skin_tone", "🧗🏼\u200d♂️");
-            emoji.put("man_climbing_medium_skin_tone", "🧗🏽\u200d♂️");
-            emoji.put("man_construction_worker", "👷\u200d♂️");
-            emoji.put("man_construction_worker_dark_skin_tone", "👷🏿\u200d♂️");
-            emoji.put("man_construction_worker_light_skin_tone", "👷🏻\u200d♂️");
-            emoji.put("man_construction_worker_medium-dark_skin_tone", "👷🏾\u200d♂️");
-            emoji.put("man_construction_worker_medium-light_skin_tone", "👷🏼\u200d♂️");
-            emoji.put("man_construction_worker_medium_skin_tone", "👷🏽\u200d♂️");
-            emoji.put("man_cook", "👨\u200d🍳");
-            emoji.put("man_cook_dark_skin_tone", "👨🏿\u200d🍳");
-            emoji.put("man_cook_light_skin_tone", "👨🏻\u200d🍳");
-            emoji.put("man_cook_medium-dark_skin_tone", "👨🏾\u200d🍳");
-            emoji.put("man_cook_medium-light_skin_tone", "👨🏼\u200d🍳");
-            emoji.put("man_cook_medium_skin_tone", "👨🏽\u200d🍳");
-            emoji.put("man_dancing", "🕺");
-            emoji.put("man_dancing_dark_skin_tone", "🕺🏿");
-            emoji.put("man_dancing_light_skin_tone", "🕺🏻");
-            emoji.put("man_dancing_medium-dark_skin_tone", "🕺🏾");
-            emoji.put("man_dancing_medium-light_skin_tone", "🕺🏼");
-            emoji.put("man_dancing_medium_skin_tone", "🕺🏽");
-            emoji.put("man_dark_skin_tone", "👨🏿");
-            emoji.put("man_detective", "🕵️\u200d♂️");
-            emoji.put("man_detective_dark_skin_tone", "🕵🏿\u200d♂️");
-            emoji.put("man_detective_light_skin_tone", "🕵🏻\u200d♂️");
-            emoji.put("man_detective_medium-dark_skin_tone", "🕵🏾\u200d♂️");
-            emoji.put("man_detective_medium-light_skin_tone", "🕵🏼\u200d♂️");
-            emoji.put("man_detective_medium_skin_tone", "🕵🏽\u200d♂️");
-            emoji.put("man_elf", "🧝\u200d♂️");
-            emoji.put("man_elf_dark_skin_tone", "🧝🏿\u200d♂️");
-            emoji.put("man_elf_light_skin_tone", "🧝🏻\u200d♂️");
-            emoji.put("man_elf_medium-dark_skin_tone", "🧝🏾\u200d♂️");
-            emoji.put("man_elf_medium-light_skin_tone", "🧝🏼\u200d♂️");
-            emoji.put("man_elf_medium_skin_tone", "🧝🏽\u200d♂️");
-            emoji.put("man_facepalming", "🤦\u200d♂️");
-            emoji.put("man_facepalming_dark_skin_tone", "🤦🏿\u200d♂️");
-            emoji.put("man_facepalming_light_skin_tone", "🤦🏻\u200d♂️");
-            emoji.put("man_facepalming_medium-dark_skin_tone", "🤦🏾\u200d♂️");
-            emoji.put("man_facepalming_medium-light_skin_tone", "🤦🏼\u200d♂️");
-            emoji.put("man_facepalming_medium_skin_tone", "🤦🏽\u200d♂️");
-            emoji.put("man_factory_worker", "👨\u200d🏭");
-            emoji.put("man_factory_worker_dark_skin_tone", "👨🏿\u200d🏭");
-            emoji.put("man_factory_worker_light_skin_tone", "👨🏻\u200d🏭");
-            emoji.put("man_factory_worker_medium-dark_skin_tone", "👨🏾\u200d🏭");
-            emoji.put("man_factory_worker_medium-light_skin_tone", "👨🏼\u200d🏭");
-            emoji.put("man_factory_worker_medium_skin_tone", "👨🏽\u200d🏭");
-            emoji.put("man_fairy", "🧚\u200d♂️");
-            emoji.put("man_fairy_dark_skin_tone", "🧚🏿\u200d♂️");
-            emoji.put("man_fairy_light_skin_tone", "🧚🏻\u200d♂️");
-            emoji.put("man_fairy_medium-dark_skin_tone", "🧚🏾\u200d♂️");
-            emoji.put("man_fairy_medium-light_skin_tone", "🧚🏼\u200d♂️");
-            emoji.put("man_fairy_medium_skin_tone", "🧚🏽\u200d♂️");
-            emoji.put("man_farmer", "👨\u200d🌾");
-            emoji.put("man_farmer_dark_skin_tone", "👨🏿\u200d🌾");
-            emoji.put("man_farmer_light_skin_tone", "👨🏻\u200d🌾");
-            emoji.put("man_farmer_medium-dark_skin_tone", "👨🏾\u200d🌾");
-            emoji.put("man_farmer_medium-light_skin_tone", "👨🏼\u200d🌾");
-            emoji.put("man_farmer_medium_skin_tone", "👨🏽\u200d🌾");
-            emoji.put("man_firefighter", "👨\u200d🚒");
-            emoji.put("man_firefighter_dark_skin_tone", "👨🏿\u200d🚒");
-            emoji.put("man_firefighter_light_skin_tone", "👨🏻\u200d🚒");
-            emoji.put("man_firefighter_medium-dark_skin_tone", "👨🏾\u200d🚒");
-            emoji.put("man_firefighter_medium-light_skin_tone", "👨🏼\u200d🚒");
-            emoji.put("man_firefighter_medium_skin_tone", "👨🏽\u200d🚒");
-            emoji.put("man_frowning", "🙍\u200d♂️");
-            emoji.put("man_frowning_dark_skin_tone", "🙍🏿\u200d♂️");
-            emoji.put("man_frowning_light_skin_tone", "🙍🏻\u200d♂️");
-            emoji.put("man_frowning_medium-dark_skin_tone", "🙍🏾\u200d♂️");
-            emoji.put("man_frowning_medium-light_skin_tone", "🙍🏼\u200d♂️");
-            emoji.put("man_frowning_medium_skin_tone", "🙍🏽\u200d♂️");
-            emoji.put("man_genie", "🧞\u200d♂️");
-            emoji.put("man_gesturing_no", "🙅\u200d♂️");
-            emoji.put("man_gesturing_no_dark_skin_tone", "🙅🏿\u200d♂️");
-            emoji.put("man_gesturing_no_light_skin_tone", "🙅🏻\u200d♂️");
-            emoji.put("man_gesturing_no_medium-dark_skin_tone", "🙅🏾\u200d♂️");
-            emoji.put("man_gesturing_no_medium-light_skin_tone", "🙅🏼\u200d♂️");
-            emoji.put("man_gesturing_no_medium_skin_tone", "🙅🏽\u200d♂️");
-            emoji.put("man_gesturing_ok", "🙆\u200d♂️");
-            emoji.put("man_gesturing_ok_dark_skin_tone", "🙆🏿\u200d♂️");
-            emoji.put("man_gesturing_ok_light_skin_tone", "🙆🏻\u200d♂️");
-            emoji.put("man_gesturing_ok_medium-dark_skin_tone", "🙆🏾\u200d♂️");
-            emoji.put("man_gesturing_ok_medium-light_skin_tone", "🙆🏼\u200d♂️");
-            emoji.put("man_gesturing_ok_medium_skin_tone", "🙆🏽\u200d♂️");
-            emoji.put("man_getting_haircut", "💇\u200d♂️");
-            emoji.put("man_getting_haircut_dark_skin_tone", "💇🏿\u200d♂️");
-            emoji.put("man_getting_haircut_light_skin_tone", "💇🏻\u200d♂️");
-            emoji.put("man_getting_haircut_medium-dark_skin_tone", "💇🏾\u200d♂️");
-            emoji.put("man_getting_haircut_medium-light_skin_tone", "💇🏼\u200d♂️");
-            emoji.put("man_getting_haircut_medium_skin_tone", "💇🏽\u200d♂️");
-            emoji.put("man_getting_massage", "💆\u200d♂️");
-            emoji.put("man_getting_massage_dark_skin_tone", "💆🏿\u200d♂️");
-            emoji.put("man_getting_massage_light_skin_tone", "💆🏻\u200d♂️");
-            emoji.put("man_getting_massage_medium-dark_skin_tone", "💆🏾\u200d♂️");
-            emoji.put("man_getting_massage_medium-light_skin_tone", "💆🏼\u200d♂️");
-            emoji.put("man_getting_massage_medium_skin_tone", "💆🏽\u200d♂️");
-            emoji.put("man_golfing", "🏌️\u200d♂️");
-            emoji.put("man_golfing_dark_skin_tone", "🏌🏿\u200d♂️");
-            emoji.put("man_golfing_light_skin_tone", "🏌🏻\u200d♂️");
-            emoji.put("man_golfing_medium-dark_skin_tone", "🏌🏾\u200d♂️");
-            emoji.put("man_golfing_medium-light_skin_tone", "🏌🏼\u200d♂️");
-            emoji.put("man_golfing_medium_skin_tone", "🏌🏽\u200d♂️");
-            emoji.put("man_guard", "💂\u200d♂️");
-            emoji.put("man_guard_dark_skin_tone", "💂🏿\u200d♂️");
-            emoji.put("man_guard_light_skin_tone", "💂🏻\u200d♂️");
-            emoji.put("man_guard_medium-dark_skin_tone", "💂🏾\u200d♂️");
-            emoji.put("man_guard_medium-light_skin_tone", "💂🏼\u200d♂️");
-            emoji.put("man_guard_medium_skin_tone", "💂🏽\u200d♂️");
-            emoji.put("man_health_worker", "👨\u200d⚕️");
-            emoji.put("man_health_worker_dark_skin_tone", "👨🏿\u200d⚕️");
-            emoji.put("man_health_worker_light_skin_tone", "👨🏻\u200d⚕️");
-            emoji.put("man_health_worker_medium-dark_skin_tone", "👨🏾\u200d⚕️");
-            emoji.put("man_health_worker_medium-light_skin_tone", "👨🏼\u200d⚕️");
-            emoji.put("man_health_worker_medium_skin_tone", "👨🏽\u200d⚕️");
-            emoji.put("man_in_lotus_position", "🧘\u200d♂️");
-            emoji.put("man_in_lotus_position_dark_skin_tone", "🧘🏿\u200d♂️");
-            emoji.put("man_in_lotus_position_light_skin_tone", "🧘🏻\u200d♂️");
-            emoji.put("man_in_lotus_position_medium-dark_skin_tone", "🧘🏾\u200d♂️");
-            emoji.put("man_in_lotus_position_medium-light_skin_tone", "🧘🏼\u200d♂️");
-            emoji.put("man_in_lotus_position_medium_skin_tone", "🧘🏽\u200d♂️");
-            emoji.put("man_in_manual_wheelchair", "👨\u200d🦽");
-            emoji.put("man_in_motorized_wheelchair", "👨\u200d🦼");
-            emoji.put("man_in_steamy_room", "🧖\u200d♂️");
-            emoji.put("man_in_steamy_room_dark_skin_tone", "🧖🏿\u200d♂️");
-            emoji.put("man_in_steamy_room_light_skin_tone", "🧖🏻\u200d♂️");
-            emoji.put("man_in_steamy_room_medium-dark_skin_tone", "🧖🏾\u200d♂️");
-            emoji.put("man_in_steamy_room_medium-light_skin_tone", "🧖🏼\u200d♂️");
-            emoji.put("man_in_steamy_room_medium_skin_tone", "🧖🏽\u200d♂️");
-            emoji.put("man_in_suit_levitating", "🕴");
-            emoji.put("man_in_suit_levitating_dark_skin_tone", "🕴🏿");
-            emoji.put("man_in_suit_levitating_light_skin_tone", "🕴🏻");
-            emoji.put("man_in_suit_levitating_medium-dark_skin_tone", "🕴🏾");
-            emoji.put("man_in_suit_levitating_medium-light_skin_tone", "🕴🏼");
-            emoji.put("man_in_suit_levitating_medium_skin_tone", "🕴🏽");
-            emoji.put("man_in_tuxedo", "🤵");
-            emoji.put("man_in_tuxedo_dark_skin_tone", "🤵🏿");
-            emoji.put("man_in_tuxedo_light_skin_tone", "🤵🏻");
-            emoji.put("man_in_tuxedo_medium-dark_skin_tone", "🤵🏾");
-            emoji.put("man_in_tuxedo_medium-light_skin_tone", "🤵🏼");
-            emoji.put("man_in_tuxedo_medium_skin_tone", "🤵🏽");
-            emoji.put("man_judge", "👨\u200d⚖️");
-            emoji.put("man_judge_dark_skin_tone", "👨🏿\u200d⚖️");
-            emoji.put("man_judge_light_skin_tone", "👨🏻\u200d⚖️");
-            emoji.put("man_judge_medium-dark_skin_tone", "👨🏾\u200d⚖️");
-            emoji.put("man_judge_medium-light_skin_tone", "👨🏼\u200d⚖️");
-            emoji.put("man_judge_medium_skin_tone", "👨🏽\u200d⚖️");
-            emoji.put("man_juggling", "🤹\u200d♂️");
-            emoji.put("man_juggling_dark_skin_tone", "🤹🏿\u200d♂️");
-            emoji.put("man_juggling_light_skin_tone", "🤹🏻\u200d♂️");
-            emoji.put("man_juggling_medium-dark_skin_tone", "🤹🏾\u200d♂️");
-            emoji.put("man_juggling_medium-light_skin_tone", "🤹🏼\u200d♂️");
-            emoji.put("man_juggling_medium_skin_tone", "🤹🏽\u200d♂️");
-            emoji.put("man_lifting_weights", "🏋️\u200d♂️");
-            emoji.put("man_lifting_weights_dark_skin_tone", "🏋🏿\u200d♂️");
-            emoji.put("man_lifting_weights_light_skin_tone", "🏋🏻\u200d♂️");
-            emoji.put("man_lifting_weights_medium-dark_skin_tone", "🏋🏾\u200d♂️");
-            emoji.put("man_lifting_weights_medium-light_skin_tone", "🏋🏼\u200d♂️");
-            emoji.put("man_lifting_weights_medium_skin_tone", "🏋🏽\u200d♂️");
-            emoji.put("man_light_skin_tone", "👨🏻");
-            emoji.put("man_mage", "🧙\u200d♂️");
-            emoji.put("man_mage_dark_skin_tone", "🧙🏿\u200d♂️");
-            emoji.put("man_mage_light_skin_tone", "🧙🏻\u200d♂️");
-            emoji.put("man_mage_medium-dark_skin_tone", "🧙🏾\u200d♂️");
-            emoji.put("man_mage_medium-light_skin_tone", "🧙🏼\u200d♂️");
-            emoji.put("man_mage_medium_skin_tone", "🧙🏽\u200d♂️");
-            emoji.put("man_mechanic", "👨\u200d🔧");
-            emoji.put("man_mechanic_dark_skin_tone", "👨🏿\u200d🔧");
-            emoji.put("man_mechanic_light_skin_tone", "👨🏻\u200d🔧");
-            emoji.put("man_mechanic_medium-dark_skin_tone", "👨🏾\u200d🔧");
-            emoji.put("man_mechanic_medium-light_skin_tone", "👨🏼\u200d🔧");
-            emoji.put("man_mechanic_medium_skin_tone", "👨🏽\u200d🔧");
-            emoji.put("man_medium-dark_skin_tone", "👨🏾");
-            emoji.put("man_medium-light_skin_tone", "👨🏼");
-            emoji.put("man_medium_skin_tone", "👨🏽");
-            emoji.put("man_mountain_biking", "🚵\u200d♂️");
-            emoji.put("man_mountain_biking_dark_skin_tone", "🚵🏿\u200d♂️");
-            emoji.put("man_mountain_biking_light_skin_tone", "🚵🏻\u200d♂️");
-            emoji.put("man_mountain_biking_medium-dark_skin_tone", "🚵🏾\u200d♂️");
-            emoji.put("man_mountain_biking_medium-light_skin_tone", "🚵🏼\u200d♂️");
-            emoji.put("man_mountain_biking_medium_skin_tone", "🚵🏽\u200d♂️");
-            emoji.put("man_office_worker", "👨\u200d💼");
-            emoji.put("man_office_worker_dark_skin_tone", "👨🏿\u200d💼");
-            emoji.put("man_office_worker_light_skin_tone", "👨🏻\u200d💼");
-            emoji.put("man_office_worker_medium-dark_skin_tone", "👨🏾\u200d💼");
-            emoji.put("man_office_worker_medium-light_skin_tone", "👨🏼\u200d💼");
-            emoji.put("man_office_worker_medium_skin_tone", "👨🏽\u200d💼");
-            emoji.put("man_pilot", "👨\u200d✈️");
-            emoji.put("man_pilot_dark_skin_tone", "👨🏿\u200d✈️");
-            emoji.put("man_pilot_light_skin_tone", "👨🏻\u200d✈️");
-            emoji.put("man_pilot_medium-dark_skin_tone", "👨🏾\u200d✈️");
-            emoji.put("man_pilot_medium-light_skin_tone", "👨🏼\u200d✈️");
-            emoji.put("man_pilot_medium_skin_tone", "👨🏽\u200d✈️");
-            emoji.put("man_playing_handball", "🤾\u200d♂️");
-            emoji.put("man_playing_handball_dark_skin_tone", "🤾🏿\u200d♂️");
-            emoji.put("man_playing_handball_light_skin_tone", "🤾🏻\u200d♂️");
-            emoji.put("man_playing_handball_medium-dark_skin_tone", "🤾🏾\u200d♂️");
-            emoji.put("man_playing_handball_medium-light_skin_tone", "🤾🏼\u200d♂️");
-            emoji.put("man_playing_handball_medium_skin_tone", "🤾🏽\u200d♂️");
-            emoji.put("man_playing_water_polo", "🤽\u200d♂️");
-            emoji.put("man_playing_water_polo_dark_skin_tone", "🤽🏿\u200d♂️");
-            emoji.put("man_playing_water_polo_light_skin_tone", "🤽🏻\u200d♂️");
-            emoji.put("man_playing_water_polo_medium-dark_skin_tone", "🤽🏾\u200d♂️");
-            emoji.put("man_playing_water_polo_medium-light_skin_tone", "🤽🏼\u200d♂️");
-            emoji.put("man_playing_water_polo_medium_skin_tone", "🤽🏽\u200d♂️");
-            emoji.put("man_police_officer", "👮\u200d♂️");
-            emoji.put("man_police_officer_dark_skin_tone", "👮🏿\u200d♂️");
-            emoji.put("man_police_officer_light_skin_tone", "👮🏻\u200d♂️");
-            emoji.put("man_police_officer_medium-dark_skin_tone", "👮🏾\u200d♂️");
-            emoji.put("man_police_officer_medium-light_skin_tone", "👮🏼\u200d♂️");
-            emoji.put("man_police_officer_medium_skin_tone", "👮🏽\u200d♂️");
-            emoji.put("man_pouting", "🙎\u200d♂️");
-            emoji.put("man_pouting_dark_skin_tone", "🙎🏿\u200d♂️");
-            emoji.put("man_pouting_light_skin_tone", "🙎🏻\u200d♂️");
-            emoji.put("man_pouting_medium-dark_skin_tone", "🙎🏾\u200d♂️");
-            emoji.put("man_pouting_medium-light_skin_tone", "🙎🏼\u200d♂️");
-            emoji.put("man_pouting_medium_skin_tone", "🙎🏽\u200d♂️");
-            emoji.put("man_raising_hand", "🙋\u200d♂️");
-            emoji.put("man_raising_hand_dark_skin_tone", "🙋🏿\u200d♂️");
-            emoji.put("man_raising_hand_light_skin_tone", "🙋🏻\u200d♂️");
-            emoji.put("man_raising_hand_medium-dark_skin_tone", "🙋🏾\u200d♂️");
-            emoji.put("man_raising_hand_medium-light_skin_tone", "🙋🏼\u200d♂️");
-            emoji.put("man_raising_hand_medium_skin_tone", "🙋🏽\u200d♂️");
-            emoji.put("man_rowing_boat", "🚣\u200d♂️");
-            emoji.put("man_rowing_boat_dark_skin_tone", "🚣🏿\u200d♂️");
-            emoji.put("man_rowing_boat_light_skin_tone", "🚣🏻\u200d♂️");
-            emoji.put("man_rowing_boat_medium-dark_skin_tone", "🚣🏾\u200d♂️");
-            emoji.put("man_rowing_boat_medium-light_skin_tone", "🚣🏼\u200d♂️");
-            emoji.put("man_rowing_boat_medium_skin_tone", "🚣🏽\u200d♂️");
-            emoji.put("man_running", "🏃\u200d♂️");
-            emoji.put("man_running_dark_skin_tone", "🏃🏿\u200d♂️");
-            emoji.put("man_running_light_skin_tone", "🏃🏻\u200d♂️");
-            emoji.put("man_running_medium-dark_skin_tone", "🏃🏾\u200d♂️");
-            emoji.put("man_running_medium-light_skin_tone", "🏃🏼\u200d♂️");
-            emoji.put("man_running_medium_skin_tone", "🏃🏽\u200d♂️");
-            emoji.put("man_scientist", "👨\u200d🔬");
-            emoji.put("man_scientist_dark_skin_tone", "👨🏿\u200d🔬");
-            emoji.put("man_scientist_light_skin_tone", "👨🏻\u200d🔬");
-            emoji.put("man_scientist_medium-dark_skin_tone", "👨🏾\u200d🔬");
-            emoji.put("man_scientist_medium-light_skin_tone", "👨🏼\u200d🔬");
-            emoji.put("man_scientist_medium_skin_tone", "👨🏽\u200d🔬");
-            emoji.put("man_shrugging", "🤷\u200d♂️");
-            emoji.put("man_shrugging_dark_skin_tone", "🤷🏿\u200d♂️");
-            emoji.put("man_shrugging_light_skin_tone", "🤷🏻\u200d♂️");
-            emoji.put("man_shrugging_medium-dark_skin_tone", "🤷🏾\u200d♂️");
-            emoji.put("man_shrugging_medium-light_skin_tone", "🤷🏼\u200d♂️");
-            emoji.put("man_shrugging_medium_skin_tone", "🤷🏽\u200d♂️");
-            emoji.put("man_singer", "👨\u200d🎤");
-            emoji.put("man_singer_dark_skin_tone", "👨🏿\u200d🎤");
-            emoji.put("man_singer_light_skin_tone", "👨🏻\u200d🎤");
-            emoji.put("man_singer_medium-dark_skin_tone", "👨🏾\u200d🎤");
-            emoji.put("man_singer_medium-light_skin_tone", "👨🏼\u200d🎤");
-            emoji.put("man_singer_medium_skin_tone", "👨🏽\u200d🎤");
-            emoji.put("man_student", "👨\u200d🎓");
-            emoji.put("man_student_dark_skin_tone", "👨🏿\u200d🎓");
-            emoji.put("man_student_light_skin_tone", "👨🏻\u200d🎓");
-            emoji.put("man_student_medium-dark_skin_tone", "👨🏾\u200d🎓");
-            emoji.put("man_student_medium-light_skin_tone", "👨🏼\u200d🎓");
-            emoji.put("man_student_medium_skin_tone", "👨🏽\u200d🎓");
-            emoji.put("man_surfing", "🏄\u200d♂️");
-            emoji.put("man_surfing_dark_skin_tone", "🏄🏿\u200d♂️");
-            emoji.put("man_surfing_light_skin_tone", "🏄🏻\u200d♂️");
-            emoji.put("man_surfing_medium-dark_skin_tone", "🏄🏾\u200d♂️");
-            emoji.put("man_surfing_medium-light_skin_tone", "🏄🏼\u200d♂️");
-            emoji.put("man_surfing_medium_skin_tone", "🏄🏽\u200d♂️");
-            emoji.put("man_swimming", "🏊\u200d♂️");
-            emoji.put("man_swimming_dark_skin_tone", "🏊🏿\u200d♂️");
-            emoji.put("man_swimming_light_skin_tone", "🏊🏻\u200d♂️");
-            emoji.put("man_swimming_medium-dark_skin_tone", "🏊🏾\u200d♂️");
-            emoji.put("man_swimming_medium-light_skin_tone", "🏊🏼\u200d♂️");
-            emoji.put("man_swimming_medium_skin_tone", "🏊🏽\u200d♂️");
-            emoji.put("man_teacher", "👨\u200d🏫");
-            emoji.put("man_teacher_dark_skin_tone", "👨🏿\u200d🏫");
-            emoji.put("man_teacher_light_skin_tone", "👨🏻\u200d🏫");
-            emoji.put("man_teacher_medium-dark_skin_tone", "👨🏾\u200d🏫");
-            emoji.put("man_teacher_medium-light_skin_tone", "👨🏼\u200d🏫");
-            emoji.put("man_teacher_medium_skin_tone", "👨🏽\u200d🏫");
-            emoji.put("man_technologist", "👨\u200d💻");
-            emoji.put("man_technologist_dark_skin_tone", "👨🏿\u200d💻");
-            emoji.put("man_technologist_light_skin_tone", "👨🏻\u200d💻");
-            emoji.put("man_technologist_medium-dark_skin_tone", "👨🏾\u200d💻");
-            emoji.put("man_technologist_medium-light_skin_tone", "👨🏼\u200d💻");
-            emoji.put("man_technologist_medium_skin_tone", "👨🏽\u200d💻");
-            emoji.put("man_tipping_hand", "💁\u200d♂️");
-            emoji.put("man_tipping_hand_dark_skin_tone", "💁🏿\u200d♂️");
-            emoji.put("man_tipping_hand_light_skin_tone", "💁🏻\u200d♂️");
-            emoji.put("man_tipping_hand_medium-dark_skin_tone", "💁🏾\u200d♂️");
-            emoji.put("man_tipping_hand_medium-light_skin_tone", "💁🏼\u200d♂️");
-            emoji.put("man_tipping_hand_medium_skin_tone", "💁🏽\u200d♂️");
-            emoji.put("man_vampire", "🧛\u200d♂️");
-            emoji.put("man_vampire_dark_skin_tone", "🧛🏿\u200d♂️");
-            emoji.put("man_vampire_light_skin_tone", "🧛🏻\u200d♂️");
-            emoji.put("man_vampire_medium-dark_skin_tone", "🧛🏾\u200d♂️");
-            emoji.put("man_vampire_medium-light_skin_tone", "🧛🏼\u200d♂️");
-            emoji.put("man_vampire_medium_skin_tone", "🧛🏽\u200d♂️");
-            emoji.put("man_walking", "🚶\u200d♂️");
-            emoji.put("man_walking_dark_skin_tone", "🚶🏿\u200d♂️");
-            emoji.put("man_walking_light_skin_tone", "🚶🏻\u200d♂️");
-            emoji.put("man_walking_medium-dark_skin_tone", "🚶🏾\u200d♂️");
-            emoji.put("man_walking_medium-light_skin_tone", "🚶🏼\u200d♂️");
-            emoji.put("man_walking_medium_skin_tone", "🚶🏽\u200d♂️");
-            emoji.put("man_wearing_turban", "👳\u200d♂️");
-            emoji.put("man_wearing_turban_dark_skin_tone", "👳🏿\u200d♂️");
-            emoji.put("man_wearing_turban_light_skin_tone", "👳🏻\u200d♂️");
-            emoji.put("man_wearing_turban_medium-dark_skin_tone", "👳🏾\u200d♂️");
-            emoji.put("man_wearing_turban_medium-light_skin_tone", "👳🏼\u200d♂️");
-            emoji.put("man_wearing_turban_medium_skin_tone", "👳🏽\u200d♂️");
-            emoji.put("man_with_probing_cane", "👨\u200d🦯");
-            emoji.put("man_with_chinese_cap", "👲");
-            emoji.put("man_with_chinese_cap_dark_skin_tone", "👲🏿");
-            emoji.put("man_with_chinese_cap_light_skin_tone", "👲🏻");
-            emoji.put("man_with_chinese_cap_medium-dark_skin_tone", "👲🏾");
-            emoji.put("man_with_chinese_cap_medium-light_skin_tone", "👲🏼");
-            emoji.put("man_with_chinese_cap_medium_skin_tone", "👲🏽");
-            emoji.put("man_zombie", "🧟\u200d♂️");
-            emoji.put("mango", "🥭");
-            emoji.put("mantelpiece_clock", "🕰");
-            emoji.put("manual_wheelchair", "🦽");
-            emoji.put("man’s_shoe", "👞");
-            emoji.put("map_of_japan", "🗾");
-            emoji.put("maple_leaf", "🍁");
-            emoji.put("martial_arts_uniform", "🥋");
-            emoji.put("mate", "🧉");
-            emoji.put("meat_on_bone", "🍖");
-            emoji.put("mechanical_arm", "🦾");
-            emoji.put("mechanical_leg", "🦿");
-            emoji.put("medical_symbol", "⚕");
-            emoji.put("megaphone", "📣");
-            emoji.put("melon", "🍈");
-            emoji.put("memo", "📝");
-            emoji.put("men_with_bunny_ears", "👯\u200d♂️");
-            emoji.put("men_wrestling", "🤼\u200d♂️");
-            emoji.put("menorah", "🕎");
-            emoji.put("men’s_room", "🚹");
-            emoji.put("mermaid", "🧜\u200d♀️");
-            emoji.put("mermaid_dark_skin_tone", "🧜🏿\u200d♀️");
-            emoji.put("mermaid_light_skin_tone", "🧜🏻\u200d♀️");
-            emoji.put("mermaid_medium-dark_skin_tone", "🧜🏾\u200d♀️");
-            emoji.put("mermaid_medium-light_skin_tone", "🧜🏼\u200d♀️");
-            emoji.put("mermaid_medium_skin_tone", "🧜🏽\u200d♀️");
-            emoji.put("merman", "🧜\u200d♂️");
-            emoji.put("merman_dark_skin_tone", "🧜🏿\u200d♂️");
-            emoji.put("merman_light_skin_tone", "🧜🏻\u200d♂️");
-            emoji.put("merman_medium-dark_skin_tone", "🧜🏾\u200d♂️");
-            emoji.put("merman_medium-light_skin_tone", "🧜🏼\u200d♂️");
-            emoji.put("merman_medium_skin_tone", "🧜🏽\u200d♂️");
-            emoji.put("merperson", "🧜");
-            emoji.put("merperson_dark_skin_tone", "🧜🏿");
-            emoji.put("merperson_light_skin_tone", "🧜🏻");
-            emoji.put("merperson_medium-dark_skin_tone", "🧜🏾");
-            emoji.put("merperson_medium-light_skin_tone", "🧜🏼");
-            emoji.put("merperson_medium_skin_tone", "🧜🏽");
-            emoji.put("metro", "🚇");
-            emoji.put("microbe", "🦠");
-            emoji.put("microphone", "🎤");
-            emoji.put("microscope", "🔬");
-            emoji.put("middle_finger", "🖕");
-            emoji.put("middle_finger_dark_skin_tone", "🖕🏿");
-            emoji.put("middle_finger_light_skin_tone", "🖕🏻");
-            emoji.put("middle_finger_medium-dark_skin_tone", "🖕🏾");
-            emoji.put("middle_finger_medium-light_skin_tone", "🖕🏼");
-            emoji.put("middle_finger_medium_skin_tone", "🖕🏽");
-            emoji.put("military_medal", "🎖");
-            emoji.put("milky_way", "🌌");
-            emoji.put("minibus", "🚐");
-            emoji.put("moai", "🗿");
-            emoji.put("mobile_phone", "📱");
-            emoji.put("mobile_phone_off", "📴");
-            emoji.put("mobile_phone_with_arrow", "📲");
-            emoji.put("money-mouth_face", "🤑");
-            emoji.put("money_bag", "💰");
-            emoji.put("money_with_wings", "💸");
-            emoji.put("monkey", "🐒");
-            emoji.put("monkey_face", "🐵");
-            emoji.put("monorail", "🚝");
-            emoji.put("moon_cake", "🥮");
-            emoji.put("moon_viewing_ceremony", "🎑");
-            emoji.put("mosque", "🕌");
-            emoji.put("mosquito", "🦟");
-            emoji.put("motor_boat", "🛥");
-            emoji.put("motor_scooter", "🛵");
-            emoji.put("motorcycle", "🏍");
-            emoji.put("motorized_wheelchair", "🦼");
-            emoji.put("motorway", "🛣");
-            emoji.put("mount_fuji", "🗻");
-            emoji.put("mountain", "⛰");
-            emoji.put("mountain_cableway", "🚠");
-            emoji.put("mountain_railway", "🚞");
-            emoji.put("mouse", "🐭");
-            emoji.put("mouse_face", "🐭");
-            emoji.put("mouth", "👄");
-            emoji.put("movie_camera", "🎥");
-            emoji.put("mushroom", "🍄");
-            emoji.put("musical_keyboard", "🎹");
-            emoji.put("musical_note", "🎵");
-            emoji.put("musical_notes", "🎶");
-            emoji.put("musical_score", "🎼");
-            emoji.put("muted_speaker", "🔇");
-            emoji.put("nail_polish", "💅");
-            emoji.put("nail_polish_dark_skin_tone", "💅🏿");
-            emoji.put("nail_polish_light_skin_tone", "💅🏻");
-            emoji.put("nail_polish_medium-dark_skin_tone", "💅🏾");
-            emoji.put("nail_polish_medium-light_skin_tone", "💅🏼");
-            emoji.put("nail_polish_medium_skin_tone", "💅🏽");
-            emoji.put("name_badge", "📛");
-            emoji.put("national_park", "🏞");
-            emoji.put("nauseated_face", "🤢");
-            emoji.put("nazar_amulet", "🧿");
-            emoji.put("necktie", "👔");
-            emoji.put("nerd_face", "🤓");
-            emoji.put("neutral_face", "😐");
-            emoji.put("new_moon", "🌑");
-            emoji.put("new_moon_face", "🌚");
-            emoji.put("newspaper", "📰");
-            emoji.put("next_track_button", "⏭");
-            emoji.put("night_with_stars", "🌃");
-            emoji.put("nine-thirty", "🕤");
-            emoji.put("nine_o’clock", "🕘");
-            emoji.put("no_bicycles", "🚳");
-            emoji.put("no_entry", "⛔");
-            emoji.put("no_littering", "🚯");
-            emoji.put("no_mobile_phones", "📵");
-            emoji.put("no_one_under_eighteen", "🔞");
-            emoji.put("no_pedestrians", "🚷");
-            emoji.put("no_smoking", "🚭");
-            emoji.put("non-potable_water", "🚱");
-            emoji.put("nose", "👃");
-            emoji.put("nose_dark_skin_tone", "👃🏿");
-            emoji.put("nose_light_skin_tone", "👃🏻");
-            emoji.put("nose_medium-dark_skin_tone", "👃🏾");
-            emoji.put("nose_medium-light_skin_tone", "👃🏼");
-            emoji.put("nose_medium_skin_tone", "👃🏽");
-            emoji.put("notebook", "📓");
-            emoji.put("notebook_with_decorative_cover", "📔");
-            emoji.put("nut_and_bolt", "🔩");
-            emoji.put("octopus", "🐙");
-            emoji.put("oden", "🍢");
-            emoji.put("office_building", "🏢");
-            emoji.put("ogre", "👹");
-            emoji.put("oil_drum", "🛢");
-            emoji.put("old_key", "🗝");
-            emoji.put("old_man", "👴");
-            emoji.put("old_man_dark_skin_tone", "👴🏿");
-            emoji.put("old_man_light_skin_tone", "👴🏻");
-            emoji.put("old_man_medium-dark_skin_tone", "👴🏾");
-            emoji.put("old_man_medium-light_skin_tone", "👴🏼");
-            emoji.put("old_man_medium_skin_tone", "👴🏽");
-            emoji.put("old_woman", "👵");
-            emoji.put("old_woman_dark_skin_tone", "👵🏿");
-            emoji.put("old_woman_light_skin_tone", "👵🏻");
-            emoji.put("old_woman_medium-dark_skin_tone", "👵🏾");
-            emoji.put("old_woman_medium-light_skin_tone", "👵🏼");
-            emoji.put("old_woman_medium_skin_tone", "👵🏽");
-            emoji.put("older_adult", "🧓");
-            emoji.put("older_adult_dark_skin_tone", "🧓🏿");
-            emoji.put("older_adult_light_skin_tone", "🧓🏻");
-            emoji.put("older_adult_medium-dark_skin_tone", "🧓🏾");
-            emoji.put("older_adult_medium-light_skin_tone", "🧓🏼");
-            emoji.put("older_adult_medium_skin_tone", "🧓🏽");
-            emoji.put("om", "🕉");
-            emoji.put("oncoming_automobile", "🚘");
-            emoji.put("oncoming_bus", "🚍");
-            emoji.put("oncoming_fist", "👊");
-            emoji.put("oncoming_fist_dark_skin_tone", "👊🏿");
-            emoji.put("oncoming_fist_light_skin_tone", "👊🏻");
-            emoji.put("oncoming_fist_medium-dark_skin_tone", "👊🏾");
-            emoji.put("oncoming_fist_medium-light_skin_tone", "👊🏼");
-            emoji.put("oncoming_fist_medium_skin_tone", "👊🏽");
-            emoji.put("oncoming_police_car", "🚔");
-            emoji.put("oncoming_taxi", "🚖");
-            emoji.put("one-piece_swimsuit", "🩱");
-            emoji.put("one-thirty", "🕜");
-            emoji.put("one_o’clock", "🕐");
-            emoji.put("onion", "🧅");
-            emoji.put("open_book", "📖");
-            emoji.put("open_file_folder", "📂");
-            emoji.put("open_hands", "👐");
-            emoji.put("open_hands_dark_skin_tone", "👐🏿");
-            emoji.put("open_hands_light_skin_tone", "👐🏻");
-            emoji.put("open_hands_medium-dark_skin_tone", "👐🏾");
-            emoji.put("open_hands_medium-light_skin_tone", "👐🏼");
-            emoji.put("open_hands_medium_skin_tone", "👐🏽");
-            emoji.put("open_mailbox_with_lowered_flag", "📭");
-            emoji.put("open_mailbox_with_raised_flag", "📬");
-            emoji.put("optical_disk", "💿");
-            emoji.put("orange_book", "📙");
-            emoji.put("orange_circle", "🟠");
-            emoji.put("orange_heart", "🧡");
-            emoji.put("orange_square", "🟧");
-            emoji.put("orangutan", "🦧");
-            emoji.put("orthodox_cross", "☦");
-            emoji.put("otter", "🦦");
-            emoji.put("outbox_tray", "📤");
-            emoji.put("owl", "🦉");
-            emoji.put("ox", "🐂");
-            emoji.put("oyster", "🦪");
-            emoji.put("package", "📦");
-            emoji.put("page_facing_up", "📄");
-            emoji.put("page_with_curl", "📃");
-            emoji.put("pager", "📟");
-            emoji.put("paintbrush", "🖌");
-            emoji.put("palm_tree", "🌴");
-            emoji.put("palms_up_together", "🤲");
-            emoji.put("palms_up_together_dark_skin_tone", "🤲🏿");
-            emoji.put("palms_up_together_light_skin_tone", "🤲🏻");
-            emoji.put("palms_up_together_medium-dark_skin_tone", "🤲🏾");
-            emoji.put("palms_up_together_medium-light_skin_tone", "🤲🏼");
-            emoji.put("palms_up_together_medium_skin_tone", "🤲🏽");
-            emoji.put("pancakes", "🥞");
-            emoji.put("panda_face", "🐼");
-            emoji.put("paperclip", "📎");
-            emoji.put("parrot", "🦜");
-            emoji.put("part_alternation_mark", "〽");
-            emoji.put("party_popper", "🎉");
-            emoji.put("partying_face", "🥳");
-            emoji.put("passenger_ship", "🛳");
-            emoji.put("passport_control", "🛂");
-            emoji.put("pause_button", "⏸");
-            emoji.put("paw_prints", "🐾");
-            emoji.put("peace_symbol", "☮");
-            emoji.put("peach", "🍑");
-            emoji.put("peacock", "🦚");
-            emoji.put("peanuts", "🥜");
-            emoji.put("pear", "🍐");
-            emoji.put("pen", "🖊");
-            emoji.put("pencil", "📝");
-            emoji.put("penguin", "🐧");
-            emoji.put("pensive_face", "😔");
-            emoji.put("people_holding_hands", "🧑\u200d🤝\u200d🧑");
-            emoji.put("people_with_bunny_ears", "👯");
-            emoji.put("people_wrestling", "🤼");
-            emoji.put("performing_arts", "🎭");
-            emoji.put("persevering_face", "😣");
-            emoji.put("person_biking", "🚴");
-            emoji.put("person_biking_dark_skin_tone", "🚴🏿");
-            emoji.put("person_biking_light_skin_tone", "🚴🏻");
-            emoji.put("person_biking_medium-dark_skin_tone", "🚴🏾");
-            emoji.put("person_biking_medium-light_skin_tone", "🚴🏼");
-            emoji.put("person_biking_medium_skin_tone", "🚴🏽");
-            emoji.put("person_bouncing_ball", "⛹");
-            emoji.put("person_bouncing_ball_dark_skin_tone", "⛹🏿");
-            emoji.put("person_bouncing_ball_light_skin_tone", "⛹🏻");
-            emoji.put("person_bouncing_ball_medium-dark_skin_tone", "⛹🏾");
-            emoji.put("person_bouncing_ball_medium-light_skin_tone", "⛹🏼");
-            emoji.put("person_bouncing_ball_medium_skin_tone", "⛹🏽");
-            emoji.put("person_bowing", "🙇");
-            emoji.put("person_bowing_dark_skin_tone", "🙇🏿");
-            emoji.put("person_bowing_light_skin_tone", "🙇🏻");
-            emoji.put("person_bowing_medium-dark_skin_tone", "🙇🏾");
-            emoji.put("person_bowing_medium-light_skin_tone", "🙇🏼");
-            emoji.put("person_bowing_medium_skin_tone", "🙇🏽");
-            emoji.put("person_cartwheeling", "🤸");
-            emoji.put("person_cartwheeling_dark_skin_tone", "🤸🏿");
-            emoji.put("person_cartwheeling_light_skin_tone", "🤸🏻");
-            emoji.put("person_cartwheeling_medium-dark_skin_tone", "🤸🏾");
-            emoji.put("person_cartwheeling_medium-light_skin_tone", "🤸🏼");
-            emoji.put("person_cartwheeling_medium_skin_tone", "🤸🏽");
-            emoji.put("person_climbing", "🧗");
-            emoji.put("person_climbing_dark_skin_tone", "🧗🏿");
-            emoji.put("person_climbing_light_skin_tone", "🧗🏻");
-            emoji.put("person_climbing_medium-dark_skin_tone", "🧗🏾");
-            emoji.put("person_climbing_medium-light_skin_tone", "🧗🏼");
-            emoji.put("person_climbing_medium_skin_tone", "🧗🏽");
-            emoji.put("person_facepalming", "🤦");
-            emoji.put("person_facepalming_dark_skin_tone", "🤦🏿");
-            emoji.put("person_facepalming_light_skin_tone", "🤦🏻");
-            emoji.put("person_facepalming_medium-dark_skin_tone", "🤦🏾");
-            emoji.put("person_facepalming_medium-light_skin_tone", "🤦🏼");
-            emoji.put("person_facepalming_medium_skin_tone", "🤦🏽");
-            emoji.put("person_fencing", "🤺");
-            emoji.put("person_frowning", "🙍");
-            emoji.put("person_frowning_dark_skin_tone", "🙍🏿");
-            emoji.put("person_frowning_light_skin_tone", "🙍🏻");
-            emoji.put("person_frowning_medium-dark_skin_tone", "🙍🏾");
-            emoji.put("person_frowning_medium-light_skin_tone", "🙍🏼");
-            emoji.put("person_frowning_medium_skin_tone", "🙍🏽");
-            emoji.put("person_gesturing_no", "🙅");
-            emoji.put("person_gesturing_no_dark_skin_tone", "🙅🏿");
-            emoji.put("person_gesturing_no_light_skin_tone", "🙅🏻");
-            emoji.put("person_gesturing_no_medium-dark_skin_tone", "🙅🏾");
-            emoji.put("person_gesturing_no_medium-light_skin_tone", "🙅🏼");
-            emoji.put("person_gesturing_no_medium_skin_tone", "🙅🏽");
-            emoji.put("person_gesturing_ok", "🙆");
-            emoji.put("person_gesturing_ok_dark_skin_tone", "🙆🏿");
-            emoji.put("person_gesturing_ok_light_skin_tone", "🙆🏻");
-            emoji.put("person_gesturing_ok_medium-dark_skin_tone", "🙆🏾");
-            emoji.put("person_gesturing_ok_medium-light_skin_tone", "🙆🏼");
-            emoji.put("person_gesturing_ok_medium_skin_tone", "🙆🏽");
-            emoji.put("person_getting_haircut", "💇");
-            emoji.put("person_getting_haircut_dark_skin_tone", "💇🏿");
-            emoji.put("person_getting_haircut_light_skin_tone", "💇🏻");
-            emoji.put("person_getting_haircut_medium-dark_skin_tone", "💇🏾");
-            emoji.put("person_getting_haircut_medium-light_skin_tone", "💇🏼");
-            emoji.put("person_getting_haircut_medium_skin_tone", "💇🏽");
-            emoji.put("person_getting_massage", "💆");
-            emoji.put("person_getting_massage_dark_skin_tone", "💆🏿");
-            emoji.put("person_getting_massage_light_skin_tone", "💆🏻");
-            emoji.put("person_getting_massage_medium-dark_skin_tone", "💆🏾");
-            emoji.put("person_getting_massage_medium-light_skin_tone", "💆🏼");
-            emoji.put("person_getting_massage_medium_skin_tone", "💆🏽");
-            emoji.put("person_golfing", "🏌");
-            emoji.put("person_golfing_dark_skin_tone", "🏌🏿");
-            emoji.put("person_golfing_light_skin_tone", "🏌🏻");
-            emoji.put("person_golfing_medium-dark_skin_tone", "🏌🏾");
-            emoji.put("person_golfing_medium-light_skin_tone", "🏌🏼");
-            emoji.put("person_golfing_medium_skin_tone", "🏌🏽");
-            emoji.put("person_in_bed", "🛌");
-            emoji.put("person_in_bed_dark_skin_tone", "🛌🏿");
-            emoji.put("person_in_bed_light_skin_tone", "🛌🏻");
-            emoji.put("person_in_bed_medium-dark_skin_tone", "🛌🏾");
-            emoji.put("person_in_bed_medium-light_skin_tone", "🛌🏼");
-            emoji.put("person_in_bed_medium_skin_tone", "🛌🏽");
-            emoji.put("person_in_lotus_position", "🧘");
-            emoji.put("person_in_lotus_position_dark_skin_tone", "🧘🏿");
-            emoji.put("person_in_lotus_position_light_skin_tone", "🧘🏻");
-            emoji.put("person_in_lotus_position_medium-dark_skin_tone", "🧘🏾");
-            emoji.put("person_in_lotus_position_medium-light_skin_tone", "🧘🏼");
-            emoji.put("person_in_lotus_position_medium_skin_tone", "🧘🏽");
-            emoji.put("person_in_steamy_room", "🧖");
-            emoji.put("person_in_steamy_room_dark_skin_tone", "🧖🏿");
-            emoji.put("person_in_steamy_room_light_skin_tone", "🧖🏻");
-            emoji.put("person_in_steamy_room_medium-dark_skin_tone", "🧖🏾");
-            emoji.put("person_in_steamy_room_medium-light_skin_tone", "🧖🏼");
-            emoji.put("person_in_steamy_room_medium_skin_tone", "🧖🏽");
-            emoji.put("person_juggling", "🤹");
-            emoji.put("person_juggling_dark_skin_tone", "🤹🏿");
-            emoji.put("person_juggling_light_skin_tone", "🤹🏻");
-            emoji.put("person_juggling_medium-dark_skin_tone", "🤹🏾");
-            emoji.put("person_juggling_medium-light_skin_tone", "🤹🏼");
-            emoji.put("person_juggling_medium_skin_tone", "🤹🏽");
-            emoji.put("person_kneeling", "🧎");
-            emoji.put("person_lifting_weights", "🏋");
-            emoji.put("person_lifting_weights_dark_skin_tone", "🏋🏿");
-            emoji.put("person_lifting_weights_light_skin_tone", "🏋🏻");
-            emoji.put("person_lifting_weights_medium-dark_skin_tone", "🏋🏾");
-            emoji.put("person_lifting_weights_medium-light_skin_tone", "🏋🏼");
-            emoji.put("person_lifting_weights_medium_skin_tone", "🏋🏽");
-            emoji.put("person_mountain_biking", "🚵");
-            emoji.put("person_mountain_biking_dark_skin_tone", "🚵🏿");
-            emoji.put("person_mountain_biking_light_skin_tone", "🚵🏻");
-            emoji.put("person_mountain_biking_medium-dark_skin_tone", "🚵🏾");
-            emoji.put("person_mountain_biking_medium-light_skin_tone", "🚵🏼");
-            emoji.put("person_mountain_biking_medium_skin_tone", "🚵🏽");
-            emoji.put("person_playing_handball", "🤾");
-            emoji.put("person_playing_handball_dark_skin_tone", "🤾🏿");
-            emoji.put("person_playing_handball_light_skin_tone", "🤾🏻");
-            emoji.put("person_playing_handball_medium-dark_skin_tone", "🤾🏾");
-            emoji.put("person_playing_handball_medium-light_skin_tone", "🤾🏼");
-            emoji.put("person_playing_handball_medium_skin_tone", "🤾🏽");
-            emoji.put("person_playing_water_polo", "🤽");
-            emoji.put("person_playing_water_polo_dark_skin_tone", "🤽🏿");
-            emoji.put("person_playing_water_polo_light_skin_tone", "🤽🏻");
-            emoji.put("person_playing_water_polo_medium-dark_skin_tone", "🤽🏾");
-            emoji.put("person_playing_water_polo_medium-light_skin_tone", "🤽🏼");
-            emoji.put("person_playing_water_polo_medium_skin_tone", "🤽🏽");
-            emoji.put("person_pouting", "🙎");
-            emoji.put("person_pouting_dark_skin_tone", "🙎🏿");
-            emoji.put("person_pouting_light_skin_tone", "🙎🏻");
-            emoji.put("person_pouting_medium-dark_skin_tone", "🙎🏾");
-            emoji.put("person_pouting_medium-light_skin_tone", "🙎🏼");
-            emoji.put("person_pouting_medium_skin_tone", "🙎🏽");
-            emoji.put("person_raising_hand", "🙋");
-            emoji.put("person_raising_hand_dark_skin_tone", "🙋🏿");
-            emoji.put("person_raising_hand_light_skin_tone", "🙋🏻");
-            emoji.put("person_raising_hand_medium-dark_skin_tone", "🙋🏾");
-            emoji.put("person_raising_hand_medium-light_skin_tone", "🙋🏼");
-            emoji.put("person_raising_hand_medium_skin_tone", "🙋🏽");
-            emoji.put("person_rowing_boat", "🚣");
-            emoji.put("person_rowing_boat_dark_skin_tone", "🚣🏿");
-            emoji.put("person_rowing_boat_light_skin_tone", "🚣🏻");
-            emoji.put("person_rowing_boat_medium-dark_skin_tone", "🚣🏾");
-            emoji.put("person_rowing_boat_medium-light_skin_tone", "🚣🏼");
-            emoji.put("person_rowing_boat_medium_skin_tone", "🚣🏽");
-            emoji.put("person_running", "🏃");
-            emoji.put("person_running_dark_skin_tone", "🏃🏿");
-            emoji.put("person_running_light_skin_tone", "🏃🏻");
-            emoji.put("person_running_medium-dark_skin_tone", "🏃🏾");
-            emoji.put("person_running_medium-light_skin_tone", "🏃🏼");
-            emoji.put("person_running_medium_skin_tone", "🏃🏽");
-            emoji.put("person_shrugging", "🤷");
-            emoji.put("person_shrugging_dark_skin_tone", "🤷🏿");
-            emoji.put("person_shrugging_light_skin_tone", "🤷🏻");
-            emoji.put("person_shrugging_medium-dark_skin_tone", "🤷🏾");
-            emoji.put("person_shrugging_medium-light_skin_tone", "🤷🏼");
-            emoji.put("person_shrugging_medium_skin_tone", "🤷🏽");
-            emoji.put("person_standing", "🧍");
-            emoji.put("person_surfing", "🏄");
-            emoji.put("person_surfing_dark_skin_tone", "🏄🏿");
-            emoji.put("person_surfing_light_skin_tone", "🏄🏻");
-            emoji.put("person_surfing_medium-dark_skin_tone", "🏄🏾");
-            emoji.put("person_surfing_medium-light_skin_tone", "🏄🏼");
-            emoji.put("person_surfing_medium_skin_tone", "🏄🏽");
-            emoji.put("person_swimming", "🏊");
-            emoji.put("person_swimming_dark_skin_tone", "🏊🏿");
-            emoji.put("person_swimming_light_skin_tone", "🏊🏻");
-            emoji.put("person_swimming_medium-dark_skin_tone", "🏊🏾");
-            emoji.put("person_swimming_medium-light_skin_tone", "🏊🏼");
-            emoji.put("person_swimming_medium_skin_tone", "🏊🏽");
-            emoji.put("person_taking_bath", "🛀");
-            emoji.put("person_taking_bath_dark_skin_tone", "🛀🏿");
-            emoji.put("person_taking_bath_light_skin_tone", "🛀🏻");
-            emoji.put("person_taking_bath_medium-dark_skin_tone", "🛀🏾");
-            emoji.put("person_taking_bath_medium-light_skin_tone", "🛀🏼");
-            emoji.put("person_taking_bath_medium_skin_tone", "🛀🏽");
-            emoji.put("person_tipping_hand", "💁");
-            emoji.put("person_tipping_hand_dark_skin_tone", "💁🏿");
-            emoji.put("person_tipping_hand_light_skin_tone", "💁🏻");
-            emoji.put("person_tipping_hand_medium-dark_skin_tone", "💁🏾");
-            emoji.put("person_tipping_hand_medium-light_skin_tone", "💁🏼");
-            emoji.put("person_tipping_hand_medium_skin_tone", "💁🏽");
-            emoji.put("person_walking", "🚶");
-            emoji.put("person_walking_dark_skin_tone", "🚶🏿");
-            emoji.put("person_walking_light_skin_tone", "🚶🏻");
-            emoji.put("person_walking_medium-dark_skin_tone", "🚶🏾");
-            emoji.put("person_walking_medium-light_skin_tone", "🚶🏼");
-            emoji.put("person_walking_medium_skin_tone", "🚶🏽");
-            emoji.put("person_wearing_turban", "👳");
-            emoji.put("person_wearing_turban_dark_skin_tone", "👳🏿");
-            emoji.put("person_wearing_turban_light_skin_tone", "👳🏻");
-            emoji.put("person_wearing_turban_medium-dark_skin_tone", "👳🏾");
-            emoji.put("person_wearing_turban_medium-light_skin_tone", "👳🏼");
-            emoji.put("person_wearing_turban_medium_skin_tone", "👳🏽");
-            emoji.put("petri_dish", "🧫");
-            emoji.put("pick", "⛏");
-            emoji.put("pie", "🥧");
-            emoji.put("pig", "🐷");
-            emoji.put("pig_face", "🐷");
-            emoji.put("pig_nose", "🐽");
-            emoji.put("pile_of_poo", "💩");
-            emoji.put("pill", "💊");
-            emoji.put("pinching_hand", "🤏");
-            emoji.put("pine_decoration", "🎍");
-            emoji.put("pineapple", "🍍");
-            emoji.put("ping_pong", "🏓");
-            emoji.put("pirate_flag", "🏴\u200d☠️");
-            emoji.put("pistol", "🔫");
-            emoji.put("pizza", "🍕");
-            emoji.put("place_of_worship", "🛐");
-            emoji.put("play_button", "▶");
-            emoji.put("play_or_pause_button", "⏯");
-            emoji.put("pleading_face", "🥺");
-            emoji.put("police_car", "🚓");
-            emoji.put("police_car_light", "🚨");
-            emoji.put("police_officer", "👮");
-            emoji.put("police_officer_dark_skin_tone", "👮🏿");
-            emoji.put("police_officer_light_skin_tone", "👮🏻");
-            emoji.put("police_officer_medium-dark_skin_tone", "👮🏾");
-            emoji.put("police_officer_medium-light_skin_tone", "👮🏼");
-            emoji.put("police_officer_medium_skin_tone", "👮🏽");
-            emoji.put("poodle", "🐩");
-            emoji.put("pool_8_ball", "🎱");
-            emoji.put("popcorn", "🍿");
-            emoji.put("post_office", "🏣");
-            emoji.put("postal_horn", "📯");
-            emoji.put("postbox", "📮");
-            emoji.put("pot_of_food", "🍲");
-            emoji.put("potable_water", "🚰");
-            emoji.put("potato", "🥔");
-            emoji.put("poultry_leg", "🍗");
-            emoji.put("pound_banknote", "💷");
-            emoji.put("pouting_cat_face", "😾");
-            emoji.put("pouting_face", "😡");
-            emoji.put("prayer_beads", "📿");
-            emoji.put("pregnant_woman", "🤰");
-            emoji.put("pregnant_woman_dark_skin_tone", "🤰🏿");
-            emoji.put("pregnant_woman_light_skin_tone", "🤰🏻");
-            emoji.put("pregnant_woman_medium-dark_skin_tone", "🤰🏾");
-            emoji.put("pregnant_woman_medium-light_skin_tone", "🤰🏼");
-            emoji.put("pregnant_woman_medium_skin_tone", "🤰🏽");
-            emoji.put("pretzel", "🥨");
-            emoji.put("probing_cane", "🦯");
-            emoji.put("prince", "🤴");
-            emoji.put("prince_dark_skin_tone", "🤴🏿");
-            emoji.put("prince_light_skin_tone", "🤴🏻");
-            emoji.put("prince_medium-dark_skin_tone", "🤴🏾");
-            emoji.put("prince_medium-light_skin_tone", "🤴🏼");
-            emoji.put("prince_medium_skin_tone", "🤴🏽");
-            emoji.put("princess", "👸");
-            emoji.put("princess_dark_skin_tone", "👸🏿");
-            emoji.put("princess_light_skin_tone", "👸🏻");
-            emoji.put("princess_medium-dark_skin_tone", "👸🏾");
-            emoji.put("princess_medium-light_skin_tone", "👸🏼");
-            emoji.put("princess_medium_skin_tone", "👸🏽");
-            emoji.put("printer", "🖨");
-            emoji.put("prohibited", "🚫");
-            emoji.put("purple_circle", "🟣");
-            emoji.put("purple_heart", "💜");
-            emoji.put("purple_square", "🟪");
-            emoji.put("purse", "👛");
-            emoji.put("pushpin", "📌");
-            emoji.put("question_mark", "❓");
-            emoji.put("rabbit", "🐰");
-            emoji.put("rabbit_face", "🐰");
-            emoji.put("raccoon", "🦝");
-            emoji.put("racing_car", "🏎");
-            emoji.put("radio", "📻");
-            emoji.put("radio_button", "🔘");
-            emoji.put("radioactive", "☢");
-            emoji.put("railway_car", "🚃");
-            emoji.put("railway_track", "🛤");
-            emoji.put("rainbow", "🌈");
-            emoji.put("rainbow_flag", "🏳️\u200d🌈");
-            emoji.put("raised_back_of_hand", "🤚");
-            emoji.put("raised_back_of_hand_dark_skin_tone", "🤚🏿");
-            emoji.put("raised_back_of_hand_light_skin_tone", "🤚🏻");
-            emoji.put("raised_back_of_hand_medium-dark_skin_tone", "🤚🏾");
-            emoji.put("raised_back_of_hand_medium-light_skin_tone", "🤚🏼");
-            emoji.put("raised_back_of_hand_medium_skin_tone", "🤚🏽");
-            emoji.put("raised_fist", "✊");
-            emoji.put("raised_fist_dark_skin_tone", "✊🏿");
-            emoji.put("raised_fist_light_skin_tone", "✊🏻");
-            emoji.put("raised_fist_medium-dark_skin_tone", "✊🏾");
-            emoji.put("raised_fist_medium-light_skin_tone", "✊🏼");
-            emoji.put("raised_fist_medium_skin_tone", "✊🏽");
-            emoji.put("raised_hand", "✋");
-            emoji.put("raised_hand_dark_skin_tone", "✋🏿");
-            emoji.put("raised_hand_light_skin_tone", "✋🏻");
-            emoji.put("raised_hand_medium-dark_skin_tone", "✋🏾");
-            emoji.put("raised_hand_medium-light_skin_tone", "✋🏼");
-            emoji.put("raised_hand_medium_skin_tone", "✋🏽");
-            emoji.put("raising_hands", "🙌");
-            emoji.put("raising_hands_dark_skin_tone", "🙌🏿");
-            emoji.put("raising_hands_light_skin_tone", "🙌🏻");
-            emoji.put("raising_hands_medium-dark_skin_tone", "🙌🏾");
-            emoji.put("raising_hands_medium-light_skin_tone", "🙌🏼");
-            emoji.put("raising_hands_medium_skin_tone", "🙌🏽");
-            emoji.put("ram", "🐏");
-            emoji.put("rat", "🐀");
-            emoji.put("razor", "🪒");
-            emoji.put("ringed_planet", "🪐");
-            emoji.put("receipt", "🧾");
-            emoji.put("record_button", "⏺");
-            emoji.put("recycling_symbol", "♻");
-            emoji.put("red_apple", "🍎");
-            emoji.put("red_circle", "🔴");
-            emoji.put("red_envelope", "🧧");
-            emoji.put("red_hair", "🦰");
-            emoji.put("red-haired_man", "👨\u200d🦰");
-            emoji.put("red-haired_woman", "👩\u200d🦰");
-            emoji.put("red_heart", "❤");
-            emoji.put("red_paper_lantern", "🏮");
-            emoji.put("red_square", "🟥");
-            emoji.put("red_triangle_pointed_down", "🔻");
-            emoji.put("red_triangle_pointed_up", "🔺");
-            emoji.put("registered", "®");
-            emoji.put("relieved_face", "😌");
-            emoji.put("reminder_ribbon", "🎗");
-            emoji.put("repeat_button", "🔁");
-            emoji.put("repeat_single_button", "🔂");
-            emoji.put("rescue_worker’s_helmet", "⛑");
-            emoji.put("restroom", "🚻");
-            emoji.put("reverse_button", "◀");
-            emoji.put("revolving_hearts", "💞");
-            emoji.put("rhinoceros", "🦏");
-            emoji.put("ribbon", "🎀");
-            emoji.put("rice_ball", "🍙");
-            emoji.put("rice_cracker", "🍘");
-            emoji.put("right-facing_fist", "🤜");
-            emoji.put("right-facing_fist_dark_skin_tone", "🤜🏿");
-            emoji.put("right-facing_fist_light_skin_tone", "🤜🏻");
-            emoji.put("right-facing_fist_medium-dark_skin_tone", "🤜🏾");
-            emoji.put("right-facing_fist_medium-light_skin_tone", "🤜🏼");
-            emoji.put("right-facing_fist_medium_skin_tone", "🤜🏽");
-            emoji.put("right_anger_bubble", "🗯");
-            emoji.put("right_arrow", "➡");
-            emoji.put("right_arrow_curving_down", "⤵");
-            emoji.put("right_arrow_curving_left", "↩");
-            emoji.put("right_arrow_curving_up", "⤴");
-            emoji.put("ring", "💍");
-            emoji.put("roasted_sweet_potato", "🍠");
-            emoji.put("robot_face", "🤖");
-            emoji.put("rocket", "🚀");
-            emoji.put("roll_of_paper", "🧻");
-            emoji.put("rolled-up_newspaper", "🗞");
-            emoji.put("roller_coaster", "🎢");
-            emoji.put("rolling_on_the_floor_laughing", "🤣");
-            emoji.put("rooster", "🐓");
-            emoji.put("rose", "🌹");
-            emoji.put("rosette", "🏵");
-            emoji.put("round_pushpin", "📍");
-            emoji.put("rugby_football", "🏉");
-            emoji.put("running_shirt", "🎽");
-            emoji.put("running_shoe", "👟");
-            emoji.put("sad_but_relieved_face", "😥");
-            emoji.put("safety_pin", "🧷");
-            emoji.put("safety_vest", "🦺");
-            emoji.put("salt", "🧂");
-            emoji.put("sailboat", "⛵");
-            emoji.put("sake", "🍶");
-            emoji.put("sandwich", "🥪");
-            emoji.put("sari", "🥻");
-            emoji.put("satellite", "📡");
-            emoji.put("satellite_antenna", "📡");
-            emoji.put("sauropod", "🦕");
-            emoji.put("saxophone", "🎷");
-            emoji.put("scarf", "🧣");
-            emoji.put("school", "🏫");
-            emoji.put("school_backpack", "🎒");
-            emoji.put("scissors", "✂");
-            emoji.put("scorpion", "🦂");
-            emoji.put("scroll", "📜");
-            emoji.put("seat", "💺");
-            emoji.put("see-no-evil_monkey", "🙈");
-            emoji.put("seedling", "🌱");
-            emoji.put("selfie", "🤳");
-            emoji.put("selfie_dark_skin_tone", "🤳🏿");
-            emoji.put("selfie_light_skin_tone", "🤳🏻");
-            emoji.put("selfie_medium-dark_skin_tone", "🤳🏾");
-            emoji.put("selfie_medium-light_skin_tone", "🤳🏼");
-            emoji.put("selfie_medium_skin_tone", "🤳🏽");
-            emoji.put("service_dog", "🐕\u200d🦺");
-            emoji.put("seven-thirty", "🕢");
-            emoji.put("seven_o’clock", "🕖");
-            emoji.put("shallow_pan_of_food", "🥘");
-            emoji.put("shamrock", "☘");
-            emoji.put("shark", "🦈");
-            emoji.put("shaved_ice", "🍧");
-            emoji.put("sheaf_of_rice", "🌾");
-            emoji.put("shield", "🛡");
-            emoji.put("shinto_shrine", "⛩");
-            emoji.put("ship", "🚢");
-            emoji.put("shooting_star", "🌠");
-            emoji.put("shopping_bags", "🛍");
-            emoji.put("shopping_cart", "🛒");
-            emoji.put("shortcake", "🍰");
-            emoji.put("shorts", "🩳");
-            emoji.put("shower", "🚿");
-            emoji.put("shrimp", "🦐");
-            emoji.put("shuffle_tracks_button", "🔀");
-            emoji.put("shushing_face", "🤫");
-            emoji.put("sign_of_the_horns", "🤘");
-            emoji.put("sign_of_the_horns_dark_skin_tone", "🤘🏿");
-            emoji.put("sign_of_the_horns_light_skin_tone", "🤘🏻");
-            emoji.put("sign_of_the_horns_medium-dark_skin_tone", "🤘🏾");
-            emoji.put("sign_of_the_horns_medium-light_skin_tone", "🤘🏼");
-            emoji.put("sign_of_the_horns_medium_skin_tone", "🤘🏽");
-            emoji.put("six-thirty", "🕡");
-            emoji.put("six_o’clock", "🕕");
-            emoji.put("skateboard", "🛹");
-            emoji.put("skier", "⛷");
-            emoji.put("skis", "🎿");
-            emoji.put("skull", "💀");
-            emoji.put("skull_and_crossbones", "☠");
-            emoji.put("skunk", "🦨");
-            emoji.put("sled", "🛷");
-            emoji.put("sleeping_face", "😴");
-            emoji.put("sleepy_face", "😪");
-            emoji.put("slightly_frowning_face", "🙁");
-            emoji.put("slightly_smiling_face", "🙂");
-            emoji.put("slot_machine", "🎰");
-            emoji.put("sloth", "🦥");
-            emoji.put("small_airplane", "🛩");
-            emoji.put("small_blue_diamond", "🔹");
-            emoji.put("small_orange_diamond", "🔸");
-            emoji.put("smiling_cat_face_with_heart-eyes", "😻");
-            emoji.put("smiling_face", "☺");
-            emoji.put("smiling_face_with_halo", "😇");
-            emoji.put("smiling_face_with_3_hearts", "🥰");
-            emoji.put("smiling_face_with_heart-eyes", "😍");
-            emoji.put("smiling_face_with_horns", "😈");
-            emoji.put("smiling_face_with_smiling_eyes", "😊");
-            emoji.put("smiling_face_with_sunglasses", "😎");
-            emoji.put("smirking_face", "😏");
-            emoji.put("snail", "🐌");
-            emoji.put("snake", "🐍");
-            emoji.put("sneezing_face", "🤧");
-            emoji.put("snow-capped_mountain", "🏔");
-            emoji.put("snowboarder", "🏂");
-            emoji.put("snowboarder_dark_skin_tone", "🏂🏿");
-            emoji.put("snowboarder_light_skin_tone", "🏂🏻");
-            emoji.put("snowboarder_medium-dark_skin_tone", "🏂🏾");
-            emoji.put("snowboarder_medium-light_skin_tone", "🏂🏼");
-            emoji.put("snowboarder_medium_skin_tone", "🏂🏽");
-            emoji.put("snowflake", "❄");
-            emoji.put("snowman", "☃");
-            emoji.put("snowman_without_snow", "⛄");
-            emoji.put("soap", "🧼");
-            emoji.put("soccer_ball", "⚽");
-            emoji.put("socks", "🧦");
-            emoji.put("softball", "🥎");
-            emoji.put("soft_ice_cream", "🍦");
-            emoji.put("spade_suit", "♠");
-            emoji.put("spaghetti", "🍝");
-            emoji.put("sparkle", "❇");
-            emoji.put("sparkler", "🎇");
-            emoji.put("sparkles", "✨");
-            emoji.put("sparkling_heart", "💖");
-            emoji.put("speak-no-evil_monkey", "🙊");
-            emoji.put("speaker_high_volume", "🔊");
-            emoji.put("speaker_low_volume", "🔈");
-            emoji.put("speaker_medium_volume", "🔉");
-            emoji.put("speaking_head", "🗣");
-            emoji.put("speech_balloon", "💬");
-            emoji.put("speedboat", "🚤");
-            emoji.put("spider", "🕷");
-            emoji.put("spider_web", "🕸");
-            emoji.put("spiral_calendar", "🗓");
-            emoji.put("spiral_notepad", "🗒");
-            emoji.put("spiral_shell", "🐚");
-            emoji.put("spoon", "🥄");
-            emoji.put("sponge", "🧽");
-            emoji.put("sport_utility_vehicle", "🚙");
-            emoji.put("sports_medal", "🏅");
-            emoji.put("spouting_whale", "🐳");
-            emoji.put("squid", "🦑");
-            emoji.put("squinting_face_with_tongue", "😝");
-            emoji.put("stadium", "🏟");
-            emoji.put("star-struck", "🤩");
-            emoji.put("star_and_crescent", "☪");
-            emoji.put("star_of_david", "✡");
-            emoji.put("station", "🚉");
-            emoji.put("steaming_bowl", "🍜");
-            emoji.put("stethoscope", "🩺");
-            emoji.put("stop_button", "⏹");
-            emoji.put("stop_sign", "🛑");
-            emoji.put("stopwatch", "⏱");
-            emoji.put("straight_ruler", "📏");
-            emoji.put("strawberry", "🍓");
-            emoji.put("studio_microphone", "🎙");
-            emoji.put("stuffed_flatbread", "🥙");
-            emoji.put("sun", "☀");
-            emoji.put("sun_behind_cloud", "⛅");
-            emoji.put("sun_behind_large_cloud", "🌥");
-            emoji.put("sun_behind_rain_cloud", "🌦");
-            emoji.put("sun_behind_small_cloud", "🌤");
-            emoji.put("sun_with_face", "🌞");
-            emoji.put("sunflower", "🌻");
-            emoji.put("sunglasses", "😎");
-            emoji.put("sunrise", "🌅");
-            emoji.put("sunrise_over_mountains", "🌄");
-            emoji.put("sunset", "🌇");
-            emoji.put("superhero", "🦸");
-            emoji.put("supervillain", "🦹");
-            emoji.put("sushi", "🍣");
-            emoji.put("suspension_railway", "🚟");
-            emoji.put("swan", "🦢");
-            emoji.put("sweat_droplets", "💦");
-            emoji.put("synagogue", "🕍");
-            emoji.put("syringe", "💉");
-            emoji.put("t-shirt", "👕");
-            emoji.put("taco", "🌮");
-            emoji.put("takeout_box", "🥡");
-            emoji.put("tanabata_tree", "🎋");
-            emoji.put("tangerine", "🍊");
-            emoji.put("taxi", "🚕");
-            emoji.put("teacup_without_handle", "🍵");
-            emoji.put("tear-off_calendar", "📆");
-            emoji.put("teddy_bear", "🧸");
-            emoji.put("telephone", "☎");
-            emoji.put("telephone_receiver", "📞");
-            emoji.put("telescope", "🔭");
-            emoji.put("television", "📺");
-            emoji.put("ten-thirty", "🕥");
-            emoji.put("ten_o’clock", "🕙");
-            emoji.put("tennis", "🎾");
-            emoji.put("tent", "⛺");
-            emoji.put("test_tube", "🧪");
-            emoji.put("thermometer", "🌡");
-            emoji.put("thinking_face", "🤔");
-            emoji.put("thought_balloon", "💭");
-            emoji.put("thread", "🧵");
-            emoji.put("three-thirty", "🕞");
-            emoji.put("three_o’clock", "🕒");
-            emoji.put("thumbs_down", "👎");
-            emoji.put("thumbs_down_dark_skin_tone", "👎🏿");
-            emoji.put("thumbs_down_light_skin_tone", "👎🏻");
-            emoji.put("thumbs_down_medium-dark_skin_tone", "👎🏾");
-            emoji.put("thumbs_down_medium-light_skin_tone", "👎🏼");
-            emoji.put("thumbs_down_medium_skin_tone", "👎🏽");
-            emoji.put("thumbs_up", "👍");
-            emoji.put("thumbs_up_dark_skin_tone", "👍🏿");
-            emoji.put("thumbs_up_light_skin_tone", "👍🏻");
-            emoji.put("thumbs_up_medium-dark_skin_tone", "👍🏾");
-            emoji.put("thumbs_up_medium-light_skin_tone", "👍🏼");
-            emoji.put("thumbs_up_medium_skin_tone", "👍🏽");
-            emoji.put("ticket", "🎫");
-            emoji.put("tiger", "🐯");
-            emoji.put("tiger_face", "🐯");
-            emoji.put("timer_clock", "⏲");
-            emoji.put("tired_face", "😫");
-            emoji.put("toolbox", "🧰");
-            emoji.put("toilet", "🚽");
-            emoji.put("tomato", "🍅");
-            emoji.put("tongue", "👅");
-            emoji.put("tooth", "🦷");
-            emoji.put("top_hat", "🎩");
-            emoji.put("tornado", "🌪");
-            emoji.put("trackball", "🖲");
-            emoji.put("tractor", "🚜");
-            emoji.put("trade_mark", "™");
-            emoji.put("train", "🚋");
-            emoji.put("tram", "🚊");
-            emoji.put("tram_car", "🚋");
-            emoji.put("triangular_flag", "🚩");
-            emoji.put("triangular_ruler", "📐");
-            emoji.put("trident_emblem", "🔱");
-            emoji.put("trolleybus", "🚎");
-            emoji.put("trophy", "🏆");
-            emoji.put("tropical_drink", "🍹");
-            emoji.put("tropical_fish", "🐠");
-            emoji.put("trumpet", "🎺");
-            emoji.put("tulip", "🌷");
-            emoji.put("tumbler_glass", "🥃");
-            emoji.put("turtle", "🐢");
-            emoji.put("twelve-thirty", "🕧");
-            emoji.put("twelve_o’clock", "🕛");
-            emoji.put("two-hump_camel", "🐫");
-            emoji.put("two-thirty", "🕝");
-            emoji.put("two_hearts", "💕");
-            emoji.put("two_men_holding_hands", "👬");
-            emoji.put("two_o’clock", "🕑");
-            emoji.put("two_women_holding_hands", "👭");
-            emoji.put("umbrella", "☂");
-            emoji.put("umbrella_on_ground", "⛱");
-            emoji.put("umbrella_with_rain_drops", "☔");
-            emoji.put("unamused_face", "😒");
-            emoji.put("unicorn_face", "🦄");
-            emoji.put("unlocked", "🔓");
-            emoji.put("up-down_arrow", "↕");
-            emoji.put("up-left_arrow", "↖");
-            emoji.put("up-right_arrow", "↗");
-            emoji.put("up_arrow", "⬆");
-            emoji.put("upside-down_face", "🙃");
-            emoji.put("upwards_button", "🔼");
-            emoji.put("vampire", "🧛");
-            emoji.put("vampire_dark_skin_tone", "🧛🏿");
-            emoji.put("vampire_light_skin_tone", "🧛🏻");
-            emoji.put("vampire_medium-dark_skin_tone", "🧛🏾");
-            emoji.put("vampire_medium-light_skin_tone", "🧛🏼");
-            emoji.put("vampire_medium_skin_tone", "🧛🏽");
-            emoji.put("vertical_traffic_light", "🚦");
-            emoji.put("vibration_mode", "📳");
-            emoji.put("victory_hand", "✌");
-            emoji.put("victory_hand_dark_skin_tone", "✌🏿");
-            emoji.put("victory_hand_light_skin_tone", "✌🏻");
-            emoji.put("victory_hand_medium-dark_skin_tone", "✌🏾");
-            emoji.put("victory_hand_medium-light_skin_tone", "✌🏼");
-            emoji.put("victory_hand_medium_skin_tone", "✌🏽");
-            emoji.put("video_camera", "📹");
-            emoji.put("video_game", "🎮");
-            emoji.put("videocassette", "📼");
-            emoji.put("violin", "🎻");
-            emoji.put("volcano", "🌋");
-            emoji.put("volleyball", "🏐");
-            emoji.put("vulcan_salute", "🖖");
-            emoji.put("vulcan_salute_dark_skin_tone", "🖖🏿");
-            emoji.put("vulcan_salute_light_skin_tone", "🖖🏻");
-            emoji.put("vulcan_salute_medium-dark_skin_tone", "🖖🏾");
-            emoji.put("vulcan_salute_medium-light_skin_tone", "🖖🏼");
-            emoji.put("vulcan_salute_medium_skin_tone", "🖖🏽");
-            emoji.put("waffle", "🧇");
-            emoji.put("waning_crescent_moon", "🌘");
-            emoji.put("waning_gibbous_moon", "🌖");
-            emoji.put("warning", "⚠");
-            emoji.put("wastebasket", "🗑");
-            emoji.put("watch", "⌚");
-            emoji.put("water_buffalo", "🐃");
-            emoji.put("water_closet", "🚾");
-            emoji.put("water_wave", "🌊");
-            emoji.put("watermelon", "🍉");
-            emoji.put("waving_hand", "👋");
-            emoji.put("waving_hand_dark_skin_tone", "👋🏿");
-            emoji.put("waving_hand_light_skin_tone", "👋🏻");
-            emoji.put("waving_hand_medium-dark_skin_tone", "👋🏾");
-            emoji.put("waving_hand_medium-light_skin_tone", "👋🏼");
-            emoji.put("waving_hand_medium_skin_tone", "👋🏽");
-            emoji.put("wavy_dash", "〰");
-            emoji.put("waxing_crescent_moon", "🌒");
-            emoji.put("waxing_gibbous_moon", "🌔");
-            emoji.put("weary_cat_face", "🙀");
-            emoji.put("weary_face", "😩");
-            emoji.put("wedding", "💒");
-            emoji.put("whale", "🐳");
-            emoji.put("wheel_of_dharma", "☸");
-            emoji.put("wheelchair_symbol", "♿");
-            emoji.put("white_circle", "⚪");
-            emoji.put("white_exclamation_mark", "❕");
-            emoji.put("white_flag", "🏳");
-            emoji.put("white_flower", "💮");
-            emoji.put("white_hair", "🦳");
-            emoji.put("white-haired_man", "👨\u200d🦳");
-            emoji.put("white-haired_woman", "👩\u200d🦳");
-            emoji.put("white_heart", "🤍");
-            emoji.put("white_heavy_check_mark", "✅");
-            emoji.put("white_large_square", "⬜");
-            emoji.put("white_medium-small_square", "◽");
-            emoji.put("white_medium_square", "◻");
-            emoji.put("white_medium_star", "⭐");
-            emoji.put("white_question_mark", "❔");
-            emoji.put("white_small_square", "▫");
-            emoji.put("white_square_button", "🔳");
-            emoji.put("wilted_flower", "🥀");
-            emoji.put("wind_chime", "🎐");
-            emoji.put("wind_face", "🌬");
-            emoji.put("wine_glass", "🍷");
-            emoji.put("winking_face", "😉");
-            emoji.put("winking_face_with_tongue", "😜");
-            emoji.put("wolf_face", "🐺");
-            emoji.put("woman", "👩");
-            emoji.put("woman_artist", "👩\u200d🎨");
-            emoji.put("woman_artist_dark_skin_tone", "👩🏿\u200d🎨");
-            emoji.put("woman_artist_light_skin_tone", "👩🏻\u200d🎨");
-            emoji.put("woman_artist_medium-dark_skin_tone", "👩🏾\u200d🎨");
-            emoji.put("woman_artist_medium-light_skin_tone", "👩🏼\u200d🎨");
-            emoji.put("woman_artist_medium_skin_tone", "👩🏽\u200d🎨");
-            emoji.put("woman_astronaut", "👩\u200d🚀");
-            emoji.put("woman_astronaut_dark_skin_tone", "👩🏿\u200d🚀");
-            emoji.put("woman_astronaut_light_skin_tone", "👩🏻\u200d🚀");
-            emoji.put("woman_astronaut_medium-dark_skin_tone", "👩🏾\u200d🚀");
-            emoji.put("woman_astronaut_medium-light_skin_tone", "👩🏼\u200d🚀");
-            emoji.put("woman_astronaut_medium_skin_tone", "👩🏽\u200d🚀");
-            emoji.put("woman_biking", "🚴\u200d♀️");
-            emoji.put("woman_biking_dark_skin_tone", "🚴🏿\u200d♀️");
-            emoji.put("woman_biking_light_skin_tone", "🚴🏻\u200d♀️");
-            emoji.put("woman_biking_medium-dark_skin_tone", "🚴🏾\u200d♀️");
-            emoji.put("woman_biking_medium-light_skin_tone", "🚴🏼\u200d♀️");
-            emoji.put("woman_biking_medium_skin_tone", "🚴🏽\u200d♀️");
-            emoji.put("woman_bouncing_ball", "⛹️\u200d♀️");
-            emoji.put("woman_bouncing_ball_dark_skin_tone", "⛹🏿\u200d♀️");
-            emoji.put("woman_bouncing_ball_light_skin_tone", "⛹🏻\u200d♀️");
-            emoji.put("woman_bouncing_ball_medium-dark_skin_tone", "⛹🏾\u200d♀️");
-            emoji.put("woman_bouncing_ball_medium-light_skin_tone", "⛹🏼\u200d♀️");
-            emoji.put("woman_bouncing_ball_medium_skin_tone", "⛹🏽\u200d♀️");
-            emoji.put("woman_bowing", "🙇\u200d♀️");
-            emoji.put("woman_bowing_dark_skin_tone", "🙇🏿\u200d♀️");
-            emoji.put("woman_bowing_light_skin_tone", "🙇🏻\u200d♀️");
-            emoji.put("woman_bowing_medium-dark_skin_tone", "🙇🏾\u200d♀️");
-            emoji.put("woman_bowing_medium-light_skin_tone", "🙇🏼\u200d♀️");
-            emoji.put("woman_bowing_medium_skin_tone", "🙇🏽\u200d♀️");
-            emoji.put("woman_cartwheeling", "🤸\u200d♀️");
-            emoji.put("woman_cartwheeling_dark_skin_tone", "🤸🏿\u200d♀️");
-            emoji.put("woman_cartwheeling_light_skin_tone", "🤸🏻\u200d♀️");
-            emoji.put("woman_cartwheeling_medium-dark_skin_tone", "🤸🏾\u200d♀️");
-            emoji.put("woman_cartwheeling_medium-light_skin_tone", "🤸🏼\u200d♀️");
-            emoji.put("woman_cartwheeling_medium_skin_tone", "🤸🏽\u200d♀️");
-            emoji.put("woman_climbing", "🧗\u200d♀️");
-            emoji.put("woman_climbing_dark_skin_tone", "🧗🏿\u200d♀️");
-            emoji.put("woman_climbing_light_skin_tone", "🧗🏻\u200d♀️");
-            emoji.put("woman_climbing_medium-dark_skin_tone", "🧗🏾\u200d♀️");
-            emoji.put("woman_climbing_medium-light_skin_tone", "🧗🏼\u200d♀️");
-            emoji.put("woman_climbing_medium_skin_tone", "🧗🏽\u200d♀️");
-            emoji.put("woman_construction_worker", "👷\u200d♀️");
-            emoji.put("woman_construction_worker_dark_skin_tone", "👷🏿\u200d♀️");
-            emoji.put("woman_construction_worker_light_skin_tone", "👷🏻\u200d♀️");
-            emoji.put("woman_construction_worker_medium-dark_skin_tone", "👷🏾\u200d♀️");
-            emoji.put("woman_construction_worker_medium-light_skin_tone", "👷🏼\u200d♀️");
-            emoji.put("woman_construction_worker_medium_skin_tone", "👷🏽\u200d♀️");
-            emoji.put("woman_cook", "👩\u200d🍳");
-            emoji.put("woman_cook_dark_skin_tone", "👩🏿\u200d🍳");
-            emoji.put("woman_cook_light_skin_tone", "👩🏻\u200d🍳");
-            emoji.put("woman_cook_medium-dark_skin_tone", "👩🏾\u200d🍳");
-            emoji.put("woman_cook_medium-light_skin_tone", "👩🏼\u200d🍳");
-            emoji.put("woman_cook_medium_skin_tone", "👩🏽\u200d🍳");
-            emoji.put("woman_dancing", "💃");
-            emoji.put("woman_dancing_dark_skin_tone", "💃🏿");
-            emoji.put("woman_dancing_light_skin_tone", "💃🏻");
-            emoji.put("woman_dancing_medium-dark_skin_tone", "💃🏾");
-            emoji.put("woman_dancing_medium-light_skin_tone", "💃🏼");
-            emoji.put("woman_dancing_medium_skin_tone", "💃🏽");
-            emoji.put("woman_dark_skin_tone", "👩🏿");
-            emoji.put("woman_detective", "🕵️\u200d♀️");
-            emoji.put("woman_detective_dark_skin_tone", "🕵🏿\u200d♀️");
-            emoji.put("woman_detective_light_skin_tone", "🕵🏻\u200d♀️");
-            emoji.put("woman_detective_medium-dark_skin_tone", "🕵🏾\u200d♀️");
-            emoji.put("woman_detective_medium-light_skin_tone", "🕵🏼\u200d♀️");
-            emoji.put("woman_detective_medium_skin_tone", "🕵🏽\u200d♀️");
-            emoji.put("woman_elf", "🧝\u200d♀️");
-            emoji.put("woman_elf_dark_skin_tone", "🧝🏿\u200d♀️");
-            emoji.put("woman_elf_light_skin_tone", "🧝🏻\u200d♀️");
-            emoji.put("woman_elf_medium-dark_skin_tone", "🧝🏾\u200d♀️");
-            emoji.put("woman_elf_medium-light_skin_tone", "🧝🏼\u200d♀️");
-            emoji.put("woman_elf_medium_skin_tone", "🧝🏽\u200d♀️");
-            emoji.put("woman_facepalming", "🤦\u200d♀️");
-            emoji.put("woman_facepalming_dark_skin_tone", "🤦🏿\u200d♀️");
-            emoji.put("woman_facepalming_light_skin_tone", "🤦🏻\u200d♀️");
-            emoji.put("woman_facepalming_medium-dark_skin_tone", "🤦🏾\u200d♀️");
-            emoji.put("woman_facepalming_medium-light_skin_tone", "🤦🏼\u200d♀️");
-            emoji.put("woman_facepalming_medium_skin_tone", "🤦🏽\u200d♀️");
-            emoji.put("woman_factory_worker", "👩\u200d🏭");
-            emoji.put("woman_factory_worker_dark_skin_tone", "👩🏿\u200d🏭");
-            emoji.put("woman_factory_worker_light_skin_tone", "👩🏻\u200d🏭");
-            emoji.put("woman_factory_worker_medium-dark_skin_tone", "👩🏾\u200d🏭");
-            emoji.put("woman_factory_worker_medium-light_skin_tone", "👩🏼\u200d🏭");
-            emoji.put("woman_factory_worker_medium_skin_tone", "👩🏽\u200d🏭");
-            emoji.put("woman_fairy", "🧚\u200d♀️");
-            emoji.put("woman_fairy_dark_skin_tone", "🧚🏿\u200d♀️");
-            emoji.put("woman_fairy_light_skin_tone", "🧚🏻\u200d♀️");
-            emoji.put("woman_fairy_medium-dark_skin_tone", "🧚🏾\u200d♀️");
-            emoji.put("woman_fairy_medium-light_skin_tone", "🧚🏼\u200d♀️");
-            emoji.put("woman_fairy_medium_skin_tone", "🧚🏽\u200d♀️");
-            emoji.put("woman_farmer", "👩\u200d🌾");
-            emoji.put("woman_farmer_dark_skin_tone", "👩🏿\u200d🌾");
-            emoji.put("woman_farmer_light_skin_tone", "👩🏻\u200d🌾");
-            emoji.put("woman_farmer_medium-dark_skin_tone", "👩🏾\u200d🌾");
-            emoji.put("woman_farmer_medium-light_skin_tone", "👩🏼\u200d🌾");
-            emoji.put("woman_farmer_medium_skin_tone", "👩🏽\u200d🌾");
-            emoji.put("woman_firefighter", "👩\u200d🚒");
-            emoji.put("woman_firefighter_dark_skin_tone", "👩🏿\u200d🚒");
-            emoji.put("woman_firefighter_light_skin_tone", "👩🏻\u200d🚒");
-            emoji.put("woman_firefighter_medium-dark_skin_tone", "👩🏾\u200d🚒");
-            emoji.put("woman_firefighter_medium-light_skin_tone", "👩🏼\u200d🚒");
-            emoji.put("woman_firefighter_medium_skin_tone", "👩🏽\u200d🚒");
-            emoji.put("woman_frowning", "🙍\u200d♀️");
-            emoji.put("woman_frowning_dark_skin_tone", "🙍🏿\u200d♀️");
-            emoji.put("woman_frowning_light_skin_tone", "🙍🏻\u200d♀️");
-            emoji.put("woman_frowning_medium-dark_skin_tone", "🙍🏾\u200d♀️");
-            emoji.put("woman_frowning_medium-light_skin_tone", "🙍🏼\u200d♀️");
-            emoji.put("woman_frowning_medium_skin_tone", "🙍🏽\u200d♀️");
-            emoji.put("woman_genie", "🧞\u200d♀️");
-            emoji.put("woman_gesturing_no", "🙅\u200d♀️");
-            emoji.put("woman_gesturing_no_dark_skin_tone", "🙅🏿\u200d♀️");
-            emoji.put("woman_gesturing_no_light_skin_tone", "🙅🏻\u200d♀️");
-            emoji.put("woman_gesturing_no_medium-dark_skin_tone", "🙅🏾\u200d♀️");
-            emoji.put("woman_gesturing_no_medium-light_skin_tone", "🙅🏼\u200d♀️");
-            emoji.put("woman_gesturing_no_medium_skin_tone", "🙅🏽\u200d♀️");
-            emoji.put("woman_gesturing_ok", "🙆\u200d♀️");
-            emoji.put("woman_gesturing_ok_dark_skin_tone", "🙆🏿\u200d♀️");
-            emoji.put("woman_gesturing_ok_light_skin_tone", "🙆🏻\u200d♀️");
-            emoji.put("woman_gesturing_ok_medium-dark_skin_tone", "🙆🏾\u200d♀️");
-            emoji.put("woman_gesturing_ok_medium-light_skin_tone", "🙆🏼\u200d♀️");
-            emoji.put("woman_gesturing_ok_medium_skin_tone", "🙆🏽\u200d♀️");
-            emoji.put("woman_getting_haircut", "💇\u200d♀️");
-            emoji.put("woman_getting_haircut_dark_skin_tone", "💇🏿\u200d♀️");
-            emoji.put("woman_getting_haircut_light_skin_tone", "💇🏻\u200d♀️");
-            emoji.put("woman_getting_haircut_medium-dark_skin_tone", "💇🏾\u200d♀️");
-            emoji.put("woman_getting_haircut_medium-light_skin_tone", "💇🏼\u200d♀️");
-            emoji.put("woman_getting_haircut_medium_skin_tone", "💇🏽\u200d♀️");
-            emoji.put("woman_getting_massage", "💆\u200d♀️");
-            emoji.put("woman_getting_massage_dark_skin_tone", "💆🏿\u200d♀️");
-            emoji.put("woman_getting_massage_light_skin_tone", "💆🏻\u200d♀️");
-            emoji.put("woman_getting_massage_medium-dark_skin_tone", "💆🏾\u200d♀️");
-            emoji.put("woman_getting_massage_medium-light_skin_tone", "💆🏼\u200d♀️");
-            emoji.put("woman_getting_massage_medium_skin_tone", "💆🏽\u200d♀️");
-            emoji.put("woman_golfing", "🏌️\u200d♀️");
-            emoji.put("woman_golfing_dark_skin_tone", "🏌🏿\u200d♀️");
-            emoji.put("woman_golfing_light_skin_tone", "🏌🏻\u200d♀️");
-            emoji.put("woman_golfing_medium-dark_skin_tone", "🏌🏾\u200d♀️");
-            emoji.put("woman_golfing_medium-light_skin_tone", "🏌🏼\u200d♀️");
-            emoji.put("woman_golfing_medium_skin_tone", "🏌🏽\u200d♀️");
-            emoji.put("woman_guard", "💂\u200d♀️");
-            emoji.put("woman_guard_dark_skin_tone", "💂🏿\u200d♀️");
-            emoji.put("woman_guard_light_skin_tone", "💂🏻\u200d♀️");
-            emoji.put("woman_guard_medium-dark_skin_tone", "💂🏾\u200d♀️");
-            emoji.put("woman_guard_medium-light_skin_tone", "💂🏼\u200d♀️");
-            emoji.put("woman_guard_medium_skin_tone", "💂🏽\u200d♀️");
-            emoji.put("woman_health_worker", "👩\u200d⚕️");
-            emoji.put("woman_health_worker_dark_skin_tone", "👩🏿\u200d⚕️");
-            emoji.put("woman_health_worker_light_skin_tone", "👩🏻\u200d⚕️");
-            emoji.put("woman_health_worker_medium-dark_skin_tone", "👩🏾\u200d⚕️");
-            emoji.put("woman_health_worker_medium-light_skin_tone", "👩🏼\u200d⚕️");
-            emoji.put("woman_health_worker_medium_skin_tone", "👩🏽\u200d⚕️");
-            emoji.put("woman_in_lotus_position", "🧘\u200d♀️");
-            emoji.put("woman_in_lotus_position_dark_skin_tone", "🧘🏿\u200d♀️");
-            emoji.put("woman_in_lotus_position_light_skin_tone", "🧘🏻\u200d♀️");
-            emoji.put("woman_in_lotus_position_medium-dark_skin_tone", "🧘🏾\u200d♀️");
-            emoji.put("woman_in_lotus_position_medium-light_skin_tone", "🧘🏼\u200d♀️");
-            emoji.put("woman_in_lotus_position_medium_skin_tone", "🧘🏽\u200d♀️");
-            emoji.put("woman_in_manual_wheelchair", "👩\u200d🦽");
-            emoji.put("woman_in_motorized_wheelchair", "👩\u200d🦼");
-            emoji.put("woman_in_steamy_room", "🧖\u200d♀️");
-            emoji.put("woman_in_steamy_room_dark_skin_tone", "🧖🏿\u200d♀️");
-            emoji.put("woman_in_steamy_room_light_skin_tone", "🧖🏻\u200d♀️");
-            emoji.put("woman_in_steamy_room_medium-dark_skin_tone", "🧖🏾\u200d♀️");
-            emoji.put("woman_in_steamy_room_medium-light_skin_tone", "🧖🏼\u200d♀️");
-            emoji.put("woman_in_steamy_room_medium_skin_tone", "🧖🏽\u200d♀️");
-            emoji.put("woman_judge", "👩\u200d⚖️");
-            emoji.put("woman_judge_dark_skin_tone", "👩🏿\u200d⚖️");
-            emoji.put("woman_judge_light_skin_tone", "👩🏻\u200d⚖️");
-            emoji.put("woman_judge_medium-dark_skin_tone", "👩🏾\u200d⚖️");
-            emoji.put("woman_judge_medium-light_skin_tone", "👩🏼\u200d⚖️");
-            emoji.put("woman_judge_medium_skin_tone", "👩🏽\u200d⚖️");
-            emoji.put("woman_juggling", "🤹\u200d♀️");
-            emoji.put("woman_juggling_dark_skin_tone", "🤹🏿\u200d♀️");
-            emoji.put("woman_juggling_light_skin_tone", "🤹🏻\u200d♀️");
-            emoji.put("woman_juggling_medium-dark_skin_tone", "🤹🏾\u200d♀️");
-            emoji.put("woman_juggling_medium-light_skin_tone", "🤹🏼\u200d♀️");
-            emoji.put("woman_juggling_medium_skin_tone", "🤹🏽\u200d♀️");
-            emoji.put("woman_lifting_weights", "🏋️\u200d♀️");
-            emoji.put("woman_lifting_weights_dark_skin_tone", "🏋🏿\u200d♀️");
-            emoji.put("woman_lifting_weights_light_skin_tone", "🏋🏻\u200d♀️");
-            emoji.put("woman_lifting_weights_medium-dark_skin_tone", "🏋🏾\u200d♀️");
-            emoji.put("woman_lifting_weights_medium-light_skin_tone", "🏋🏼\u200d♀️");
-            emoji.put("woman_lifting_weights_medium_skin_tone", "🏋🏽\u200d♀️");
-            emoji.put("woman_light_skin_tone", "👩🏻");
-            emoji.put("woman_mage", "🧙\u200d♀️");
-            emoji.put("woman_mage_dark_skin_tone", "🧙🏿\u200d♀️");
-            emoji.put("woman_mage_light_skin_tone", "🧙🏻\u200d♀️");
-            emoji.put("woman_mage_medium-dark_skin_tone", "🧙🏾\u200d♀️");
-            emoji.put("woman_mage_medium-light_skin_tone", "🧙🏼\u200d♀️");
-            emoji.put("woman_mage_medium_skin_tone", "🧙🏽\u200d♀️");
-            emoji.put("woman_mechanic", "👩\u200d🔧");
-            emoji.put("woman_mechanic_dark_skin_tone", "👩🏿\u200d🔧");
-            emoji.put("woman_mechanic_light_skin_tone", "👩🏻\u200d🔧");
-            emoji.put("woman_mechanic_medium-dark_skin_tone", "👩🏾\u200d🔧");
-            emoji.put("woman_mechanic_medium-light_skin_tone", "👩🏼\u200d🔧");
-            emoji.put("woman_mechanic_medium_skin_tone", "👩🏽\u200d🔧");
-            emoji.put("woman_medium-dark_skin_tone", "👩🏾");
-            emoji.put("woman_medium-light_skin_tone", "👩🏼");
-            emoji.put("woman_medium_skin_tone", "👩🏽");
-            emoji.put("woman_mountain_biking", "🚵\u200d♀️");
-            emoji.put("woman_mountain_biking_dark_skin_tone", "🚵🏿\u200d♀️");
-            emoji.put("woman_mountain_biking_light_skin_tone", "🚵🏻\u200d♀️");
-            emoji.put("woman_mountain_biking_medium-dark_skin_tone", "🚵🏾\u200d♀️");
-            emoji.put("woman_mountain_biking_medium-light_skin_tone", "🚵🏼\u200d♀️");
-            emoji.put("woman_mountain_biking_medium_skin_tone", "🚵🏽\u200d♀️");
-            emoji.put("woman_office_worker", "👩\u200d💼");
-            emoji.put("woman_office_worker_dark_skin_tone", "👩🏿\u200d💼");
-            emoji.put("woman_office_worker_light_skin_tone", "👩🏻\u200d💼");
-            emoji.put("woman_office_worker_medium-dark_skin_tone", "👩🏾\u200d💼");
-            emoji.put("woman_office_worker_medium-light_skin_tone", "👩🏼\u200d💼");
-            emoji.put("woman_office_worker_medium_skin_tone", "👩🏽\u200d💼");
-            emoji.put("woman_pilot", "👩\u200d✈️");
-            emoji.put("woman_pilot_dark_skin_tone", "👩🏿\u200d✈️");
-            emoji.put("woman_pilot_light_skin_tone", "👩🏻\u200d✈️");
-            emoji.put("woman_pilot_medium-dark_skin_tone", "👩🏾\u200d✈️");
-            emoji.put("woman_pilot_medium-light_skin_tone", "👩🏼\u200d✈️");
-            emoji.put("woman_pilot_medium_skin_tone", "👩🏽\u200d✈️");
-            emoji.put("woman_playing_handball", "🤾\u200d♀️");
-            emoji.put("woman_playing_handball_dark_skin_tone", "🤾🏿\u200d♀️");
-            emoji.put("woman_playing_handball_light_skin_tone", "🤾🏻\u200d♀️");
-            emoji.put("woman_playing_handball_medium-dark_skin_tone", "🤾🏾\u200d♀️");
-            emoji.put("woman_playing_handball_medium-light_skin_tone", "🤾🏼\u200d♀️");
-            emoji.put("woman_playing_handball_medium_skin_tone", "🤾🏽\u200d♀️");
-            emoji.put("woman_playing_water_polo", "🤽\u200d♀️");
-            emoji.put("woman_playing_water_polo_dark_skin_tone", "🤽🏿\u200d♀️");
-            emoji.put("woman_playing_water_polo_light_skin_tone", "🤽🏻\u200d♀️");
-            emoji.put("woman_playing_water_polo_medium-dark_skin_tone", "🤽🏾\u200d♀️");
-            emoji.put("woman_playing_water_polo_medium-light_skin_tone", "🤽🏼\u200d♀️");
-            emoji.put("woman_playing_water_polo_medium_skin_tone", "🤽🏽\u200d♀️");
-            emoji.put("woman_police_officer", "👮\u200d♀️");
-            emoji.put("woman_police_officer_dark_skin_tone", "👮🏿\u200d♀️");
-            emoji.put("woman_police_officer_light_skin_tone", "👮🏻\u200d♀️");
-            emoji.put("woman_police_officer_medium-dark_skin_tone", "👮🏾\u200d♀️");
-            emoji.put("woman_police_officer_medium-light_skin_tone", "👮🏼\u200d♀️");
-            emoji.put("woman_police_officer_medium_skin_tone", "👮🏽\u200d♀️");
-            emoji.put("woman_pouting", "🙎\u200d♀️");
-            emoji.put("woman_pouting_dark_skin_tone", "🙎🏿\u200d♀️");
-            emoji.put("woman_pouting_light_skin_tone", "🙎🏻\u200d♀️");
-            emoji.put("woman_pouting_medium-dark_skin_tone", "🙎🏾\u200d♀️");
-            emoji.put("woman_pouting_medium-light_skin_tone", "🙎🏼\u200d♀️");
-            emoji.put("woman_pouting_medium_skin_tone", "🙎🏽\u200d♀️");
-            emoji.put("woman_raising_hand", "🙋\u200d♀️");
-            emoji.put("woman_raising_hand_dark_skin_tone", "🙋🏿\u200d♀️");
-            emoji.put("woman_raising_hand_light_skin_tone", "🙋🏻\u200d♀️");
-            emoji.put("woman_raising_hand_medium-dark_skin_tone", "🙋🏾\u200d♀️");
-            emoji.put("woman_raising_hand_medium-light_skin_tone", "🙋🏼\u200d♀️");
-            emoji.put("woman_raising_hand_medium_skin_tone", "🙋🏽\u200d♀️");
-            emoji.put("woman_rowing_boat", "🚣\u200d♀️");
-            emoji.put("woman_rowing_boat_dark_skin_tone", "🚣🏿\u200d♀️");
-            emoji.put("woman_rowing_boat_light_skin_tone", "🚣🏻\u200d♀️");
-            emoji.put("woman_rowing_boat_medium-dark_skin_tone", "🚣🏾\u200d♀️");
-            emoji.put("woman_rowing_boat_medium-light_skin_tone", "🚣🏼\u200d♀️");
-            emoji.put("woman_rowing_boat_medium_skin_tone", "🚣🏽\u200d♀️");
-            emoji.put("woman_running", "🏃\u200d♀️");
-            emoji.put("woman_running_dark_skin_tone", "🏃🏿\u200d♀️");
-            emoji.put("woman_running_light_skin_tone", "🏃🏻\u200d♀️");
-            emoji.put("woman_running_medium-dark_skin_tone", "🏃🏾\u200d♀️");
-            emoji.put("woman_running_medium-light_skin_tone", "🏃🏼\u200d♀️");
-            emoji.put("woman_running_medium_skin_tone", "🏃🏽\u200d♀️");
-            emoji.put("woman_scientist", "👩\u200d🔬");
-            emoji.put("woman_scientist_dark_skin_tone", "👩🏿\u200d🔬");
-            emoji.put("woman_scientist_light_skin_tone", "👩🏻\u200d🔬");
-            emoji.put("woman_scientist_medium-dark_skin_tone", "👩🏾\u200d🔬");
-            emoji.put("woman_scientist_medium-light_skin_tone", "👩🏼\u200d🔬");
-            emoji.put("woman_scientist_medium_skin_tone", "👩🏽\u200d🔬");
-            emoji.put("woman_shrugging", "🤷\u200d♀️");
-            emoji.put("woman_shrugging_dark_skin_tone", "🤷🏿\u200d♀️");
-            emoji.put("woman_shrugging_light_skin_tone", "🤷🏻\u200d♀️");
-            emoji.put("woman_shrugging_medium-dark_skin_tone", "🤷🏾\u200d♀️");
-            emoji.put("woman_shrugging_medium-light_skin_tone", "🤷🏼\u200d♀️");
-            emoji.put("woman_shrugging_medium_skin_tone", "🤷🏽\u200d♀️");
-            emoji.put("woman_singer", "👩\u200d🎤");
-            emoji.put("woman_singer_dark_skin_tone", "👩🏿\u200d🎤");
-            emoji.put("woman_singer_light_skin_tone", "👩🏻\u200d🎤");
-            emoji.put("woman_singer_medium-dark_skin_tone", "👩🏾\u200d🎤");
-            emoji.put("woman_singer_medium-light_skin_tone", "👩🏼\u200d🎤");
-            emoji.put("woman_singer_medium_skin_tone", "👩🏽\u200d🎤");
-            emoji.put("woman_student", "👩\u200d🎓");
-            emoji.put("woman_student_dark_skin_tone", "👩🏿\u200d🎓");
-            emoji.put("woman_student_light_skin_tone", "👩🏻\u200d🎓");
-            emoji.put("woman_student_medium-dark_skin_tone", "👩🏾\u200d🎓");
-            emoji.put("woman_student_medium-light_skin_tone", "👩🏼\u200d🎓");
-            emoji.put("woman_student_medium_skin_tone", "👩🏽\u200d🎓");
-            emoji.put("woman_surfing", "🏄\u200d♀️");
-            emoji.put("woman_surfing_dark_skin_tone", "🏄🏿\u200d♀️");
-            emoji.put("woman_surfing_light_skin_tone", "🏄🏻\u200d♀️");
-            emoji.put("woman_surfing_medium-dark_skin_tone", "🏄🏾\u200d♀️");
-            emoji.put("woman_surfing_medium-light_skin_tone", "🏄🏼\u200d♀️");
-            emoji.put("woman_surfing_medium_skin_tone", "🏄🏽\u200d♀️");
-            emoji.put("woman_swimming", "🏊\u200d♀️");
-            emoji.put("woman_swimming_dark_skin_tone", "🏊🏿\u200d♀️");
-            emoji.put("woman_swimming_light_skin_tone", "🏊🏻\u200d♀️");
-            emoji.put("woman_swimming_medium-dark_skin_tone", "🏊🏾\u200d♀️");
-            emoji.put("woman_swimming_medium-light_skin_tone", "🏊🏼\u200d♀️");
-            emoji.put("woman_swimming_medium_skin_tone", "🏊🏽\u200d♀️");
-            emoji.put("woman_teacher", "👩\u200d🏫");
-            emoji.put("woman_teacher_dark_skin_tone", "👩🏿\u200d🏫");
-            emoji.put("woman_teacher_light_skin_tone", "👩🏻\u200d🏫");
-            emoji.put("woman_teacher_medium-dark_skin_tone", "👩🏾\u200d🏫");
-            emoji.put("woman_teacher_medium-light_skin_tone", "👩🏼\u200d🏫");
-            emoji.put("woman_teacher_medium_skin_tone", "👩🏽\u200d🏫");
-            emoji.put("woman_technologist", "👩\u200d💻");
-            emoji.put("woman_technologist_dark_skin_tone", "👩🏿\u200d💻");
-            emoji.put("woman_technologist_light_skin_tone", "👩🏻\u200d💻");
-            emoji.put("woman_technologist_medium-dark_skin_tone", "👩🏾\u200d💻");
-            emoji.put("woman_technologist_medium-light_skin_tone", "👩🏼\u200d💻");
-            emoji.put("woman_technologist_medium_skin_tone", "👩🏽\u200d💻");
-            emoji.put("woman_tipping_hand", "💁\u200d♀️");
-            emoji.put("woman_tipping_hand_dark_skin_tone", "💁🏿\u200d♀️");
-            emoji.put("woman_tipping_hand_light_skin_tone", "💁🏻\u200d♀️");
-            emoji.put("woman_tipping_hand_medium-dark_skin_tone", "💁🏾\u200d♀️");
-            emoji.put("woman_tipping_hand_medium-light_skin_tone", "💁🏼\u200d♀️");
-            emoji.put("woman_tipping_hand_medium_skin_tone", "💁🏽\u200d♀️");
-            emoji.put("woman_vampire", "🧛\u200d♀️");
-            emoji.put("woman_vampire_dark_skin_tone", "🧛🏿\u200d♀️");
-            emoji.put("woman_vampire_light_skin_tone", "🧛🏻\u200d♀️");
-            emoji.put("woman_vampire_medium-dark_skin_tone", "🧛🏾\u200d♀️");
-            emoji.put("woman_vampire_medium-light_skin_tone", "🧛🏼\u200d♀️");
-            emoji.put("woman_vampire_medium_skin_tone", "🧛🏽\u200d♀️");
-            emoji.put("woman_walking", "🚶\u200d♀️");
-            emoji.put("woman_walking_dark_skin_tone", "🚶🏿\u200d♀️");
-            emoji.put("woman_walking_light_skin_tone", "🚶🏻\u200d♀️");
-            emoji.put("woman_walking_medium-dark_skin_tone", "🚶🏾\u200d♀️");
-            emoji.put("woman_walking_medium-light_skin_tone", "🚶🏼\u200d♀️");
-            emoji.put("woman_walking_medium_skin_tone", "🚶🏽\u200d♀️");
-            emoji.put("woman_wearing_turban", "👳\u200d♀️");
-            emoji.put("woman_wearing_turban_dark_skin_tone", "👳🏿\u200d♀️");
-            emoji.put("woman_wearing_turban_light_skin_tone", "👳🏻\u200d♀️");
-            emoji.put("woman_wearing_turban_medium-dark_skin_tone", "👳🏾\u200d♀️");
-            emoji.put("woman_wearing_turban_medium-light_skin_tone", "👳🏼\u200d♀️");
-            emoji.put("woman_wearing_turban_medium_skin_tone", "👳🏽\u200d♀️");
-            emoji.put("woman_with_headscarf", "🧕");
-            emoji.put("woman_with_headscarf_dark_skin_tone", "🧕🏿");
-            emoji.put("woman_with_headscarf_light_skin_tone", "🧕🏻");
-            emoji.put("woman_with_headscarf_medium-dark_skin_tone", "🧕🏾");
-            emoji.put("woman_with_headscarf_medium-light_skin_tone", "🧕🏼");
-            emoji.put("woman_with_headscarf_medium_skin_tone", "🧕🏽");
-            emoji.put("woman_with_probing_cane", "👩\u200d🦯");
-            emoji.put("woman_zombie", "🧟\u200d♀️");
-            emoji.put("woman’s_boot", "👢");
-            emoji.put("woman’s_clothes", "👚");
-            emoji.put("woman’s_hat", "👒");
-            emoji.put("woman’s_sandal", "👡");
-            emoji.put("women_with_bunny_ears", "👯\u200d♀️");
-            emoji.put("women_wrestling", "🤼\u200d♀️");
-            emoji.put("women’s_room", "🚺");
-            emoji.put("woozy_face", "🥴");
-            emoji.put("world_map", "🗺");
-            emoji.put("worried_face", "😟");
-            emoji.put("wrapped_gift", "🎁");
-            emoji.put("wrench", "🔧");
-            emoji.put("writing_hand", "✍");
-            emoji.put("writing_hand_dark_skin_tone", "✍🏿");
-            emoji.put("writing_hand_light_skin_tone", "✍🏻");
-            emoji.put("writing_hand_medium-dark_skin_tone", "✍🏾");
-            emoji.put("writing_hand_medium-light_skin_tone", "✍🏼");
-            emoji.put("writing_hand_medium_skin_tone", "✍🏽");
-            emoji.put("yarn", "🧶");
-            emoji.put("yawning_face", "🥱");
-            emoji.put("yellow_circle", "🟡");
-            emoji.put("yellow_heart", "💛");
-            emoji.put("yellow_square", "🟨");
-            emoji.put("yen_banknote", "💴");
-            emoji.put("yo-yo", "🪀");
-            emoji.put("yin_yang", "☯");
-            emoji.put("zany_face", "🤪");
-            emoji.put("zebra", "🦓");
-            emoji.put("zipper-mouth_face", "🤐");
-            emoji.put("zombie", "🧟");
-            emoji.put("zzz", "💤");
-            emoji.put("åland_islands", "🇦🇽");
-            emoji.put("keycap_asterisk", "*⃣");
-            emoji.put("keycap_digit_eight", "8⃣");
-            emoji.put("keycap_digit_five", "5⃣");
-            emoji.put("keycap_digit_four", "4⃣");
-            emoji.put("keycap_digit_nine", "9⃣");
-            emoji.put("keycap_digit_one", "1⃣");
-            emoji.put("keycap_digit_seven", "7⃣");
-            emoji.put("keycap_digit_six", "6⃣");
-            emoji.put("keycap_digit_three", "3⃣");
-            emoji.put("keycap_digit_two", "2⃣");
-            emoji.put("keycap_digit_zero", "0⃣");
-            emoji.put("keycap_number_sign", "#⃣");
-            emoji.put("light_skin_tone", "🏻");
-            emoji.put("medium_light_skin_tone", "🏼");
-            emoji.put("medium_skin_tone", "🏽");
-            emoji.put("medium_dark_skin_tone", "🏾");
-            emoji.put("dark_skin_tone", "🏿");
-            emoji.put("regional_indicator_symbol_letter_a", "🇦");
-            emoji.put("regional_indicator_symbol_letter_b", "🇧");
-            emoji.put("regional_indicator_symbol_letter_c", "🇨");
-            emoji.put("regional_indicator_symbol_letter_d", "🇩");
-            emoji.put("regional_indicator_symbol_letter_e", "🇪");
-            emoji.put("regional_indicator_symbol_letter_f", "🇫");
-            emoji.put("regional_indicator_symbol_letter_g", "🇬");
-            emoji.put("regional_indicator_symbol_letter_h", "🇭");
-            emoji.put("regional_indicator_symbol_letter_i", "🇮");
-            emoji.put("regional_indicator_symbol_letter_j", "🇯");
-            emoji.put("regional_indicator_symbol_letter_k", "🇰");
-            emoji.put("regional_indicator_symbol_letter_l", "🇱");
-            emoji.put("regional_indicator_symbol_letter_m", "🇲");
-            emoji.put("regional_indicator_symbol_letter_n", "🇳");
-            emoji.put("regional_indicator_symbol_letter_o", "🇴");
-            emoji.put("regional_indicator_symbol_letter_p", "🇵");
-            emoji.put("regional_indicator_symbol_letter_q", "🇶");
-            emoji.put("regional_indicator_symbol_letter_r", "🇷");
-            emoji.put("regional_indicator_symbol_letter_s", "🇸");
-            emoji.put("regional_indicator_symbol_letter_t", "🇹");
-            emoji.put("regional_indicator_symbol_letter_u", "🇺");
-            emoji.put("regional_indicator_symbol_letter_v", "🇻");
-            emoji.put("regional_indicator_symbol_letter_w", "🇼");
-            emoji.put("regional_indicator_symbol_letter_x", "🇽");
-            emoji.put("regional_indicator_symbol_letter_y", "🇾");
-            emoji.put("regional_indicator_symbol_letter_z", "🇿");
-            emoji.put("airplane_arriving", "🛬");
-            emoji.put("space_invader", "👾");
-            emoji.put("football", "🏈");
-            emoji.put("anger", "💢");
-            emoji.put("angry", "😠");
-            emoji.put("anguished", "😧");
-            emoji.put("signal_strength", "📶");
-            emoji.put("arrows_counterclockwise", "🔄");
-            emoji.put("arrow_heading_down", "⤵");
-            emoji.put("arrow_heading_up", "⤴");
-            emoji.put("art", "🎨");
-            emoji.put("astonished", "😲");
-            emoji.put("athletic_shoe", "👟");
-            emoji.put("atm", "🏧");
-            emoji.put("car", "🚗");
-            emoji.put("red_car", "🚗");
-            emoji.put("angel", "👼");
-            emoji.put("back", "🔙");
-            emoji.put("badminton_racquet_and_shuttlecock", "🏸");
-            emoji.put("dollar", "💵");
-            emoji.put("euro", "💶");
-            emoji.put("pound", "💷");
-            emoji.put("yen", "💴");
-            emoji.put("barber", "💈");
-            emoji.put("bath", "🛀");
-            emoji.put("bear", "🐻");
-            emoji.put("heartbeat", "💓");
-            emoji.put("beer", "🍺");
-            emoji.put("no_bell", "🔕");
-            emoji.put("bento", "🍱");
-            emoji.put("bike", "🚲");
-            emoji.put("bicyclist", "🚴");
-            emoji.put("8ball", "🎱");
-            emoji.put("biohazard_sign", "☣");
-            emoji.put("birthday", "🎂");
-            emoji.put("black_circle_for_record", "⏺");
-            emoji.put("clubs", "♣");
-            emoji.put("diamonds", "♦");
-            emoji.put("arrow_double_down", "⏬");
-            emoji.put("hearts", "♥");
-            emoji.put("rewind", "⏪");
-            emoji.put("black_left__pointing_double_triangle_with_vertical_bar", "⏮");
-            emoji.put("arrow_backward", "◀");
-            emoji.put("black_medium_small_square", "◾");
-            emoji.put("question", "❓");
-            emoji.put("fast_forward", "⏩");
-            emoji.put("black_right__pointing_double_triangle_with_vertical_bar", "⏭");
-            emoji.put("arrow_forward", "▶");
-            emoji.put("black_right__pointing_triangle_with_double_vertical_bar", "⏯");
-            emoji.put("arrow_right", "➡");
-            emoji.put("spades", "♠");
-            emoji.put("black_square_for_stop", "⏹");
-            emoji.put("sunny", "☀");
-            emoji.put("phone", "☎");
-            emoji.put("recycle", "♻");
-            emoji.put("arrow_double_up", "⏫");
-            emoji.put("busstop", "🚏");
-            emoji.put("date", "📅");
-            emoji.put("flags", "🎏");
-            emoji.put("cat2", "🐈");
-            emoji.put("joy_cat", "😹");
-            emoji.put("smirk_cat", "😼");
-            emoji.put("chart_with_downwards_trend", "📉");
-            emoji.put("chart_with_upwards_trend", "📈");
-            emoji.put("chart", "💹");
-            emoji.put("mega", "📣");
-            emoji.put("checkered_flag", "🏁");
-            emoji.put("accept", "🉑");
-            emoji.put("ideograph_advantage", "🉐");
-            emoji.put("congratulations", "㊗");
-            emoji.put("secret", "㊙");
-            emoji.put("m", "Ⓜ");
-            emoji.put("city_sunset", "🌆");
-            emoji.put("clapper", "🎬");
-            emoji.put("clap", "👏");
-            emoji.put("beers", "🍻");
-            emoji.put("clock830", "🕣");
-            emoji.put("clock8", "🕗");
-            emoji.put("clock1130", "🕦");
-            emoji.put("clock11", "🕚");
-            emoji.put("clock530", "🕠");
-            emoji.put("clock5", "🕔");
-            emoji.put("clock430", "🕟");
-            emoji.put("clock4", "🕓");
-            emoji.put("clock930", "🕤");
-            emoji.put("clock9", "🕘");
-            emoji.put("clock130", "🕜");
-            emoji.put("clock1", "🕐");
-            emoji.put("clock730", "🕢");
-            emoji.put("clock7", "🕖");
-            emoji.put("clock630", "🕡");
-            emoji.put("clock6", "🕕");
-            emoji.put("clock1030", "🕥");
-            emoji.put("clock10", "🕙");
-            emoji.put("clock330", "🕞");
-            emoji.put("clock3", "🕒");
-            emoji.put("clock1230", "🕧");
-            emoji.put("clock12", "🕛");
-            emoji.put("clock230", "🕝");
-            emoji.put("clock2", "🕑");
-            emoji.put("arrows_clockwise", "🔃");
-            emoji.put("repeat", "🔁");
-            emoji.put("repeat_one", "🔂");
-            emoji.put("closed_lock_with_key", "🔐");
-            emoji.put("mailbox_closed", "📪");
-            emoji.put("mailbox", "📫");
-            emoji.put("cloud_with_tornado", "🌪");
-            emoji.put("cocktail", "🍸");
-            emoji.put("boom", "💥");
-            emoji.put("compression", "🗜");
-            emoji.put("confounded", "😖");
-            emoji.put("confused", "😕");
-            emoji.put("rice", "🍚");
-            emoji.put("cow2", "🐄");
-            emoji.put("cricket_bat_and_ball", "🏏");
-            emoji.put("x", "❌");
-            emoji.put("cry", "😢");
-            emoji.put("curry", "🍛");
-            emoji.put("dagger_knife", "🗡");
-            emoji.put("dancer", "💃");
-            emoji.put("dark_sunglasses", "🕶");
-            emoji.put("dash", "💨");
-            emoji.put("truck", "🚚");
-            emoji.put("derelict_house_building", "🏚");
-            emoji.put("diamond_shape_with_a_dot_inside", "💠");
-            emoji.put("dart", "🎯");
-            emoji.put("disappointed_relieved", "😥");
-            emoji.put("disappointed", "😞");
-            emoji.put("do_not_litter", "🚯");
-            emoji.put("dog2", "🐕");
-            emoji.put("flipper", "🐬");
-            emoji.put("loop", "➿");
-            emoji.put("bangbang", "‼");
-            emoji.put("double_vertical_bar", "⏸");
-            emoji.put("dove_of_peace", "🕊");
-            emoji.put("small_red_triangle_down", "🔻");
-            emoji.put("arrow_down_small", "🔽");
-            emoji.put("arrow_down", "⬇");
-            emoji.put("dromedary_camel", "🐪");
-            emoji.put("e__mail", "📧");
-            emoji.put("corn", "🌽");
-            emoji.put("ear_of_rice", "🌾");
-            emoji.put("earth_americas", "🌎");
-            emoji.put("earth_asia", "🌏");
-            emoji.put("earth_africa", "🌍");
-            emoji.put("eight_pointed_black_star", "✴");
-            emoji.put("eight_spoked_asterisk", "✳");
-            emoji.put("eject_symbol", "⏏");
-            emoji.put("bulb", "💡");
-            emoji.put("emoji_modifier_fitzpatrick_type__1__2", "🏻");
-            emoji.put("emoji_modifier_fitzpatrick_type__3", "🏼");
-            emoji.put("emoji_modifier_fitzpatrick_type__4", "🏽");
-            emoji.put("emoji_modifier_fitzpatrick_type__5", "🏾");
-            emoji.put("emoji_modifier_fitzpatrick_type__6", "🏿");
-            emoji.put("end", "🔚");
-            emoji.put("email", "✉");
-            emoji.put("european_castle", "🏰");
-            emoji.put("european_post_office", "🏤");
-            emoji.put("interrobang", "⁉");
-            emoji.put("expressionless", "😑");
-            emoji.put("eyeglasses", "👓");
-            emoji.put("massage", "💆");
-            emoji.put("yum", "😋");
-            emoji.put("scream", "😱");
-            emoji.put("kissing_heart", "😘");
-            emoji.put("sweat", "😓");
-            emoji.put("face_with_head__bandage", "🤕");
-            emoji.put("triumph", "😤");
-            emoji.put("mask", "😷");
-            emoji.put("no_good", "🙅");
-            emoji.put("ok_woman", "🙆");
-            emoji.put("open_mouth", "😮");
-            emoji.put("cold_sweat", "😰");
-            emoji.put("stuck_out_tongue", "😛");
-            emoji.put("stuck_out_tongue_closed_eyes", "😝");
-            emoji.put("stuck_out_tongue_winking_eye", "😜");
-            emoji.put("joy", "😂");
-            emoji.put("no_mouth", "😶");
-            emoji.put("santa", "🎅");
-            emoji.put("fax", "📠");
-            emoji.put("fearful", "😨");
-            emoji.put("field_hockey_stick_and_ball", "🏑");
-            emoji.put("first_quarter_moon_with_face", "🌛");
-            emoji.put("fish_cake", "🍥");
-            emoji.put("fishing_pole_and_fish", "🎣");
-            emoji.put("facepunch", "👊");
-            emoji.put("punch", "👊");
-            emoji.put("flag_for_afghanistan", "🇦🇫");
-            emoji.put("flag_for_albania", "🇦🇱");
-            emoji.put("flag_for_algeria", "🇩🇿");
-            emoji.put("flag_for_american_samoa", "🇦🇸");
-            emoji.put("flag_for_andorra", "🇦🇩");
-            emoji.put("flag_for_angola", "🇦🇴");
-            emoji.put("flag_for_anguilla", "🇦🇮");
-            emoji.put("flag_for_antarctica", "🇦🇶");
-            emoji.put("flag_for_antigua_&_barbuda", "🇦🇬");
-            emoji.put("flag_for_argentina", "🇦🇷");
-            emoji.put("flag_for_armenia", "🇦🇲");
-            emoji.put("flag_for_aruba", "🇦🇼");
-            emoji.put("flag_for_ascension_island", "🇦🇨");
-            emoji.put("flag_for_australia", "🇦🇺");
-            emoji.put("flag_for_austria", "🇦🇹");
-            emoji.put("flag_for_azerbaijan", "🇦🇿");
-            emoji.put("flag_for_bahamas", "🇧🇸");
-            emoji.put("flag_for_bahrain", "🇧🇭");
-            emoji.put("flag_for_bangladesh", "🇧🇩");
-            emoji.put("flag_for_barbados", "🇧🇧");
-            emoji.put("flag_for_belarus", "🇧🇾");
-            emoji.put("flag_for_belgium", "🇧🇪");
-            emoji.put("flag_for_belize", "🇧🇿");
-            emoji.put("flag_for_benin", "🇧🇯");
-            emoji.put("flag_for_bermuda", "🇧🇲");
-            emoji.put("flag_for_bhutan", "🇧🇹");
-            emoji.put("flag_for_bolivia", "🇧🇴");
-            emoji.put("flag_for_bosnia_&_herzegovina", "🇧🇦");
-            emoji.put("flag_for_botswana", "🇧🇼");
-            emoji.put("flag_for_bouvet_island", "🇧🇻");
-            emoji.put("flag_for_brazil", "🇧🇷");
-            emoji.put("flag_for_british_indian_ocean_territory", "🇮🇴");
-            emoji.put("flag_for_british_virgin_islands", "🇻🇬");
-            emoji.put("flag_for_brunei", "🇧🇳");
-            emoji.put("flag_for_bulgaria", "🇧🇬");
-            emoji.put("flag_for_burkina_faso", "🇧🇫");
-            emoji.put("flag_for_burundi", "🇧🇮");
-            emoji.put("flag_for_cambodia", "🇰🇭");
-            emoji.put("flag_for_cameroon", "🇨🇲");
-            emoji.put("flag_for_canada", "🇨🇦");
-            emoji.put("flag_for_canary_islands", "🇮🇨");
-            emoji.put("flag_for_cape_verde", "🇨🇻");
-            emoji.put("flag_for_caribbean_netherlands", "🇧🇶");
-            emoji.put("flag_for_cayman_islands", "🇰🇾");
-            emoji.put("flag_for_central_african_republic", "🇨🇫");
-            emoji.put("flag_for_ceuta_&_melilla", "🇪🇦");
-            emoji.put("flag_for_chad", "🇹🇩");
-            emoji.put("flag_for_chile", "🇨🇱");
-            emoji.put("flag_for_china", "🇨🇳");
-            emoji.put("flag_for_christmas_island", "🇨🇽");
-            emoji.put("flag_for_clipperton_island", "🇨🇵");
-            emoji.put("flag_for_cocos__islands", "🇨🇨");
-            emoji.put("flag_for_colombia", "🇨🇴");
-            emoji.put("flag_for_comoros", "🇰🇲");
-            emoji.put("flag_for_congo____brazzaville", "🇨🇬");
-            emoji.put("flag_for_congo____kinshasa", "🇨🇩");
-            emoji.put("flag_for_cook_islands", "🇨🇰");
-            emoji.put("flag_for_costa_rica", "🇨🇷");
-            emoji.put("flag_for_croatia", "🇭🇷");
-            emoji.put("flag_for_cuba", "🇨🇺");
-            emoji.put("flag_for_curaçao", "🇨🇼");
-            emoji.put("flag_for_cyprus", "🇨🇾");
-            emoji.put("flag_for_czech_republic", "🇨🇿");
-            emoji.put("flag_for_côte_d’ivoire", "🇨🇮");
-            emoji.put("flag_for_denmark", "🇩🇰");
-            emoji.put("flag_for_diego_garcia", "🇩🇬");
-            emoji.put("flag_for_djibouti", "🇩🇯");
-            emoji.put("flag_for_dominica", "🇩🇲");
-            emoji.put("flag_for_dominican_republic", "🇩🇴");
-            emoji.put("flag_for_ecuador", "🇪🇨");
-            emoji.put("flag_for_egypt", "🇪🇬");
-            emoji.put("flag_for_el_salvador", "🇸🇻");
-            emoji.put("flag_for_equatorial_guinea", "🇬🇶");
-            emoji.put("flag_for_eritrea", "🇪🇷");
-            emoji.put("flag_for_estonia", "🇪🇪");
-            emoji.put("flag_for_ethiopia", "🇪🇹");
-            emoji.put("flag_for_european_union", "🇪🇺");
-            emoji.put("flag_for_falkland_islands", "🇫🇰");
-            emoji.put("flag_for_faroe_islands", "🇫🇴");
-            emoji.put("flag_for_fiji", "🇫🇯");
-            emoji.put("flag_for_finland", "🇫🇮");
-            emoji.put("flag_for_france", "🇫🇷");
-            emoji.put("flag_for_french_guiana", "🇬🇫");
-            emoji.put("flag_for_french_polynesia", "🇵🇫");
-            emoji.put("flag_for_french_southern_territories", "🇹🇫");
-            emoji.put("flag_for_gabon", "🇬🇦");
-            emoji.put("flag_for_gambia", "🇬🇲");
-            emoji.put("flag_for_georgia", "🇬🇪");
-            emoji.put("flag_for_germany", "🇩🇪");
-            emoji.put("flag_for_ghana", "🇬🇭");
-            emoji.put("flag_for_gibraltar", "🇬🇮");
-            emoji.put("flag_for_greece", "🇬🇷");
-            emoji.put("flag_for_greenland", "🇬🇱");
-            emoji.put("flag_for_grenada", "🇬🇩");
-            emoji.put("flag_for_guadeloupe", "🇬🇵");
-            emoji.put("flag_for_guam", "🇬🇺");
-            emoji.put("flag_for_guatemala", "🇬🇹");
-            emoji.put("flag_for_guernsey", "🇬🇬");
-            emoji.put("flag_for_guinea", "🇬🇳");
-            emoji.put("flag_for_guinea__bissau", "🇬🇼");
-            emoji.put("flag_for_guyana", "🇬🇾");
-            emoji.put("flag_for_haiti", "🇭🇹");
-            emoji.put("flag_for_heard_&_mcdonald_islands", "🇭🇲");
-            emoji.put("flag_for_honduras", "🇭🇳");
-            emoji.put("flag_for_hong_kong", "🇭🇰");
-            emoji.put("flag_for_hungary", "🇭🇺");
-            emoji.put("flag_for_iceland", "🇮🇸");
-            emoji.put("flag_for_india", "🇮🇳");
-            emoji.put("flag_for_indonesia", "🇮🇩");
-            emoji.put("flag_for_iran", "🇮🇷");
-            emoji.put("flag_for_iraq", "🇮🇶");
-            emoji.put("flag_for_ireland", "🇮🇪");
-            emoji.put("flag_for_isle_of_man", "🇮🇲");
-            emoji.put("flag_for_israel", "🇮🇱");
-            emoji.put("flag_for_italy", "🇮🇹");
-            emoji.put("flag_for_jamaica", "🇯🇲");
-            emoji.put("flag_for_japan", "🇯🇵");
-            emoji.put("flag_for_jersey", "🇯🇪");
-            emoji.put("flag_for_jordan", "🇯🇴");
-            emoji.put("flag_for_kazakhstan", "🇰🇿");
-            emoji.put("flag_for_kenya", "🇰🇪");
-            emoji.put("flag_for_kiribati", "🇰🇮");
-            emoji.put("flag_for_kosovo", "🇽🇰");
-            emoji.put("flag_for_kuwait", "🇰🇼");
-            emoji.put("flag_for_kyrgyzstan", "🇰🇬");
-            emoji.put("flag_for_laos", "🇱🇦");
-            emoji.put("flag_for_latvia", "🇱🇻");
-            emoji.put("flag_for_lebanon", "🇱🇧");
-            emoji.put("flag_for_lesotho", "🇱🇸");
-            emoji.put("flag_for_liberia", "🇱🇷");
-            emoji.put("flag_for_libya", "🇱🇾");
-            emoji.put("flag_for_liechtenstein", "🇱🇮");
-            emoji.put("flag_for_lithuania", "🇱🇹");
-            emoji.put("flag_for_luxembourg", "🇱🇺");
-            emoji.put("flag_for_macau", "🇲🇴");
-            emoji.put("flag_for_macedonia", "🇲🇰");
-            emoji.put("flag_for_madagascar", "🇲🇬");
-            emoji.put("flag_for_malawi", "🇲🇼");
-            emoji.put("flag_for_malaysia", "🇲🇾");
-            emoji.put("flag_for_maldives", "🇲🇻");
-            emoji.put("flag_for_mali", "🇲🇱");
-            emoji.put("flag_for_malta", "🇲🇹");
-            emoji.put("flag_for_marshall_islands", "🇲🇭");
-            emoji.put("flag_for_martinique", "🇲🇶");
-            emoji.put("flag_for_mauritania", "🇲🇷");
-            emoji.put("flag_for_mauritius", "🇲🇺");
-            emoji.put("flag_for_mayotte", "🇾🇹");
-            emoji.put("flag_for_mexico", "🇲🇽");
-            emoji.put("flag_for_micronesia", "🇫🇲");
-            emoji.put("flag_for_moldova", "🇲🇩");
-            emoji.put("flag_for_monaco", "🇲🇨");
-            emoji.put("flag_for_mongolia", "🇲🇳");
-            emoji.put("flag_for_montenegro", "🇲🇪");
-            emoji.put("flag_for_montserrat", "🇲🇸");
-            emoji.put("flag_for_morocco", "🇲🇦");
-            emoji.put("flag_for_mozambique", "🇲🇿");
-            emoji.put("flag_for_myanmar", "🇲🇲");
-            emoji.put("flag_for_namibia", "🇳🇦");
-            emoji.put("flag_for_nauru", "🇳🇷");
-            emoji.put("flag_for_nepal", "🇳🇵");
-            emoji.put("flag_for_netherlands", "🇳🇱");
-            emoji.put("flag_for_new_caledonia", "🇳🇨");
-            emoji.put("flag_for_new_zealand", "🇳🇿");
-            emoji.put("flag_for_nicaragua", "🇳🇮");
-            emoji.put("flag_for_niger", "🇳🇪");
-            emoji.put("flag_for_nigeria", "🇳🇬");
-            emoji.put("flag_for_niue", "🇳🇺");
-            emoji.put("flag_for_norfolk_island", "🇳🇫");
-            emoji.put("flag_for_north_korea", "🇰🇵");
-            emoji.put("flag_for_northern_mariana_islands", "🇲🇵");
-            emoji.put("flag_for_norway", "🇳🇴");
-            emoji.put("flag_for_oman", "🇴🇲");
-            emoji.put("flag_for_pakistan", "🇵🇰");
-            emoji.put("flag_for_palau", "🇵🇼");
-            emoji.put("flag_for_palestinian_territories", "🇵🇸");
-            emoji.put("flag_for_panama", "🇵🇦");
-            emoji.put("flag_for_papua_new_guinea", "🇵🇬");
-            emoji.put("flag_for_paraguay", "🇵🇾");
-            emoji.put("flag_for_peru", "🇵🇪");
-            emoji.put("flag_for_philippines", "🇵🇭");
-            emoji.put("flag_for_pitcairn_islands", "🇵🇳");
-            emoji.put("flag_for_poland", "🇵🇱");
-            emoji.put("flag_for_portugal", "🇵🇹");
-            emoji.put("flag_for_puerto_rico", "🇵🇷");
-            emoji.put("flag_for_qatar", "🇶🇦");
-            emoji.put("flag_for_romania", "🇷🇴");
-            emoji.put("flag_for_russia", "🇷🇺");
-            emoji.put("flag_for_rwanda", "🇷🇼");
-            emoji.put("flag_for_réunion", "🇷🇪");
-            emoji.put("flag_for_samoa", "🇼🇸");
-            emoji.put("flag_for_san_marino", "🇸🇲");
-            emoji.put("flag_for_saudi_arabia", "🇸🇦");
-            emoji.put("flag_for_senegal", "🇸🇳");
-            emoji.put("flag_for_serbia", "🇷🇸");
-            emoji.put("flag_for_seychelles", "🇸🇨");
-            emoji.put("flag_for_sierra_leone", "🇸🇱");
-            emoji.put("flag_for_singapore", "🇸🇬");
-            emoji.put("flag_for_sint_maarten", "🇸🇽");
-            emoji.put("flag_for_slovakia", "🇸🇰");
-            emoji.put("flag_for_slovenia", "🇸🇮");
-            emoji.put("flag_for_solomon_islands", "🇸🇧");
-            emoji.put("flag_for_somalia", "🇸🇴");
-            emoji.put("flag_for_south_africa", "🇿🇦");
-            emoji.put("flag_for_south_georgia_&_south_sandwich_islands", "🇬🇸");
-            emoji.put("flag_for_south_korea", "🇰🇷");
-            emoji.put("flag_for_south_sudan", "🇸🇸");
-            emoji.put("flag_for_spain", "🇪🇸");
-            emoji.put("flag_for_sri_lanka", "🇱🇰");
-            emoji.put("flag_for_st._barthélemy", "🇧🇱");
-            emoji.put("flag_for_st._helena", "🇸🇭");
-            emoji.put("flag_for_st._kitts_&_nevis", "🇰🇳");
-            emoji.put("flag_for_st._lucia", "🇱🇨");
-            emoji.put("flag_for_st._martin", "🇲🇫");
-            emoji.put("flag_for_st._pierre_&_miquelon", "🇵🇲");
-            emoji.put("flag_for_st._vincent_&_grenadines", "🇻🇨");
-            emoji.put("flag_for_sudan", "🇸🇩");
-            emoji.put("flag_for_suriname", "🇸🇷");
-            emoji.put("flag_for_svalbard_&_jan_mayen", "🇸🇯");
-            emoji.put("flag_for_swaziland", "🇸🇿");
-            emoji.put("flag_for_sweden", "🇸🇪");
-            emoji.put("flag_for_switzerland", "🇨🇭");
-            emoji.put("flag_for_syria", "🇸🇾");
-            emoji.put("flag_for_são_tomé_&_príncipe", "🇸🇹");
-            emoji.put("flag_for_taiwan", "🇹🇼");
-            emoji.put("flag_for_tajikistan", "🇹🇯");
-            emoji.put("flag_for_tanzania", "🇹🇿");
-            emoji.put("flag_for_thailand", "🇹🇭");
-            emoji.put("flag_for_timor__leste", "🇹🇱");
-            emoji.put("flag_for_togo", "🇹🇬");
-            emoji.put("flag_for_tokelau", "🇹🇰");
-            emoji.put("flag_for_tonga", "🇹🇴");
-            emoji.put("flag_for_trinidad_&_tobago", "🇹🇹");
-            emoji.put("flag_for_tristan_da_cunha", "🇹🇦");
-            emoji.put("flag_for_tunisia", "🇹🇳");
-            emoji.put("flag_for_turkey", "🇹🇷");
-            emoji.put("flag_for_turkmenistan", "🇹🇲");
-            emoji.put("flag_for_turks_&_caicos_islands", "🇹🇨");
-            emoji.put("flag_for_tuvalu", "🇹🇻");
-            emoji.put("flag_for_u.s._outlying_islands", "🇺🇲");
-            emoji.put("flag_for_u.s._virgin_islands", "🇻🇮");
-            emoji.put("flag_for_uganda", "🇺🇬");
-            emoji.put("flag_for_ukraine", "🇺🇦");
-            emoji.put("flag_for_united_arab_emirates", "🇦🇪");
-            emoji.put("flag_for_united_kingdom", "🇬🇧");
-            emoji.put("flag_for_united_states", "🇺🇸");
-            emoji.put("flag_for_uruguay", "🇺🇾");
-            emoji.put("flag_for_uzbekistan", "🇺🇿");
-            emoji.put("flag_for_vanuatu", "🇻🇺");
-            emoji.put("flag_for_vatican_city", "🇻🇦");
-            emoji.put("flag_for_venezuela", "🇻🇪");
-            emoji.put("flag_for_vietnam", "🇻🇳");
-            emoji.put("flag_for_wallis_&_futuna", "🇼🇫");
-            emoji.put("flag_for_western_sahara", "🇪🇭");
-            emoji.put("flag_for_yemen", "🇾🇪");
-            emoji.put("flag_for_zambia", "🇿🇲");
-            emoji.put("flag_for_zimbabwe", "🇿🇼");
-            emoji.put("flag_for_åland_islands", "🇦🇽");
-            emoji.put("golf", "⛳");
-            emoji.put("fleur__de__lis", "⚜");
-            emoji.put("muscle", "💪");
-            emoji.put("flushed", "😳");
-            emoji.put("frame_with_picture", "🖼");
-            emoji.put("fries", "🍟");
-            emoji.put("frog", "🐸");
-            emoji.put("hatched_chick", "🐥");
-            emoji.put("frowning", "😦");
-            emoji.put("fuelpump", "⛽");
-            emoji.put("full_moon_with_face", "🌝");
-            emoji.put("gem", "💎");
-            emoji.put("star2", "🌟");
-            emoji.put("golfer", "🏌");
-            emoji.put("mortar_board", "🎓");
-            emoji.put("grimacing", "😬");
-            emoji.put("smile_cat", "😸");
-            emoji.put("grinning", "😀");
-            emoji.put("grin", "😁");
-            emoji.put("heartpulse", "💗");
-            emoji.put("guardsman", "💂");
-            emoji.put("haircut", "💇");
-            emoji.put("hamster", "🐹");
-            emoji.put("raising_hand", "🙋");
-            emoji.put("headphones", "🎧");
-            emoji.put("hear_no_evil", "🙉");
-            emoji.put("cupid", "💘");
-            emoji.put("gift_heart", "💝");
-            emoji.put("heart", "❤");
-            emoji.put("exclamation", "❗");
-            emoji.put("heavy_exclamation_mark", "❗");
-            emoji.put("heavy_heart_exclamation_mark_ornament", "❣");
-            emoji.put("o", "⭕");
-            emoji.put("helm_symbol", "⎈");
-            emoji.put("helmet_with_white_cross", "⛑");
-            emoji.put("high_heel", "👠");
-            emoji.put("bullettrain_side", "🚄");
-            emoji.put("bullettrain_front", "🚅");
-            emoji.put("high_brightness", "🔆");
-            emoji.put("zap", "⚡");
-            emoji.put("hocho", "🔪");
-            emoji.put("knife", "🔪");
-            emoji.put("bee", "🐝");
-            emoji.put("traffic_light", "🚥");
-            emoji.put("racehorse", "🐎");
-            emoji.put("coffee", "☕");
-            emoji.put("hotsprings", "♨");
-            emoji.put("hourglass", "⌛");
-            emoji.put("hourglass_flowing_sand", "⏳");
-            emoji.put("house_buildings", "🏘");
-            emoji.put("100", "💯");
-            emoji.put("hushed", "😯");
-            emoji.put("ice_hockey_stick_and_puck", "🏒");
-            emoji.put("imp", "👿");
-            emoji.put("information_desk_person", "💁");
-            emoji.put("information_source", "ℹ");
-            emoji.put("capital_abcd", "🔠");
-            emoji.put("abc", "🔤");
-            emoji.put("abcd", "🔡");
-            emoji.put("1234", "🔢");
-            emoji.put("symbols", "🔣");
-            emoji.put("izakaya_lantern", "🏮");
-            emoji.put("lantern", "🏮");
-            emoji.put("jack_o_lantern", "🎃");
-            emoji.put("dolls", "🎎");
-            emoji.put("japanese_goblin", "👺");
-            emoji.put("japanese_ogre", "👹");
-            emoji.put("beginner", "🔰");
-            emoji.put("zero", "0️⃣");
-            emoji.put("one", "1️⃣");
-            emoji.put("ten", "🔟");
-            emoji.put("two", "2️⃣");
-            emoji.put("three", "3️⃣");
-            emoji.put("four", "4️⃣");
-            emoji.put("five", "5️⃣");
-            emoji.put("six", "6️⃣");
-            emoji.put("seven", "7️⃣");
-            emoji.put("eight", "8️⃣");
-            emoji.put("nine", "9️⃣");
-            emoji.put("couplekiss", "💏");
-            emoji.put("kissing_cat", "😽");
-            emoji.put("kissing", "😗");
-            emoji.put("kissing_closed_eyes", "😚");
-            emoji.put("kissing_smiling_eyes", "😙");
-            emoji.put("beetle", "🐞");
-            emoji.put("large_blue_circle", "🔵");
-            emoji.put("last_quarter_moon_with_face", "🌜");
-            emoji.put("leaves", "🍃");
-            emoji.put("mag", "🔍");
-            emoji.put("left_right_arrow", "↔");
-            emoji.put("leftwards_arrow_with_hook", "↩");
-            emoji.put("arrow_left", "⬅");
-            emoji.put("lock", "🔒");
-            emoji.put("lock_with_ink_pen", "🔏");
-            emoji.put("sob", "😭");
-            emoji.put("low_brightness", "🔅");
-            emoji.put("lower_left_ballpoint_pen", "🖊");
-            emoji.put("lower_left_crayon", "🖍");
-            emoji.put("lower_left_fountain_pen", "🖋");
-            emoji.put("lower_left_paintbrush", "🖌");
-            emoji.put("mahjong", "🀄");
-            emoji.put("couple", "👫");
-            emoji.put("man_in_business_suit_levitating", "🕴");
-            emoji.put("man_with_gua_pi_mao", "👲");
-            emoji.put("man_with_turban", "👳");
-            emoji.put("mans_shoe", "👞");
-            emoji.put("shoe", "👞");
-            emoji.put("menorah_with_nine_branches", "🕎");
-            emoji.put("mens", "🚹");
-            emoji.put("minidisc", "💽");
-            emoji.put("iphone", "📱");
-            emoji.put("calling", "📲");
-            emoji.put("money__mouth_face", "🤑");
-            emoji.put("moneybag", "💰");
-            emoji.put("rice_scene", "🎑");
-            emoji.put("mountain_bicyclist", "🚵");
-            emoji.put("mouse2", "🐁");
-            emoji.put("lips", "👄");
-            emoji.put("moyai", "🗿");
-            emoji.put("notes", "🎶");
-            emoji.put("nail_care", "💅");
-            emoji.put("ab", "🆎");
-            emoji.put("negative_squared_cross_mark", "❎");
-            emoji.put("a", "🅰");
-            emoji.put("b", "🅱");
-            emoji.put("o2", "🅾");
-            emoji.put("parking", "🅿");
-            emoji.put("new_moon_with_face", "🌚");
-            emoji.put("no_entry_sign", "🚫");
-            emoji.put("underage", "🔞");
-            emoji.put("non__potable_water", "🚱");
-            emoji.put("arrow_upper_right", "↗");
-            emoji.put("arrow_upper_left", "↖");
-            emoji.put("office", "🏢");
-            emoji.put("older_man", "👴");
-            emoji.put("older_woman", "👵");
-            emoji.put("om_symbol", "🕉");
-            emoji.put("on", "🔛");
-            emoji.put("book", "📖");
-            emoji.put("unlock", "🔓");
-            emoji.put("mailbox_with_no_mail", "📭");
-            emoji.put("mailbox_with_mail", "📬");
-            emoji.put("cd", "💿");
-            emoji.put("tada", "🎉");
-            emoji.put("feet", "🐾");
-            emoji.put("walking", "🚶");
-            emoji.put("pencil2", "✏");
-            emoji.put("pensive", "😔");
-            emoji.put("persevere", "😣");
-            emoji.put("bow", "🙇");
-            emoji.put("raised_hands", "🙌");
-            emoji.put("person_with_ball", "⛹");
-            emoji.put("person_with_blond_hair", "👱");
-            emoji.put("pray", "🙏");
-            emoji.put("person_with_pouting_face", "🙎");
-            emoji.put("computer", "💻");
-            emoji.put("pig2", "🐖");
-            emoji.put("hankey", "💩");
-            emoji.put("poop", "💩");
-            emoji.put("shit", "💩");
-            emoji.put("bamboo", "🎍");
-            emoji.put("gun", "🔫");
-            emoji.put("black_joker", "🃏");
-            emoji.put("rotating_light", "🚨");
-            emoji.put("cop", "👮");
-            emoji.put("stew", "🍲");
-            emoji.put("pouch", "👝");
-            emoji.put("pouting_cat", "😾");
-            emoji.put("rage", "😡");
-            emoji.put("put_litter_in_its_place", "🚮");
-            emoji.put("rabbit2", "🐇");
-            emoji.put("racing_motorcycle", "🏍");
-            emoji.put("radioactive_sign", "☢");
-            emoji.put("fist", "✊");
-            emoji.put("hand", "✋");
-            emoji.put("raised_hand_with_fingers_splayed", "🖐");
-            emoji.put("raised_hand_with_part_between_middle_and_ring_fingers", "🖖");
-            emoji.put("blue_car", "🚙");
-            emoji.put("apple", "🍎");
-            emoji.put("relieved", "😌");
-            emoji.put("reversed_hand_with_middle_finger_extended", "🖕");
-            emoji.put("mag_right", "🔎");
-            emoji.put("arrow_right_hook", "↪");
-            emoji.put("sweet_potato", "🍠");
-            emoji.put("robot", "🤖");
-            emoji.put("rolled__up_newspaper", "🗞");
-            emoji.put("rowboat", "🚣");
-            emoji.put("runner", "🏃");
-            emoji.put("running", "🏃");
-            emoji.put("running_shirt_with_sash", "🎽");
-            emoji.put("boat", "⛵");
-            emoji.put("scales", "⚖");
-            emoji.put("school_satchel", "🎒");
-            emoji.put("scorpius", "♏");
-            emoji.put("see_no_evil", "🙈");
-            emoji.put("sheep", "🐑");
-            emoji.put("stars", "🌠");
-            emoji.put("cake", "🍰");
-            emoji.put("six_pointed_star", "🔯");
-            emoji.put("ski", "🎿");
-            emoji.put("sleeping_accommodation", "🛌");
-            emoji.put("sleeping", "😴");
-            emoji.put("sleepy", "😪");
-            emoji.put("sleuth_or_spy", "🕵");
-            emoji.put("heart_eyes_cat", "😻");
-            emoji.put("smiley_cat", "😺");
-            emoji.put("innocent", "😇");
-            emoji.put("heart_eyes", "😍");
-            emoji.put("smiling_imp", "😈");
-            emoji.put("smiley", "😃");
-            emoji.put("sweat_smile", "😅");
-            emoji.put("smile", "😄");
-            emoji.put("laughing", "😆");
-            emoji.put("satisfied", "😆");
-            emoji.put("blush", "😊");
-            emoji.put("smirk", "😏");
-            emoji.put("smoking", "🚬");
-            emoji.put("snow_capped_mountain", "🏔");
-            emoji.put("soccer", "⚽");
-            emoji.put("icecream", "🍦");
-            emoji.put("soon", "🔜");
-            emoji.put("arrow_lower_right", "↘");
-            emoji.put("arrow_lower_left", "↙");
-            emoji.put("speak_no_evil", "🙊");
-            emoji.put("speaker", "🔈");
-            emoji.put("mute", "🔇");
-            emoji.put("sound", "🔉");
-            emoji.put("loud_sound", "🔊");
-            emoji.put("speaking_head_in_silhouette", "🗣");
-            emoji.put("spiral_calendar_pad", "🗓");
-            emoji.put("spiral_note_pad", "🗒");
-            emoji.put("shell", "🐚");
-            emoji.put("sweat_drops", "💦");
-            emoji.put("u5272", "🈹");
-            emoji.put("u5408", "🈴");
-            emoji.put("u55b6", "🈺");
-            emoji.put("u6307", "🈯");
-            emoji.put("u6708", "🈷");
-            emoji.put("u6709", "🈶");
-            emoji.put("u6e80", "🈵");
-            emoji.put("u7121", "🈚");
-            emoji.put("u7533", "🈸");
-            emoji.put("u7981", "🈲");
-            emoji.put("u7a7a", "🈳");
-            emoji.put("cl", "🆑");
-            emoji.put("cool", "🆒");
-            emoji.put("free", "🆓");
-            emoji.put("id", "🆔");
-            emoji.put("koko", "🈁");
-            emoji.put("sa", "🈂");
-            emoji.put("new", "🆕");
-            emoji.put("ng", "🆖");
-            emoji.put("ok", "🆗");
-            emoji.put("sos", "🆘");
-            emoji.put("up", "🆙");
-            emoji.put("vs", "🆚");
-            emoji.put("steam_locomotive", "🚂");
-            emoji.put("ramen", "🍜");
-            emoji.put("partly_sunny", "⛅");
-            emoji.put("city_sunrise", "🌇");
-            emoji.put("surfer", "🏄");
-            emoji.put("swimmer", "🏊");
-            emoji.put("shirt", "👕");
-            emoji.put("tshirt", "👕");
-            emoji.put("table_tennis_paddle_and_ball", "🏓");
-            emoji.put("tea", "🍵");
-            emoji.put("tv", "📺");
-            emoji.put("three_button_mouse", "🖱");
-            emoji.put("+1", "👍");
-            emoji.put("thumbsup", "👍");
-            emoji.put("__1", "👎");
-            emoji.put("-1", "👎");
-            emoji.put("thumbsdown", "👎");
-            emoji.put("thunder_cloud_and_rain", "⛈");
-            emoji.put("tiger2", "🐅");
-            emoji.put("tophat", "🎩");
-            emoji.put("top", "🔝");
-            emoji.put("tm", "™");
-            emoji.put("train2", "🚆");
-            emoji.put("triangular_flag_on_post", "🚩");
-            emoji.put("trident", "🔱");
-            emoji.put("twisted_rightwards_arrows", "🔀");
-            emoji.put("unamused", "😒");
-            emoji.put("small_red_triangle", "🔺");
-            emoji.put("arrow_up_small", "🔼");
-            emoji.put("arrow_up_down", "↕");
-            emoji.put("upside__down_face", "🙃");
-            emoji.put("arrow_up", "⬆");
-            emoji.put("v", "✌");
-            emoji.put("vhs", "📼");
-            emoji.put("wc", "🚾");
-            emoji.put("ocean", "🌊");
-            emoji.put("waving_black_flag", "🏴");
-            emoji.put("wave", "👋");
-            emoji.put("waving_white_flag", "🏳");
-            emoji.put("moon", "🌔");
-            emoji.put("scream_cat", "🙀");
-            emoji.put("weary", "😩");
-            emoji.put("weight_lifter", "🏋");
-            emoji.put("whale2", "🐋");
-            emoji.put("wheelchair", "♿");
-            emoji.put("point_down", "👇");
-            emoji.put("grey_exclamation", "❕");
-            emoji.put("white_frowning_face", "☹");
-            emoji.put("white_check_mark", "✅");
-            emoji.put("point_left", "👈");
-            emoji.put("white_medium_small_square", "◽");
-            emoji.put("star", "⭐");
-            emoji.put("grey_question", "❔");
-            emoji.put("point_right", "👉");
-            emoji.put("relaxed", "☺");
-            emoji.put("white_sun_behind_cloud", "🌥");
-            emoji.put("white_sun_behind_cloud_with_rain", "🌦");
-            emoji.put("white_sun_with_small_cloud", "🌤");
-            emoji.put("point_up_2", "👆");
-            emoji.put("point_up", "☝");
-            emoji.put("wind_blowing_face", "🌬");
-            emoji.put("wink", "😉");
-            emoji.put("wolf", "🐺");
-            emoji.put("dancers", "👯");
-            emoji.put("boot", "👢");
-            emoji.put("womans_clothes", "👚");
-            emoji.put("womans_hat", "👒");
-            emoji.put("sandal", "👡");
-            emoji.put("womens", "🚺");
-            emoji.put("worried", "😟");
-            emoji.put("gift", "🎁");
-            emoji.put("zipper__mouth_face", "🤐");
-            emoji.put("regional_indicator_a", "🇦");
-            emoji.put("regional_indicator_b", "🇧");
-            emoji.put("regional_indicator_c", "🇨");
-            emoji.put("regional_indicator_d", "🇩");
-            emoji.put("regional_indicator_e", "🇪");
-            emoji.put("regional_indicator_f", "🇫");
-            emoji.put("regional_indicator_g", "🇬");
-            emoji.put("regional_indicator_h", "🇭");
-            emoji.put("regional_indicator_i", "🇮");
-            emoji.put("regional_indicator_j", "🇯");
-            emoji.put("regional_indicator_k", "🇰");
-            emoji.put("regional_indicator_l", "🇱");
-            emoji.put("regional_indicator_m", "🇲");
-            emoji.put("regional_indicator_n", "🇳");
-            emoji.put("regional_indicator_o", "🇴");
-            emoji.put("regional_indicator_p", "🇵");
-            emoji.put("regional_indicator_q", "🇶");
-            emoji.put("regional_indicator_r", "🇷");
-            emoji.put("regional_indicator_s", "🇸");
-            emoji.put("regional_indicator_t", "🇹");
-            emoji.put("regional_indicator_u", "🇺");
-            emoji.put("regional_indicator_v", "🇻");
-            emoji.put("regional_indicator_w", "🇼");
-            emoji.put("regional_indicator_x", "🇽");
-            emoji.put("regional_indicator_y", "🇾");
-            emoji.put("regional_indicator_z", "🇿");
-
-            return Collections.unmodifiableMap(emoji);
-        }
+        // Generated at build time from src/main/unicode/emoji-shortcodes.txt
+        static final Map<String, String> EMOJIS = EmojiTable.load();
     }
 
     private Emoji() {
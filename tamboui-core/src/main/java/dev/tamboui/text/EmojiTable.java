@@ -0,0 +1,159 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.text;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable map of emoji shortcodes backed by a minimal perfect hash table.
+ * <p>
+ * Each shortcode owns exactly one slot. A lookup hashes the key to a bucket,
+ * which either holds the seed of a second hash giving the slot, or directly
+ * the slot of its only key; the key stored in the slot is then compared, so
+ * unknown shortcodes are rejected. Keys and values are kept in two pooled
+ * strings, so loading the table does not create a string per entry. The table
+ * is generated at build time from {@code src/main/unicode/emoji-shortcodes.txt}.
+ */
+final class EmojiTable extends AbstractMap<String, String> {
+
+    private static final String RESOURCE = "emoji.bin";
+    private static final int MAGIC = 0x54454D4A; // "TEMJ"
+
+    private final int[] displacements;
+    private final int[] keyEnds;
+    private final int[] valueEnds;
+    private final String keyPool;
+    private final String valuePool;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    private EmojiTable(int[] displacements, int[] keyEnds, int[] valueEnds, String keyPool, String valuePool) {
+        this.displacements = displacements;
+        this.keyEnds = keyEnds;
+        this.valueEnds = valueEnds;
+        this.keyPool = keyPool;
+        this.valuePool = valuePool;
+    }
+
+    static EmojiTable load() {
+        ByteBuffer buffer = TableResource.load(RESOURCE, MAGIC);
+        int size = buffer.getInt();
+        int[] displacements = readInts(buffer, size);
+        int[] keyEnds = readInts(buffer, size);
+        int[] valueEnds = readInts(buffer, size);
+        String keyPool = readUtf8(buffer);
+        String valuePool = readUtf8(buffer);
+        return new EmojiTable(displacements, keyEnds, valueEnds, keyPool, valuePool);
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private static String readUtf8(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Hashes a shortcode; must match {@code UnicodeTables.hash} in the build.
+     */
+    static int hash(int seed, String key) {
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x01000193;
+        }
+        h ^= h >>> 15;
+        h *= 0x2C1B3C6D;
+        h ^= h >>> 12;
+        return h & 0x7FFFFFFF;
+    }
+
+    private int slotOf(Object key) {
+        int size = displacements.length;
+        if (!(key instanceof String) || size == 0) {
+            return -1;
+        }
+        String name = (String) key;
+        int displacement = displacements[hash(0, name) % size];
+        int slot = displacement < 0 ? -displacement - 1 : hash(displacement, name) % size;
+        int start = slot == 0 ? 0 : keyEnds[slot - 1];
+        int length = keyEnds[slot] - start;
+        return length == name.length() && keyPool.regionMatches(start, name, 0, length) ? slot : -1;
+    }
+
+    private String keyAt(int slot) {
+        return keyPool.substring(slot == 0 ? 0 : keyEnds[slot - 1], keyEnds[slot]);
+    }
+
+    private String valueAt(int slot) {
+        return valuePool.substring(slot == 0 ? 0 : valueEnds[slot - 1], valueEnds[slot]);
+    }
+
+    @Override
+    public String get(Object key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return displacements.length;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> entries = entrySet;
+        if (entries == null) {
+            entries = new AbstractSet<Map.Entry<String, String>>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new Iterator<Map.Entry<String, String>>() {
+                        private int slot;
+
+                        @Override
+                        public boolean hasNext() {
+                            return slot < displacements.length;
+                        }
+
+                        @Override
+                        public Map.Entry<String, String> next() {
+                            if (slot >= displacements.length) {
+                                throw new NoSuchElementException();
+                            }
+                            Map.Entry<String, String> entry = new SimpleImmutableEntry<>(keyAt(slot), valueAt(slot));
+                            slot++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return displacements.length;
+                }
+            };
+            entrySet = entries;
+        }
+        return entries;
+    }
+}
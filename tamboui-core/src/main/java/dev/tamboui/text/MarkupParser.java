@@ -197,6 +197,99 @@ public final class MarkupParser {
         return parser.parse();
     }
 
+    /**
+     * Parser for markup that grows by appending, such as a log or chat history.
+     * <p>
+     * The parser remembers its state at the last line break of the markup it
+     * parsed. When the next markup starts with everything up to that line break,
+     * only the rest is parsed and the resulting lines are added to the ones
+     * already parsed; otherwise the markup is parsed from scratch. Either way the
+     * result equals {@link MarkupParser#parse(String, StyleResolver)}.
+     * <p>
+     * The resolver passed to {@link #parse(String, StyleResolver)} must resolve
+     * tags the same way as in previous calls; call {@link #reset()} when it does not.
+     * Instances are not thread-safe.
+     *
+     * <pre>{@code
+     * MarkupParser.IncrementalParser parser = new MarkupParser.IncrementalParser();
+     * Text text = parser.parse(history, resolver);
+     * text = parser.parse(history + "[green]ok[/green]\n", resolver); // parses the new line only
+     * }</pre>
+     */
+    public static final class IncrementalParser {
+
+        private final List<Line> committedLines = new ArrayList<>();
+        private final Deque<Parser.StyleEntry> committedStack = new ArrayDeque<>();
+        private Style committedStyle = Style.EMPTY;
+        private String source = "";
+        private int committedLength;
+        private Text text = Text.empty();
+
+        /**
+         * Creates a parser with no parsed content.
+         */
+        public IncrementalParser() {
+        }
+
+        /**
+         * Parses markup, reusing the lines parsed by previous calls when the markup
+         * extends the previous markup.
+         *
+         * @param markup the markup text to parse
+         * @param resolver optional resolver for custom tags
+         * @return the parsed styled text
+         */
+        public Text parse(String markup, StyleResolver resolver) {
+            if (markup == null) {
+                markup = "";
+            }
+            if (markup == source) {
+                return text;
+            }
+            if (markup.length() < committedLength || !markup.regionMatches(0, source, 0, committedLength)) {
+                reset();
+            }
+            source = markup;
+
+            // The parser never looks past a line break, so everything up to the last
+            // one can be committed along with the style stack at that point
+            int lastBreak = markup.lastIndexOf('\n');
+            if (lastBreak >= committedLength) {
+                Parser parser = new Parser(replaceEmoji(markup.substring(committedLength, lastBreak + 1),
+                        DEFAULT_EMOJI_RESOLVER), resolver, committedStack, committedStyle);
+                committedLines.addAll(parser.parseLines());
+                committedStyle = parser.currentStyle;
+                committedLength = lastBreak + 1;
+            }
+
+            List<Line> lines = committedLines;
+            if (committedLength < markup.length()) {
+                Parser parser = new Parser(replaceEmoji(markup.substring(committedLength), DEFAULT_EMOJI_RESOLVER),
+                        resolver, new ArrayDeque<>(committedStack), committedStyle);
+                List<Line> pending = parser.parseLines();
+                if (!pending.isEmpty()) {
+                    lines = new ArrayList<>(committedLines.size() + pending.size());
+                    lines.addAll(committedLines);
+                    lines.addAll(pending);
+                }
+            }
+            text = lines.isEmpty() ? Text.empty() : Text.from(lines);
+            return text;
+        }
+
+        /**
+         * Discards the parsed content, so the next call parses its markup from scratch.
+         */
+        public void reset() {
+            committedLines.clear();
+            committedStack.clear();
+            committedStyle = Style.EMPTY;
+            source = "";
+            committedLength = 0;
+            text = Text.empty();
+        }
+    }
+
     /**
      * Internal parser implementation.
      */
@@ -211,17 +304,31 @@ public final class MarkupParser {
         private Style currentStyle;
 
         Parser(String input, StyleResolver resolver) {
+            this(input, resolver, new ArrayDeque<>(), Style.EMPTY);
+        }
+
+        Parser(String input, StyleResolver resolver, Deque<StyleEntry> styleStack, Style currentStyle) {
             this.input = input;
             this.resolver = resolver;
             this.pos = 0;
-            this.styleStack = new ArrayDeque<>();
+            this.styleStack = styleStack;
             this.lines = new ArrayList<>();
             this.currentLineSpans = new ArrayList<>();
             this.currentText = new StringBuilder();
-            this.currentStyle = Style.EMPTY;
+            this.currentStyle = currentStyle;
         }
 
         Text parse() {
+            List<Line> parsed = parseLines();
+            // Empty input results in empty text
+            return parsed.isEmpty() ? Text.empty() : Text.from(parsed);
+        }
+
+        /**
+         * Parses the whole input, returning its lines; a line break at the very
+         * end of the input does not start a new line.
+         */
+        List<Line> parseLines() {
             while (pos < input.length()) {
                 char c = input.charAt(pos);
 
@@ -273,12 +380,8 @@ public final class MarkupParser {
             flushCurrentText();
             if (!currentLineSpans.isEmpty()) {
                 lines.add(Line.from(currentLineSpans));
-            } else if (lines.isEmpty()) {
-                // Empty input results in empty text
-                return Text.empty();
             }
-
-            return Text.from(lines);
+            return lines;
         }
 
         private void handleTag() {
@@ -0,0 +1,52 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.text;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the binary tables generated from the Unicode data files at build time.
+ */
+final class TableResource {
+
+    private static final int VERSION = 1;
+
+    private TableResource() {
+    }
+
+    /**
+     * Reads a table resource in one go and checks its header.
+     *
+     * @param name  the resource name, relative to this package
+     * @param magic the expected magic number
+     * @return a big-endian buffer positioned after the header
+     * @throws IllegalStateException if the resource is missing or malformed
+     */
+    static ByteBuffer load(String name, int magic) {
+        InputStream in = TableResource.class.getResourceAsStream(name);
+        if (in == null) {
+            throw new IllegalStateException("Missing Unicode table resource: " + name);
+        }
+        ByteBuffer buffer;
+        try (InputStream stream = in) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(stream.available(), 8192));
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = stream.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            buffer = ByteBuffer.wrap(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read Unicode table resource: " + name, e);
+        }
+        if (buffer.remaining() < 8 || buffer.getInt() != magic || buffer.getInt() != VERSION) {
+            throw new IllegalStateException("Unsupported Unicode table resource: " + name);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.text;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Two-stage lookup table of display widths for all Unicode code points.
+ * <p>
+ * Code points are split into blocks; the first stage maps a block to one of
+ * the distinct blocks of widths stored in the second stage. Most blocks are
+ * shared, so the whole code space fits in a few kilobytes. The table is
+ * generated at build time from {@code src/main/unicode/char-widths.txt}.
+ */
+final class WidthTable {
+
+    private static final String RESOURCE = "char-widths.bin";
+    private static final int MAGIC = 0x54574944; // "TWID"
+
+    private final int blockShift;
+    private final int blockMask;
+    private final char[] index;
+    private final byte[] blocks;
+
+    private WidthTable(int blockShift, char[] index, byte[] blocks) {
+        this.blockShift = blockShift;
+        this.blockMask = (1 << blockShift) - 1;
+        this.index = index;
+        this.blocks = blocks;
+    }
+
+    static WidthTable load() {
+        ByteBuffer buffer = TableResource.load(RESOURCE, MAGIC);
+        int blockShift = buffer.getInt();
+        char[] index = new char[buffer.getInt()];
+        byte[] blocks = new byte[buffer.getInt() << blockShift];
+        buffer.asCharBuffer().get(index);
+        buffer.position(buffer.position() + index.length * Character.BYTES);
+        buffer.get(blocks);
+        return new WidthTable(blockShift, index, blocks);
+    }
+
+    /**
+     * Returns the width of a code point.
+     *
+     * @param codePoint a code point, at most {@code 0x10FFFF}
+     * @return the width (0, 1 or 2)
+     */
+    int width(int codePoint) {
+        return blocks[(index[codePoint >>> blockShift] << blockShift) | (codePoint & blockMask)];
+    }
+}
@@ -21,5 +21,8 @@ module dev.tamboui.core {
     exports dev.tamboui.widget;
     exports dev.tamboui.error;
 
+    // Internal utilities shared with the backends, not part of the public API
+    exports dev.tamboui.internal.util to dev.tamboui.aesh.backend, dev.tamboui.stream.backend;
+
     uses dev.tamboui.terminal.BackendProvider;
 }
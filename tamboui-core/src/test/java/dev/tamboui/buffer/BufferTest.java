@@ -97,6 +97,111 @@ class BufferTest {
         assertThat(buffer.get(2, 0).style().bg()).contains(Color.BLUE);
     }
 
+    @Test
+    @DisplayName("Buffer setString with a slice writes only the slice")
+    void setStringSlice() {
+        Buffer buffer = Buffer.empty(new Rect(0, 0, 10, 1));
+        StringBuilder text = new StringBuilder("[Hello]");
+        int end = buffer.setString(1, 0, text, 1, 6, Style.EMPTY);
+
+        assertThat(end).isEqualTo(6);
+        assertThat(buffer.get(0, 0).symbol()).isEqualTo(" ");
+        assertThat(buffer.get(1, 0).symbol()).isEqualTo("H");
+        assertThat(buffer.get(5, 0).symbol()).isEqualTo("o");
+        assertThat(buffer.get(6, 0).symbol()).isEqualTo(" ");
+    }
+
+    @Test
+    @DisplayName("Buffer setString with a slice does not read past its end")
+    void setStringSliceSplitsSurrogatePair() {
+        Buffer buffer = Buffer.empty(new Rect(0, 0, 10, 1));
+        String text = "a\uD83D\uDE00";
+        int end = buffer.setString(0, 0, text, 0, 1, Style.EMPTY);
+
+        assertThat(end).isEqualTo(1);
+        assertThat(buffer.get(1, 0)).isEqualTo(Cell.EMPTY);
+        assertThatThrownBy(() -> buffer.setString(0, 0, text, 2, 4, Style.EMPTY))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Buffer setString writes Latin-1 text and keeps per-cell style patching")
+    void setStringLatin1() {
+        Buffer buffer = Buffer.empty(new Rect(0, 0, 10, 1));
+        buffer.setStyle(new Rect(1, 0, 1, 1), Style.EMPTY.bg(Color.BLUE));
+        buffer.setString(0, 0, "caf\u00e9\u00a0x", Style.EMPTY.fg(Color.RED));
+
+        assertThat(buffer.get(3, 0).symbol()).isEqualTo("\u00e9");
+        assertThat(buffer.get(4, 0).symbol()).isEqualTo("\u00a0");
+        assertThat(buffer.get(0, 0).style()).isEqualTo(Style.EMPTY.fg(Color.RED));
+        assertThat(buffer.get(1, 0).style()).isEqualTo(Style.EMPTY.fg(Color.RED).bg(Color.BLUE));
+        assertThat(buffer.get(2, 0).style()).isEqualTo(Style.EMPTY.fg(Color.RED));
+    }
+
+    @Test
+    @DisplayName("Buffer setString over a wide character clears its first half")
+    void setStringOverContinuation() {
+        Buffer buffer = Buffer.empty(new Rect(0, 0, 10, 1));
+        buffer.setString(0, 0, "\u4e16", Style.EMPTY);
+        buffer.setString(1, 0, "a", Style.EMPTY);
+
+        assertThat(buffer.get(0, 0).symbol()).isEqualTo(" ");
+        assertThat(buffer.get(1, 0).symbol()).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("Buffer fill only touches the intersected area")
+    void fillPartialArea() {
+        Buffer buffer = Buffer.empty(new Rect(0, 0, 4, 3));
+        Cell cell = new Cell("#", Style.EMPTY);
+        buffer.fill(new Rect(1, 1, 10, 10), cell);
+
+        assertThat(buffer.get(0, 1)).isEqualTo(Cell.EMPTY);
+        assertThat(buffer.get(1, 0)).isEqualTo(Cell.EMPTY);
+        assertThat(buffer.get(1, 1)).isEqualTo(cell);
+        assertThat(buffer.get(3, 2)).isEqualTo(cell);
+    }
+
+    @Test
+    @DisplayName("Buffer setStyle shares one patched cell across a uniform area")
+    void setStyleSharesPatchedCells() {
+        Buffer buffer = Buffer.empty(new Rect(0, 0, 10, 3));
+        buffer.setString(0, 1, "ab", Style.EMPTY);
+        Style style = Style.EMPTY.bg(Color.BLUE);
+        buffer.setStyle(new Rect(0, 0, 10, 3), style);
+
+        assertThat(buffer.get(9, 2)).isSameAs(buffer.get(0, 0));
+        assertThat(buffer.get(0, 0)).isEqualTo(new Cell(" ", style));
+        assertThat(buffer.get(0, 1)).isEqualTo(new Cell("a", style));
+        assertThat(buffer.get(1, 1)).isEqualTo(new Cell("b", style));
+    }
+
+    @Test
+    @DisplayName("Buffer merge copies the overlapping part of another buffer")
+    void mergeClipsToArea() {
+        Buffer buffer = Buffer.empty(new Rect(0, 0, 5, 3));
+        Buffer other = Buffer.withLines("abc", "def");
+        buffer.merge(other, -1, 2);
+
+        assertThat(buffer.get(0, 2).symbol()).isEqualTo("b");
+        assertThat(buffer.get(1, 2).symbol()).isEqualTo("c");
+        assertThat(buffer.get(2, 2)).isEqualTo(Cell.EMPTY);
+        assertThat(buffer.get(0, 1)).isEqualTo(Cell.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Buffer merge reads from an offset source buffer")
+    void mergeFromOffsetBuffer() {
+        Buffer buffer = Buffer.empty(new Rect(10, 10, 4, 2));
+        Buffer other = Buffer.empty(new Rect(3, 5, 2, 2));
+        other.setString(3, 6, "xy", Style.EMPTY);
+        buffer.merge(other, 11, 10);
+
+        assertThat(buffer.get(11, 11).symbol()).isEqualTo("x");
+        assertThat(buffer.get(12, 11).symbol()).isEqualTo("y");
+        assertThat(buffer.get(11, 10)).isEqualTo(Cell.EMPTY);
+    }
+
     @Test
     @DisplayName("Buffer diff returns changed cells")
     void diff() {
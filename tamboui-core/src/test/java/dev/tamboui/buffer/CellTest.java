@@ -44,4 +44,15 @@ class CellTest {
         Cell cell = new Cell("X", Style.EMPTY.fg(Color.RED));
         assertThat(cell.reset()).isEqualTo(Cell.EMPTY);
     }
+
+    @Test
+    @DisplayName("Cell.of reuses an equal cached cell")
+    void ofReusesCachedCell() {
+        Style style = Style.EMPTY.fg(Color.RED);
+        Cell first = Cell.of("X", style);
+        Cell second = Cell.of("X", Style.EMPTY.fg(Color.RED));
+        assertThat(first).isEqualTo(new Cell("X", style));
+        assertThat(second).isSameAs(first);
+        assertThat(Cell.of("Y", style).symbol()).isEqualTo("Y");
+    }
 }
@@ -7,6 +7,8 @@ package dev.tamboui.inline;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -189,11 +191,143 @@ class InlineDisplayTest {
         assertThat(output).contains("styled");
     }
 
+    @Test
+    @DisplayName("render() writes nothing when the content is unchanged")
+    void renderSkipsUnchangedContent() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter);
+        display.render((area, buf) -> buf.setString(0, 1, "Progress 10%", Style.EMPTY));
+        int length = stringWriter.toString().length();
+
+        display.render((area, buf) -> buf.setString(0, 1, "Progress 10%", Style.EMPTY));
+
+        assertThat(stringWriter.toString().length()).isEqualTo(length);
+    }
+
+    @Test
+    @DisplayName("render() only redraws lines from their first changed cell")
+    void renderRedrawsChangedCellsOnly() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter);
+        display.render((area, buf) -> {
+            buf.setString(0, 0, "Build", Style.EMPTY);
+            buf.setString(0, 1, "Progress 10%", Style.EMPTY);
+        });
+        int length = stringWriter.toString().length();
+
+        display.render((area, buf) -> {
+            buf.setString(0, 0, "Build", Style.EMPTY);
+            buf.setString(0, 1, "Progress 20%", Style.EMPTY);
+        });
+
+        String update = stringWriter.toString().substring(length);
+        assertThat(update).contains("20%");
+        assertThat(update).doesNotContain("Progress");
+        assertThat(update).doesNotContain("Build");
+    }
+
+    @Test
+    @DisplayName("println() redraws the whole display area")
+    void printlnRedrawsDisplayArea() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter);
+        display.setLine(0, "Status");
+        int length = stringWriter.toString().length();
+
+        display.println("Log message");
+
+        assertThat(stringWriter.toString().substring(length)).contains("Status");
+    }
+
+    @Test
+    @DisplayName("printlnLater() queues lines until the next render")
+    void printlnLaterQueuesUntilRender() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter);
+        display.setLine(0, "Status");
+        int length = stringWriter.toString().length();
+
+        assertThat(display.printlnLater("first")).isTrue();
+        assertThat(display.printlnLater("second")).isTrue();
+        assertThat(stringWriter.toString().length()).isEqualTo(length);
+
+        display.render((area, buf) -> buf.setString(0, 0, "Status", Style.EMPTY));
+
+        String update = stringWriter.toString().substring(length);
+        assertThat(update).contains("first");
+        assertThat(update.indexOf("first")).isLessThan(update.indexOf("second"));
+        assertThat(update).contains("Status");
+        assertThat(mockBackend.insertCalls).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("flushPendingLines() prints queued lines with a single scroll")
+    void flushPendingLinesScrollsOnce() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter);
+        display.setLine(0, "Status");
+        for (int i = 0; i < 5; i++) {
+            display.printlnLater("line " + i);
+        }
+
+        display.flushPendingLines();
+        int length = stringWriter.toString().length();
+        display.flushPendingLines();
+
+        assertThat(stringWriter.toString()).contains("line 0", "line 4");
+        assertThat(mockBackend.insertCalls).containsExactly(5);
+        assertThat(stringWriter.toString().length()).isEqualTo(length);
+    }
+
+    @Test
+    @DisplayName("printlnLater() drops lines beyond the cap and reports them")
+    void printlnLaterDropsLinesBeyondCap() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter)
+            .maxPendingLines(3);
+        display.setLine(0, "Status");
+        for (int i = 0; i < 10; i++) {
+            display.printlnLater("line " + i);
+        }
+
+        display.println("now");
+
+        String output = stringWriter.toString();
+        assertThat(output).contains("line 0", "line 2", "+7 lines dropped", "now");
+        assertThat(output).doesNotContain("line 3");
+        assertThat(output.indexOf("dropped")).isLessThan(output.indexOf("now"));
+        assertThat(mockBackend.insertCalls).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("release() prints pending lines")
+    void releasePrintsPendingLines() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter);
+        display.setLine(0, "Status");
+        display.printlnLater("last words");
+
+        display.release();
+
+        assertThat(stringWriter.toString()).contains("last words");
+    }
+
+    @Test
+    @DisplayName("println() erases each row of a multi-line message")
+    void printlnSplitsMultiLineMessages() {
+        InlineDisplay display = new InlineDisplay(2, 40, mockBackend, printWriter);
+        display.setLine(0, "Status");
+
+        display.println("one\r\ntwo");
+
+        assertThat(stringWriter.toString()).contains("one").contains("two").doesNotContain("one\r");
+        assertThat(mockBackend.insertCalls).containsExactly(2);
+    }
+
     /**
      * A minimal mock Backend for testing.
      */
     private static class MockBackend implements Backend {
         boolean closed = false;
+        final List<Integer> insertCalls = new ArrayList<>();
+
+        @Override
+        public void insertLines(int n) throws IOException {
+            insertCalls.add(n);
+        }
 
         @Override
         public void draw(Iterable<CellUpdate> updates) throws IOException {
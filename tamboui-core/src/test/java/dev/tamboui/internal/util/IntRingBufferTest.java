@@ -0,0 +1,165 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntRingBufferTest {
+
+    @Test
+    @DisplayName("Capacity is rounded up to a power of two")
+    void capacityIsPowerOfTwo() {
+        assertThat(new IntRingBuffer(1000).capacity()).isEqualTo(1024);
+        assertThat(new IntRingBuffer(16).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("poll() returns values in order, then -2")
+    void pollReturnsValuesInOrder() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        buffer.offer(new int[] {'a', 'b', 0x1F600});
+
+        assertThat(buffer.available()).isEqualTo(3);
+        assertThat(buffer.poll(0)).isEqualTo('a');
+        assertThat(buffer.poll(0)).isEqualTo('b');
+        assertThat(buffer.poll(0)).isEqualTo(0x1F600);
+        assertThat(buffer.poll(0)).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("Single values are offered in order")
+    void offerSingleValues() {
+        IntRingBuffer buffer = new IntRingBuffer(2);
+        buffer.offer('a');
+        buffer.offer('b');
+
+        assertThat(buffer.available()).isEqualTo(2);
+        assertThat(buffer.poll(0)).isEqualTo('a');
+        buffer.offer('c');
+        assertThat(buffer.poll(0)).isEqualTo('b');
+        assertThat(buffer.poll(0)).isEqualTo('c');
+        assertThat(buffer.poll(0)).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("peek() does not consume the value")
+    void peekDoesNotConsume() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        assertThat(buffer.peek(0)).isEqualTo(-2);
+
+        buffer.offer(new int[] {'x'});
+
+        assertThat(buffer.peek(0)).isEqualTo('x');
+        assertThat(buffer.poll(0)).isEqualTo('x');
+    }
+
+    @Test
+    @DisplayName("poll() with a timeout returns -2 when nothing arrives")
+    void pollTimesOut() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        long start = System.nanoTime();
+
+        assertThat(buffer.poll(20)).isEqualTo(-2);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(15_000_000L);
+    }
+
+    @Test
+    @DisplayName("Values wrap around and a full buffer waits for the consumer")
+    void producerAndConsumerHandOffAllValues() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer(8);
+        int count = 10_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i += 100) {
+                int[] chunk = new int[100];
+                for (int j = 0; j < chunk.length; j++) {
+                    chunk[j] = i + j;
+                }
+                buffer.offer(chunk);
+            }
+        });
+        producer.start();
+
+        List<Integer> received = new ArrayList<>();
+        while (received.size() < count) {
+            int value = buffer.poll(1000);
+            if (value == -2) {
+                break;
+            }
+            received.add(value);
+        }
+        producer.join();
+
+        assertThat(received).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Single values wrap around and a full buffer waits for the consumer")
+    void producerHandsOffSingleValues() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer(8);
+        int count = 10_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                buffer.offer(i);
+            }
+        });
+        producer.start();
+
+        List<Integer> received = new ArrayList<>();
+        while (received.size() < count) {
+            int value = buffer.poll(1000);
+            if (value == -2) {
+                break;
+            }
+            received.add(value);
+        }
+        producer.join();
+
+        assertThat(received).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("close() keeps queued values and discards new ones")
+    void closeKeepsQueuedValues() {
+        IntRingBuffer buffer = new IntRingBuffer(2);
+        buffer.offer('a');
+        buffer.offer('b');
+
+        buffer.close();
+        buffer.offer('c');
+        buffer.offer(new int[] {'d'});
+
+        assertThat(buffer.poll(0)).isEqualTo('a');
+        assertThat(buffer.poll(0)).isEqualTo('b');
+        assertThat(buffer.poll(-1)).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("close() wakes up a blocked reader")
+    void closeWakesUpReader() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        int[] result = new int[1];
+        Thread reader = new Thread(() -> result[0] = buffer.poll(-1));
+        reader.start();
+        Thread.sleep(20);
+
+        buffer.close();
+        reader.join(1000);
+
+        assertThat(reader.isAlive()).isFalse();
+        assertThat(result[0]).isEqualTo(-2);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SpatialIndexTest {
+
+    @Test
+    @DisplayName("Returns the items containing a cell in registration order")
+    void itemsAtInOrder() {
+        Map<String, Rect> areas = new HashMap<>();
+        areas.put("root", new Rect(0, 0, 80, 24));
+        areas.put("sidebar", new Rect(0, 0, 20, 24));
+        areas.put("button", new Rect(2, 3, 10, 1));
+        SpatialIndex<String> index = SpatialIndex.of(Arrays.asList("root", "sidebar", "button"), areas::get);
+
+        assertThat(index.itemsAt(5, 3)).containsExactly("root", "sidebar", "button");
+        assertThat(index.itemsAt(5, 4)).containsExactly("root", "sidebar");
+        assertThat(index.itemsAt(40, 10)).containsExactly("root");
+    }
+
+    @Test
+    @DisplayName("Cells outside every area have no items")
+    void outsideAreas() {
+        SpatialIndex<String> index = SpatialIndex.of(
+                Collections.singletonList("box"), item -> new Rect(10, 5, 4, 2));
+
+        assertThat(index.itemsAt(9, 5)).isEmpty();
+        assertThat(index.itemsAt(14, 5)).isEmpty();
+        assertThat(index.itemsAt(10, 7)).isEmpty();
+        assertThat(index.itemsAt(-1, -1)).isEmpty();
+        assertThat(index.itemsAt(13, 6)).containsExactly("box");
+    }
+
+    @Test
+    @DisplayName("Null and empty areas are never returned")
+    void ignoresEmptyAreas() {
+        Map<String, Rect> areas = new HashMap<>();
+        areas.put("empty", new Rect(0, 0, 0, 0));
+        areas.put("box", new Rect(0, 0, 2, 2));
+        SpatialIndex<String> index = SpatialIndex.of(Arrays.asList("missing", "empty", "box"), areas::get);
+
+        assertThat(index.itemsAt(0, 0)).containsExactly("box");
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(SpatialIndex.of(Collections.<String>emptyList(), item -> null).itemsAt(0, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Lookups agree with a linear scan")
+    void agreesWithLinearScan() {
+        Random random = new Random(42);
+        List<Rect> rects = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rects.add(new Rect(random.nextInt(100) - 5, random.nextInt(40) - 2,
+                    random.nextInt(30), random.nextInt(10)));
+        }
+        SpatialIndex<Rect> index = SpatialIndex.of(rects, rect -> rect);
+
+        for (int y = -3; y < 50; y++) {
+            for (int x = -6; x < 130; x++) {
+                List<Rect> expected = new ArrayList<>();
+                for (Rect rect : rects) {
+                    if (rect.contains(x, y)) {
+                        expected.add(rect);
+                    }
+                }
+                assertThat(index.itemsAt(x, y)).isEqualTo(expected);
+            }
+        }
+    }
+}
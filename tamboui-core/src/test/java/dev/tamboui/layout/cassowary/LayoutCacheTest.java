@@ -0,0 +1,86 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Flex;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LayoutCacheTest {
+
+    private static final List<Constraint> CONSTRAINTS = Arrays.asList(Constraint.length(10), Constraint.fill());
+
+    @AfterEach
+    void cleanup() {
+        LayoutCache.setShared(false);
+        LayoutCache.clearAll();
+    }
+
+    @Test
+    @DisplayName("Cached results are returned without recomputing")
+    void cachedResultsAreReused() {
+        AtomicInteger computations = new AtomicInteger();
+
+        int[] first = LayoutCache.instance().computeIfAbsent(CONSTRAINTS, 100, 0, Flex.START, () -> {
+            computations.incrementAndGet();
+            return new int[] {10, 90};
+        });
+        int[] second = LayoutCache.instance().computeIfAbsent(CONSTRAINTS, 100, 0, Flex.START, () -> {
+            computations.incrementAndGet();
+            return new int[] {10, 90};
+        });
+
+        assertThat(first).containsExactly(10, 90);
+        assertThat(second).containsExactly(10, 90);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Thread-local caches are not visible from other threads")
+    void threadLocalCachesAreIsolated() throws Exception {
+        assertThat(LayoutCache.isShared()).isFalse();
+        LayoutCache mine = LayoutCache.instance();
+
+        AtomicReference<LayoutCache> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(LayoutCache.instance()));
+        thread.start();
+        thread.join();
+
+        assertThat(other.get()).isNotSameAs(mine);
+    }
+
+    @Test
+    @DisplayName("Shared cache is used by all threads")
+    void sharedCacheIsUsedByAllThreads() throws Exception {
+        LayoutCache.setShared(true);
+        AtomicInteger computations = new AtomicInteger();
+        LayoutCache.instance().computeIfAbsent(CONSTRAINTS, 50, 1, Flex.START, () -> {
+            computations.incrementAndGet();
+            return new int[] {10, 39};
+        });
+
+        AtomicReference<int[]> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(LayoutCache.instance().computeIfAbsent(CONSTRAINTS, 50, 1, Flex.START, () -> {
+            computations.incrementAndGet();
+            return new int[] {10, 39};
+        })));
+        thread.start();
+        thread.join();
+
+        assertThat(LayoutCache.isShared()).isTrue();
+        assertThat(result.get()).containsExactly(10, 39);
+        assertThat(computations).hasValue(1);
+    }
+}
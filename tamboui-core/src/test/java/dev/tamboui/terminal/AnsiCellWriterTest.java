@@ -4,10 +4,13 @@
  */
 package dev.tamboui.terminal;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
 import dev.tamboui.style.Color;
 import dev.tamboui.style.Hyperlink;
 import dev.tamboui.style.Style;
@@ -183,4 +186,19 @@ class AnsiCellWriterTest {
         assertThat(output).contains(AnsiStringBuilder.styleToAnsi(red));
         assertThat(output).contains(AnsiStringBuilder.styleToAnsi(blue));
     }
+
+    @Test
+    @DisplayName("writeUpdates positions the cursor before each cell")
+    void writeUpdatesPositionsCursor() {
+        StringBuilder sb = new StringBuilder();
+
+        AnsiCellWriter.writeUpdates(Arrays.asList(
+                new CellUpdate(0, 0, new Cell("A", Style.EMPTY)),
+                new CellUpdate(4, 2, new Cell("B", Style.EMPTY))), sb::append);
+
+        String output = sb.toString();
+        assertThat(output).contains("\u001b[1;1H");
+        assertThat(output.indexOf("\u001b[3;5H")).isGreaterThan(output.indexOf("A"));
+        assertThat(output).endsWith("B" + AnsiStringBuilder.RESET);
+    }
 }
@@ -325,4 +325,15 @@ class CharWidthTest {
         // 🦲 = U+1F9B2 (standalone bald emoji)
         assertThat(CharWidth.of(0x1F9B2)).isEqualTo(2);
     }
+
+    @Test
+    @DisplayName("Code points at table boundaries use the generated table")
+    void tableBoundaries() {
+        assertThat(CharWidth.of(0xE00FF)).isEqualTo(1);
+        assertThat(CharWidth.of(0xE0100)).isEqualTo(0);
+        assertThat(CharWidth.of(0xE01EF)).isEqualTo(0);
+        assertThat(CharWidth.of(0xE01F0)).isEqualTo(1);
+        assertThat(CharWidth.of(0x10FFFF)).isEqualTo(1);
+        assertThat(CharWidth.of(0x110000)).isEqualTo(1);
+    }
 }
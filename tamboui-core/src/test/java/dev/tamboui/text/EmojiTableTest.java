@@ -0,0 +1,42 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.text;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmojiTableTest {
+
+    @Test
+    @DisplayName("Known shortcodes resolve to their emoji")
+    void knownShortcodes() {
+        Map<String, String> emojis = Emoji.emojis();
+        assertThat(emojis.get("smile")).isEqualTo("😄");
+        assertThat(emojis.containsKey("thumbs_up")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Unknown or non-string keys are absent")
+    void unknownKeys() {
+        Map<String, String> emojis = Emoji.emojis();
+        assertThat(emojis.get("not_an_emoji_shortcode")).isNull();
+        assertThat(emojis.get("")).isNull();
+        assertThat(emojis.containsKey(42)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Iteration visits every entry and agrees with lookups")
+    void iterationMatchesLookups() {
+        Map<String, String> emojis = Emoji.emojis();
+        Map<String, String> copy = new HashMap<>(emojis);
+        assertThat(copy).hasSize(emojis.size());
+        copy.forEach((name, emoji) -> assertThat(emojis.get(name)).isEqualTo(emoji));
+    }
+}
@@ -688,4 +688,42 @@ class MarkupParserTest {
         assertThat(text.rawContent()).contains("😃");
         assertThat(text.rawContent()).contains("⚠");
     }
+
+    @Test
+    @DisplayName("incremental parser matches a full parse when markup is appended")
+    void incrementalParserMatchesFullParse() {
+        MarkupParser.IncrementalParser parser = new MarkupParser.IncrementalParser();
+        String markup = "[red]first\nsecond";
+        assertThat(parser.parse(markup, null)).isEqualTo(MarkupParser.parse(markup));
+
+        markup += " line[/red]\n[bold]third :smile:[/bold]\n";
+        assertThat(parser.parse(markup, null)).isEqualTo(MarkupParser.parse(markup));
+
+        markup += "fourth";
+        Text text = parser.parse(markup, null);
+        assertThat(text).isEqualTo(MarkupParser.parse(markup));
+        assertThat(text.lines()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("incremental parser keeps tags open across appended lines")
+    void incrementalParserKeepsOpenTags() {
+        MarkupParser.IncrementalParser parser = new MarkupParser.IncrementalParser();
+        Text first = parser.parse("[green]one\n", null);
+        Text second = parser.parse("[green]one\ntwo[/green]\n", null);
+
+        assertThat(second.lines().get(0)).isSameAs(first.lines().get(0));
+        assertThat(second.lines().get(1).spans().get(0).style().fg()).contains(Color.GREEN);
+    }
+
+    @Test
+    @DisplayName("incremental parser starts over when the markup is not an extension")
+    void incrementalParserResetsOnEdit() {
+        MarkupParser.IncrementalParser parser = new MarkupParser.IncrementalParser();
+        parser.parse("[red]one\ntwo\n", null);
+
+        Text text = parser.parse("one\n", null);
+        assertThat(text).isEqualTo(MarkupParser.parse("one\n"));
+        assertThat(text.lines().get(0).spans().get(0).style().fg()).isEmpty();
+    }
 }
@@ -1,5 +1,6 @@
 plugins {
     id("dev.tamboui.java-library")
+    id("dev.tamboui.jmh")
 }
 
 description = "CSS styling support for TamboUI TUI library"
@@ -0,0 +1,135 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.css.model.Stylesheet;
+
+/**
+ * Measures loading a large stylesheet: tokenizing and parsing its source,
+ * decoding its binary form, and going through a warm {@link StylesheetCache}.
+ * <p>
+ * The stylesheet mixes the constructs of real themes: variables, comments,
+ * compound and combinator selectors, selector lists, attribute selectors,
+ * nested rules and functional pseudo-classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CssParserBenchmark {
+
+    private static final String[] TYPES = {
+        "Panel", "Row", "Column", "Text", "Button", "ListElement", "TableElement", "Gauge"
+    };
+
+    @Param({"500", "5000"})
+    int rules;
+
+    private String css;
+    private byte[] encoded;
+    private Path cacheDirectory;
+    private StylesheetCache cache;
+
+    @Setup
+    public void setUp() throws IOException {
+        css = stylesheet(rules);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StylesheetCodec.write(CssParser.parse(css), out);
+        encoded = out.toByteArray();
+        cacheDirectory = Files.createTempDirectory("tamboui-css-benchmark");
+        cache = StylesheetCache.inDirectory(cacheDirectory);
+        cache.parse(css);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(cacheDirectory);
+    }
+
+    @Benchmark
+    public List<Token> tokenize() {
+        return new CssLexer(css).tokenizeFiltered();
+    }
+
+    @Benchmark
+    public Stylesheet parse() {
+        return CssParser.parse(css);
+    }
+
+    @Benchmark
+    public Stylesheet decode() throws IOException {
+        return StylesheetCodec.read(new ByteArrayInputStream(encoded));
+    }
+
+    @Benchmark
+    public Stylesheet parseCached() {
+        return cache.parse(css);
+    }
+
+    private static String stylesheet(int rules) {
+        StringBuilder css = new StringBuilder();
+        css.append("/* Generated theme */\n")
+            .append("$primary: #3498db;\n$accent: rgb(255, 128, 0);\n$muted: dark-gray;\n\n");
+        for (int i = 0; i < rules; i++) {
+            String type = TYPES[i % TYPES.length];
+            switch (i % 6) {
+                case 0:
+                    css.append(type).append(".item-").append(i)
+                        .append(" {\n  color: $primary;\n  padding: 1 2;\n}\n");
+                    break;
+                case 1:
+                    css.append("#widget-").append(i)
+                        .append(" > Text:focus {\n  background: $accent;\n  text-style: bold underlined;\n}\n");
+                    break;
+                case 2:
+                    css.append(".group-").append(i % 97).append(' ').append(type).append(", .alt-").append(i)
+                        .append(" {\n  border-type: rounded;\n  width: 50%;\n}\n");
+                    break;
+                case 3:
+                    css.append(type).append("[title=\"Item ").append(i)
+                        .append("\"] {\n  color: red !important;\n}\n");
+                    break;
+                case 4:
+                    css.append(".nested-").append(i)
+                        .append(" {\n  color: $muted;\n  &:hover {\n    color: white;\n  }\n}\n");
+                    break;
+                default:
+                    css.append("/* rule ").append(i).append(" */\n").append(type)
+                        .append(":nth-child(even) {\n  margin: 0 1;\n  flex: 1;\n}\n");
+                    break;
+            }
+        }
+        return css.toString();
+    }
+}
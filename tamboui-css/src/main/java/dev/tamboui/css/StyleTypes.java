@@ -0,0 +1,78 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-class cache backing {@link Styleable#styleTypesOf(Styleable)}.
+ * <p>
+ * The inherited types only depend on the class hierarchy, so they are computed
+ * once per class. The full list also depends on {@link Styleable#styleType()},
+ * which is usually constant per class; the last list built for a class is
+ * reused as long as the declared type is the same.
+ */
+final class StyleTypes {
+
+    private static final ClassValue<PerClass> CACHE = new ClassValue<PerClass>() {
+        @Override
+        protected PerClass computeValue(Class<?> type) {
+            return new PerClass(inheritedTypes(type));
+        }
+    };
+
+    private StyleTypes() {
+    }
+
+    static List<String> of(Styleable element) {
+        PerClass perClass = CACHE.get(element.getClass());
+        String type = element.styleType();
+        Entry last = perClass.last;
+        // The declared type may be null, as for the virtual elements of markup tags
+        if (last != null && Objects.equals(last.type, type)) {
+            return last.types;
+        }
+        List<String> types = new ArrayList<>(perClass.inherited.size() + 1);
+        types.addAll(perClass.inherited);
+        // The element's declared type comes last (highest precedence)
+        types.add(type);
+        Entry entry = new Entry(type, Collections.unmodifiableList(types));
+        perClass.last = entry;
+        return entry.types;
+    }
+
+    private static List<String> inheritedTypes(Class<?> type) {
+        List<String> types = new ArrayList<>();
+        // Walk the superclass hierarchy for inherited types
+        Class<?> clazz = type.getSuperclass();
+        while (clazz != null && Styleable.class.isAssignableFrom(clazz)) {
+            types.add(0, clazz.getSimpleName());
+            clazz = clazz.getSuperclass();
+        }
+        return types;
+    }
+
+    private static final class PerClass {
+        private final List<String> inherited;
+        private volatile Entry last;
+
+        PerClass(List<String> inherited) {
+            this.inherited = inherited;
+        }
+    }
+
+    private static final class Entry {
+        private final String type;
+        private final List<String> types;
+
+        Entry(String type, List<String> types) {
+            this.type = type;
+            this.types = types;
+        }
+    }
+}
@@ -4,7 +4,6 @@
  */
 package dev.tamboui.css;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -90,23 +89,13 @@ public interface Styleable {
      * <p>
      * For example, if {@code MyPanel extends Panel} and both implement Styleable,
      * calling {@code styleTypes(myPanel)} returns {@code ["Panel", "MyPanel"]}.
+     * <p>
+     * The class hierarchy is walked once per class and the result is cached.
      *
      * @param element the element to get style types for
      * @return an ordered list of style type names
      */
     static List<String> styleTypesOf(Styleable element) {
-        List<String> types = new ArrayList<>();
-
-        // Walk the superclass hierarchy for inherited types
-        Class<?> clazz = element.getClass().getSuperclass();
-        while (clazz != null && Styleable.class.isAssignableFrom(clazz)) {
-            types.add(0, clazz.getSimpleName());
-            clazz = clazz.getSuperclass();
-        }
-
-        // Add the element's declared type last (highest precedence)
-        types.add(element.styleType());
-
-        return Collections.unmodifiableList(types);
+        return StyleTypes.of(element);
     }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.engine;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.cascade.CssStyleResolver;
+import dev.tamboui.css.cascade.PseudoClassState;
+
+/**
+ * Styles resolved with one set of rules, keyed by what selectors can match:
+ * the style types, id, classes and attributes of an element and its ancestors,
+ * and the pseudo-class state of the element.
+ * <p>
+ * When the rules change, entries for elements that no changed selector can match
+ * are carried over, so only affected elements are resolved again.
+ */
+final class ResolvedStyles {
+
+    private static final int MAX_ENTRIES = 2048;
+
+    // Least recently used styles are evicted first
+    private final Map<Key, CssStyleResolver> entries =
+        new LinkedHashMap<Key, CssStyleResolver>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CssStyleResolver> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+    /**
+     * Returns the cached style for a key, or null.
+     */
+    CssStyleResolver get(Key key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Caches the style for a key.
+     */
+    void put(Key key, CssStyleResolver style) {
+        // Lookup keys may reference live element collections: copy them before keeping them
+        Key detached = key.detach();
+        synchronized (entries) {
+            entries.put(detached, style);
+        }
+    }
+
+    /**
+     * Returns a copy holding the entries the change cannot affect.
+     */
+    ResolvedStyles retain(StyleChange change) {
+        ResolvedStyles result = new ResolvedStyles();
+        if (change.affectsAll()) {
+            return result;
+        }
+        synchronized (entries) {
+            for (Map.Entry<Key, CssStyleResolver> entry : entries.entrySet()) {
+                Node subject = entry.getKey().subject();
+                if (!change.mayAffect(subject.types, Optional.ofNullable(subject.id), subject.classes)) {
+                    result.entries.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Identifies the element, ancestors and state a style was resolved for.
+     */
+    static final class Key {
+        private final Node[] nodes;  // ancestors from root, then the element
+        private final PseudoClassState state;
+        private final int hash;
+
+        private Key(Node[] nodes, PseudoClassState state, int hash) {
+            this.nodes = nodes;
+            this.state = state;
+            this.hash = hash;
+        }
+
+        static Key of(Styleable element, PseudoClassState state, List<Styleable> ancestors) {
+            Node[] nodes = new Node[ancestors.size() + 1];
+            int hash = state.hashCode();
+            for (int i = 0; i < ancestors.size(); i++) {
+                nodes[i] = new Node(ancestors.get(i));
+                hash = 31 * hash + nodes[i].hash;
+            }
+            nodes[ancestors.size()] = new Node(element);
+            hash = 31 * hash + nodes[ancestors.size()].hash;
+            return new Key(nodes, state, hash);
+        }
+
+        Node subject() {
+            return nodes[nodes.length - 1];
+        }
+
+        Key detach() {
+            Node[] copies = new Node[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                copies[i] = nodes[i].detach();
+            }
+            return new Key(copies, state, hash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (hash != other.hash || nodes.length != other.nodes.length || !state.equals(other.state)) {
+                return false;
+            }
+            for (int i = nodes.length - 1; i >= 0; i--) {
+                if (!nodes[i].equals(other.nodes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * What selectors can see of one element.
+     */
+    private static final class Node {
+        private final List<String> types;
+        private final String id;
+        private final Set<String> classes;
+        private final Map<String, String> attributes;
+        private final int hash;
+
+        Node(Styleable element) {
+            this(Styleable.styleTypesOf(element), element.cssId().orElse(null),
+                element.cssClasses(), element.styleAttributes());
+        }
+
+        private Node(List<String> types, String id, Set<String> classes, Map<String, String> attributes) {
+            this.types = types;
+            this.id = id;
+            this.classes = classes;
+            this.attributes = attributes;
+            int h = types.hashCode();
+            h = 31 * h + Objects.hashCode(id);
+            h = 31 * h + classes.hashCode();
+            this.hash = 31 * h + attributes.hashCode();
+        }
+
+        Node detach() {
+            return new Node(types, id,
+                classes.isEmpty() ? Collections.<String>emptySet() : new HashSet<>(classes),
+                attributes.isEmpty() ? Collections.<String, String>emptyMap() : new HashMap<>(attributes));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Node)) {
+                return false;
+            }
+            Node other = (Node) o;
+            return hash == other.hash && Objects.equals(id, other.id) && types.equals(other.types)
+                && classes.equals(other.classes) && attributes.equals(other.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
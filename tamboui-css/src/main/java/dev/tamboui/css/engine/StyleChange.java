@@ -0,0 +1,228 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.cascade.PseudoClassState;
+import dev.tamboui.css.model.PropertyValue;
+import dev.tamboui.css.model.Rule;
+import dev.tamboui.css.selector.ChildSelector;
+import dev.tamboui.css.selector.ClassSelector;
+import dev.tamboui.css.selector.CompoundSelector;
+import dev.tamboui.css.selector.DescendantSelector;
+import dev.tamboui.css.selector.IdSelector;
+import dev.tamboui.css.selector.Selector;
+import dev.tamboui.css.selector.TypeSelector;
+
+/**
+ * The difference between two sets of rules, as seen by the elements they style.
+ * <p>
+ * Rules are compared selector by selector: a selector has changed when the
+ * declarations of the rules using it were added, removed or modified. Only
+ * elements matched by a changed selector can resolve to a different style.
+ * When variables change, or when unchanged rules are reordered, every element
+ * may be affected.
+ */
+public final class StyleChange {
+
+    private static final StyleChange NONE = new StyleChange(false, Collections.<Selector>emptySet());
+    private static final StyleChange ALL = new StyleChange(true, Collections.<Selector>emptySet());
+
+    private final boolean affectsAll;
+    private final Set<Selector> changedSelectors;
+
+    private StyleChange(boolean affectsAll, Set<Selector> changedSelectors) {
+        this.affectsAll = affectsAll;
+        this.changedSelectors = changedSelectors;
+    }
+
+    /**
+     * Returns a change that may affect every element.
+     *
+     * @return a change affecting all elements
+     */
+    public static StyleChange all() {
+        return ALL;
+    }
+
+    /**
+     * Computes the change between two sets of rules and variables.
+     *
+     * @param oldRules      the rules before the change, in cascade order
+     * @param oldVariables  the variables before the change
+     * @param newRules      the rules after the change, in cascade order
+     * @param newVariables  the variables after the change
+     * @return the change
+     */
+    static StyleChange between(List<Rule> oldRules, Map<String, String> oldVariables,
+                               List<Rule> newRules, Map<String, String> newVariables) {
+        if (!oldVariables.equals(newVariables)) {
+            return ALL;
+        }
+        Map<Selector, List<Map<String, PropertyValue>>> before = declarationsBySelector(oldRules);
+        Map<Selector, List<Map<String, PropertyValue>>> after = declarationsBySelector(newRules);
+
+        Set<Selector> changed = new LinkedHashSet<>();
+        for (Map.Entry<Selector, List<Map<String, PropertyValue>>> entry : before.entrySet()) {
+            if (!entry.getValue().equals(after.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (Selector selector : after.keySet()) {
+            if (!before.containsKey(selector)) {
+                changed.add(selector);
+            }
+        }
+
+        // The cascade breaks specificity ties by source order, so moving
+        // unchanged rules around can change any style
+        if (!unchangedOrder(oldRules, changed).equals(unchangedOrder(newRules, changed))) {
+            return ALL;
+        }
+        return changed.isEmpty() ? NONE : new StyleChange(false, Collections.unmodifiableSet(changed));
+    }
+
+    /**
+     * Returns true if no element is affected.
+     *
+     * @return true if the rules are equivalent
+     */
+    public boolean isEmpty() {
+        return !affectsAll && changedSelectors.isEmpty();
+    }
+
+    /**
+     * Returns true if every element may be affected, regardless of the
+     * selectors that match it.
+     *
+     * @return true if all elements should be restyled
+     */
+    public boolean affectsAll() {
+        return affectsAll;
+    }
+
+    /**
+     * Returns the selectors whose rules were added, removed or modified.
+     * Empty when {@link #affectsAll()} is true.
+     *
+     * @return the changed selectors
+     */
+    public Set<Selector> changedSelectors() {
+        return changedSelectors;
+    }
+
+    /**
+     * Returns true if the style of an element may have changed.
+     *
+     * @param element   the element
+     * @param state     the pseudo-class state the element is styled with
+     * @param ancestors the ancestor chain from root to parent
+     * @return true if the element should be restyled
+     */
+    public boolean affects(Styleable element, PseudoClassState state, List<Styleable> ancestors) {
+        if (affectsAll) {
+            return true;
+        }
+        for (Selector selector : changedSelectors) {
+            if (selector.matches(element, state, ancestors)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a changed selector may match an element with the given
+     * types, id and classes, whatever its state and ancestors.
+     */
+    boolean mayAffect(List<String> types, Optional<String> id, Set<String> classes) {
+        if (affectsAll) {
+            return true;
+        }
+        for (Selector selector : changedSelectors) {
+            if (subjectMayMatch(subject(selector), types, id, classes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Selector subject(Selector selector) {
+        if (selector instanceof DescendantSelector) {
+            return subject(((DescendantSelector) selector).descendant());
+        }
+        if (selector instanceof ChildSelector) {
+            return subject(((ChildSelector) selector).child());
+        }
+        return selector;
+    }
+
+    private static boolean subjectMayMatch(Selector selector, List<String> types, Optional<String> id,
+                                           Set<String> classes) {
+        if (selector instanceof TypeSelector) {
+            return types.contains(((TypeSelector) selector).typeName());
+        }
+        if (selector instanceof ClassSelector) {
+            return classes.contains(((ClassSelector) selector).className());
+        }
+        if (selector instanceof IdSelector) {
+            return id.isPresent() && id.get().equals(((IdSelector) selector).id());
+        }
+        if (selector instanceof CompoundSelector) {
+            for (Selector part : ((CompoundSelector) selector).parts()) {
+                if (!subjectMayMatch(part, types, id, classes)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // Universal, attribute and pseudo-class selectors depend on more than the names
+        return true;
+    }
+
+    private static Map<Selector, List<Map<String, PropertyValue>>> declarationsBySelector(List<Rule> rules) {
+        Map<Selector, List<Map<String, PropertyValue>>> result = new LinkedHashMap<>();
+        for (Rule rule : rules) {
+            result.computeIfAbsent(rule.selector(), s -> new ArrayList<>()).add(rule.declarations());
+        }
+        return result;
+    }
+
+    private static List<Selector> unchangedOrder(List<Rule> rules, Set<Selector> changed) {
+        List<Selector> order = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            if (!changed.contains(rule.selector())) {
+                order.add(rule.selector());
+            }
+        }
+        return order;
+    }
+
+    @Override
+    public String toString() {
+        if (affectsAll) {
+            return "StyleChange{all}";
+        }
+        StringBuilder sb = new StringBuilder("StyleChange{");
+        boolean first = true;
+        for (Selector selector : changedSelectors) {
+            if (!first) {
+                sb.append(", ");
+            }
+            sb.append(selector.toCss());
+            first = false;
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -8,9 +8,13 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import dev.tamboui.css.Styleable;
 import dev.tamboui.css.cascade.CascadeResolver;
@@ -18,7 +22,9 @@ import dev.tamboui.css.cascade.CssStyleResolver;
 import dev.tamboui.css.cascade.PseudoClassState;
 import dev.tamboui.css.model.Rule;
 import dev.tamboui.css.model.Stylesheet;
+import dev.tamboui.css.parser.CssParseException;
 import dev.tamboui.css.parser.CssParser;
+import dev.tamboui.css.parser.StylesheetCache;
 import dev.tamboui.css.property.PropertyConverter;
 import dev.tamboui.error.RuntimeIOException;
 import dev.tamboui.style.Color;
@@ -68,21 +74,56 @@ import dev.tamboui.style.ColorConverter;
  * // Switch themes at runtime
  * engine.setActiveStylesheet("light");
  * </pre>
+ *
+ * <h2>Sharing Parsed Stylesheets</h2>
+ * <p>
+ * {@link Stylesheet} instances are immutable. Applications that create many
+ * engines (for example one per remote session) can parse their stylesheets
+ * once with {@link CssParser#parse(CharSequence)} and register the same instances
+ * with every engine via {@link #addStylesheet(Stylesheet)} and
+ * {@link #addStylesheet(String, Stylesheet)}.
+ * <p>
+ * Engines created with {@link #create(StylesheetCache)} keep the stylesheets
+ * they parse in a disk cache, so that large stylesheets are decoded instead of
+ * parsed again when the application restarts.
+ *
+ * <h2>Hot Reload</h2>
+ * <p>
+ * Stylesheets loaded from files with {@link #loadStylesheet(Path)} or
+ * {@link #loadStylesheet(String, Path)} can be watched with
+ * {@link #watchStylesheets()}: edited files are parsed again on a background
+ * thread and swapped in atomically. Styles resolved with large stylesheets are
+ * cached, and a reload only discards the styles of elements that a changed
+ * selector may match (see {@link StyleChange}).
+ * <p>
+ * Styles can be resolved from any thread. Stylesheets are swapped under a lock,
+ * so a resolution sees either the rules before a change or the rules after it.
  */
 public final class StyleEngine {
 
+    private static final Logger LOGGER = Logger.getLogger(StyleEngine.class.getName());
+    private static final AtomicLong VERSIONS = new AtomicLong();
+    // Below this many rules, matching them is cheaper than looking up a resolved style
+    private static final int CACHE_THRESHOLD = 32;
+
     private final Map<String, StylesheetEntry> namedStylesheets;
-    private final List<Stylesheet> inlineStylesheets;
+    private final List<StylesheetEntry> inlineStylesheets;
     private final CascadeResolver cascadeResolver;
     private final List<StyleChangeListener> listeners;
+    private final StylesheetCache stylesheetCache;  // null to always parse
 
     private String activeStylesheetName;
+    private StylesheetWatcher watcher;
+    // Rules, variables and resolved styles, rebuilt when null
+    private volatile Snapshot snapshot;
+    private volatile long version = VERSIONS.incrementAndGet();
 
-    private StyleEngine() {
+    private StyleEngine(StylesheetCache stylesheetCache) {
         this.namedStylesheets = new LinkedHashMap<>();
         this.inlineStylesheets = new ArrayList<>();
         this.cascadeResolver = new CascadeResolver();
         this.listeners = new CopyOnWriteArrayList<>();
+        this.stylesheetCache = stylesheetCache;
         this.activeStylesheetName = null;
     }
 
@@ -92,7 +133,20 @@ public final class StyleEngine {
      * @return a new StyleEngine
      */
     public static StyleEngine create() {
-        return new StyleEngine();
+        return new StyleEngine(null);
+    }
+
+    /**
+     * Creates a new StyleEngine that parses stylesheets through a cache.
+     * <p>
+     * Stylesheets loaded or added from source, and reloaded ones, are decoded
+     * from the cache when it holds an entry for the same source.
+     *
+     * @param stylesheetCache the cache of parsed stylesheets
+     * @return a new StyleEngine
+     */
+    public static StyleEngine create(StylesheetCache stylesheetCache) {
+        return new StyleEngine(Objects.requireNonNull(stylesheetCache, "stylesheetCache"));
     }
 
     // --- Stylesheet Loading ---
@@ -105,8 +159,8 @@ public final class StyleEngine {
      */
     public void loadStylesheet(String classpathResource) throws IOException {
         String css = readClasspathResource(classpathResource);
-        Stylesheet stylesheet = CssParser.parse(css);
-        inlineStylesheets.add(stylesheet);
+        Stylesheet stylesheet = parse(css);
+        addStylesheet(stylesheet);
     }
 
     /**
@@ -126,48 +180,43 @@ public final class StyleEngine {
                 throw new UncheckedIOException(e);
             }
         };
-        Stylesheet stylesheet = CssParser.parse(source.get());
-        namedStylesheets.put(name, new StylesheetEntry(stylesheet, source));
-
-        // Auto-activate first loaded stylesheet
-        if (activeStylesheetName == null) {
-            activeStylesheetName = name;
-        }
+        Stylesheet stylesheet = parse(source.get());
+        putNamedStylesheet(name, new StylesheetEntry(stylesheet, source, null));
     }
 
     /**
      * Loads a stylesheet from a file path.
+     * <p>
+     * The stylesheet is reloaded when the file changes if the engine
+     * {@linkplain #watchStylesheets() watches its stylesheets}.
      *
      * @param path the file path
      * @throws IOException if the file cannot be read
      */
     public void loadStylesheet(Path path) throws IOException {
-        String css = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
-        Stylesheet stylesheet = CssParser.parse(css);
-        inlineStylesheets.add(stylesheet);
+        Stylesheet stylesheet = parse(readFile(path));
+        StylesheetEntry entry = new StylesheetEntry(stylesheet, fileSource(path), path);
+        synchronized (this) {
+            inlineStylesheets.add(entry);
+            invalidateCache();
+        }
+        watch(path);
     }
 
     /**
      * Loads a named stylesheet from a file path.
+     * <p>
+     * The stylesheet is reloaded when the file changes if the engine
+     * {@linkplain #watchStylesheets() watches its stylesheets}.
      *
      * @param name the stylesheet name
      * @param path the file path
      * @throws IOException if the file cannot be read
      */
     public void loadStylesheet(String name, Path path) throws IOException {
-        Supplier<String> source = () -> {
-            try {
-                return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
-            } catch (IOException e) {
-                throw new UncheckedIOException("Failed to read stylesheet from file: " + path, e);
-            }
-        };
-        Stylesheet stylesheet = CssParser.parse(source.get());
-        namedStylesheets.put(name, new StylesheetEntry(stylesheet, source));
-
-        if (activeStylesheetName == null) {
-            activeStylesheetName = name;
-        }
+        Stylesheet stylesheet = parse(readFile(path));
+        putNamedStylesheet(name, new StylesheetEntry(stylesheet, fileSource(path), path));
+        watch(path);
     }
 
     /**
@@ -176,8 +225,7 @@ public final class StyleEngine {
      * @param css the CSS source code
      */
     public void addStylesheet(String css) {
-        Stylesheet stylesheet = CssParser.parse(css);
-        inlineStylesheets.add(stylesheet);
+        addStylesheet(parse(css));
     }
 
     /**
@@ -187,12 +235,46 @@ public final class StyleEngine {
      * @param css  the CSS source code
      */
     public void addStylesheet(String name, String css) {
-        Stylesheet stylesheet = CssParser.parse(css);
-        namedStylesheets.put(name, new StylesheetEntry(stylesheet, null));
+        addStylesheet(name, parse(css));
+    }
 
+    /**
+     * Adds an already parsed inline stylesheet.
+     * <p>
+     * The stylesheet is not copied, so the same instance can be shared by
+     * several engines.
+     *
+     * @param stylesheet the parsed stylesheet
+     */
+    public void addStylesheet(Stylesheet stylesheet) {
+        StylesheetEntry entry = new StylesheetEntry(Objects.requireNonNull(stylesheet, "stylesheet"), null, null);
+        synchronized (this) {
+            inlineStylesheets.add(entry);
+            invalidateCache();
+        }
+    }
+
+    /**
+     * Adds an already parsed named stylesheet.
+     * <p>
+     * The stylesheet is not copied, so the same instance can be shared by
+     * several engines. It cannot be reloaded with {@link #reloadStylesheet(String)}.
+     *
+     * @param name       the stylesheet name
+     * @param stylesheet the parsed stylesheet
+     */
+    public void addStylesheet(String name, Stylesheet stylesheet) {
+        putNamedStylesheet(name, new StylesheetEntry(Objects.requireNonNull(stylesheet, "stylesheet"), null, null));
+    }
+
+    private synchronized void putNamedStylesheet(String name, StylesheetEntry entry) {
+        namedStylesheets.put(name, entry);
+
+        // Auto-activate first loaded stylesheet
         if (activeStylesheetName == null) {
             activeStylesheetName = name;
         }
+        invalidateCache();
     }
 
     // --- Stylesheet Switching ---
@@ -207,15 +289,19 @@ public final class StyleEngine {
      * @throws IllegalArgumentException if no stylesheet with that name exists
      */
     public void setActiveStylesheet(String name) {
-        if (!namedStylesheets.containsKey(name)) {
-            throw new IllegalArgumentException("No stylesheet named: " + name);
-        }
-        String oldName = activeStylesheetName;
-        activeStylesheetName = name;
-
-        if (!Objects.equals(oldName, name)) {
-            notifyListeners();
+        StyleChange change;
+        synchronized (this) {
+            if (!namedStylesheets.containsKey(name)) {
+                throw new IllegalArgumentException("No stylesheet named: " + name);
+            }
+            if (name.equals(activeStylesheetName)) {
+                return;
+            }
+            Snapshot before = snapshot();
+            activeStylesheetName = name;
+            change = update(before);
         }
+        notifyListeners(change);
     }
 
     /**
@@ -223,7 +309,7 @@ public final class StyleEngine {
      *
      * @return the active stylesheet name, or empty if none set
      */
-    public Optional<String> getActiveStylesheet() {
+    public synchronized Optional<String> getActiveStylesheet() {
         return Optional.ofNullable(activeStylesheetName);
     }
 
@@ -232,19 +318,23 @@ public final class StyleEngine {
      *
      * @return the stylesheet names
      */
-    public Set<String> getStylesheetNames() {
-        return Collections.unmodifiableSet(namedStylesheets.keySet());
+    public synchronized Set<String> getStylesheetNames() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(namedStylesheets.keySet()));
     }
 
     /**
      * Reloads a named stylesheet from its original source.
      * <p>
-     * Useful for hot-reload during development.
+     * Useful for hot-reload during development. Listeners are notified only if
+     * the reloaded rules change the styles in use.
      *
      * @param name the stylesheet name
      */
     public void reloadStylesheet(String name) {
-        StylesheetEntry entry = namedStylesheets.get(name);
+        StylesheetEntry entry;
+        synchronized (this) {
+            entry = namedStylesheets.get(name);
+        }
         if (entry == null) {
             throw new IllegalArgumentException("No stylesheet named: " + name);
         }
@@ -255,12 +345,54 @@ public final class StyleEngine {
             return;
         }
 
-        Stylesheet stylesheet = CssParser.parse(source.get());
-        namedStylesheets.put(name, new StylesheetEntry(stylesheet, source));
+        StyleChange change = replace(entry, parse(source.get()));
+        if (!change.isEmpty()) {
+            notifyListeners(change);
+        }
+    }
 
-        if (name.equals(activeStylesheetName)) {
-            notifyListeners();
+    /**
+     * Watches the files of the stylesheets loaded from paths, and reloads them
+     * when they change, waiting for {@link StylesheetWatcher#DEFAULT_DEBOUNCE}
+     * without further changes first.
+     *
+     * @return the watcher, to be closed to stop watching
+     * @throws IOException if the files cannot be watched
+     * @see #watchStylesheets(Duration)
+     */
+    public StylesheetWatcher watchStylesheets() throws IOException {
+        return watchStylesheets(StylesheetWatcher.DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Watches the files of the stylesheets loaded from paths, and reloads them
+     * when they change.
+     * <p>
+     * Stylesheets loaded from paths later are watched as well. Files are parsed
+     * on the watcher thread, after the given delay has passed without further
+     * changes, since editors often write a file in several steps. A file that
+     * cannot be read or parsed leaves the previous stylesheet in place.
+     * <p>
+     * Change listeners are called on the watcher thread; applications typically
+     * request a redraw from there, for example with
+     * {@code runner.runOnRenderThread(...)}.
+     * <p>
+     * If the engine is already watching its stylesheets, the existing watcher is
+     * returned.
+     *
+     * @param debounce the time without changes to wait for before reloading
+     * @return the watcher, to be closed to stop watching
+     * @throws IOException if the files cannot be watched
+     */
+    public synchronized StylesheetWatcher watchStylesheets(Duration debounce) throws IOException {
+        if (watcher == null) {
+            watcher = new StylesheetWatcher(this, debounce);
+            for (Path path : stylesheetPaths()) {
+                watcher.watch(path);
+            }
+            watcher.start();
         }
+        return watcher;
     }
 
     // --- Style Resolution ---
@@ -276,10 +408,17 @@ public final class StyleEngine {
     public CssStyleResolver resolve(Styleable element,
                                      PseudoClassState state,
                                      List<Styleable> ancestors) {
-        List<Rule> allRules = collectRules();
-        Map<String, String> allVariables = collectVariables();
-
-        return cascadeResolver.resolve(element, state, ancestors, allRules, allVariables);
+        Snapshot current = snapshot();
+        if (current.rules.size() < CACHE_THRESHOLD) {
+            return cascadeResolver.resolve(element, state, ancestors, current.rules, current.variables);
+        }
+        ResolvedStyles.Key key = ResolvedStyles.Key.of(element, state, ancestors);
+        CssStyleResolver resolved = current.styles.get(key);
+        if (resolved == null) {
+            resolved = cascadeResolver.resolve(element, state, ancestors, current.rules, current.variables);
+            current.styles.put(key, resolved);
+        }
+        return resolved;
     }
 
     /**
@@ -305,11 +444,22 @@ public final class StyleEngine {
         if (colorValue == null || colorValue.isEmpty()) {
             return Optional.empty();
         }
-        Map<String, String> variables = collectVariables();
+        Map<String, String> variables = snapshot().variables;
         String resolvedValue = PropertyConverter.resolveVariables(colorValue, variables);
         return ColorConverter.INSTANCE.convert(resolvedValue);
     }
 
+    /**
+     * Returns a number identifying the rules and variables this engine currently
+     * resolves styles with, which changes each time they change and is never
+     * shared with another engine.
+     *
+     * @return the current version
+     */
+    public long version() {
+        return version;
+    }
+
     // --- Change Listeners ---
 
     /**
@@ -330,15 +480,127 @@ public final class StyleEngine {
         listeners.remove(listener);
     }
 
-    private void notifyListeners() {
+    private void notifyListeners(StyleChange change) {
         for (StyleChangeListener listener : listeners) {
-            listener.onStyleChange();
+            listener.onStyleChange(change);
         }
     }
 
     // --- Internal Methods ---
 
-    private List<Rule> collectRules() {
+    /**
+     * Reloads the stylesheets loaded from a file, keeping the previous ones if the
+     * file cannot be read or parsed.
+     *
+     * @param path the file that changed
+     */
+    void reload(Path path) {
+        List<StylesheetEntry> entries = new ArrayList<>();
+        synchronized (this) {
+            for (StylesheetEntry entry : allEntries()) {
+                if (path.equals(entry.path())) {
+                    entries.add(entry);
+                }
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        Stylesheet stylesheet;
+        try {
+            stylesheet = parse(readFile(path));
+        } catch (IOException | CssParseException e) {
+            LOGGER.log(Level.WARNING, "Keeping previous stylesheet, failed to reload " + path, e);
+            return;
+        }
+        for (StylesheetEntry entry : entries) {
+            StyleChange change = replace(entry, stylesheet);
+            if (!change.isEmpty()) {
+                notifyListeners(change);
+            }
+        }
+    }
+
+    /**
+     * Returns the normalized paths of the stylesheets loaded from files.
+     */
+    synchronized Set<Path> stylesheetPaths() {
+        Set<Path> paths = new LinkedHashSet<>();
+        for (StylesheetEntry entry : allEntries()) {
+            if (entry.path() != null) {
+                paths.add(entry.path());
+            }
+        }
+        return paths;
+    }
+
+    synchronized void watcherClosed(StylesheetWatcher closed) {
+        if (watcher == closed) {
+            watcher = null;
+        }
+    }
+
+    private void watch(Path path) throws IOException {
+        StylesheetWatcher current;
+        synchronized (this) {
+            current = watcher;
+        }
+        if (current != null) {
+            current.watch(normalize(path));
+        }
+    }
+
+    private List<StylesheetEntry> allEntries() {
+        List<StylesheetEntry> entries = new ArrayList<>(inlineStylesheets);
+        entries.addAll(namedStylesheets.values());
+        return entries;
+    }
+
+    /**
+     * Swaps the stylesheet of an entry, keeping the styles it cannot affect.
+     */
+    private synchronized StyleChange replace(StylesheetEntry entry, Stylesheet stylesheet) {
+        Snapshot before = snapshot();
+        entry.stylesheet = stylesheet;
+        return update(before);
+    }
+
+    /**
+     * Rebuilds the rules after a change, keeping the resolved styles the change
+     * cannot affect. Must be called while holding the lock.
+     */
+    private StyleChange update(Snapshot before) {
+        List<Rule> rules = Collections.unmodifiableList(buildRules());
+        Map<String, String> variables = Collections.unmodifiableMap(buildVariables());
+        StyleChange change = StyleChange.between(before.rules, before.variables, rules, variables);
+        if (!change.isEmpty()) {
+            snapshot = new Snapshot(rules, variables, before.styles.retain(change));
+            version = VERSIONS.incrementAndGet();
+        }
+        return change;
+    }
+
+    private void invalidateCache() {
+        snapshot = null;
+        version = VERSIONS.incrementAndGet();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = new Snapshot(Collections.unmodifiableList(buildRules()),
+                        Collections.unmodifiableMap(buildVariables()), new ResolvedStyles());
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<Rule> buildRules() {
         List<Rule> rules = new ArrayList<>();
 
         // Assign global source order so rules from later stylesheets
@@ -348,8 +610,8 @@ public final class StyleEngine {
         int globalOrder = 0;
 
         // Add rules from inline stylesheets
-        for (Stylesheet stylesheet : inlineStylesheets) {
-            for (Rule rule : stylesheet.rules()) {
+        for (StylesheetEntry entry : inlineStylesheets) {
+            for (Rule rule : entry.stylesheet().rules()) {
                 rules.add(new Rule(rule.selector(), rule.declarations(), globalOrder++));
             }
         }
@@ -367,12 +629,12 @@ public final class StyleEngine {
         return rules;
     }
 
-    private Map<String, String> collectVariables() {
+    private Map<String, String> buildVariables() {
         Map<String, String> variables = new LinkedHashMap<>();
 
         // Collect from inline stylesheets
-        for (Stylesheet stylesheet : inlineStylesheets) {
-            variables.putAll(stylesheet.variables());
+        for (StylesheetEntry entry : inlineStylesheets) {
+            variables.putAll(entry.stylesheet().variables());
         }
 
         // Collect from active named stylesheet (overrides inline)
@@ -386,6 +648,28 @@ public final class StyleEngine {
         return variables;
     }
 
+    private Stylesheet parse(String css) {
+        return stylesheetCache != null ? stylesheetCache.parse(css) : CssParser.parse(css);
+    }
+
+    private static Supplier<String> fileSource(Path path) {
+        return () -> {
+            try {
+                return readFile(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read stylesheet from file: " + path, e);
+            }
+        };
+    }
+
+    private static String readFile(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
     private String readClasspathResource(String resource) throws IOException {
         InputStream is = getClass().getResourceAsStream(resource);
         if (is == null) {
@@ -416,22 +700,40 @@ public final class StyleEngine {
          * Called when the active stylesheet changes.
          */
         void onStyleChange();
+
+        /**
+         * Called when the active stylesheet changes, with the selectors whose
+         * rules changed.
+         * <p>
+         * Listeners caching styles can override this method to only restyle the
+         * elements the change {@linkplain StyleChange#affects affects}. The default
+         * implementation calls {@link #onStyleChange()}.
+         *
+         * @param change the change
+         */
+        default void onStyleChange(StyleChange change) {
+            onStyleChange();
+        }
     }
 
     /**
-     * Internal entry for named stylesheets.
+     * Internal entry for stylesheets.
      */
     private static final class StylesheetEntry {
-        private final Stylesheet stylesheet;
+        // Guarded by the engine lock
+        private Stylesheet stylesheet;
         private final Supplier<String> sourceProvider;
+        private final Path path;
 
         /**
          * @param stylesheet the parsed stylesheet
          * @param sourceProvider optional supplier that provides CSS content for reloading (null for inline stylesheets)
+         * @param path optional file the stylesheet was loaded from, to reload it when it changes
          */
-        StylesheetEntry(Stylesheet stylesheet, Supplier<String> sourceProvider) {
+        StylesheetEntry(Stylesheet stylesheet, Supplier<String> sourceProvider, Path path) {
             this.stylesheet = stylesheet;
             this.sourceProvider = sourceProvider;
+            this.path = path != null ? normalize(path) : null;
         }
 
         Stylesheet stylesheet() {
@@ -441,5 +743,24 @@ public final class StyleEngine {
         Supplier<String> sourceProvider() {
             return sourceProvider;
         }
+
+        Path path() {
+            return path;
+        }
+    }
+
+    /**
+     * The rules and variables of the stylesheets in use, and the styles resolved with them.
+     */
+    private static final class Snapshot {
+        private final List<Rule> rules;
+        private final Map<String, String> variables;
+        private final ResolvedStyles styles;
+
+        Snapshot(List<Rule> rules, Map<String, String> variables, ResolvedStyles styles) {
+            this.rules = rules;
+            this.variables = variables;
+            this.styles = styles;
+        }
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches the files of the stylesheets a {@link StyleEngine} loaded from paths,
+ * and reloads them when they change.
+ * <p>
+ * Watchers are created with {@link StyleEngine#watchStylesheets()}. Changes are
+ * collected until none has happened for the debounce delay, then each changed
+ * file is parsed on the watcher thread and swapped into the engine. Changes to
+ * other files of the watched directories are ignored.
+ *
+ * <pre>{@code
+ * StyleEngine engine = StyleEngine.create();
+ * engine.loadStylesheet("dark", Paths.get("themes/dark.tcss"));
+ * engine.addChangeListener(() -> {
+ *     // Called on the watcher thread: request a redraw
+ * });
+ *
+ * try (StylesheetWatcher watcher = engine.watchStylesheets()) {
+ *     runner.run(() -> app());
+ * }
+ * }</pre>
+ */
+public final class StylesheetWatcher implements Closeable {
+
+    /** Default time without changes to wait for before reloading. */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(100);
+
+    private static final Logger LOGGER = Logger.getLogger(StylesheetWatcher.class.getName());
+
+    private final StyleEngine engine;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    StylesheetWatcher(StyleEngine engine, Duration debounce) throws IOException {
+        this.engine = engine;
+        this.debounceMillis = Math.max(0, Objects.requireNonNull(debounce, "debounce").toMillis());
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, "tamboui-stylesheet-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Watches the directory of a stylesheet file, if not already watched.
+     *
+     * @param file the normalized path of the file
+     * @throws IOException if the directory cannot be watched
+     */
+    synchronized void watch(Path file) throws IOException {
+        Path directory = file.getParent();
+        if (closed || directory == null || directories.containsValue(directory)) {
+            return;
+        }
+        WatchKey key = directory.register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        directories.put(key, directory);
+    }
+
+    /**
+     * Returns true until the watcher is closed.
+     *
+     * @return true if files are being watched
+     */
+    public boolean isWatching() {
+        return !closed;
+    }
+
+    /**
+     * Stops watching the stylesheet files.
+     *
+     * @throws IOException if the underlying watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        engine.watcherClosed(this);
+        watchService.close();
+    }
+
+    private void run() {
+        long debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        try {
+            while (!closed) {
+                Set<Path> changed = new LinkedHashSet<>();
+                while (!collect(watchService.take(), changed)) {
+                    // Only other files of the directories changed
+                }
+                // Editors often write a file in several steps: wait until they are
+                // done. Changes to other files of the directories do not count.
+                long deadline = System.nanoTime() + debounceNanos;
+                while (true) {
+                    long remaining = deadline - System.nanoTime();
+                    WatchKey key = watchService.poll(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                    if (key == null) {
+                        break;
+                    }
+                    if (collect(key, changed)) {
+                        deadline = System.nanoTime() + debounceNanos;
+                    } else if (remaining <= 0) {
+                        break;
+                    }
+                }
+                for (Path path : changed) {
+                    try {
+                        engine.reload(path);
+                    } catch (RuntimeException e) {
+                        // A failing listener must not stop the watcher
+                        LOGGER.log(Level.WARNING, "Failed to reload stylesheet " + path, e);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Adds the stylesheets changed by the events of a key.
+     *
+     * @return true if a stylesheet changed, false if only other files did
+     */
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        Path directory = directories.get(key);
+        Set<Path> stylesheets = engine.stylesheetPaths();
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost: reload every stylesheet of the directory
+                for (Path path : stylesheets) {
+                    if (directory.equals(path.getParent())) {
+                        changed.add(path);
+                        relevant = true;
+                    }
+                }
+            } else {
+                Path path = directory.resolve((Path) event.context());
+                if (stylesheets.contains(path)) {
+                    changed.add(path);
+                    relevant = true;
+                }
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return relevant;
+    }
+}
@@ -12,24 +12,36 @@ import java.util.List;
  * <p>
  * Tokenizes CSS input into a stream of tokens for the parser.
  * Supports standard CSS syntax plus Textual extensions like variables ($name).
+ * <p>
+ * The input is read in a single pass. Token values are taken directly from the
+ * input, and names that repeat through a stylesheet, such as property names,
+ * are shared between tokens instead of being copied each time they occur.
  */
 public final class CssLexer {
 
-    private final String input;
+    // Longer names rarely repeat: copy them instead of sharing them
+    private static final int MAX_SHARED_NAME_LENGTH = 32;
+    private static final int NAME_TABLE_SIZE = 1024;
+
+    private final CharSequence input;
+    private final int length;
     private int pos;
     private int line;
-    private int column;
+    private int lineStart;
+    private String[] names;
+    private int nameCount;
 
     /**
      * Creates a new lexer for the given CSS input.
      *
      * @param input the CSS source code
      */
-    public CssLexer(String input) {
+    public CssLexer(CharSequence input) {
         this.input = input;
+        this.length = input.length();
         this.pos = 0;
         this.line = 1;
-        this.column = 1;
+        this.lineStart = 0;
     }
 
     /**
@@ -42,10 +54,20 @@ public final class CssLexer {
      * @throws CssParseException if the input contains invalid syntax
      */
     public List<Token> tokenize() {
-        List<Token> tokens = new ArrayList<>();
-
-        while (!isAtEnd()) {
-            tokens.add(nextToken());
+        List<Token> tokens = new ArrayList<>(estimatedTokenCount());
+
+        while (pos < length) {
+            char c = input.charAt(pos);
+            if (isWhitespace(c)) {
+                int start = pos;
+                Token.Position startPos = currentPosition();
+                skipWhitespace();
+                tokens.add(new Token.Whitespace(slice(start, pos), startPos));
+            } else if (c == '/' && peekNext() == '*') {
+                skipComment();
+            } else {
+                tokens.add(nextToken(c));
+            }
         }
 
         tokens.add(new Token.EOF(currentPosition()));
@@ -60,14 +82,18 @@ public final class CssLexer {
      * @throws CssParseException if the input contains invalid syntax
      */
     public List<Token> tokenizeFiltered() {
-        List<Token> tokens = new ArrayList<>();
+        List<Token> tokens = new ArrayList<>(estimatedTokenCount());
         boolean lastWasWhitespace = false;
 
-        while (!isAtEnd()) {
-            Token token = nextToken();
-            if (token instanceof Token.Whitespace) {
+        while (pos < length) {
+            char c = input.charAt(pos);
+            if (isWhitespace(c)) {
+                skipWhitespace();
                 lastWasWhitespace = true;
+            } else if (c == '/' && peekNext() == '*') {
+                skipComment();
             } else {
+                Token token = nextToken(c);
                 token.setPrecededByWhitespace(lastWasWhitespace);
                 tokens.add(token);
                 lastWasWhitespace = false;
@@ -80,25 +106,14 @@ public final class CssLexer {
         return tokens;
     }
 
-    private Token nextToken() {
-        char c = peek();
-
-        // Skip comments
-        if (c == '/' && peekNext() == '*') {
-            skipComment();
-            if (isAtEnd()) {
-                return new Token.EOF(currentPosition());
-            }
-            c = peek();
-        }
+    private int estimatedTokenCount() {
+        // Stylesheets average a bit more than one token every five characters
+        return Math.max(16, length / 5);
+    }
 
+    private Token nextToken(char c) {
         Token.Position startPos = currentPosition();
 
-        // Whitespace
-        if (Character.isWhitespace(c)) {
-            return readWhitespace(startPos);
-        }
-
         // Variable ($name) - only if followed by identifier character
         // Otherwise $ is a delimiter (e.g., in $= attribute selector operator)
         if (c == '$' && isIdentStart(peekNext())) {
@@ -116,7 +131,7 @@ public final class CssLexer {
         }
 
         // Number
-        if (Character.isDigit(c) || (c == '-' && Character.isDigit(peekNext()))) {
+        if (isDigit(c) || (c == '-' && isDigit(peekNext()))) {
             return readNumber(startPos);
         }
 
@@ -126,7 +141,7 @@ public final class CssLexer {
         }
 
         // Single-character tokens
-        advance();
+        pos++;
         switch (c) {
             case '{':
                 return new Token.OpenBrace(startPos);
@@ -161,134 +176,212 @@ public final class CssLexer {
         }
     }
 
-    private Token.Whitespace readWhitespace(Token.Position startPos) {
-        StringBuilder sb = new StringBuilder();
-        while (!isAtEnd() && Character.isWhitespace(peek())) {
-            sb.append(advance());
+    private void skipWhitespace() {
+        while (pos < length) {
+            char c = input.charAt(pos);
+            if (c == '\n') {
+                newLine();
+            } else if (!isWhitespace(c)) {
+                return;
+            }
+            pos++;
         }
-        return new Token.Whitespace(sb.toString(), startPos);
     }
 
     private Token.Variable readVariable(Token.Position startPos) {
-        advance(); // consume '$'
-        StringBuilder sb = new StringBuilder();
-        while (!isAtEnd() && isIdentChar(peek())) {
-            sb.append(advance());
-        }
-        if (sb.length() == 0) {
+        int start = ++pos; // consume '$'
+        skipIdentChars();
+        if (pos == start) {
             throw new CssParseException("Expected variable name after $", startPos);
         }
-        return new Token.Variable(sb.toString(), startPos);
+        return new Token.Variable(name(start, pos), startPos);
     }
 
     private Token.Hash readHash(Token.Position startPos) {
-        advance(); // consume '#'
-        StringBuilder sb = new StringBuilder();
-        while (!isAtEnd() && isIdentChar(peek())) {
-            sb.append(advance());
-        }
-        if (sb.length() == 0) {
+        int start = ++pos; // consume '#'
+        skipIdentChars();
+        if (pos == start) {
             throw new CssParseException("Expected identifier after #", startPos);
         }
-        return new Token.Hash(sb.toString(), startPos);
+        return new Token.Hash(name(start, pos), startPos);
     }
 
     private Token.StringToken readString(Token.Position startPos) {
-        char quote = advance(); // consume opening quote
-        StringBuilder sb = new StringBuilder();
-        while (!isAtEnd() && peek() != quote) {
-            char c = advance();
-            if (c == '\\' && !isAtEnd()) {
-                sb.append(advance()); // escape sequence
-            } else {
-                sb.append(c);
+        char quote = input.charAt(pos++); // consume opening quote
+        int start = pos;
+        StringBuilder unescaped = null;
+        while (pos < length) {
+            char c = input.charAt(pos);
+            if (c == quote) {
+                String value;
+                if (unescaped == null) {
+                    value = slice(start, pos);
+                } else {
+                    value = unescaped.append(input, start, pos).toString();
+                }
+                pos++; // consume closing quote
+                return new Token.StringToken(value, startPos);
             }
+            if (c == '\\' && pos + 1 < length) {
+                // Escape sequence: keep the escaped character only
+                if (unescaped == null) {
+                    unescaped = new StringBuilder(pos - start + 16);
+                }
+                unescaped.append(input, start, pos);
+                pos++;
+                start = pos;
+                if (input.charAt(pos) == '\n') {
+                    newLine();
+                }
+            } else if (c == '\n') {
+                newLine();
+            }
+            pos++;
         }
-        if (isAtEnd()) {
-            throw new CssParseException("Unterminated string", startPos);
-        }
-        advance(); // consume closing quote
-        return new Token.StringToken(sb.toString(), startPos);
+        throw new CssParseException("Unterminated string", startPos);
     }
 
     private Token.Number readNumber(Token.Position startPos) {
-        StringBuilder sb = new StringBuilder();
-        if (peek() == '-') {
-            sb.append(advance());
-        }
-        while (!isAtEnd() && Character.isDigit(peek())) {
-            sb.append(advance());
+        int start = pos;
+        if (input.charAt(pos) == '-') {
+            pos++;
         }
+        skipDigits();
         // Decimal part
-        if (!isAtEnd() && peek() == '.' && Character.isDigit(peekNext())) {
-            sb.append(advance()); // consume '.'
-            while (!isAtEnd() && Character.isDigit(peek())) {
-                sb.append(advance());
-            }
+        if (pos < length && input.charAt(pos) == '.' && isDigit(peekNext())) {
+            pos++; // consume '.'
+            skipDigits();
         }
+        String value = name(start, pos);
         // Percentage
         boolean isPercentage = false;
-        if (!isAtEnd() && peek() == '%') {
+        if (pos < length && input.charAt(pos) == '%') {
             isPercentage = true;
-            advance();
+            pos++;
         }
-        return new Token.Number(sb.toString(), isPercentage, startPos);
+        return new Token.Number(value, isPercentage, startPos);
     }
 
     private Token.Ident readIdent(Token.Position startPos) {
-        StringBuilder sb = new StringBuilder();
-        while (!isAtEnd() && isIdentChar(peek())) {
-            sb.append(advance());
-        }
-        return new Token.Ident(sb.toString(), startPos);
+        int start = pos;
+        skipIdentChars();
+        return new Token.Ident(name(start, pos), startPos);
     }
 
     private void skipComment() {
-        advance(); // consume '/'
-        advance(); // consume '*'
-        while (!isAtEnd()) {
-            if (peek() == '*' && peekNext() == '/') {
-                advance(); // consume '*'
-                advance(); // consume '/'
+        pos += 2; // consume '/*'
+        while (pos < length) {
+            char c = input.charAt(pos);
+            if (c == '*' && peekNext() == '/') {
+                pos += 2; // consume '*/'
                 return;
             }
-            advance();
+            if (c == '\n') {
+                newLine();
+            }
+            pos++;
         }
         // Unterminated comment - silently end at EOF
     }
 
-    private boolean isIdentStart(char c) {
-        return Character.isLetter(c) || c == '_' || c == '-';
+    private void skipIdentChars() {
+        while (pos < length && isIdentChar(input.charAt(pos))) {
+            pos++;
+        }
     }
 
-    private boolean isIdentChar(char c) {
-        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    private void skipDigits() {
+        while (pos < length && isDigit(input.charAt(pos))) {
+            pos++;
+        }
     }
 
-    private boolean isAtEnd() {
-        return pos >= input.length();
+    /**
+     * Returns the text between two offsets, reusing an equal name seen earlier
+     * in the input.
+     */
+    private String name(int start, int end) {
+        int nameLength = end - start;
+        if (nameLength > MAX_SHARED_NAME_LENGTH) {
+            return slice(start, end);
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + input.charAt(i);
+        }
+        if (names == null) {
+            names = new String[NAME_TABLE_SIZE];
+        }
+        int mask = names.length - 1;
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String name;
+        while ((name = names[index]) != null) {
+            // String caches its hash code, which is computed the same way
+            if (name.hashCode() == hash && name.length() == nameLength && sameChars(name, start)) {
+                return name;
+            }
+            index = (index + 1) & mask;
+        }
+        name = slice(start, end);
+        // Keep free slots so that lookups stay short; once full, names are copied
+        if (nameCount < names.length * 3 / 4) {
+            names[index] = name;
+            nameCount++;
+        }
+        return name;
+    }
+
+    private boolean sameChars(String name, int start) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != input.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private char peek() {
-        return isAtEnd() ? '\0' : input.charAt(pos);
+    private String slice(int start, int end) {
+        return input.subSequence(start, end).toString();
     }
 
-    private char peekNext() {
-        return pos + 1 >= input.length() ? '\0' : input.charAt(pos + 1);
+    // The checks below match Character's, answering ASCII without a table lookup
+
+    private static boolean isWhitespace(char c) {
+        if (c > ' ') {
+            return c >= 0x80 && Character.isWhitespace(c);
+        }
+        return c == ' ' || (c >= '\t' && c <= '\r') || c >= '\u001C';
+    }
+
+    private static boolean isDigit(char c) {
+        return c < 0x80 ? c >= '0' && c <= '9' : Character.isDigit(c);
+    }
+
+    private static boolean isIdentStart(char c) {
+        if (c < 0x80) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '-';
+        }
+        return Character.isLetter(c);
     }
 
-    private char advance() {
-        char c = input.charAt(pos++);
-        if (c == '\n') {
-            line++;
-            column = 1;
-        } else {
-            column++;
+    private static boolean isIdentChar(char c) {
+        if (c < 0x80) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '-';
         }
-        return c;
+        return Character.isLetterOrDigit(c);
+    }
+
+    private char peekNext() {
+        return pos + 1 >= length ? '\0' : input.charAt(pos + 1);
+    }
+
+    private void newLine() {
+        line++;
+        lineStart = pos + 1;
     }
 
     private Token.Position currentPosition() {
-        return new Token.Position(line, column);
+        return new Token.Position(line, pos - lineStart + 1);
     }
 }
@@ -33,12 +33,19 @@ import dev.tamboui.css.selector.*;
  */
 public final class CssParser {
 
-    private final List<Token> tokens;
+    /**
+     * Version of the parser, changed whenever a source may parse to a different
+     * stylesheet, so that {@link StylesheetCache} entries are parsed again.
+     */
+    static final int PARSER_VERSION = 1;
+
+    private final Token[] tokens;
+    private final StringBuilder text = new StringBuilder();
     private int pos;
     private int ruleOrder;
 
     private CssParser(List<Token> tokens) {
-        this.tokens = tokens;
+        this.tokens = tokens.toArray(new Token[0]);
         this.pos = 0;
         this.ruleOrder = 0;
     }
@@ -50,7 +57,7 @@ public final class CssParser {
      * @return the parsed stylesheet
      * @throws CssParseException if parsing fails
      */
-    public static Stylesheet parse(String css) {
+    public static Stylesheet parse(CharSequence css) {
         CssLexer lexer = new CssLexer(css);
         List<Token> tokens = lexer.tokenizeFiltered();
         CssParser parser = new CssParser(tokens);
@@ -65,7 +72,7 @@ public final class CssParser {
             if (check(Token.Variable.class)) {
                 parseVariable(variables);
             } else {
-                rules.addAll(parseRule(Collections.<Selector>emptyList()));
+                parseRule(Collections.<Selector>emptyList(), rules);
             }
         }
 
@@ -76,23 +83,19 @@ public final class CssParser {
         Token.Variable varToken = consume(Token.Variable.class, "Expected variable");
         consume(Token.Colon.class, "Expected ':' after variable name");
 
-        StringBuilder value = new StringBuilder();
-        boolean first = true;
+        ValueBuilder value = new ValueBuilder();
         while (!check(Token.Semicolon.class) && !isAtEnd()) {
-            Token t = advance();
-            // Preserve whitespace between value tokens
-            if (!first && t.precededByWhitespace()) {
-                value.append(" ");
-            }
-            value.append(tokenToString(t));
-            first = false;
+            value.add(advance());
         }
         consume(Token.Semicolon.class, "Expected ';' after variable value");
 
-        variables.put(varToken.name(), value.toString().trim());
+        variables.put(varToken.name(), value.build());
     }
 
-    private List<Rule> parseRule(List<Selector> parentSelectors) {
+    /**
+     * Parses a rule and its nested rules, adding them to the given list.
+     */
+    private void parseRule(List<Selector> parentSelectors, List<Rule> rules) {
         List<Selector> selectors = parseSelectorList();
 
         // Apply parent context for nested rules with &
@@ -113,11 +116,11 @@ public final class CssParser {
             // Check for nested rule (starts with &, selector, or nested block)
             if (check(Token.Delim.class) && peekDelim() == '&') {
                 // Nested rule with &
-                nestedRules.addAll(parseRule(selectors));
+                parseRule(selectors, nestedRules);
             } else if (isStartOfSelector()) {
                 // Could be nested rule or property - look ahead
                 if (lookaheadIsNestedRule()) {
-                    nestedRules.addAll(parseRule(selectors));
+                    parseRule(selectors, nestedRules);
                 } else {
                     parseDeclaration(declarations);
                 }
@@ -130,17 +133,14 @@ public final class CssParser {
 
         consume(Token.CloseBrace.class, "Expected '}' after declarations");
 
-        List<Rule> result = new ArrayList<>();
         if (!declarations.isEmpty()) {
             // All selectors in a selector list share the same source order
             int order = ruleOrder++;
             for (Selector selector : selectors) {
-                result.add(new Rule(selector, declarations, order));
+                rules.add(new Rule(selector, declarations, order));
             }
         }
-        result.addAll(nestedRules);
-
-        return result;
+        rules.addAll(nestedRules);
     }
 
     private List<Selector> parseSelectorList() {
@@ -157,9 +157,8 @@ public final class CssParser {
         Token.Ident property = consume(Token.Ident.class, "Expected property name");
         consume(Token.Colon.class, "Expected ':' after property name");
 
-        StringBuilder value = new StringBuilder();
+        ValueBuilder value = new ValueBuilder();
         boolean important = false;
-        boolean first = true;
 
         while (!check(Token.Semicolon.class) && !check(Token.CloseBrace.class) && !isAtEnd()) {
             Token token = peek();
@@ -172,13 +171,7 @@ public final class CssParser {
                     throw error("Expected 'important' after '!'");
                 }
             } else {
-                Token t = advance();
-                // Preserve whitespace between value tokens
-                if (!first && t.precededByWhitespace()) {
-                    value.append(" ");
-                }
-                value.append(tokenToString(t));
-                first = false;
+                value.add(advance());
             }
         }
 
@@ -186,9 +179,8 @@ public final class CssParser {
             advance();
         }
 
-        String trimmedValue = value.toString().trim();
         declarations.put(property.value(),
-                new PropertyValue(trimmedValue, important));
+                new PropertyValue(value.build(), important));
     }
 
     private Selector parseSelector() {
@@ -273,13 +265,13 @@ public final class CssParser {
             // Handle functional pseudo-classes like :nth-child(even)
             if (check(Token.OpenParen.class)) {
                 advance(); // consume '('
-                StringBuilder args = new StringBuilder();
+                text.setLength(0);
+                text.append(name).append('(');
                 while (!check(Token.CloseParen.class) && !isAtEnd()) {
-                    Token t = advance();
-                    args.append(tokenToString(t));
+                    appendToken(text, advance());
                 }
                 consume(Token.CloseParen.class, "Expected ')' after pseudo-class arguments");
-                name = name + "(" + args.toString() + ")";
+                name = text.append(')').toString();
             }
 
             return new PseudoClassSelector(name);
@@ -457,39 +449,32 @@ public final class CssParser {
         return true;
     }
 
-    private String tokenToString(Token token) {
+    private static void appendToken(StringBuilder sb, Token token) {
         if (token instanceof Token.Ident) {
-            return ((Token.Ident) token).value();
-        }
-        if (token instanceof Token.StringToken) {
-            return "\"" + ((Token.StringToken) token).value() + "\"";
-        }
-        if (token instanceof Token.Number) {
+            sb.append(((Token.Ident) token).value());
+        } else if (token instanceof Token.StringToken) {
+            sb.append('"').append(((Token.StringToken) token).value()).append('"');
+        } else if (token instanceof Token.Number) {
             Token.Number num = (Token.Number) token;
-            return num.value() + (num.isPercentage() ? "%" : "");
-        }
-        if (token instanceof Token.Hash) {
-            return "#" + ((Token.Hash) token).value();
-        }
-        if (token instanceof Token.Variable) {
-            return "$" + ((Token.Variable) token).name();
-        }
-        if (token instanceof Token.Delim) {
-            return String.valueOf(((Token.Delim) token).value());
-        }
-        if (token instanceof Token.Colon) {
-            return ":";
-        }
-        if (token instanceof Token.Comma) {
-            return ",";
-        }
-        if (token instanceof Token.OpenParen) {
-            return "(";
-        }
-        if (token instanceof Token.CloseParen) {
-            return ")";
+            sb.append(num.value());
+            if (num.isPercentage()) {
+                sb.append('%');
+            }
+        } else if (token instanceof Token.Hash) {
+            sb.append('#').append(((Token.Hash) token).value());
+        } else if (token instanceof Token.Variable) {
+            sb.append('$').append(((Token.Variable) token).name());
+        } else if (token instanceof Token.Delim) {
+            sb.append(((Token.Delim) token).value());
+        } else if (token instanceof Token.Colon) {
+            sb.append(':');
+        } else if (token instanceof Token.Comma) {
+            sb.append(',');
+        } else if (token instanceof Token.OpenParen) {
+            sb.append('(');
+        } else if (token instanceof Token.CloseParen) {
+            sb.append(')');
         }
-        return "";
     }
 
     private char peekDelim() {
@@ -505,14 +490,14 @@ public final class CssParser {
     }
 
     private Token peek() {
-        return tokens.get(pos);
+        return tokens[pos];
     }
 
     private Token advance() {
         if (!isAtEnd()) {
             pos++;
         }
-        return tokens.get(pos - 1);
+        return tokens[pos - 1];
     }
 
     private boolean check(Class<? extends Token> type) {
@@ -532,4 +517,45 @@ public final class CssParser {
         return new CssParseException(message + " (got " + token.getClass().getSimpleName() + ")",
                 token.position());
     }
+
+    /**
+     * Joins the tokens of a value, keeping single spaces where the source had
+     * whitespace between them. Values made of one identifier, the most common
+     * case, reuse the identifier without copying it.
+     */
+    private final class ValueBuilder {
+        private Token first;
+        private boolean joined;
+
+        void add(Token token) {
+            if (first == null) {
+                first = token;
+                return;
+            }
+            if (!joined) {
+                text.setLength(0);
+                appendToken(text, first);
+                joined = true;
+            }
+            // Preserve whitespace between value tokens
+            if (token.precededByWhitespace()) {
+                text.append(' ');
+            }
+            appendToken(text, token);
+        }
+
+        String build() {
+            if (first == null) {
+                return "";
+            }
+            if (!joined && first instanceof Token.Ident) {
+                return ((Token.Ident) first).value();
+            }
+            if (!joined) {
+                text.setLength(0);
+                appendToken(text, first);
+            }
+            return text.toString().trim();
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import dev.tamboui.css.model.Stylesheet;
+
+/**
+ * Caches parsed stylesheets on disk, keyed by a hash of their source.
+ * <p>
+ * The first time a source is parsed, the stylesheet is stored in the cache
+ * directory in the binary form of {@link StylesheetCodec}. Parsing the same
+ * source again, in this or a later run, decodes the stored stylesheet instead.
+ * An edited source has a different hash, so it is parsed again: entries never
+ * need to be invalidated. Entries stored by another version of the parser or of
+ * the binary format have different names as well.
+ * <p>
+ * When the directory holds more than the maximum number of entries, the least
+ * recently used ones are deleted as new entries are stored, so entries for
+ * sources that were edited since do not accumulate.
+ * <p>
+ * The cache is an optimization only. Entries that cannot be read are ignored
+ * and replaced, and failures to store an entry are logged, so parsing through
+ * the cache always returns the same stylesheet as {@link CssParser#parse(CharSequence)}.
+ * Entries are written to a temporary file and then moved into place, so several
+ * processes can share a cache directory.
+ *
+ * <pre>{@code
+ * StylesheetCache cache = StylesheetCache.inDirectory(Paths.get(".cache", "tcss"));
+ * StyleEngine engine = StyleEngine.create(cache);
+ * engine.loadStylesheet(Paths.get("themes/dark.tcss"));
+ * }</pre>
+ */
+public final class StylesheetCache {
+
+    private static final Logger LOGGER = Logger.getLogger(StylesheetCache.class.getName());
+    private static final String EXTENSION = ".tcssb";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** Default maximum number of entries kept in the cache directory. */
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private final Path directory;
+    private final int maxEntries;
+
+    private StylesheetCache(Path directory, int maxEntries) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be >= 1: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Creates a cache storing up to {@link #DEFAULT_MAX_ENTRIES} entries in the
+     * given directory. The directory is created when the first entry is stored.
+     *
+     * @param directory the cache directory
+     * @return the cache
+     */
+    public static StylesheetCache inDirectory(Path directory) {
+        return new StylesheetCache(directory, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a cache storing its entries in the given directory. The directory
+     * is created when the first entry is stored.
+     *
+     * @param directory  the cache directory
+     * @param maxEntries the maximum number of entries kept in the directory
+     * @return the cache
+     */
+    public static StylesheetCache inDirectory(Path directory, int maxEntries) {
+        return new StylesheetCache(directory, maxEntries);
+    }
+
+    /**
+     * Returns the directory holding the cache entries.
+     *
+     * @return the cache directory
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Returns the stylesheet for the given source, decoding it from the cache
+     * when an entry exists, or parsing and storing it otherwise.
+     *
+     * @param css the CSS source code
+     * @return the stylesheet
+     * @throws CssParseException if the source has to be parsed and is invalid
+     */
+    public Stylesheet parse(CharSequence css) {
+        Path file = entryFor(css);
+        Stylesheet cached = read(file);
+        if (cached != null) {
+            touch(file);
+            return cached;
+        }
+        Stylesheet stylesheet = CssParser.parse(css);
+        write(file, stylesheet);
+        return stylesheet;
+    }
+
+    /**
+     * Returns the file holding the entry for the given source.
+     */
+    Path entryFor(CharSequence css) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        // Entries written with another format or parser have different names
+        digest.update((byte) StylesheetCodec.FORMAT_VERSION);
+        digest.update((byte) CssParser.PARSER_VERSION);
+        byte[] hash = digest.digest(css.toString().getBytes(StandardCharsets.UTF_8));
+        char[] name = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            name[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            name[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return directory.resolve(new String(name) + EXTENSION);
+    }
+
+    private static Stylesheet read(Path file) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return StylesheetCodec.read(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // Truncated or corrupt: parse again and replace the entry
+            LOGGER.log(Level.FINE, "Ignoring unreadable stylesheet cache entry " + file, e);
+            return null;
+        }
+    }
+
+    private void write(Path file, Stylesheet stylesheet) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                StylesheetCodec.write(stylesheet, out);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+            prune(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to store stylesheet cache entry " + file, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    // Leave the temporary file behind
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks an entry as used, so that it is pruned after entries used less recently.
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // The directory may be read-only: the entry is only pruned earlier
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries beyond the maximum, keeping the
+     * entry just stored.
+     */
+    private void prune(Path stored) {
+        List<Path> entries = new ArrayList<>();
+        Map<Path, FileTime> usedAt = new HashMap<>();
+        try {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+                for (Path file : files) {
+                    if (file.equals(stored)) {
+                        continue;
+                    }
+                    try {
+                        usedAt.put(file, Files.getLastModifiedTime(file));
+                        entries.add(file);
+                    } catch (NoSuchFileException e) {
+                        // Deleted by another process
+                    }
+                }
+            }
+            int excess = entries.size() - (maxEntries - 1);
+            if (excess <= 0) {
+                return;
+            }
+            entries.sort((a, b) -> usedAt.get(a).compareTo(usedAt.get(b)));
+            for (int i = 0; i < excess; i++) {
+                Files.deleteIfExists(entries.get(i));
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to prune stylesheet cache " + directory, e);
+        }
+    }
+}
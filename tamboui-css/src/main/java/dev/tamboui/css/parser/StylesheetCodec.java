@@ -0,0 +1,393 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.tamboui.css.model.PropertyValue;
+import dev.tamboui.css.model.Rule;
+import dev.tamboui.css.model.Stylesheet;
+import dev.tamboui.css.selector.AttributeSelector;
+import dev.tamboui.css.selector.ChildSelector;
+import dev.tamboui.css.selector.ClassSelector;
+import dev.tamboui.css.selector.CompoundSelector;
+import dev.tamboui.css.selector.DescendantSelector;
+import dev.tamboui.css.selector.IdSelector;
+import dev.tamboui.css.selector.PseudoClassSelector;
+import dev.tamboui.css.selector.Selector;
+import dev.tamboui.css.selector.SelectorParser;
+import dev.tamboui.css.selector.TypeSelector;
+import dev.tamboui.css.selector.UniversalSelector;
+
+/**
+ * Reads and writes parsed stylesheets in a compact binary form.
+ * <p>
+ * Decoding a stylesheet is several times faster than parsing its source, which
+ * makes the binary form suitable for caching large stylesheets, see
+ * {@link StylesheetCache}. The form starts with a string table, so names
+ * repeated through the stylesheet are stored and decoded once.
+ * <p>
+ * The format is versioned: data written by another version is rejected
+ * rather than misread.
+ */
+public final class StylesheetCodec {
+
+    /** Version of the binary format, changed whenever the layout changes. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x54435342; // "TCSB"
+
+    private static final int TYPE = 0;
+    private static final int CLASS = 1;
+    private static final int ID = 2;
+    private static final int UNIVERSAL = 3;
+    private static final int PSEUDO_CLASS = 4;
+    private static final int ATTRIBUTE = 5;
+    private static final int COMPOUND = 6;
+    private static final int DESCENDANT = 7;
+    private static final int CHILD = 8;
+    // Selectors implemented outside this module, stored as CSS text
+    private static final int OTHER = 9;
+
+    // Declaration count marking a rule that shares the declarations of the previous one
+    private static final int SAME_DECLARATIONS = -1;
+
+    private StylesheetCodec() {
+    }
+
+    /**
+     * Writes a stylesheet in binary form.
+     *
+     * @param stylesheet the stylesheet
+     * @param out        the stream to write to, left open
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(Stylesheet stylesheet, OutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Map.Entry<String, String> variable : stylesheet.variables().entrySet()) {
+            intern(strings, variable.getKey());
+            intern(strings, variable.getValue());
+        }
+        for (Rule rule : stylesheet.rules()) {
+            internSelector(strings, rule.selector());
+            for (Map.Entry<String, PropertyValue> declaration : rule.declarations().entrySet()) {
+                intern(strings, declaration.getKey());
+                intern(strings, declaration.getValue().raw());
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+
+        writeVarInt(data, strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(data, bytes.length);
+            data.write(bytes);
+        }
+
+        writeVarInt(data, stylesheet.variables().size());
+        for (Map.Entry<String, String> variable : stylesheet.variables().entrySet()) {
+            writeString(data, strings, variable.getKey());
+            writeString(data, strings, variable.getValue());
+        }
+
+        writeVarInt(data, stylesheet.rules().size());
+        Rule previous = null;
+        for (Rule rule : stylesheet.rules()) {
+            writeSelector(data, strings, rule.selector());
+            writeVarInt(data, rule.sourceOrder());
+            Map<String, PropertyValue> declarations = rule.declarations();
+            if (previous != null && previous.sourceOrder() == rule.sourceOrder()
+                    && previous.declarations().equals(declarations)) {
+                // Rules of a selector list hold the same declarations
+                writeVarInt(data, SAME_DECLARATIONS + 1);
+            } else {
+                writeVarInt(data, declarations.size() + 1);
+                for (Map.Entry<String, PropertyValue> declaration : declarations.entrySet()) {
+                    writeString(data, strings, declaration.getKey());
+                    writeString(data, strings, declaration.getValue().raw());
+                    data.writeBoolean(declaration.getValue().important());
+                }
+            }
+            previous = rule;
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a stylesheet written by {@link #write(Stylesheet, OutputStream)}.
+     *
+     * @param in the stream to read from, left open
+     * @return the stylesheet
+     * @throws IOException if the stream cannot be read, or does not hold a
+     *                     stylesheet written with the current format version
+     */
+    public static Stylesheet read(InputStream in) throws IOException {
+        // Decoding from memory avoids a call into the stream for every byte
+        Input data = new Input(readAll(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a binary stylesheet");
+        }
+        int version = data.readByte() << 8 | data.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary stylesheet version: " + version);
+        }
+
+        int stringCount = data.readCount();
+        List<String> stringTable = new ArrayList<>(initialCapacity(stringCount));
+        for (int i = 0; i < stringCount; i++) {
+            stringTable.add(data.readUtf8(data.readCount()));
+        }
+        data.strings = stringTable.toArray(new String[0]);
+
+        int variableCount = data.readCount();
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (int i = 0; i < variableCount; i++) {
+            variables.put(data.readString(), data.readString());
+        }
+
+        int ruleCount = data.readCount();
+        List<Rule> rules = new ArrayList<>(initialCapacity(ruleCount));
+        Map<String, PropertyValue> declarations = null;
+        for (int i = 0; i < ruleCount; i++) {
+            Selector selector = readSelector(data);
+            int sourceOrder = data.readCount();
+            int declarationCount = data.readCount() - 1;
+            if (declarationCount == SAME_DECLARATIONS) {
+                if (declarations == null) {
+                    throw new IOException("Corrupt binary stylesheet: no declarations to share");
+                }
+            } else {
+                declarations = new LinkedHashMap<>();
+                for (int j = 0; j < declarationCount; j++) {
+                    String property = data.readString();
+                    String raw = data.readString();
+                    declarations.put(property, new PropertyValue(raw, data.readByte() != 0));
+                }
+            }
+            rules.add(new Rule(selector, declarations, sourceOrder));
+        }
+        return new Stylesheet(variables, rules);
+    }
+
+    private static void internSelector(Map<String, Integer> strings, Selector selector) {
+        if (selector instanceof TypeSelector) {
+            intern(strings, ((TypeSelector) selector).typeName());
+        } else if (selector instanceof ClassSelector) {
+            intern(strings, ((ClassSelector) selector).className());
+        } else if (selector instanceof IdSelector) {
+            intern(strings, ((IdSelector) selector).id());
+        } else if (selector instanceof PseudoClassSelector) {
+            intern(strings, ((PseudoClassSelector) selector).pseudoClass());
+        } else if (selector instanceof AttributeSelector) {
+            intern(strings, ((AttributeSelector) selector).attribute());
+            intern(strings, ((AttributeSelector) selector).value());
+        } else if (selector instanceof CompoundSelector) {
+            for (Selector part : ((CompoundSelector) selector).parts()) {
+                internSelector(strings, part);
+            }
+        } else if (selector instanceof DescendantSelector) {
+            internSelector(strings, ((DescendantSelector) selector).ancestor());
+            internSelector(strings, ((DescendantSelector) selector).descendant());
+        } else if (selector instanceof ChildSelector) {
+            internSelector(strings, ((ChildSelector) selector).parent());
+            internSelector(strings, ((ChildSelector) selector).child());
+        } else if (!(selector instanceof UniversalSelector)) {
+            intern(strings, selector.toCss());
+        }
+    }
+
+    private static void writeSelector(DataOutputStream data, Map<String, Integer> strings, Selector selector)
+            throws IOException {
+        if (selector instanceof TypeSelector) {
+            data.writeByte(TYPE);
+            writeString(data, strings, ((TypeSelector) selector).typeName());
+        } else if (selector instanceof ClassSelector) {
+            data.writeByte(CLASS);
+            writeString(data, strings, ((ClassSelector) selector).className());
+        } else if (selector instanceof IdSelector) {
+            data.writeByte(ID);
+            writeString(data, strings, ((IdSelector) selector).id());
+        } else if (selector instanceof UniversalSelector) {
+            data.writeByte(UNIVERSAL);
+        } else if (selector instanceof PseudoClassSelector) {
+            data.writeByte(PSEUDO_CLASS);
+            writeString(data, strings, ((PseudoClassSelector) selector).pseudoClass());
+        } else if (selector instanceof AttributeSelector) {
+            AttributeSelector attribute = (AttributeSelector) selector;
+            data.writeByte(ATTRIBUTE);
+            writeString(data, strings, attribute.attribute());
+            data.writeByte(attribute.operator().ordinal());
+            writeString(data, strings, attribute.value());
+        } else if (selector instanceof CompoundSelector) {
+            List<Selector> parts = ((CompoundSelector) selector).parts();
+            data.writeByte(COMPOUND);
+            writeVarInt(data, parts.size());
+            for (Selector part : parts) {
+                writeSelector(data, strings, part);
+            }
+        } else if (selector instanceof DescendantSelector) {
+            data.writeByte(DESCENDANT);
+            writeSelector(data, strings, ((DescendantSelector) selector).ancestor());
+            writeSelector(data, strings, ((DescendantSelector) selector).descendant());
+        } else if (selector instanceof ChildSelector) {
+            data.writeByte(CHILD);
+            writeSelector(data, strings, ((ChildSelector) selector).parent());
+            writeSelector(data, strings, ((ChildSelector) selector).child());
+        } else {
+            data.writeByte(OTHER);
+            writeString(data, strings, selector.toCss());
+        }
+    }
+
+    private static Selector readSelector(Input data) throws IOException {
+        int tag = data.readByte();
+        switch (tag) {
+            case TYPE:
+                return new TypeSelector(data.readString());
+            case CLASS:
+                return new ClassSelector(data.readString());
+            case ID:
+                return new IdSelector(data.readString());
+            case UNIVERSAL:
+                return UniversalSelector.INSTANCE;
+            case PSEUDO_CLASS:
+                return new PseudoClassSelector(data.readString());
+            case ATTRIBUTE:
+                String attribute = data.readString();
+                AttributeSelector.Operator[] operators = AttributeSelector.Operator.values();
+                int operator = data.readByte();
+                if (operator >= operators.length) {
+                    throw new IOException("Corrupt binary stylesheet: unknown attribute operator " + operator);
+                }
+                String value = data.readString();
+                return operators[operator] == AttributeSelector.Operator.EXISTS
+                    ? new AttributeSelector(attribute)
+                    : new AttributeSelector(attribute, operators[operator], value);
+            case COMPOUND:
+                int count = data.readCount();
+                List<Selector> parts = new ArrayList<>(initialCapacity(count));
+                for (int i = 0; i < count; i++) {
+                    parts.add(readSelector(data));
+                }
+                return new CompoundSelector(parts);
+            case DESCENDANT:
+                return new DescendantSelector(readSelector(data), readSelector(data));
+            case CHILD:
+                return new ChildSelector(readSelector(data), readSelector(data));
+            case OTHER:
+                try {
+                    return SelectorParser.parse(data.readString());
+                } catch (CssParseException e) {
+                    throw new IOException("Corrupt binary stylesheet: invalid selector", e);
+                }
+            default:
+                throw new IOException("Corrupt binary stylesheet: unknown selector tag " + tag);
+        }
+    }
+
+    private static void intern(Map<String, Integer> strings, String string) {
+        if (string != null && !strings.containsKey(string)) {
+            strings.put(string, strings.size());
+        }
+    }
+
+    private static void writeString(DataOutputStream data, Map<String, Integer> strings, String string)
+            throws IOException {
+        // 0 stands for null, strings are numbered from 1
+        writeVarInt(data, string == null ? 0 : strings.get(string) + 1);
+    }
+
+    private static int initialCapacity(int count) {
+        // Counts come from the data: don't trust them with large allocations
+        return Math.min(count, 4096);
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Binary data being decoded, and its string table once read.
+     */
+    private static final class Input {
+        private final byte[] bytes;
+        private int pos;
+        String[] strings;
+
+        Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() throws IOException {
+            if (pos >= bytes.length) {
+                throw new EOFException("Truncated binary stylesheet");
+            }
+            return bytes[pos++] & 0xFF;
+        }
+
+        int readInt() throws IOException {
+            return readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+        }
+
+        int readCount() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IOException("Corrupt binary stylesheet: invalid count");
+        }
+
+        String readUtf8(int length) throws IOException {
+            if (length > bytes.length - pos) {
+                throw new EOFException("Truncated binary stylesheet");
+            }
+            String string = new String(bytes, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return string;
+        }
+
+        String readString() throws IOException {
+            int index = readCount();
+            if (index > strings.length) {
+                throw new IOException("Corrupt binary stylesheet: unknown string " + index);
+            }
+            return index == 0 ? null : strings[index - 1];
+        }
+    }
+}
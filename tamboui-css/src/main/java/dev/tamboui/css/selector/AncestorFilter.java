@@ -0,0 +1,260 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.selector;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import dev.tamboui.css.Styleable;
+
+/**
+ * A counting Bloom filter of the ids, classes and types of the elements
+ * currently being rendered, used to reject descendant and child selectors
+ * without walking the ancestor chain.
+ * <p>
+ * A renderer pushes each element before rendering its children and pops it
+ * afterwards, and passes ancestor lists {@link #attachTo(List) attached} to
+ * the filter to the style engine. {@link DescendantSelector} and
+ * {@link ChildSelector} precompute the ids, classes and types their ancestor
+ * side requires; if the filter says one of them is definitely absent, the
+ * selector does not match and the ancestors are not inspected. False positives
+ * only cost the regular walk, so matching results are unchanged.
+ * <p>
+ * Instances are not thread-safe; use one filter per render pass.
+ */
+public final class AncestorFilter {
+
+    private static final int KEY_BITS = 12;
+    private static final int KEY_MASK = (1 << KEY_BITS) - 1;
+    private static final int SATURATED = 0xFF;
+    private static final int[] NO_KEYS = new int[0];
+
+    private final byte[] counters = new byte[1 << KEY_BITS];
+    private final Deque<int[]> pushed = new ArrayDeque<>();
+
+    /**
+     * Creates an empty filter.
+     */
+    public AncestorFilter() {
+    }
+
+    /**
+     * Adds an element's id, classes and style types to the filter.
+     *
+     * @param element the element whose children are about to be rendered
+     */
+    public void push(Styleable element) {
+        int[] keys = keysOf(element);
+        for (int key : keys) {
+            increment(key & KEY_MASK);
+            increment((key >>> KEY_BITS) & KEY_MASK);
+        }
+        pushed.push(keys);
+    }
+
+    /**
+     * Removes the most recently pushed element from the filter.
+     *
+     * @throws IllegalStateException if the filter is empty
+     */
+    public void pop() {
+        int[] keys = pushed.poll();
+        if (keys == null) {
+            throw new IllegalStateException("No element to pop");
+        }
+        for (int key : keys) {
+            decrement(key & KEY_MASK);
+            decrement((key >>> KEY_BITS) & KEY_MASK);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the filter.
+     *
+     * @return the number of pushed elements
+     */
+    public int depth() {
+        return pushed.size();
+    }
+
+    /**
+     * Returns whether all of the given keys may be present.
+     *
+     * @param keys the keys to test, as returned by {@link #requiredAncestorKeys(Selector)}
+     * @return false if at least one key is definitely absent
+     */
+    public boolean mightContainAll(int[] keys) {
+        for (int key : keys) {
+            if (counters[key & KEY_MASK] == 0 || counters[(key >>> KEY_BITS) & KEY_MASK] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a view of the given ancestor list that carries this filter.
+     * <p>
+     * Every element of the list must have been pushed to this filter.
+     * The filter may contain more elements than the list.
+     *
+     * @param ancestors the ancestor chain from root to parent
+     * @return a list view carrying this filter
+     */
+    public List<Styleable> attachTo(List<Styleable> ancestors) {
+        return new FilteredAncestors(ancestors, this);
+    }
+
+    /**
+     * Returns whether a selector requiring the given ancestor keys may match,
+     * given the filter attached to the ancestor list, if any.
+     *
+     * @param ancestors the ancestor list passed to the selector
+     * @param keys      the keys the selector requires among the ancestors
+     * @return false if the selector definitely does not match
+     */
+    static boolean mayMatch(List<Styleable> ancestors, int[] keys) {
+        if (keys.length == 0 || !(ancestors instanceof FilteredAncestors)) {
+            return true;
+        }
+        return ((FilteredAncestors) ancestors).filter.mightContainAll(keys);
+    }
+
+    /**
+     * Computes the keys that must be present among the ancestors of an element
+     * for a combinator's ancestor side to match.
+     *
+     * @param selector the ancestor (or parent) side of a combinator
+     * @return the required keys, possibly empty
+     */
+    static int[] requiredAncestorKeys(Selector selector) {
+        Set<Integer> keys = new LinkedHashSet<>();
+        collectKeys(selector, keys);
+        if (keys.isEmpty()) {
+            return NO_KEYS;
+        }
+        int[] result = new int[keys.size()];
+        int i = 0;
+        for (Integer key : keys) {
+            result[i++] = key;
+        }
+        return result;
+    }
+
+    private static void collectKeys(Selector selector, Set<Integer> keys) {
+        if (selector instanceof TypeSelector) {
+            keys.add(typeKey(((TypeSelector) selector).typeName()));
+        } else if (selector instanceof ClassSelector) {
+            keys.add(classKey(((ClassSelector) selector).className()));
+        } else if (selector instanceof IdSelector) {
+            keys.add(idKey(((IdSelector) selector).id()));
+        } else if (selector instanceof CompoundSelector) {
+            for (Selector part : ((CompoundSelector) selector).parts()) {
+                collectKeys(part, keys);
+            }
+        } else if (selector instanceof DescendantSelector) {
+            // Both sides match ancestors of the element being tested
+            DescendantSelector descendant = (DescendantSelector) selector;
+            collectKeys(descendant.ancestor(), keys);
+            collectKeys(descendant.descendant(), keys);
+        } else if (selector instanceof ChildSelector) {
+            ChildSelector child = (ChildSelector) selector;
+            collectKeys(child.parent(), keys);
+            collectKeys(child.child(), keys);
+        }
+        // Universal, attribute and pseudo-class selectors do not narrow the ancestors
+    }
+
+    private static int[] keysOf(Styleable element) {
+        List<String> types = Styleable.styleTypesOf(element);
+        Set<String> classes = element.cssClasses();
+        Optional<String> id = element.cssId();
+        int[] keys = new int[types.size() + classes.size() + (id.isPresent() ? 1 : 0)];
+        int i = 0;
+        for (String type : types) {
+            keys[i++] = typeKey(type);
+        }
+        for (String cssClass : classes) {
+            keys[i++] = classKey(cssClass);
+        }
+        if (id.isPresent()) {
+            keys[i] = idKey(id.get());
+        }
+        return keys;
+    }
+
+    static int typeKey(String type) {
+        return key('T', type);
+    }
+
+    static int classKey(String cssClass) {
+        return key('.', cssClass);
+    }
+
+    static int idKey(String id) {
+        return key('#', id);
+    }
+
+    private static int key(char kind, String name) {
+        // Murmur3 finalizer, so both 12-bit halves are well distributed
+        int h = 31 * kind + name.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private void increment(int index) {
+        int count = counters[index] & 0xFF;
+        if (count != SATURATED) {
+            counters[index] = (byte) (count + 1);
+        }
+    }
+
+    private void decrement(int index) {
+        int count = counters[index] & 0xFF;
+        // A saturated counter has lost its count and stays set
+        if (count != SATURATED && count != 0) {
+            counters[index] = (byte) (count - 1);
+        }
+    }
+
+    /**
+     * An ancestor list carrying the filter it was built from.
+     * Sub-lists keep the filter, which is then a superset of their elements.
+     */
+    private static final class FilteredAncestors extends AbstractList<Styleable> implements RandomAccess {
+        private final List<Styleable> delegate;
+        private final AncestorFilter filter;
+
+        FilteredAncestors(List<Styleable> delegate, AncestorFilter filter) {
+            this.delegate = delegate;
+            this.filter = filter;
+        }
+
+        @Override
+        public Styleable get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public List<Styleable> subList(int fromIndex, int toIndex) {
+            return new FilteredAncestors(delegate.subList(fromIndex, toIndex), filter);
+        }
+    }
+}
@@ -21,6 +21,7 @@ public final class ChildSelector implements Selector {
 
     private final Selector parent;
     private final Selector child;
+    private final int[] parentKeys;
 
     /**
      * Creates a child combinator selector.
@@ -31,6 +32,7 @@ public final class ChildSelector implements Selector {
     public ChildSelector(Selector parent, Selector child) {
         this.parent = Objects.requireNonNull(parent);
         this.child = Objects.requireNonNull(child);
+        this.parentKeys = AncestorFilter.requiredAncestorKeys(parent);
     }
 
     /**
@@ -66,7 +68,7 @@ public final class ChildSelector implements Selector {
         // Then, check if the immediate parent matches the parent selector
         // Note: This uses NONE for the parent, so pseudo-classes on parent won't match.
         // Use matches(element, stateProvider, ancestors) for proper pseudo-class support.
-        if (ancestors.isEmpty()) {
+        if (ancestors.isEmpty() || !AncestorFilter.mayMatch(ancestors, parentKeys)) {
             return false;
         }
 
@@ -84,7 +86,7 @@ public final class ChildSelector implements Selector {
 
         // Then, check if the immediate parent matches the parent selector
         // Use the state provider to get the correct pseudo-class state for the parent
-        if (ancestors.isEmpty()) {
+        if (ancestors.isEmpty() || !AncestorFilter.mayMatch(ancestors, parentKeys)) {
             return false;
         }
 
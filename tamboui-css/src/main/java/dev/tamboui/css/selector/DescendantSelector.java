@@ -21,6 +21,7 @@ public final class DescendantSelector implements Selector {
 
     private final Selector ancestor;
     private final Selector descendant;
+    private final int[] ancestorKeys;
 
     /**
      * Creates a descendant combinator selector.
@@ -31,6 +32,7 @@ public final class DescendantSelector implements Selector {
     public DescendantSelector(Selector ancestor, Selector descendant) {
         this.ancestor = Objects.requireNonNull(ancestor);
         this.descendant = Objects.requireNonNull(descendant);
+        this.ancestorKeys = AncestorFilter.requiredAncestorKeys(ancestor);
     }
 
     /**
@@ -62,6 +64,9 @@ public final class DescendantSelector implements Selector {
         if (!descendant.matches(element, state, ancestors)) {
             return false;
         }
+        if (!AncestorFilter.mayMatch(ancestors, ancestorKeys)) {
+            return false;
+        }
 
         // Then, check if any ancestor matches the ancestor selector
         // Note: This uses NONE for ancestors, so pseudo-classes on ancestors won't match.
@@ -83,6 +88,9 @@ public final class DescendantSelector implements Selector {
         if (!descendant.matches(element, stateProvider, ancestors)) {
             return false;
         }
+        if (!AncestorFilter.mayMatch(ancestors, ancestorKeys)) {
+            return false;
+        }
 
         // Then, check if any ancestor matches the ancestor selector
         // Use the state provider to get the correct pseudo-class state for each ancestor
@@ -0,0 +1,68 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.engine;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.css.model.Stylesheet;
+import dev.tamboui.css.parser.CssParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StyleChangeTest {
+
+    @Test
+    @DisplayName("Equivalent rules make an empty change")
+    void equivalentRulesAreEmpty() {
+        StyleChange change = between("Panel { color: red; }", "Panel {\n  color: red;\n}");
+
+        assertThat(change.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Added, removed and modified rules change their selectors")
+    void changedRulesChangeTheirSelectors() {
+        StyleChange change = between(
+            "Panel { color: red; }\n.a { color: red; }\n.b { color: red; }",
+            "Panel { color: red; }\n.a { color: blue; }\n.c { color: red; }");
+
+        assertThat(change.affectsAll()).isFalse();
+        assertThat(change.changedSelectors()).hasSize(3);
+        assertThat(change.mayAffect(Collections.singletonList("Panel"), Optional.<String>empty(),
+            Collections.<String>emptySet())).isFalse();
+        assertThat(change.mayAffect(Collections.singletonList("Text"), Optional.<String>empty(),
+            new LinkedHashSet<>(Arrays.asList("c")))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Changed variables affect every element")
+    void changedVariablesAffectAll() {
+        StyleChange change = between("$accent: red;\nPanel { color: $accent; }",
+            "$accent: blue;\nPanel { color: $accent; }");
+
+        assertThat(change.affectsAll()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Reordered rules affect every element")
+    void reorderedRulesAffectAll() {
+        StyleChange change = between(".a { color: red; }\n.b { color: blue; }",
+            ".b { color: blue; }\n.a { color: red; }");
+
+        assertThat(change.affectsAll()).isTrue();
+    }
+
+    private static StyleChange between(String before, String after) {
+        Stylesheet oldSheet = CssParser.parse(before);
+        Stylesheet newSheet = CssParser.parse(after);
+        return StyleChange.between(oldSheet.rules(), oldSheet.variables(), newSheet.rules(), newSheet.variables());
+    }
+}
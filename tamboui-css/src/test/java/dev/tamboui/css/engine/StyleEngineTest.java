@@ -0,0 +1,287 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.engine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.cascade.PseudoClassState;
+import dev.tamboui.css.model.Stylesheet;
+import dev.tamboui.css.parser.CssParser;
+import dev.tamboui.css.parser.StylesheetCache;
+import dev.tamboui.style.Color;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StyleEngineTest {
+
+    @Test
+    @DisplayName("A parsed stylesheet can be shared by several engines")
+    void parsedStylesheetCanBeShared() {
+        Stylesheet shared = CssParser.parse("Panel { color: red; }");
+
+        StyleEngine first = StyleEngine.create();
+        StyleEngine second = StyleEngine.create();
+        first.addStylesheet(shared);
+        second.addStylesheet(shared);
+
+        assertThat(first.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.RED);
+        assertThat(second.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.RED);
+    }
+
+    @Test
+    @DisplayName("Switching the active named stylesheet changes resolved styles")
+    void switchingActiveStylesheetChangesResolvedStyles() {
+        StyleEngine engine = StyleEngine.create();
+        engine.addStylesheet("dark", CssParser.parse("Panel { color: white; }"));
+        engine.addStylesheet("light", CssParser.parse("Panel { color: black; }"));
+
+        assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.WHITE);
+
+        engine.setActiveStylesheet("light");
+        assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.BLACK);
+    }
+
+    @Test
+    @DisplayName("The version changes when stylesheets change and differs between engines")
+    void versionTracksStylesheetChanges() {
+        StyleEngine engine = StyleEngine.create();
+        long initial = engine.version();
+        assertThat(StyleEngine.create().version()).isNotEqualTo(initial);
+
+        engine.addStylesheet("dark", CssParser.parse("Panel { color: white; }"));
+        long added = engine.version();
+        assertThat(added).isNotEqualTo(initial);
+
+        engine.setActiveStylesheet("dark");
+        assertThat(engine.version()).isEqualTo(added);
+    }
+
+    @Test
+    @DisplayName("Adding a stylesheet after resolving is taken into account")
+    void addingStylesheetAfterResolveIsApplied() {
+        StyleEngine engine = StyleEngine.create();
+        engine.addStylesheet("Panel { color: red; }");
+        assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.RED);
+
+        engine.addStylesheet("Panel { color: blue; }");
+        assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.BLUE);
+    }
+
+    @Test
+    @DisplayName("An engine with a stylesheet cache stores and reuses parsed stylesheets")
+    void stylesheetCacheIsUsedForLoading(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("theme.tcss");
+        Path cacheDir = dir.resolve("cache");
+        write(file, "Panel { color: red; }");
+
+        StyleEngine.create(StylesheetCache.inDirectory(cacheDir)).loadStylesheet(file);
+        StyleEngine engine = StyleEngine.create(StylesheetCache.inDirectory(cacheDir));
+        engine.loadStylesheet(file);
+
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            assertThat(entries.count()).isEqualTo(1);
+        }
+        assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.RED);
+    }
+
+    @Test
+    @DisplayName("Reloading a stylesheet reports the selectors whose rules changed")
+    void reloadReportsChangedSelectors(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("theme.tcss");
+        write(file, "Panel { color: red; }\n.warning { color: yellow; }");
+        StyleEngine engine = StyleEngine.create();
+        engine.loadStylesheet("theme", file);
+        List<StyleChange> changes = new ArrayList<>();
+        engine.addChangeListener(new RecordingListener(changes));
+
+        write(file, "Panel { color: red; }\n.warning { color: magenta; }");
+        engine.reloadStylesheet("theme");
+
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).affectsAll()).isFalse();
+        assertThat(changes.get(0).changedSelectors()).hasSize(1);
+        assertThat(changes.get(0).affects(new TestStyleable("Text", "warning"), PseudoClassState.NONE,
+            Collections.<Styleable>emptyList())).isTrue();
+        assertThat(changes.get(0).affects(new TestStyleable("Panel"), PseudoClassState.NONE,
+            Collections.<Styleable>emptyList())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Reloading an unchanged stylesheet keeps the version and notifies nobody")
+    void reloadOfUnchangedStylesheetIsIgnored(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("theme.tcss");
+        write(file, "Panel { color: red; }");
+        StyleEngine engine = StyleEngine.create();
+        engine.loadStylesheet("theme", file);
+        List<StyleChange> changes = new ArrayList<>();
+        engine.addChangeListener(new RecordingListener(changes));
+        long version = engine.version();
+
+        // Only formatting changed
+        write(file, "Panel {\n  color: red;\n}\n");
+        engine.reloadStylesheet("theme");
+
+        assertThat(changes).isEmpty();
+        assertThat(engine.version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("A reload restyles elements matched by changed rules of a large stylesheet")
+    void reloadRestylesAffectedElements(@TempDir Path dir) throws IOException {
+        StringBuilder filler = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            filler.append(".filler").append(i).append(" { padding: 1; }\n");
+        }
+        Path file = dir.resolve("theme.tcss");
+        write(file, filler + ".warning { color: yellow; }\n.error { color: red; }");
+        StyleEngine engine = StyleEngine.create();
+        engine.loadStylesheet("theme", file);
+        TestStyleable warning = new TestStyleable("Text", "warning");
+        TestStyleable error = new TestStyleable("Text", "error");
+        assertThat(engine.resolve(warning).toStyle().fg()).contains(Color.YELLOW);
+        assertThat(engine.resolve(error).toStyle().fg()).contains(Color.RED);
+
+        write(file, filler + ".warning { color: magenta; }\n.error { color: red; }");
+        engine.reloadStylesheet("theme");
+
+        assertThat(engine.resolve(warning).toStyle().fg()).contains(Color.MAGENTA);
+        assertThat(engine.resolve(error).toStyle().fg()).contains(Color.RED);
+    }
+
+    @Test
+    @DisplayName("Watched stylesheet files are reloaded when they change")
+    void watchedStylesheetIsReloaded(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("app.tcss");
+        write(file, "Panel { color: red; }");
+        StyleEngine engine = StyleEngine.create();
+        engine.loadStylesheet(file);
+        CountDownLatch reloaded = new CountDownLatch(1);
+        engine.addChangeListener(reloaded::countDown);
+
+        try (StylesheetWatcher watcher = engine.watchStylesheets(Duration.ofMillis(20))) {
+            assertThat(engine.watchStylesheets()).isSameAs(watcher);
+            write(file, "Panel { color: blue; }");
+
+            assertThat(reloaded.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.BLUE);
+        }
+    }
+
+    @Test
+    @DisplayName("Changes to other files of a watched directory do not delay reloads")
+    void otherFilesDoNotDelayReload(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("app.tcss");
+        Path scratch = dir.resolve("scratch.log");
+        write(file, "Panel { color: red; }");
+        StyleEngine engine = StyleEngine.create();
+        engine.loadStylesheet(file);
+        CountDownLatch reloaded = new CountDownLatch(1);
+        engine.addChangeListener(reloaded::countDown);
+
+        try (StylesheetWatcher watcher = engine.watchStylesheets(Duration.ofMillis(200))) {
+            Thread noise = new Thread(() -> {
+                try {
+                    // Keeps writing for longer than the reload is awaited
+                    for (int i = 0; i < 1000 && reloaded.getCount() > 0; i++) {
+                        write(scratch, "line " + i);
+                        Thread.sleep(10);
+                    }
+                } catch (IOException | InterruptedException e) {
+                    // Ends the noise
+                }
+            });
+            noise.start();
+            write(file, "Panel { color: blue; }");
+
+            assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+            noise.join();
+            assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.BLUE);
+        }
+    }
+
+    @Test
+    @DisplayName("A stylesheet file that cannot be read keeps the previous stylesheet")
+    void unreadableReloadKeepsPreviousStylesheet(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("app.tcss");
+        write(file, "Panel { color: red; }");
+        StyleEngine engine = StyleEngine.create();
+        engine.loadStylesheet(file);
+
+        Files.delete(file);
+        engine.reload(file.toAbsolutePath().normalize());
+
+        assertThat(engine.resolve(new TestStyleable("Panel")).toStyle().fg()).contains(Color.RED);
+    }
+
+    private static void write(Path file, String css) throws IOException {
+        Files.write(file, css.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class RecordingListener implements StyleEngine.StyleChangeListener {
+        private final List<StyleChange> changes;
+
+        RecordingListener(List<StyleChange> changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void onStyleChange() {
+        }
+
+        @Override
+        public void onStyleChange(StyleChange change) {
+            changes.add(change);
+        }
+    }
+
+    private static final class TestStyleable implements Styleable {
+        private final String type;
+        private final Set<String> classes;
+
+        TestStyleable(String type, String... classes) {
+            this.type = type;
+            this.classes = new LinkedHashSet<>(Arrays.asList(classes));
+        }
+
+        @Override
+        public String styleType() {
+            return type;
+        }
+
+        @Override
+        public Optional<String> cssId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Set<String> cssClasses() {
+            return classes;
+        }
+
+        @Override
+        public Optional<Styleable> cssParent() {
+            return Optional.empty();
+        }
+    }
+}
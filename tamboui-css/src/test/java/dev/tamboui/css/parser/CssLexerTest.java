@@ -174,4 +174,52 @@ class CssLexerTest {
         // color is on line 2
         assertThat(tokens.get(2).position().line()).isEqualTo(2);
     }
+
+    @Test
+    void tracksColumnAcrossLines() {
+        String css = "Panel {\n  color: red;\n}";
+        CssLexer lexer = new CssLexer(css);
+        List<Token> tokens = lexer.tokenizeFiltered();
+
+        // color starts after two spaces of indentation
+        assertThat(tokens.get(2).position().column()).isEqualTo(3);
+        assertThat(tokens.get(4).position().column()).isEqualTo(10);
+    }
+
+    @Test
+    void unescapesStrings() {
+        CssLexer lexer = new CssLexer("\"say \\\"hi\\\"\" 'it\\'s'");
+        List<Token> tokens = lexer.tokenizeFiltered();
+
+        assertThat(((Token.StringToken) tokens.get(0)).value()).isEqualTo("say \"hi\"");
+        assertThat(((Token.StringToken) tokens.get(1)).value()).isEqualTo("it's");
+    }
+
+    @Test
+    void throwsOnUnterminatedString() {
+        CssLexer lexer = new CssLexer("content: \"open");
+
+        assertThatThrownBy(lexer::tokenizeFiltered)
+                .isInstanceOf(CssParseException.class)
+                .hasMessageContaining("Unterminated string");
+    }
+
+    @Test
+    void keepsWhitespaceTokensWhenNotFiltered() {
+        CssLexer lexer = new CssLexer("a \t/* c */\nb");
+        List<Token> tokens = lexer.tokenize();
+
+        assertThat(tokens).hasSize(5);
+        assertThat(tokens.get(1)).isInstanceOf(Token.Whitespace.class);
+        assertThat(tokens.get(3).position().line()).isEqualTo(2);
+    }
+
+    @Test
+    void tokenizesCharSequence() {
+        CssLexer lexer = new CssLexer(new StringBuilder("Panel { color: red; }"));
+        List<Token> tokens = lexer.tokenizeFiltered();
+
+        assertThat(tokens).hasSize(8);
+        assertThat(((Token.Ident) tokens.get(0)).value()).isEqualTo("Panel");
+    }
 }
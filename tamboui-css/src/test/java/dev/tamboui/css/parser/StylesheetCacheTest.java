@@ -0,0 +1,135 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.tamboui.css.model.Stylesheet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StylesheetCacheTest {
+
+    private static final String CSS = "$primary: blue;\nPanel.primary { color: $primary; }\nButton:focus { border: rounded; }";
+
+    @Test
+    void storesParsedStylesheet(@TempDir Path dir) throws IOException {
+        StylesheetCache cache = StylesheetCache.inDirectory(dir.resolve("cache"));
+
+        Stylesheet stylesheet = cache.parse(CSS);
+
+        assertThat(stylesheet).isEqualTo(CssParser.parse(CSS));
+        assertThat(Files.exists(cache.entryFor(CSS))).isTrue();
+        assertThat(entryCount(cache.directory())).isEqualTo(1);
+    }
+
+    @Test
+    void decodesStoredStylesheet(@TempDir Path dir) throws IOException {
+        StylesheetCache.inDirectory(dir).parse(CSS);
+
+        // A new cache, as after a restart, finds the entry
+        StylesheetCache cache = StylesheetCache.inDirectory(dir);
+        Stylesheet stylesheet = cache.parse(CSS);
+
+        assertThat(stylesheet).isEqualTo(CssParser.parse(CSS));
+        assertThat(entryCount(dir)).isEqualTo(1);
+    }
+
+    @Test
+    void editedSourceGetsNewEntry(@TempDir Path dir) throws IOException {
+        StylesheetCache cache = StylesheetCache.inDirectory(dir);
+        String edited = CSS.replace("blue", "red");
+
+        cache.parse(CSS);
+        Stylesheet stylesheet = cache.parse(edited);
+
+        assertThat(stylesheet.variables()).containsEntry("primary", "red");
+        assertThat(cache.entryFor(edited)).isNotEqualTo(cache.entryFor(CSS));
+        assertThat(entryCount(dir)).isEqualTo(2);
+    }
+
+    @Test
+    void replacesCorruptEntry(@TempDir Path dir) throws IOException {
+        StylesheetCache cache = StylesheetCache.inDirectory(dir);
+        Files.write(cache.entryFor(CSS), "garbage".getBytes(StandardCharsets.UTF_8));
+
+        Stylesheet stylesheet = cache.parse(CSS);
+
+        assertThat(stylesheet).isEqualTo(CssParser.parse(CSS));
+        assertThat(StylesheetCache.inDirectory(dir).parse(CSS)).isEqualTo(stylesheet);
+        assertThat(Files.size(cache.entryFor(CSS))).isGreaterThan(7L);
+    }
+
+    @Test
+    void invalidSourceIsNotStored(@TempDir Path dir) throws IOException {
+        StylesheetCache cache = StylesheetCache.inDirectory(dir);
+
+        assertThatThrownBy(() -> cache.parse("Panel { color: red"))
+            .isInstanceOf(CssParseException.class);
+        assertThat(entryCount(dir)).isZero();
+    }
+
+    @Test
+    void parsesWhenDirectoryCannotBeCreated(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("file");
+        Files.write(file, new byte[0]);
+        StylesheetCache cache = StylesheetCache.inDirectory(file.resolve("cache"));
+
+        assertThat(cache.parse(CSS)).isEqualTo(CssParser.parse(CSS));
+    }
+
+    @Test
+    void prunesLeastRecentlyUsedEntries(@TempDir Path dir) throws IOException {
+        StylesheetCache cache = StylesheetCache.inDirectory(dir, 2);
+        String second = CSS.replace("blue", "red");
+        String third = CSS.replace("blue", "green");
+        cache.parse(CSS);
+        cache.parse(second);
+        Files.setLastModifiedTime(cache.entryFor(CSS), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(cache.entryFor(second), FileTime.fromMillis(2000));
+
+        // Using the oldest entry makes the other one the least recently used
+        cache.parse(CSS);
+        cache.parse(third);
+
+        assertThat(Files.exists(cache.entryFor(CSS))).isTrue();
+        assertThat(Files.exists(cache.entryFor(second))).isFalse();
+        assertThat(Files.exists(cache.entryFor(third))).isTrue();
+        assertThat(entryCount(dir)).isEqualTo(2);
+    }
+
+    @Test
+    void keepsAtMostMaxEntries(@TempDir Path dir) throws IOException {
+        StylesheetCache cache = StylesheetCache.inDirectory(dir, 3);
+
+        for (int i = 0; i < 10; i++) {
+            cache.parse(".item-" + i + " { color: red; }");
+        }
+
+        assertThat(entryCount(dir)).isEqualTo(3);
+        assertThat(Files.exists(cache.entryFor(".item-9 { color: red; }"))).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidMaxEntries(@TempDir Path dir) {
+        assertThatThrownBy(() -> StylesheetCache.inDirectory(dir, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long entryCount(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.cascade.PseudoClassState;
+import dev.tamboui.css.model.PropertyValue;
+import dev.tamboui.css.model.Rule;
+import dev.tamboui.css.model.Stylesheet;
+import dev.tamboui.css.selector.AttributeSelector;
+import dev.tamboui.css.selector.ClassSelector;
+import dev.tamboui.css.selector.Selector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StylesheetCodecTest {
+
+    @Test
+    void roundTripsParsedStylesheet() throws IOException {
+        Stylesheet stylesheet = CssParser.parse(
+            "$primary: #3498db;\n" +
+            "$gap: 1 2;\n" +
+            "* { padding: 1; }\n" +
+            "Panel.primary#sidebar:focus { color: $primary; border: rounded !important; }\n" +
+            "Panel > Button, .a .b { margin: $gap; }\n" +
+            "Row:nth-child(even) { background: #222; }\n" +
+            "Panel[title] { content: \"Hello, world\"; }\n" +
+            "Panel[title^=\"Te\"] { width: 50%; }\n" +
+            "Panel { &:hover { color: red; } Button { color: blue; } }\n");
+
+        Stylesheet decoded = roundTrip(stylesheet);
+
+        assertThat(decoded).isEqualTo(stylesheet);
+        assertThat(decoded.variables())
+            .containsEntry("primary", "#3498db")
+            .containsEntry("gap", "1 2");
+        for (int i = 0; i < stylesheet.rules().size(); i++) {
+            Rule rule = decoded.rules().get(i);
+            assertThat(rule.selector().toCss()).isEqualTo(stylesheet.rules().get(i).selector().toCss());
+            assertThat(rule.sourceOrder()).isEqualTo(stylesheet.rules().get(i).sourceOrder());
+        }
+    }
+
+    @Test
+    void roundTripsEmptyStylesheet() throws IOException {
+        assertThat(roundTrip(Stylesheet.empty())).isEqualTo(Stylesheet.empty());
+    }
+
+    @Test
+    void keepsImportantFlagAndEmptyValues() throws IOException {
+        Stylesheet stylesheet = new Stylesheet(Collections.<String, String>emptyMap(), Arrays.asList(
+            new Rule(new ClassSelector("a"), Collections.singletonMap("color", PropertyValue.important("red")), 0),
+            new Rule(new ClassSelector("b"), Collections.singletonMap("content", PropertyValue.of("")), 1)));
+
+        Stylesheet decoded = roundTrip(stylesheet);
+
+        assertThat(decoded.rules().get(0).declarations().get("color").important()).isTrue();
+        assertThat(decoded.rules().get(1).declarations().get("content").raw()).isEmpty();
+    }
+
+    @Test
+    void roundTripsAttributeOperators() throws IOException {
+        for (AttributeSelector.Operator operator : AttributeSelector.Operator.values()) {
+            AttributeSelector selector = operator == AttributeSelector.Operator.EXISTS
+                ? new AttributeSelector("title")
+                : new AttributeSelector("title", operator, "x");
+            Stylesheet stylesheet = new Stylesheet(Collections.<String, String>emptyMap(),
+                Collections.singletonList(new Rule(selector, Collections.singletonMap("color", PropertyValue.of("red")), 0)));
+
+            assertThat(roundTrip(stylesheet).rules().get(0).selector()).isEqualTo(selector);
+        }
+    }
+
+    @Test
+    void storesOtherSelectorsAsCss() throws IOException {
+        Selector custom = new Selector() {
+            @Override
+            public int specificity() {
+                return 10;
+            }
+
+            @Override
+            public boolean matches(Styleable element, PseudoClassState state, List<Styleable> ancestors) {
+                return false;
+            }
+
+            @Override
+            public String toCss() {
+                return ".custom";
+            }
+        };
+        Stylesheet stylesheet = new Stylesheet(Collections.<String, String>emptyMap(),
+            Collections.singletonList(new Rule(custom, Collections.singletonMap("color", PropertyValue.of("red")), 0)));
+
+        assertThat(roundTrip(stylesheet).rules().get(0).selector()).isEqualTo(new ClassSelector("custom"));
+    }
+
+    @Test
+    void rejectsOtherData() {
+        byte[] data = "Panel { color: red; }".getBytes();
+
+        assertThatThrownBy(() -> StylesheetCodec.read(new ByteArrayInputStream(data)))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Not a binary stylesheet");
+    }
+
+    @Test
+    void rejectsTruncatedData() throws IOException {
+        byte[] data = encode(CssParser.parse("Panel { color: red; } Button { color: blue; }"));
+        byte[] truncated = Arrays.copyOf(data, data.length - 3);
+
+        assertThatThrownBy(() -> StylesheetCodec.read(new ByteArrayInputStream(truncated)))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsOtherFormatVersions() throws IOException {
+        byte[] data = encode(CssParser.parse("Panel { color: red; }"));
+        data[5] = (byte) (StylesheetCodec.FORMAT_VERSION + 1);
+
+        assertThatThrownBy(() -> StylesheetCodec.read(new ByteArrayInputStream(data)))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("version");
+    }
+
+    private static Stylesheet roundTrip(Stylesheet stylesheet) throws IOException {
+        return StylesheetCodec.read(new ByteArrayInputStream(encode(stylesheet)));
+    }
+
+    private static byte[] encode(Stylesheet stylesheet) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StylesheetCodec.write(stylesheet, out);
+        return out.toByteArray();
+    }
+}
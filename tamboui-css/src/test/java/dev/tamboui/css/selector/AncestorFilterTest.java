@@ -0,0 +1,140 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.css.selector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.cascade.PseudoClassState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AncestorFilterTest {
+
+    @Test
+    void containsPushedIdsClassesAndTypes() {
+        AncestorFilter filter = new AncestorFilter();
+        filter.push(styleable("Panel", "sidebar", "primary", "wide"));
+
+        assertThat(filter.mightContainAll(new int[] {AncestorFilter.typeKey("Panel")})).isTrue();
+        assertThat(filter.mightContainAll(new int[] {AncestorFilter.idKey("sidebar")})).isTrue();
+        assertThat(filter.mightContainAll(new int[] {
+                AncestorFilter.classKey("primary"), AncestorFilter.classKey("wide")})).isTrue();
+        assertThat(filter.mightContainAll(new int[] {AncestorFilter.typeKey("Button")})).isFalse();
+    }
+
+    @Test
+    void keysOfDifferentKindsAreDistinct() {
+        AncestorFilter filter = new AncestorFilter();
+        filter.push(styleable("Panel", null));
+
+        assertThat(filter.mightContainAll(new int[] {AncestorFilter.classKey("Panel")})).isFalse();
+        assertThat(filter.mightContainAll(new int[] {AncestorFilter.idKey("Panel")})).isFalse();
+    }
+
+    @Test
+    void popRemovesElement() {
+        AncestorFilter filter = new AncestorFilter();
+        filter.push(styleable("Panel", null, "outer"));
+        filter.push(styleable("Row", null, "inner"));
+        filter.pop();
+
+        assertThat(filter.depth()).isEqualTo(1);
+        assertThat(filter.mightContainAll(new int[] {AncestorFilter.classKey("outer")})).isTrue();
+        assertThat(filter.mightContainAll(new int[] {AncestorFilter.classKey("inner")})).isFalse();
+
+        filter.pop();
+        assertThatThrownBy(filter::pop).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void requiredKeysCoverAncestorSideOfNestedCombinators() {
+        // ".a > #b Button" requires .a and #b among the ancestors
+        Selector ancestorSide = new ChildSelector(new ClassSelector("a"), new IdSelector("b"));
+
+        int[] keys = AncestorFilter.requiredAncestorKeys(ancestorSide);
+
+        assertThat(keys).containsExactly(AncestorFilter.classKey("a"), AncestorFilter.idKey("b"));
+        assertThat(AncestorFilter.requiredAncestorKeys(UniversalSelector.INSTANCE)).isEmpty();
+    }
+
+    @Test
+    void descendantSelectorRejectsWhenAncestorIsAbsent() {
+        Styleable panel = styleable("Panel", null);
+        Styleable button = styleable("Button", null);
+        AncestorFilter filter = new AncestorFilter();
+        filter.push(panel);
+        List<Styleable> ancestors = filter.attachTo(new ArrayList<>(Collections.singletonList(panel)));
+
+        DescendantSelector matching = new DescendantSelector(new TypeSelector("Panel"), new TypeSelector("Button"));
+        DescendantSelector missing = new DescendantSelector(new TypeSelector("Dialog"), new TypeSelector("Button"));
+
+        assertThat(matching.matches(button, PseudoClassState.NONE, ancestors)).isTrue();
+        assertThat(missing.matches(button, PseudoClassState.NONE, ancestors)).isFalse();
+    }
+
+    @Test
+    void filteredSubListsGiveSameResultsAsPlainLists() {
+        Styleable dialog = styleable("Dialog", null, "modal");
+        Styleable panel = styleable("Panel", "content");
+        Styleable row = styleable("Row", null);
+        Styleable button = styleable("Button", null);
+        AncestorFilter filter = new AncestorFilter();
+        filter.push(dialog);
+        filter.push(panel);
+        filter.push(row);
+        List<Styleable> plain = Arrays.asList(dialog, panel, row);
+        List<Styleable> filtered = filter.attachTo(plain);
+
+        List<Selector> selectors = Arrays.<Selector>asList(
+                new DescendantSelector(new ClassSelector("modal"), new TypeSelector("Button")),
+                new DescendantSelector(new ChildSelector(new ClassSelector("modal"), new IdSelector("content")),
+                        new TypeSelector("Button")),
+                new ChildSelector(new TypeSelector("Row"), new TypeSelector("Button")),
+                new ChildSelector(new TypeSelector("Panel"), new TypeSelector("Button")),
+                new DescendantSelector(new ChildSelector(new TypeSelector("Row"), new TypeSelector("Panel")),
+                        new TypeSelector("Button")));
+
+        for (Selector selector : selectors) {
+            assertThat(selector.matches(button, PseudoClassState.NONE, filtered))
+                    .as(selector.toCss())
+                    .isEqualTo(selector.matches(button, PseudoClassState.NONE, plain));
+        }
+    }
+
+    private static Styleable styleable(String type, String id, String... classes) {
+        Set<String> classSet = new HashSet<>(Arrays.asList(classes));
+        return new Styleable() {
+            @Override
+            public String styleType() {
+                return type;
+            }
+
+            @Override
+            public Optional<String> cssId() {
+                return Optional.ofNullable(id);
+            }
+
+            @Override
+            public Set<String> cssClasses() {
+                return classSet;
+            }
+
+            @Override
+            public Optional<Styleable> cssParent() {
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -65,6 +65,37 @@ class SelectorTest {
         assertThat(types).containsExactly("BasePanel", "MyPanel");
     }
 
+    @Test
+    void styleTypesAreCachedPerClass() {
+        List<String> first = Styleable.styleTypesOf(new MyPanel());
+        List<String> second = Styleable.styleTypesOf(new MyPanel());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void styleTypesFollowDeclaredTypeChanges() {
+        // Same class, different declared types
+        Styleable panel = createStyleable("Panel", null, Collections.<String>emptySet());
+        Styleable button = createStyleable("Button", null, Collections.<String>emptySet());
+
+        assertThat(Styleable.styleTypesOf(panel)).containsExactly("Panel");
+        assertThat(Styleable.styleTypesOf(button)).containsExactly("Button");
+        assertThat(Styleable.styleTypesOf(panel)).containsExactly("Panel");
+    }
+
+    @Test
+    void styleTypesAllowNullDeclaredType() {
+        // Virtual elements, such as markup tags resolved as CSS classes, have no type
+        Styleable tag = createStyleable(null, null, Collections.singleton("highlight"));
+        ClassSelector selector = new ClassSelector("highlight");
+
+        assertThat(Styleable.styleTypesOf(tag)).containsExactly((String) null);
+        assertThat(Styleable.styleTypesOf(tag)).containsExactly((String) null);
+        assertThat(selector.matches(tag, PseudoClassState.NONE, Collections.<Styleable>emptyList())).isTrue();
+        assertThat(selector.matches(tag, PseudoClassState.NONE, Collections.<Styleable>emptyList())).isTrue();
+    }
+
     @Test
     void styleTypesForSimpleElementReturnsOnlyOneType() {
         Styleable element = createStyleable("Panel", null, Collections.<String>emptySet());
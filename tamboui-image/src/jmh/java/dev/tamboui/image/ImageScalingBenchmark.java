@@ -0,0 +1,78 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures scaling a photo-sized image to thumbnail, half-screen and enlarged sizes.
+ * <p>
+ * {@link PixelScaler} is called directly, since {@link ImageData#resize} caches
+ * its results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageScalingBenchmark {
+
+    @Param({"160x90", "800x450", "3840x2160"})
+    String target;
+
+    private int[] pixels;
+    private int targetWidth;
+    private int targetHeight;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        pixels = new int[1920 * 1080];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+        String[] size = target.split("x");
+        targetWidth = Integer.parseInt(size[0]);
+        targetHeight = Integer.parseInt(size[1]);
+    }
+
+    @Benchmark
+    public int[] scale() {
+        return PixelScaler.scale(pixels, 1920, 1080, targetWidth, targetHeight);
+    }
+
+    @Benchmark
+    public BufferedImage scaleWithAwt() {
+        BufferedImage source = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_ARGB);
+        source.setRGB(0, 0, 1920, 1080, pixels, 0, 1920);
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image.protocol;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.image.ImageData;
+
+/**
+ * Measures Sixel encoding of photo-like images of several sizes.
+ * <p>
+ * The images are smooth gradients with noise, so that they use many more colors
+ * than fit in the palette and exercise the quantizer as well as the band encoder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SixelEncoderBenchmark {
+
+    @Param({"64", "256", "800"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean dither;
+
+    private ImageData image;
+    private SixelEncoder encoder;
+
+    @Setup
+    public void setUp() {
+        BufferedImage img = new BufferedImage(size, size * 3 / 4, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(42);
+        for (int y = 0; y < img.getHeight(); y++) {
+            for (int x = 0; x < img.getWidth(); x++) {
+                int r = clamp(x * 255 / size + random.nextInt(17) - 8);
+                int g = clamp(y * 255 / img.getHeight() + random.nextInt(17) - 8);
+                int b = clamp((x + y) * 128 / size + random.nextInt(17) - 8);
+                img.setRGB(x, y, 0xFF000000 | r << 16 | g << 8 | b);
+            }
+        }
+        image = ImageData.fromBufferedImage(img);
+        encoder = new SixelEncoder(256, dither);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encode(image);
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
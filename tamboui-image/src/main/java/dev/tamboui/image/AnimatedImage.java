@@ -0,0 +1,175 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.io.OutputStream;
+import java.util.Objects;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.image.protocol.ImageProtocol;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.widget.RawOutputCapable;
+import dev.tamboui.widget.Widget;
+import dev.tamboui.widgets.block.Block;
+
+/**
+ * A widget showing the current frame of an {@link Animation}.
+ * <p>
+ * Frames are rendered like an {@link Image}, and benefit from the same caches,
+ * except that scaled frames are cached by the animation rather than in the cache
+ * shared by all images, so a live feed does not evict other images:
+ * <ul>
+ *   <li>half-block and Braille rendering only convert the cells whose pixels changed
+ *       since the previous frame, and the terminal only redraws changed cells;</li>
+ *   <li>with the Kitty protocol, each distinct frame is transmitted once and then
+ *       shown by replacing the placement at the widget position, so a looping
+ *       animation is not re-sent on every frame as long as its frames fit in the
+ *       {@link dev.tamboui.image.protocol.KittyImageCache KittyImageCache}.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * AnimatedImage widget = AnimatedImage.builder()
+ *     .animation(animation)
+ *     .block(Block.bordered().title(Title.from("Camera")))
+ *     .build();
+ * }</pre>
+ *
+ * @see Animation
+ * @see FrameSource
+ */
+public final class AnimatedImage implements Widget, RawOutputCapable {
+
+    private final Animation animation;
+    private final ImageScaling scaling;
+    private final Block block;
+    private final ImageProtocol protocol;
+
+    private AnimatedImage(Builder builder) {
+        this.animation = Objects.requireNonNull(builder.animation, "animation");
+        this.scaling = builder.scaling;
+        this.block = builder.block;
+        this.protocol = builder.protocol;
+    }
+
+    /**
+     * Creates a new animated image builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a widget showing the given animation.
+     *
+     * @param animation the animation
+     * @return an animated image widget
+     */
+    public static AnimatedImage of(Animation animation) {
+        return builder().animation(animation).build();
+    }
+
+    @Override
+    public void render(Rect area, Buffer buffer) {
+        render(area, buffer, null);
+    }
+
+    @Override
+    public void render(Rect area, Buffer buffer, OutputStream rawOutput) {
+        ImageData frame = animation.currentFrame();
+        if (frame == null) {
+            if (block != null && !area.isEmpty()) {
+                block.render(area, buffer);
+            }
+            return;
+        }
+        Image.builder()
+            .data(frame)
+            .scaling(scaling)
+            .block(block)
+            .protocol(protocol)
+            .scaledImages(animation.scaledFrames())
+            .build()
+            .render(area, buffer, rawOutput);
+    }
+
+    /**
+     * Returns the animation.
+     *
+     * @return the animation
+     */
+    public Animation animation() {
+        return animation;
+    }
+
+    /**
+     * Builder for {@link AnimatedImage}.
+     */
+    public static final class Builder {
+        private Animation animation;
+        private ImageScaling scaling = ImageScaling.FIT;
+        private Block block;
+        private ImageProtocol protocol;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the animation to show.
+         *
+         * @param animation the animation
+         * @return this builder
+         */
+        public Builder animation(Animation animation) {
+            this.animation = animation;
+            return this;
+        }
+
+        /**
+         * Sets the scaling mode.
+         *
+         * @param scaling the scaling mode
+         * @return this builder
+         */
+        public Builder scaling(ImageScaling scaling) {
+            this.scaling = scaling != null ? scaling : ImageScaling.FIT;
+            return this;
+        }
+
+        /**
+         * Wraps the animation in a block (for borders, titles, etc.).
+         *
+         * @param block the block wrapper
+         * @return this builder
+         */
+        public Builder block(Block block) {
+            this.block = block;
+            return this;
+        }
+
+        /**
+         * Sets a specific protocol for rendering.
+         * <p>
+         * By default, the best available protocol is auto-detected.
+         *
+         * @param protocol the protocol to use
+         * @return this builder
+         */
+        public Builder protocol(ImageProtocol protocol) {
+            this.protocol = protocol;
+            return this;
+        }
+
+        /**
+         * Builds the animated image widget.
+         *
+         * @return the animated image widget
+         */
+        public AnimatedImage build() {
+            return new AnimatedImage(this);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import dev.tamboui.error.RuntimeIOException;
+
+/**
+ * Playback state of an animated image: the current frame and the time left
+ * before the next one.
+ * <p>
+ * Frames are read from a {@link FrameSource} as playback reaches them. Animations
+ * of up to {@code maxCachedFrames} frames are decoded once and then replayed from
+ * memory; longer ones are decoded again on each loop, so memory use stays bounded.
+ * Frames of sources that are not {@linkplain FrameSource#isReplayable() replayable},
+ * such as live feeds, are never cached.
+ * <p>
+ * An animation is advanced with the time elapsed between ticks, typically from the
+ * {@code TickEvent} of a {@code TuiRunner}, and drawn with {@link AnimatedImage}:
+ *
+ * <pre>{@code
+ * Animation animation = Animation.of(FrameSource.fromPath(Path.of("spinner.gif")));
+ *
+ * runner.run(
+ *     (event, r) -> event instanceof TickEvent
+ *         && animation.advance(((TickEvent) event).elapsed()),
+ *     frame -> frame.renderWidget(AnimatedImage.of(animation), frame.area()));
+ * }</pre>
+ * <p>
+ * An animation is not thread-safe: it should be advanced and rendered on the same
+ * thread.
+ */
+public final class Animation implements Closeable {
+
+    /** Default maximum number of decoded frames kept in memory. */
+    public static final int DEFAULT_MAX_CACHED_FRAMES = 64;
+
+    // Like browsers, treat very short frame delays as a default delay
+    private static final long MIN_DELAY_NANOS = Duration.ofMillis(20).toNanos();
+    private static final long DEFAULT_DELAY_NANOS = Duration.ofMillis(100).toNanos();
+    // After a long pause, skip at most this much playback instead of every missed frame
+    private static final long MAX_CATCH_UP_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final FrameSource source;
+    private final int maxCachedFrames;
+    private final List<ImageFrame> cachedFrames = new ArrayList<>();
+    // Frames scaled by AnimatedImage, kept apart from the cache shared by images
+    private final Map<Image.ScaleKey, ImageData> scaledFrames =
+        new LinkedHashMap<Image.ScaleKey, ImageData>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Image.ScaleKey, ImageData> eldest) {
+                return size() > (caching ? Math.max(1, maxCachedFrames) : 1);
+            }
+        };
+    private boolean caching;
+    private int replayIndex = -1;
+    private int plays;
+    private ImageFrame current;
+    private long remainingNanos;
+    private boolean finished;
+
+    private Animation(FrameSource source, int maxCachedFrames) {
+        this.source = Objects.requireNonNull(source, "source");
+        if (maxCachedFrames < 0) {
+            throw new IllegalArgumentException("maxCachedFrames must not be negative: " + maxCachedFrames);
+        }
+        this.maxCachedFrames = maxCachedFrames;
+        this.caching = source.isReplayable();
+    }
+
+    /**
+     * Creates an animation playing the given source, caching up to
+     * {@link #DEFAULT_MAX_CACHED_FRAMES} frames.
+     *
+     * @param source the frame source
+     * @return the animation
+     */
+    public static Animation of(FrameSource source) {
+        return new Animation(source, DEFAULT_MAX_CACHED_FRAMES);
+    }
+
+    /**
+     * Creates an animation playing the given source.
+     *
+     * @param source          the frame source
+     * @param maxCachedFrames the maximum number of decoded frames kept in memory,
+     *                        0 to decode every frame each time it is shown
+     * @return the animation
+     */
+    public static Animation of(FrameSource source, int maxCachedFrames) {
+        return new Animation(source, maxCachedFrames);
+    }
+
+    /**
+     * Returns the frame to show, reading the first frame if needed.
+     *
+     * @return the current frame image, or null if the source has no frames
+     * @throws RuntimeIOException if the first frame cannot be decoded
+     */
+    public ImageData currentFrame() {
+        if (current == null && !finished) {
+            current = nextFrame();
+            if (current == null) {
+                finished = true;
+                return null;
+            }
+            remainingNanos = delayNanos(current);
+        }
+        return current != null ? current.data() : null;
+    }
+
+    /**
+     * Advances playback by the given time, moving to later frames as their
+     * delays elapse.
+     *
+     * @param elapsed the time elapsed since the last call
+     * @return true if the current frame changed and should be redrawn
+     * @throws RuntimeIOException if a frame cannot be decoded
+     */
+    public boolean advance(Duration elapsed) {
+        if (current == null) {
+            return currentFrame() != null;
+        }
+        remainingNanos = Math.max(remainingNanos - elapsed.toNanos(), -MAX_CATCH_UP_NANOS);
+        ImageFrame shown = current;
+        while (remainingNanos <= 0 && !finished) {
+            ImageFrame next = nextFrame();
+            if (next == null) {
+                finished = true;
+                break;
+            }
+            current = next;
+            remainingNanos += delayNanos(next);
+        }
+        return current != shown;
+    }
+
+    /**
+     * Returns true once the last frame is shown and no loop remains.
+     *
+     * @return true if playback has finished
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns the number of decoded frames kept in memory.
+     *
+     * @return the number of cached frames
+     */
+    public int cachedFrameCount() {
+        return cachedFrames.size();
+    }
+
+    /**
+     * Returns the cache of scaled frames, holding the scaled versions of the
+     * cached frames, or only of the current frame when frames are not cached.
+     *
+     * @return the scaled frame cache
+     */
+    Map<Image.ScaleKey, ImageData> scaledFrames() {
+        return scaledFrames;
+    }
+
+    /**
+     * Closes the frame source.
+     *
+     * @throws IOException if the source cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        cachedFrames.clear();
+        synchronized (scaledFrames) {
+            scaledFrames.clear();
+        }
+        source.close();
+    }
+
+    private ImageFrame nextFrame() {
+        try {
+            if (replayIndex >= 0) {
+                replayIndex++;
+                if (replayIndex == cachedFrames.size()) {
+                    if (!startNextPlay()) {
+                        return null;
+                    }
+                    replayIndex = 0;
+                }
+                return cachedFrames.get(replayIndex);
+            }
+            ImageFrame frame = source.next();
+            if (frame != null) {
+                cache(frame);
+                return frame;
+            }
+            if (!startNextPlay()) {
+                return null;
+            }
+            if (caching && !cachedFrames.isEmpty()) {
+                // Every frame is in memory: replay without decoding
+                replayIndex = 0;
+                return cachedFrames.get(0);
+            }
+            return source.rewind() ? source.next() : null;
+        } catch (IOException e) {
+            throw new RuntimeIOException("Failed to read animation frame", e);
+        }
+    }
+
+    private void cache(ImageFrame frame) {
+        if (!caching) {
+            return;
+        }
+        if (cachedFrames.size() < maxCachedFrames) {
+            cachedFrames.add(frame);
+        } else {
+            // Too long to keep in memory: decode again on each loop
+            caching = false;
+            cachedFrames.clear();
+            synchronized (scaledFrames) {
+                scaledFrames.clear();
+            }
+        }
+    }
+
+    private boolean startNextPlay() {
+        plays++;
+        int loops = source.loopCount();
+        return loops == 0 || plays < loops;
+    }
+
+    private static long delayNanos(ImageFrame frame) {
+        long nanos = frame.delay().toNanos();
+        return nanos < MIN_DELAY_NANOS ? DEFAULT_DELAY_NANOS : nanos;
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import dev.tamboui.error.RuntimeIOException;
+
+/**
+ * Decodes the frames of an animated PNG (APNG) one at a time.
+ * <p>
+ * The chunk layout is read up front, without decoding any pixels. Each frame is
+ * then decoded on demand by rewriting its data chunks into a standalone PNG for
+ * {@link ImageIO}, and composed onto the canvas according to its blend and
+ * dispose operations.
+ *
+ * @see <a href="https://wiki.mozilla.org/APNG_Specification">APNG Specification</a>
+ */
+final class ApngFrameSource implements FrameSource {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private static final int DISPOSE_BACKGROUND = 1;
+    private static final int DISPOSE_PREVIOUS = 2;
+    private static final int BLEND_OVER = 1;
+
+    private final byte[] data;
+    private final int width;
+    private final int height;
+    private final int loopCount;
+    private final int ihdrOffset;
+    private final List<int[]> sharedChunks = new ArrayList<>();  // {offset, length} of chunks copied to every frame
+    private final List<Frame> frames = new ArrayList<>();
+
+    private int index;
+    private int[] canvas;
+    private int[] restore;
+    private Frame previous;
+
+    ApngFrameSource(byte[] data) throws IOException {
+        this.data = data;
+        int pngWidth = 0;
+        int pngHeight = 0;
+        int plays = 0;
+        int ihdr = -1;
+        boolean seenData = false;
+        Frame frame = null;
+        int offset = SIGNATURE.length;
+        while (offset + 8 <= data.length) {
+            int length = readInt(offset);
+            String type = new String(data, offset + 4, 4, StandardCharsets.US_ASCII);
+            int body = offset + 8;
+            if (length < 0 || body + length + 4 > data.length) {
+                throw new RuntimeIOException("Truncated PNG chunk: " + type);
+            }
+            switch (type) {
+                case "IHDR":
+                    ihdr = offset;
+                    pngWidth = readInt(body);
+                    pngHeight = readInt(body + 4);
+                    break;
+                case "acTL":
+                    plays = readInt(body + 4);
+                    break;
+                case "fcTL":
+                    frame = new Frame(readInt(body + 4), readInt(body + 8), readInt(body + 12), readInt(body + 16),
+                        (data[body + 20] & 0xFF) << 8 | (data[body + 21] & 0xFF),
+                        (data[body + 22] & 0xFF) << 8 | (data[body + 23] & 0xFF),
+                        data[body + 24], data[body + 25]);
+                    frames.add(frame);
+                    break;
+                case "IDAT":
+                    seenData = true;
+                    // The default image is only a frame when an fcTL precedes it
+                    if (frame != null) {
+                        frame.chunks.add(new int[] {body, length});
+                    }
+                    break;
+                case "fdAT":
+                    if (frame != null) {
+                        // Skip the sequence number
+                        frame.chunks.add(new int[] {body + 4, length - 4});
+                    }
+                    break;
+                case "IEND":
+                    break;
+                default:
+                    if (!seenData && frames.isEmpty()) {
+                        sharedChunks.add(new int[] {offset, length + 12});
+                    }
+                    break;
+            }
+            offset = body + length + 4;
+        }
+        if (ihdr < 0 || frames.isEmpty()) {
+            throw new RuntimeIOException("Not an animated PNG");
+        }
+        this.width = pngWidth;
+        this.height = pngHeight;
+        this.loopCount = plays;
+        this.ihdrOffset = ihdr;
+        this.canvas = new int[width * height];
+    }
+
+    /**
+     * Returns true if the data is a PNG with an animation control chunk.
+     */
+    static boolean isAnimatedPng(byte[] data) {
+        if (data.length < SIGNATURE.length) {
+            return false;
+        }
+        for (int i = 0; i < SIGNATURE.length; i++) {
+            if (data[i] != SIGNATURE[i]) {
+                return false;
+            }
+        }
+        int offset = SIGNATURE.length;
+        while (offset + 8 <= data.length) {
+            int length = (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16
+                | (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF);
+            if (matches(data, offset + 4, "acTL")) {
+                return true;
+            }
+            if (matches(data, offset + 4, "IDAT") || length < 0) {
+                return false;
+            }
+            offset += length + 12;
+        }
+        return false;
+    }
+
+    @Override
+    public ImageFrame next() throws IOException {
+        if (index >= frames.size()) {
+            return null;
+        }
+        Frame frame = frames.get(index++);
+        if (previous != null) {
+            if (previous.dispose == DISPOSE_BACKGROUND) {
+                fill(previous, 0);
+            } else if (previous.dispose == DISPOSE_PREVIOUS && restore != null) {
+                canvas = restore;
+            }
+        }
+        restore = frame.dispose == DISPOSE_PREVIOUS ? canvas.clone() : null;
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(framePng(frame)));
+        if (image == null) {
+            throw new RuntimeIOException("Unable to decode APNG frame " + (index - 1));
+        }
+        draw(frame, image.getRGB(0, 0, frame.width, frame.height, null, 0, frame.width));
+        previous = frame;
+
+        // A zero denominator means hundredths of a second
+        int denominator = frame.delayDenominator == 0 ? 100 : frame.delayDenominator;
+        Duration delay = Duration.ofMillis(frame.delayNumerator * 1000L / denominator);
+        return ImageFrame.of(ImageData.fromArgbArray(width, height, canvas), delay);
+    }
+
+    @Override
+    public boolean rewind() {
+        index = 0;
+        canvas = new int[width * height];
+        restore = null;
+        previous = null;
+        return true;
+    }
+
+    @Override
+    public int loopCount() {
+        return loopCount;
+    }
+
+    /**
+     * Builds a standalone PNG holding the frame: the IHDR with the frame size,
+     * the chunks shared by all frames, and the frame data as IDAT chunks.
+     */
+    private byte[] framePng(Frame frame) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(SIGNATURE);
+        byte[] header = new byte[13];
+        System.arraycopy(data, ihdrOffset + 8, header, 0, 13);
+        writeInt(header, 0, frame.width);
+        writeInt(header, 4, frame.height);
+        writeChunk(out, "IHDR", header, 0, header.length);
+        for (int[] chunk : sharedChunks) {
+            out.write(data, chunk[0], chunk[1]);
+        }
+        for (int[] chunk : frame.chunks) {
+            writeChunk(out, "IDAT", data, chunk[0], chunk[1]);
+        }
+        writeChunk(out, "IEND", new byte[0], 0, 0);
+        return out.toByteArray();
+    }
+
+    private void draw(Frame frame, int[] pixels) {
+        for (int row = 0; row < frame.height; row++) {
+            int y = frame.y + row;
+            if (y < 0 || y >= height) {
+                continue;
+            }
+            for (int col = 0; col < frame.width; col++) {
+                int x = frame.x + col;
+                if (x < 0 || x >= width) {
+                    continue;
+                }
+                int pixel = pixels[row * frame.width + col];
+                int target = y * width + x;
+                canvas[target] = frame.blend == BLEND_OVER ? over(pixel, canvas[target]) : pixel;
+            }
+        }
+    }
+
+    private void fill(Frame frame, int argb) {
+        for (int y = Math.max(0, frame.y); y < Math.min(height, frame.y + frame.height); y++) {
+            for (int x = Math.max(0, frame.x); x < Math.min(width, frame.x + frame.width); x++) {
+                canvas[y * width + x] = argb;
+            }
+        }
+    }
+
+    /**
+     * Composites a pixel over another (non-premultiplied ARGB).
+     */
+    private static int over(int source, int destination) {
+        int sa = source >>> 24;
+        if (sa == 0xFF) {
+            return source;
+        }
+        if (sa == 0) {
+            return destination;
+        }
+        int da = destination >>> 24;
+        int outA = sa + da * (255 - sa) / 255;
+        if (outA == 0) {
+            return 0;
+        }
+        int r = channel(source >> 16 & 0xFF, sa, destination >> 16 & 0xFF, da, outA);
+        int g = channel(source >> 8 & 0xFF, sa, destination >> 8 & 0xFF, da, outA);
+        int b = channel(source & 0xFF, sa, destination & 0xFF, da, outA);
+        return outA << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static int channel(int source, int sa, int destination, int da, int outA) {
+        return (source * sa + destination * da * (255 - sa) / 255) / outA;
+    }
+
+    private int readInt(int offset) {
+        return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16
+            | (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    private static void writeChunk(ByteArrayOutputStream out, String type, byte[] body, int offset, int length) {
+        byte[] header = new byte[8];
+        writeInt(header, 0, length);
+        for (int i = 0; i < 4; i++) {
+            header[4 + i] = (byte) type.charAt(i);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(header, 4, 4);
+        crc.update(body, offset, length);
+        byte[] checksum = new byte[4];
+        writeInt(checksum, 0, (int) crc.getValue());
+        out.write(header, 0, header.length);
+        out.write(body, offset, length);
+        out.write(checksum, 0, checksum.length);
+    }
+
+    private static boolean matches(byte[] data, int offset, String type) {
+        for (int i = 0; i < 4; i++) {
+            if (data[offset + i] != type.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Frame control (fcTL) and the location of the frame data.
+     */
+    private static final class Frame {
+        final int width;
+        final int height;
+        final int x;
+        final int y;
+        final int delayNumerator;
+        final int delayDenominator;
+        final int dispose;
+        final int blend;
+        final List<int[]> chunks = new ArrayList<>();  // {offset, length} of compressed data
+
+        Frame(int width, int height, int x, int y, int delayNumerator, int delayDenominator, byte dispose, byte blend) {
+            this.width = width;
+            this.height = height;
+            this.x = x;
+            this.y = y;
+            this.delayNumerator = delayNumerator;
+            this.delayDenominator = delayDenominator;
+            this.dispose = dispose;
+            this.blend = blend;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A source of image frames, read one at a time.
+ * <p>
+ * Frames are decoded when they are read, so a long animation is never decoded as
+ * a whole. Sources are usually played by an {@link Animation}, which keeps a
+ * bounded cache of decoded frames.
+ *
+ * <pre>{@code
+ * FrameSource gif = FrameSource.fromPath(Path.of("spinner.gif"));
+ *
+ * // Live snapshots, updated by another thread
+ * AtomicReference<ImageData> latest = new AtomicReference<>();
+ * FrameSource camera = FrameSource.sampling(latest::get, Duration.ofMillis(200));
+ * }</pre>
+ */
+public interface FrameSource extends Closeable {
+
+    /**
+     * Reads the next frame.
+     *
+     * @return the next frame, or null if there are no more frames
+     * @throws IOException if the frame cannot be decoded
+     */
+    ImageFrame next() throws IOException;
+
+    /**
+     * Restarts the source from its first frame, if the source supports it.
+     *
+     * @return true if the next frame read is the first one again
+     * @throws IOException if the source cannot be reopened
+     */
+    default boolean rewind() throws IOException {
+        return false;
+    }
+
+    /**
+     * Returns whether the frames read from this source are the same on every
+     * play, as those of an image file are. An {@link Animation} only caches the
+     * frames of replayable sources; live sources should return false.
+     *
+     * @return true if the frames can be replayed from a cache
+     */
+    default boolean isReplayable() {
+        return true;
+    }
+
+    /**
+     * Returns how many times the frames should be played.
+     *
+     * @return the number of plays, or 0 to play them forever
+     */
+    default int loopCount() {
+        return 0;
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Creates a source decoding an image file.
+     * <p>
+     * Animated GIF and APNG files yield all their frames; other images yield a
+     * single frame.
+     *
+     * @param path the path to the image file
+     * @return the frame source
+     * @throws IOException if the file cannot be read
+     */
+    static FrameSource fromPath(Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+
+    /**
+     * Creates a source decoding image data.
+     * <p>
+     * Animated GIF and APNG data yield all their frames; other images yield a
+     * single frame.
+     *
+     * @param data the encoded image
+     * @return the frame source
+     * @throws IOException if the data cannot be decoded
+     */
+    static FrameSource fromBytes(byte[] data) throws IOException {
+        if (GifFrameSource.isGif(data)) {
+            return new GifFrameSource(data);
+        }
+        if (ApngFrameSource.isAnimatedPng(data)) {
+            return new ApngFrameSource(data);
+        }
+        return of(ImageFrame.of(ImageData.fromBytes(data), Duration.ZERO));
+    }
+
+    /**
+     * Creates a source playing the given frames.
+     *
+     * @param frames the frames
+     * @return the frame source
+     */
+    static FrameSource of(ImageFrame... frames) {
+        List<ImageFrame> list = Arrays.asList(frames.clone());
+        for (ImageFrame frame : list) {
+            Objects.requireNonNull(frame, "frame");
+        }
+        return new FrameSource() {
+            private int index;
+
+            @Override
+            public ImageFrame next() {
+                return index < list.size() ? list.get(index++) : null;
+            }
+
+            @Override
+            public boolean rewind() {
+                index = 0;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Creates an endless source that samples a live image, such as the latest
+     * snapshot of a camera, at a fixed interval.
+     * <p>
+     * The source is not {@linkplain #isReplayable() replayable}, so its frames
+     * are never cached.
+     * <p>
+     * The supplier is called on the thread reading frames, usually the render
+     * thread, so it should return quickly: images that are slow to obtain should
+     * be fetched by another thread, with the supplier returning the latest one.
+     * When the supplier returns null, the previous image is kept, or a transparent
+     * image is shown until the first one is available.
+     *
+     * @param latest   supplies the current image, or null if none is available
+     * @param interval the interval between samples
+     * @return the frame source
+     */
+    static FrameSource sampling(Supplier<ImageData> latest, Duration interval) {
+        Objects.requireNonNull(latest, "latest");
+        Objects.requireNonNull(interval, "interval");
+        return new FrameSource() {
+            private ImageData last = ImageData.fromArgbArray(1, 1, new int[1]);
+
+            @Override
+            public ImageFrame next() {
+                ImageData image = latest.get();
+                if (image != null) {
+                    last = image;
+                }
+                return ImageFrame.of(last, interval);
+            }
+
+            @Override
+            public boolean isReplayable() {
+                return false;
+            }
+        };
+    }
+}
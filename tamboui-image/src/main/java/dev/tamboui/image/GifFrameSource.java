@@ -0,0 +1,216 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+
+import org.w3c.dom.Node;
+
+import dev.tamboui.error.RuntimeIOException;
+
+/**
+ * Decodes the frames of a GIF image one at a time.
+ * <p>
+ * GIF frames are patches drawn over the previous frame, so each frame is composed
+ * onto a canvas of the logical screen size, honouring the disposal method of the
+ * previous frame.
+ */
+final class GifFrameSource implements FrameSource {
+
+    private static final String STREAM_FORMAT = "javax_imageio_gif_stream_1.0";
+    private static final String IMAGE_FORMAT = "javax_imageio_gif_image_1.0";
+
+    private final byte[] data;
+    private ImageReader reader;
+    private int index;
+    private int width;
+    private int height;
+    private int[] canvas;
+    private int loopCount;
+
+    // Disposal of the last frame, applied before drawing the next one
+    private String disposal;
+    private int disposalX;
+    private int disposalY;
+    private int disposalWidth;
+    private int disposalHeight;
+    private int[] restore;
+
+    GifFrameSource(byte[] data) throws IOException {
+        this.data = data;
+        open();
+    }
+
+    static boolean isGif(byte[] data) {
+        return data.length >= 6 && data[0] == 'G' && data[1] == 'I' && data[2] == 'F' && data[3] == '8';
+    }
+
+    private void open() throws IOException {
+        ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data));
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new RuntimeIOException("No GIF decoder available");
+        }
+        reader = readers.next();
+        reader.setInput(input, true, false);
+
+        IIOMetadata streamMetadata = reader.getStreamMetadata();
+        Node screen = streamMetadata != null
+            ? child(streamMetadata.getAsTree(STREAM_FORMAT), "LogicalScreenDescriptor")
+            : null;
+        width = screen != null ? intAttribute(screen, "logicalScreenWidth", 0) : 0;
+        height = screen != null ? intAttribute(screen, "logicalScreenHeight", 0) : 0;
+        canvas = null;
+        index = 0;
+        disposal = null;
+        restore = null;
+    }
+
+    @Override
+    public ImageFrame next() throws IOException {
+        IIOMetadata metadata;
+        BufferedImage image;
+        try {
+            metadata = reader.getImageMetadata(index);
+            image = reader.read(index);
+        } catch (IndexOutOfBoundsException e) {
+            return null;
+        }
+        Node tree = metadata.getAsTree(IMAGE_FORMAT);
+        Node descriptor = child(tree, "ImageDescriptor");
+        Node control = child(tree, "GraphicControlExtension");
+        if (index == 0) {
+            loopCount = readLoopCount(tree);
+        }
+        index++;
+
+        int x = descriptor != null ? intAttribute(descriptor, "imageLeftPosition", 0) : 0;
+        int y = descriptor != null ? intAttribute(descriptor, "imageTopPosition", 0) : 0;
+        if (canvas == null) {
+            // Some encoders leave the logical screen size at zero
+            width = Math.max(width, x + image.getWidth());
+            height = Math.max(height, y + image.getHeight());
+            canvas = new int[width * height];
+        }
+        dispose();
+
+        String method = control != null ? ((IIOMetadataNode) control).getAttribute("disposalMethod") : "none";
+        if ("restoreToPrevious".equals(method)) {
+            restore = canvas.clone();
+        }
+        draw(image, x, y);
+        disposal = method;
+        disposalX = x;
+        disposalY = y;
+        disposalWidth = image.getWidth();
+        disposalHeight = image.getHeight();
+
+        // Delays are in hundredths of a second
+        int delay = control != null ? intAttribute(control, "delayTime", 0) : 0;
+        return ImageFrame.of(ImageData.fromArgbArray(width, height, canvas), Duration.ofMillis(delay * 10L));
+    }
+
+    private void dispose() {
+        if ("restoreToBackgroundColor".equals(disposal)) {
+            // Like browsers, clear to transparent rather than the background color
+            for (int row = Math.max(0, disposalY); row < Math.min(height, disposalY + disposalHeight); row++) {
+                for (int col = Math.max(0, disposalX); col < Math.min(width, disposalX + disposalWidth); col++) {
+                    canvas[row * width + col] = 0;
+                }
+            }
+        } else if ("restoreToPrevious".equals(disposal) && restore != null) {
+            canvas = restore;
+            restore = null;
+        }
+    }
+
+    private void draw(BufferedImage image, int x, int y) {
+        int frameWidth = image.getWidth();
+        int frameHeight = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, frameWidth, frameHeight, null, 0, frameWidth);
+        for (int row = 0; row < frameHeight; row++) {
+            int canvasY = y + row;
+            if (canvasY < 0 || canvasY >= height) {
+                continue;
+            }
+            for (int col = 0; col < frameWidth; col++) {
+                int canvasX = x + col;
+                int pixel = pixels[row * frameWidth + col];
+                // GIF transparency is all or nothing
+                if (canvasX >= 0 && canvasX < width && ImageData.isVisible(pixel)) {
+                    canvas[canvasY * width + canvasX] = pixel;
+                }
+            }
+        }
+    }
+
+    private static int readLoopCount(Node tree) {
+        Node extensions = child(tree, "ApplicationExtensions");
+        if (extensions == null) {
+            return 1;
+        }
+        for (Node node = extensions.getFirstChild(); node != null; node = node.getNextSibling()) {
+            IIOMetadataNode extension = (IIOMetadataNode) node;
+            if ("NETSCAPE".equals(extension.getAttribute("applicationID"))
+                    && extension.getUserObject() instanceof byte[]) {
+                byte[] value = (byte[]) extension.getUserObject();
+                if (value.length >= 3 && value[0] == 1) {
+                    int loops = (value[1] & 0xFF) | (value[2] & 0xFF) << 8;
+                    // The extension counts repetitions after the first play
+                    return loops == 0 ? 0 : loops + 1;
+                }
+            }
+        }
+        return 1;
+    }
+
+    @Override
+    public int loopCount() {
+        return loopCount;
+    }
+
+    @Override
+    public boolean rewind() throws IOException {
+        reader.dispose();
+        open();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        reader.dispose();
+    }
+
+    private static Node child(Node node, String name) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (name.equals(child.getNodeName())) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private static int intAttribute(Node node, String name, int defaultValue) {
+        String value = ((IIOMetadataNode) node).getAttribute(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
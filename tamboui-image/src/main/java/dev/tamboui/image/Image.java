@@ -6,7 +6,13 @@ package dev.tamboui.image;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.ref.WeakReference;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.error.RuntimeIOException;
@@ -34,16 +40,50 @@ import dev.tamboui.widgets.block.Block;
  * frame.renderWidget(image, area);
  * }</pre>
  *
+ * <h2>Asynchronous preparation</h2>
+ * Scaling a large image and converting it for the protocol can take longer than a
+ * frame. With {@link Builder#async(boolean) async} enabled, this work runs on the
+ * common fork-join pool and a placeholder is rendered until the result is ready.
+ * The image appears on the next frame drawn after that; applications that do not
+ * redraw periodically can use {@link Builder#onReady(Runnable)} to trigger a redraw.
+ *
+ * <pre>{@code
+ * Image thumbnail = Image.builder()
+ *     .data(data)
+ *     .async(true)
+ *     .placeholder(Paragraph.from("Loading..."))
+ *     .build();
+ * }</pre>
+ *
  * @see ImageData
  * @see ImageScaling
  * @see dev.tamboui.image.capability.TerminalImageCapabilities
  */
 public final class Image implements Widget, RawOutputCapable {
 
+    private static final int MAX_SCALED_IMAGES = 64;
+
+    // Widgets are usually rebuilt every frame, so scaled images are cached
+    // across instances, keyed by source content, scaling mode and target size
+    private static final Map<ScaleKey, ImageData> SCALED_IMAGES =
+        new LinkedHashMap<ScaleKey, ImageData>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScaleKey, ImageData> eldest) {
+                return size() > MAX_SCALED_IMAGES;
+            }
+        };
+
+    // Scaled images being prepared in the background, guarded by SCALED_IMAGES
+    private static final Map<ScaleKey, CompletableFuture<ImageData>> PREPARING = new HashMap<>();
+
     private final ImageData data;
     private final ImageScaling scaling;
     private final Block block;
     private final ImageProtocol protocol;
+    private final boolean async;
+    private final Widget placeholder;
+    private final Runnable onReady;
+    private final Map<ScaleKey, ImageData> scaledImages;
 
     private Image(Builder builder) {
         this.data = builder.data;
@@ -52,6 +92,10 @@ public final class Image implements Widget, RawOutputCapable {
         this.protocol = builder.protocol != null
             ? builder.protocol
             : TerminalImageCapabilities.detect().bestProtocol();
+        this.async = builder.async;
+        this.placeholder = builder.placeholder;
+        this.onReady = builder.onReady;
+        this.scaledImages = builder.scaledImages != null ? builder.scaledImages : SCALED_IMAGES;
     }
 
     /**
@@ -138,7 +182,18 @@ public final class Image implements Widget, RawOutputCapable {
         int gridWidth = imageArea.width() * res.widthMultiplier();
         int gridHeight = imageArea.height() * res.heightMultiplier();
 
-        ImageData scaledData = scaleImage(data, gridWidth, gridHeight);
+        ImageData scaledData;
+        if (async) {
+            scaledData = preparedImage(data, gridWidth, gridHeight, imageArea);
+            if (scaledData == null) {
+                if (placeholder != null) {
+                    placeholder.render(imageArea, buffer);
+                }
+                return;
+            }
+        } else {
+            scaledData = scaleImage(data, gridWidth, gridHeight);
+        }
 
         // Render using the selected protocol
         try {
@@ -149,9 +204,81 @@ public final class Image implements Widget, RawOutputCapable {
     }
 
     /**
-     * Scales the image according to the scaling mode.
+     * Scales the image according to the scaling mode, reusing a cached result
+     * when the same image was scaled to the same size before.
      */
     private ImageData scaleImage(ImageData source, int targetWidth, int targetHeight) {
+        ScaleKey key = new ScaleKey(source, scaling, protocol, targetWidth, targetHeight);
+        synchronized (scaledImages) {
+            ImageData cached = scaledImages.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        ImageData scaled = computeScaledImage(source, targetWidth, targetHeight);
+        synchronized (scaledImages) {
+            scaledImages.put(key, scaled);
+        }
+        return scaled;
+    }
+
+    /**
+     * Returns the scaled image if it is ready. Otherwise starts scaling it and
+     * preparing it for the protocol in the background, and returns null.
+     */
+    private ImageData preparedImage(ImageData source, int targetWidth, int targetHeight, Rect area) {
+        ScaleKey key = new ScaleKey(source, scaling, protocol, targetWidth, targetHeight);
+        CompletableFuture<ImageData> future;
+        synchronized (SCALED_IMAGES) {
+            ImageData cached = SCALED_IMAGES.get(key);
+            if (cached != null || PREPARING.containsKey(key)) {
+                return cached;
+            }
+            future = CompletableFuture.supplyAsync(() -> {
+                ImageData scaled = computeScaledImage(source, targetWidth, targetHeight);
+                try {
+                    protocol.prepare(scaled, area.width(), area.height());
+                } catch (IOException e) {
+                    throw new RuntimeIOException("Failed to prepare image using protocol " + protocol.name(), e);
+                }
+                return scaled;
+            });
+            PREPARING.put(key, future);
+        }
+        future.whenComplete((scaled, error) -> {
+            synchronized (SCALED_IMAGES) {
+                PREPARING.remove(key);
+                if (scaled != null) {
+                    SCALED_IMAGES.put(key, scaled);
+                }
+            }
+            // On failure, the next render tries again
+            if (scaled != null && onReady != null) {
+                onReady.run();
+            }
+        });
+        return null;
+    }
+
+    /**
+     * Clears the cache of scaled images shared by all image widgets.
+     */
+    static void clearScaledImageCache() {
+        synchronized (SCALED_IMAGES) {
+            SCALED_IMAGES.clear();
+        }
+    }
+
+    /**
+     * Returns the number of scaled images currently cached.
+     */
+    static int scaledImageCacheSize() {
+        synchronized (SCALED_IMAGES) {
+            return SCALED_IMAGES.size();
+        }
+    }
+
+    private ImageData computeScaledImage(ImageData source, int targetWidth, int targetHeight) {
         switch (scaling) {
             case FIT: {
                 int[] dims = source.scaledDimensionsToFit(targetWidth, targetHeight);
@@ -223,6 +350,71 @@ public final class Image implements Widget, RawOutputCapable {
         return protocol;
     }
 
+    /**
+     * Returns whether the image is scaled and prepared in the background.
+     *
+     * @return true if preparation is asynchronous
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Cache key for a scaled image. Keys with equal content hashes are only
+     * equal if the source images have the same pixels. The source is held
+     * weakly: once it is collected, the entry is never matched again and is
+     * eventually evicted.
+     */
+    static final class ScaleKey {
+        private final long contentHash;
+        private final WeakReference<ImageData> source;
+        private final int sourceWidth;
+        private final int sourceHeight;
+        private final ImageScaling scaling;
+        private final String protocol;
+        private final int targetWidth;
+        private final int targetHeight;
+
+        ScaleKey(ImageData source, ImageScaling scaling, ImageProtocol protocol, int targetWidth, int targetHeight) {
+            this.contentHash = source.contentHash();
+            this.source = new WeakReference<>(source);
+            this.sourceWidth = source.width();
+            this.sourceHeight = source.height();
+            this.scaling = scaling;
+            // Prepared entries depend on the protocol settings, not only on its name
+            this.protocol = protocol.variant();
+            this.targetWidth = targetWidth;
+            this.targetHeight = targetHeight;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ScaleKey)) {
+                return false;
+            }
+            ScaleKey other = (ScaleKey) o;
+            if (contentHash != other.contentHash
+                || sourceWidth != other.sourceWidth
+                || sourceHeight != other.sourceHeight
+                || scaling != other.scaling
+                || !protocol.equals(other.protocol)
+                || targetWidth != other.targetWidth
+                || targetHeight != other.targetHeight) {
+                return false;
+            }
+            ImageData image = source.get();
+            return image != null && image.contentEquals(other.source.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contentHash, sourceWidth, sourceHeight, scaling, protocol, targetWidth, targetHeight);
+        }
+    }
+
     /**
      * Builder for {@link Image}.
      */
@@ -231,6 +423,10 @@ public final class Image implements Widget, RawOutputCapable {
         private ImageScaling scaling = ImageScaling.FIT;
         private Block block;
         private ImageProtocol protocol;
+        private boolean async;
+        private Widget placeholder;
+        private Runnable onReady;
+        private Map<ScaleKey, ImageData> scaledImages;
 
         private Builder() {
         }
@@ -281,6 +477,60 @@ public final class Image implements Widget, RawOutputCapable {
             return this;
         }
 
+        /**
+         * Scales the image and prepares it for the protocol in the background.
+         * <p>
+         * Until the result is ready, the {@link #placeholder(Widget) placeholder}
+         * is rendered instead. Results are cached per image, target size and
+         * protocol, so they are shared by later widgets showing the same image.
+         *
+         * @param async true to prepare the image asynchronously
+         * @return this builder
+         */
+        public Builder async(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * Sets the widget rendered while an {@link #async(boolean) asynchronously}
+         * prepared image is not ready. By default, nothing is rendered.
+         *
+         * @param placeholder the placeholder widget
+         * @return this builder
+         */
+        public Builder placeholder(Widget placeholder) {
+            this.placeholder = placeholder;
+            return this;
+        }
+
+        /**
+         * Sets a callback run when an {@link #async(boolean) asynchronously}
+         * prepared image becomes ready, typically to request a redraw.
+         * <p>
+         * The callback runs on a background thread.
+         *
+         * @param onReady the callback
+         * @return this builder
+         */
+        public Builder onReady(Runnable onReady) {
+            this.onReady = onReady;
+            return this;
+        }
+
+        /**
+         * Caches synchronously scaled images in the given map instead of the
+         * cache shared by all image widgets, so that images which are rarely
+         * shown twice, like the frames of a live animation, do not evict others.
+         *
+         * @param scaledImages the cache, synchronized on when used
+         * @return this builder
+         */
+        Builder scaledImages(Map<ScaleKey, ImageData> scaledImages) {
+            this.scaledImages = scaledImages;
+            return this;
+        }
+
         /**
          * Builds the image widget.
          *
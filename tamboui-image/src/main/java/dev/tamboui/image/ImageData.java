@@ -4,8 +4,6 @@
  */
 package dev.tamboui.image;
 
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -13,6 +11,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.imageio.ImageIO;
@@ -41,11 +42,19 @@ public final class ImageData {
      * Thread-safe cache for expensive operations.
      */
     private static final class Cache {
+        private static final int MAX_RESIZED = 4;
+
         private final ReentrantLock lock = new ReentrantLock();
         private byte[] png;
-        private ImageData resized;
-        private int resizedWidth;
-        private int resizedHeight;
+        private boolean hashComputed;
+        private long contentHash;
+        // Least recently used sizes are evicted first
+        private final Map<Long, ImageData> resized = new LinkedHashMap<Long, ImageData>(8, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ImageData> eldest) {
+                return size() > MAX_RESIZED;
+            }
+        };
 
         byte[] getPng() {
             lock.lock();
@@ -68,10 +77,7 @@ public final class ImageData {
         ImageData getResized(int width, int height) {
             lock.lock();
             try {
-                if (resized != null && resizedWidth == width && resizedHeight == height) {
-                    return resized;
-                }
-                return null;
+                return resized.get(sizeKey(width, height));
             } finally {
                 lock.unlock();
             }
@@ -80,13 +86,15 @@ public final class ImageData {
         void setResized(ImageData data, int width, int height) {
             lock.lock();
             try {
-                resized = data;
-                resizedWidth = width;
-                resizedHeight = height;
+                resized.put(sizeKey(width, height), data);
             } finally {
                 lock.unlock();
             }
         }
+
+        private static Long sizeKey(int width, int height) {
+            return ((long) width << 32) | (height & 0xFFFFFFFFL);
+        }
     }
 
     private ImageData(int width, int height, int[] pixels) {
@@ -109,6 +117,23 @@ public final class ImageData {
         return new ImageData(width, height, pixels);
     }
 
+    /**
+     * Creates image data from ARGB pixels.
+     *
+     * @param width  the image width
+     * @param height the image height
+     * @param argb   the pixels in ARGB format, row by row; the array is copied
+     * @return the image data
+     * @throws IllegalArgumentException if the array does not hold {@code width * height} pixels
+     */
+    public static ImageData fromArgbArray(int width, int height, int[] argb) {
+        if (width <= 0 || height <= 0 || argb.length != width * height) {
+            throw new IllegalArgumentException(
+                String.format("Expected %dx%d pixels, got %d", width, height, argb.length));
+        }
+        return new ImageData(width, height, argb.clone());
+    }
+
     /**
      * Loads image data from a file path.
      *
@@ -247,8 +272,54 @@ public final class ImageData {
         return alpha(argb) > 0;
     }
 
+    /**
+     * Returns a 64-bit hash of the image dimensions and pixels.
+     * <p>
+     * Images with the same content have the same hash, which makes it suitable
+     * as a cache key for encoded or transmitted images. The hash is computed
+     * once and cached.
+     *
+     * @return the content hash
+     */
+    public long contentHash() {
+        cache.lock.lock();
+        try {
+            if (!cache.hashComputed) {
+                long hash = 0xcbf29ce484222325L ^ (((long) width << 32) | height);
+                for (int pixel : pixels) {
+                    hash = (hash ^ pixel) * 0x100000001b3L;
+                    hash ^= hash >>> 29;
+                }
+                cache.contentHash = hash;
+                cache.hashComputed = true;
+            }
+            return cache.contentHash;
+        } finally {
+            cache.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether the other image has the same dimensions and pixels.
+     * <p>
+     * Equal content implies an equal {@link #contentHash()}; this method lets
+     * caches keyed by the hash rule out collisions.
+     *
+     * @param other the image to compare with
+     * @return true if both images have the same content
+     */
+    public boolean contentEquals(ImageData other) {
+        return this == other
+            || (other != null && width == other.width && height == other.height
+                && Arrays.equals(pixels, other.pixels));
+    }
+
     /**
      * Creates a resized copy of this image.
+     * <p>
+     * Shrinking averages the pixels covered by each target pixel, and enlarging
+     * interpolates bilinearly. Large images are scaled in parallel. The most
+     * recently requested sizes are cached.
      *
      * @param newWidth  the new width
      * @param newHeight the new height
@@ -269,17 +340,8 @@ public final class ImageData {
             return cached;
         }
 
-        BufferedImage source = toBufferedImage();
-        BufferedImage resized = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g = resized.createGraphics();
-        try {
-            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-            g.drawImage(source, 0, 0, newWidth, newHeight, null);
-        } finally {
-            g.dispose();
-        }
-        ImageData result = fromBufferedImage(resized);
+        ImageData result = new ImageData(newWidth, newHeight,
+            PixelScaler.scale(pixels, width, height, newWidth, newHeight));
         cache.setResized(result, newWidth, newHeight);
         return result;
     }
@@ -311,6 +373,15 @@ public final class ImageData {
         return new ImageData(width, height, cropped);
     }
 
+    /**
+     * Returns a copy of the pixels in ARGB format, row by row.
+     *
+     * @return a new array of {@code width * height} pixels
+     */
+    public int[] toArgbArray() {
+        return pixels.clone();
+    }
+
     /**
      * Converts this image data to a BufferedImage.
      *
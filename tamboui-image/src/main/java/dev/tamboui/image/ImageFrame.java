@@ -0,0 +1,57 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A frame of an animated image: the image and how long it is shown.
+ *
+ * @see FrameSource
+ * @see Animation
+ */
+public final class ImageFrame {
+
+    private final ImageData data;
+    private final Duration delay;
+
+    private ImageFrame(ImageData data, Duration delay) {
+        this.data = Objects.requireNonNull(data, "data");
+        this.delay = Objects.requireNonNull(delay, "delay");
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative: " + delay);
+        }
+    }
+
+    /**
+     * Creates a frame.
+     *
+     * @param data  the frame image
+     * @param delay how long the frame is shown before the next one
+     * @return the frame
+     */
+    public static ImageFrame of(ImageData data, Duration delay) {
+        return new ImageFrame(data, delay);
+    }
+
+    /**
+     * Returns the frame image.
+     *
+     * @return the image data
+     */
+    public ImageData data() {
+        return data;
+    }
+
+    /**
+     * Returns how long the frame is shown before the next one.
+     *
+     * @return the frame delay
+     */
+    public Duration delay() {
+        return delay;
+    }
+}
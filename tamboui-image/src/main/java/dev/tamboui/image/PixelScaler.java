@@ -0,0 +1,235 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Scales ARGB pixel arrays without going through AWT.
+ * <p>
+ * Scaling is separable: rows are scaled horizontally, then columns vertically.
+ * Along an axis that shrinks, each target pixel is the area average of the source
+ * pixels it covers, weighted by exact coverage; along an axis that grows, target
+ * pixels are interpolated linearly between the two nearest source pixels. Colors
+ * are premultiplied by alpha while filtering, so transparent pixels do not darken
+ * their neighbours.
+ * <p>
+ * Large images are scaled in tiles of rows on the common fork-join pool.
+ */
+final class PixelScaler {
+
+    // Below this many pixels per pass, splitting the work costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 64 * 1024;
+    private static final int ROWS_PER_TILE = 16;
+    private static final int LINEAR_ONE = 256;
+
+    private PixelScaler() {
+    }
+
+    /**
+     * Scales an image.
+     *
+     * @param argb         the source pixels, row by row
+     * @param sourceWidth  the source width
+     * @param sourceHeight the source height
+     * @param targetWidth  the target width
+     * @param targetHeight the target height
+     * @return the target pixels, row by row
+     */
+    static int[] scale(int[] argb, int sourceWidth, int sourceHeight, int targetWidth, int targetHeight) {
+        Axis horizontal = Axis.of(sourceWidth, targetWidth);
+        Axis vertical = Axis.of(sourceHeight, targetHeight);
+
+        // Horizontal pass: sourceHeight rows of targetWidth premultiplied pixels
+        int[] rows = new int[targetWidth * sourceHeight];
+        forEachRow(sourceHeight, argb.length, y ->
+            horizontal.filter(argb, y * sourceWidth, rows, y * targetWidth));
+
+        // Vertical pass, one target row at a time so that tiles write disjoint rows
+        int[] result = new int[targetWidth * targetHeight];
+        forEachRow(targetHeight, result.length, y -> {
+            int first = vertical.first[y];
+            int taps = vertical.taps[y];
+            int weightOffset = y * vertical.maxTaps;
+            int offset = y * targetWidth;
+            for (int x = 0; x < targetWidth; x++) {
+                int a = 0;
+                int r = 0;
+                int g = 0;
+                int b = 0;
+                for (int t = 0; t < taps; t++) {
+                    int pixel = rows[(first + t) * targetWidth + x];
+                    int w = vertical.weights[weightOffset + t];
+                    a += (pixel >>> 24) * w;
+                    r += (pixel >> 16 & 0xFF) * w;
+                    g += (pixel >> 8 & 0xFF) * w;
+                    b += (pixel & 0xFF) * w;
+                }
+                result[offset + x] = unpremultiply(
+                    vertical.divide(a), vertical.divide(r), vertical.divide(g), vertical.divide(b));
+            }
+        });
+        return result;
+    }
+
+    private static void forEachRow(int rows, int pixels, IntConsumer row) {
+        if (pixels < PARALLEL_THRESHOLD) {
+            for (int y = 0; y < rows; y++) {
+                row.accept(y);
+            }
+            return;
+        }
+        int tiles = (rows + ROWS_PER_TILE - 1) / ROWS_PER_TILE;
+        IntStream.range(0, tiles).parallel().forEach(tile -> {
+            int end = Math.min(rows, (tile + 1) * ROWS_PER_TILE);
+            for (int y = tile * ROWS_PER_TILE; y < end; y++) {
+                row.accept(y);
+            }
+        });
+    }
+
+    private static int premultiply(int argb) {
+        int a = argb >>> 24;
+        if (a == 0xFF) {
+            return argb;
+        }
+        if (a == 0) {
+            return 0;
+        }
+        int r = ((argb >> 16 & 0xFF) * a + 127) / 255;
+        int g = ((argb >> 8 & 0xFF) * a + 127) / 255;
+        int b = ((argb & 0xFF) * a + 127) / 255;
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static int unpremultiply(int a, int r, int g, int b) {
+        if (a == 0xFF) {
+            return 0xFF000000 | r << 16 | g << 8 | b;
+        }
+        if (a == 0) {
+            return 0;
+        }
+        int half = a / 2;
+        r = Math.min(255, (r * 255 + half) / a);
+        g = Math.min(255, (g * 255 + half) / a);
+        b = Math.min(255, (b * 255 + half) / a);
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    /**
+     * Filter weights along one axis: for each target index, the source indices it
+     * is computed from and their integer weights.
+     */
+    private static final class Axis {
+        // Weighted sums are divided by their total with a multiplication, which is
+        // exact for totals below 2^20
+        private static final int RECIPROCAL_SHIFT = 48;
+
+        final int[] first;
+        final int[] taps;
+        final int[] weights;  // maxTaps entries per target index
+        final int maxTaps;
+        private final int half;
+        private final long reciprocal;
+
+        private Axis(int targetLength, int maxTaps, int total) {
+            this.first = new int[targetLength];
+            this.taps = new int[targetLength];
+            this.weights = new int[targetLength * maxTaps];
+            this.maxTaps = maxTaps;
+            this.half = total / 2;
+            this.reciprocal = (1L << RECIPROCAL_SHIFT) / total + 1;
+        }
+
+        static Axis of(int sourceLength, int targetLength) {
+            return targetLength <= sourceLength
+                ? areaAverage(sourceLength, targetLength)
+                : linear(sourceLength, targetLength);
+        }
+
+        /**
+         * Source pixel i spans [i * target, (i + 1) * target) and target pixel d spans
+         * [d * source, (d + 1) * source) in the same units, so coverage is exact.
+         */
+        private static Axis areaAverage(int sourceLength, int targetLength) {
+            int maxTaps = (sourceLength + targetLength - 1) / targetLength + 1;
+            Axis axis = new Axis(targetLength, maxTaps, sourceLength);
+            long s = sourceLength;
+            long t = targetLength;
+            for (int d = 0; d < targetLength; d++) {
+                long lo = d * s;
+                long hi = lo + s;
+                int firstIndex = (int) (lo / t);
+                int lastIndex = (int) ((hi - 1) / t);
+                axis.first[d] = firstIndex;
+                axis.taps[d] = lastIndex - firstIndex + 1;
+                for (int i = firstIndex; i <= lastIndex; i++) {
+                    long start = Math.max(lo, i * t);
+                    long end = Math.min(hi, (i + 1) * t);
+                    axis.weights[d * maxTaps + i - firstIndex] = (int) (end - start);
+                }
+            }
+            return axis;
+        }
+
+        /**
+         * Target pixel centers are mapped to source coordinates and interpolated
+         * between the two nearest source pixels, in 1/256 steps.
+         */
+        private static Axis linear(int sourceLength, int targetLength) {
+            Axis axis = new Axis(targetLength, 2, LINEAR_ONE);
+            for (int d = 0; d < targetLength; d++) {
+                long position = ((2L * d + 1) * sourceLength * LINEAR_ONE) / (2L * targetLength) - LINEAR_ONE / 2;
+                position = Math.max(0, position);
+                int index = (int) (position / LINEAR_ONE);
+                int fraction = (int) (position % LINEAR_ONE);
+                if (index >= sourceLength - 1) {
+                    index = sourceLength - 1;
+                    fraction = 0;
+                }
+                axis.first[d] = index;
+                axis.weights[d * 2] = LINEAR_ONE - fraction;
+                if (fraction == 0) {
+                    axis.taps[d] = 1;
+                } else {
+                    axis.taps[d] = 2;
+                    axis.weights[d * 2 + 1] = fraction;
+                }
+            }
+            return axis;
+        }
+
+        /**
+         * Returns a weighted sum divided by the total weight, rounded.
+         */
+        int divide(int sum) {
+            return (int) ((sum + half) * reciprocal >>> RECIPROCAL_SHIFT);
+        }
+
+        /**
+         * Filters one row of pixels, premultiplying them by alpha.
+         */
+        void filter(int[] source, int sourceOffset, int[] target, int targetOffset) {
+            for (int d = 0; d < first.length; d++) {
+                int a = 0;
+                int r = 0;
+                int g = 0;
+                int b = 0;
+                int index = sourceOffset + first[d];
+                int weightOffset = d * maxTaps;
+                for (int t = 0; t < taps[d]; t++) {
+                    int pixel = premultiply(source[index + t]);
+                    int w = weights[weightOffset + t];
+                    a += (pixel >>> 24) * w;
+                    r += (pixel >> 16 & 0xFF) * w;
+                    g += (pixel >> 8 & 0xFF) * w;
+                    b += (pixel & 0xFF) * w;
+                }
+                target[targetOffset + d] = divide(a) << 24 | divide(r) << 16 | divide(g) << 8 | divide(b);
+            }
+        }
+    }
+}
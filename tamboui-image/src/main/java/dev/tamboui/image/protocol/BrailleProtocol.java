@@ -76,56 +76,72 @@ public final class BrailleProtocol implements ImageProtocol {
             return;
         }
 
-        // Calculate grid dimensions (2x4 resolution)
-        int gridWidth = area.width() * 2;
-        int gridHeight = area.height() * 4;
-
-        // Scale image to fit the grid
-        ImageData scaled = image.resize(gridWidth, gridHeight);
-
-        // Calculate adaptive threshold based on percentile
-        int threshold = calculatePercentileThreshold(scaled);
-
-        // Render each cell
-        for (int cellY = 0; cellY < area.height(); cellY++) {
-            for (int cellX = 0; cellX < area.width(); cellX++) {
-                int pattern = 0;
-                int colorCount = 0;
-                long rSum = 0, gSum = 0, bSum = 0;
-
-                // Check all 8 dots in this cell (2 columns, 4 rows)
-                for (int dy = 0; dy < 4; dy++) {
-                    for (int dx = 0; dx < 2; dx++) {
-                        int gridX = cellX * 2 + dx;
-                        int gridY = cellY * 4 + dy;
-                        int pixel = scaled.pixelAt(gridX, gridY);
-
-                        if (isPixelOn(pixel, threshold)) {
-                            pattern |= BRAILLE_DOTS[dx][dy];
-                            // Accumulate color for averaging
-                            rSum += ImageData.red(pixel);
-                            gSum += ImageData.green(pixel);
-                            bSum += ImageData.blue(pixel);
-                            colorCount++;
-                        }
-                    }
-                }
+        cells(image, area.width(), area.height()).renderTo(area, buffer);
+    }
 
-                if (pattern != 0) {
-                    // Use average color of all "on" pixels
-                    Color cellColor = null;
-                    if (colorCount > 0) {
-                        int r = (int) (rSum / colorCount);
-                        int g = (int) (gSum / colorCount);
-                        int b = (int) (bSum / colorCount);
-                        cellColor = Color.rgb(r, g, b);
-                    }
+    @Override
+    public void prepare(ImageData image, int width, int height) {
+        if (width > 0 && height > 0) {
+            cells(image, width, height);
+        }
+    }
+
+    private CellImage cells(ImageData image, int width, int height) {
+        // Scale image to fit the grid (2x4 resolution)
+        ImageData scaled = image.resize(width * 2, height * 4);
+        return CellImage.convert(scaled, width, height, variant(), new DotConverter(width * 2));
+    }
+
+    /**
+     * Converts cells, with the threshold calculated once for the image.
+     */
+    private final class DotConverter implements CellImage.CellConverter {
+        private final int gridWidth;
+        private int threshold;
 
-                    String brailleChar = String.valueOf((char) (BRAILLE_BASE + pattern));
-                    Style style = cellColor != null ? Style.EMPTY.fg(cellColor) : Style.EMPTY;
-                    buffer.setString(area.x() + cellX, area.y() + cellY, brailleChar, style);
+        DotConverter(int gridWidth) {
+            this.gridWidth = gridWidth;
+        }
+
+        @Override
+        public int prepare(int[] pixels) {
+            // Calculate adaptive threshold based on percentile
+            threshold = calculatePercentileThreshold(pixels);
+            return threshold;
+        }
+
+        @Override
+        public void convertCell(int[] pixels, int cellX, int cellY, CellImage target) {
+            int pattern = 0;
+            int colorCount = 0;
+            long rSum = 0, gSum = 0, bSum = 0;
+
+            // Check all 8 dots in this cell (2 columns, 4 rows)
+            for (int dy = 0; dy < 4; dy++) {
+                for (int dx = 0; dx < 2; dx++) {
+                    int gridX = cellX * 2 + dx;
+                    int gridY = cellY * 4 + dy;
+                    int pixel = pixels[gridY * gridWidth + gridX];
+
+                    if (isPixelOn(pixel, threshold)) {
+                        pattern |= BRAILLE_DOTS[dx][dy];
+                        // Accumulate color for averaging
+                        rSum += ImageData.red(pixel);
+                        gSum += ImageData.green(pixel);
+                        bSum += ImageData.blue(pixel);
+                        colorCount++;
+                    }
                 }
             }
+
+            if (pattern != 0) {
+                // Use average color of all "on" pixels
+                int r = (int) (rSum / colorCount);
+                int g = (int) (gSum / colorCount);
+                int b = (int) (bSum / colorCount);
+                String brailleChar = String.valueOf((char) (BRAILLE_BASE + pattern));
+                target.set(cellX, cellY, brailleChar, Style.EMPTY.fg(Color.rgb(r, g, b)));
+            }
         }
     }
 
@@ -134,19 +150,16 @@ public final class BrailleProtocol implements ImageProtocol {
      * <p>
      * Builds a histogram of luminance values and finds the value at the given percentile.
      */
-    private int calculatePercentileThreshold(ImageData image) {
+    private int calculatePercentileThreshold(int[] pixels) {
         // Build luminance histogram (256 buckets)
         int[] histogram = new int[256];
         int totalPixels = 0;
 
-        for (int y = 0; y < image.height(); y++) {
-            for (int x = 0; x < image.width(); x++) {
-                int pixel = image.pixelAt(x, y);
-                if (ImageData.isVisible(pixel)) {
-                    int luminance = luminanceFor(pixel);
-                    histogram[luminance]++;
-                    totalPixels++;
-                }
+        for (int pixel : pixels) {
+            if (ImageData.isVisible(pixel)) {
+                int luminance = luminanceFor(pixel);
+                histogram[luminance]++;
+                totalPixels++;
             }
         }
 
@@ -181,6 +194,11 @@ public final class BrailleProtocol implements ImageProtocol {
         return "Braille";
     }
 
+    @Override
+    public String variant() {
+        return "Braille:" + percentile;
+    }
+
     @Override
     public TerminalImageProtocol protocolType() {
         return TerminalImageProtocol.BRAILLE;
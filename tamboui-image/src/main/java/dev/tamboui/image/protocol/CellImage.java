@@ -0,0 +1,304 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image.protocol;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.image.ImageData;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Style;
+
+/**
+ * An image converted to terminal cells by a character-based protocol.
+ * <p>
+ * Conversions are cached by image content, cell size and protocol settings, so an
+ * image redrawn on every frame is converted once and then copied into the buffer.
+ * A cached conversion is only reused after comparing the pixels of both images.
+ * Large images are converted in parallel, one row of cells per task, on the common
+ * fork-join pool.
+ * <p>
+ * When consecutive images of the same size differ only in places, as the frames of
+ * an animation usually do, cells whose pixels did not change are copied from the
+ * previous conversion instead of being converted again.
+ */
+final class CellImage {
+
+    private static final int MAX_CACHED_IMAGES = 32;
+    private static final int MAX_PREVIOUS_IMAGES = 8;
+    // Below this many cells, converting rows in parallel costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    // Least recently used conversions are evicted first
+    private static final Map<Key, CellImage> CONVERTED =
+        new LinkedHashMap<Key, CellImage>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CellImage> eldest) {
+                return size() > MAX_CACHED_IMAGES;
+            }
+        };
+
+    // The last conversion for each cell size and protocol, with its pixels, to
+    // convert the next frame of an animation incrementally
+    private static final Map<Shape, Previous> PREVIOUS =
+        new LinkedHashMap<Shape, Previous>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Shape, Previous> eldest) {
+                return size() > MAX_PREVIOUS_IMAGES;
+            }
+        };
+
+    /**
+     * Converts the pixels of a cell.
+     */
+    interface CellConverter {
+        /**
+         * Called once with all the pixels before cells are converted.
+         *
+         * @param pixels the image pixels, row by row
+         * @return a summary of settings derived from the whole image; cells are
+         *         only reused from a previous image when it is the same
+         */
+        default int prepare(int[] pixels) {
+            return 0;
+        }
+
+        /**
+         * Sets a cell of the target.
+         *
+         * @param pixels the image pixels, row by row
+         * @param cellX  the cell column
+         * @param cellY  the cell row
+         * @param target the cell image to fill
+         */
+        void convertCell(int[] pixels, int cellX, int cellY, CellImage target);
+    }
+
+    private final int width;
+    private final int height;
+    private final String[] symbols;
+    private final Style[] styles;
+
+    private CellImage(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.symbols = new String[width * height];
+        this.styles = new Style[width * height];
+    }
+
+    /**
+     * Returns the cached conversion of an image, converting it if needed.
+     *
+     * @param image     the image to convert
+     * @param width     the width in cells
+     * @param height    the height in cells
+     * @param variant   identifies the protocol and its settings
+     * @param converter converts the cells
+     * @return the converted image
+     */
+    static CellImage convert(ImageData image, int width, int height, String variant, CellConverter converter) {
+        Key key = new Key(image, width, height, variant);
+        synchronized (CONVERTED) {
+            CellImage cached = CONVERTED.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        CellImage result = new CellImage(width, height);
+        int[] pixels = image.toArgbArray();
+        int settings = converter.prepare(pixels);
+        Shape shape = new Shape(image, width, height, variant);
+        Previous previous;
+        synchronized (CONVERTED) {
+            previous = PREVIOUS.get(shape);
+        }
+        Previous reusable = previous != null && previous.settings == settings ? previous : null;
+        int cellWidth = image.width() / width;
+        int cellHeight = image.height() / height;
+        if (width * height < PARALLEL_THRESHOLD) {
+            for (int y = 0; y < height; y++) {
+                result.convertRow(pixels, y, cellWidth, cellHeight, image.width(), converter, reusable);
+            }
+        } else {
+            IntStream.range(0, height).parallel().forEach(y ->
+                result.convertRow(pixels, y, cellWidth, cellHeight, image.width(), converter, reusable));
+        }
+        synchronized (CONVERTED) {
+            CONVERTED.put(key, result);
+            PREVIOUS.put(shape, new Previous(result, pixels, settings));
+        }
+        return result;
+    }
+
+    private void convertRow(int[] pixels, int cellY, int cellWidth, int cellHeight, int imageWidth,
+                            CellConverter converter, Previous previous) {
+        for (int cellX = 0; cellX < width; cellX++) {
+            if (previous != null
+                && sameCell(pixels, previous.pixels, cellX, cellY, cellWidth, cellHeight, imageWidth)) {
+                int index = cellY * width + cellX;
+                symbols[index] = previous.cells.symbols[index];
+                styles[index] = previous.cells.styles[index];
+            } else {
+                converter.convertCell(pixels, cellX, cellY, this);
+            }
+        }
+    }
+
+    private static boolean sameCell(int[] pixels, int[] other, int cellX, int cellY,
+                                    int cellWidth, int cellHeight, int imageWidth) {
+        int offset = cellY * cellHeight * imageWidth + cellX * cellWidth;
+        for (int dy = 0; dy < cellHeight; dy++, offset += imageWidth) {
+            for (int dx = 0; dx < cellWidth; dx++) {
+                if (pixels[offset + dx] != other[offset + dx]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets a cell. Cells that are never set are left untouched in the buffer.
+     *
+     * @param x      the cell column
+     * @param y      the cell row
+     * @param symbol the cell symbol
+     * @param style  the cell style
+     */
+    void set(int x, int y, String symbol, Style style) {
+        symbols[y * width + x] = symbol;
+        styles[y * width + x] = style;
+    }
+
+    /**
+     * Copies the cells into a buffer.
+     *
+     * @param area   the area to copy to, at least as large as this image
+     * @param buffer the target buffer
+     */
+    void renderTo(Rect area, Buffer buffer) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                String symbol = symbols[y * width + x];
+                if (symbol != null) {
+                    buffer.setString(area.x() + x, area.y() + y, symbol, styles[y * width + x]);
+                }
+            }
+        }
+    }
+
+    /**
+     * A conversion with the pixels it was converted from. Only these are kept,
+     * not the pixels of every cached conversion.
+     */
+    private static final class Previous {
+        private final CellImage cells;
+        private final int[] pixels;
+        private final int settings;
+
+        Previous(CellImage cells, int[] pixels, int settings) {
+            this.cells = cells;
+            this.pixels = pixels;
+            this.settings = settings;
+        }
+    }
+
+    /**
+     * Identifies images that can be converted incrementally from one another.
+     */
+    private static final class Shape {
+        private final int imageWidth;
+        private final int imageHeight;
+        private final int width;
+        private final int height;
+        private final String variant;
+
+        Shape(ImageData image, int width, int height, String variant) {
+            this.imageWidth = image.width();
+            this.imageHeight = image.height();
+            this.width = width;
+            this.height = height;
+            this.variant = variant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Shape)) {
+                return false;
+            }
+            Shape other = (Shape) o;
+            return imageWidth == other.imageWidth && imageHeight == other.imageHeight
+                && width == other.width && height == other.height && variant.equals(other.variant);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = imageWidth;
+            result = 31 * result + imageHeight;
+            result = 31 * result + width;
+            result = 31 * result + height;
+            return 31 * result + variant.hashCode();
+        }
+    }
+
+    /**
+     * Identifies a conversion. Keys with equal content hashes are only equal if
+     * the images have the same pixels. The image is held weakly: once it is
+     * collected, the entry is never matched again and is eventually evicted.
+     */
+    private static final class Key {
+        private final long contentHash;
+        private final WeakReference<ImageData> image;
+        private final int imageWidth;
+        private final int imageHeight;
+        private final int width;
+        private final int height;
+        private final String variant;
+
+        Key(ImageData image, int width, int height, String variant) {
+            this.contentHash = image.contentHash();
+            this.image = new WeakReference<>(image);
+            this.imageWidth = image.width();
+            this.imageHeight = image.height();
+            this.width = width;
+            this.height = height;
+            this.variant = variant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (contentHash != other.contentHash || imageWidth != other.imageWidth
+                || imageHeight != other.imageHeight || width != other.width || height != other.height
+                || !variant.equals(other.variant)) {
+                return false;
+            }
+            ImageData image = this.image.get();
+            return image != null && image.contentEquals(other.image.get());
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(contentHash);
+            result = 31 * result + imageWidth;
+            result = 31 * result + imageHeight;
+            result = 31 * result + width;
+            result = 31 * result + height;
+            return 31 * result + variant.hashCode();
+        }
+    }
+}
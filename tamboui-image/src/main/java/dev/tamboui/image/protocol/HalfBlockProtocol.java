@@ -47,50 +47,41 @@ public final class HalfBlockProtocol implements ImageProtocol {
             return;
         }
 
-        // Calculate grid dimensions (1x2 resolution)
-        int gridWidth = area.width();
-        int gridHeight = area.height() * 2;
-
-        // Scale image to fit the grid
-        ImageData scaled = image.resize(gridWidth, gridHeight);
-
-        // Render each cell
-        for (int cellY = 0; cellY < area.height(); cellY++) {
-            for (int cellX = 0; cellX < area.width(); cellX++) {
-                int topPixel = scaled.pixelAt(cellX, cellY * 2);
-                int bottomPixel = scaled.pixelAt(cellX, cellY * 2 + 1);
-
-                boolean topVisible = ImageData.isVisible(topPixel);
-                boolean bottomVisible = ImageData.isVisible(bottomPixel);
-
-                if (!topVisible && !bottomVisible) {
-                    continue; // Transparent cell
-                }
-
-                String symbol;
-                Style style;
-
-                if (topVisible && bottomVisible) {
-                    // Both halves filled - use upper half block with top as FG, bottom as BG
-                    symbol = UPPER_HALF;
-                    Color topColor = argbToColor(topPixel);
-                    Color bottomColor = argbToColor(bottomPixel);
-                    style = Style.EMPTY.fg(topColor).bg(bottomColor);
-                } else if (topVisible) {
-                    // Only top half - use upper half block
-                    symbol = UPPER_HALF;
-                    Color topColor = argbToColor(topPixel);
-                    style = Style.EMPTY.fg(topColor);
-                } else {
-                    // Only bottom half - use lower half block
-                    symbol = LOWER_HALF;
-                    Color bottomColor = argbToColor(bottomPixel);
-                    style = Style.EMPTY.fg(bottomColor);
-                }
-
-                buffer.setString(area.x() + cellX, area.y() + cellY, symbol, style);
-            }
+        cells(image, area.width(), area.height()).renderTo(area, buffer);
+    }
+
+    @Override
+    public void prepare(ImageData image, int width, int height) {
+        if (width > 0 && height > 0) {
+            cells(image, width, height);
+        }
+    }
+
+    private static CellImage cells(ImageData image, int width, int height) {
+        // Scale image to fit the grid (1x2 resolution)
+        ImageData scaled = image.resize(width, height * 2);
+        return CellImage.convert(scaled, width, height, "half-block",
+            (pixels, cellX, cellY, target) -> convertCell(pixels, width, cellX, cellY, target));
+    }
+
+    private static void convertCell(int[] pixels, int gridWidth, int cellX, int cellY, CellImage target) {
+        int topPixel = pixels[cellY * 2 * gridWidth + cellX];
+        int bottomPixel = pixels[(cellY * 2 + 1) * gridWidth + cellX];
+
+        boolean topVisible = ImageData.isVisible(topPixel);
+        boolean bottomVisible = ImageData.isVisible(bottomPixel);
+
+        if (topVisible && bottomVisible) {
+            // Both halves filled - use upper half block with top as FG, bottom as BG
+            target.set(cellX, cellY, UPPER_HALF, Style.EMPTY.fg(argbToColor(topPixel)).bg(argbToColor(bottomPixel)));
+        } else if (topVisible) {
+            // Only top half - use upper half block
+            target.set(cellX, cellY, UPPER_HALF, Style.EMPTY.fg(argbToColor(topPixel)));
+        } else if (bottomVisible) {
+            // Only bottom half - use lower half block
+            target.set(cellX, cellY, LOWER_HALF, Style.EMPTY.fg(argbToColor(bottomPixel)));
         }
+        // Otherwise the cell is transparent
     }
 
     @Override
@@ -94,6 +94,11 @@ public final class ITermProtocol implements ImageProtocol {
         rawOutput.flush();
     }
 
+    @Override
+    public void prepare(ImageData image, int width, int height) throws IOException {
+        image.toPng();
+    }
+
     @Override
     public boolean requiresRawOutput() {
         return true;
@@ -110,6 +115,11 @@ public final class ITermProtocol implements ImageProtocol {
         return "iTerm2";
     }
 
+    @Override
+    public String variant() {
+        return useStTerminator ? "iTerm2:st" : "iTerm2";
+    }
+
     @Override
     public TerminalImageProtocol protocolType() {
         return TerminalImageProtocol.ITERM2;
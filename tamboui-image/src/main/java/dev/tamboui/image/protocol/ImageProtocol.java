@@ -34,6 +34,22 @@ public interface ImageProtocol {
      */
     void render(ImageData image, Rect area, Buffer buffer, OutputStream rawOutput) throws IOException;
 
+    /**
+     * Prepares the rendering of an image into an area of the given size, so that
+     * a later {@link #render} of the same image into an area of that size reuses
+     * the work (scaling, cell conversion or encoding).
+     * <p>
+     * This may be called from any thread, typically to prepare images in the
+     * background. The default implementation does nothing.
+     *
+     * @param image  the image data to render
+     * @param width  the width of the area in character cells
+     * @param height the height of the area in character cells
+     * @throws IOException if encoding the image fails
+     */
+    default void prepare(ImageData image, int width, int height) throws IOException {
+    }
+
     /**
      * Returns true if this protocol requires raw byte output.
      * <p>
@@ -65,6 +81,18 @@ public interface ImageProtocol {
      */
     String name();
 
+    /**
+     * Identifies this protocol together with the settings that change how it
+     * renders, so that caches shared by protocol instances do not mix results
+     * of differently configured protocols. The default implementation returns
+     * the {@linkplain #name() name}.
+     *
+     * @return the protocol name and settings
+     */
+    default String variant() {
+        return name();
+    }
+
     /**
      * Returns the terminal image protocol type for capability checking.
      *
@@ -0,0 +1,199 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image.protocol;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import dev.tamboui.image.ImageData;
+
+/**
+ * Tracks the images that have been transmitted to the terminal with the
+ * Kitty graphics protocol.
+ * <p>
+ * {@link KittyProtocol} uploads each distinct image once under an image id
+ * and afterwards only places it, so an image shown on every frame is not
+ * re-sent every frame. Images are looked up by their content hash and pixel
+ * size, and a match is confirmed by comparing the pixels, so two images whose
+ * hashes collide are never mistaken for each other. When more than the configured number of images are known, the least recently
+ * used one is evicted, and the protocol deletes it from the terminal on its
+ * next render.
+ * <p>
+ * The terminal keeps the uploaded images until they are deleted, so a cache
+ * belongs to one terminal: the terminal's owner creates it and passes it to
+ * {@link KittyProtocol#KittyProtocol(KittyImageCache)}, or a protocol created
+ * without a cache uses the one {@linkplain #forOutput(OutputStream) bound to the
+ * terminal's raw output}. Call {@link #clear()} if the terminal state is lost,
+ * for example after reconnecting.
+ */
+public final class KittyImageCache {
+
+    /**
+     * The default number of images kept on the terminal.
+     */
+    public static final int DEFAULT_MAX_IMAGES = 32;
+
+    // Caches of protocols created without one, by terminal raw output; weak
+    // keys let a cache go away with its terminal
+    private static final Map<OutputStream, KittyImageCache> BY_OUTPUT =
+        Collections.synchronizedMap(new WeakHashMap<OutputStream, KittyImageCache>());
+
+    private final int maxImages;
+    private final List<Integer> evicted = new ArrayList<>();
+    private final Map<Key, Transmitted> ids;
+    private int nextId = 1;
+
+    /**
+     * Creates a cache keeping at most the given number of images on the terminal.
+     *
+     * @param maxImages the maximum number of transmitted images
+     */
+    public KittyImageCache(int maxImages) {
+        if (maxImages < 1) {
+            throw new IllegalArgumentException("maxImages must be >= 1: " + maxImages);
+        }
+        this.maxImages = maxImages;
+        this.ids = new LinkedHashMap<Key, Transmitted>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Transmitted> eldest) {
+                if (size() > KittyImageCache.this.maxImages) {
+                    evicted.add(eldest.getValue().id);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache of the terminal writing to the given raw output stream,
+     * creating it with {@link #DEFAULT_MAX_IMAGES} on first use.
+     * <p>
+     * Each terminal has its own raw output stream, so terminals in the same
+     * JVM, such as the sessions of a server, each get their own cache. It is
+     * used by protocol instances created with {@link KittyProtocol#KittyProtocol()}.
+     *
+     * @param output the terminal's raw output stream
+     * @return the cache bound to the stream
+     */
+    public static KittyImageCache forOutput(OutputStream output) {
+        return BY_OUTPUT.computeIfAbsent(output, o -> new KittyImageCache(DEFAULT_MAX_IMAGES));
+    }
+
+    /**
+     * Returns the id under which the image was transmitted.
+     *
+     * @param image the image
+     * @return the image id, or null if the image has not been transmitted
+     */
+    synchronized Integer lookup(ImageData image) {
+        Transmitted entry = ids.get(new Key(image));
+        return entry != null && entry.image.contentEquals(image) ? entry.id : null;
+    }
+
+    /**
+     * Allocates an id for an image about to be transmitted.
+     *
+     * @return a new image id
+     */
+    synchronized int newId() {
+        int id = nextId;
+        // Kitty image ids are 32-bit unsigned; 0 means "no id"
+        nextId = nextId == Integer.MAX_VALUE ? 1 : nextId + 1;
+        return id;
+    }
+
+    /**
+     * Records that the image was transmitted under the given id.
+     *
+     * @param image the image
+     * @param id    the image id
+     */
+    synchronized void put(ImageData image, int id) {
+        Transmitted replaced = ids.put(new Key(image), new Transmitted(id, image));
+        if (replaced != null && replaced.id != id) {
+            // A different image with a colliding hash; it is no longer reachable
+            evicted.add(replaced.id);
+        }
+    }
+
+    /**
+     * Returns and forgets the ids of evicted images, which should be deleted
+     * from the terminal.
+     *
+     * @return the evicted image ids
+     */
+    synchronized List<Integer> drainEvicted() {
+        if (evicted.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> result = new ArrayList<>(evicted);
+        evicted.clear();
+        return result;
+    }
+
+    /**
+     * Evicts all images. They are deleted from the terminal on the next render.
+     */
+    public synchronized void clear() {
+        for (Transmitted entry : ids.values()) {
+            evicted.add(entry.id);
+        }
+        ids.clear();
+    }
+
+    /**
+     * Returns the number of images currently transmitted.
+     *
+     * @return the number of cached images
+     */
+    public synchronized int size() {
+        return ids.size();
+    }
+
+    private static final class Transmitted {
+        private final int id;
+        private final ImageData image;
+
+        Transmitted(int id, ImageData image) {
+            this.id = id;
+            this.image = image;
+        }
+    }
+
+    private static final class Key {
+        private final long contentHash;
+        private final int width;
+        private final int height;
+
+        Key(ImageData image) {
+            this.contentHash = image.contentHash();
+            this.width = image.width();
+            this.height = image.height();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return contentHash == other.contentHash && width == other.width && height == other.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(contentHash) * 31 * 31 + width * 31 + height;
+        }
+    }
+}
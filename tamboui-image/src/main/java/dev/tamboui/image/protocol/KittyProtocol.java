@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Objects;
 
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.error.RuntimeIOException;
@@ -28,6 +29,13 @@ import dev.tamboui.layout.Rect;
  * ESC _ G [control-data] ; [payload] ESC \
  * </pre>
  *
+ * <h2>Transmit once, place many</h2>
+ * Each distinct image is transmitted once under an image id ({@code a=t,i=id})
+ * and then displayed with placements ({@code a=p,i=id}). Placements are given
+ * an id derived from their cell position, so redrawing an image at the same
+ * place replaces the previous placement. Transmitted images are tracked by a
+ * {@link KittyImageCache}; images evicted from it are deleted from the terminal.
+ *
  * @see <a href="https://sw.kovidgoyal.net/kitty/graphics-protocol/">Kitty Graphics Protocol</a>
  */
 public final class KittyProtocol implements ImageProtocol {
@@ -36,10 +44,24 @@ public final class KittyProtocol implements ImageProtocol {
     private static final String ST = "\033\\";    // String Terminator
     private static final int CHUNK_SIZE = 4096;   // Maximum chunk size for transmission
 
+    private final KittyImageCache cache;
+
     /**
-     * Creates a new Kitty protocol instance.
+     * Creates a new Kitty protocol instance using the image cache of the
+     * terminal it renders to (see {@link KittyImageCache#forOutput(OutputStream)}).
      */
     public KittyProtocol() {
+        this.cache = null;
+    }
+
+    /**
+     * Creates a new Kitty protocol instance using the given image cache.
+     * The cache must only be used for one terminal.
+     *
+     * @param cache the cache of images transmitted to the terminal
+     */
+    public KittyProtocol(KittyImageCache cache) {
+        this.cache = Objects.requireNonNull(cache, "cache");
     }
 
     @Override
@@ -52,21 +74,53 @@ public final class KittyProtocol implements ImageProtocol {
             return;
         }
 
+        KittyImageCache cache = this.cache != null ? this.cache : KittyImageCache.forOutput(rawOutput);
+
+        // Free images that were evicted from the cache
+        // a=d: action = delete, d=I: by image id, also freeing the image data
+        for (int evictedId : cache.drainEvicted()) {
+            writeCommand(rawOutput, String.format("%sa=d,d=I,i=%d,q=2%s", APC, evictedId, ST));
+        }
+
         // Move cursor to position
         String cursorMove = String.format("\033[%d;%dH", area.y() + 1, area.x() + 1);
         rawOutput.write(cursorMove.getBytes(StandardCharsets.US_ASCII));
 
-        // Encode image as PNG and then base64
-        // The image should already be scaled by Image.scaleImage() based on the scaling mode
-        byte[] pngData = image.toPng();
-        String base64Data = Base64.getEncoder().encodeToString(pngData);
+        Integer imageId = cache.lookup(image);
+        if (imageId == null) {
+            // Encode image as PNG and then base64
+            // The image should already be scaled by Image.scaleImage() based on the scaling mode
+            int id = cache.newId();
+            byte[] pngData = image.toPng();
+            String base64Data = Base64.getEncoder().encodeToString(pngData);
+            sendChunked(rawOutput, base64Data, id);
+            cache.put(image, id);
+            imageId = id;
+        }
 
-        // Send image using chunked transmission
-        sendChunked(rawOutput, base64Data, area.width(), area.height());
+        // a=p: action = place a transmitted image
+        // p=placement id: replaces the previous placement at this position
+        // c=cols, r=rows: display size in cells
+        // q=2: suppress responses
+        writeCommand(rawOutput, String.format("%sa=p,i=%d,p=%d,c=%d,r=%d,q=2%s",
+            APC, imageId, placementId(area), area.width(), area.height(), ST));
 
         rawOutput.flush();
     }
 
+    private static int placementId(Rect area) {
+        return ((area.y() & 0x7FFF) << 16 | (area.x() & 0xFFFF)) + 1;
+    }
+
+    private static void writeCommand(OutputStream out, String command) throws IOException {
+        out.write(command.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void prepare(ImageData image, int width, int height) throws IOException {
+        image.toPng();
+    }
+
     @Override
     public boolean requiresRawOutput() {
         return true;
@@ -89,11 +143,11 @@ public final class KittyProtocol implements ImageProtocol {
     }
 
     /**
-     * Sends image data using chunked transmission.
+     * Transmits image data under the given id using chunked transmission.
      * <p>
      * For large images, the data must be split into chunks of at most 4096 bytes.
      */
-    private void sendChunked(OutputStream out, String base64Data, int cols, int rows) throws IOException {
+    private void sendChunked(OutputStream out, String base64Data, int imageId) throws IOException {
         int offset = 0;
         int length = base64Data.length();
         boolean first = true;
@@ -108,13 +162,13 @@ public final class KittyProtocol implements ImageProtocol {
 
             if (first) {
                 // First chunk includes all the control parameters
-                // a=T: action = transmit and display
+                // a=t: action = transmit only, displayed later with a=p
                 // f=100: format = PNG
                 // t=d: transmission = direct (embedded in escape code)
-                // c=cols: display width in cells
-                // r=rows: display height in cells
+                // i=id: image id
+                // q=2: suppress responses
                 // m=0/1: more chunks follow
-                cmd.append(String.format("a=T,f=100,t=d,c=%d,r=%d,m=%d;", cols, rows, more ? 1 : 0));
+                cmd.append(String.format("a=t,f=100,t=d,i=%d,q=2,m=%d;", imageId, more ? 1 : 0));
                 first = false;
             } else {
                 // Subsequent chunks only need the 'm' flag
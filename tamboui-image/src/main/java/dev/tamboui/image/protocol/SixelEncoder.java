@@ -0,0 +1,519 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image.protocol;
+
+import java.util.Arrays;
+
+import dev.tamboui.image.ImageData;
+
+/**
+ * Encodes images as Sixel data.
+ * <p>
+ * Images with at most {@code maxColors} distinct colors are encoded with their
+ * exact colors. Other images are reduced with median-cut quantization: the colors
+ * are counted in a 15-bit histogram, whose boxes are split along their widest
+ * channel at the pixel median until the palette is full. Pixels are then mapped
+ * to their nearest palette entry, optionally with Floyd-Steinberg error diffusion.
+ * <p>
+ * Each six-row band is encoded in a single pass over its pixels, which fills the
+ * sixel rows of all colors present in the band at once. The rows are then written
+ * with run-length encoding ({@code !n}) and without their trailing empty sixels.
+ * Encoding is thus proportional to the number of pixels plus the number of colors
+ * used by each band, rather than to their product.
+ */
+final class SixelEncoder {
+
+    private static final int SIXEL_HEIGHT = 6;
+    // Sixel character offset - character '?' (63) represents all-zero, '~' (126) represents all-ones
+    private static final int SIXEL_OFFSET = 63;
+    private static final int HISTOGRAM_BITS = 5;
+    private static final int HISTOGRAM_SIZE = 1 << (3 * HISTOGRAM_BITS);
+    private static final int TRANSPARENT = -1;
+
+    private final int maxColors;
+    private final boolean dither;
+
+    /**
+     * Creates an encoder.
+     *
+     * @param maxColors the maximum number of palette colors (1-256)
+     * @param dither    true to apply Floyd-Steinberg dithering when colors are reduced
+     */
+    SixelEncoder(int maxColors, boolean dither) {
+        this.maxColors = maxColors;
+        this.dither = dither;
+    }
+
+    /**
+     * Encodes an image, including the DCS introducer and the string terminator.
+     *
+     * @param image the image to encode
+     * @return the Sixel sequence
+     */
+    byte[] encode(ImageData image) {
+        int width = image.width();
+        int height = image.height();
+        int[] pixels = image.toArgbArray();
+
+        int[] palette = exactPalette(pixels);
+        int[] indices;
+        if (palette != null) {
+            indices = mapExact(pixels, palette);
+        } else {
+            palette = medianCut(pixels);
+            indices = dither ? mapDithered(pixels, width, height, palette) : mapNearest(pixels, palette);
+        }
+
+        Output out = new Output(Math.max(256, width * height / 4));
+        // Format: DCS P1 ; P2 ; P3 q
+        // P1=0: pixel aspect ratio from device
+        // P2=1: no background fill (transparent)
+        // P3=0: horizontal grid size from device
+        out.ascii("\033P0;1;0q");
+        // Raster attributes: 1:1 aspect ratio, image size
+        out.ascii("\"1;1;").decimal(width).write(';').decimal(height);
+        // Define color palette
+        // Format: #Pc;Pu;Px;Py;Pz
+        // Pu = color coordinate system (2 = RGB percentage)
+        for (int i = 0; i < palette.length; i++) {
+            int rgb = palette[i];
+            out.write('#').decimal(i).ascii(";2;")
+                .decimal(percent(ImageData.red(rgb))).write(';')
+                .decimal(percent(ImageData.green(rgb))).write(';')
+                .decimal(percent(ImageData.blue(rgb)));
+        }
+        writeBands(out, indices, width, height, palette.length);
+        out.ascii("\033\\");
+        return out.toByteArray();
+    }
+
+    private static void writeBands(Output out, int[] indices, int width, int height, int colors) {
+        byte[] sixels = new byte[colors * width];
+        int[] bandOf = new int[colors];
+        int[] lastX = new int[colors];
+        int[] used = new int[colors];
+        for (int bandY = 0; bandY < height; bandY += SIXEL_HEIGHT) {
+            int band = bandY / SIXEL_HEIGHT + 1;
+            int usedCount = 0;
+            int rows = Math.min(SIXEL_HEIGHT, height - bandY);
+            for (int dy = 0; dy < rows; dy++) {
+                int bit = 1 << dy;
+                int offset = (bandY + dy) * width;
+                for (int x = 0; x < width; x++) {
+                    int color = indices[offset + x];
+                    if (color == TRANSPARENT) {
+                        continue;
+                    }
+                    if (bandOf[color] != band) {
+                        bandOf[color] = band;
+                        lastX[color] = x;
+                        used[usedCount++] = color;
+                    } else if (x > lastX[color]) {
+                        lastX[color] = x;
+                    }
+                    sixels[color * width + x] |= bit;
+                }
+            }
+
+            for (int i = 0; i < usedCount; i++) {
+                int color = used[i];
+                if (i > 0) {
+                    out.write('$');  // Carriage return: back to the start of the band
+                }
+                out.write('#').decimal(color);
+                int start = color * width;
+                writeRuns(out, sixels, start, start + lastX[color] + 1);
+                Arrays.fill(sixels, start, start + lastX[color] + 1, (byte) 0);
+            }
+            if (bandY + SIXEL_HEIGHT < height) {
+                out.write('-');  // Graphics new line
+            }
+        }
+    }
+
+    private static void writeRuns(Output out, byte[] sixels, int start, int end) {
+        int i = start;
+        while (i < end) {
+            byte value = sixels[i];
+            int run = 1;
+            while (i + run < end && sixels[i + run] == value) {
+                run++;
+            }
+            int symbol = SIXEL_OFFSET + value;
+            if (run > 3) {
+                out.write('!').decimal(run).write(symbol);
+            } else {
+                for (int k = 0; k < run; k++) {
+                    out.write(symbol);
+                }
+            }
+            i += run;
+        }
+    }
+
+    // Palette selection
+
+    /**
+     * Returns the distinct colors of the visible pixels, or null if there are
+     * more than {@code maxColors}.
+     */
+    private int[] exactPalette(int[] pixels) {
+        IntIndex colors = new IntIndex(maxColors);
+        for (int pixel : pixels) {
+            if (ImageData.isVisible(pixel) && colors.add(pixel & 0xFFFFFF) < 0) {
+                return null;
+            }
+        }
+        return colors.keys();
+    }
+
+    private static int[] mapExact(int[] pixels, int[] palette) {
+        IntIndex index = new IntIndex(palette.length);
+        for (int rgb : palette) {
+            index.add(rgb);
+        }
+        int[] indices = new int[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            int pixel = pixels[i];
+            indices[i] = ImageData.isVisible(pixel) ? index.get(pixel & 0xFFFFFF) : TRANSPARENT;
+        }
+        return indices;
+    }
+
+    private int[] medianCut(int[] pixels) {
+        int[] counts = new int[HISTOGRAM_SIZE];
+        long[] sums = new long[HISTOGRAM_SIZE * 3];
+        for (int pixel : pixels) {
+            if (ImageData.isVisible(pixel)) {
+                int bin = bin(pixel);
+                counts[bin]++;
+                sums[bin * 3] += ImageData.red(pixel);
+                sums[bin * 3 + 1] += ImageData.green(pixel);
+                sums[bin * 3 + 2] += ImageData.blue(pixel);
+            }
+        }
+        int binCount = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                binCount++;
+            }
+        }
+        int[] bins = new int[binCount];
+        for (int bin = 0, n = 0; bin < HISTOGRAM_SIZE; bin++) {
+            if (counts[bin] > 0) {
+                bins[n++] = bin;
+            }
+        }
+
+        // Boxes are ranges of the bins array, split in place
+        int[] boxStart = new int[maxColors];
+        int[] boxEnd = new int[maxColors];
+        int[] boxChannel = new int[maxColors];
+        long[] boxScore = new long[maxColors];
+        int boxes = 1;
+        boxEnd[0] = binCount;
+        score(bins, counts, boxStart, boxEnd, boxChannel, boxScore, 0);
+        int[] scratch = new int[binCount];
+        while (boxes < maxColors) {
+            int best = -1;
+            for (int b = 0; b < boxes; b++) {
+                if (boxScore[b] > 0 && (best < 0 || boxScore[b] > boxScore[best])) {
+                    best = b;
+                }
+            }
+            if (best < 0) {
+                break;  // Every box holds a single histogram bin
+            }
+            int split = splitAtMedian(bins, counts, scratch, boxStart[best], boxEnd[best], boxChannel[best]);
+            boxStart[boxes] = split;
+            boxEnd[boxes] = boxEnd[best];
+            boxEnd[best] = split;
+            score(bins, counts, boxStart, boxEnd, boxChannel, boxScore, best);
+            score(bins, counts, boxStart, boxEnd, boxChannel, boxScore, boxes);
+            boxes++;
+        }
+
+        int[] palette = new int[boxes];
+        for (int b = 0; b < boxes; b++) {
+            long total = 0;
+            long r = 0;
+            long g = 0;
+            long bl = 0;
+            for (int i = boxStart[b]; i < boxEnd[b]; i++) {
+                int bin = bins[i];
+                total += counts[bin];
+                r += sums[bin * 3];
+                g += sums[bin * 3 + 1];
+                bl += sums[bin * 3 + 2];
+            }
+            palette[b] = (int) ((r + total / 2) / total) << 16
+                | (int) ((g + total / 2) / total) << 8
+                | (int) ((bl + total / 2) / total);
+        }
+        return palette;
+    }
+
+    /**
+     * Computes the channel a box would be split along, and how much splitting it
+     * is worth: its pixel count times its extent along that channel. Boxes
+     * holding a single bin score 0.
+     */
+    private static void score(int[] bins, int[] counts, int[] boxStart, int[] boxEnd,
+                              int[] boxChannel, long[] boxScore, int box) {
+        int[] min = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        int[] max = {-1, -1, -1};
+        long pixelCount = 0;
+        for (int i = boxStart[box]; i < boxEnd[box]; i++) {
+            int bin = bins[i];
+            pixelCount += counts[bin];
+            for (int c = 0; c < 3; c++) {
+                int v = channel(bin, c);
+                min[c] = Math.min(min[c], v);
+                max[c] = Math.max(max[c], v);
+            }
+        }
+        int channel = 0;
+        for (int c = 1; c < 3; c++) {
+            if (max[c] - min[c] > max[channel] - min[channel]) {
+                channel = c;
+            }
+        }
+        boxChannel[box] = channel;
+        boxScore[box] = boxEnd[box] - boxStart[box] < 2 ? 0 : pixelCount * (max[channel] - min[channel]);
+    }
+
+    /**
+     * Sorts the bins of a box by one channel and returns the index that splits
+     * the box into two non-empty halves holding about as many pixels each.
+     */
+    private static int splitAtMedian(int[] bins, int[] counts, int[] scratch, int start, int end, int channel) {
+        // Counting sort on the 5-bit channel value
+        int levels = 1 << HISTOGRAM_BITS;
+        int[] positions = new int[levels + 1];
+        for (int i = start; i < end; i++) {
+            positions[channel(bins[i], channel) + 1]++;
+        }
+        for (int v = 0; v < levels; v++) {
+            positions[v + 1] += positions[v];
+        }
+        for (int i = start; i < end; i++) {
+            scratch[start + positions[channel(bins[i], channel)]++] = bins[i];
+        }
+        System.arraycopy(scratch, start, bins, start, end - start);
+
+        long total = 0;
+        for (int i = start; i < end; i++) {
+            total += counts[bins[i]];
+        }
+        long seen = 0;
+        int split = start + 1;
+        for (int i = start; i < end - 1; i++) {
+            seen += counts[bins[i]];
+            split = i + 1;
+            if (seen * 2 >= total) {
+                break;
+            }
+        }
+        return split;
+    }
+
+    // Pixel mapping
+
+    private static int[] mapNearest(int[] pixels, int[] palette) {
+        int[] lookup = newLookup();
+        int[] indices = new int[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            int pixel = pixels[i];
+            indices[i] = ImageData.isVisible(pixel) ? nearest(lookup, palette, pixel) : TRANSPARENT;
+        }
+        return indices;
+    }
+
+    private static int[] mapDithered(int[] pixels, int width, int height, int[] palette) {
+        int[] lookup = newLookup();
+        int[] indices = new int[pixels.length];
+        // Errors in 1/16 units, with one guard column on each side
+        int[] current = new int[(width + 2) * 3];
+        int[] next = new int[(width + 2) * 3];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int pixel = pixels[y * width + x];
+                if (!ImageData.isVisible(pixel)) {
+                    indices[y * width + x] = TRANSPARENT;
+                    continue;
+                }
+                int e = (x + 1) * 3;
+                int r = clamp(ImageData.red(pixel) + current[e] / 16);
+                int g = clamp(ImageData.green(pixel) + current[e + 1] / 16);
+                int b = clamp(ImageData.blue(pixel) + current[e + 2] / 16);
+                int index = nearest(lookup, palette, (r << 16) | (g << 8) | b);
+                indices[y * width + x] = index;
+                int chosen = palette[index];
+                diffuse(current, next, e, r - ImageData.red(chosen), 0);
+                diffuse(current, next, e, g - ImageData.green(chosen), 1);
+                diffuse(current, next, e, b - ImageData.blue(chosen), 2);
+            }
+            int[] done = current;
+            current = next;
+            next = done;
+            Arrays.fill(next, 0);
+        }
+        return indices;
+    }
+
+    private static void diffuse(int[] current, int[] next, int e, int error, int c) {
+        current[e + 3 + c] += error * 7;
+        next[e - 3 + c] += error * 3;
+        next[e + c] += error * 5;
+        next[e + 3 + c] += error;
+    }
+
+    private static int[] newLookup() {
+        int[] lookup = new int[HISTOGRAM_SIZE];
+        Arrays.fill(lookup, -1);
+        return lookup;
+    }
+
+    /**
+     * Returns the palette entry nearest to a color, resolved once per histogram bin.
+     */
+    private static int nearest(int[] lookup, int[] palette, int rgb) {
+        int bin = bin(rgb);
+        int index = lookup[bin];
+        if (index < 0) {
+            int r = ImageData.red(rgb);
+            int g = ImageData.green(rgb);
+            int b = ImageData.blue(rgb);
+            int bestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < palette.length; i++) {
+                int dr = ImageData.red(palette[i]) - r;
+                int dg = ImageData.green(palette[i]) - g;
+                int db = ImageData.blue(palette[i]) - b;
+                int distance = dr * dr + dg * dg + db * db;
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    index = i;
+                }
+            }
+            lookup[bin] = index;
+        }
+        return index;
+    }
+
+    private static int bin(int rgb) {
+        int shift = 8 - HISTOGRAM_BITS;
+        return ((ImageData.red(rgb) >> shift) << (2 * HISTOGRAM_BITS))
+            | ((ImageData.green(rgb) >> shift) << HISTOGRAM_BITS)
+            | (ImageData.blue(rgb) >> shift);
+    }
+
+    private static int channel(int bin, int channel) {
+        return (bin >> ((2 - channel) * HISTOGRAM_BITS)) & ((1 << HISTOGRAM_BITS) - 1);
+    }
+
+    private static int clamp(int value) {
+        return value < 0 ? 0 : value > 255 ? 255 : value;
+    }
+
+    private static int percent(int component) {
+        return (component * 100 + 127) / 255;
+    }
+
+    /**
+     * Small open-addressing map from distinct RGB values to their insertion index.
+     */
+    private static final class IntIndex {
+        private final int limit;
+        private final int[] keys;
+        private final int[] values;
+        private final int mask;
+        private int size;
+
+        IntIndex(int limit) {
+            this.limit = limit;
+            int capacity = Integer.highestOneBit(Math.max(4, limit) * 4);
+            this.keys = new int[capacity];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(values, -1);
+        }
+
+        /**
+         * Adds a key and returns its index, or -1 if the limit is exceeded.
+         */
+        int add(int key) {
+            int slot = slot(key);
+            if (values[slot] >= 0) {
+                return values[slot];
+            }
+            if (size == limit) {
+                return -1;
+            }
+            keys[slot] = key;
+            values[slot] = size;
+            return size++;
+        }
+
+        int get(int key) {
+            return values[slot(key)];
+        }
+
+        int[] keys() {
+            int[] result = new int[size];
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (values[slot] >= 0) {
+                    result[values[slot]] = keys[slot];
+                }
+            }
+            return result;
+        }
+
+        private int slot(int key) {
+            int slot = (key * 0x9E3779B9) >>> 16 & mask;
+            while (values[slot] >= 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Growable byte buffer for ASCII output.
+     */
+    private static final class Output {
+        private byte[] bytes;
+        private int length;
+
+        Output(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        Output write(int b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = (byte) b;
+            return this;
+        }
+
+        Output ascii(String s) {
+            for (int i = 0; i < s.length(); i++) {
+                write(s.charAt(i));
+            }
+            return this;
+        }
+
+        Output decimal(int value) {
+            if (value >= 10) {
+                decimal(value / 10);
+            }
+            return write('0' + value % 10);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+}
@@ -4,11 +4,10 @@
  */
 package dev.tamboui.image.protocol;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import dev.tamboui.buffer.Buffer;
@@ -27,6 +26,14 @@ import dev.tamboui.layout.Rect;
  * Sixel is supported by: xterm (with configuration), mlterm, mintty, WezTerm,
  * Rio, Konsole (22+), and other terminals.
  *
+ * <p>
+ * Images with more colors than the palette allows are reduced with median-cut
+ * quantization, optionally dithered (see {@link #SixelProtocol(int, boolean)}).
+ * The most recently encoded images are cached, keyed by content, size and
+ * palette settings, so an image shown on every frame is encoded only once. A
+ * cached encoding is only reused after comparing the pixels of both images, so
+ * a hash collision cannot show another image.
+ *
  * <h2>Protocol Format</h2>
  * <pre>
  * ESC P [params] q [data] ESC \
@@ -36,15 +43,20 @@ import dev.tamboui.layout.Rect;
  */
 public final class SixelProtocol implements ImageProtocol {
 
-    private static final String DCS = "\033P";  // Device Control String
-    private static final String ST = "\033\\";   // String Terminator
     private static final int MAX_COLORS = 256;
-    private static final int SIXEL_HEIGHT = 6;
-
-    // Sixel character offset - character '?' (63) represents all-zero, '~' (126) represents all-ones
-    private static final int SIXEL_OFFSET = 63;
+    private static final int MAX_CACHED_IMAGES = 16;
+
+    // Least recently used encodings are evicted first
+    private static final Map<EncodedKey, Encoded> ENCODED =
+        new LinkedHashMap<EncodedKey, Encoded>(32, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<EncodedKey, Encoded> eldest) {
+                return size() > MAX_CACHED_IMAGES;
+            }
+        };
 
     private final int maxColors;
+    private final boolean dither;
 
     /**
      * Creates a Sixel protocol with default settings (256 colors).
@@ -59,7 +71,22 @@ public final class SixelProtocol implements ImageProtocol {
      * @param maxColors maximum number of colors in the palette (1-256)
      */
     public SixelProtocol(int maxColors) {
+        this(maxColors, false);
+    }
+
+    /**
+     * Creates a Sixel protocol with a custom color limit and dithering setting.
+     * <p>
+     * Dithering diffuses the quantization error of images with more colors than
+     * the palette allows (Floyd-Steinberg), which avoids banding in photographs
+     * and gradients at the cost of some noise.
+     *
+     * @param maxColors maximum number of colors in the palette (1-256)
+     * @param dither    true to dither images whose colors are reduced
+     */
+    public SixelProtocol(int maxColors, boolean dither) {
         this.maxColors = Math.max(1, Math.min(MAX_COLORS, maxColors));
+        this.dither = dither;
     }
 
     @Override
@@ -83,6 +110,11 @@ public final class SixelProtocol implements ImageProtocol {
         rawOutput.flush();
     }
 
+    @Override
+    public void prepare(ImageData image, int width, int height) {
+        encodeSixel(image);
+    }
+
     @Override
     public boolean requiresRawOutput() {
         return true;
@@ -99,177 +131,85 @@ public final class SixelProtocol implements ImageProtocol {
         return "Sixel";
     }
 
+    @Override
+    public String variant() {
+        return "Sixel:" + maxColors + (dither ? ":dither" : "");
+    }
+
     @Override
     public TerminalImageProtocol protocolType() {
         return TerminalImageProtocol.SIXEL;
     }
 
     /**
-     * Encodes an image as Sixel data.
+     * Encodes an image as Sixel data, reusing the encoding of an image with the
+     * same content, size and palette settings.
      */
-    private byte[] encodeSixel(ImageData image) throws IOException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-
-        // Build color palette using simple color quantization
-        Map<Integer, Integer> colorToPaletteIndex = buildPalette(image);
-
-        // Start Sixel sequence
-        // Format: DCS P1 ; P2 ; P3 q
-        // P1=0: pixel aspect ratio from device
-        // P2=1: no background fill (transparent)
-        // P3=0: horizontal grid size from device
-        out.write((DCS + "0;1;0q").getBytes(StandardCharsets.US_ASCII));
-
-        // Define color palette
-        // Format: #Pc;Pu;Px;Py;Pz
-        // Pc = color register number
-        // Pu = color coordinate system (2 = RGB percentage)
-        // Px, Py, Pz = color values (0-100 for RGB percentages)
-        for (Map.Entry<Integer, Integer> entry : colorToPaletteIndex.entrySet()) {
-            int argb = entry.getKey();
-            int index = entry.getValue();
-            int r = (ImageData.red(argb) * 100) / 255;
-            int g = (ImageData.green(argb) * 100) / 255;
-            int b = (ImageData.blue(argb) * 100) / 255;
-            String colorDef = String.format("#%d;2;%d;%d;%d", index, r, g, b);
-            out.write(colorDef.getBytes(StandardCharsets.US_ASCII));
+    private byte[] encodeSixel(ImageData image) {
+        EncodedKey key = new EncodedKey(image, maxColors, dither);
+        Encoded cached;
+        synchronized (ENCODED) {
+            cached = ENCODED.get(key);
         }
-
-        // Encode image data in 6-row strips
-        int width = image.width();
-        int height = image.height();
-
-        for (int stripY = 0; stripY < height; stripY += SIXEL_HEIGHT) {
-            // For each color in the palette, output the sixels for that color in this strip
-            for (Map.Entry<Integer, Integer> entry : colorToPaletteIndex.entrySet()) {
-                int targetArgb = entry.getKey();
-                int colorIndex = entry.getValue();
-
-                StringBuilder stripData = new StringBuilder();
-                stripData.append("#").append(colorIndex);
-
-                boolean hasPixels = false;
-                int repeatCount = 0;
-                int lastSixel = -1;
-
-                for (int x = 0; x < width; x++) {
-                    // Build sixel value for this column
-                    int sixelValue = 0;
-                    for (int dy = 0; dy < SIXEL_HEIGHT; dy++) {
-                        int y = stripY + dy;
-                        if (y < height) {
-                            int pixel = image.pixelAt(x, y);
-                            if (ImageData.isVisible(pixel) && quantizeColor(pixel) == targetArgb) {
-                                sixelValue |= (1 << dy);
-                                hasPixels = true;
-                            }
-                        }
-                    }
-
-                    // Run-length encoding
-                    if (sixelValue == lastSixel) {
-                        repeatCount++;
-                    } else {
-                        if (lastSixel >= 0) {
-                            appendSixel(stripData, lastSixel, repeatCount);
-                        }
-                        lastSixel = sixelValue;
-                        repeatCount = 1;
-                    }
-                }
-
-                // Flush last run
-                if (lastSixel >= 0) {
-                    appendSixel(stripData, lastSixel, repeatCount);
-                }
-
-                // Only output if this color has pixels in this strip
-                if (hasPixels) {
-                    out.write(stripData.toString().getBytes(StandardCharsets.US_ASCII));
-                    out.write('$'); // Carriage return (back to start of line for next color)
-                }
-            }
-
-            // Move to next strip
-            if (stripY + SIXEL_HEIGHT < height) {
-                out.write('-'); // Graphics new line
-            }
+        // Rule out a hash collision outside the lock
+        if (cached != null && cached.image.contentEquals(image)) {
+            return cached.data;
         }
-
-        // End Sixel sequence
-        out.write(ST.getBytes(StandardCharsets.US_ASCII));
-
-        return out.toByteArray();
-    }
-
-    /**
-     * Appends a sixel character with optional repeat count.
-     */
-    private void appendSixel(StringBuilder sb, int sixelValue, int count) {
-        char sixelChar = (char) (SIXEL_OFFSET + sixelValue);
-        if (count > 3) {
-            // Use repeat introducer for efficiency
-            sb.append('!').append(count).append(sixelChar);
-        } else {
-            for (int i = 0; i < count; i++) {
-                sb.append(sixelChar);
-            }
+        byte[] encoded = new SixelEncoder(maxColors, dither).encode(image);
+        synchronized (ENCODED) {
+            ENCODED.put(key, new Encoded(image, encoded));
         }
+        return encoded;
     }
 
     /**
-     * Builds a color palette from the image using simple quantization.
+     * An encoding with the image it was encoded from.
      */
-    private Map<Integer, Integer> buildPalette(ImageData image) {
-        Map<Integer, Integer> colorCounts = new HashMap<>();
+    private static final class Encoded {
+        private final ImageData image;
+        private final byte[] data;
 
-        // Count color occurrences (after quantization)
-        for (int y = 0; y < image.height(); y++) {
-            for (int x = 0; x < image.width(); x++) {
-                int pixel = image.pixelAt(x, y);
-                if (ImageData.isVisible(pixel)) {
-                    int quantized = quantizeColor(pixel);
-                    colorCounts.merge(quantized, 1, Integer::sum);
-                }
-            }
+        Encoded(ImageData image, byte[] data) {
+            this.image = image;
+            this.data = data;
         }
+    }
 
-        // Select most frequent colors up to maxColors
-        Map<Integer, Integer> palette = new HashMap<>();
-        int index = 0;
-
-        // Sort by frequency and take top colors
-        colorCounts.entrySet().stream()
-            .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
-            .limit(maxColors)
-            .forEach(entry -> {
-                // Use the map size as the index since we can't modify index directly
-            });
+    private static final class EncodedKey {
+        private final long contentHash;
+        private final int width;
+        private final int height;
+        private final int maxColors;
+        private final boolean dither;
+
+        EncodedKey(ImageData image, int maxColors, boolean dither) {
+            this.contentHash = image.contentHash();
+            this.width = image.width();
+            this.height = image.height();
+            this.maxColors = maxColors;
+            this.dither = dither;
+        }
 
-        for (Map.Entry<Integer, Integer> entry : colorCounts.entrySet()) {
-            if (index >= maxColors) {
-                break;
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EncodedKey)) {
+                return false;
             }
-            palette.put(entry.getKey(), index++);
+            EncodedKey other = (EncodedKey) o;
+            return contentHash == other.contentHash && width == other.width && height == other.height
+                && maxColors == other.maxColors && dither == other.dither;
         }
 
-        return palette;
-    }
-
-    /**
-     * Quantizes a color to reduce the number of unique colors.
-     * Uses 6-6-6 RGB cube (216 colors) plus grayscale levels.
-     */
-    private static int quantizeColor(int argb) {
-        int r = ImageData.red(argb);
-        int g = ImageData.green(argb);
-        int b = ImageData.blue(argb);
-
-        // Quantize to 6 levels per channel (216 colors)
-        r = (r * 5 / 255) * 51;
-        g = (g * 5 / 255) * 51;
-        b = (b * 5 / 255) * 51;
-
-        return 0xFF000000 | (r << 16) | (g << 8) | b;
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(contentHash);
+            result = 31 * result + width;
+            result = 31 * result + height;
+            result = 31 * result + maxColors;
+            return 31 * result + (dither ? 1 : 0);
+        }
     }
 }
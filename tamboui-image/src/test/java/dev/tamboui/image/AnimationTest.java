@@ -0,0 +1,186 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.image.protocol.HalfBlockProtocol;
+import dev.tamboui.layout.Rect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnimationTest {
+
+    @Test
+    void advances_frames_as_their_delays_elapse() {
+        ImageFrame red = frame(0xFFFF0000, 100);
+        ImageFrame green = frame(0xFF00FF00, 200);
+        Animation animation = Animation.of(FrameSource.of(red, green));
+
+        assertThat(animation.currentFrame()).isSameAs(red.data());
+        assertThat(animation.advance(Duration.ofMillis(60))).isFalse();
+        assertThat(animation.advance(Duration.ofMillis(60))).isTrue();
+        assertThat(animation.currentFrame()).isSameAs(green.data());
+        assertThat(animation.advance(Duration.ofMillis(180))).isTrue();
+        assertThat(animation.currentFrame()).isSameAs(red.data());
+    }
+
+    @Test
+    void finishes_after_the_last_loop() {
+        FrameSource source = new CountingSource(2, 2);
+        Animation animation = Animation.of(source);
+
+        animation.currentFrame();
+        for (int i = 0; i < 3; i++) {
+            animation.advance(Duration.ofMillis(100));
+            assertThat(animation.isFinished()).isFalse();
+        }
+        assertThat(animation.advance(Duration.ofMillis(100))).isFalse();
+        assertThat(animation.isFinished()).isTrue();
+        assertThat(animation.currentFrame()).isNotNull();
+    }
+
+    @Test
+    void replays_short_animations_from_memory() {
+        CountingSource source = new CountingSource(3, 0);
+        Animation animation = Animation.of(source);
+
+        animation.currentFrame();
+        for (int i = 0; i < 10; i++) {
+            animation.advance(Duration.ofMillis(100));
+        }
+
+        assertThat(source.decoded.get()).isEqualTo(3);
+        assertThat(animation.cachedFrameCount()).isEqualTo(3);
+    }
+
+    @Test
+    void decodes_long_animations_again_on_each_loop() {
+        CountingSource source = new CountingSource(5, 0);
+        Animation animation = Animation.of(source, 2);
+
+        animation.currentFrame();
+        for (int i = 0; i < 9; i++) {
+            animation.advance(Duration.ofMillis(100));
+        }
+
+        assertThat(source.decoded.get()).isEqualTo(10);
+        assertThat(animation.cachedFrameCount()).isZero();
+    }
+
+    @Test
+    void skips_at_most_a_second_after_a_long_pause() {
+        CountingSource source = new CountingSource(1000, 0);
+        Animation animation = Animation.of(source, 0);
+
+        animation.currentFrame();
+        animation.advance(Duration.ofMinutes(1));
+
+        assertThat(source.decoded.get()).isLessThanOrEqualTo(12);
+    }
+
+    @Test
+    void sampling_source_shows_latest_image() {
+        ImageData first = solid(0xFFFF0000);
+        ImageData second = solid(0xFF0000FF);
+        AtomicReference<ImageData> latest = new AtomicReference<>();
+        Animation animation = Animation.of(FrameSource.sampling(latest::get, Duration.ofMillis(50)));
+
+        assertThat(animation.currentFrame().width()).isEqualTo(1);
+        latest.set(first);
+        animation.advance(Duration.ofMillis(50));
+        assertThat(animation.currentFrame()).isSameAs(first);
+        latest.set(null);
+        animation.advance(Duration.ofMillis(50));
+        assertThat(animation.currentFrame()).isSameAs(first);
+        latest.set(second);
+        animation.advance(Duration.ofMillis(50));
+        assertThat(animation.currentFrame()).isSameAs(second);
+    }
+
+    @Test
+    void does_not_cache_frames_of_sampling_sources() {
+        AtomicInteger color = new AtomicInteger();
+        Animation animation = Animation.of(FrameSource.sampling(
+            () -> solid(0xFF000000 | color.incrementAndGet()), Duration.ofMillis(50)));
+
+        animation.currentFrame();
+        for (int i = 0; i < 10; i++) {
+            animation.advance(Duration.ofMillis(50));
+        }
+
+        assertThat(FrameSource.sampling(() -> null, Duration.ofMillis(50)).isReplayable()).isFalse();
+        assertThat(animation.cachedFrameCount()).isZero();
+    }
+
+    @Test
+    void live_frames_do_not_fill_the_shared_scaled_image_cache() {
+        AtomicInteger color = new AtomicInteger();
+        Animation animation = Animation.of(FrameSource.sampling(
+            () -> solid(0xFF000000 | color.incrementAndGet()), Duration.ofMillis(50)));
+        AnimatedImage widget = AnimatedImage.builder()
+            .animation(animation)
+            .protocol(new HalfBlockProtocol())
+            .build();
+        Rect area = new Rect(0, 0, 4, 2);
+        Image.clearScaledImageCache();
+
+        for (int i = 0; i < 10; i++) {
+            widget.render(area, Buffer.empty(area));
+            animation.advance(Duration.ofMillis(50));
+        }
+
+        assertThat(Image.scaledImageCacheSize()).isZero();
+        assertThat(animation.scaledFrames()).hasSize(1);
+    }
+
+    private static ImageFrame frame(int argb, long delayMillis) {
+        return ImageFrame.of(solid(argb), Duration.ofMillis(delayMillis));
+    }
+
+    private static ImageData solid(int argb) {
+        return ImageData.fromArgbArray(2, 2, new int[] {argb, argb, argb, argb});
+    }
+
+    /**
+     * A rewindable source counting decoded frames.
+     */
+    private static final class CountingSource implements FrameSource {
+        private final int frames;
+        private final int loops;
+        private final AtomicInteger decoded = new AtomicInteger();
+        private int index;
+
+        CountingSource(int frames, int loops) {
+            this.frames = frames;
+            this.loops = loops;
+        }
+
+        @Override
+        public ImageFrame next() {
+            if (index == frames) {
+                return null;
+            }
+            decoded.incrementAndGet();
+            return frame(0xFF000000 | index++, 100);
+        }
+
+        @Override
+        public boolean rewind() {
+            index = 0;
+            return true;
+        }
+
+        @Override
+        public int loopCount() {
+            return loops;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+/**
+ * Two 2x2 images with different pixels but the same {@link ImageData#contentHash()},
+ * to check that caches keyed by the hash rule out collisions.
+ */
+public final class CollidingImages {
+
+    private static final int RED = 0xFFFF0000;
+
+    private CollidingImages() {
+    }
+
+    /**
+     * Returns a solid red image.
+     *
+     * @return the first image
+     */
+    public static ImageData first() {
+        return ImageData.fromArgbArray(2, 2, new int[] {RED, RED, RED, RED});
+    }
+
+    /**
+     * Returns an image whose content hash equals the one of {@link #first()}.
+     *
+     * @return the second image
+     */
+    public static ImageData second() {
+        return ImageData.fromArgbArray(2, 2, new int[] {0xFF012FBB, 0xFF00FF00, 0x6FC15C3F, 0xFF02972F});
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.CRC32;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrameSourceTest {
+
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+
+    @Test
+    void decodes_gif_frames_with_delays_and_loops() throws IOException {
+        byte[] gif = gif(3, solidImage(4, 4, RED), solidImage(4, 4, BLUE));
+
+        try (FrameSource source = FrameSource.fromBytes(gif)) {
+            ImageFrame first = source.next();
+            ImageFrame second = source.next();
+
+            assertThat(first.data().pixelAt(0, 0)).isEqualTo(RED);
+            assertThat(first.delay()).isEqualTo(Duration.ofMillis(70));
+            assertThat(second.data().pixelAt(3, 3)).isEqualTo(BLUE);
+            assertThat(source.next()).isNull();
+            assertThat(source.loopCount()).isEqualTo(4);
+
+            assertThat(source.rewind()).isTrue();
+            assertThat(source.next().data().pixelAt(0, 0)).isEqualTo(RED);
+        }
+    }
+
+    @Test
+    void decodes_apng_frames_over_previous_ones() throws IOException {
+        BufferedImage patch = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        patch.setRGB(0, 0, BLUE);
+        byte[] apng = apng(solidImage(4, 4, RED), patch, 1, 1);
+
+        try (FrameSource source = FrameSource.fromBytes(apng)) {
+            ImageFrame first = source.next();
+            ImageFrame second = source.next();
+
+            assertThat(first.data().pixelAt(1, 1)).isEqualTo(RED);
+            assertThat(first.delay()).isEqualTo(Duration.ofMillis(50));
+            // Blended over the first frame: transparent pixels keep it
+            assertThat(second.data().pixelAt(1, 1)).isEqualTo(BLUE);
+            assertThat(second.data().pixelAt(2, 2)).isEqualTo(RED);
+            assertThat(second.data().pixelAt(0, 0)).isEqualTo(RED);
+            assertThat(source.next()).isNull();
+            assertThat(source.loopCount()).isZero();
+        }
+    }
+
+    @Test
+    void still_images_have_a_single_frame() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(solidImage(3, 3, RED), "png", png);
+
+        try (FrameSource source = FrameSource.fromBytes(png.toByteArray())) {
+            assertThat(source.next().data().pixelAt(2, 2)).isEqualTo(RED);
+            assertThat(source.next()).isNull();
+        }
+    }
+
+    private static BufferedImage solidImage(int width, int height, int argb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        return image;
+    }
+
+    private static byte[] gif(int repetitions, BufferedImage... frames) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < frames.length; i++) {
+                IIOMetadata metadata = writer.getDefaultImageMetadata(
+                    ImageTypeSpecifier.createFromRenderedImage(frames[i]), null);
+                String format = metadata.getNativeMetadataFormatName();
+                IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+                IIOMetadataNode control = new IIOMetadataNode("GraphicControlExtension");
+                control.setAttribute("disposalMethod", "none");
+                control.setAttribute("userInputFlag", "FALSE");
+                control.setAttribute("transparentColorFlag", "FALSE");
+                control.setAttribute("delayTime", "7");
+                control.setAttribute("transparentColorIndex", "0");
+                root.appendChild(control);
+                if (i == 0) {
+                    IIOMetadataNode extensions = new IIOMetadataNode("ApplicationExtensions");
+                    IIOMetadataNode netscape = new IIOMetadataNode("ApplicationExtension");
+                    netscape.setAttribute("applicationID", "NETSCAPE");
+                    netscape.setAttribute("authenticationCode", "2.0");
+                    netscape.setUserObject(new byte[] {1, (byte) repetitions, 0});
+                    extensions.appendChild(netscape);
+                    root.appendChild(extensions);
+                }
+                metadata.setFromTree(format, root);
+                writer.writeToSequence(new IIOImage(frames[i], null, metadata), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Builds a two-frame APNG: the default image, then a patch blended over it.
+     */
+    private static byte[] apng(BufferedImage first, BufferedImage patch, int x, int y) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        byte[] firstPng = png(first);
+        byte[] patchPng = png(patch);
+        chunk(data, "IHDR", body(firstPng, "IHDR"));
+        chunk(data, "acTL", ints(2, 0));
+        chunk(data, "fcTL", frameControl(0, first.getWidth(), first.getHeight(), 0, 0, 0));
+        chunk(data, "IDAT", body(firstPng, "IDAT"));
+        chunk(data, "fcTL", frameControl(1, patch.getWidth(), patch.getHeight(), x, y, 1));
+        byte[] patchData = body(patchPng, "IDAT");
+        byte[] fdat = new byte[patchData.length + 4];
+        System.arraycopy(ints(2), 0, fdat, 0, 4);
+        System.arraycopy(patchData, 0, fdat, 4, patchData.length);
+        chunk(data, "fdAT", fdat);
+        chunk(data, "IEND", new byte[0]);
+        return out.toByteArray();
+    }
+
+    private static byte[] frameControl(int sequence, int width, int height, int x, int y, int blend)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(sequence);
+        data.writeInt(width);
+        data.writeInt(height);
+        data.writeInt(x);
+        data.writeInt(y);
+        data.writeShort(5);
+        data.writeShort(100);
+        data.writeByte(0);
+        data.writeByte(blend);
+        return out.toByteArray();
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the concatenated bodies of the chunks of a type.
+     */
+    private static byte[] body(byte[] png, String type) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int offset = 8;
+        while (offset + 8 <= png.length) {
+            int length = (png[offset] & 0xFF) << 24 | (png[offset + 1] & 0xFF) << 16
+                | (png[offset + 2] & 0xFF) << 8 | (png[offset + 3] & 0xFF);
+            if (type.equals(new String(png, offset + 4, 4, StandardCharsets.US_ASCII))) {
+                out.write(png, offset + 8, length);
+            }
+            offset += length + 12;
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] ints(int... values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        for (int value : values) {
+            data.writeInt(value);
+        }
+        return out.toByteArray();
+    }
+
+    private static void chunk(DataOutputStream out, String type, byte[] body) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(body);
+        out.writeInt(body.length);
+        out.write(typeBytes);
+        out.write(body);
+        out.writeInt((int) crc.getValue());
+    }
+}
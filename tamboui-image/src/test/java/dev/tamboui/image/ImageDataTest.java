@@ -222,6 +222,95 @@ class ImageDataTest {
     /**
      * Creates a test image filled with a single color.
      */
+    @Test
+    void contentHash_depends_on_pixels_and_size() {
+        ImageData red = ImageData.fromBufferedImage(createTestImage(4, 4, 0xFFFF0000));
+        ImageData otherRed = ImageData.fromBufferedImage(createTestImage(4, 4, 0xFFFF0000));
+        ImageData green = ImageData.fromBufferedImage(createTestImage(4, 4, 0xFF00FF00));
+        ImageData wideRed = ImageData.fromBufferedImage(createTestImage(8, 2, 0xFFFF0000));
+
+        assertThat(red.contentHash()).isEqualTo(otherRed.contentHash());
+        assertThat(red.contentHash()).isNotEqualTo(green.contentHash());
+        assertThat(red.contentHash()).isNotEqualTo(wideRed.contentHash());
+    }
+
+    @Test
+    void contentEquals_compares_pixels_and_size() {
+        ImageData red = ImageData.fromBufferedImage(createTestImage(4, 4, 0xFFFF0000));
+
+        assertThat(red.contentEquals(ImageData.fromBufferedImage(createTestImage(4, 4, 0xFFFF0000)))).isTrue();
+        assertThat(red.contentEquals(ImageData.fromBufferedImage(createTestImage(4, 4, 0xFF00FF00)))).isFalse();
+        assertThat(red.contentEquals(ImageData.fromBufferedImage(createTestImage(8, 2, 0xFFFF0000)))).isFalse();
+        assertThat(red.contentEquals(null)).isFalse();
+    }
+
+    @Test
+    void resize_caches_several_sizes() {
+        ImageData data = ImageData.fromBufferedImage(createTestImage(10, 10, 0xFFFF0000));
+
+        ImageData small = data.resize(5, 5);
+        ImageData large = data.resize(20, 20);
+
+        assertThat(data.resize(5, 5)).isSameAs(small);
+        assertThat(data.resize(20, 20)).isSameAs(large);
+    }
+
+    @Test
+    void resize_averages_pixels_when_shrinking() {
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < 2; y++) {
+            for (int x = 0; x < 4; x++) {
+                source.setRGB(x, y, (x + y) % 2 == 0 ? 0xFFFFFFFF : 0xFF000000);
+            }
+        }
+
+        ImageData resized = ImageData.fromBufferedImage(source).resize(2, 1);
+
+        assertThat(resized.pixelAt(0, 0)).isEqualTo(0xFF808080);
+        assertThat(resized.pixelAt(1, 0)).isEqualTo(0xFF808080);
+    }
+
+    @Test
+    void resize_interpolates_when_enlarging() {
+        BufferedImage source = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        source.setRGB(0, 0, 0xFF000000);
+        source.setRGB(1, 0, 0xFFFFFFFF);
+
+        ImageData resized = ImageData.fromBufferedImage(source).resize(8, 3);
+
+        assertThat(resized.pixelAt(0, 0)).isEqualTo(0xFF000000);
+        assertThat(resized.pixelAt(7, 2)).isEqualTo(0xFFFFFFFF);
+        for (int x = 1; x < 8; x++) {
+            assertThat(ImageData.red(resized.pixelAt(x, 1)))
+                .isGreaterThanOrEqualTo(ImageData.red(resized.pixelAt(x - 1, 1)));
+        }
+    }
+
+    @Test
+    void resize_does_not_darken_edges_of_transparent_areas() {
+        BufferedImage source = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        source.setRGB(0, 0, 0xFFFF0000);
+        source.setRGB(1, 1, 0xFFFF0000);
+
+        ImageData resized = ImageData.fromBufferedImage(source).resize(1, 1);
+
+        assertThat(resized.pixelAt(0, 0)).isEqualTo(0x80FF0000);
+    }
+
+    @Test
+    void resize_of_large_image_keeps_uniform_color() {
+        ImageData data = ImageData.fromBufferedImage(createTestImage(1000, 700, 0xFF336699));
+
+        ImageData smaller = data.resize(333, 201);
+        ImageData larger = data.resize(1500, 1100);
+
+        for (ImageData resized : new ImageData[] {smaller, larger}) {
+            for (int pixel : resized.toArgbArray()) {
+                assertThat(pixel).isEqualTo(0xFF336699);
+            }
+        }
+    }
+
     private BufferedImage createTestImage(int width, int height, int argb) {
         BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         for (int y = 0; y < height; y++) {
@@ -5,13 +5,17 @@
 package dev.tamboui.image;
 
 import java.awt.image.BufferedImage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.image.protocol.BrailleProtocol;
 import dev.tamboui.image.protocol.HalfBlockProtocol;
+import dev.tamboui.image.protocol.SixelProtocol;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Style;
 import dev.tamboui.widgets.block.Block;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -247,6 +251,80 @@ class ImageTest {
         // Should render without error
     }
 
+    @Test
+    void render_reuses_scaled_image_across_widget_instances() {
+        Image.clearScaledImageCache();
+        ImageData data = createTestImage(20, 10, 0xFFFF0000);
+        Rect area = new Rect(0, 0, 10, 10);
+
+        for (int i = 0; i < 3; i++) {
+            Image image = Image.builder()
+                .data(data)
+                .scaling(ImageScaling.FILL)
+                .protocol(new HalfBlockProtocol())
+                .build();
+            image.render(area, Buffer.empty(area));
+        }
+
+        assertThat(Image.scaledImageCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void scaled_image_is_not_reused_for_images_with_colliding_hashes() {
+        Image.clearScaledImageCache();
+        Rect area = new Rect(0, 0, 4, 2);
+        Buffer first = Buffer.empty(area);
+        Buffer second = Buffer.empty(area);
+
+        Image.builder().data(CollidingImages.first()).protocol(new HalfBlockProtocol()).build()
+            .render(area, first);
+        Image.builder().data(CollidingImages.second()).protocol(new HalfBlockProtocol()).build()
+            .render(area, second);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(Image.scaledImageCacheSize()).isEqualTo(2);
+    }
+
+    @Test
+    void scaled_images_are_keyed_by_protocol_settings() {
+        ImageData data = createTestImage(10, 10, 0xFFFF0000);
+
+        Image.ScaleKey fewColors = new Image.ScaleKey(data, ImageScaling.FIT, new SixelProtocol(16), 80, 80);
+        Image.ScaleKey dithered = new Image.ScaleKey(data, ImageScaling.FIT, new SixelProtocol(16, true), 80, 80);
+        Image.ScaleKey same = new Image.ScaleKey(data, ImageScaling.FIT, new SixelProtocol(16), 80, 80);
+
+        assertThat(fewColors).isNotEqualTo(dithered);
+        assertThat(fewColors).isNotEqualTo(new Image.ScaleKey(data, ImageScaling.FIT, new SixelProtocol(), 80, 80));
+        assertThat(fewColors).isEqualTo(same);
+        assertThat(fewColors.hashCode()).isEqualTo(same.hashCode());
+    }
+
+    @Test
+    void async_render_shows_placeholder_until_image_is_ready() throws InterruptedException {
+        Image.clearScaledImageCache();
+        CountDownLatch ready = new CountDownLatch(1);
+        Image image = Image.builder()
+            .data(createTestImage(40, 40, 0xFF00FF00))
+            .protocol(new HalfBlockProtocol())
+            .async(true)
+            .placeholder((area, buffer) -> buffer.setString(area.x(), area.y(), "...", Style.EMPTY))
+            .onReady(ready::countDown)
+            .build();
+        Rect area = new Rect(0, 0, 5, 5);
+
+        Buffer first = Buffer.empty(area);
+        image.render(area, first);
+
+        assertThat(first.get(0, 0).symbol()).isEqualTo(".");
+        assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Buffer second = Buffer.empty(area);
+        image.render(area, second);
+
+        assertThat(second.get(0, 0).symbol()).isEqualTo("▀");
+        assertThat(Image.scaledImageCacheSize()).isEqualTo(1);
+    }
+
     private ImageData createTestImage(int width, int height, int argb) {
         BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         for (int y = 0; y < height; y++) {
@@ -6,10 +6,12 @@ package dev.tamboui.image.protocol;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import dev.tamboui.buffer.Buffer;
+import dev.tamboui.image.CollidingImages;
 import dev.tamboui.image.ImageData;
 import dev.tamboui.layout.Rect;
 import dev.tamboui.style.Color;
@@ -50,6 +52,20 @@ class HalfBlockProtocolTest {
         // Should not throw
     }
 
+    @Test
+    void conversion_is_not_reused_for_images_with_colliding_hashes() throws IOException {
+        HalfBlockProtocol protocol = new HalfBlockProtocol();
+        Rect area = new Rect(0, 0, 2, 1);
+        Buffer first = Buffer.empty(area);
+        Buffer second = Buffer.empty(area);
+
+        protocol.render(CollidingImages.first(), area, first, null);
+        protocol.render(CollidingImages.second(), area, second, null);
+
+        assertThat(second.get(0, 0)).isNotEqualTo(first.get(0, 0));
+        assertThat(second.get(1, 0)).isNotEqualTo(first.get(1, 0));
+    }
+
     @Test
     void render_solid_color_fills_with_upper_half_blocks() throws IOException {
         HalfBlockProtocol protocol = new HalfBlockProtocol();
@@ -148,6 +164,27 @@ class HalfBlockProtocolTest {
         assertThat(buffer.get(0, 0).symbol()).isEqualTo(" ");
     }
 
+    @Test
+    void render_consecutive_frames_updates_changed_cells() throws IOException {
+        HalfBlockProtocol protocol = new HalfBlockProtocol();
+        int[] pixels = new int[4 * 4];
+        Arrays.fill(pixels, 0xFFFF0000);
+        ImageData first = ImageData.fromArgbArray(4, 4, pixels);
+        pixels[2 * 4 + 3] = 0xFF0000FF;
+        ImageData second = ImageData.fromArgbArray(4, 4, pixels);
+        Rect area = new Rect(0, 0, 4, 2);
+
+        Buffer firstBuffer = Buffer.empty(area);
+        protocol.render(first, area, firstBuffer, null);
+        Buffer secondBuffer = Buffer.empty(area);
+        protocol.render(second, area, secondBuffer, null);
+
+        assertThat(secondBuffer.get(0, 0)).isEqualTo(firstBuffer.get(0, 0));
+        assertThat(secondBuffer.get(3, 0)).isEqualTo(firstBuffer.get(3, 0));
+        assertThat(secondBuffer.get(3, 1).style().fg()).contains(Color.rgb(0, 0, 255));
+        assertThat(firstBuffer.get(3, 1).style().fg()).contains(Color.rgb(255, 0, 0));
+    }
+
     private ImageData createSolidImage(int width, int height, int argb) {
         BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         for (int y = 0; y < height; y++) {
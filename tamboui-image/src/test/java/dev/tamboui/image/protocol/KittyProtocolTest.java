@@ -0,0 +1,119 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image.protocol;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.image.ImageData;
+import dev.tamboui.layout.Rect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KittyProtocolTest {
+
+    private final Rect area = new Rect(2, 1, 10, 5);
+    private final Buffer buffer = Buffer.empty(new Rect(0, 0, 20, 10));
+
+    @Test
+    void first_render_transmits_then_places() throws IOException {
+        KittyProtocol protocol = new KittyProtocol(new KittyImageCache(4));
+
+        String output = render(protocol, createTestImage(4, 4, 0xFFFF0000));
+
+        assertThat(output).contains("a=t,f=100,t=d,i=1,");
+        assertThat(output).contains("a=p,i=1,");
+        assertThat(output).contains(",c=10,r=5,");
+    }
+
+    @Test
+    void later_renders_only_place_the_image() throws IOException {
+        KittyProtocol protocol = new KittyProtocol(new KittyImageCache(4));
+        render(protocol, createTestImage(4, 4, 0xFFFF0000));
+
+        // Same content in a new instance is recognized by its hash
+        String output = render(protocol, createTestImage(4, 4, 0xFFFF0000));
+
+        assertThat(output).doesNotContain("a=t");
+        assertThat(output).contains("a=p,i=1,");
+    }
+
+    @Test
+    void different_content_gets_a_new_image_id() throws IOException {
+        KittyProtocol protocol = new KittyProtocol(new KittyImageCache(4));
+        render(protocol, createTestImage(4, 4, 0xFFFF0000));
+
+        String output = render(protocol, createTestImage(4, 4, 0xFF00FF00));
+
+        assertThat(output).contains("a=t,f=100,t=d,i=2,");
+    }
+
+    @Test
+    void evicted_images_are_deleted_from_the_terminal() throws IOException {
+        KittyImageCache cache = new KittyImageCache(1);
+        KittyProtocol protocol = new KittyProtocol(cache);
+        render(protocol, createTestImage(4, 4, 0xFFFF0000));
+        render(protocol, createTestImage(4, 4, 0xFF00FF00));
+
+        String output = render(protocol, createTestImage(4, 4, 0xFF0000FF));
+
+        assertThat(output).contains("a=d,d=I,i=1,");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void clear_deletes_all_images_on_next_render() throws IOException {
+        KittyImageCache cache = new KittyImageCache(4);
+        KittyProtocol protocol = new KittyProtocol(cache);
+        ImageData image = createTestImage(4, 4, 0xFFFF0000);
+        render(protocol, image);
+
+        cache.clear();
+        String output = render(protocol, image);
+
+        assertThat(output).contains("a=d,d=I,i=1,");
+        assertThat(output).contains("a=t,f=100,t=d,i=2,");
+    }
+
+    @Test
+    void default_cache_belongs_to_the_terminal_output() throws IOException {
+        KittyProtocol protocol = new KittyProtocol();
+        ImageData image = createTestImage(4, 4, 0xFFFF0000);
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        protocol.render(image, area, buffer, first);
+        protocol.render(image, area, buffer, second);
+        int transmittedToFirst = first.size();
+        protocol.render(image, area, buffer, first);
+
+        // Each terminal is sent the image once, whichever terminal saw it before
+        assertThat(new String(second.toByteArray(), StandardCharsets.US_ASCII)).contains("a=t,");
+        assertThat(new String(first.toByteArray(), transmittedToFirst, first.size() - transmittedToFirst,
+            StandardCharsets.US_ASCII)).doesNotContain("a=t").contains("a=p,");
+        assertThat(KittyImageCache.forOutput(first)).isNotSameAs(KittyImageCache.forOutput(second));
+    }
+
+    private String render(KittyProtocol protocol, ImageData image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        protocol.render(image, area, buffer, out);
+        return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static ImageData createTestImage(int width, int height, int argb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        return ImageData.fromBufferedImage(image);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.image.protocol;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.image.CollidingImages;
+import dev.tamboui.image.ImageData;
+import dev.tamboui.layout.Rect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SixelProtocolTest {
+
+    private final Rect area = new Rect(2, 1, 10, 5);
+    private final Buffer buffer = Buffer.empty(new Rect(0, 0, 20, 10));
+
+    @Test
+    void few_colors_are_encoded_exactly() throws IOException {
+        ImageData image = createImage(7, 13, (x, y) ->
+            x == 3 && y == 4 ? 0x00000000 : x < 2 ? 0xFFFF0000 : y < 6 ? 0xFF00FF00 : 0xFF336699);
+
+        Decoded decoded = decode(render(new SixelProtocol(), image));
+
+        assertThat(decoded.palette).hasSize(3);
+        for (int y = 0; y < image.height(); y++) {
+            for (int x = 0; x < image.width(); x++) {
+                int pixel = image.pixelAt(x, y);
+                Integer color = decoded.pixels.get(y * 1000 + x);
+                if (ImageData.isVisible(pixel)) {
+                    assertThat(color).isEqualTo(percentRgb(pixel));
+                } else {
+                    assertThat(color).isNull();
+                }
+            }
+        }
+    }
+
+    @Test
+    void repeated_sixels_are_run_length_encoded() throws IOException {
+        String output = render(new SixelProtocol(), createImage(100, 6, (x, y) -> 0xFF0000FF));
+
+        assertThat(output).contains("#0!100~");
+    }
+
+    @Test
+    void many_colors_are_reduced_to_the_palette_size() throws IOException {
+        ImageData image = createImage(64, 64, (x, y) -> 0xFF000000 | (x * 4) << 16 | (y * 4) << 8 | (x + y) * 2);
+
+        Decoded small = decode(render(new SixelProtocol(16), image));
+        Decoded large = decode(render(new SixelProtocol(256), image));
+
+        assertThat(small.palette.size()).isLessThanOrEqualTo(16);
+        assertThat(large.palette.size()).isLessThanOrEqualTo(256);
+        assertThat(small.pixels).hasSize(64 * 64);
+        // Pixels map to close palette colors, closer with a larger palette
+        assertThat(averageError(image, small)).isLessThan(20);
+        assertThat(averageError(image, large)).isLessThan(5);
+    }
+
+    @Test
+    void dithering_keeps_the_palette_size() throws IOException {
+        ImageData image = createImage(40, 30, (x, y) -> 0xFF000000 | (x * 6) << 16 | (y * 8) << 8 | 0x40);
+
+        String plain = render(new SixelProtocol(8, false), image);
+        String dithered = render(new SixelProtocol(8, true), image);
+
+        assertThat(dithered).isNotEqualTo(plain);
+        assertThat(decode(dithered).palette.size()).isLessThanOrEqualTo(8);
+        assertThat(decode(dithered).pixels).hasSize(40 * 30);
+    }
+
+    @Test
+    void encoding_is_reused_for_images_with_the_same_content() throws IOException {
+        SixelProtocol protocol = new SixelProtocol();
+
+        String first = render(protocol, createImage(10, 10, (x, y) -> 0xFF000000 | x * 20 << 8));
+        String second = render(protocol, createImage(10, 10, (x, y) -> 0xFF000000 | x * 20 << 8));
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void encoding_is_not_reused_for_images_with_colliding_hashes() throws IOException {
+        SixelProtocol protocol = new SixelProtocol();
+        ImageData first = CollidingImages.first();
+        ImageData second = CollidingImages.second();
+        assertThat(second.contentHash()).isEqualTo(first.contentHash());
+
+        String rendered = render(protocol, first);
+
+        assertThat(render(protocol, second)).isNotEqualTo(rendered);
+    }
+
+    private String render(SixelProtocol protocol, ImageData image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        protocol.render(image, area, buffer, out);
+        return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private interface PixelFunction {
+        int argb(int x, int y);
+    }
+
+    private static ImageData createImage(int width, int height, PixelFunction pixels) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, pixels.argb(x, y));
+            }
+        }
+        return ImageData.fromBufferedImage(image);
+    }
+
+    private static int percentRgb(int argb) {
+        return percent(ImageData.red(argb)) << 16 | percent(ImageData.green(argb)) << 8 | percent(ImageData.blue(argb));
+    }
+
+    private static int percent(int component) {
+        return (component * 100 + 127) / 255;
+    }
+
+    private static long averageError(ImageData image, Decoded decoded) {
+        long error = 0;
+        for (int y = 0; y < image.height(); y++) {
+            for (int x = 0; x < image.width(); x++) {
+                error += distance(percentRgb(image.pixelAt(x, y)), decoded.pixels.get(y * 1000 + x));
+            }
+        }
+        return error / ((long) image.width() * image.height());
+    }
+
+    private static int distance(int a, int b) {
+        return Math.abs((a >> 16) - (b >> 16)) + Math.abs((a >> 8 & 0xFF) - (b >> 8 & 0xFF)) + Math.abs((a & 0xFF) - (b & 0xFF));
+    }
+
+    /**
+     * Sixel data decoded into palette colors (as RGB percentages) by pixel.
+     */
+    private static final class Decoded {
+        final Map<Integer, Integer> palette = new HashMap<>();
+        final Map<Integer, Integer> pixels = new HashMap<>();  // y * 1000 + x
+    }
+
+    private static Decoded decode(String output) {
+        Decoded decoded = new Decoded();
+        int i = output.indexOf('q') + 1;
+        int end = output.indexOf("\033\\");
+        int x = 0;
+        int bandY = 0;
+        int color = 0;
+        while (i < end) {
+            char c = output.charAt(i);
+            if (c == '"') {
+                i = skipNumbers(output, i + 1);
+            } else if (c == '#') {
+                int[] numbers = new int[5];
+                int count = 0;
+                i++;
+                while (true) {
+                    int start = i;
+                    while (Character.isDigit(output.charAt(i))) {
+                        i++;
+                    }
+                    numbers[count++] = Integer.parseInt(output.substring(start, i));
+                    if (output.charAt(i) != ';') {
+                        break;
+                    }
+                    i++;
+                }
+                color = numbers[0];
+                if (count == 5) {
+                    decoded.palette.put(color, numbers[2] << 16 | numbers[3] << 8 | numbers[4]);
+                }
+            } else if (c == '$') {
+                x = 0;
+                i++;
+            } else if (c == '-') {
+                x = 0;
+                bandY += 6;
+                i++;
+            } else {
+                int repeat = 1;
+                if (c == '!') {
+                    int start = ++i;
+                    while (Character.isDigit(output.charAt(i))) {
+                        i++;
+                    }
+                    repeat = Integer.parseInt(output.substring(start, i));
+                    c = output.charAt(i);
+                }
+                int bits = c - 63;
+                for (int r = 0; r < repeat; r++, x++) {
+                    for (int dy = 0; dy < 6; dy++) {
+                        if ((bits & (1 << dy)) != 0) {
+                            decoded.pixels.put((bandY + dy) * 1000 + x, decoded.palette.get(color));
+                        }
+                    }
+                }
+                i++;
+            }
+        }
+        return decoded;
+    }
+
+    private static int skipNumbers(String output, int i) {
+        while (Character.isDigit(output.charAt(i)) || output.charAt(i) == ';') {
+            i++;
+        }
+        return i;
+    }
+}
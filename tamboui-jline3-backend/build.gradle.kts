@@ -1,5 +1,6 @@
 plugins {
     id("dev.tamboui.java-library")
+    id("dev.tamboui.jmh")
 }
 
 description = "JLine 3 backend for TamboUI TUI library"
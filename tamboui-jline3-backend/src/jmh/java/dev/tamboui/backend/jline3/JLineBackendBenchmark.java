@@ -0,0 +1,105 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.jline3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jline.terminal.Terminal;
+import org.jline.terminal.impl.DumbTerminal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Style;
+
+/**
+ * Measures writing a frame through the terminal writer and in direct output
+ * mode: a full 200x50 diff with alternating styles, followed by raw bytes as an
+ * image protocol would write them, then a flush.
+ * <p>
+ * The terminal writes to a stream that discards its input, so only the cost of
+ * encoding and handing the frame to the terminal is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JLineBackendBenchmark {
+
+    private static final int WIDTH = 200;
+    private static final int HEIGHT = 50;
+
+    @Param({"false", "true"})
+    boolean directOutput;
+
+    private JLineBackend backend;
+    private List<CellUpdate> updates;
+    private byte[] raw;
+
+    @Setup
+    public void setUp() throws IOException {
+        Terminal terminal = new DumbTerminal("benchmark", Terminal.TYPE_DUMB,
+            new ByteArrayInputStream(new byte[0]), new NullOutputStream(), StandardCharsets.UTF_8);
+        backend = new JLineBackend(terminal, directOutput);
+        Style[] styles = {
+            Style.EMPTY,
+            Style.EMPTY.fg(Color.CYAN).bold(),
+            Style.EMPTY.fg(Color.rgb(255, 128, 0)).bg(Color.BLUE)
+        };
+        updates = new ArrayList<>(WIDTH * HEIGHT);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                String symbol = String.valueOf((char) ('a' + (x + y) % 26));
+                updates.add(new CellUpdate(x, y, Cell.of(symbol, styles[(x / 8 + y) % styles.length])));
+            }
+        }
+        raw = new byte[4096];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = (byte) ('A' + i % 26);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        backend.close();
+    }
+
+    @Benchmark
+    public void drawFrame() throws IOException {
+        backend.draw(updates);
+        backend.writeRaw(raw);
+        backend.flush();
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
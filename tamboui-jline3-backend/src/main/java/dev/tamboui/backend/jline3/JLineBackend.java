@@ -4,8 +4,12 @@
  */
 package dev.tamboui.backend.jline3;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.Objects;
 
 import org.jline.terminal.Attributes;
 import org.jline.terminal.Terminal;
@@ -22,14 +26,30 @@ import dev.tamboui.terminal.Mode2027Support;
 
 /**
  * JLine 3 based backend for terminal operations.
+ * <p>
+ * By default, output goes through the terminal's {@link Terminal#writer() writer},
+ * which lets JLine translate escape sequences where the platform requires it.
+ * In direct output mode, the complete frame is instead encoded into one reusable
+ * byte buffer and written to the terminal's {@link Terminal#output() output stream}
+ * in a single call on {@link #flush()}. Direct output is selected with
+ * {@link #JLineBackend(boolean)} or {@link #JLineBackend(Terminal, boolean)}, or,
+ * through {@link JLineBackendProvider}, with the {@value #DIRECT_OUTPUT_PROPERTY}
+ * system property.
  */
 public class JLineBackend extends AbstractBackend {
 
     private static final String ESC = "\033";
     private static final String CSI = ESC + "[";
 
+    /**
+     * System property enabling direct output mode for backends created by
+     * {@link JLineBackendProvider}.
+     */
+    public static final String DIRECT_OUTPUT_PROPERTY = "tamboui.jline.directOutput";
+
     private final Terminal terminal;
     private final PrintWriter writer;
+    private final FrameBuffer frame;  // Null unless in direct output mode
     private final NonBlockingReader reader;
     private Attributes savedAttributes;
     private boolean inAlternateScreen;
@@ -42,11 +62,37 @@ public class JLineBackend extends AbstractBackend {
      * @throws IOException if the terminal cannot be opened
      */
     public JLineBackend() throws IOException {
-        this.terminal = TerminalBuilder.builder()
+        this(false);
+    }
+
+    /**
+     * Creates a new JLine 3 backend using the system terminal.
+     *
+     * @param directOutput true to encode frames into a byte buffer written to the
+     *                     terminal output stream in one call, false to write through
+     *                     the terminal writer
+     * @throws IOException if the terminal cannot be opened
+     */
+    public JLineBackend(boolean directOutput) throws IOException {
+        this(TerminalBuilder.builder()
             .system(true)
             .jansi(true)
-            .build();
+            .build(), directOutput);
+    }
+
+    /**
+     * Creates a new JLine 3 backend on the given terminal, for example a terminal
+     * built over a pair of streams. The backend closes the terminal when it is closed.
+     *
+     * @param terminal     the JLine terminal
+     * @param directOutput true to encode frames into a byte buffer written to the
+     *                     terminal output stream in one call, false to write through
+     *                     the terminal writer
+     */
+    public JLineBackend(Terminal terminal, boolean directOutput) {
+        this.terminal = Objects.requireNonNull(terminal, "terminal cannot be null");
         this.writer = terminal.writer();
+        this.frame = directOutput ? new FrameBuffer(terminal.encoding()) : null;
         this.reader = terminal.reader();
         this.inAlternateScreen = false;
         this.mouseEnabled = false;
@@ -55,14 +101,32 @@ public class JLineBackend extends AbstractBackend {
 
     @Override
     public void flush() throws IOException {
-        writer.flush();
+        if (frame == null) {
+            writer.flush();
+            return;
+        }
+        OutputStream output = terminal.output();
+        if (frame.size() > 0) {
+            frame.writeTo(output);
+            frame.reset();
+        }
+        output.flush();
+    }
+
+    /**
+     * Returns whether this backend is in direct output mode.
+     *
+     * @return true if frames are written to the terminal output stream in one call
+     */
+    public boolean isDirectOutput() {
+        return frame != null;
     }
 
     @Override
     public void clear() throws IOException {
-        writer.print(CSI + "2J");  // Clear entire screen
-        writer.print(CSI + "H");    // Move cursor to home
-        writer.flush();
+        write(CSI + "2J");  // Clear entire screen
+        write(CSI + "H");    // Move cursor to home
+        flush();
     }
 
     @Override
@@ -72,14 +136,14 @@ public class JLineBackend extends AbstractBackend {
 
     @Override
     public void showCursor() throws IOException {
-        writer.print(CSI + "?25h");
-        writer.flush();
+        write(CSI + "?25h");
+        flush();
     }
 
     @Override
     public void hideCursor() throws IOException {
-        writer.print(CSI + "?25l");
-        writer.flush();
+        write(CSI + "?25l");
+        flush();
     }
 
     @Override
@@ -91,15 +155,13 @@ public class JLineBackend extends AbstractBackend {
 
     @Override
     public void enterAlternateScreen() throws IOException {
-        terminal.puts(InfoCmp.Capability.enter_ca_mode);
-        writer.flush();
+        puts(InfoCmp.Capability.enter_ca_mode);
         inAlternateScreen = true;
     }
 
     @Override
     public void leaveAlternateScreen() throws IOException {
-        terminal.puts(InfoCmp.Capability.exit_ca_mode);
-        writer.flush();
+        puts(InfoCmp.Capability.exit_ca_mode);
         inAlternateScreen = false;
     }
 
@@ -138,34 +200,34 @@ public class JLineBackend extends AbstractBackend {
     @Override
     public void enableMouseCapture() throws IOException {
         // Enable mouse tracking modes
-        writer.print(CSI + "?1000h");  // Normal tracking
-        writer.print(CSI + "?1002h");  // Button event tracking
-        writer.print(CSI + "?1015h");  // urxvt style
-        writer.print(CSI + "?1006h");  // SGR extended mode
-        writer.flush();
+        write(CSI + "?1000h");  // Normal tracking
+        write(CSI + "?1002h");  // Button event tracking
+        write(CSI + "?1015h");  // urxvt style
+        write(CSI + "?1006h");  // SGR extended mode
+        flush();
         mouseEnabled = true;
     }
 
     @Override
     public void disableMouseCapture() throws IOException {
-        writer.print(CSI + "?1006l");
-        writer.print(CSI + "?1015l");
-        writer.print(CSI + "?1002l");
-        writer.print(CSI + "?1000l");
-        writer.flush();
+        write(CSI + "?1006l");
+        write(CSI + "?1015l");
+        write(CSI + "?1002l");
+        write(CSI + "?1000l");
+        flush();
         mouseEnabled = false;
     }
 
     @Override
     public void scrollUp(int lines) throws IOException {
-        writer.print(CSI + lines + "S");
-        writer.flush();
+        write(CSI + lines + "S");
+        flush();
     }
 
     @Override
     public void scrollDown(int lines) throws IOException {
-        writer.print(CSI + lines + "T");
-        writer.flush();
+        write(CSI + lines + "T");
+        flush();
     }
 
     @Override
@@ -173,7 +235,7 @@ public class JLineBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        writer.print(CSI + n + "L");
+        write(CSI + n + "L");
     }
 
     @Override
@@ -181,7 +243,7 @@ public class JLineBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        writer.print(CSI + n + "M");
+        write(CSI + n + "M");
     }
 
     @Override
@@ -189,7 +251,7 @@ public class JLineBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        writer.print(CSI + n + "A");
+        write(CSI + n + "A");
     }
 
     @Override
@@ -197,7 +259,7 @@ public class JLineBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        writer.print(CSI + n + "B");
+        write(CSI + n + "B");
     }
 
     @Override
@@ -205,7 +267,7 @@ public class JLineBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        writer.print(CSI + n + "C");
+        write(CSI + n + "C");
     }
 
     @Override
@@ -213,27 +275,33 @@ public class JLineBackend extends AbstractBackend {
         if (n <= 0) {
             return;
         }
-        writer.print(CSI + n + "D");
+        write(CSI + n + "D");
     }
 
     @Override
     public void eraseToEndOfLine() throws IOException {
-        writer.print(CSI + "K");
+        write(CSI + "K");
     }
 
     @Override
     public void carriageReturn() throws IOException {
-        writer.print("\r");
+        write("\r");
     }
 
     @Override
     public void writeRaw(byte[] data) throws IOException {
+        if (frame != null) {
+            frame.write(data, 0, data.length);
+            return;
+        }
+        // Keep the order of text still buffered in the writer
+        writer.flush();
         terminal.output().write(data);
     }
 
     @Override
     public void writeRaw(String data) {
-        writer.print(data);
+        write(data);
     }
 
     @Override
@@ -254,7 +322,7 @@ public class JLineBackend extends AbstractBackend {
     @Override
     public void close() throws IOException {
         // Reset state
-        writer.print(CSI + "0m");  // Reset style
+        write(CSI + "0m");  // Reset style
 
         if (mouseEnabled) {
             disableMouseCapture();
@@ -267,10 +335,25 @@ public class JLineBackend extends AbstractBackend {
         showCursor();
         disableRawMode();
 
-        writer.flush();
+        flush();
         terminal.close();
     }
 
+    private void write(String data) {
+        if (frame != null) {
+            frame.writeString(data);
+        } else {
+            writer.print(data);
+        }
+    }
+
+    private void puts(InfoCmp.Capability capability) throws IOException {
+        // Capabilities are written through the terminal writer, after pending output
+        flush();
+        terminal.puts(capability);
+        writer.flush();
+    }
+
     /**
      * Returns the underlying JLine terminal for advanced operations.
      *
@@ -279,4 +362,40 @@ public class JLineBackend extends AbstractBackend {
     public Terminal jlineTerminal() {
         return terminal;
     }
+
+    /**
+     * Reusable buffer holding the bytes of the frame being encoded.
+     */
+    private static final class FrameBuffer extends ByteArrayOutputStream {
+
+        private final Charset charset;
+
+        FrameBuffer(Charset charset) {
+            super(16 * 1024);
+            this.charset = charset;
+        }
+
+        void writeString(String s) {
+            int length = s.length();
+            reserve(count + length);
+            for (int i = 0; i < length; i++) {
+                char c = s.charAt(i);
+                if (c >= 0x80) {
+                    // Non-ASCII content: fall back to the charset encoder for the rest
+                    byte[] bytes = s.substring(i).getBytes(charset);
+                    write(bytes, 0, bytes.length);
+                    return;
+                }
+                buf[count++] = (byte) c;
+            }
+        }
+
+        private void reserve(int capacity) {
+            if (capacity > buf.length) {
+                byte[] grown = new byte[Math.max(capacity, buf.length * 2)];
+                System.arraycopy(buf, 0, grown, 0, count);
+                buf = grown;
+            }
+        }
+    }
 }
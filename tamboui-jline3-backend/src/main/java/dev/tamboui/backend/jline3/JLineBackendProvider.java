@@ -13,6 +13,8 @@ import dev.tamboui.terminal.BackendProvider;
  * {@link BackendProvider} implementation for JLine 3.
  * <p>
  * This provider is registered via the Java {@link java.util.ServiceLoader} mechanism.
+ * Setting the {@value JLineBackend#DIRECT_OUTPUT_PROPERTY} system property to
+ * {@code true} creates backends in direct output mode.
  */
 public class JLineBackendProvider implements BackendProvider {
 
@@ -29,6 +31,6 @@ public class JLineBackendProvider implements BackendProvider {
 
     @Override
     public Backend create() throws IOException {
-        return new JLineBackend();
+        return new JLineBackend(Boolean.getBoolean(JLineBackend.DIRECT_OUTPUT_PROPERTY));
     }
 }
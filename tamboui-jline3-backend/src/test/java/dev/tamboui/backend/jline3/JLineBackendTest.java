@@ -0,0 +1,120 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.jline3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jline.terminal.Size;
+import org.jline.terminal.Terminal;
+import org.jline.terminal.impl.DumbTerminal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.style.Style;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JLineBackendTest {
+
+    @Test
+    @DisplayName("Direct output writes each frame to the terminal in one call")
+    void directOutputWritesOncePerFrame() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        JLineBackend backend = new JLineBackend(dumbTerminal(out), true);
+
+        drawFrame(backend, "§", "¤");
+        assertThat(out.writes).isZero();
+        backend.flush();
+        assertThat(out.writes).isEqualTo(1);
+
+        drawFrame(backend, "«", "»");
+        backend.flush();
+        assertThat(out.writes).isEqualTo(2);
+        backend.close();
+    }
+
+    @Test
+    @DisplayName("Direct output keeps text and raw bytes in order")
+    void directOutputKeepsOrder() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        JLineBackend backend = new JLineBackend(dumbTerminal(out), true);
+
+        drawFrame(backend, "§", "¤");
+        backend.flush();
+
+        assertInOrder(out.text(), "§", "<raw>", "¤");
+        backend.close();
+    }
+
+    @Test
+    @DisplayName("Writer output keeps text and raw bytes in order")
+    void writerOutputKeepsOrder() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        JLineBackend backend = new JLineBackend(dumbTerminal(out), false);
+
+        drawFrame(backend, "§", "¤");
+        backend.flush();
+
+        assertInOrder(out.text(), "§", "<raw>", "¤");
+        backend.close();
+    }
+
+    /**
+     * Draws a cell, writes raw bytes as an image protocol would, then draws another cell.
+     */
+    private static void drawFrame(JLineBackend backend, String before, String after) throws IOException {
+        backend.draw(Collections.singletonList(new CellUpdate(0, 0, Cell.of(before, Style.EMPTY))));
+        backend.writeRaw("<raw>".getBytes(StandardCharsets.US_ASCII));
+        backend.draw(Arrays.asList(new CellUpdate(0, 1, Cell.of(after, Style.EMPTY))));
+    }
+
+    private static void assertInOrder(String text, String... parts) {
+        int from = 0;
+        for (String part : parts) {
+            int index = text.indexOf(part, from);
+            assertThat(index).as("%s after index %d in %s", part, from, text).isGreaterThanOrEqualTo(from);
+            from = index + part.length();
+        }
+    }
+
+    private static Terminal dumbTerminal(OutputStream out) throws IOException {
+        Terminal terminal = new DumbTerminal("test", Terminal.TYPE_DUMB,
+            new ByteArrayInputStream(new byte[0]), out, StandardCharsets.UTF_8);
+        terminal.setSize(new Size(20, 2));
+        return terminal;
+    }
+
+    /**
+     * Records what is written and counts the write calls.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int writes;
+
+        @Override
+        public void write(int b) {
+            writes++;
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            writes++;
+            bytes.write(b, off, len);
+        }
+
+        String text() {
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
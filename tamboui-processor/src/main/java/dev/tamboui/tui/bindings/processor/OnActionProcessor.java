@@ -8,8 +8,8 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -20,12 +20,14 @@ import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
@@ -44,11 +46,23 @@ import dev.tamboui.annotations.bindings.OnAction;
  * <p>
  * Generates {@code ActionHandlerRegistrar} implementations and
  * META-INF/services entries for automatic discovery via ServiceLoader.
+ * <p>
+ * Registrars are generated for top-level and member classes. Classes the
+ * generated code cannot reference, such as private member classes, are
+ * reported with a warning, since their handlers are registered via reflection
+ * at runtime. Set the {@value #FAIL_ON_REFLECTION} option to {@code true} to
+ * report them as errors instead, for example in native-image builds.
  */
 @SupportedAnnotationTypes("dev.tamboui.annotations.bindings.OnAction")
+@SupportedOptions(OnActionProcessor.FAIL_ON_REFLECTION)
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class OnActionProcessor extends AbstractProcessor {
 
+    /**
+     * Processor option turning reflection fallbacks into compilation errors.
+     */
+    public static final String FAIL_ON_REFLECTION = "tamboui.actions.failOnReflection";
+
     /**
      * Creates a new OnAction annotation processor.
      */
@@ -60,6 +74,8 @@ public class OnActionProcessor extends AbstractProcessor {
     private Elements elementUtils;
     private Types typeUtils;
     private TypeMirror eventType;
+    private boolean failOnReflection;
+    private final Set<String> generatedClasses = new LinkedHashSet<>();
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -74,16 +90,26 @@ public class OnActionProcessor extends AbstractProcessor {
         if (eventElement != null) {
             this.eventType = eventElement.asType();
         }
+        this.failOnReflection = Boolean.parseBoolean(processingEnv.getOptions().get(FAIL_ON_REFLECTION));
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         if (roundEnv.processingOver()) {
+            // Write the services file once, with the registrars of every round
+            if (!generatedClasses.isEmpty()) {
+                try {
+                    generateServicesFile(generatedClasses);
+                } catch (IOException e) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                            "Failed to generate META-INF/services file: " + e.getMessage());
+                }
+            }
             return false;
         }
 
         // Group methods by enclosing class
-        Map<TypeElement, List<MethodInfo>> methodsByClass = new HashMap<>();
+        Map<TypeElement, List<MethodInfo>> methodsByClass = new LinkedHashMap<>();
 
         for (Element element : roundEnv.getElementsAnnotatedWith(OnAction.class)) {
             if (element.getKind() != ElementKind.METHOD) {
@@ -101,31 +127,59 @@ public class OnActionProcessor extends AbstractProcessor {
 
             methodsByClass
                     .computeIfAbsent(enclosingClass, k -> new ArrayList<>())
-                    .add(new MethodInfo(method.getSimpleName().toString(), annotation.value()));
+                    .add(new MethodInfo(method.getSimpleName().toString(), annotation.value(),
+                            parameterCast(method)));
         }
 
-        // Generate registrar for each class
-        Set<String> generatedClasses = new HashSet<>();
+        // Generate registrar for each class the generated code can reference
         for (Map.Entry<TypeElement, List<MethodInfo>> entry : methodsByClass.entrySet()) {
+            TypeElement targetClass = entry.getKey();
+            String unreachable = unreachableReason(targetClass);
+            if (unreachable != null) {
+                reportReflection(targetClass, unreachable);
+                continue;
+            }
             try {
-                String registrarClass = generateRegistrar(entry.getKey(), entry.getValue());
-                generatedClasses.add(registrarClass);
+                generatedClasses.add(generateRegistrar(targetClass, entry.getValue()));
             } catch (IOException e) {
-                error(entry.getKey(), "Failed to generate registrar: " + e.getMessage());
+                error(targetClass, "Failed to generate registrar: " + e.getMessage());
             }
         }
 
-        // Generate/update META-INF/services file
-        if (!generatedClasses.isEmpty()) {
-            try {
-                generateServicesFile(generatedClasses);
-            } catch (IOException e) {
-                messager.printMessage(Diagnostic.Kind.ERROR,
-                        "Failed to generate META-INF/services file: " + e.getMessage());
+        return true;
+    }
+
+    /**
+     * Returns why a registrar in the class's package cannot reference the class,
+     * or null if it can.
+     */
+    private String unreachableReason(TypeElement targetClass) {
+        Element current = targetClass;
+        while (current instanceof TypeElement) {
+            TypeElement type = (TypeElement) current;
+            NestingKind nesting = type.getNestingKind();
+            if (nesting == NestingKind.ANONYMOUS) {
+                return "it is an anonymous class";
+            }
+            if (nesting == NestingKind.LOCAL) {
+                return "it is a local class";
             }
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return type == targetClass
+                        ? "it is private"
+                        : "its enclosing class " + type.getSimpleName() + " is private";
+            }
+            current = type.getEnclosingElement();
         }
+        return null;
+    }
 
-        return true;
+    private void reportReflection(TypeElement targetClass, String reason) {
+        String message = "No registrar can be generated for @OnAction methods in "
+                + targetClass + " because " + reason
+                + "; they will be registered via reflection at runtime";
+        messager.printMessage(failOnReflection ? Diagnostic.Kind.ERROR : Diagnostic.Kind.WARNING,
+                message, targetClass);
     }
 
     private boolean validateMethod(ExecutableElement method) {
@@ -162,11 +216,27 @@ public class OnActionProcessor extends AbstractProcessor {
         return true;
     }
 
+    /**
+     * Returns the cast needed to pass an {@code Event} to the method, or null if
+     * its parameter accepts any event.
+     */
+    private String parameterCast(ExecutableElement method) {
+        TypeMirror paramType = typeUtils.erasure(method.getParameters().get(0).asType());
+        if (eventType == null || typeUtils.isAssignable(eventType, paramType)) {
+            return null;
+        }
+        return paramType.toString();
+    }
+
     private String generateRegistrar(TypeElement targetClass, List<MethodInfo> methods)
             throws IOException {
         String packageName = getPackageName(targetClass);
-        String className = targetClass.getSimpleName().toString();
-        String registrarClassName = className + "_ActionHandlerRegistrar";
+        // Member classes are referenced as Outer.Inner and named Outer_Inner_...
+        String className = packageName.isEmpty()
+                ? targetClass.getQualifiedName().toString()
+                : targetClass.getQualifiedName().toString().substring(packageName.length() + 1);
+        String registrarClassName = className.replace('.', '_') + "_ActionHandlerRegistrar";
+        boolean generic = isGeneric(targetClass);
         String qualifiedName = packageName.isEmpty()
                 ? registrarClassName
                 : packageName + "." + registrarClassName;
@@ -188,6 +258,9 @@ public class OnActionProcessor extends AbstractProcessor {
             writer.write(" * <p>\n");
             writer.write(" * This class is generated by the annotation processor and should not be modified.\n");
             writer.write(" */\n");
+            if (generic) {
+                writer.write("@SuppressWarnings(\"rawtypes\")\n");
+            }
             writer.write("public final class " + registrarClassName + "\n");
             writer.write("        implements ActionHandlerRegistrar<" + className + "> {\n\n");
 
@@ -195,8 +268,14 @@ public class OnActionProcessor extends AbstractProcessor {
             writer.write("    @Override\n");
             writer.write("    public void register(" + className + " target, ActionHandler handler) {\n");
             for (MethodInfo method : methods) {
-                writer.write("        handler.on(\"" + escapeString(method.actionName)
-                        + "\", target::" + method.methodName + ");\n");
+                String action = escapeString(method.actionName);
+                if (method.parameterCast == null) {
+                    writer.write("        handler.on(\"" + action
+                            + "\", target::" + method.methodName + ");\n");
+                } else {
+                    writer.write("        handler.on(\"" + action + "\", event -> target."
+                            + method.methodName + "((" + method.parameterCast + ") event));\n");
+                }
             }
             writer.write("    }\n\n");
 
@@ -212,6 +291,21 @@ public class OnActionProcessor extends AbstractProcessor {
         return qualifiedName;
     }
 
+    private boolean isGeneric(TypeElement targetClass) {
+        Element current = targetClass;
+        while (current instanceof TypeElement) {
+            TypeElement type = (TypeElement) current;
+            if (!type.getTypeParameters().isEmpty()) {
+                return true;
+            }
+            if (type.getModifiers().contains(Modifier.STATIC)) {
+                break;
+            }
+            current = type.getEnclosingElement();
+        }
+        return false;
+    }
+
     private void generateServicesFile(Set<String> registrarClasses) throws IOException {
         FileObject resource = filer.createResource(
                 StandardLocation.CLASS_OUTPUT,
@@ -253,10 +347,12 @@ public class OnActionProcessor extends AbstractProcessor {
     private static class MethodInfo {
         final String methodName;
         final String actionName;
+        final String parameterCast;
 
-        MethodInfo(String methodName, String actionName) {
+        MethodInfo(String methodName, String actionName, String parameterCast) {
             this.methodName = methodName;
             this.actionName = actionName;
+            this.parameterCast = parameterCast;
         }
     }
 }
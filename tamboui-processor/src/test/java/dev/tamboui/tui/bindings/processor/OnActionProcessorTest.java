@@ -171,4 +171,91 @@ class OnActionProcessorTest {
                 .contentsAsUtf8String()
                 .contains("handler.on(\"quit\", target::quit)");
     }
+
+    @Test
+    void generatesRegistrarForMemberClasses() {
+        JavaFileObject source = JavaFileObjects.forSourceString(
+                "test.Outer",
+                "package test;\n" +
+                "\n" +
+                "import dev.tamboui.annotations.bindings.OnAction;\n" +
+                "import dev.tamboui.tui.event.Event;\n" +
+                "\n" +
+                "public class Outer {\n" +
+                "    public static class Inner {\n" +
+                "        @OnAction(\"save\")\n" +
+                "        void save(Event event) {}\n" +
+                "    }\n" +
+                "}\n"
+        );
+
+        Compilation compilation = javac()
+                .withProcessors(new OnActionProcessor())
+                .compile(source);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation)
+                .generatedSourceFile("test.Outer_Inner_ActionHandlerRegistrar")
+                .contentsAsUtf8String()
+                .contains("implements ActionHandlerRegistrar<Outer.Inner>");
+    }
+
+    @Test
+    void castsEventForSubtypeParameters() {
+        JavaFileObject source = JavaFileObjects.forSourceString(
+                "test.MyHandler",
+                "package test;\n" +
+                "\n" +
+                "import dev.tamboui.annotations.bindings.OnAction;\n" +
+                "import dev.tamboui.tui.event.KeyEvent;\n" +
+                "\n" +
+                "public class MyHandler {\n" +
+                "    @OnAction(\"save\")\n" +
+                "    void save(KeyEvent event) {}\n" +
+                "}\n"
+        );
+
+        Compilation compilation = javac()
+                .withProcessors(new OnActionProcessor())
+                .compile(source);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation)
+                .generatedSourceFile("test.MyHandler_ActionHandlerRegistrar")
+                .contentsAsUtf8String()
+                .contains("target.save((dev.tamboui.tui.event.KeyEvent) event)");
+    }
+
+    @Test
+    void warnsWhenRegistrarCannotReferenceClass() {
+        JavaFileObject source = JavaFileObjects.forSourceString(
+                "test.Outer",
+                "package test;\n" +
+                "\n" +
+                "import dev.tamboui.annotations.bindings.OnAction;\n" +
+                "import dev.tamboui.tui.event.Event;\n" +
+                "\n" +
+                "public class Outer {\n" +
+                "    private static class Hidden {\n" +
+                "        @OnAction(\"save\")\n" +
+                "        void save(Event event) {}\n" +
+                "    }\n" +
+                "}\n"
+        );
+
+        Compilation compilation = javac()
+                .withProcessors(new OnActionProcessor())
+                .compile(source);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).hadWarningContaining("registered via reflection");
+
+        Compilation strict = javac()
+                .withProcessors(new OnActionProcessor())
+                .withOptions("-A" + OnActionProcessor.FAIL_ON_REFLECTION + "=true")
+                .compile(source);
+
+        assertThat(strict).failed();
+        assertThat(strict).hadErrorContaining("registered via reflection");
+    }
 }
@@ -0,0 +1,9 @@
+plugins {
+    id("dev.tamboui.java-library")
+}
+
+description = "Socket and stream backend for serving TamboUI applications over a network or pipe"
+
+dependencies {
+    api(projects.tambouiCore)
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.layout.Position;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.Size;
+import dev.tamboui.terminal.AnsiCellWriter;
+import dev.tamboui.terminal.Backend;
+
+/**
+ * Backend that renders once and fans the result out to many viewers.
+ * <p>
+ * The application draws to this backend as to any other. On each flush the
+ * frame is published to every attached {@link StreamBackend} viewer:
+ * <ul>
+ *   <li>a viewer that joins receives a full repaint (keyframe) of the last frame;</li>
+ *   <li>a viewer that is up to date receives the diff from the frame it was last sent;</li>
+ *   <li>a viewer whose output backlog is above its high-water mark is skipped, and
+ *       once it catches up it receives the diff from its last frame, or a keyframe
+ *       if that frame is no longer in the recent history.</li>
+ * </ul>
+ * A skipped viewer is brought up to date as soon as its backlog drains, and on
+ * every flush, so it also receives the last frame when nothing new is drawn.
+ * Each diff or keyframe is encoded once per publication and the bytes are
+ * shared by all viewers in the same state, so the encoding cost does not grow
+ * with the number of viewers.
+ * <p>
+ * Viewers are watch-only: their input is drained and discarded, and a viewer
+ * that disconnects is removed. All viewers see the frame at the broadcast size.
+ *
+ * <pre>{@code
+ * BroadcastBackend broadcast = BroadcastBackend.builder().size(new Size(120, 40)).build();
+ * // on the acceptor thread
+ * broadcast.addViewer(StreamBackend.builder(serverChannel.accept()).build());
+ * // on the render thread
+ * try (TuiRunner runner = TuiRunner.create(TuiConfig.builder().backend(broadcast).build())) {
+ *     runner.run(handler, renderer);
+ * }
+ * }</pre>
+ */
+public final class BroadcastBackend implements Backend {
+
+    private static final String CSI = "\033[";
+    private static final String KEYFRAME_PREFIX = CSI + "?1049h" + CSI + "?25l" + CSI + "0m" + CSI + "2J";
+
+    private final Size size;
+    private final int historySize;
+    private final List<Viewer> viewers = new CopyOnWriteArrayList<>();
+    private final Deque<Snapshot> history = new ArrayDeque<>();
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private Buffer current;
+    private boolean dirty;
+    private long version;
+    private long keyframeVersion = -1;
+    private byte[] keyframe;
+    private long encodings;
+
+    private BroadcastBackend(Builder builder) {
+        this.size = builder.size;
+        this.historySize = builder.historySize;
+        this.current = Buffer.empty(Rect.of(size.width(), size.height()));
+        history.addLast(new Snapshot(0, current.copy()));
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Attaches a viewer. It is sent a keyframe of the last published frame
+     * right away and follows subsequent frames.
+     *
+     * @param viewer the viewer's backend
+     */
+    public synchronized void addViewer(StreamBackend viewer) {
+        Viewer state = new Viewer(Objects.requireNonNull(viewer, "viewer cannot be null"));
+        if (send(state, keyframe())) {
+            state.version = version;
+            viewers.add(state);
+            viewer.onReadyForFrame(() -> catchUp(state));
+        }
+    }
+
+    /**
+     * Detaches and closes a viewer.
+     *
+     * @param viewer the viewer's backend
+     */
+    public synchronized void removeViewer(StreamBackend viewer) {
+        for (Viewer state : viewers) {
+            if (state.backend == viewer) {
+                viewers.remove(state);
+                closeViewer(state);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of attached viewers.
+     *
+     * @return the viewer count
+     */
+    public int viewerCount() {
+        return viewers.size();
+    }
+
+    /**
+     * Returns the number of diffs and keyframes encoded so far.
+     *
+     * @return the encoding count
+     */
+    synchronized long encodings() {
+        return encodings;
+    }
+
+    @Override
+    public synchronized void draw(Iterable<CellUpdate> updates) throws IOException {
+        for (CellUpdate update : updates) {
+            current.set(update.x(), update.y(), update.cell());
+        }
+        dirty = true;
+    }
+
+    /**
+     * Publishes the frame drawn since the last flush, and sends the last
+     * published frame to viewers that are ready again after falling behind.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (dirty) {
+            dirty = false;
+            version++;
+            history.addLast(new Snapshot(version, current.copy()));
+        }
+        Map<Long, byte[]> encoded = new HashMap<>();
+        for (Viewer viewer : viewers) {
+            if (!drainInput(viewer)) {
+                viewers.remove(viewer);
+                closeViewer(viewer);
+                continue;
+            }
+            if (viewer.version != version && viewer.backend.isReadyForFrame()) {
+                sendLatest(viewer, encoded);
+            }
+        }
+        // Trimmed after sending, so the diff base of every up-to-date viewer is kept
+        while (history.size() > historySize) {
+            history.removeFirst();
+        }
+    }
+
+    /**
+     * Called on a viewer's transport thread once its backlog has drained.
+     */
+    private synchronized void catchUp(Viewer viewer) {
+        if (viewers.contains(viewer) && viewer.version != version && viewer.backend.isReadyForFrame()) {
+            sendLatest(viewer, new HashMap<>());
+        }
+    }
+
+    /**
+     * Sends the diff from the viewer's last frame to the last published frame,
+     * or a keyframe if that frame is no longer in the history.
+     *
+     * @param encoded the diffs already encoded for this publication, by base version
+     */
+    private void sendLatest(Viewer viewer, Map<Long, byte[]> encoded) {
+        Buffer base = bufferAt(viewer.version);
+        byte[] bytes;
+        if (base == null) {
+            bytes = keyframe();
+        } else {
+            Buffer frame = history.getLast().buffer;
+            bytes = encoded.computeIfAbsent(viewer.version, k -> encode("", base.diff(frame)));
+        }
+        if (send(viewer, bytes)) {
+            viewer.version = version;
+        } else {
+            viewers.remove(viewer);
+            closeViewer(viewer);
+        }
+    }
+
+    private Buffer bufferAt(long frameVersion) {
+        for (Snapshot snapshot : history) {
+            if (snapshot.version == frameVersion) {
+                return snapshot.buffer;
+            }
+        }
+        return null;
+    }
+
+    private byte[] keyframe() {
+        if (keyframe == null || keyframeVersion != version) {
+            keyframe = encodeKeyframe(history.getLast().buffer);
+            keyframeVersion = version;
+        }
+        return keyframe;
+    }
+
+    private byte[] encodeKeyframe(Buffer frame) {
+        return encode(KEYFRAME_PREFIX, Buffer.empty(frame.area()).diff(frame));
+    }
+
+    private byte[] encode(String prefix, List<CellUpdate> updates) {
+        encodings++;
+        if (prefix.isEmpty() && updates.isEmpty()) {
+            return new byte[0];
+        }
+        StringBuilder sb = new StringBuilder(prefix);
+        AnsiCellWriter.writeUpdates(updates, sb::append);
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean drainInput(Viewer viewer) {
+        try {
+            int ch;
+            while ((ch = viewer.backend.read(0)) >= 0) {
+                // Viewers are watch-only
+            }
+            return ch != -1;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean send(Viewer viewer, byte[] bytes) {
+        if (bytes.length == 0) {
+            return true;
+        }
+        try {
+            viewer.backend.writeRaw(bytes);
+            viewer.backend.flush();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void closeViewer(Viewer viewer) {
+        viewer.backend.onReadyForFrame(null);
+        try {
+            viewer.backend.writeRaw(CSI + "?1049l");
+            viewer.backend.close();
+        } catch (IOException e) {
+            // The viewer is gone
+        }
+    }
+
+    @Override
+    public synchronized void clear() throws IOException {
+        current = Buffer.empty(current.area());
+        dirty = true;
+    }
+
+    @Override
+    public Size size() throws IOException {
+        return size;
+    }
+
+    @Override
+    public void showCursor() throws IOException {
+        // Viewers always have the cursor hidden
+    }
+
+    @Override
+    public void hideCursor() throws IOException {
+        // Viewers always have the cursor hidden
+    }
+
+    @Override
+    public Position getCursorPosition() throws IOException {
+        return Position.ORIGIN;
+    }
+
+    @Override
+    public void setCursorPosition(Position position) throws IOException {
+        // Viewers always have the cursor hidden
+    }
+
+    @Override
+    public void enterAlternateScreen() throws IOException {
+        // Every keyframe switches the viewer to the alternate screen
+    }
+
+    @Override
+    public void leaveAlternateScreen() throws IOException {
+        // Viewers leave the alternate screen when they are closed
+    }
+
+    @Override
+    public void enableRawMode() throws IOException {
+        // No local terminal
+    }
+
+    @Override
+    public void disableRawMode() throws IOException {
+        // No local terminal
+    }
+
+    @Override
+    public void scrollUp(int lines) throws IOException {
+        // Not supported: viewers are repainted from the frame buffer
+    }
+
+    @Override
+    public void scrollDown(int lines) throws IOException {
+        // Not supported: viewers are repainted from the frame buffer
+    }
+
+    @Override
+    public void onResize(Runnable handler) {
+        // The broadcast size is fixed
+    }
+
+    /**
+     * Viewers are watch-only, so there is never input: this waits for the
+     * timeout and returns -2, or -1 once the backend is closed.
+     *
+     * @param timeoutMs timeout in milliseconds
+     * @return -2 for timeout, or -1 once closed
+     * @throws IOException never
+     */
+    @Override
+    public int read(int timeoutMs) throws IOException {
+        try {
+            if (timeoutMs < 0) {
+                closed.await();
+                return -1;
+            }
+            return closed.await(timeoutMs, TimeUnit.MILLISECONDS) ? -1 : -2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -2;
+        }
+    }
+
+    @Override
+    public int peek(int timeoutMs) throws IOException {
+        return read(timeoutMs);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed.countDown();
+        for (Viewer viewer : viewers) {
+            closeViewer(viewer);
+        }
+        viewers.clear();
+    }
+
+    private static final class Viewer {
+        private final StreamBackend backend;
+        private long version = -1;
+
+        Viewer(StreamBackend backend) {
+            this.backend = backend;
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final Buffer buffer;
+
+        Snapshot(long version, Buffer buffer) {
+            this.version = version;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * Builder for {@link BroadcastBackend}.
+     */
+    public static final class Builder {
+
+        private Size size = new Size(80, 24);
+        private int historySize = 8;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the size frames are rendered at. Defaults to 80x24.
+         *
+         * @param size the broadcast size
+         * @return this builder
+         */
+        public Builder size(Size size) {
+            this.size = Objects.requireNonNull(size, "size cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets how many recent frames are kept to send diffs to viewers that
+         * fell behind. Viewers further behind receive a keyframe. Defaults to 8.
+         *
+         * @param frames the number of frames to keep
+         * @return this builder
+         */
+        public Builder history(int frames) {
+            if (frames < 1) {
+                throw new IllegalArgumentException("history must be >= 1: " + frames);
+            }
+            this.historySize = frames;
+            return this;
+        }
+
+        /**
+         * Builds the backend.
+         *
+         * @return the backend
+         */
+        public BroadcastBackend build() {
+            return new BroadcastBackend(this);
+        }
+    }
+}
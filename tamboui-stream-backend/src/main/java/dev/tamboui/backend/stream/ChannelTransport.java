@@ -0,0 +1,150 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A {@link Transport} over a non-blocking {@link SocketChannel}.
+ * <p>
+ * Frames are written directly when the socket accepts them. Whatever the
+ * socket does not take is queued and drained by the input thread, which
+ * selects for writability while a backlog exists.
+ */
+final class ChannelTransport implements Transport, Runnable {
+
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final long SELECT_TIMEOUT_MS = 100;
+
+    private final SocketChannel channel;
+    private final Selector selector;
+    private final SelectionKey key;
+    private final Deque<ByteBuffer> pending = new ArrayDeque<>();
+    private volatile long pendingBytes;
+    private volatile boolean closed;
+    private TelnetInputDecoder decoder;
+    private Runnable onEof;
+    private Runnable onDrain;
+
+    ChannelTransport(SocketChannel channel) throws IOException {
+        this.channel = channel;
+        channel.configureBlocking(false);
+        this.selector = Selector.open();
+        this.key = channel.register(selector, SelectionKey.OP_READ);
+    }
+
+    @Override
+    public void start(TelnetInputDecoder decoder, Runnable onEof, Runnable onDrain) {
+        this.decoder = decoder;
+        this.onEof = onEof;
+        this.onDrain = onDrain;
+        Thread thread = new Thread(this, "tamboui-stream-channel");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) throws IOException {
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+                channel.write(buffer);
+                if (!buffer.hasRemaining()) {
+                    return;
+                }
+                offset = buffer.position();
+                length = buffer.remaining();
+            }
+            byte[] copy = new byte[length];
+            System.arraycopy(data, offset, copy, 0, length);
+            pending.addLast(ByteBuffer.wrap(copy));
+            pendingBytes += length;
+        }
+        // Let the input thread start selecting for writability
+        selector.wakeup();
+    }
+
+    @Override
+    public long pendingBytes() {
+        return pendingBytes;
+    }
+
+    private boolean drain() throws IOException {
+        long drained = 0;
+        synchronized (pending) {
+            while (!pending.isEmpty()) {
+                ByteBuffer buffer = pending.peekFirst();
+                int written = channel.write(buffer);
+                pendingBytes -= written;
+                drained += written;
+                if (buffer.hasRemaining()) {
+                    break;
+                }
+                pending.removeFirst();
+            }
+        }
+        return drained > 0;
+    }
+
+    @Override
+    public void run() {
+        ByteBuffer input = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        try {
+            while (!closed) {
+                key.interestOps(pendingBytes > 0
+                        ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                        : SelectionKey.OP_READ);
+                selector.select(SELECT_TIMEOUT_MS);
+                selector.selectedKeys().clear();
+                if (closed) {
+                    return;
+                }
+                if (drain()) {
+                    onDrain.run();
+                }
+                int n;
+                while ((n = channel.read(input)) > 0) {
+                    decoder.decode(input.array(), 0, n);
+                    input.clear();
+                }
+                if (n < 0) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Connection lost; reported as end of input below
+        }
+        if (!closed) {
+            onEof.run();
+        }
+    }
+
+    @Override
+    public void close(long drainTimeoutMs) throws IOException {
+        closed = true;
+        try {
+            long deadline = System.nanoTime() + drainTimeoutMs * 1_000_000L;
+            while (pendingBytes > 0 && channel.isOpen() && System.nanoTime() < deadline) {
+                drain();
+                if (pendingBytes > 0) {
+                    Thread.sleep(5);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // The peer is gone; nothing left to deliver
+        } finally {
+            selector.close();
+            channel.close();
+        }
+    }
+}
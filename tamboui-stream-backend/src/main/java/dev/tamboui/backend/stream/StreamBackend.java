@@ -0,0 +1,459 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.tamboui.internal.util.IntRingBuffer;
+import dev.tamboui.layout.Position;
+import dev.tamboui.layout.Size;
+import dev.tamboui.terminal.AbstractBackend;
+
+/**
+ * Backend that serves a TUI over a socket or a stream pair instead of a local tty.
+ * <p>
+ * Frames are encoded through the same {@link AbstractBackend} path as the native
+ * backends into a frame buffer, and sent to the peer in one write on
+ * {@link #flush()}. Over a {@link SocketChannel} the writes are non-blocking;
+ * bytes the socket does not accept are queued. When the queue grows beyond the
+ * configured high-water mark, {@link #isReadyForFrame()} returns false and the
+ * terminal skips frames until the viewer catches up, so a slow viewer sees
+ * fewer frames instead of an ever-growing backlog.
+ * <p>
+ * The viewer's size is set when the backend is built and updated by in-band
+ * NAWS messages ({@code IAC SB NAWS w1 w0 h1 h0 IAC SE}, RFC 1073). Other telnet
+ * commands are stripped from the input. With {@link Builder#telnet(boolean)} the
+ * backend also negotiates character mode and window size reporting, so that a
+ * plain {@code telnet} client can be used as the viewer.
+ *
+ * <pre>{@code
+ * SocketChannel channel = serverChannel.accept();
+ * StreamBackend backend = StreamBackend.builder(channel)
+ *     .size(new Size(80, 24))
+ *     .telnet(true)
+ *     .build();
+ * try (TuiRunner runner = TuiRunner.create(TuiConfig.builder().backend(backend).build())) {
+ *     runner.run(handler, renderer);
+ * }
+ * }</pre>
+ */
+public class StreamBackend extends AbstractBackend {
+
+    /**
+     * The default output high-water mark, in bytes.
+     */
+    public static final int DEFAULT_HIGH_WATER_MARK = 256 * 1024;
+
+    private static final String ESC = "\033";
+    private static final String CSI = ESC + "[";
+    private static final long CLOSE_DRAIN_TIMEOUT_MS = 500;
+    private static final int INPUT_CAPACITY = 64 * 1024;
+
+    private final Transport transport;
+    private final long highWaterMark;
+    private final boolean telnet;
+    private final FrameBuffer frame = new FrameBuffer();
+    private final IntRingBuffer inputBuffer = new IntRingBuffer(INPUT_CAPACITY);
+    private final AtomicLong framesSkipped = new AtomicLong();
+    private volatile Size size;
+    private volatile Runnable resizeHandler;
+    private volatile Runnable readyListener;
+    // Set when a frame was refused, until the backlog drains below the high-water mark
+    private volatile boolean congested;
+    private volatile boolean endOfInput;
+    private boolean broken;
+    private boolean inAlternateScreen;
+    private boolean mouseEnabled;
+
+    private StreamBackend(Builder builder, Transport transport) {
+        this.transport = transport;
+        this.highWaterMark = builder.highWaterMark;
+        this.telnet = builder.telnet;
+        this.size = builder.size;
+        transport.start(new TelnetInputDecoder(inputBuffer::offer, this::resize), () -> {
+            endOfInput = true;
+            // Wake up a blocked reader; the input already queued can still be read
+            inputBuffer.close();
+        }, this::drained);
+    }
+
+    /**
+     * Creates a builder for a backend over a socket channel.
+     * <p>
+     * The channel is switched to non-blocking mode.
+     *
+     * @param channel the connected socket channel
+     * @return a new builder
+     */
+    public static Builder builder(SocketChannel channel) {
+        return new Builder(Objects.requireNonNull(channel, "channel cannot be null"), null, null);
+    }
+
+    /**
+     * Creates a builder for a backend over an input and output stream pair,
+     * such as a pipe or a process's standard streams.
+     *
+     * @param in  the stream providing the viewer's input
+     * @param out the stream receiving the rendered output
+     * @return a new builder
+     */
+    public static Builder builder(InputStream in, OutputStream out) {
+        return new Builder(null,
+                Objects.requireNonNull(in, "in cannot be null"),
+                Objects.requireNonNull(out, "out cannot be null"));
+    }
+
+    private void resize(Size newSize) {
+        if (newSize.equals(size)) {
+            return;
+        }
+        size = newSize;
+        Runnable handler = resizeHandler;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    private void drained() {
+        if (congested && transport.pendingBytes() <= highWaterMark) {
+            congested = false;
+            Runnable listener = readyListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Returns false while the output backlog exceeds the high-water mark.
+     *
+     * @return true if the viewer keeps up with the output
+     */
+    @Override
+    public boolean isReadyForFrame() {
+        if (transport.pendingBytes() > highWaterMark) {
+            // Flag first and check again, so that a drain finishing in between
+            // either sees the flag or is seen here
+            congested = true;
+            if (transport.pendingBytes() > highWaterMark) {
+                framesSkipped.incrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a listener called on the transport's thread once the output
+     * backlog has drained below the high-water mark after a refused frame.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    @Override
+    public void onReadyForFrame(Runnable listener) {
+        this.readyListener = listener;
+    }
+
+    /**
+     * Returns the number of frames skipped because the viewer was not keeping up.
+     *
+     * @return the skipped frame count
+     */
+    public long framesSkipped() {
+        return framesSkipped.get();
+    }
+
+    /**
+     * Returns the number of bytes written but not yet accepted by the viewer.
+     *
+     * @return the output backlog in bytes
+     */
+    public long pendingOutputBytes() {
+        return transport.pendingBytes();
+    }
+
+    /**
+     * Sends the encoded frame to the viewer.
+     * <p>
+     * If the connection breaks, the failure is thrown once; later output is
+     * discarded so that the terminal can still be closed cleanly.
+     *
+     * @throws IOException if the connection broke while writing
+     */
+    @Override
+    public void flush() throws IOException {
+        if (frame.size() > 0) {
+            try {
+                if (!broken) {
+                    frame.writeTo(transport);
+                }
+            } catch (IOException e) {
+                broken = true;
+                throw e;
+            } finally {
+                frame.reset();
+            }
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        writeRaw(CSI + "2J" + CSI + "H");
+        flush();
+    }
+
+    @Override
+    public Size size() throws IOException {
+        return size;
+    }
+
+    @Override
+    public void showCursor() throws IOException {
+        writeRaw(CSI + "?25h");
+        flush();
+    }
+
+    @Override
+    public void hideCursor() throws IOException {
+        writeRaw(CSI + "?25l");
+        flush();
+    }
+
+    @Override
+    public Position getCursorPosition() throws IOException {
+        // Querying the remote cursor would need a round trip through the input stream
+        return Position.ORIGIN;
+    }
+
+    @Override
+    public void enterAlternateScreen() throws IOException {
+        writeRaw(CSI + "?1049h");
+        flush();
+        inAlternateScreen = true;
+    }
+
+    @Override
+    public void leaveAlternateScreen() throws IOException {
+        writeRaw(CSI + "?1049l");
+        flush();
+        inAlternateScreen = false;
+    }
+
+    @Override
+    public void enableRawMode() throws IOException {
+        // The viewer owns its terminal modes; a telnet client can be asked
+        // to switch to character mode and to report its window size
+        if (telnet) {
+            writeRaw(new byte[] {
+                    (byte) TelnetInputDecoder.IAC, (byte) TelnetInputDecoder.WILL, TelnetInputDecoder.ECHO,
+                    (byte) TelnetInputDecoder.IAC, (byte) TelnetInputDecoder.WILL, TelnetInputDecoder.SUPPRESS_GO_AHEAD,
+                    (byte) TelnetInputDecoder.IAC, (byte) TelnetInputDecoder.DO, TelnetInputDecoder.NAWS
+            });
+            flush();
+        }
+    }
+
+    @Override
+    public void disableRawMode() throws IOException {
+        // Nothing to restore locally
+    }
+
+    @Override
+    public void enableMouseCapture() throws IOException {
+        writeRaw(CSI + "?1000h" + CSI + "?1002h" + CSI + "?1015h" + CSI + "?1006h");
+        flush();
+        mouseEnabled = true;
+    }
+
+    @Override
+    public void disableMouseCapture() throws IOException {
+        writeRaw(CSI + "?1006l" + CSI + "?1015l" + CSI + "?1002l" + CSI + "?1000l");
+        flush();
+        mouseEnabled = false;
+    }
+
+    @Override
+    public void scrollUp(int lines) throws IOException {
+        writeRaw(CSI + lines + "S");
+        flush();
+    }
+
+    @Override
+    public void scrollDown(int lines) throws IOException {
+        writeRaw(CSI + lines + "T");
+        flush();
+    }
+
+    @Override
+    public void writeRaw(byte[] data) throws IOException {
+        frame.write(data, 0, data.length);
+    }
+
+    @Override
+    public void writeRaw(String data) throws IOException {
+        frame.writeString(data);
+    }
+
+    @Override
+    public void onResize(Runnable handler) {
+        this.resizeHandler = handler;
+    }
+
+    @Override
+    public int read(int timeoutMs) throws IOException {
+        int ch = inputBuffer.poll(timeoutMs);
+        if (ch == -2 && endOfInput) {
+            // The viewer disconnected; input queued before that is still delivered
+            ch = inputBuffer.poll(0);
+            return ch == -2 ? -1 : ch;
+        }
+        return ch;
+    }
+
+    @Override
+    public int peek(int timeoutMs) throws IOException {
+        int ch = inputBuffer.peek(timeoutMs);
+        if (ch == -2 && endOfInput) {
+            ch = inputBuffer.peek(0);
+            return ch == -2 ? -1 : ch;
+        }
+        return ch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (broken) {
+                return;
+            }
+            writeRaw(CSI + "0m");
+            if (mouseEnabled) {
+                disableMouseCapture();
+            }
+            if (inAlternateScreen) {
+                leaveAlternateScreen();
+            }
+            showCursor();
+            flush();
+        } finally {
+            transport.close(CLOSE_DRAIN_TIMEOUT_MS);
+        }
+    }
+
+    /**
+     * Reusable buffer holding the bytes of the frame being encoded.
+     */
+    private static final class FrameBuffer extends ByteArrayOutputStream {
+
+        FrameBuffer() {
+            super(16 * 1024);
+        }
+
+        void writeString(String s) {
+            int length = s.length();
+            reserve(count + length);
+            for (int i = 0; i < length; i++) {
+                char c = s.charAt(i);
+                if (c >= 0x80) {
+                    // Non-ASCII content: fall back to the charset encoder for the rest
+                    byte[] bytes = s.substring(i).getBytes(StandardCharsets.UTF_8);
+                    write(bytes, 0, bytes.length);
+                    return;
+                }
+                buf[count++] = (byte) c;
+            }
+        }
+
+        private void reserve(int capacity) {
+            if (capacity > buf.length) {
+                byte[] grown = new byte[Math.max(capacity, buf.length * 2)];
+                System.arraycopy(buf, 0, grown, 0, count);
+                buf = grown;
+            }
+        }
+
+        void writeTo(Transport transport) throws IOException {
+            transport.write(buf, 0, count);
+        }
+    }
+
+    /**
+     * Builder for {@link StreamBackend}.
+     */
+    public static final class Builder {
+
+        private final SocketChannel channel;
+        private final InputStream in;
+        private final OutputStream out;
+        private Size size = new Size(80, 24);
+        private long highWaterMark = DEFAULT_HIGH_WATER_MARK;
+        private boolean telnet;
+
+        private Builder(SocketChannel channel, InputStream in, OutputStream out) {
+            this.channel = channel;
+            this.in = in;
+            this.out = out;
+        }
+
+        /**
+         * Sets the viewer's initial size, used until it reports its size
+         * through NAWS. Defaults to 80x24.
+         *
+         * @param size the initial size
+         * @return this builder
+         */
+        public Builder size(Size size) {
+            this.size = Objects.requireNonNull(size, "size cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the output backlog, in bytes, above which frames are skipped.
+         * Defaults to {@link #DEFAULT_HIGH_WATER_MARK}.
+         *
+         * @param bytes the high-water mark
+         * @return this builder
+         */
+        public Builder highWaterMark(long bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("highWaterMark must be >= 0: " + bytes);
+            }
+            this.highWaterMark = bytes;
+            return this;
+        }
+
+        /**
+         * Sets whether the backend negotiates telnet options (echo, suppress
+         * go-ahead and NAWS) when raw mode is enabled. Defaults to false.
+         *
+         * @param telnet true to negotiate telnet options
+         * @return this builder
+         */
+        public Builder telnet(boolean telnet) {
+            this.telnet = telnet;
+            return this;
+        }
+
+        /**
+         * Builds the backend and starts reading the viewer's input.
+         *
+         * @return the backend
+         * @throws IOException if the connection cannot be set up
+         */
+        public StreamBackend build() throws IOException {
+            Transport transport = channel != null
+                    ? new ChannelTransport(channel)
+                    : new StreamTransport(in, out);
+            return new StreamBackend(this, transport);
+        }
+    }
+}
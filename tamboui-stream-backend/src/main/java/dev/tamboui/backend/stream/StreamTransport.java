@@ -0,0 +1,120 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Transport} over a blocking {@link InputStream} and {@link OutputStream} pair.
+ * <p>
+ * Blocking streams cannot be written without blocking, so frames are handed
+ * to a writer thread and counted as pending until that thread has written and
+ * flushed them.
+ */
+final class StreamTransport implements Transport {
+
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final byte[] END = new byte[0];
+
+    private final InputStream in;
+    private final OutputStream out;
+    private final BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile IOException writeFailure;
+    private volatile Runnable onDrain;
+
+    StreamTransport(InputStream in, OutputStream out) {
+        this.in = in;
+        this.out = out;
+        this.writer = new Thread(this::writeLoop, "tamboui-stream-output");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void start(TelnetInputDecoder decoder, Runnable onEof, Runnable onDrain) {
+        this.onDrain = onDrain;
+        Thread reader = new Thread(() -> readLoop(decoder, onEof), "tamboui-stream-input");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private void readLoop(TelnetInputDecoder decoder, Runnable onEof) {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try {
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                decoder.decode(buffer, 0, n);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Connection lost; reported as end of input below
+        }
+        if (!closed) {
+            onEof.run();
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                byte[] data = queue.take();
+                if (data == END) {
+                    return;
+                }
+                out.write(data);
+                out.flush();
+                pendingBytes.addAndGet(-data.length);
+                Runnable listener = onDrain;
+                if (listener != null) {
+                    listener.run();
+                }
+            }
+        } catch (IOException e) {
+            writeFailure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) throws IOException {
+        IOException failure = writeFailure;
+        if (failure != null) {
+            throw new IOException("Stream output failed: " + failure.getMessage(), failure);
+        }
+        byte[] copy = new byte[length];
+        System.arraycopy(data, offset, copy, 0, length);
+        pendingBytes.addAndGet(length);
+        queue.add(copy);
+    }
+
+    @Override
+    public long pendingBytes() {
+        return pendingBytes.get();
+    }
+
+    @Override
+    public void close(long drainTimeoutMs) throws IOException {
+        closed = true;
+        queue.add(END);
+        try {
+            writer.join(drainTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            in.close();
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.util.function.IntConsumer;
+
+import dev.tamboui.layout.Size;
+
+/**
+ * Decodes the input side of a stream connection.
+ * <p>
+ * Telnet commands are stripped from the byte stream, and a NAWS
+ * (Negotiate About Window Size, RFC 1073) subnegotiation is reported as a
+ * resize. The remaining bytes are decoded as UTF-8 into code points.
+ * Since {@code 0xFF} never appears in UTF-8, plain clients that do not speak
+ * telnet are unaffected.
+ */
+final class TelnetInputDecoder {
+
+    static final int IAC = 255;
+    static final int DONT = 254;
+    static final int DO = 253;
+    static final int WONT = 252;
+    static final int WILL = 251;
+    static final int SB = 250;
+    static final int SE = 240;
+    static final int ECHO = 1;
+    static final int SUPPRESS_GO_AHEAD = 3;
+    static final int NAWS = 31;
+
+    private static final int REPLACEMENT_CHARACTER = 0xFFFD;
+
+    private enum State {
+        DATA, IAC, OPTION, SB, SB_DATA, SB_IAC
+    }
+
+    /**
+     * Receives resize requests decoded from the input.
+     */
+    interface ResizeListener {
+        void onResize(Size size);
+    }
+
+    private final IntConsumer codePoints;
+    private final ResizeListener resizeListener;
+    private final byte[] subnegotiation = new byte[16];
+    private State state = State.DATA;
+    private int subnegotiationOption;
+    private int subnegotiationLength;
+    private int pendingContinuationBytes;
+    private int codePoint;
+
+    TelnetInputDecoder(IntConsumer codePoints, ResizeListener resizeListener) {
+        this.codePoints = codePoints;
+        this.resizeListener = resizeListener;
+    }
+
+    /**
+     * Decodes a chunk of input.
+     *
+     * @param data   the input bytes
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     */
+    void decode(byte[] data, int offset, int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            decode(data[i] & 0xFF);
+        }
+    }
+
+    private void decode(int b) {
+        switch (state) {
+            case DATA:
+                if (b == IAC) {
+                    state = State.IAC;
+                } else {
+                    decodeUtf8(b);
+                }
+                break;
+            case IAC:
+                if (b == IAC) {
+                    // Escaped 0xFF data byte; never valid UTF-8
+                    decodeUtf8(b);
+                    state = State.DATA;
+                } else if (b == SB) {
+                    state = State.SB;
+                } else if (b >= WILL && b <= DONT) {
+                    state = State.OPTION;
+                } else {
+                    // Two-byte command (NOP, GA, ...), ignored
+                    state = State.DATA;
+                }
+                break;
+            case OPTION:
+                state = State.DATA;
+                break;
+            case SB:
+                subnegotiationOption = b;
+                subnegotiationLength = 0;
+                state = State.SB_DATA;
+                break;
+            case SB_DATA:
+                if (b == IAC) {
+                    state = State.SB_IAC;
+                } else {
+                    appendSubnegotiation(b);
+                }
+                break;
+            case SB_IAC:
+                if (b == SE) {
+                    endSubnegotiation();
+                    state = State.DATA;
+                } else if (b == IAC) {
+                    appendSubnegotiation(b);
+                    state = State.SB_DATA;
+                } else {
+                    state = State.DATA;
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown state: " + state);
+        }
+    }
+
+    private void appendSubnegotiation(int b) {
+        if (subnegotiationLength < subnegotiation.length) {
+            subnegotiation[subnegotiationLength++] = (byte) b;
+        }
+    }
+
+    private void endSubnegotiation() {
+        if (subnegotiationOption != NAWS || subnegotiationLength < 4) {
+            return;
+        }
+        int width = ((subnegotiation[0] & 0xFF) << 8) | (subnegotiation[1] & 0xFF);
+        int height = ((subnegotiation[2] & 0xFF) << 8) | (subnegotiation[3] & 0xFF);
+        if (width > 0 && height > 0) {
+            resizeListener.onResize(new Size(width, height));
+        }
+    }
+
+    private void decodeUtf8(int b) {
+        if (pendingContinuationBytes > 0) {
+            if ((b & 0xC0) == 0x80) {
+                codePoint = (codePoint << 6) | (b & 0x3F);
+                if (--pendingContinuationBytes == 0) {
+                    codePoints.accept(codePoint);
+                }
+                return;
+            }
+            // Truncated sequence: report it and decode b as a new lead byte
+            pendingContinuationBytes = 0;
+            codePoints.accept(REPLACEMENT_CHARACTER);
+        }
+        if (b < 0x80) {
+            codePoints.accept(b);
+        } else if ((b & 0xE0) == 0xC0) {
+            codePoint = b & 0x1F;
+            pendingContinuationBytes = 1;
+        } else if ((b & 0xF0) == 0xE0) {
+            codePoint = b & 0x0F;
+            pendingContinuationBytes = 2;
+        } else if ((b & 0xF8) == 0xF0) {
+            codePoint = b & 0x07;
+            pendingContinuationBytes = 3;
+        } else {
+            codePoints.accept(REPLACEMENT_CHARACTER);
+        }
+    }
+}
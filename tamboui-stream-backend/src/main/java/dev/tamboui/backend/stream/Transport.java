@@ -0,0 +1,54 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.io.IOException;
+
+/**
+ * The byte transport under a {@link StreamBackend}.
+ * <p>
+ * Writes never block on a slow peer: bytes that cannot be sent right away are
+ * queued and counted in {@link #pendingBytes()}, which the backend compares with
+ * its high-water mark to decide whether to skip frames.
+ */
+interface Transport {
+
+    /**
+     * Starts delivering input to the decoder on a background thread.
+     *
+     * @param decoder the decoder receiving input bytes
+     * @param onEof   called once when the peer closes its side
+     * @param onDrain called on the transport's thread each time queued bytes
+     *                have been handed to the peer
+     */
+    void start(TelnetInputDecoder decoder, Runnable onEof, Runnable onDrain);
+
+    /**
+     * Sends or queues the given bytes. The array may be reused by the caller
+     * once this method returns.
+     *
+     * @param data   the bytes to write
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the connection is broken
+     */
+    void write(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * Returns the number of bytes written but not yet handed to the peer.
+     *
+     * @return the output backlog in bytes
+     */
+    long pendingBytes();
+
+    /**
+     * Sends what is still pending, waiting at most the given time, and closes
+     * the connection.
+     *
+     * @param drainTimeoutMs the maximum time to wait for pending output
+     * @throws IOException if closing fails
+     */
+    void close(long drainTimeoutMs) throws IOException;
+}
@@ -0,0 +1,13 @@
+/**
+ * Socket and stream backend for TamboUI TUI library.
+ * <p>
+ * This module provides a terminal backend that renders to a {@code SocketChannel}
+ * or an input/output stream pair, for serving applications to remote viewers.
+ * It has no dependency besides the core module and is not discovered through
+ * {@code BackendProvider}, since it always needs an explicit connection.
+ */
+module dev.tamboui.stream.backend {
+    requires transitive dev.tamboui.core;
+
+    exports dev.tamboui.backend.stream;
+}
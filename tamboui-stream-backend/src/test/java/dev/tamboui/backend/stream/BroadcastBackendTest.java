@@ -0,0 +1,199 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Size;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.Terminal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BroadcastBackendTest {
+
+    @Test
+    @DisplayName("A joining viewer receives a keyframe of the last frame")
+    void keyframeOnJoin() throws Exception {
+        BroadcastBackend broadcast = BroadcastBackend.builder().size(new Size(20, 2)).build();
+        Terminal<BroadcastBackend> terminal = new Terminal<>(broadcast);
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "dashboard", Style.EMPTY));
+
+        Output late = new Output();
+        broadcast.addViewer(late.backend());
+
+        assertThat(late.text()).contains("\u001b[2J").contains("dashboard");
+        terminal.close();
+    }
+
+    @Test
+    @DisplayName("Viewers in the same state share one encoded diff")
+    void sharesEncodedDiffs() throws Exception {
+        BroadcastBackend broadcast = BroadcastBackend.builder().size(new Size(20, 2)).build();
+        Terminal<BroadcastBackend> terminal = new Terminal<>(broadcast);
+        Output[] outputs = {new Output(), new Output(), new Output()};
+        for (Output output : outputs) {
+            broadcast.addViewer(output.backend());
+        }
+        long before = broadcast.encodings();
+
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "tick-1", Style.EMPTY));
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "tick-2", Style.EMPTY));
+
+        assertThat(broadcast.encodings() - before).isEqualTo(2);
+        for (Output output : outputs) {
+            assertThat(output.text()).contains("tick-1").endsWith("2");
+        }
+        assertThat(broadcast.viewerCount()).isEqualTo(3);
+        terminal.close();
+    }
+
+    @Test
+    @DisplayName("A slow viewer drops to a keyframe once it catches up")
+    void slowViewerGetsKeyframe() throws Exception {
+        BroadcastBackend broadcast = BroadcastBackend.builder().size(new Size(20, 2)).history(2).build();
+        Terminal<BroadcastBackend> terminal = new Terminal<>(broadcast);
+        Output fast = new Output();
+        Output slow = new Output(new CountDownLatch(1), 0);
+        broadcast.addViewer(fast.backend());
+        broadcast.addViewer(slow.backend());
+
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            terminal.draw(frame -> frame.buffer().setString(0, 0, "frame-" + n, Style.EMPTY));
+        }
+        assertThat(slow.backend().framesSkipped()).isEqualTo(5);
+
+        slow.release();
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "latest", Style.EMPTY));
+
+        // The join keyframe, then a keyframe of the last frame instead of the
+        // missed diffs once the backlog drained, then the diff to the latest one
+        String slowText = slow.text();
+        assertThat(slowText.split("\u001b\\[2J", -1)).hasSize(3);
+        assertThat(slowText).doesNotContain("frame-0", "frame-1", "frame-2", "frame-3").contains("latest");
+        String fastText = fast.text();
+        assertThat(fastText.split("\u001b\\[2J", -1)).hasSize(2);
+        assertThat(fastText).contains("frame-0");
+        terminal.close();
+    }
+
+    @Test
+    @DisplayName("A lagging viewer receives the last frame once it catches up, with nothing new drawn")
+    void laggingViewerCatchesUpWhileIdle() throws Exception {
+        BroadcastBackend broadcast = BroadcastBackend.builder().size(new Size(20, 2)).build();
+        Terminal<BroadcastBackend> terminal = new Terminal<>(broadcast);
+        Output slow = new Output(new CountDownLatch(1), 0);
+        broadcast.addViewer(slow.backend());
+
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "first", Style.EMPTY));
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "final", Style.EMPTY));
+        assertThat(slow.backend().framesSkipped()).isEqualTo(2);
+
+        // The producer stays idle: the catch-up is triggered by the drained backlog
+        slow.release();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!slow.text().endsWith("final") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(slow.text()).endsWith("final").doesNotContain("first");
+
+        // An idle flush has nothing more to send
+        long encodings = broadcast.encodings();
+        broadcast.flush();
+        assertThat(broadcast.encodings()).isEqualTo(encodings);
+        terminal.close();
+    }
+
+    @Test
+    @DisplayName("Viewers that disconnect are removed")
+    void removesDisconnectedViewers() throws Exception {
+        BroadcastBackend broadcast = BroadcastBackend.builder().size(new Size(20, 2)).build();
+        Terminal<BroadcastBackend> terminal = new Terminal<>(broadcast);
+        Output output = new Output();
+        broadcast.addViewer(output.backend());
+
+        output.disconnect();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcast.viewerCount() > 0 && System.nanoTime() < deadline) {
+            terminal.draw(frame -> frame.buffer().setString(0, 0, String.valueOf(System.nanoTime()), Style.EMPTY));
+            Thread.sleep(10);
+        }
+        assertThat(broadcast.viewerCount()).isZero();
+        terminal.close();
+    }
+
+    /**
+     * A viewer over in-memory streams whose output can be held back.
+     */
+    private static final class Output {
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private final PipedOutputStream input = new PipedOutputStream();
+        private final CountDownLatch released;
+        private final StreamBackend backend;
+
+        Output() throws IOException {
+            this(new CountDownLatch(0), StreamBackend.DEFAULT_HIGH_WATER_MARK);
+        }
+
+        Output(CountDownLatch released, long highWaterMark) throws IOException {
+            this.released = released;
+            OutputStream out = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[] {(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    try {
+                        released.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    synchronized (received) {
+                        received.write(b, off, len);
+                    }
+                }
+            };
+            this.backend = StreamBackend.builder(new PipedInputStream(input), out)
+                    .highWaterMark(highWaterMark)
+                    .build();
+        }
+
+        StreamBackend backend() {
+            return backend;
+        }
+
+        void release() throws InterruptedException {
+            released.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (backend.pendingOutputBytes() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        void disconnect() throws IOException {
+            input.close();
+        }
+
+        String text() throws Exception {
+            release();
+            synchronized (received) {
+                return received.toString("UTF-8")
+                        .replaceAll("\u001b\\[(\\d+;\\d+H|[0-9;]*m)", "");
+            }
+        }
+    }
+}
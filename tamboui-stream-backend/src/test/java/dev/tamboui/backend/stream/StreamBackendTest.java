@@ -0,0 +1,236 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Size;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.Terminal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StreamBackendTest {
+
+    private ServerSocketChannel server;
+    private SocketChannel viewer;
+    private SocketChannel served;
+
+    @BeforeEach
+    void connect() throws IOException {
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        viewer = SocketChannel.open(server.getLocalAddress());
+        served = server.accept();
+    }
+
+    @AfterEach
+    void disconnect() throws IOException {
+        viewer.close();
+        served.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Frames are encoded and sent over the socket")
+    void drawsFramesOverSocket() throws IOException {
+        StreamBackend backend = StreamBackend.builder(served).size(new Size(20, 3)).build();
+        try (Terminal<StreamBackend> terminal = new Terminal<>(backend)) {
+            terminal.draw(frame -> frame.buffer().setString(0, 0, "hello-remote", Style.EMPTY));
+
+            assertThat(readFromViewer("hello-remote")).contains("hello-remote");
+        }
+    }
+
+    @Test
+    @DisplayName("NAWS messages resize the backend and notify the resize handler")
+    void nawsResize() throws Exception {
+        StreamBackend backend = StreamBackend.builder(served).build();
+        CountDownLatch resized = new CountDownLatch(1);
+        backend.onResize(resized::countDown);
+
+        // IAC SB NAWS 0 132 0 43 IAC SE
+        viewer.write(ByteBuffer.wrap(new byte[] {
+                (byte) 255, (byte) 250, 31, 0, (byte) 132, 0, 43, (byte) 255, (byte) 240
+        }));
+
+        assertThat(resized.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(backend.size()).isEqualTo(new Size(132, 43));
+        backend.close();
+    }
+
+    @Test
+    @DisplayName("Input is decoded as UTF-8 with telnet commands stripped")
+    void decodesInput() throws IOException {
+        StreamBackend backend = StreamBackend.builder(served).build();
+
+        // "a", IAC WILL ECHO, "é", IAC NOP, "€"
+        byte[] euro = "€".getBytes(StandardCharsets.UTF_8);
+        viewer.write(ByteBuffer.wrap(new byte[] {
+                'a', (byte) 255, (byte) 251, 1, (byte) 0xC3, (byte) 0xA9, (byte) 255, (byte) 241,
+                euro[0], euro[1], euro[2]
+        }));
+
+        assertThat(backend.read(5000)).isEqualTo('a');
+        assertThat(backend.peek(5000)).isEqualTo('é');
+        assertThat(backend.read(5000)).isEqualTo('é');
+        assertThat(backend.read(5000)).isEqualTo('€');
+        assertThat(backend.read(0)).isEqualTo(-2);
+        backend.close();
+    }
+
+    @Test
+    @DisplayName("Read returns -1 once the viewer disconnects")
+    void endOfInput() throws IOException {
+        StreamBackend backend = StreamBackend.builder(served).build();
+        viewer.close();
+
+        assertThat(backend.read(5000)).isEqualTo(-1);
+        assertThat(backend.read(0)).isEqualTo(-1);
+        backend.close();
+    }
+
+    @Test
+    @DisplayName("Frames are skipped while the output backlog exceeds the high-water mark")
+    void skipsFramesAboveHighWaterMark() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        OutputStream slowViewer = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                received.write(b, off, len);
+            }
+        };
+        AtomicInteger counter = new AtomicInteger();
+        StreamBackend backend = StreamBackend.builder(new PipedInputStream(new PipedOutputStream()), slowViewer)
+                .size(new Size(40, 5))
+                .highWaterMark(16)
+                .build();
+        Terminal<StreamBackend> terminal = new Terminal<>(backend);
+
+        for (int i = 0; i < 5; i++) {
+            terminal.draw(frame -> frame.buffer().setString(0, 0, "frame-" + counter.incrementAndGet(), Style.EMPTY));
+        }
+        assertThat(backend.framesSkipped()).isGreaterThan(0);
+        assertThat(backend.pendingOutputBytes()).isGreaterThan(16);
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (backend.pendingOutputBytes() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(backend.isReadyForFrame()).isTrue();
+
+        // The next drawn frame carries the changes of the skipped ones
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "frame-final", Style.EMPTY));
+        terminal.close();
+        assertThat(stripEscapes(received.toString("UTF-8"))).contains("frame-1").contains("final");
+    }
+
+    @Test
+    @DisplayName("A skipped last frame is sent once the backlog drains, without another draw")
+    void sendsPendingFrameWhenBacklogDrains() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        OutputStream slowViewer = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                synchronized (received) {
+                    received.write(b, off, len);
+                }
+            }
+        };
+        StreamBackend backend = StreamBackend.builder(new PipedInputStream(new PipedOutputStream()), slowViewer)
+                .size(new Size(40, 5))
+                .highWaterMark(16)
+                .build();
+        CountDownLatch ready = new CountDownLatch(1);
+        backend.onReadyForFrame(ready::countDown);
+        Terminal<StreamBackend> terminal = new Terminal<>(backend);
+
+        // Fill the backlog; the last frame is skipped and nothing is drawn after it
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "frame-first", Style.EMPTY));
+        terminal.draw(frame -> frame.buffer().setString(0, 1, "frame-last", Style.EMPTY));
+        assertThat(backend.framesSkipped()).isEqualTo(1);
+        assertThat(terminal.hasPendingFrame()).isTrue();
+
+        release.countDown();
+        assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(terminal.drawPendingFrame()).isTrue();
+        assertThat(terminal.hasPendingFrame()).isFalse();
+        assertThat(terminal.drawPendingFrame()).isFalse();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (backend.pendingOutputBytes() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        String text;
+        synchronized (received) {
+            text = stripEscapes(received.toString("UTF-8"));
+        }
+        assertThat(text).contains("frame-first").contains("frame-last");
+        terminal.close();
+    }
+
+    private String readFromViewer(String expected) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String text = "";
+        while (!text.contains(expected) && System.nanoTime() < deadline) {
+            int n = viewer.read(buffer);
+            if (n < 0) {
+                break;
+            }
+            received.write(buffer.array(), 0, n);
+            buffer.clear();
+            text = stripEscapes(received.toString("UTF-8"));
+        }
+        return text;
+    }
+
+    private static String stripEscapes(String output) {
+        // Each cell is preceded by a cursor move, so drop CSI sequences to read the text
+        return output.replaceAll("\u001b\\[[0-9;?]*[A-Za-z]", "");
+    }
+}
@@ -0,0 +1,505 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.app;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import dev.tamboui.css.engine.StyleEngine;
+import dev.tamboui.css.model.Stylesheet;
+import dev.tamboui.css.parser.CssParser;
+import dev.tamboui.layout.cassowary.LayoutCache;
+import dev.tamboui.terminal.Backend;
+import dev.tamboui.tui.RunnerMetrics;
+import dev.tamboui.tui.TuiConfig;
+import dev.tamboui.tui.bindings.BindingSets;
+import dev.tamboui.tui.bindings.Bindings;
+
+/**
+ * Hosts many {@link ToolkitRunner} sessions in a single JVM.
+ * <p>
+ * Each session has its own {@link Backend} (for example one per SSH connection)
+ * and its own event loop, but sessions share everything that does not depend
+ * on per-session state:
+ * <ul>
+ *   <li>stylesheets are parsed once and the immutable {@link Stylesheet}s are
+ *       registered with every session's {@link StyleEngine}</li>
+ *   <li>ticks and resize checks of all sessions run on the shared scheduler
+ *       (see {@link TuiConfig.Builder#sharedScheduler()})</li>
+ *   <li>optionally, layout solver results are cached once for all sessions
+ *       (see {@link Builder#sharedLayoutCache(boolean)})</li>
+ *   <li>event loops and input readers run on virtual threads when the JVM
+ *       supports them, or on a caller-provided {@link Executor}</li>
+ * </ul>
+ * Slow clients do not affect other sessions: a session whose backend blocks on
+ * writes simply renders fewer frames, as ticks are coalesced while one is
+ * pending (see {@link TuiConfig.Builder#coalesceTicks(boolean)}).
+ * {@link Session#metrics()} exposes per-session frame timings and the number
+ * of coalesced ticks.
+ *
+ * <pre>{@code
+ * SessionHost host = SessionHost.builder()
+ *     .stylesheet(css)
+ *     .configure(config -> config.tickRate(Duration.ofMillis(100)))
+ *     .build();
+ *
+ * // For each incoming connection:
+ * host.open(connectionBackend, runner -> runner.run(() -> dashboard()));
+ * }</pre>
+ */
+public final class SessionHost implements AutoCloseable {
+
+    private static final String THREAD_NAME_PREFIX = "tamboui-session-";
+
+    // Hosts currently sharing the layout cache, and whether it was shared before the first one
+    private static final Object LAYOUT_CACHE_LOCK = new Object();
+    private static int layoutCacheUsers;
+    private static boolean layoutCacheSharedBefore;
+
+    private final Consumer<TuiConfig.Builder> configurer;
+    private final Bindings bindings;
+    private final List<Stylesheet> stylesheets;
+    private final Map<String, Stylesheet> namedStylesheets;
+    private final String activeStylesheet;
+    private final Executor executor;
+    private final boolean virtualThreads;
+    private final boolean sharedLayoutCache;
+    private final Map<Long, Session> sessions;
+    private final AtomicLong nextId;
+    private final Object lock = new Object();
+    private boolean closed;
+
+    private SessionHost(Builder builder) {
+        this.configurer = builder.configurer;
+        this.bindings = builder.bindings;
+        this.stylesheets = Collections.unmodifiableList(new ArrayList<>(builder.stylesheets));
+        this.namedStylesheets = Collections.unmodifiableMap(new LinkedHashMap<>(builder.namedStylesheets));
+        this.activeStylesheet = builder.activeStylesheet;
+        this.executor = builder.executor;
+        this.virtualThreads = builder.virtualThreads;
+        this.sharedLayoutCache = builder.sharedLayoutCache;
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong(1);
+        if (sharedLayoutCache) {
+            synchronized (LAYOUT_CACHE_LOCK) {
+                if (layoutCacheUsers++ == 0) {
+                    layoutCacheSharedBefore = LayoutCache.isShared();
+                    LayoutCache.setShared(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a builder for a session host.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Opens a new session on the given backend and starts it.
+     * <p>
+     * The application is run on its own event loop thread. When it returns
+     * (or fails), the session's runner is closed, which also closes the backend.
+     *
+     * @param backend the backend of the session, e.g. wrapping a network connection
+     * @param app     the application to run in the session
+     * @return the started session
+     * @throws Exception if the runner cannot be created
+     * @throws IllegalStateException if the host is closed
+     */
+    public Session open(Backend backend, SessionApp app) throws Exception {
+        Objects.requireNonNull(backend, "backend");
+        Objects.requireNonNull(app, "app");
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("Session host is closed");
+            }
+        }
+
+        TuiConfig.Builder config = TuiConfig.builder()
+                .shutdownHook(false)
+                .sharedScheduler()
+                .virtualThreads(virtualThreads)
+                .coalesceTicks(true);
+        configurer.accept(config);
+        config.backend(backend);
+
+        TuiConfig sessionConfig = config.build();
+        ToolkitRunner runner = ToolkitRunner.builder()
+                .config(sessionConfig)
+                .bindings(bindings)
+                .styleEngine(createStyleEngine())
+                .build();
+
+        Session session = new Session(nextId.getAndIncrement(), runner, app);
+        boolean registered;
+        synchronized (lock) {
+            // The host may have been closed while the runner was created
+            registered = !closed;
+            if (registered) {
+                sessions.put(session.id(), session);
+            }
+        }
+        if (!registered) {
+            runner.close();
+            throw new IllegalStateException("Session host is closed");
+        }
+        try {
+            if (executor != null) {
+                executor.execute(session::run);
+            } else {
+                sessionConfig.newThread(session::run, THREAD_NAME_PREFIX + session.id()).start();
+            }
+        } catch (RuntimeException e) {
+            sessions.remove(session.id());
+            runner.close();
+            throw e;
+        }
+        return session;
+    }
+
+    /**
+     * Returns the currently running sessions.
+     *
+     * @return a snapshot of the running sessions
+     */
+    public List<Session> sessions() {
+        return Collections.unmodifiableList(new ArrayList<>(sessions.values()));
+    }
+
+    /**
+     * Returns the number of currently running sessions.
+     *
+     * @return the session count
+     */
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops all sessions and prevents new ones from being opened.
+     * <p>
+     * Sessions are asked to quit; their runners and backends are closed by
+     * their own event loop threads once they exit. A caller-provided executor
+     * is not shut down. If this host enabled the shared layout cache, sharing
+     * is restored to its previous state once no open host uses it.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        for (Session session : sessions.values()) {
+            session.quit();
+        }
+        if (sharedLayoutCache) {
+            synchronized (LAYOUT_CACHE_LOCK) {
+                if (--layoutCacheUsers == 0) {
+                    LayoutCache.setShared(layoutCacheSharedBefore);
+                }
+            }
+        }
+    }
+
+    private StyleEngine createStyleEngine() {
+        if (stylesheets.isEmpty() && namedStylesheets.isEmpty()) {
+            return null;
+        }
+        StyleEngine engine = StyleEngine.create();
+        for (Stylesheet stylesheet : stylesheets) {
+            engine.addStylesheet(stylesheet);
+        }
+        for (Map.Entry<String, Stylesheet> entry : namedStylesheets.entrySet()) {
+            engine.addStylesheet(entry.getKey(), entry.getValue());
+        }
+        if (activeStylesheet != null) {
+            engine.setActiveStylesheet(activeStylesheet);
+        }
+        return engine;
+    }
+
+    /**
+     * An application run inside a hosted session.
+     */
+    @FunctionalInterface
+    public interface SessionApp {
+        /**
+         * Runs the application, typically by calling {@link ToolkitRunner#run}.
+         *
+         * @param runner the session's runner
+         * @throws Exception if the application fails
+         */
+        void run(ToolkitRunner runner) throws Exception;
+    }
+
+    /**
+     * A running session of a {@link SessionHost}.
+     */
+    public final class Session {
+        private final long id;
+        private final ToolkitRunner runner;
+        private final SessionApp app;
+        private final CountDownLatch terminated;
+        private volatile Throwable failure;
+
+        private Session(long id, ToolkitRunner runner, SessionApp app) {
+            this.id = id;
+            this.runner = runner;
+            this.app = app;
+            this.terminated = new CountDownLatch(1);
+        }
+
+        private void run() {
+            try {
+                app.run(runner);
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                try {
+                    runner.close();
+                } finally {
+                    sessions.remove(id);
+                    terminated.countDown();
+                }
+            }
+        }
+
+        /**
+         * Returns the identifier of this session, unique within its host.
+         *
+         * @return the session id
+         */
+        public long id() {
+            return id;
+        }
+
+        /**
+         * Returns the runner of this session.
+         *
+         * @return the runner
+         */
+        public ToolkitRunner runner() {
+            return runner;
+        }
+
+        /**
+         * Returns a snapshot of this session's rendering metrics.
+         *
+         * @return the metrics
+         */
+        public RunnerMetrics metrics() {
+            return runner.tuiRunner().metrics();
+        }
+
+        /**
+         * Returns whether this session is still running.
+         *
+         * @return true if the session has not terminated
+         */
+        public boolean isRunning() {
+            return terminated.getCount() > 0;
+        }
+
+        /**
+         * Returns the failure that terminated this session, if any.
+         *
+         * @return the failure, or null if the session ended normally or is still running
+         */
+        public Throwable failure() {
+            return failure;
+        }
+
+        /**
+         * Asks this session to quit.
+         */
+        public void quit() {
+            runner.quit();
+        }
+
+        /**
+         * Waits for this session to terminate.
+         *
+         * @param timeout the maximum time to wait
+         * @return true if the session terminated, false if the timeout elapsed
+         * @throws InterruptedException if interrupted while waiting
+         */
+        public boolean awaitTermination(Duration timeout) throws InterruptedException {
+            return terminated.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "Session[id=" + id + ", running=" + isRunning() + "]";
+        }
+    }
+
+    /**
+     * Builder for {@link SessionHost} instances.
+     */
+    public static final class Builder {
+        private Consumer<TuiConfig.Builder> configurer = config -> { };
+        private Bindings bindings = BindingSets.defaults();
+        private final List<Stylesheet> stylesheets = new ArrayList<>();
+        private final Map<String, Stylesheet> namedStylesheets = new LinkedHashMap<>();
+        private String activeStylesheet;
+        private Executor executor;
+        private boolean virtualThreads = true;
+        private boolean sharedLayoutCache;
+
+        private Builder() {
+        }
+
+        /**
+         * Customizes the TUI configuration of each session.
+         * <p>
+         * The builder passed to the configurer already uses the shared scheduler,
+         * has no shutdown hook and prefers virtual threads. The backend is always
+         * the one passed to {@link SessionHost#open}.
+         *
+         * @param configurer the configuration customizer
+         * @return this builder
+         */
+        public Builder configure(Consumer<TuiConfig.Builder> configurer) {
+            this.configurer = Objects.requireNonNull(configurer, "configurer");
+            return this;
+        }
+
+        /**
+         * Sets the bindings used by every session.
+         *
+         * @param bindings the bindings
+         * @return this builder
+         */
+        public Builder bindings(Bindings bindings) {
+            this.bindings = bindings != null ? bindings : BindingSets.defaults();
+            return this;
+        }
+
+        /**
+         * Adds a stylesheet applied to every session.
+         * <p>
+         * The CSS is parsed once, when this method is called.
+         *
+         * @param css the CSS source code
+         * @return this builder
+         */
+        public Builder stylesheet(String css) {
+            return stylesheet(CssParser.parse(css));
+        }
+
+        /**
+         * Adds a parsed stylesheet applied to every session.
+         *
+         * @param stylesheet the stylesheet
+         * @return this builder
+         */
+        public Builder stylesheet(Stylesheet stylesheet) {
+            this.stylesheets.add(Objects.requireNonNull(stylesheet, "stylesheet"));
+            return this;
+        }
+
+        /**
+         * Adds a named stylesheet (theme) available to every session.
+         * <p>
+         * The CSS is parsed once, when this method is called. Sessions can switch
+         * themes independently through their own style engine.
+         *
+         * @param name the stylesheet name
+         * @param css  the CSS source code
+         * @return this builder
+         */
+        public Builder stylesheet(String name, String css) {
+            this.namedStylesheets.put(name, CssParser.parse(css));
+            return this;
+        }
+
+        /**
+         * Sets the named stylesheet that is initially active in every session.
+         *
+         * @param name the stylesheet name
+         * @return this builder
+         */
+        public Builder activeStylesheet(String name) {
+            this.activeStylesheet = name;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the session event loops.
+         * <p>
+         * By default each session runs on its own thread, which is a virtual
+         * thread when {@link #virtualThreads(boolean)} is enabled and supported.
+         * The executor must be able to run one long-lived task per session.
+         *
+         * @param executor the executor, or null to use the default
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets whether sessions prefer virtual threads (default: true).
+         * <p>
+         * On JVMs without virtual threads, platform daemon threads are used.
+         *
+         * @param virtualThreads true to prefer virtual threads
+         * @return this builder
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Sets whether the layout cache is shared by all threads while the host
+         * is open (default: false).
+         * <p>
+         * Sharing affects every layout computed in the JVM, not only those of
+         * the sessions. It is enabled when the host is built, and restored to
+         * its previous state when the last host that enabled it is closed.
+         *
+         * @param shared true to share the layout cache
+         * @return this builder
+         * @see LayoutCache#setShared(boolean)
+         */
+        public Builder sharedLayoutCache(boolean shared) {
+            this.sharedLayoutCache = shared;
+            return this;
+        }
+
+        /**
+         * Builds the session host.
+         *
+         * @return a new session host
+         * @throws IllegalArgumentException if the active stylesheet is not a known named stylesheet
+         */
+        public SessionHost build() {
+            if (activeStylesheet != null && !namedStylesheets.containsKey(activeStylesheet)) {
+                throw new IllegalArgumentException("No stylesheet named: " + activeStylesheet);
+            }
+            return new SessionHost(this);
+        }
+    }
+}
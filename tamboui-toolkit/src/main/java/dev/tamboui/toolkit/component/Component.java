@@ -40,6 +40,13 @@ import dev.tamboui.tui.event.MouseEvent;
  *     }
  * }
  * }</pre>
+ * <p>
+ * By default {@link #render()} is called on every frame. A component whose
+ * output only depends on a few inputs can return them from {@link #props()}:
+ * while the props are equal to those of the previous frame, and the component
+ * keeps the same area and focus state, the element tree built last time is
+ * rendered again without calling {@link #render()}. Components with other
+ * criteria can override {@link #shouldRender()} instead.
  *
  * @param <T> the concrete component subclass, for fluent method chaining
  */
@@ -58,6 +65,11 @@ public abstract class Component<T extends Component<T>> extends StyledElement<T>
 
     private ActionHandler actionHandler;
     private RenderContext currentRenderContext;
+    private Element lastContent;
+    private Object lastProps;
+    private Rect lastArea;
+    private boolean lastFocused;
+    private boolean invalidated = true;
 
     @Override
     public boolean isFocusable() {
@@ -81,6 +93,44 @@ public abstract class Component<T extends Component<T>> extends StyledElement<T>
      */
     protected abstract Element render();
 
+    /**
+     * Returns the inputs that {@link #render()} depends on, compared with
+     * {@link Object#equals(Object)} between frames.
+     * <p>
+     * The default returns null, meaning the component has no declared props
+     * and is rendered on every frame.
+     *
+     * @return the props, or null to render on every frame
+     */
+    protected Object props() {
+        return null;
+    }
+
+    /**
+     * Returns whether {@link #render()} must be called for this frame.
+     * <p>
+     * This is only consulted when the component was rendered before, in the
+     * same area and focus state, and has not been {@link #invalidate() invalidated}.
+     * The default returns true unless {@link #props()} is non-null and equal
+     * to the props of the previous render.
+     *
+     * @return true to rebuild the element tree, false to reuse the previous one
+     */
+    protected boolean shouldRender() {
+        Object props = props();
+        return props == null || !props.equals(lastProps);
+    }
+
+    /**
+     * Forces {@link #render()} to be called on the next frame.
+     * <p>
+     * Handled key and mouse events invalidate the component automatically,
+     * since handlers usually change its state.
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
     @Override
     protected final void renderContent(Frame frame, Rect area, RenderContext renderContext) {
         // Auto-generate ID if not set (Component is always focusable)
@@ -100,8 +150,19 @@ public abstract class Component<T extends Component<T>> extends StyledElement<T>
         // Register as focusable
         internalContext.focusManager().registerFocusable(elementId, area);
 
-        // Render the component's content
-        Element content = render();
+        // Render the component's content, reusing the previous tree when memoized
+        boolean focused = renderContext.isFocused(elementId);
+        Element content;
+        if (invalidated || !area.equals(lastArea) || focused != lastFocused || shouldRender()) {
+            content = render();
+            lastContent = content;
+            lastProps = props();
+            lastArea = area;
+            lastFocused = focused;
+            invalidated = false;
+        } else {
+            content = lastContent;
+        }
         if (content != null) {
             renderContext.renderChild(content, frame, area);
         }
@@ -113,6 +174,7 @@ public abstract class Component<T extends Component<T>> extends StyledElement<T>
      */
     public EventResult handleKeyEvent(KeyEvent event, boolean focused) {
         if (focused && actionHandler != null && actionHandler.dispatch(event)) {
+            invalidate();
             return EventResult.HANDLED;
         }
         return EventResult.UNHANDLED;
@@ -124,6 +186,7 @@ public abstract class Component<T extends Component<T>> extends StyledElement<T>
      */
     public EventResult handleMouseEvent(MouseEvent event) {
         if (actionHandler != null && actionHandler.dispatch(event)) {
+            invalidate();
             return EventResult.HANDLED;
         }
         return EventResult.UNHANDLED;
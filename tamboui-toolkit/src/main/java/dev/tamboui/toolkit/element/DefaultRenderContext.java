@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -19,6 +20,7 @@ import dev.tamboui.css.Styleable;
 import dev.tamboui.css.cascade.CssStyleResolver;
 import dev.tamboui.css.cascade.PseudoClassState;
 import dev.tamboui.css.engine.StyleEngine;
+import dev.tamboui.css.selector.AncestorFilter;
 import dev.tamboui.layout.Rect;
 import dev.tamboui.style.Color;
 import dev.tamboui.style.Style;
@@ -51,10 +53,13 @@ public final class DefaultRenderContext implements RenderContext {
     private final ElementRegistry elementRegistry;
     private final Deque<Style> styleStack = new ArrayDeque<>();
     private final Deque<Styleable> elementStack = new ArrayDeque<>();
+    private final AncestorFilter ancestorFilter = new AncestorFilter();
     private final Deque<CssStyleResolver> resolverStack = new ArrayDeque<>();
+    private final MarkupTextCache markupCache = new MarkupTextCache(MarkupTextCache.DEFAULT_MAX_ENTRIES);
     private StyleEngine styleEngine;
     private Bindings bindings = BindingSets.defaults();
     private boolean faultTolerant;
+    private long measureGeneration;
 
     /**
      * Creates a new render context.
@@ -88,6 +93,7 @@ public final class DefaultRenderContext implements RenderContext {
      */
     public void setStyleEngine(StyleEngine styleEngine) {
         this.styleEngine = styleEngine;
+        measureGeneration++;
     }
 
     /**
@@ -196,6 +202,17 @@ public final class DefaultRenderContext implements RenderContext {
         return resolved.hasProperties() ? Optional.of(resolved) : Optional.empty();
     }
 
+    @Override
+    public long styleVersion() {
+        // Engine versions are positive and unique across engines
+        return styleEngine != null ? styleEngine.version() : 0;
+    }
+
+    @Override
+    public Optional<MarkupTextCache> markupCache() {
+        return Optional.of(markupCache);
+    }
+
     /**
      * A simple Styleable for resolving CSS styles by type and classes.
      */
@@ -301,8 +318,14 @@ public final class DefaultRenderContext implements RenderContext {
         Styleable virtual = new VirtualChild(childType, parent);
 
         // Build ancestor chain: parent's ancestors + parent
-        List<Styleable> ancestors = buildAncestorChain(parent);
-        ancestors.add(parent);
+        List<Styleable> ancestors;
+        if (parent.cssParent().isPresent()) {
+            ancestors = buildAncestorChain(parent);
+            ancestors.add(parent);
+        } else {
+            // The element stack already ends with the parent
+            ancestors = ancestorsFromStack();
+        }
 
         CssStyleResolver resolved = styleEngine.resolve(virtual, state, ancestors);
         return resolved.hasProperties()
@@ -367,12 +390,23 @@ public final class DefaultRenderContext implements RenderContext {
         // If no explicit parent, use the element stack (runtime render hierarchy)
         // This enables descendant selectors for dynamically created elements
         if (ancestors.isEmpty() && !elementStack.isEmpty()) {
-            ancestors.addAll(elementStack);
+            return ancestorsFromStack();
         }
 
         return ancestors;
     }
 
+    private List<Styleable> ancestorsFromStack() {
+        // The stack's head is the innermost element; ancestor chains run from the root
+        List<Styleable> ancestors = new ArrayList<>(elementStack.size() + 1);
+        Iterator<Styleable> it = elementStack.descendingIterator();
+        while (it.hasNext()) {
+            ancestors.add(it.next());
+        }
+        // Lets descendant and child selectors reject without walking the chain
+        return ancestorFilter.attachTo(ancestors);
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // Internal API (for framework use only)
     // ═══════════════════════════════════════════════════════════════
@@ -474,17 +508,23 @@ public final class DefaultRenderContext implements RenderContext {
         Style merged = currentStyle().patch(style);
         styleStack.push(merged);
         elementStack.push(element);
+        ancestorFilter.push(element);
         if (resolver != null) {
             resolverStack.push(resolver);
         }
         try {
             action.run();
         } finally {
+            ancestorFilter.pop();
             elementStack.pop();
             styleStack.pop();
             if (resolver != null) {
                 resolverStack.pop();
             }
+            if (elementStack.isEmpty()) {
+                // The render pass is over: measurements taken during it are stale
+                measureGeneration++;
+            }
         }
     }
 
@@ -508,4 +548,26 @@ public final class DefaultRenderContext implements RenderContext {
     public Optional<CssStyleResolver> currentResolver() {
         return resolverStack.isEmpty() ? Optional.empty() : Optional.of(resolverStack.peek());
     }
+
+    /**
+     * Returns the measurement generation, which changes at the end of each
+     * render pass and whenever the style engine changes.
+     * <p>
+     * Elements reuse measurements taken in the same generation.
+     *
+     * @return the current measurement generation
+     */
+    long measureGeneration() {
+        return measureGeneration;
+    }
+
+    /**
+     * Returns the innermost element being rendered, which determines the CSS
+     * ancestors of elements measured now.
+     *
+     * @return the current element, or null if no element is being rendered
+     */
+    Styleable measureScope() {
+        return elementStack.peek();
+    }
 }
@@ -78,6 +78,24 @@ public interface Element {
         return preferredSize(-1, -1, null);
     }
 
+    /**
+     * Measures this element, reusing an earlier measurement when possible.
+     * <p>
+     * Containers call this rather than {@link #preferredSize(int, int, RenderContext)}
+     * when laying out their children, since a child is typically measured several
+     * times per frame at each level of nesting. The default implementation
+     * delegates to {@link #preferredSize(int, int, RenderContext)};
+     * {@link StyledElement} caches the result for the rest of the render pass.
+     *
+     * @param availableWidth the available width in cells, or -1 if unconstrained
+     * @param availableHeight the available height in cells, or -1 if unconstrained
+     * @param context the render context for CSS resolution, may be null
+     * @return the preferred size
+     */
+    default Size measure(int availableWidth, int availableHeight, RenderContext context) {
+        return preferredSize(availableWidth, availableHeight, context);
+    }
+
     /**
      * Returns whether this element can receive focus.
      *
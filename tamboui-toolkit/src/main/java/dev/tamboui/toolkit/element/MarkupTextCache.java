@@ -0,0 +1,155 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import dev.tamboui.style.Style;
+import dev.tamboui.text.MarkupParser;
+import dev.tamboui.text.Text;
+
+/**
+ * Parsed markup kept across frames by a {@link RenderContext}.
+ * <p>
+ * Toolkit applications usually rebuild their element tree on every frame, so
+ * parsed markup held by an element would be lost with it. This cache belongs to
+ * the render context instead, which lives as long as the application.
+ * <p>
+ * Entries are keyed by the markup and the
+ * {@linkplain RenderContext#styleVersion() style version}. Each entry also
+ * records the style every tag of the markup resolved to, and is only reused when
+ * the current resolver resolves those tags to equal styles. A resolver created
+ * anew on every frame therefore still hits the cache, and one that resolves a
+ * tag differently does not.
+ * <p>
+ * When more than the configured number of entries are cached, the least
+ * recently used one is evicted.
+ */
+public final class MarkupTextCache {
+
+    /**
+     * The default maximum number of cached entries.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final Map<Key, Parsed> entries;
+
+    /**
+     * Creates a cache holding at most the given number of entries.
+     *
+     * @param maxEntries the maximum number of entries
+     */
+    public MarkupTextCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be >= 1: " + maxEntries);
+        }
+        this.entries = new LinkedHashMap<Key, Parsed>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Parsed> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the text parsed from the markup at the given style version, if
+     * the resolver resolves the tags it used to the same styles.
+     *
+     * @param markup the markup
+     * @param styleVersion the style version, must not be negative
+     * @param resolver the resolver the markup would be parsed with
+     * @return the cached text, or null if it must be parsed
+     */
+    public synchronized Text get(String markup, long styleVersion, MarkupParser.StyleResolver resolver) {
+        Parsed entry = entries.get(new Key(markup, styleVersion));
+        if (entry == null) {
+            return null;
+        }
+        for (int i = 0; i < entry.tags.length; i++) {
+            if (!Objects.equals(resolver.resolve(entry.tags[i]), entry.styles[i])) {
+                return null;
+            }
+        }
+        return entry.text;
+    }
+
+    /**
+     * Stores the text parsed from the markup.
+     *
+     * @param markup the markup
+     * @param styleVersion the style version, must not be negative
+     * @param text the parsed text
+     * @param resolvedTags the styles the tags of the markup resolved to, null for unresolved tags
+     */
+    public synchronized void put(String markup, long styleVersion, Text text, Map<String, Style> resolvedTags) {
+        if (styleVersion < 0) {
+            throw new IllegalArgumentException("styleVersion must be >= 0: " + styleVersion);
+        }
+        entries.put(new Key(markup, styleVersion), new Parsed(text, resolvedTags));
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static final class Key {
+        private final String markup;
+        private final long styleVersion;
+
+        Key(String markup, long styleVersion) {
+            this.markup = markup;
+            this.styleVersion = styleVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return styleVersion == other.styleVersion && markup.equals(other.markup);
+        }
+
+        @Override
+        public int hashCode() {
+            return markup.hashCode() * 31 + Long.hashCode(styleVersion);
+        }
+    }
+
+    private static final class Parsed {
+        private final Text text;
+        private final String[] tags;
+        private final Style[] styles;
+
+        Parsed(Text text, Map<String, Style> resolvedTags) {
+            this.text = text;
+            this.tags = new String[resolvedTags.size()];
+            this.styles = new Style[resolvedTags.size()];
+            int i = 0;
+            for (Map.Entry<String, Style> tag : resolvedTags.entrySet()) {
+                tags[i] = tag.getKey();
+                styles[i] = tag.getValue();
+                i++;
+            }
+        }
+    }
+}
@@ -63,6 +63,31 @@ public interface RenderContext {
         return Optional.empty();
     }
 
+    /**
+     * Returns the version of the styles resolved by {@link #resolveStyle(String, String...)}.
+     * <p>
+     * Results derived from those styles, such as parsed markup, can be reused
+     * while the version is unchanged. A negative value means the version is
+     * unknown, and such results must not be reused.
+     *
+     * @return the style version, or a negative value if unknown
+     */
+    default long styleVersion() {
+        return -1;
+    }
+
+    /**
+     * Returns the cache of parsed markup kept by this context across frames.
+     * <p>
+     * Markup elements use it so that markup rendered by a freshly built element
+     * tree is not parsed again on every frame.
+     *
+     * @return the markup cache, or empty if this context does not keep one
+     */
+    default Optional<MarkupTextCache> markupCache() {
+        return Optional.empty();
+    }
+
     /**
      * Parses a CSS color value string into a Color.
      * <p>
@@ -76,6 +76,11 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
     /** The last area this element was rendered in. */
     protected Rect lastRenderedArea;
 
+    private static final int MEASURE_CACHE_SIZE = 4;
+    private Measurement[] measurements;
+    private int nextMeasurement;
+    private int measureVersion;
+
     /**
      * Returns this element cast to the concrete type for method chaining.
      *
@@ -337,6 +342,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
      */
     public T style(Style style) {
         this.style = style;
+        invalidateMeasure();
         return self();
     }
 
@@ -349,6 +355,59 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
         return style;
     }
 
+    // ═══════════════════════════════════════════════════════════════
+    // Measurement
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Measures this element, reusing a measurement taken earlier in the same
+     * render pass with the same available size and CSS ancestors.
+     * <p>
+     * Measurements are only cached with a {@link DefaultRenderContext}; they are
+     * discarded at the end of each render pass, when the style engine changes,
+     * and when {@link #invalidateMeasure()} is called.
+     *
+     * @param availableWidth the available width in cells, or -1 if unconstrained
+     * @param availableHeight the available height in cells, or -1 if unconstrained
+     * @param context the render context for CSS resolution, may be null
+     * @return the preferred size
+     */
+    @Override
+    public Size measure(int availableWidth, int availableHeight, RenderContext context) {
+        if (!(context instanceof DefaultRenderContext)) {
+            return preferredSize(availableWidth, availableHeight, context);
+        }
+        DefaultRenderContext ctx = (DefaultRenderContext) context;
+        long generation = ctx.measureGeneration();
+        Styleable scope = ctx.measureScope();
+        if (measurements == null) {
+            measurements = new Measurement[MEASURE_CACHE_SIZE];
+        }
+        for (Measurement m : measurements) {
+            if (m != null && m.width == availableWidth && m.height == availableHeight
+                    && m.context == ctx && m.generation == generation
+                    && m.scope == scope && m.version == measureVersion) {
+                return m.size;
+            }
+        }
+        Size size = preferredSize(availableWidth, availableHeight, context);
+        measurements[nextMeasurement] = new Measurement(availableWidth, availableHeight,
+                ctx, generation, scope, measureVersion, size);
+        nextMeasurement = (nextMeasurement + 1) % MEASURE_CACHE_SIZE;
+        return size;
+    }
+
+    /**
+     * Discards cached measurements of this element.
+     * <p>
+     * The CSS setters of this class call it automatically. Subclasses whose
+     * content can change while a render pass is in progress should call it
+     * after such a change.
+     */
+    public void invalidateMeasure() {
+        measureVersion++;
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // Render template method
     // ═══════════════════════════════════════════════════════════════
@@ -532,6 +591,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
      */
     public T constraint(Constraint constraint) {
         this.layoutConstraint = constraint;
+        invalidateMeasure();
         return self();
     }
 
@@ -673,6 +733,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
             throw new TuiException("Element ID cannot be changed once set. Current ID: " + this.elementId);
         }
         this.elementId = id;
+        invalidateMeasure();
         return self();
     }
 
@@ -695,6 +756,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
                 this.cssClasses.add(c);
             }
         }
+        invalidateMeasure();
         return self();
     }
 
@@ -706,6 +768,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
      */
     public T removeClass(String className) {
         this.cssClasses.remove(className);
+        invalidateMeasure();
         return self();
     }
 
@@ -722,6 +785,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
         } else {
             this.cssClasses.remove(className);
         }
+        invalidateMeasure();
         return self();
     }
 
@@ -733,6 +797,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
      */
     public T cssParent(Styleable parent) {
         this.cssParent = parent;
+        invalidateMeasure();
         return self();
     }
 
@@ -752,6 +817,7 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
         } else {
             this.styleAttrs.remove(name);
         }
+        invalidateMeasure();
         return self();
     }
 
@@ -983,4 +1049,28 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
     public DragHandler dragHandler() {
         return dragHandler;
     }
+
+    /**
+     * A cached measurement and the conditions it was taken under.
+     */
+    private static final class Measurement {
+        private final int width;
+        private final int height;
+        private final DefaultRenderContext context;
+        private final long generation;
+        private final Styleable scope;
+        private final int version;
+        private final Size size;
+
+        Measurement(int width, int height, DefaultRenderContext context, long generation,
+                    Styleable scope, int version, Size size) {
+            this.width = width;
+            this.height = height;
+            this.context = context;
+            this.generation = generation;
+            this.scope = scope;
+            this.version = version;
+            this.size = size;
+        }
+    }
 }
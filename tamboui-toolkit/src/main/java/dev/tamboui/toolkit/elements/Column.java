@@ -123,7 +123,7 @@ public final class Column extends ContainerElement<Column> {
         // Calculate width: max of children widths
         int maxWidth = 0;
         for (Element child : children) {
-            Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+            Size childSize = child.measure(availableWidth, availableHeight, context);
             maxWidth = Math.max(maxWidth, childSize.widthOr(0));
         }
         if (margin != null) {
@@ -133,7 +133,7 @@ public final class Column extends ContainerElement<Column> {
         // Calculate height: sum of children heights + spacing
         int totalHeight = 0;
         for (Element child : children) {
-            Size childSize = child.preferredSize(availableWidth, -1, context);
+            Size childSize = child.measure(availableWidth, -1, context);
             totalHeight += childSize.heightOr(1);
         }
         totalHeight += totalSpacing;
@@ -205,12 +205,12 @@ public final class Column extends ContainerElement<Column> {
                 // First try text element special case
                 c = calculateDefaultConstraint(child);
                 if (c == null) {
-                    Size size = child.preferredSize(-1, -1, context);
+                    Size size = child.measure(-1, -1, context);
                     int preferred = size.height();
                     c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
                 }
             } else if (c instanceof Constraint.Fit) {
-                Size size = child.preferredSize(-1, -1, context);
+                Size size = child.measure(-1, -1, context);
                 int preferred = size.height();
                 c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
             }
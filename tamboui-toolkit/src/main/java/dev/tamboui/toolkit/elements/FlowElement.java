@@ -145,7 +145,7 @@ public final class FlowElement extends ContainerElement<FlowElement> {
         // Calculate width: Single-row estimate (sum of all children widths + spacing)
         int totalWidth = 0;
         for (int i = 0; i < children.size(); i++) {
-            totalWidth += children.get(i).preferredSize(availableWidth, availableHeight, context).widthOr(0);
+            totalWidth += children.get(i).measure(availableWidth, availableHeight, context).widthOr(0);
             if (i < children.size() - 1) {
                 totalWidth += effectiveSpacing;
             }
@@ -174,7 +174,7 @@ public final class FlowElement extends ContainerElement<FlowElement> {
                 int rowHeight = 0;
 
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(-1, -1, context);
+                    Size childSize = child.measure(-1, -1, context);
                     int childWidth = childSize.widthOr(0);
 
                     // Wrap check
@@ -184,7 +184,7 @@ public final class FlowElement extends ContainerElement<FlowElement> {
                         rowHeight = 0;
                     }
 
-                    int childHeight = child.preferredSize(childWidth, -1, context).heightOr(1);
+                    int childHeight = child.measure(childWidth, -1, context).heightOr(1);
                     rowHeight = Math.max(rowHeight, childHeight);
                     currentX += childWidth + effectiveSpacing;
                 }
@@ -252,9 +252,9 @@ public final class FlowElement extends ContainerElement<FlowElement> {
         List<Widget> childWidgets = new ArrayList<>(children.size());
 
         for (Element child : children) {
-            Size childSize = child.preferredSize(-1, -1, context);
+            Size childSize = child.measure(-1, -1, context);
             int childWidth = Math.max(1, childSize.widthOr(1));
-            int childHeight = Math.max(1, child.preferredSize(childWidth, -1, context).heightOr(1));
+            int childHeight = Math.max(1, child.measure(childWidth, -1, context).heightOr(1));
             Widget widget = (a, b) -> context.renderChild(child, frame, a);
             flowItems.add(FlowItem.of(widget, childWidth, childHeight));
         }
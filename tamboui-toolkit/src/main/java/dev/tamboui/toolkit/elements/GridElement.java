@@ -326,7 +326,7 @@ public final class GridElement extends ContainerElement<GridElement> {
         } else {
             int maxChildWidth = 0;
             for (Element child : children) {
-                maxChildWidth = Math.max(maxChildWidth, child.preferredSize(availableWidth, availableHeight, context).widthOr(0));
+                maxChildWidth = Math.max(maxChildWidth, child.measure(availableWidth, availableHeight, context).widthOr(0));
             }
             width = maxChildWidth * cols;
         }
@@ -356,7 +356,7 @@ public final class GridElement extends ContainerElement<GridElement> {
                     int childIndex = row * cols + col;
                     if (childIndex < children.size()) {
                         Element child = children.get(childIndex);
-                        rowHeight = Math.max(rowHeight, child.preferredSize(colWidth, -1, context).heightOr(1));
+                        rowHeight = Math.max(rowHeight, child.measure(colWidth, -1, context).heightOr(1));
                     }
                 }
                 totalHeight += rowHeight;
@@ -577,7 +577,7 @@ public final class GridElement extends ContainerElement<GridElement> {
                     for (int row = 0; row < rows; row++) {
                         int childIndex = row * cols + c;
                         if (childIndex < childCount) {
-                            maxPreferred = Math.max(maxPreferred, children.get(childIndex).preferredSize(-1, -1, context).widthOr(0));
+                            maxPreferred = Math.max(maxPreferred, children.get(childIndex).measure(-1, -1, context).widthOr(0));
                         }
                     }
                     hConstraints.add(maxPreferred > 0 ? Constraint.length(maxPreferred) : Constraint.fill());
@@ -609,7 +609,7 @@ public final class GridElement extends ContainerElement<GridElement> {
                     if (childIndex < childCount) {
                         Element child = children.get(childIndex);
                         int colWidth = col < columnRects.size() ? columnRects.get(col).width() : 1;
-                        rowHeight = Math.max(rowHeight, child.preferredSize(colWidth, -1, context).heightOr(1));
+                        rowHeight = Math.max(rowHeight, child.measure(colWidth, -1, context).heightOr(1));
                     }
                 }
                 rowHeights[row] = rowHeight;
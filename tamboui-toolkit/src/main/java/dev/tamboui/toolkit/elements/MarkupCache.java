@@ -0,0 +1,203 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.elements;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import dev.tamboui.css.cascade.CssStyleResolver;
+import dev.tamboui.style.Style;
+import dev.tamboui.text.Line;
+import dev.tamboui.text.MarkupParser;
+import dev.tamboui.text.Text;
+import dev.tamboui.toolkit.element.MarkupTextCache;
+import dev.tamboui.toolkit.element.RenderContext;
+
+/**
+ * Parsed markup of a markup element.
+ * <p>
+ * Rendered markup is looked up in the {@linkplain RenderContext#markupCache()
+ * cache of the render context} first, which outlives element trees rebuilt on
+ * every frame. Otherwise it is parsed here, and markup that extends the markup
+ * previously parsed by the same element only has its new lines parsed (see
+ * {@link MarkupParser.IncrementalParser}).
+ * <p>
+ * Resolvers are compared by the styles they resolve the tags of the markup to,
+ * not by identity, so a resolver created anew on every frame does not force a
+ * re-parse. Line widths are cached as well, and only computed for new lines.
+ */
+final class MarkupCache {
+
+    private static final int[] NO_WIDTHS = new int[0];
+    private static final MarkupParser.StyleResolver NO_RESOLVER = tagName -> null;
+
+    private final MarkupParser.IncrementalParser parser = new MarkupParser.IncrementalParser();
+    // Styles the tags parsed since the last reset resolved to
+    private final Map<String, Style> resolvedTags = new HashMap<>();
+    private long styleVersion = -1;
+    private String markup;
+    private Text text;
+
+    private Text measuredText;
+    private List<Line> measuredLines;
+    private int[] lineWidths = NO_WIDTHS;
+    private int maxLineWidth;
+
+    /**
+     * Returns the markup parsed with the custom resolver and the CSS styles of the context.
+     *
+     * @param markup the markup
+     * @param customResolver the custom resolver, may be null
+     * @param context the render context
+     * @return the parsed text
+     */
+    Text render(String markup, MarkupParser.StyleResolver customResolver, RenderContext context) {
+        long version = context.styleVersion();
+        MarkupParser.StyleResolver resolver = combinedResolver(customResolver, context);
+        MarkupTextCache shared = version >= 0 ? context.markupCache().orElse(null) : null;
+        if (shared != null) {
+            Text cached = shared.get(markup, version, resolver);
+            if (cached != null) {
+                this.markup = markup;
+                text = cached;
+                return text;
+            }
+        }
+        if (version < 0 || version != styleVersion) {
+            reset();
+            styleVersion = version;
+        }
+        parse(markup, resolver);
+        if (shared != null) {
+            shared.put(markup, version, text, resolvedTags);
+        }
+        return text;
+    }
+
+    /**
+     * Returns the parsed markup for layout purposes. Styles do not affect the
+     * size of the text, so the last parse of the same markup is reused whatever
+     * resolver it was parsed with.
+     *
+     * @param markup the markup
+     * @param customResolver the custom resolver, may be null
+     * @return the parsed text
+     */
+    Text layout(String markup, MarkupParser.StyleResolver customResolver) {
+        if (text != null && markup.equals(this.markup)) {
+            return text;
+        }
+        parse(markup, customResolver != null ? customResolver : NO_RESOLVER);
+        return text;
+    }
+
+    /**
+     * Returns the text of the last parse, or null if nothing was parsed yet.
+     *
+     * @return the last parsed text
+     */
+    Text text() {
+        return text;
+    }
+
+    /**
+     * Returns the width of the widest line of the last parsed text.
+     *
+     * @return the maximum line width
+     */
+    int maxLineWidth() {
+        measure();
+        return maxLineWidth;
+    }
+
+    /**
+     * Returns the number of rows the last parsed text takes when wrapped to the given width.
+     *
+     * @param width the available width
+     * @return the wrapped height
+     */
+    int wrappedHeight(int width) {
+        measure();
+        int rows = 0;
+        for (int lineWidth : lineWidths) {
+            rows += lineWidth <= width || width <= 0 ? 1 : (lineWidth + width - 1) / width;
+        }
+        return rows;
+    }
+
+    private void parse(String markup, MarkupParser.StyleResolver resolver) {
+        // Lines kept by the incremental parser are only valid if their tags
+        // still resolve to the same styles
+        for (Map.Entry<String, Style> tag : resolvedTags.entrySet()) {
+            if (!Objects.equals(resolver.resolve(tag.getKey()), tag.getValue())) {
+                reset();
+                break;
+            }
+        }
+        this.markup = markup;
+        text = parser.parse(markup, tagName -> {
+            if (resolvedTags.containsKey(tagName)) {
+                return resolvedTags.get(tagName);
+            }
+            Style style = resolver.resolve(tagName);
+            resolvedTags.put(tagName, style);
+            return style;
+        });
+    }
+
+    private void reset() {
+        parser.reset();
+        resolvedTags.clear();
+    }
+
+    private void measure() {
+        if (text == measuredText) {
+            return;
+        }
+        List<Line> lines = text != null ? text.lines() : null;
+        int count = lines != null ? lines.size() : 0;
+        // Lines kept by the incremental parser are the same instances
+        int reused = 0;
+        if (measuredLines != null) {
+            int limit = Math.min(count, measuredLines.size());
+            while (reused < limit && lines.get(reused) == measuredLines.get(reused)) {
+                reused++;
+            }
+        }
+        int[] widths = new int[count];
+        System.arraycopy(lineWidths, 0, widths, 0, reused);
+        int max = 0;
+        for (int i = 0; i < count; i++) {
+            if (i >= reused) {
+                widths[i] = lines.get(i).width();
+            }
+            max = Math.max(max, widths[i]);
+        }
+        measuredText = text;
+        measuredLines = lines;
+        lineWidths = widths;
+        maxLineWidth = max;
+    }
+
+    private static MarkupParser.StyleResolver combinedResolver(MarkupParser.StyleResolver customResolver,
+                                                               RenderContext context) {
+        return tagName -> {
+            // 1. Check custom resolver
+            if (customResolver != null) {
+                Style customStyle = customResolver.resolve(tagName);
+                if (customStyle != null) {
+                    return customStyle;
+                }
+            }
+
+            // 2. Check TCSS via context (unknown tags are treated as CSS class names)
+            return context.resolveStyle(null, tagName)
+                    .map(CssStyleResolver::toStyle)
+                    .orElse(null);
+        };
+    }
+}
@@ -6,7 +6,6 @@ package dev.tamboui.toolkit.elements;
 
 import java.util.List;
 
-import dev.tamboui.css.cascade.CssStyleResolver;
 import dev.tamboui.layout.Alignment;
 import dev.tamboui.layout.Constraint;
 import dev.tamboui.layout.Rect;
@@ -83,8 +82,7 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
 
     private String markup;
     private MarkupParser.StyleResolver customResolver;
-    private Text parsedText;
-    private boolean textDirty = true;
+    private final MarkupCache cache = new MarkupCache();
 
     // Rendering options
     private Overflow overflow;
@@ -128,7 +126,6 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
      */
     public MarkupTextAreaElement markup(String markup) {
         this.markup = markup != null ? markup : "";
-        this.textDirty = true;
         return this;
     }
 
@@ -140,7 +137,6 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
      */
     public MarkupTextAreaElement customResolver(MarkupParser.StyleResolver resolver) {
         this.customResolver = resolver;
-        this.textDirty = true;
         return this;
     }
 
@@ -403,19 +399,16 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
      * @return the parsed text
      */
     public Text parsedText() {
-        ensureTextParsed();
-        return parsedText;
+        return ensureTextParsed();
     }
 
     @Override
     public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
-        ensureTextParsed();
+        // Measure the parse that will be rendered, found in the context's cache
+        Text parsedText = context != null ? cache.render(markup, customResolver, context) : ensureTextParsed();
 
         // Calculate width: max line width from parsed text
-        int maxWidth = 0;
-        for (Line line : parsedText.lines()) {
-            maxWidth = Math.max(maxWidth, line.width());
-        }
+        int maxWidth = cache.maxLineWidth();
         // Add line number width and border
         int lineNumWidth = showLineNumbers ? String.valueOf(parsedText.lines().size()).length() + lineNumberSeparator.length() : 0;
         int borderWidth = (title != null || borderType != null) ? 2 : 0;
@@ -426,16 +419,7 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
         Overflow effectiveOverflow = overflow != null ? overflow : Overflow.CLIP;
         if (availableWidth > 0 && (effectiveOverflow == Overflow.WRAP_CHARACTER || effectiveOverflow == Overflow.WRAP_WORD)) {
             // Calculate wrapped height
-            int totalLines = 0;
-            for (Line line : parsedText.lines()) {
-                int lineWidth = line.width();
-                if (lineWidth <= availableWidth || availableWidth <= 0) {
-                    totalLines++;
-                } else {
-                    totalLines += (lineWidth + availableWidth - 1) / availableWidth;
-                }
-            }
-            height = Math.max(1, totalLines);
+            height = Math.max(1, cache.wrappedHeight(availableWidth));
         } else {
             height = parsedText.height();
         }
@@ -449,7 +433,7 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
             return layoutConstraint;
         }
         // For wrapping modes, use min constraint to allow growth for wrapped text
-        ensureTextParsed();
+        Text parsedText = ensureTextParsed();
         Overflow currentOverflow = overflow != null ? overflow : Overflow.CLIP;
         if (currentOverflow == Overflow.WRAP_CHARACTER || currentOverflow == Overflow.WRAP_WORD) {
             return Constraint.min(parsedText.height());
@@ -463,10 +447,9 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
             return;
         }
 
-        // Parse markup with the combined resolver (including context for TCSS)
-        MarkupParser.StyleResolver combinedResolver = createCombinedResolver(context);
-        parsedText = MarkupParser.parse(markup, combinedResolver);
-        textDirty = false;
+        // Parse markup with the combined resolver (including context for TCSS);
+        // unchanged markup is not parsed again, appended lines are parsed alone
+        Text parsedText = cache.render(markup, customResolver, context);
 
         // Get lines from parsed text
         List<Line> parsedLines = parsedText.lines();
@@ -542,7 +525,7 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
 
         // Update state with content dimensions
         state.setContentHeight(parsedLines.size());
-        state.setContentWidth(maxLineWidth(parsedLines));
+        state.setContentWidth(cache.maxLineWidth());
         state.setViewportHeight(textContentArea.height());
         state.setViewportWidth(textContentArea.width());
 
@@ -627,50 +610,8 @@ public final class MarkupTextAreaElement extends StyledElement<MarkupTextAreaEle
         }
     }
 
-    /**
-     * Returns the maximum width of any line in the parsed content.
-     */
-    private int maxLineWidth(List<Line> lines) {
-        int max = 0;
-        for (Line line : lines) {
-            max = Math.max(max, line.width());
-        }
-        return max;
-    }
-
-    private void ensureTextParsed() {
-        if (textDirty || parsedText == null) {
-            MarkupParser.StyleResolver resolver = createSimpleResolver();
-            parsedText = MarkupParser.parse(markup, resolver);
-            textDirty = false;
-        }
-    }
-
-    private MarkupParser.StyleResolver createSimpleResolver() {
-        return tagName -> {
-            if (customResolver != null) {
-                return customResolver.resolve(tagName);
-            }
-            return null;
-        };
-    }
-
-    private MarkupParser.StyleResolver createCombinedResolver(RenderContext context) {
-        return tagName -> {
-            // 1. Check custom resolver
-            if (customResolver != null) {
-                Style customStyle = customResolver.resolve(tagName);
-                if (customStyle != null) {
-                    return customStyle;
-                }
-            }
-
-            // 2. Check TCSS via context (unknown tags are treated as CSS class names)
-            // Use resolveStyle with the tag name as a CSS class
-            return context.resolveStyle(null, tagName)
-                    .map(CssStyleResolver::toStyle)
-                    .orElse(null);
-        };
+    private Text ensureTextParsed() {
+        return cache.layout(markup, customResolver);
     }
 
     @Override
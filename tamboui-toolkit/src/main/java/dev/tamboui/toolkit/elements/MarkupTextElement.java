@@ -4,12 +4,10 @@
  */
 package dev.tamboui.toolkit.elements;
 
-import dev.tamboui.css.cascade.CssStyleResolver;
 import dev.tamboui.layout.Alignment;
 import dev.tamboui.layout.Constraint;
 import dev.tamboui.layout.Rect;
 import dev.tamboui.style.Overflow;
-import dev.tamboui.style.Style;
 import dev.tamboui.terminal.Frame;
 import dev.tamboui.text.MarkupParser;
 import dev.tamboui.text.Text;
@@ -53,8 +51,7 @@ public final class MarkupTextElement extends StyledElement<MarkupTextElement> {
 
     private String markup;
     private MarkupParser.StyleResolver customResolver;
-    private Text parsedText;
-    private boolean textDirty = true;
+    private final MarkupCache cache = new MarkupCache();
 
     // Delegate to RichTextElement for rendering
     private final RichTextElement delegate;
@@ -85,7 +82,6 @@ public final class MarkupTextElement extends StyledElement<MarkupTextElement> {
      */
     public MarkupTextElement markup(String markup) {
         this.markup = markup != null ? markup : "";
-        this.textDirty = true;
         return this;
     }
 
@@ -104,8 +100,7 @@ public final class MarkupTextElement extends StyledElement<MarkupTextElement> {
      * @return the parsed text
      */
     public Text parsedText() {
-        ensureTextParsed();
-        return parsedText;
+        return ensureTextParsed();
     }
 
     /**
@@ -116,7 +111,6 @@ public final class MarkupTextElement extends StyledElement<MarkupTextElement> {
      */
     public MarkupTextElement customResolver(MarkupParser.StyleResolver resolver) {
         this.customResolver = resolver;
-        this.textDirty = true;
         return this;
     }
 
@@ -202,54 +196,23 @@ public final class MarkupTextElement extends StyledElement<MarkupTextElement> {
 
     @Override
     public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
-        ensureTextParsed();
+        // Measure the parse that will be rendered, found in the context's cache
+        delegate.text(context != null ? cache.render(markup, customResolver, context) : ensureTextParsed());
         return delegate.preferredSize(availableWidth, availableHeight, context);
     }
 
-    private void ensureTextParsed() {
-        if (textDirty || parsedText == null) {
-            MarkupParser.StyleResolver resolver = createSimpleResolver();
-            parsedText = MarkupParser.parse(markup, resolver);
-            delegate.text(parsedText);
-            textDirty = false;
-        }
-    }
-
-    private MarkupParser.StyleResolver createSimpleResolver() {
-        return tagName -> {
-            if (customResolver != null) {
-                return customResolver.resolve(tagName);
-            }
-            return null;
-        };
-    }
-
-    private MarkupParser.StyleResolver createCombinedResolver(RenderContext context) {
-        return tagName -> {
-            if (customResolver != null) {
-                Style customStyle = customResolver.resolve(tagName);
-                if (customStyle != null) {
-                    return customStyle;
-                }
-            }
-
-            // Check TCSS via context (unknown tags are treated as CSS class names)
-            // Use resolveStyle with the tag name as a CSS class
-            return context.resolveStyle(null, tagName)
-                    .map(CssStyleResolver::toStyle)
-                    .orElse(null);
-        };
+    private Text ensureTextParsed() {
+        Text parsedText = cache.layout(markup, customResolver);
+        delegate.text(parsedText);
+        return parsedText;
     }
 
     @Override
     protected void renderContent(Frame frame, Rect area, RenderContext context) {
         // Always parse with the combined resolver that supports TCSS
-        // (context may have a StyleEngine with CSS classes for custom tags)
-        MarkupParser.StyleResolver combinedResolver = createCombinedResolver(context);
-        parsedText = MarkupParser.parse(markup, combinedResolver);
-        textDirty = false;
-
-        delegate.text(parsedText);
+        // (context may have a StyleEngine with CSS classes for custom tags);
+        // unchanged markup is not parsed again
+        delegate.text(cache.render(markup, customResolver, context));
         delegate.style(this.style);
 
         // Render using the delegate
@@ -410,7 +410,7 @@ public final class Panel extends ContainerElement<Panel> {
             if (effectiveDirection == Direction.HORIZONTAL) {
                 // Horizontal: sum widths of all children
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+                    Size childSize = child.measure(availableWidth, availableHeight, context);
                     childrenWidth += childSize.widthOr(0);
                 }
                 // Add spacing between children (n-1 spacings)
@@ -420,7 +420,7 @@ public final class Panel extends ContainerElement<Panel> {
             } else {
                 // Vertical: max width of all children
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+                    Size childSize = child.measure(availableWidth, availableHeight, context);
                     childrenWidth = Math.max(childrenWidth, childSize.widthOr(0));
                 }
             }
@@ -449,7 +449,7 @@ public final class Panel extends ContainerElement<Panel> {
             if (effectiveDirection == Direction.VERTICAL) {
                 int totalSpacing = effectiveSpacing * Math.max(0, children.size() - 1);
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(contentWidth, -1, context);
+                    Size childSize = child.measure(contentWidth, -1, context);
                     height += childSize.heightOr(1);
                 }
                 height += totalSpacing;
@@ -460,7 +460,7 @@ public final class Panel extends ContainerElement<Panel> {
                         : -1;
                 int maxChildHeight = 1;
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(childWidth, -1, context);
+                    Size childSize = child.measure(childWidth, -1, context);
                     maxChildHeight = Math.max(maxChildHeight, childSize.heightOr(1));
                 }
                 height += maxChildHeight;
@@ -618,7 +618,7 @@ public final class Panel extends ContainerElement<Panel> {
             }
             // Handle null constraint by querying preferred size
             if (c == null) {
-                Size size = child.preferredSize(-1, -1, context);
+                Size size = child.measure(-1, -1, context);
                 int preferred = isHorizontal ? size.width() : size.height();
                 c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
             }
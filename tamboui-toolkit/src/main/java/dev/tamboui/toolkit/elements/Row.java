@@ -120,7 +120,7 @@ public final class Row extends ContainerElement<Row> {
         // Calculate width: sum of children widths + spacing
         int width = 0;
         for (Element child : children) {
-            Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+            Size childSize = child.measure(availableWidth, availableHeight, context);
             width += childSize.widthOr(0);
         }
         if (children.size() > 1) {
@@ -137,7 +137,7 @@ public final class Row extends ContainerElement<Row> {
 
         int maxHeight = 1;
         for (Element child : children) {
-            Size childSize = child.preferredSize(childWidth, availableHeight, context);
+            Size childSize = child.measure(childWidth, availableHeight, context);
             maxHeight = Math.max(maxHeight, childSize.heightOr(1));
         }
 
@@ -207,7 +207,7 @@ public final class Row extends ContainerElement<Row> {
             }
             // Handle null or Fit constraint by querying preferred width
             if (c == null || c instanceof Constraint.Fit) {
-                Size size = child.preferredSize(-1, -1, context);
+                Size size = child.measure(-1, -1, context);
                 int preferred = size.width();
                 c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
             }
@@ -12,6 +12,7 @@ import java.util.Set;
 
 import dev.tamboui.css.Styleable;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SpatialIndex;
 import dev.tamboui.toolkit.element.Element;
 import dev.tamboui.toolkit.element.ElementRegistry;
 import dev.tamboui.toolkit.element.StyledElement;
@@ -45,6 +46,8 @@ public final class EventRouter {
     private final List<Element> elements = new ArrayList<>();
     private final IdentityHashMap<Element, Rect> elementAreas = new IdentityHashMap<>();
     private final List<GlobalEventHandler> globalHandlers = new ArrayList<>();
+    // Built on the first mouse event after the elements change
+    private SpatialIndex<Element> hitIndex;
 
     // Drag state
     private Element draggingElement;
@@ -116,6 +119,7 @@ public final class EventRouter {
             elements.add(element);
         }
         elementAreas.put(element, area);
+        hitIndex = null;
 
         // Register in ElementRegistry for CSS-like queries
         String id = element.id();
@@ -138,6 +142,16 @@ public final class EventRouter {
         return elementAreas.get(element);
     }
 
+    /**
+     * Returns the elements containing the given position, bottom to top.
+     */
+    private List<Element> elementsAt(int x, int y) {
+        if (hitIndex == null) {
+            hitIndex = SpatialIndex.of(elements, this::getArea);
+        }
+        return hitIndex.itemsAt(x, y);
+    }
+
     /**
      * Clears all registered elements.
      * Should be called at the start of each render cycle.
@@ -145,6 +159,7 @@ public final class EventRouter {
     public void clear() {
         elements.clear();
         elementAreas.clear();
+        hitIndex = null;
         elementRegistry.clear();
     }
 
@@ -285,47 +300,45 @@ public final class EventRouter {
         // Handle new press - check for drag or focus
         if (event.kind() == MouseEventKind.PRESS && event.isLeftButton()) {
             // Find element at position (reverse order for z-ordering)
-            for (int i = elements.size() - 1; i >= 0; i--) {
-                Element element = elements.get(i);
-                Rect area = getArea(element);
-                if (area != null && area.contains(event.x(), event.y())) {
-                    // Focus the element first (before potential drag)
-                    boolean wasFocused = false;
-                    if (element.isFocusable() && element.id() != null) {
-                        focusManager.setFocus(element.id());
-                        wasFocused = true;
-                    }
+            List<Element> hits = elementsAt(event.x(), event.y());
+            for (int i = hits.size() - 1; i >= 0; i--) {
+                Element element = hits.get(i);
+                // Focus the element first (before potential drag)
+                boolean wasFocused = false;
+                if (element.isFocusable() && element.id() != null) {
+                    focusManager.setFocus(element.id());
+                    wasFocused = true;
+                }
 
-                    // Check if draggable
-                    if (element.isDraggable() && element instanceof StyledElement) {
-                        StyledElement<?> styled = (StyledElement<?>) element;
-                        DragHandler handler = styled.dragHandler();
-                        if (handler != null) {
-                            startDrag(element, handler, event.x(), event.y());
-                            return EventResult.HANDLED;
-                        }
+                // Check if draggable
+                if (element.isDraggable() && element instanceof StyledElement) {
+                    StyledElement<?> styled = (StyledElement<?>) element;
+                    DragHandler handler = styled.dragHandler();
+                    if (handler != null) {
+                        startDrag(element, handler, event.x(), event.y());
+                        return EventResult.HANDLED;
                     }
+                }
 
-                    // Route to element's handler
-                    EventResult result = element.handleMouseEvent(event);
+                // Route to element's handler
+                EventResult result = element.handleMouseEvent(event);
+                if (result.isHandled()) {
+                    return result;
+                }
+                MouseEventHandler handler = element.mouseEventHandler();
+                if (handler != null) {
+                    result = handler.handle(event);
                     if (result.isHandled()) {
                         return result;
                     }
-                    MouseEventHandler handler = element.mouseEventHandler();
-                    if (handler != null) {
-                        result = handler.handle(event);
-                        if (result.isHandled()) {
-                            return result;
-                        }
-                    }
+                }
 
-                    // Only stop here if we actually did something (focused or had handlers)
-                    // Otherwise continue to check elements underneath
-                    if (wasFocused) {
-                        return EventResult.HANDLED;
-                    }
-                    // Continue checking other elements - this one didn't handle the click
+                // Only stop here if we actually did something (focused or had handlers)
+                // Otherwise continue to check elements underneath
+                if (wasFocused) {
+                    return EventResult.HANDLED;
                 }
+                // Continue checking other elements - this one didn't handle the click
             }
 
             // Clicked outside all elements - clear focus
@@ -337,21 +350,19 @@ public final class EventRouter {
             event.kind() == MouseEventKind.SCROLL_UP ||
             event.kind() == MouseEventKind.SCROLL_DOWN) {
 
-            for (int i = elements.size() - 1; i >= 0; i--) {
-                Element element = elements.get(i);
-                Rect area = getArea(element);
-                if (area != null && area.contains(event.x(), event.y())) {
-                    EventResult result = element.handleMouseEvent(event);
+            List<Element> hits = elementsAt(event.x(), event.y());
+            for (int i = hits.size() - 1; i >= 0; i--) {
+                Element element = hits.get(i);
+                EventResult result = element.handleMouseEvent(event);
+                if (result.isHandled()) {
+                    return result;
+                }
+                MouseEventHandler handler = element.mouseEventHandler();
+                if (handler != null) {
+                    result = handler.handle(event);
                     if (result.isHandled()) {
                         return result;
                     }
-                    MouseEventHandler handler = element.mouseEventHandler();
-                    if (handler != null) {
-                        result = handler.handle(event);
-                        if (result.isHandled()) {
-                            return result;
-                        }
-                    }
                 }
             }
         }
@@ -5,11 +5,13 @@
 package dev.tamboui.toolkit.focus;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SpatialIndex;
 
 import static dev.tamboui.util.CollectionUtil.listCopyOf;
 
@@ -27,7 +29,10 @@ public final class FocusManager {
 
     private String focusedId;
     private final List<String> focusOrder = new ArrayList<>();
+    private final Map<String, Integer> focusPositions = new HashMap<>();
     private final Map<String, Rect> focusableAreas = new LinkedHashMap<>();
+    // Built on the first focusAt after the focusables change
+    private SpatialIndex<String> focusIndex;
 
     /**
      * Returns the ID of the currently focused element.
@@ -77,10 +82,12 @@ public final class FocusManager {
     public void registerFocusable(String elementId, Rect area) {
         if (elementId != null) {
             boolean isFirst = focusOrder.isEmpty();
-            if (!focusOrder.contains(elementId)) {
+            if (!focusPositions.containsKey(elementId)) {
+                focusPositions.put(elementId, focusOrder.size());
                 focusOrder.add(elementId);
             }
             focusableAreas.put(elementId, area);
+            focusIndex = null;
 
             // Auto-focus first focusable element if nothing is focused
             if (isFirst && focusedId == null) {
@@ -95,7 +102,9 @@ public final class FocusManager {
      */
     public void clearFocusables() {
         focusOrder.clear();
+        focusPositions.clear();
         focusableAreas.clear();
+        focusIndex = null;
     }
 
     /**
@@ -113,7 +122,7 @@ public final class FocusManager {
             return true;
         }
 
-        int index = focusOrder.indexOf(focusedId);
+        int index = positionOf(focusedId);
         if (index < 0) {
             focusedId = focusOrder.get(0);
             return true;
@@ -143,7 +152,7 @@ public final class FocusManager {
             return true;
         }
 
-        int index = focusOrder.indexOf(focusedId);
+        int index = positionOf(focusedId);
         if (index < 0) {
             focusedId = focusOrder.get(focusOrder.size() - 1);
             return true;
@@ -166,13 +175,21 @@ public final class FocusManager {
      * @return true if an element was focused
      */
     public boolean focusAt(int x, int y) {
-        for (Map.Entry<String, Rect> entry : focusableAreas.entrySet()) {
-            if (entry.getValue().contains(x, y)) {
-                focusedId = entry.getKey();
-                return true;
-            }
+        if (focusIndex == null) {
+            focusIndex = SpatialIndex.of(focusOrder, focusableAreas::get);
         }
-        return false;
+        List<String> hits = focusIndex.itemsAt(x, y);
+        if (hits.isEmpty()) {
+            return false;
+        }
+        // The first registered element wins, as with a scan in registration order
+        focusedId = hits.get(0);
+        return true;
+    }
+
+    private int positionOf(String elementId) {
+        Integer position = focusPositions.get(elementId);
+        return position != null ? position : -1;
     }
 
     /**
@@ -0,0 +1,139 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.app;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.cassowary.LayoutCache;
+import dev.tamboui.terminal.TestBackend;
+import dev.tamboui.tui.TuiConfig;
+
+import static dev.tamboui.toolkit.Toolkit.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SessionHostTest {
+
+    private SessionHost host;
+
+    @AfterEach
+    void cleanup() {
+        if (host != null) {
+            host.close();
+        }
+        LayoutCache.setShared(false);
+    }
+
+    @Test
+    @DisplayName("Sessions run concurrently and render independently")
+    void sessionsRunConcurrently() throws Exception {
+        host = SessionHost.builder()
+                .configure(SessionHostTest::headless)
+                .build();
+
+        CountDownLatch rendered = new CountDownLatch(2);
+        SessionHost.Session first = host.open(new TestBackend(40, 10), runner -> runner.run(() -> {
+            rendered.countDown();
+            return text("first");
+        }));
+        SessionHost.Session second = host.open(new TestBackend(40, 10), runner -> runner.run(() -> {
+            rendered.countDown();
+            return text("second");
+        }));
+
+        assertThat(rendered.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(host.sessionCount()).isEqualTo(2);
+        assertThat(first.id()).isNotEqualTo(second.id());
+        assertThat(first.isRunning()).isTrue();
+        assertThat(second.isRunning()).isTrue();
+        assertThat(LayoutCache.isShared()).isFalse();
+    }
+
+    @Test
+    @DisplayName("The shared layout cache is opt-in and restored when the host closes")
+    void sharedLayoutCacheIsRestoredOnClose() {
+        SessionHost first = SessionHost.builder().sharedLayoutCache(true).build();
+        SessionHost second = SessionHost.builder().sharedLayoutCache(true).build();
+        assertThat(LayoutCache.isShared()).isTrue();
+
+        first.close();
+        assertThat(LayoutCache.isShared()).isTrue();
+
+        second.close();
+        assertThat(LayoutCache.isShared()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Quitting a session removes it from the host and records metrics")
+    void quittingSessionRemovesIt() throws Exception {
+        host = SessionHost.builder()
+                .configure(SessionHostTest::headless)
+                .build();
+
+        CountDownLatch rendered = new CountDownLatch(1);
+        SessionHost.Session session = host.open(new TestBackend(40, 10), runner -> runner.run(() -> {
+            rendered.countDown();
+            return text("hello");
+        }));
+        assertThat(rendered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        session.quit();
+
+        assertThat(session.awaitTermination(Duration.ofSeconds(2))).isTrue();
+        assertThat(session.isRunning()).isFalse();
+        assertThat(session.failure()).isNull();
+        assertThat(session.metrics().framesRendered()).isGreaterThanOrEqualTo(1);
+        assertThat(host.sessions()).doesNotContain(session);
+    }
+
+    @Test
+    @DisplayName("Failures of a session are recorded and do not affect the host")
+    void sessionFailureIsRecorded() throws Exception {
+        host = SessionHost.builder()
+                .configure(SessionHostTest::headless)
+                .build();
+
+        SessionHost.Session session = host.open(new TestBackend(40, 10), runner -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(session.awaitTermination(Duration.ofSeconds(2))).isTrue();
+        assertThat(session.failure()).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(host.sessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Closed hosts reject new sessions")
+    void closedHostRejectsSessions() {
+        host = SessionHost.builder().build();
+        host.close();
+
+        assertThatThrownBy(() -> host.open(new TestBackend(40, 10), runner -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Unknown active stylesheet is rejected")
+    void unknownActiveStylesheetIsRejected() {
+        assertThatThrownBy(() -> SessionHost.builder()
+                .stylesheet("dark", "Panel { color: white; }")
+                .activeStylesheet("light")
+                .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void headless(TuiConfig.Builder config) {
+        config.rawMode(false)
+                .alternateScreen(false)
+                .hideCursor(false)
+                .pollTimeout(Duration.ofMillis(10))
+                .noTick();
+    }
+}
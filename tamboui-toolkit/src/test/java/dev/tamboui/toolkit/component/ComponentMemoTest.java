@@ -0,0 +1,125 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.toolkit.element.DefaultRenderContext;
+import dev.tamboui.toolkit.element.Element;
+
+import static dev.tamboui.toolkit.Toolkit.text;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentMemoTest {
+
+    private DefaultRenderContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = DefaultRenderContext.createEmpty();
+    }
+
+    @Test
+    @DisplayName("Components without props are rendered on every frame")
+    void rendersEveryFrameWithoutProps() {
+        Label label = new Label(null);
+
+        renderFrame(label, Rect.of(20, 1));
+        renderFrame(label, Rect.of(20, 1));
+
+        assertThat(label.renders).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Unchanged props reuse the previous element tree")
+    void reusesTreeWhileUnchanged() {
+        Label label = new Label("hello");
+
+        renderFrame(label, Rect.of(20, 1));
+        Buffer buffer = renderFrame(label, Rect.of(20, 1));
+
+        assertThat(label.renders).isEqualTo(1);
+        assertThat(buffer.get(0, 0).symbol()).isEqualTo("h");
+    }
+
+    @Test
+    @DisplayName("Changed props, area or focus trigger a new render")
+    void rerendersOnChange() {
+        Label label = new Label("hello");
+        renderFrame(label, Rect.of(20, 1));
+
+        label.text = "world";
+        Buffer buffer = renderFrame(label, Rect.of(20, 1));
+        assertThat(label.renders).isEqualTo(2);
+        assertThat(buffer.get(0, 0).symbol()).isEqualTo("w");
+
+        renderFrame(label, Rect.of(30, 1));
+        assertThat(label.renders).isEqualTo(3);
+
+        // The only focusable component is focused automatically, so move focus away
+        context.focusManager().setFocus("elsewhere");
+        renderFrame(label, Rect.of(30, 1));
+        assertThat(label.renders).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("invalidate forces a new render")
+    void invalidateForcesRender() {
+        Label label = new Label("hello");
+        renderFrame(label, Rect.of(20, 1));
+
+        label.invalidate();
+        renderFrame(label, Rect.of(20, 1));
+
+        assertThat(label.renders).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("shouldRender can veto a render")
+    void shouldRenderOverride() {
+        Label label = new Label(null) {
+            @Override
+            protected boolean shouldRender() {
+                return false;
+            }
+        };
+
+        renderFrame(label, Rect.of(20, 1));
+        renderFrame(label, Rect.of(20, 1));
+
+        assertThat(label.renders).isEqualTo(1);
+    }
+
+    private Buffer renderFrame(Element element, Rect area) {
+        Buffer buffer = Buffer.empty(area);
+        element.render(Frame.forTesting(buffer), area, context);
+        return buffer;
+    }
+
+    private static class Label extends Component<Label> {
+        private String text;
+        private int renders;
+
+        Label(String text) {
+            this.text = text;
+        }
+
+        @Override
+        protected Object props() {
+            return text;
+        }
+
+        @Override
+        protected Element render() {
+            renders++;
+            return text(text != null ? text : "none");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Style;
+import dev.tamboui.text.MarkupParser;
+import dev.tamboui.text.Text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for MarkupTextCache.
+ */
+class MarkupTextCacheTest {
+
+    private static final Map<String, Style> RED_KEYWORD =
+        Collections.singletonMap("keyword", Style.EMPTY.fg(Color.RED));
+
+    @Test
+    @DisplayName("An entry is reused by a new resolver resolving its tags alike")
+    void reusesEntryForEquivalentResolver() {
+        MarkupTextCache cache = new MarkupTextCache(4);
+        Text text = Text.raw("fn");
+        cache.put("[keyword]fn[/keyword]", 1, text, RED_KEYWORD);
+
+        assertThat(cache.get("[keyword]fn[/keyword]", 1, keyword(Color.RED))).isSameAs(text);
+        assertThat(cache.get("[keyword]fn[/keyword]", 1, keyword(Color.BLUE))).isNull();
+    }
+
+    @Test
+    @DisplayName("Entries are keyed by markup and style version")
+    void keyedByMarkupAndStyleVersion() {
+        MarkupTextCache cache = new MarkupTextCache(4);
+        cache.put("[keyword]fn[/keyword]", 1, Text.raw("fn"), RED_KEYWORD);
+
+        assertThat(cache.get("[keyword]fn[/keyword]", 2, keyword(Color.RED))).isNull();
+        assertThat(cache.get("[keyword]let[/keyword]", 1, keyword(Color.RED))).isNull();
+    }
+
+    @Test
+    @DisplayName("The least recently used entry is evicted")
+    void evictsLeastRecentlyUsed() {
+        MarkupTextCache cache = new MarkupTextCache(2);
+        Map<String, Style> none = Collections.emptyMap();
+        cache.put("a", 1, Text.raw("a"), none);
+        cache.put("b", 1, Text.raw("b"), none);
+        cache.get("a", 1, keyword(Color.RED));
+
+        cache.put("c", 1, Text.raw("c"), none);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", 1, keyword(Color.RED))).isNotNull();
+        assertThat(cache.get("b", 1, keyword(Color.RED))).isNull();
+    }
+
+    private static MarkupParser.StyleResolver keyword(Color color) {
+        return tag -> "keyword".equals(tag) ? Style.EMPTY.fg(color) : null;
+    }
+}
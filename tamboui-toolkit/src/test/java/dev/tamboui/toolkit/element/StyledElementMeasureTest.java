@@ -0,0 +1,156 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.engine.StyleEngine;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.Frame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StyledElementMeasureTest {
+
+    private DefaultRenderContext context;
+    private CountingElement element;
+
+    @BeforeEach
+    void setUp() {
+        context = DefaultRenderContext.createEmpty();
+        element = new CountingElement();
+    }
+
+    @Test
+    @DisplayName("Repeated measurements in a render pass are computed once")
+    void reusesMeasurementInPass() {
+        context.withElement(createStyleable("Panel"), Style.EMPTY, () -> {
+            assertThat(element.measure(10, 5, context)).isEqualTo(Size.of(7, 1));
+            assertThat(element.measure(10, 5, context)).isEqualTo(Size.of(7, 1));
+        });
+
+        assertThat(element.measured).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Measurements are keyed by available size")
+    void keyedByAvailableSize() {
+        context.withElement(createStyleable("Panel"), Style.EMPTY, () -> {
+            element.measure(10, 5, context);
+            element.measure(-1, -1, context);
+            element.measure(10, 5, context);
+            element.measure(-1, -1, context);
+        });
+
+        assertThat(element.measured).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Measurements are discarded at the end of the render pass")
+    void discardedAfterRenderPass() {
+        Styleable root = createStyleable("Panel");
+        context.withElement(root, Style.EMPTY, () -> element.measure(10, 5, context));
+        context.withElement(root, Style.EMPTY, () -> element.measure(10, 5, context));
+
+        assertThat(element.measured).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Measurements are not shared between different CSS ancestors")
+    void keyedByScope() {
+        Styleable root = createStyleable("Panel");
+        context.withElement(root, Style.EMPTY, () -> {
+            element.measure(10, 5, context);
+            context.withElement(createStyleable("Row"), Style.EMPTY, () -> element.measure(10, 5, context));
+        });
+
+        assertThat(element.measured).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Changing classes or calling invalidateMeasure discards measurements")
+    void invalidation() {
+        context.withElement(createStyleable("Panel"), Style.EMPTY, () -> {
+            element.measure(10, 5, context);
+            element.addClass("wide");
+            element.width = 12;
+            assertThat(element.measure(10, 5, context)).isEqualTo(Size.of(12, 1));
+
+            element.width = 3;
+            element.invalidateMeasure();
+            assertThat(element.measure(10, 5, context)).isEqualTo(Size.of(3, 1));
+        });
+
+        assertThat(element.measured).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Changing the style engine discards measurements")
+    void styleEngineChange() {
+        context.withElement(createStyleable("Panel"), Style.EMPTY, () -> {
+            element.measure(10, 5, context);
+            context.setStyleEngine(StyleEngine.create());
+            element.measure(10, 5, context);
+        });
+
+        assertThat(element.measured).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Measurements without a render context are not cached")
+    void notCachedWithoutContext() {
+        element.measure(10, 5, null);
+        element.measure(10, 5, null);
+
+        assertThat(element.measured).isEqualTo(2);
+    }
+
+    private static final class CountingElement extends StyledElement<CountingElement> {
+        private int measured;
+        private int width = 7;
+
+        @Override
+        public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
+            measured++;
+            return Size.of(width, 1);
+        }
+
+        @Override
+        protected void renderContent(Frame frame, Rect area, RenderContext context) {
+        }
+    }
+
+    private static Styleable createStyleable(String type) {
+        return new Styleable() {
+            @Override
+            public String styleType() {
+                return type;
+            }
+
+            @Override
+            public Optional<String> cssId() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Set<String> cssClasses() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Optional<Styleable> cssParent() {
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -19,6 +19,7 @@ import dev.tamboui.style.Style;
 import dev.tamboui.style.StyledAreaInfo;
 import dev.tamboui.style.StyledAreaRegistry;
 import dev.tamboui.terminal.Frame;
+import dev.tamboui.text.MarkupParser;
 import dev.tamboui.text.Text;
 import dev.tamboui.toolkit.element.DefaultRenderContext;
 import dev.tamboui.toolkit.element.RenderContext;
@@ -335,6 +336,78 @@ class MarkupTextAreaElementTest {
             .at(0, 0).hasSymbol("f").hasForeground(Color.MAGENTA);
     }
 
+    @Test
+    @DisplayName("MarkupTextAreaElement reuses parsed lines when markup is appended")
+    void reusesParsedLinesWhenAppended() {
+        MarkupTextAreaElement element = markupTextArea("[bold]one[/bold]\n");
+        Rect area = new Rect(0, 0, 20, 3);
+        Frame frame = Frame.forTesting(Buffer.empty(area));
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+        element.render(frame, area, context);
+        Text first = element.parsedText();
+        element.markup("[bold]one[/bold]\n[red]two[/red]\n");
+        element.render(frame, area, context);
+        Text second = element.parsedText();
+
+        assertThat(second.lines()).hasSize(2);
+        assertThat(second.lines().get(0)).isSameAs(first.lines().get(0));
+        assertThat(element.preferredSize(-1, -1, context).width()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("MarkupTextAreaElement reuses parsed markup across freshly built elements")
+    void reusesParsedMarkupAcrossFreshElements() {
+        String markup = "[bold]one[/bold]\n[hl]two[/hl]\n";
+        Rect area = new Rect(0, 0, 20, 3);
+        Frame frame = Frame.forTesting(Buffer.empty(area));
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+        // A new element and a new resolver on every frame, as when the tree is rebuilt
+        MarkupTextAreaElement first = markupTextArea(markup).customResolver(highlight(Color.YELLOW));
+        first.render(frame, area, context);
+        MarkupTextAreaElement second = markupTextArea(markup).customResolver(highlight(Color.YELLOW));
+        second.render(frame, area, context);
+
+        assertThat(second.parsedText()).isSameAs(first.parsedText());
+        assertThat(second.preferredSize(-1, -1, context).width()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("MarkupTextAreaElement re-parses cached markup when a tag resolves differently")
+    void reparsesCachedMarkupForDifferentResolver() {
+        String markup = "[hl]two[/hl]";
+        Rect area = new Rect(0, 0, 20, 1);
+        Buffer buffer = Buffer.empty(area);
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+        markupTextArea(markup).customResolver(highlight(Color.YELLOW)).render(Frame.forTesting(buffer), area, context);
+        assertThat(buffer).at(0, 0).hasForeground(Color.YELLOW);
+
+        markupTextArea(markup).customResolver(highlight(Color.CYAN)).render(Frame.forTesting(buffer), area, context);
+        assertThat(buffer).at(0, 0).hasForeground(Color.CYAN);
+    }
+
+    @Test
+    @DisplayName("MarkupTextAreaElement re-parses markup when the stylesheet changes")
+    void reparsesWhenStylesheetChanges() {
+        StyleEngine styleEngine = StyleEngine.create();
+        styleEngine.addStylesheet("a", ".keyword { color: magenta; }");
+        styleEngine.addStylesheet("b", ".keyword { color: cyan; }");
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+        context.setStyleEngine(styleEngine);
+
+        MarkupTextAreaElement element = markupTextArea("[keyword]fn[/keyword]");
+        Rect area = new Rect(0, 0, 20, 1);
+        Buffer buffer = Buffer.empty(area);
+        element.render(Frame.forTesting(buffer), area, context);
+        assertThat(buffer).at(0, 0).hasForeground(Color.MAGENTA);
+
+        styleEngine.setActiveStylesheet("b");
+        element.render(Frame.forTesting(buffer), area, context);
+        assertThat(buffer).at(0, 0).hasForeground(Color.CYAN);
+    }
+
     @Test
     @DisplayName("MarkupTextAreaElement registers markup tags as CSS classes for TFX targeting")
     void registersMarkupTagsAsCssClasses() {
@@ -391,4 +464,8 @@ class MarkupTextAreaElementTest {
         assertThat(hasEffect1).isTrue();
         assertThat(hasEffect2).isTrue();
     }
+
+    private static MarkupParser.StyleResolver highlight(Color color) {
+        return tag -> "hl".equals(tag) ? Style.EMPTY.fg(color) : null;
+    }
 }
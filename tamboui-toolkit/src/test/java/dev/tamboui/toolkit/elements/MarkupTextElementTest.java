@@ -124,4 +124,19 @@ class MarkupTextElementTest {
         assertThat(buffer).at(5, 0).hasSymbol("l").hasForeground(Color.RED);
         assertThat(buffer.get(5, 0).style().addModifiers()).doesNotContain(Modifier.DIM);
     }
+
+    @Test
+    @DisplayName("MarkupTextElement reuses parsed markup across freshly built elements")
+    void reusesParsedMarkupAcrossFreshElements() {
+        Rect area = new Rect(0, 0, 20, 1);
+        Frame frame = Frame.forTesting(Buffer.empty(area));
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+        MarkupTextElement first = markupText("[bold]Hello[/bold] [italic]world[/italic]");
+        first.render(frame, area, context);
+        MarkupTextElement second = markupText("[bold]Hello[/bold] [italic]world[/italic]");
+        second.render(frame, area, context);
+
+        assertThat(second.parsedText()).isSameAs(first.parsedText());
+    }
 }
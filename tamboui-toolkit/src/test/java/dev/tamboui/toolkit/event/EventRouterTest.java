@@ -4,7 +4,9 @@
  */
 package dev.tamboui.toolkit.event;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,10 +19,13 @@ import dev.tamboui.toolkit.elements.FormFieldElement;
 import dev.tamboui.toolkit.focus.FocusManager;
 import dev.tamboui.tui.event.KeyCode;
 import dev.tamboui.tui.event.KeyEvent;
+import dev.tamboui.tui.event.MouseButton;
+import dev.tamboui.tui.event.MouseEvent;
 import dev.tamboui.widgets.form.SelectFieldState;
 import dev.tamboui.widgets.input.TextInputState;
 
 import static dev.tamboui.toolkit.Toolkit.formField;
+import static dev.tamboui.toolkit.Toolkit.text;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -222,4 +227,41 @@ class EventRouterTest {
         // Focus stays on field1
         assertThat(focusManager.focusedId()).isEqualTo("field1");
     }
+
+    @Test
+    @DisplayName("mouse press goes to the topmost element at the position")
+    void mousePressRoutesToTopmostElement() {
+        List<String> clicked = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String name = "cell-" + i;
+            registerElement(text(name).onMouseEvent(e -> {
+                clicked.add(name);
+                return EventResult.HANDLED;
+            }), new Rect((i % 20) * 4, i / 20, 4, 1));
+        }
+        registerElement(text("overlay").onMouseEvent(e -> {
+            clicked.add("overlay");
+            return EventResult.HANDLED;
+        }), new Rect(10, 2, 20, 3));
+
+        router.route(MouseEvent.press(MouseButton.LEFT, 41, 7));
+        router.route(MouseEvent.press(MouseButton.LEFT, 12, 3));
+        router.route(MouseEvent.press(MouseButton.LEFT, 200, 200));
+
+        assertThat(clicked).containsExactly("cell-150", "overlay");
+    }
+
+    @Test
+    @DisplayName("clicking focuses the first focusable registered at the position")
+    void focusAtUsesRegistrationOrder() {
+        focusManager.registerFocusable("outer", new Rect(0, 0, 40, 10));
+        focusManager.registerFocusable("inner", new Rect(5, 5, 10, 2));
+        focusManager.registerFocusable("other", new Rect(50, 0, 10, 2));
+
+        assertThat(focusManager.focusAt(6, 5)).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("outer");
+        assertThat(focusManager.focusAt(55, 1)).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("other");
+        assertThat(focusManager.focusAt(45, 1)).isFalse();
+    }
 }
@@ -7,6 +7,7 @@ package dev.tamboui.tui;
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 
+import dev.tamboui.inline.InlineDisplay;
 import dev.tamboui.tui.bindings.BindingSets;
 import dev.tamboui.tui.bindings.Bindings;
 
@@ -43,15 +44,20 @@ public final class InlineTuiConfig {
     private final boolean clearOnClose;
     private final Bindings bindings;
     private final ScheduledExecutorService scheduler;
+    private final boolean virtualThreads;
+    private final int maxPendingLines;
 
     private InlineTuiConfig(int height, Duration tickRate, Duration pollTimeout,
-                            boolean clearOnClose, Bindings bindings, ScheduledExecutorService scheduler) {
+                            boolean clearOnClose, Bindings bindings, ScheduledExecutorService scheduler,
+                            boolean virtualThreads, int maxPendingLines) {
         this.height = height;
         this.tickRate = tickRate;
         this.pollTimeout = pollTimeout;
         this.clearOnClose = clearOnClose;
         this.bindings = bindings;
         this.scheduler = scheduler;
+        this.virtualThreads = virtualThreads;
+        this.maxPendingLines = maxPendingLines;
     }
 
     /**
@@ -63,6 +69,7 @@ public final class InlineTuiConfig {
      *   <li>Poll timeout: 40ms</li>
      *   <li>Clear on close: false</li>
      *   <li>Bindings: defaults</li>
+     *   <li>Max pending lines: {@value InlineDisplay#DEFAULT_MAX_PENDING_LINES}</li>
      * </ul>
      *
      * @param height the number of lines for the inline display
@@ -75,7 +82,9 @@ public final class InlineTuiConfig {
                 Duration.ofMillis(DEFAULT_POLL_TIMEOUT),
                 false,
                 BindingSets.defaults(),
-                null
+                null,
+                false,
+                InlineDisplay.DEFAULT_MAX_PENDING_LINES
         );
     }
 
@@ -155,6 +164,26 @@ public final class InlineTuiConfig {
         return scheduler;
     }
 
+    /**
+     * Returns whether the input reader should run on a virtual thread.
+     *
+     * @return true if virtual threads are preferred
+     * @see TuiConfig#virtualThreads()
+     */
+    public boolean virtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Returns the maximum number of lines printed with {@link InlineTuiRunner#println(String)}
+     * that can wait for the next frame.
+     *
+     * @return the maximum number of pending lines
+     */
+    public int maxPendingLines() {
+        return maxPendingLines;
+    }
+
     @Override
     public String toString() {
         return String.format(
@@ -172,6 +201,8 @@ public final class InlineTuiConfig {
         private boolean clearOnClose = false;
         private Bindings bindings = BindingSets.defaults();
         private ScheduledExecutorService scheduler;
+        private boolean virtualThreads = false;
+        private int maxPendingLines = InlineDisplay.DEFAULT_MAX_PENDING_LINES;
 
         private Builder(int height) {
             if (height <= 0) {
@@ -264,13 +295,56 @@ public final class InlineTuiConfig {
             return this;
         }
 
+        /**
+         * Uses the JVM-wide shared scheduler for ticks.
+         *
+         * @return this builder
+         * @see TuiConfig.Builder#sharedScheduler()
+         */
+        public Builder sharedScheduler() {
+            this.scheduler = Schedulers.shared();
+            return this;
+        }
+
+        /**
+         * Sets whether the input reader should run on a virtual thread.
+         *
+         * @param virtualThreads true to prefer virtual threads
+         * @return this builder
+         * @see TuiConfig.Builder#virtualThreads(boolean)
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of lines printed with {@link InlineTuiRunner#println(String)}
+         * that can wait for the next frame.
+         * <p>
+         * Lines printed while that many lines are already waiting are dropped, and
+         * reported by a "+N lines dropped" line.
+         *
+         * @param maxPendingLines the maximum number of pending lines, at least 1
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxPendingLines} is less than 1
+         */
+        public Builder maxPendingLines(int maxPendingLines) {
+            if (maxPendingLines < 1) {
+                throw new IllegalArgumentException("maxPendingLines must be at least 1");
+            }
+            this.maxPendingLines = maxPendingLines;
+            return this;
+        }
+
         /**
          * Builds the configuration.
          *
          * @return a new InlineTuiConfig
          */
         public InlineTuiConfig build() {
-            return new InlineTuiConfig(height, tickRate, pollTimeout, clearOnClose, bindings, scheduler);
+            return new InlineTuiConfig(height, tickRate, pollTimeout, clearOnClose, bindings, scheduler, virtualThreads,
+                    maxPendingLines);
         }
     }
 }
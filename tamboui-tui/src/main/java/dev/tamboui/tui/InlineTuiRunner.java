@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -71,11 +72,13 @@ public final class InlineTuiRunner implements AutoCloseable {
     private final AtomicBoolean cleanedUp;
     private final ScheduledExecutorService scheduler;
     private final boolean schedulerOwned;
+    private final ScheduledFuture<?> schedulerTask;
     private final AtomicLong frameCount;
     private final Thread shutdownHook;
     private final AtomicReference<Instant> lastTick;
     private final AtomicReference<Instant> nextTickTime;
     private final TerminalInputReader inputReader;
+    private volatile Thread renderThread;
 
     private InlineTuiRunner(Backend backend, InlineViewport viewport, InlineTuiConfig config) {
         this.backend = backend;
@@ -97,12 +100,14 @@ public final class InlineTuiRunner implements AutoCloseable {
         // Only schedule the internal callback if ticks are enabled
         if (config.ticksEnabled() && config.tickRate() != null) {
             long periodMs = config.tickRate().toMillis();
-            this.scheduler.scheduleAtFixedRate(this::schedulerCallback, periodMs, periodMs, TimeUnit.MILLISECONDS);
+            this.schedulerTask = this.scheduler.scheduleAtFixedRate(this::schedulerCallback, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.schedulerTask = null;
         }
 
         // Create and start the input reader thread
         this.inputReader = new TerminalInputReader(backend, eventQueue, config.bindings(), running, config.pollTimeout());
-        this.inputReader.start();
+        this.inputReader.start(config.virtualThreads());
 
         // Register shutdown hook
         this.shutdownHook = new Thread(this::cleanup, "inline-tui-shutdown-hook");
@@ -141,6 +146,7 @@ public final class InlineTuiRunner implements AutoCloseable {
             if (config.clearOnClose()) {
                 display.clearOnClose();
             }
+            display.maxPendingLines(config.maxPendingLines());
 
             InlineViewport viewport = new InlineViewport(display);
             return new InlineTuiRunner(backend, viewport, config);
@@ -166,7 +172,8 @@ public final class InlineTuiRunner implements AutoCloseable {
      */
     public void run(InlineEventHandler handler, Renderer renderer) throws Exception {
         // Mark this thread as the render thread
-        RenderThread.setRenderThread(Thread.currentThread());
+        this.renderThread = Thread.currentThread();
+        RenderThread.setRenderThread(renderThread);
 
         try {
             // Initial draw
@@ -183,12 +190,16 @@ public final class InlineTuiRunner implements AutoCloseable {
 
                     boolean shouldRedraw = handler.handle(event, this);
                     if (shouldRedraw && running.get()) {
+                        // Also prints the lines queued by println()
                         viewport.draw(renderer::render);
+                        continue;
                     }
                 }
+                viewport.flushPendingLines();
             }
         } finally {
             RenderThread.clearRenderThread();
+            this.renderThread = null;
         }
     }
 
@@ -239,6 +250,11 @@ public final class InlineTuiRunner implements AutoCloseable {
 
     /**
      * Prints a plain text message above the viewport.
+     * <p>
+     * This method can be called from any thread. Messages are queued and printed
+     * together, with a single scroll, once per frame. If more than
+     * {@link InlineTuiConfig#maxPendingLines()} messages are waiting, the extra
+     * ones are dropped and a "+N lines dropped" line is printed instead.
      *
      * @param message the message to print
      */
@@ -248,8 +264,10 @@ public final class InlineTuiRunner implements AutoCloseable {
 
     /**
      * Prints styled text above the viewport.
+     * This method can be called from any thread.
      *
      * @param text the styled text to print
+     * @see #println(String)
      */
     public void println(Text text) {
         viewport.println(text);
@@ -276,7 +294,7 @@ public final class InlineTuiRunner implements AutoCloseable {
      * @param action the action to execute
      */
     public void runOnRenderThread(Runnable action) {
-        if (RenderThread.isRenderThread()) {
+        if (Thread.currentThread() == renderThread) {
             action.run();
         } else {
             eventQueue.offer(new UiRunnable(action));
@@ -398,6 +416,11 @@ public final class InlineTuiRunner implements AutoCloseable {
             // JVM is already shutting down
         }
 
+        // Cancel our periodic callback so a shared scheduler does not keep it
+        if (schedulerTask != null) {
+            schedulerTask.cancel(false);
+        }
+
         // Shutdown scheduler only if we own it
         if (schedulerOwned) {
             scheduler.shutdownNow();
@@ -118,21 +118,30 @@ final class InlineViewport {
     }
 
     /**
-     * Prints a plain text message above the viewport.
+     * Queues a plain text message to be printed above the viewport by the next
+     * draw or {@link #flushPendingLines()}. Can be called from any thread.
      *
      * @param message the message to print
      */
     void println(String message) {
-        display.println(message);
+        display.printlnLater(message);
     }
 
     /**
-     * Prints styled text above the viewport.
+     * Queues styled text to be printed above the viewport by the next draw or
+     * {@link #flushPendingLines()}. Can be called from any thread.
      *
      * @param text the styled text to print
      */
     void println(Text text) {
-        display.println(text);
+        display.printlnLater(text);
+    }
+
+    /**
+     * Prints the queued messages, if any.
+     */
+    void flushPendingLines() {
+        display.flushPendingLines();
     }
 
     /**
@@ -4,7 +4,8 @@
  */
 package dev.tamboui.tui;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import dev.tamboui.tui.error.TuiException;
 
@@ -16,6 +17,8 @@ import dev.tamboui.tui.error.TuiException;
  * thread is the render thread and to assert that code is running on the render thread.
  * <p>
  * The render thread is set when {@link TuiRunner#run} starts and cleared when it exits.
+ * Several runners may be active at the same time (for example one per remote session),
+ * in which case each of their event loop threads is a render thread.
  * <p>
  * <b>Usage:</b>
  * <pre>{@code
@@ -34,7 +37,7 @@ import dev.tamboui.tui.error.TuiException;
  */
 public final class RenderThread {
 
-    private static final AtomicReference<Thread> renderThread = new AtomicReference<>();
+    private static final Set<Thread> renderThreads = ConcurrentHashMap.newKeySet();
 
     private RenderThread() {
         // Utility class
@@ -46,7 +49,7 @@ public final class RenderThread {
      * @return true if called from the render thread, false otherwise
      */
     public static boolean isRenderThread() {
-        return Thread.currentThread() == renderThread.get();
+        return renderThreads.contains(Thread.currentThread());
     }
 
     /**
@@ -62,29 +65,38 @@ public final class RenderThread {
      * @throws IllegalStateException if a render thread has been set and this is not it
      */
     public static void checkRenderThread() {
-        Thread ui = renderThread.get();
-        // Only enforce if render thread has been set
-        if (ui != null && Thread.currentThread() != ui) {
-            Thread current = Thread.currentThread();
+        // Only enforce if a render thread has been set
+        if (renderThreads.isEmpty()) {
+            return;
+        }
+        Thread current = Thread.currentThread();
+        if (!renderThreads.contains(current)) {
+            StringBuilder names = new StringBuilder();
+            for (Thread t : renderThreads) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                }
+                names.append(t.getName());
+            }
             throw new TuiException(
                 "Must be called on render thread. Current: " + current.getName() +
-                " (id=" + current.getId() + "), render thread: " + ui.getName());
+                " (id=" + current.getId() + "), render thread: " + names);
         }
     }
 
     /**
-     * Sets the render thread. Package-private for use by TuiRunner.
+     * Registers a render thread. Package-private for use by TuiRunner.
      *
-     * @param thread the thread to set as the render thread
+     * @param thread the thread to register as a render thread
      */
     static void setRenderThread(Thread thread) {
-        renderThread.set(thread);
+        renderThreads.add(thread);
     }
 
     /**
-     * Clears the render thread reference. Package-private for use by TuiRunner.
+     * Unregisters the current thread as a render thread. Package-private for use by TuiRunner.
      */
     static void clearRenderThread() {
-        renderThread.set(null);
+        renderThreads.remove(Thread.currentThread());
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of a runner's rendering metrics.
+ * <p>
+ * Hosts that serve many sessions from one JVM can poll these snapshots to
+ * spot slow clients: a session whose frames take long to draw (typically
+ * because writes to its backend block) accumulates coalesced ticks instead
+ * of queueing them without bound, when {@link TuiConfig#coalesceTicks()} is
+ * enabled.
+ *
+ * @see TuiRunner#metrics()
+ */
+public final class RunnerMetrics {
+
+    private final long framesRendered;
+    private final long ticksCoalesced;
+    private final long lastFrameNanos;
+    private final long maxFrameNanos;
+    private final long totalFrameNanos;
+    private final int pendingEvents;
+
+    RunnerMetrics(long framesRendered, long ticksCoalesced, long lastFrameNanos,
+                  long maxFrameNanos, long totalFrameNanos, int pendingEvents) {
+        this.framesRendered = framesRendered;
+        this.ticksCoalesced = ticksCoalesced;
+        this.lastFrameNanos = lastFrameNanos;
+        this.maxFrameNanos = maxFrameNanos;
+        this.totalFrameNanos = totalFrameNanos;
+        this.pendingEvents = pendingEvents;
+    }
+
+    /**
+     * Returns the number of frames drawn to the backend.
+     *
+     * @return the frame count
+     */
+    public long framesRendered() {
+        return framesRendered;
+    }
+
+    /**
+     * Returns the number of ticks that were dropped because the previous
+     * tick had not been processed yet. This is always 0 unless
+     * {@link TuiConfig#coalesceTicks()} is enabled.
+     *
+     * @return the number of coalesced ticks
+     */
+    public long ticksCoalesced() {
+        return ticksCoalesced;
+    }
+
+    /**
+     * Returns the time taken to render and flush the last frame.
+     *
+     * @return the last frame time
+     */
+    public Duration lastFrameTime() {
+        return Duration.ofNanos(lastFrameNanos);
+    }
+
+    /**
+     * Returns the longest time taken to render and flush a frame.
+     *
+     * @return the maximum frame time
+     */
+    public Duration maxFrameTime() {
+        return Duration.ofNanos(maxFrameNanos);
+    }
+
+    /**
+     * Returns the average time taken to render and flush a frame.
+     *
+     * @return the average frame time, or zero if no frame was rendered
+     */
+    public Duration averageFrameTime() {
+        return framesRendered == 0 ? Duration.ZERO : Duration.ofNanos(totalFrameNanos / framesRendered);
+    }
+
+    /**
+     * Returns the number of events waiting in the runner's queue.
+     *
+     * @return the pending event count
+     */
+    public int pendingEvents() {
+        return pendingEvents;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "RunnerMetrics[framesRendered=%d, ticksCoalesced=%d, lastFrameTime=%s, maxFrameTime=%s, averageFrameTime=%s, pendingEvents=%d]",
+                framesRendered, ticksCoalesced, lastFrameTime(), maxFrameTime(), averageFrameTime(), pendingEvents);
+    }
+}
@@ -16,10 +16,15 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>
  * When an external scheduler is provided, this utility validates it is
  * usable (not shut down) before returning it.
+ * <p>
+ * Hosts that run many runners in one JVM can use the {@link #shared()}
+ * scheduler instead, so that ticks and resize checks of every runner are
+ * served by a single timer thread rather than one thread per runner.
  */
 final class Schedulers {
 
     private static final String THREAD_NAME_PREFIX = "tamboui-scheduler-";
+    private static final String SHARED_THREAD_NAME = "tamboui-shared-scheduler";
     private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(1);
 
     private Schedulers() {
@@ -90,4 +95,33 @@ final class Schedulers {
             return t;
         });
     }
+
+    /**
+     * Returns the JVM-wide shared scheduler.
+     * <p>
+     * The scheduler is created lazily on first use and is never shut down.
+     * Runners using it only enqueue events from their periodic callbacks,
+     * so a single thread can serve thousands of runners. Cancelled tasks
+     * are removed from the work queue immediately, so closed runners do
+     * not leave entries behind.
+     *
+     * @return the shared scheduler
+     */
+    static ScheduledExecutorService shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    private static final class SharedHolder {
+        private static final ScheduledExecutorService INSTANCE = createShared();
+
+        private static ScheduledExecutorService createShared() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, SHARED_THREAD_NAME);
+                t.setDaemon(true);
+                return t;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
 }
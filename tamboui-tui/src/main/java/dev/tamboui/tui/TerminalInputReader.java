@@ -61,8 +61,21 @@ public final class TerminalInputReader implements Runnable {
      * The thread is created as a daemon thread named "tui-input-reader".
      */
     public void start() {
-        thread = new Thread(this, "tui-input-reader");
-        thread.setDaemon(true);
+        start(false);
+    }
+
+    /**
+     * Starts the input reader, optionally on a virtual thread.
+     * <p>
+     * When {@code preferVirtualThread} is true and the JVM supports virtual
+     * threads (Java 21+), the reader runs on a virtual thread, so hosts running
+     * many sessions do not pay for one platform thread per session. Otherwise
+     * this behaves like {@link #start()}.
+     *
+     * @param preferVirtualThread true to use a virtual thread when supported
+     */
+    public void start(boolean preferVirtualThread) {
+        thread = Threads.newThread(this, "tui-input-reader", preferVirtualThread);
         thread.start();
     }
 
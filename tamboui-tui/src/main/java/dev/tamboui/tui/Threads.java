@@ -0,0 +1,84 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Utility for creating the threads used by TUI runners and session hosts.
+ * <p>
+ * The library targets Java 8, so virtual threads (Java 21+) are looked up
+ * reflectively once and invoked through method handles. When the running JVM
+ * does not support them, platform daemon threads are created instead.
+ */
+final class Threads {
+
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle UNSTARTED;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle unstarted = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            name = lookup.findVirtual(ofVirtualClass, "name", MethodType.methodType(ofVirtualClass, String.class));
+            unstarted = lookup.findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Virtual threads are not available on this JVM
+            ofVirtual = null;
+            name = null;
+            unstarted = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        UNSTARTED = unstarted;
+    }
+
+    private Threads() {
+        // Utility class
+    }
+
+    /**
+     * Returns whether the running JVM supports virtual threads.
+     *
+     * @return true if virtual threads can be created
+     */
+    static boolean virtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a new, unstarted thread.
+     * <p>
+     * If {@code preferVirtual} is true and the JVM supports virtual threads,
+     * a virtual thread is returned. Otherwise a platform daemon thread is created.
+     *
+     * @param task          the task to run
+     * @param name          the thread name
+     * @param preferVirtual true to create a virtual thread when supported
+     * @return the unstarted thread
+     */
+    static Thread newThread(Runnable task, String name, boolean preferVirtual) {
+        if (preferVirtual && OF_VIRTUAL != null) {
+            try {
+                Object builder = OF_VIRTUAL.invoke();
+                builder = NAME.invoke(builder, name);
+                return (Thread) UNSTARTED.invoke(builder, task);
+            } catch (Throwable t) {
+                // Fall through to a platform thread
+            }
+        }
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
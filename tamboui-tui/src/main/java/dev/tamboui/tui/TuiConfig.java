@@ -48,6 +48,8 @@ public final class TuiConfig {
     private final List<PostRenderProcessor> postRenderProcessors;
     private final Backend backend;
     private final ScheduledExecutorService scheduler;
+    private final boolean virtualThreads;
+    private final boolean coalesceTicks;
 
     /**
      * Creates a new TUI configuration with the specified options.
@@ -86,6 +88,98 @@ public final class TuiConfig {
             List<PostRenderProcessor> postRenderProcessors, 
             Backend backend,
             ScheduledExecutorService scheduler
+    ) {
+        this(rawMode, alternateScreen, hideCursor, mouseCapture, pollTimeout, tickRate,
+                resizeGracePeriod, shutdownHook, bindings, errorHandler, errorOutput,
+                fpsOverlayEnabled, postRenderProcessors, backend, scheduler, false);
+    }
+
+    /**
+     * Creates a new TUI configuration with the specified options.
+     * <p>
+     * Prefer using {@link #builder()} or {@link #defaults()} instead of this constructor.
+     *
+     * @param rawMode whether to enable raw terminal mode
+     * @param alternateScreen whether to use the alternate screen buffer
+     * @param hideCursor whether to hide the cursor
+     * @param mouseCapture whether to capture mouse events
+     * @param pollTimeout timeout for polling events
+     * @param tickRate interval between tick events, or null to disable
+     * @param resizeGracePeriod grace period for resize events, or null to disable
+     * @param shutdownHook whether to register a JVM shutdown hook
+     * @param bindings the key/mouse bindings for semantic actions
+     * @param errorHandler the handler for render errors
+     * @param errorOutput the output stream for error logging
+     * @param fpsOverlayEnabled whether to show the FPS overlay
+     * @param postRenderProcessors list of post-render processors
+     * @param backend the backend to use (optional)
+     * @param scheduler external scheduler to use, or null to create an internal one
+     * @param virtualThreads whether to read input on a virtual thread when supported
+     */
+    public TuiConfig(
+            boolean rawMode,
+            boolean alternateScreen,
+            boolean hideCursor,
+            boolean mouseCapture,
+            Duration pollTimeout,
+            Duration tickRate,
+            Duration resizeGracePeriod,
+            boolean shutdownHook,
+            Bindings bindings,
+            RenderErrorHandler errorHandler,
+            PrintStream errorOutput,
+            boolean fpsOverlayEnabled,
+            List<PostRenderProcessor> postRenderProcessors,
+            Backend backend,
+            ScheduledExecutorService scheduler,
+            boolean virtualThreads
+    ) {
+        this(rawMode, alternateScreen, hideCursor, mouseCapture, pollTimeout, tickRate,
+                resizeGracePeriod, shutdownHook, bindings, errorHandler, errorOutput,
+                fpsOverlayEnabled, postRenderProcessors, backend, scheduler, virtualThreads, false);
+    }
+
+    /**
+     * Creates a new TUI configuration with the specified options.
+     * <p>
+     * Prefer using {@link #builder()} or {@link #defaults()} instead of this constructor.
+     *
+     * @param rawMode whether to enable raw terminal mode
+     * @param alternateScreen whether to use the alternate screen buffer
+     * @param hideCursor whether to hide the cursor
+     * @param mouseCapture whether to capture mouse events
+     * @param pollTimeout timeout for polling events
+     * @param tickRate interval between tick events, or null to disable
+     * @param resizeGracePeriod grace period for resize events, or null to disable
+     * @param shutdownHook whether to register a JVM shutdown hook
+     * @param bindings the key/mouse bindings for semantic actions
+     * @param errorHandler the handler for render errors
+     * @param errorOutput the output stream for error logging
+     * @param fpsOverlayEnabled whether to show the FPS overlay
+     * @param postRenderProcessors list of post-render processors
+     * @param backend the backend to use (optional)
+     * @param scheduler external scheduler to use, or null to create an internal one
+     * @param virtualThreads whether to read input on a virtual thread when supported
+     * @param coalesceTicks whether to skip ticks while the previous one is still queued
+     */
+    public TuiConfig(
+            boolean rawMode,
+            boolean alternateScreen,
+            boolean hideCursor,
+            boolean mouseCapture,
+            Duration pollTimeout,
+            Duration tickRate,
+            Duration resizeGracePeriod,
+            boolean shutdownHook,
+            Bindings bindings,
+            RenderErrorHandler errorHandler,
+            PrintStream errorOutput,
+            boolean fpsOverlayEnabled,
+            List<PostRenderProcessor> postRenderProcessors,
+            Backend backend,
+            ScheduledExecutorService scheduler,
+            boolean virtualThreads,
+            boolean coalesceTicks
     ) {
         this.rawMode = rawMode;
         this.alternateScreen = alternateScreen;
@@ -104,6 +198,8 @@ public final class TuiConfig {
                 : Collections.emptyList();
         this.backend = backend;
         this.scheduler = scheduler;
+        this.virtualThreads = virtualThreads;
+        this.coalesceTicks = coalesceTicks;
     }
 
     /**
@@ -314,6 +410,43 @@ public final class TuiConfig {
         return scheduler;
     }
 
+    /**
+     * Returns whether the input reader should run on a virtual thread.
+     * <p>
+     * This only takes effect on JVMs that support virtual threads (Java 21+);
+     * on older JVMs a platform daemon thread is used regardless.
+     *
+     * @return true if virtual threads are preferred
+     */
+    public boolean virtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Returns whether ticks are skipped while the previous tick is still queued.
+     * <p>
+     * Skipped ticks are counted by {@link RunnerMetrics#ticksCoalesced()}; they
+     * still count in {@link dev.tamboui.tui.event.TickEvent#frameCount()}.
+     *
+     * @return true if ticks are coalesced
+     */
+    public boolean coalesceTicks() {
+        return coalesceTicks;
+    }
+
+    /**
+     * Creates a new, unstarted thread for work belonging to runners of this
+     * configuration: a virtual thread if {@link #virtualThreads()} is enabled and
+     * the JVM supports them, otherwise a platform daemon thread.
+     *
+     * @param task the task to run
+     * @param name the thread name
+     * @return the unstarted thread
+     */
+    public Thread newThread(Runnable task, String name) {
+        return Threads.newThread(task, name, virtualThreads);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -332,6 +465,8 @@ public final class TuiConfig {
                 && (resizeGracePeriod != null ? resizeGracePeriod.equals(that.resizeGracePeriod) : that.resizeGracePeriod == null)
                 && bindings.equals(that.bindings)
                 && fpsOverlayEnabled == that.fpsOverlayEnabled
+                && virtualThreads == that.virtualThreads
+                && coalesceTicks == that.coalesceTicks
                 && Objects.equals(backend, that.backend);
     }
 
@@ -346,6 +481,8 @@ public final class TuiConfig {
         result = 31 * result + (resizeGracePeriod != null ? resizeGracePeriod.hashCode() : 0);
         result = 31 * result + bindings.hashCode();
         result = 31 * result + Boolean.hashCode(fpsOverlayEnabled);
+        result = 31 * result + Boolean.hashCode(virtualThreads);
+        result = 31 * result + Boolean.hashCode(coalesceTicks);
         result = 31 * result + Objects.hashCode(backend);
         return result;
     }
@@ -353,7 +490,7 @@ public final class TuiConfig {
     @Override
     public String toString() {
         return String.format(
-                "TuiConfig[rawMode=%s, alternateScreen=%s, hideCursor=%s, mouseCapture=%s, pollTimeout=%s, tickRate=%s, resizeGracePeriod=%s, shutdownHook=%s, bindings=%s, fpsOverlayEnabled=%s]",
+                "TuiConfig[rawMode=%s, alternateScreen=%s, hideCursor=%s, mouseCapture=%s, pollTimeout=%s, tickRate=%s, resizeGracePeriod=%s, shutdownHook=%s, bindings=%s, fpsOverlayEnabled=%s, virtualThreads=%s, coalesceTicks=%s]",
                 rawMode,
                 alternateScreen,
                 hideCursor,
@@ -363,7 +500,9 @@ public final class TuiConfig {
                 resizeGracePeriod,
                 shutdownHook,
                 bindings,
-                fpsOverlayEnabled
+                fpsOverlayEnabled,
+                virtualThreads,
+                coalesceTicks
         );
     }
 
@@ -386,6 +525,8 @@ public final class TuiConfig {
         private final List<PostRenderProcessor> postRenderProcessors = new ArrayList<>();
         private Backend backend;
         private ScheduledExecutorService scheduler;
+        private boolean virtualThreads = false;
+        private boolean coalesceTicks = false;
 
         private Builder() {
         }
@@ -604,6 +745,54 @@ public final class TuiConfig {
             return this;
         }
 
+        /**
+         * Uses the JVM-wide shared scheduler for ticks and resize handling.
+         * <p>
+         * All runners configured this way share a single timer thread, which
+         * is never shut down by the runners. This is intended for hosts that
+         * serve many sessions from one JVM, where a scheduler thread per
+         * session would not scale.
+         *
+         * @return this builder
+         * @see #scheduler(ScheduledExecutorService)
+         */
+        public Builder sharedScheduler() {
+            this.scheduler = Schedulers.shared();
+            return this;
+        }
+
+        /**
+         * Sets whether the input reader should run on a virtual thread.
+         * <p>
+         * On Java 21+ this avoids a dedicated platform thread per runner.
+         * On older JVMs the setting is ignored and a platform daemon thread is used.
+         * Combined with {@link #sharedScheduler()}, a runner no longer owns any
+         * platform thread besides the one calling {@link TuiRunner#run}.
+         *
+         * @param virtualThreads true to prefer virtual threads
+         * @return this builder
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Sets whether ticks are skipped while the previous tick is still queued.
+         * <p>
+         * A runner whose rendering cannot keep up with the tick rate, for example
+         * because its backend blocks on a slow client, then renders fewer frames
+         * instead of accumulating queued ticks. The elapsed time of the next
+         * delivered tick covers the skipped ones.
+         *
+         * @param coalesceTicks true to coalesce ticks
+         * @return this builder
+         */
+        public Builder coalesceTicks(boolean coalesceTicks) {
+            this.coalesceTicks = coalesceTicks;
+            return this;
+        }
+
         /**
          * Builds the configuration.
          *
@@ -625,7 +814,9 @@ public final class TuiConfig {
                     fpsOverlayEnabled,
                     postRenderProcessors,
                     backend,
-                    scheduler
+                    scheduler,
+                    virtualThreads,
+                    coalesceTicks
             );
         }
     }
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -85,6 +86,7 @@ public final class TuiRunner implements AutoCloseable {
     private final AtomicBoolean cleanedUp;
     private final ScheduledExecutorService scheduler;
     private final boolean schedulerOwned;
+    private final ScheduledFuture<?> schedulerTask;
     private final AtomicLong frameCount;
     private final Thread shutdownHook;
     private final RenderErrorHandler errorHandler;
@@ -93,10 +95,18 @@ public final class TuiRunner implements AutoCloseable {
     private final AtomicReference<Instant> nextTickTime;
     private final AtomicReference<Size> lastSize;
     private final AtomicBoolean resizePending;
+    private final AtomicBoolean tickPending;
+    private final AtomicBoolean pendingFrameQueued;
+    private final AtomicLong ticksCoalesced;
+    private final AtomicLong framesRendered;
     private final AtomicReference<Renderer> activeRenderer;
     private final TerminalInputReader inputReader;
     private final DebugOverlay debugOverlay;
     private final List<PostRenderProcessor> postRenderProcessors;
+    private volatile Thread renderThread;
+    private volatile long lastFrameNanos;
+    private volatile long maxFrameNanos;
+    private volatile long totalFrameNanos;
     private volatile RenderError lastError;
     private volatile boolean inErrorState;
     private volatile int errorScroll;
@@ -109,6 +119,10 @@ public final class TuiRunner implements AutoCloseable {
         this.running = new AtomicBoolean(true);
         this.cleanedUp = new AtomicBoolean(false);
         this.resizePending = new AtomicBoolean(false);
+        this.tickPending = new AtomicBoolean(false);
+        this.pendingFrameQueued = new AtomicBoolean(false);
+        this.ticksCoalesced = new AtomicLong(0);
+        this.framesRendered = new AtomicLong(0);
         this.activeRenderer = new AtomicReference<>();
         this.frameCount = new AtomicLong(0);
         this.lastTick = new AtomicReference<>(Instant.now());
@@ -139,6 +153,14 @@ public final class TuiRunner implements AutoCloseable {
             }
         });
 
+        // Send a frame skipped by a congested backend once it catches up, even
+        // if nothing else is drawn in the meantime
+        backend.onReadyForFrame(() -> {
+            if (pendingFrameQueued.compareAndSet(false, true)) {
+                eventQueue.offer(new UiRunnable(this::drawPendingFrame));
+            }
+        });
+
         // Set up scheduler - use provided scheduler or create one
         Schedulers.Scheduler schedulerResult = Schedulers.resolve(config.scheduler());
         this.scheduler = schedulerResult.scheduler();
@@ -148,12 +170,14 @@ public final class TuiRunner implements AutoCloseable {
         Duration schedulerPeriod = computeSchedulerPeriod(config);
         if (schedulerPeriod != null) {
             long periodMs = schedulerPeriod.toMillis();
-            scheduler.scheduleAtFixedRate(this::schedulerCallback, periodMs, periodMs, TimeUnit.MILLISECONDS);
+            this.schedulerTask = scheduler.scheduleAtFixedRate(this::schedulerCallback, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.schedulerTask = null;
         }
 
         // Create and start the input reader thread
         this.inputReader = new TerminalInputReader(backend, eventQueue, config.bindings(), running, config.pollTimeout());
-        this.inputReader.start();
+        this.inputReader.start(config.virtualThreads());
 
         // Create debug overlay
         this.debugOverlay = new DebugOverlay(backend.getClass().getSimpleName(), config.pollTimeout(), config.tickRate());
@@ -225,7 +249,8 @@ public final class TuiRunner implements AutoCloseable {
      */
     public void run(EventHandler handler, Renderer renderer) throws Exception {
         // Mark this thread as the render thread
-        RenderThread.setRenderThread(Thread.currentThread());
+        this.renderThread = Thread.currentThread();
+        RenderThread.setRenderThread(renderThread);
 
         try {
             // Wrap renderer to add post-render processors and FPS overlay
@@ -296,18 +321,45 @@ public final class TuiRunner implements AutoCloseable {
         } finally {
             // Clear render thread reference
             RenderThread.clearRenderThread();
+            this.renderThread = null;
         }
     }
 
     private void safeRender(Renderer renderer) {
         RenderThread.checkRenderThread();
         try {
+            long start = System.nanoTime();
             terminal.draw(renderer::render);
+            recordFrame(System.nanoTime() - start);
         } catch (Throwable t) {
             handleRenderError(t);
         }
     }
 
+    private void drawPendingFrame() {
+        pendingFrameQueued.set(false);
+        try {
+            long start = System.nanoTime();
+            if (terminal.drawPendingFrame()) {
+                recordFrame(System.nanoTime() - start);
+            }
+        } catch (Throwable t) {
+            handleRenderError(t);
+        }
+    }
+
+    /**
+     * Records the duration of a drawn frame. Only called from the render thread.
+     */
+    private void recordFrame(long nanos) {
+        framesRendered.incrementAndGet();
+        lastFrameNanos = nanos;
+        totalFrameNanos += nanos;
+        if (nanos > maxFrameNanos) {
+            maxFrameNanos = nanos;
+        }
+    }
+
     private void handleRenderError(Throwable t) {
         lastError = RenderError.from(t);
         errorScroll = 0;
@@ -464,7 +516,12 @@ public final class TuiRunner implements AutoCloseable {
             }
 
             // No input events, wait for any event
-            return eventQueue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            event = eventQueue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (event instanceof TickEvent) {
+                // Allow the scheduler to post the next tick
+                tickPending.set(false);
+            }
+            return event;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return null;
@@ -552,7 +609,7 @@ public final class TuiRunner implements AutoCloseable {
      * @param action the action to execute on the render thread
      */
     public void runOnRenderThread(Runnable action) {
-        if (RenderThread.isRenderThread()) {
+        if (isRenderThread()) {
             action.run();
         } else {
             eventQueue.offer(new UiRunnable(action));
@@ -589,12 +646,29 @@ public final class TuiRunner implements AutoCloseable {
     }
 
     /**
-     * Returns whether the current thread is the render thread.
+     * Returns whether the current thread is the render thread of this runner.
      *
      * @return true if called from the render thread
      */
     public boolean isRenderThread() {
-        return RenderThread.isRenderThread();
+        return Thread.currentThread() == renderThread;
+    }
+
+    /**
+     * Returns a snapshot of this runner's rendering metrics.
+     * <p>
+     * This method may be called from any thread.
+     *
+     * @return the current metrics
+     */
+    public RunnerMetrics metrics() {
+        return new RunnerMetrics(
+                framesRendered.get(),
+                ticksCoalesced.get(),
+                lastFrameNanos,
+                maxFrameNanos,
+                totalFrameNanos,
+                eventQueue.size());
     }
 
     /**
@@ -678,15 +752,24 @@ public final class TuiRunner implements AutoCloseable {
             Instant targetTime = nextTickTime.get();
 
             if (targetTime != null && !now.isBefore(targetTime)) {
-                // Compute elapsed since last tick for the event
-                Instant previous = lastTick.getAndSet(now);
-                Duration elapsed = Duration.between(previous, now);
-
                 // Schedule next tick from the target time to maintain steady rate
                 // This ensures we don't lose ticks due to scheduler jitter
                 nextTickTime.set(targetTime.plus(config.tickRate()));
 
                 long frame = frameCount.incrementAndGet();
+
+                // When enabled, coalesce ticks while the previous one is still queued,
+                // so a slow renderer (e.g. a backend blocked on a slow client) gets
+                // fewer frames instead of an ever-growing queue
+                if (config.coalesceTicks() && !tickPending.compareAndSet(false, true)) {
+                    ticksCoalesced.incrementAndGet();
+                    return;
+                }
+
+                // Compute elapsed since last delivered tick for the event
+                Instant previous = lastTick.getAndSet(now);
+                Duration elapsed = Duration.between(previous, now);
+
                 eventQueue.offer(TickEvent.of(frame, elapsed));
             }
         }
@@ -717,6 +800,11 @@ public final class TuiRunner implements AutoCloseable {
             }
         }
 
+        // Cancel our periodic callback so a shared scheduler does not keep it
+        if (schedulerTask != null) {
+            schedulerTask.cancel(false);
+        }
+
         // Shutdown scheduler only if we own it
         if (schedulerOwned) {
             scheduler.shutdownNow();
@@ -962,6 +1050,29 @@ public final class TuiRunner implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Uses the JVM-wide shared scheduler for ticks and resize handling.
+         *
+         * @return this builder
+         * @see TuiConfig.Builder#sharedScheduler()
+         */
+        public Builder sharedScheduler() {
+            this.configBuilder.sharedScheduler();
+            return this;
+        }
+
+        /**
+         * Sets whether the input reader should run on a virtual thread.
+         *
+         * @param virtualThreads true to prefer virtual threads
+         * @return this builder
+         * @see TuiConfig.Builder#virtualThreads(boolean)
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.configBuilder.virtualThreads(virtualThreads);
+            return this;
+        }
+
         /**
          * Builds the TuiRunner and returns an instance ready to run.
          *
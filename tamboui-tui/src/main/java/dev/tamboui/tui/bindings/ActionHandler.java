@@ -36,6 +36,14 @@ import dev.tamboui.tui.event.Event;
  */
 public final class ActionHandler {
 
+    private static final ClassValue<List<ActionHandlerRegistrar<?>>> REGISTRARS =
+            new ClassValue<List<ActionHandlerRegistrar<?>>>() {
+                @Override
+                protected List<ActionHandlerRegistrar<?>> computeValue(Class<?> type) {
+                    return findRegistrars(type);
+                }
+            };
+
     private Bindings bindings;
     private final Map<String, List<BiConsumer<Event, String>>> handlers = new HashMap<>();
 
@@ -192,42 +200,85 @@ public final class ActionHandler {
      * First attempts to find generated {@link ActionHandlerRegistrar} implementations
      * via ServiceLoader. If no registrar is found for the target's exact class,
      * falls back to reflection-based discovery of {@code @OnAction} annotated methods.
+     * <p>
+     * The registrars found for a class, or the annotated methods found by
+     * reflection, are looked up once per class and reused for later targets.
      *
      * @param target the object containing {@code @OnAction} annotated methods
      * @param <T>    the target type
      * @return this handler for method chaining
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public <T> ActionHandler registerAnnotated(T target) {
-        Class<?> targetClass = target.getClass();
-        boolean foundRegistrar = false;
+        for (ActionHandlerRegistrar<?> registrar : REGISTRARS.get(target.getClass())) {
+            ((ActionHandlerRegistrar<T>) registrar).register(target, this);
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether {@link #registerAnnotated(Object)} falls back to reflection
+     * for the given class, because no generated registrar was found for it.
+     * <p>
+     * This can be used in tests to check that the annotation processor ran,
+     * which matters for native images where reflection needs extra metadata.
+     *
+     * @param type the class containing {@code @OnAction} annotated methods
+     * @return true if the class has {@code @OnAction} methods and no generated registrar
+     */
+    public static boolean usesReflection(Class<?> type) {
+        List<ActionHandlerRegistrar<?>> registrars = REGISTRARS.get(type);
+        return !registrars.isEmpty() && registrars.get(0) instanceof ReflectiveRegistrar;
+    }
 
+    @SuppressWarnings("rawtypes")
+    private static List<ActionHandlerRegistrar<?>> findRegistrars(Class<?> type) {
+        List<ActionHandlerRegistrar<?>> found = new ArrayList<>(1);
         ServiceLoader<ActionHandlerRegistrar> loader =
-                ServiceLoader.load(ActionHandlerRegistrar.class);
+                ServiceLoader.load(ActionHandlerRegistrar.class, type.getClassLoader());
         for (ActionHandlerRegistrar<?> registrar : loader) {
-            if (registrar.targetType() == targetClass) {
-                ((ActionHandlerRegistrar<T>) registrar).register(target, this);
-                foundRegistrar = true;
+            if (registrar.targetType() == type) {
+                found.add(registrar);
             }
         }
-
-        if (!foundRegistrar) {
-            registerViaReflection(target);
+        if (found.isEmpty()) {
+            ReflectiveRegistrar reflective = ReflectiveRegistrar.of(type);
+            if (reflective != null) {
+                found.add(reflective);
+            }
         }
-
-        return this;
+        return Collections.unmodifiableList(found);
     }
 
     /**
-     * Registers action handlers via reflection by scanning for {@code @OnAction} methods.
+     * Registers action handlers via reflection, from the {@code @OnAction} methods
+     * declared by a class.
      */
-    private <T> void registerViaReflection(T target) {
-        for (Method method : target.getClass().getDeclaredMethods()) {
-            OnAction annotation = method.getAnnotation(OnAction.class);
-            if (annotation != null) {
-                String action = annotation.value();
-                method.setAccessible(true);
-                on(action, event -> {
+    private static final class ReflectiveRegistrar implements ActionHandlerRegistrar<Object> {
+        private final Class<Object> type;
+        private final List<Method> methods;
+
+        private ReflectiveRegistrar(Class<Object> type, List<Method> methods) {
+            this.type = type;
+            this.methods = methods;
+        }
+
+        @SuppressWarnings("unchecked")
+        static ReflectiveRegistrar of(Class<?> type) {
+            List<Method> methods = new ArrayList<>();
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(OnAction.class)) {
+                    method.setAccessible(true);
+                    methods.add(method);
+                }
+            }
+            return methods.isEmpty() ? null : new ReflectiveRegistrar((Class<Object>) type, methods);
+        }
+
+        @Override
+        public void register(Object target, ActionHandler handler) {
+            for (Method method : methods) {
+                handler.on(method.getAnnotation(OnAction.class).value(), event -> {
                     try {
                         method.invoke(target, event);
                     } catch (Exception e) {
@@ -237,5 +288,10 @@ public final class ActionHandler {
                 });
             }
         }
+
+        @Override
+        public Class<Object> targetType() {
+            return type;
+        }
     }
 }
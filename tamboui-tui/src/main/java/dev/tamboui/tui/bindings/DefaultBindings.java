@@ -18,11 +18,15 @@ import dev.tamboui.tui.event.Event;
 /**
  * Default implementation of {@link Bindings} using a HashMap of actions to triggers.
  * <p>
+ * Lookups go through a table compiled when the bindings are built, so matching
+ * an event only tests the triggers filed under its key, modifiers and character.
+ * <p>
  * Instances are immutable; use {@link #toBuilder()} to create modified versions.
  */
 public final class DefaultBindings implements Bindings {
 
     private final Map<String, List<InputTrigger>> triggers;
+    private final TriggerTable table;
 
     private DefaultBindings(Map<String, List<InputTrigger>> triggers) {
         // Create immutable copy
@@ -30,32 +34,18 @@ public final class DefaultBindings implements Bindings {
         triggers.forEach((action, list) ->
             copy.put(action, Collections.unmodifiableList(new ArrayList<>(list))));
         this.triggers = Collections.unmodifiableMap(copy);
+        this.table = new TriggerTable(this.triggers);
     }
 
     @Override
     public boolean matches(Event event, String action) {
-        List<InputTrigger> actionTriggers = triggers.get(action);
-        if (actionTriggers == null) {
-            return false;
-        }
-        for (InputTrigger trigger : actionTriggers) {
-            if (trigger.matches(event)) {
-                return true;
-            }
-        }
-        return false;
+        return table.actionsFor(event).contains(action);
     }
 
     @Override
     public Optional<String> actionFor(Event event) {
-        for (Map.Entry<String, List<InputTrigger>> entry : triggers.entrySet()) {
-            for (InputTrigger trigger : entry.getValue()) {
-                if (trigger.matches(event)) {
-                    return Optional.of(entry.getKey());
-                }
-            }
-        }
-        return Optional.empty();
+        List<String> actions = table.actionsFor(event);
+        return actions.isEmpty() ? Optional.empty() : Optional.of(actions.get(0));
     }
 
     @Override
@@ -120,6 +120,22 @@ public final class KeyTrigger implements InputTrigger {
         return new KeyTrigger(KeyCode.CHAR, c, false, true, false, false);
     }
 
+    KeyCode keyCode() {
+        return keyCode;
+    }
+
+    Character character() {
+        return character;
+    }
+
+    boolean ctrl() {
+        return ctrl;
+    }
+
+    boolean alt() {
+        return alt;
+    }
+
     @Override
     public boolean matches(Event event) {
         if (!(event instanceof KeyEvent)) {
@@ -184,6 +184,22 @@ public final class MouseTrigger implements InputTrigger {
         return new MouseTrigger(kind, button, ctrl, alt, shift);
     }
 
+    MouseEventKind kind() {
+        return kind;
+    }
+
+    MouseButton button() {
+        return button;
+    }
+
+    boolean ctrl() {
+        return ctrl;
+    }
+
+    boolean alt() {
+        return alt;
+    }
+
     @Override
     public boolean matches(Event event) {
         if (!(event instanceof MouseEvent)) {
@@ -0,0 +1,194 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.bindings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.tamboui.tui.event.Event;
+import dev.tamboui.tui.event.KeyCode;
+import dev.tamboui.tui.event.KeyEvent;
+import dev.tamboui.tui.event.KeyModifiers;
+import dev.tamboui.tui.event.MouseButton;
+import dev.tamboui.tui.event.MouseEvent;
+
+/**
+ * Lookup table from events to the actions they trigger, compiled once per
+ * {@link DefaultBindings} instance.
+ * <p>
+ * Key and mouse triggers are filed under a key made of the event kind, key code
+ * or mouse button, Ctrl/Alt state and (lower-cased) character, so an event only
+ * tests the few triggers filed under its own key. Candidates are still checked
+ * with {@link InputTrigger#matches(Event)}, which handles Shift and case rules.
+ * Other trigger implementations are tested for every event.
+ * <p>
+ * Actions are returned in the order a scan of the bindings would find them, and
+ * the result for the most recent event is cached, since the same event is
+ * usually matched against several actions in a row.
+ */
+final class TriggerTable {
+
+    private static final long MOUSE = 1L << 40;
+    private static final int CTRL = 1;
+    private static final int ALT = 2;
+    private static final int NO_CHAR = 0x10000;
+    private static final int ANY_CHAR = 0x10001;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final Map<Long, Entry[]> keyed;
+    private final Entry[] unkeyed;
+    private volatile Match last;
+
+    TriggerTable(Map<String, List<InputTrigger>> triggers) {
+        Map<Long, List<Entry>> buckets = new HashMap<>();
+        List<Entry> others = new ArrayList<>();
+        int ordinal = 0;
+        for (Map.Entry<String, List<InputTrigger>> binding : triggers.entrySet()) {
+            for (InputTrigger trigger : binding.getValue()) {
+                Entry entry = new Entry(ordinal++, binding.getKey(), trigger);
+                long key = keyOf(trigger);
+                if (key < 0) {
+                    others.add(entry);
+                } else {
+                    buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+        this.keyed = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, list) -> keyed.put(key, list.toArray(NO_ENTRIES)));
+        this.unkeyed = others.toArray(NO_ENTRIES);
+    }
+
+    /**
+     * Returns the actions triggered by the event, in binding order, without duplicates.
+     *
+     * @param event the event
+     * @return the matching actions, possibly empty
+     */
+    List<String> actionsFor(Event event) {
+        Match match = last;
+        if (match != null && match.event == event) {
+            return match.actions;
+        }
+        List<String> actions = lookup(event);
+        last = new Match(event, actions);
+        return actions;
+    }
+
+    private List<String> lookup(Event event) {
+        List<Entry> hits = null;
+        if (event instanceof KeyEvent) {
+            KeyEvent key = (KeyEvent) event;
+            int mods = modifierBits(key.modifiers());
+            if (key.code() == KeyCode.CHAR) {
+                hits = collect(keyEntry(KeyCode.CHAR, mods, Character.toLowerCase(key.character())), event, hits);
+                hits = collect(keyEntry(KeyCode.CHAR, mods, ANY_CHAR), event, hits);
+            } else {
+                hits = collect(keyEntry(key.code(), mods, NO_CHAR), event, hits);
+            }
+        } else if (event instanceof MouseEvent) {
+            MouseEvent mouse = (MouseEvent) event;
+            int mods = modifierBits(mouse.modifiers());
+            hits = collect(mouseEntry(mouse.kind().ordinal(), mods, mouse.button()), event, hits);
+            if (mouse.button() != MouseButton.NONE) {
+                hits = collect(mouseEntry(mouse.kind().ordinal(), mods, MouseButton.NONE), event, hits);
+            }
+        }
+        for (Entry entry : unkeyed) {
+            hits = collectEntry(entry, event, hits);
+        }
+        if (hits == null) {
+            return Collections.emptyList();
+        }
+        if (hits.size() == 1) {
+            return Collections.singletonList(hits.get(0).action);
+        }
+        hits.sort((a, b) -> Integer.compare(a.ordinal, b.ordinal));
+        List<String> actions = new ArrayList<>(hits.size());
+        for (Entry hit : hits) {
+            if (!actions.contains(hit.action)) {
+                actions.add(hit.action);
+            }
+        }
+        return Collections.unmodifiableList(actions);
+    }
+
+    private Entry[] bucket(long key) {
+        Entry[] entries = keyed.get(key);
+        return entries != null ? entries : NO_ENTRIES;
+    }
+
+    private List<Entry> collect(long key, Event event, List<Entry> hits) {
+        for (Entry entry : bucket(key)) {
+            hits = collectEntry(entry, event, hits);
+        }
+        return hits;
+    }
+
+    private static List<Entry> collectEntry(Entry entry, Event event, List<Entry> hits) {
+        if (entry.trigger.matches(event)) {
+            if (hits == null) {
+                hits = new ArrayList<>(2);
+            }
+            hits.add(entry);
+        }
+        return hits;
+    }
+
+    private static long keyOf(InputTrigger trigger) {
+        if (trigger instanceof KeyTrigger) {
+            KeyTrigger key = (KeyTrigger) trigger;
+            int mods = (key.ctrl() ? CTRL : 0) | (key.alt() ? ALT : 0);
+            if (key.keyCode() != KeyCode.CHAR) {
+                return keyEntry(key.keyCode(), mods, NO_CHAR);
+            }
+            Character character = key.character();
+            return keyEntry(KeyCode.CHAR, mods, character != null ? Character.toLowerCase(character) : ANY_CHAR);
+        }
+        if (trigger instanceof MouseTrigger) {
+            MouseTrigger mouse = (MouseTrigger) trigger;
+            int mods = (mouse.ctrl() ? CTRL : 0) | (mouse.alt() ? ALT : 0);
+            return mouseEntry(mouse.kind().ordinal(), mods, mouse.button());
+        }
+        return -1;
+    }
+
+    private static int modifierBits(KeyModifiers modifiers) {
+        return (modifiers.ctrl() ? CTRL : 0) | (modifiers.alt() ? ALT : 0);
+    }
+
+    private static long keyEntry(KeyCode code, int mods, int character) {
+        return ((long) code.ordinal() << 24) | ((long) mods << 20) | character;
+    }
+
+    private static long mouseEntry(int kind, int mods, MouseButton button) {
+        return MOUSE | ((long) kind << 24) | ((long) mods << 20) | button.ordinal();
+    }
+
+    private static final class Entry {
+        private final int ordinal;
+        private final String action;
+        private final InputTrigger trigger;
+
+        Entry(int ordinal, String action, InputTrigger trigger) {
+            this.ordinal = ordinal;
+            this.action = action;
+            this.trigger = trigger;
+        }
+    }
+
+    private static final class Match {
+        private final Event event;
+        private final List<String> actions;
+
+        Match(Event event, List<String> actions) {
+            this.event = event;
+            this.actions = actions;
+        }
+    }
+}
@@ -12,7 +12,9 @@ import dev.tamboui.tui.TuiConfig;
  * Represents an animation timer tick event.
  * <p>
  * Tick events are generated at regular intervals when animation mode is enabled
- * via {@link TuiConfig#tickRate()}.
+ * via {@link TuiConfig#tickRate()}. When ticks are
+ * {@linkplain TuiConfig#coalesceTicks() coalesced}, the frame count still
+ * includes the skipped ticks, and the elapsed time covers them.
  */
 public final class TickEvent implements Event {
 
@@ -93,4 +93,25 @@ class InlineViewportTest {
 
         assertThat(backend.rawOutput()).contains("Line10");
     }
+
+    @Test
+    @DisplayName("println output is queued from any thread and printed by the next draw")
+    void println_isPrintedByNextDraw() throws Exception {
+        InlineDisplay display = InlineDisplay.withBackend(2, 80, backend);
+        InlineViewport viewport = new InlineViewport(display);
+        viewport.draw(frame -> frame.buffer().setString(0, 0, "Status", Style.EMPTY));
+
+        Thread logger = new Thread(() -> viewport.println("from another thread"));
+        logger.start();
+        logger.join();
+
+        backend.reset();
+        viewport.flushPendingLines();
+        assertThat(backend.rawOutput()).contains("from another thread");
+
+        viewport.println("queued");
+        backend.reset();
+        viewport.draw(frame -> frame.buffer().setString(0, 0, "Status", Style.EMPTY));
+        assertThat(backend.rawOutput()).contains("queued");
+    }
 }
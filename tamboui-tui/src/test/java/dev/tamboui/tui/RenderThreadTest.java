@@ -109,4 +109,37 @@ class RenderThreadTest {
         RenderThread.clearRenderThread();
         assertThat(RenderThread.isRenderThread()).isFalse();
     }
+
+    @Test
+    @DisplayName("Several threads can be render threads at the same time")
+    void multipleRenderThreads_canBeActive() throws Exception {
+        RenderThread.setRenderThread(Thread.currentThread());
+
+        AtomicBoolean otherIsRenderThread = new AtomicBoolean(false);
+        AtomicBoolean mainStillRenderThread = new AtomicBoolean(false);
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+
+        Thread otherThread = new Thread(() -> {
+            RenderThread.setRenderThread(Thread.currentThread());
+            otherIsRenderThread.set(RenderThread.isRenderThread());
+            registered.countDown();
+            try {
+                checked.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            RenderThread.clearRenderThread();
+        });
+        otherThread.start();
+        registered.await(1, TimeUnit.SECONDS);
+        mainStillRenderThread.set(RenderThread.isRenderThread());
+        checked.countDown();
+        otherThread.join(1000);
+
+        assertThat(otherIsRenderThread.get()).isTrue();
+        assertThat(mainStillRenderThread.get()).isTrue();
+        // Clearing on the other thread does not affect this one
+        assertThat(RenderThread.isRenderThread()).isTrue();
+    }
 }
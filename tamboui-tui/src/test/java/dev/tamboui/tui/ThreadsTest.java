@@ -0,0 +1,40 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ThreadsTest {
+
+    @Test
+    @DisplayName("newThread creates a named daemon platform thread when virtual threads are not requested")
+    void newThread_createsPlatformDaemonThread() {
+        Thread thread = Threads.newThread(() -> { }, "test-thread", false);
+
+        assertThat(thread.getName()).isEqualTo("test-thread");
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat(thread.isAlive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("newThread runs the task whether or not virtual threads are supported")
+    void newThread_runsTaskWithVirtualPreference() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread thread = Threads.newThread(latch::countDown, "virtual-test", true);
+
+        assertThat(thread.getName()).isEqualTo("virtual-test");
+        // Virtual threads are always daemon threads
+        assertThat(thread.isDaemon()).isTrue();
+
+        thread.start();
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.terminal.TestBackend;
+import dev.tamboui.tui.event.Event;
+import dev.tamboui.tui.event.TickEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TickCoalescingTest {
+
+    private static TuiConfig.Builder config() {
+        return TuiConfig.builder()
+                .backend(new TestBackend(20, 5))
+                .rawMode(false)
+                .alternateScreen(false)
+                .hideCursor(false)
+                .shutdownHook(false)
+                .tickRate(Duration.ofMillis(5));
+    }
+
+    @Test
+    @DisplayName("ticks queue up when coalescing is disabled")
+    void ticksQueueUpByDefault() throws Exception {
+        try (TuiRunner runner = TuiRunner.create(config().build())) {
+            Thread.sleep(100);
+
+            RunnerMetrics metrics = runner.metrics();
+            assertThat(metrics.ticksCoalesced()).isZero();
+            assertThat(metrics.pendingEvents()).isGreaterThan(1);
+
+            Event first = runner.pollEvent(Duration.ofSeconds(1));
+            assertThat(first).isInstanceOf(TickEvent.class);
+            assertThat(((TickEvent) first).frameCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("coalesced ticks are skipped but still counted as elapsed frames")
+    void coalescedTicksAreCountedAsFrames() throws Exception {
+        try (TuiRunner runner = TuiRunner.create(config().coalesceTicks(true).build())) {
+            Thread.sleep(100);
+
+            RunnerMetrics metrics = runner.metrics();
+            assertThat(metrics.ticksCoalesced()).isPositive();
+            assertThat(metrics.pendingEvents()).isEqualTo(1);
+
+            Event first = runner.pollEvent(Duration.ofSeconds(1));
+            assertThat(first).isInstanceOf(TickEvent.class);
+            assertThat(((TickEvent) first).frameCount()).isEqualTo(1);
+
+            Event next = runner.pollEvent(Duration.ofSeconds(1));
+            assertThat(next).isInstanceOf(TickEvent.class);
+            assertThat(((TickEvent) next).frameCount()).isGreaterThan(2);
+        }
+    }
+}
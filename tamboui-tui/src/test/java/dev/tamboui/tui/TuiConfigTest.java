@@ -188,4 +188,51 @@ class TuiConfigTest {
 
         assertThat(config.errorOutput()).isSameAs(System.err);
     }
+
+    @Test
+    @DisplayName("virtualThreads defaults to false and can be enabled")
+    void virtualThreadsCanBeEnabled() {
+        assertThat(TuiConfig.defaults().virtualThreads()).isFalse();
+        assertThat(TuiConfig.builder().build().virtualThreads()).isFalse();
+
+        TuiConfig config = TuiConfig.builder()
+                .virtualThreads(true)
+                .build();
+
+        assertThat(config.virtualThreads()).isTrue();
+    }
+
+    @Test
+    @DisplayName("coalesceTicks defaults to false and can be enabled")
+    void coalesceTicksCanBeEnabled() {
+        assertThat(TuiConfig.defaults().coalesceTicks()).isFalse();
+
+        TuiConfig config = TuiConfig.builder()
+                .coalesceTicks(true)
+                .build();
+
+        assertThat(config.coalesceTicks()).isTrue();
+        assertThat(config).isNotEqualTo(TuiConfig.builder().build());
+    }
+
+    @Test
+    @DisplayName("newThread creates an unstarted daemon thread when virtual threads are disabled")
+    void newThreadCreatesPlatformThread() {
+        Thread thread = TuiConfig.builder().build().newThread(() -> { }, "worker");
+
+        assertThat(thread.getName()).isEqualTo("worker");
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat(thread.getState()).isEqualTo(Thread.State.NEW);
+    }
+
+    @Test
+    @DisplayName("sharedScheduler uses the same scheduler for every config")
+    void sharedSchedulerIsSharedAcrossConfigs() {
+        TuiConfig first = TuiConfig.builder().sharedScheduler().build();
+        TuiConfig second = TuiConfig.builder().sharedScheduler().build();
+
+        assertThat(first.scheduler()).isNotNull();
+        assertThat(first.scheduler()).isSameAs(second.scheduler());
+        assertThat(Schedulers.resolve(first.scheduler()).owned()).isFalse();
+    }
 }
@@ -10,6 +10,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import dev.tamboui.annotations.bindings.OnAction;
 import dev.tamboui.tui.event.ActionEvent;
 import dev.tamboui.tui.event.Event;
 import dev.tamboui.tui.event.KeyCode;
@@ -250,4 +251,42 @@ class ActionHandlerTest {
         // fire works because it bypasses bindings
         assertThat(handler.fire("refresh", rEvent)).isTrue();
     }
+
+    @Test
+    void registerAnnotatedFallsBackToReflection() {
+        Saver saver = new Saver();
+        handler.registerAnnotated(saver);
+
+        assertThat(handler.fire("save", null)).isTrue();
+        assertThat(saver.saved).isEqualTo(1);
+        assertThat(ActionHandler.usesReflection(Saver.class)).isTrue();
+    }
+
+    @Test
+    void registerAnnotatedBindsEachTargetSeparately() {
+        Saver first = new Saver();
+        Saver second = new Saver();
+        ActionHandler otherHandler = new ActionHandler(bindings);
+
+        handler.registerAnnotated(first);
+        otherHandler.registerAnnotated(second);
+        handler.fire("save", null);
+
+        assertThat(first.saved).isEqualTo(1);
+        assertThat(second.saved).isEqualTo(0);
+    }
+
+    @Test
+    void usesReflectionIsFalseWithoutAnnotatedMethods() {
+        assertThat(ActionHandler.usesReflection(ActionHandlerTest.class)).isFalse();
+    }
+
+    static class Saver {
+        int saved;
+
+        @OnAction("save")
+        private void save(Event event) {
+            saved++;
+        }
+    }
 }
@@ -4,11 +4,14 @@
  */
 package dev.tamboui.tui.bindings;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import dev.tamboui.tui.event.Event;
 import dev.tamboui.tui.event.KeyCode;
 import dev.tamboui.tui.event.KeyEvent;
 import dev.tamboui.tui.event.KeyModifiers;
@@ -545,4 +548,111 @@ class BindingsTest {
 
         assertThat(trigger.matches(mouseEvent)).isFalse();
     }
+
+    // ========== Lookup Table Tests ==========
+
+    @Test
+    @DisplayName("actionFor agrees with a scan of all triggers")
+    void actionForAgreesWithLinearScan() {
+        List<Bindings> sets = new ArrayList<>();
+        sets.add(BindingSets.standard());
+        sets.add(BindingSets.vim());
+        sets.add(BindingSets.emacs());
+        sets.add(BindingSets.intellij());
+        sets.add(BindingSets.vscode());
+
+        List<Event> events = new ArrayList<>();
+        KeyModifiers[] modifiers = {KeyModifiers.NONE, KeyModifiers.CTRL, KeyModifiers.ALT, KeyModifiers.SHIFT};
+        for (KeyModifiers mods : modifiers) {
+            for (KeyCode code : KeyCode.values()) {
+                if (code != KeyCode.CHAR) {
+                    events.add(KeyEvent.ofKey(code, mods));
+                }
+            }
+            for (char c = ' '; c < 127; c++) {
+                events.add(KeyEvent.ofChar(c, mods));
+            }
+            for (MouseEventKind kind : MouseEventKind.values()) {
+                for (MouseButton button : MouseButton.values()) {
+                    events.add(new MouseEvent(kind, button, 0, 0, mods));
+                }
+            }
+        }
+
+        for (Bindings bindings : sets) {
+            DefaultBindings defaults = (DefaultBindings) bindings;
+            for (Event event : events) {
+                assertThat(bindings.actionFor(event)).isEqualTo(scanActionFor(defaults, event));
+                for (String action : defaults.actions()) {
+                    boolean expected = defaults.triggersFor(action).stream().anyMatch(t -> t.matches(event));
+                    assertThat(bindings.matches(event, action)).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Shift-agnostic and case-insensitive triggers are found")
+    void lookupHonorsShiftAndCaseRules() {
+        Bindings bindings = DefaultBindings.builder()
+            .bind(KeyTrigger.chIgnoreCase('x'), "cut")
+            .bind(KeyTrigger.ch('y'), "copy")
+            .bind(KeyTrigger.key(KeyCode.ENTER), "submit")
+            .build();
+
+        assertThat(bindings.actionFor(KeyEvent.ofChar('X'))).hasValue("cut");
+        assertThat(bindings.actionFor(KeyEvent.ofChar('Y'))).isEmpty();
+        assertThat(bindings.actionFor(KeyEvent.ofKey(KeyCode.ENTER, KeyModifiers.SHIFT))).hasValue("submit");
+        assertThat(bindings.actionFor(KeyEvent.ofKey(KeyCode.ENTER, KeyModifiers.CTRL))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Mouse triggers without a button match any button")
+    void mouseTriggerWithoutButtonMatchesAnyButton() {
+        Bindings bindings = DefaultBindings.builder()
+            .bind(MouseTrigger.of(MouseEventKind.PRESS, MouseButton.NONE, false, false, false), "anyPress")
+            .bind(MouseTrigger.rightClick(), "menu")
+            .build();
+
+        MouseEvent right = MouseEvent.press(MouseButton.RIGHT, 1, 1, bindings);
+        MouseEvent left = MouseEvent.press(MouseButton.LEFT, 1, 1, bindings);
+
+        assertThat(right.matches("anyPress")).isTrue();
+        assertThat(right.matches("menu")).isTrue();
+        assertThat(left.matches("anyPress")).isTrue();
+        assertThat(left.matches("menu")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Custom trigger implementations are still consulted")
+    void customTriggersAreConsulted() {
+        InputTrigger anyDigit = new InputTrigger() {
+            @Override
+            public boolean matches(Event event) {
+                return event instanceof KeyEvent && Character.isDigit(((KeyEvent) event).character());
+            }
+
+            @Override
+            public String describe() {
+                return "Digit";
+            }
+        };
+        Bindings bindings = DefaultBindings.builder()
+            .bind(anyDigit, "digit")
+            .build();
+
+        assertThat(bindings.actionFor(KeyEvent.ofChar('7'))).hasValue("digit");
+        assertThat(bindings.actionFor(KeyEvent.ofChar('a'))).isEmpty();
+    }
+
+    private static Optional<String> scanActionFor(DefaultBindings bindings, Event event) {
+        for (String action : bindings.actions()) {
+            for (InputTrigger trigger : bindings.triggersFor(action)) {
+                if (trigger.matches(event)) {
+                    return Optional.of(action);
+                }
+            }
+        }
+        return Optional.empty();
+    }
 }